@@ -14,13 +14,21 @@
 
 package org.openmrs.module.eptsreports;
 
+import java.util.Date;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.openmrs.api.context.Context;
 import org.openmrs.module.BaseModuleActivator;
 import org.openmrs.module.eptsreports.api.EptsGlobalPropertyService;
 import org.openmrs.module.eptsreports.metadata.ConfigurableMetadataLookupException;
+import org.openmrs.module.eptsreports.metadata.MetadataRegistry;
 import org.openmrs.module.eptsreports.reporting.EptsReportInitializer;
+import org.openmrs.module.eptsreports.reporting.cache.RebuildPatientSummaryTask;
+import org.openmrs.module.eptsreports.reporting.cache.RefreshPatientSummaryTask;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancellation;
+import org.openmrs.scheduler.SchedulerService;
+import org.openmrs.scheduler.Task;
+import org.openmrs.scheduler.TaskDefinition;
 
 /**
  * This class contains the logic that is run every time this module is either started or shutdown
@@ -49,6 +57,7 @@ public class EptsReportsActivator extends BaseModuleActivator {
   @Override
   public void willStop() {
     log.debug("Stopping EPTS Reports Module");
+    MetadataRegistry.getInstance().stop();
     try {
       reportsInitializer.purgeReports();
       EptsGlobalPropertyService eptsGlobalPropertyService =
@@ -63,7 +72,19 @@ public class EptsReportsActivator extends BaseModuleActivator {
   /** @see #started() */
   public void started() {
     try {
+      MetadataRegistry.getInstance().start();
+      MetadataRegistry.getInstance().preload();
       reportsInitializer.initializeReports();
+      registerTask(
+          "EPTS Reports - Refresh patient summary",
+          RefreshPatientSummaryTask.class,
+          "Rewrites the epts_patient_summary rows of the patients changed since the last refresh",
+          15 * 60);
+      registerTask(
+          "EPTS Reports - Rebuild patient summary",
+          RebuildPatientSummaryTask.class,
+          "Rewrites the epts_patient_summary rows of every patient",
+          24 * 60 * 60);
       log.info("Started EPTS Reports Module");
     } catch (ConfigurableMetadataLookupException e) {
       Context.getAlertService()
@@ -75,8 +96,26 @@ public class EptsReportsActivator extends BaseModuleActivator {
     }
   }
 
+  /** Saves a task, not started, so it can be scheduled from the Scheduler page */
+  private void registerTask(
+      String name, Class<? extends Task> taskClass, String description, long repeatInterval) {
+    SchedulerService schedulerService = Context.getSchedulerService();
+    if (schedulerService.getTaskByName(name) == null) {
+      TaskDefinition task = new TaskDefinition();
+      task.setName(name);
+      task.setDescription(description);
+      task.setTaskClass(taskClass.getName());
+      task.setRepeatInterval(repeatInterval);
+      task.setStartTime(new Date());
+      task.setStartOnStartup(false);
+      schedulerService.saveTaskDefinition(task);
+    }
+  }
+
   /** @see #stopped() */
   public void stopped() {
+    MetadataRegistry.getInstance().stop();
+    EvaluationCancellation.shutdown();
     log.info("Stopped EPTS Reports Module");
   }
 }
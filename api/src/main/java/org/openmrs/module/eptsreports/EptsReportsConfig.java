@@ -21,4 +21,40 @@ import org.springframework.stereotype.Component;
 public class EptsReportsConfig {
 
   public static final String MODULE_PRIVILEGE = "EPTS Reports Privilege";
+
+  /** Number of data sets of a parallel report evaluated at the same time */
+  public static final String GP_DATASET_EVALUATION_THREADS = "eptsreports.datasetEvaluationThreads";
+
+  /** Whether queries read the epts_patient_summary table */
+  public static final String GP_PATIENT_SUMMARY_ENABLED = "eptsreports.patientSummary.enabled";
+
+  /** Time of the last epts_patient_summary refresh */
+  public static final String GP_PATIENT_SUMMARY_WATERMARK = "eptsreports.patientSummary.watermark";
+
+  /** Whether the results of the parallel reports are cached until the data changes */
+  public static final String GP_REPORT_RESULT_CACHE_ENABLED =
+      "eptsreports.reportResultCache.enabled";
+
+  /** Number of locations of a location fan-out report evaluated at the same time */
+  public static final String GP_LOCATION_EVALUATION_THREADS =
+      "eptsreports.locationEvaluationThreads";
+
+  /** Whether the evaluations of the report runs are profiled */
+  public static final String GP_PROFILER_ENABLED = "eptsreports.profiler.enabled";
+
+  /** Maximum time in minutes of a report run, 0 for no limit */
+  public static final String GP_REPORT_TIMEOUT_MINUTES = "eptsreports.reportTimeoutMinutes";
+
+  /** Maximum time in seconds of a single query of a report run, 0 for no limit */
+  public static final String GP_QUERY_TIMEOUT_SECONDS = "eptsreports.queryTimeoutSeconds";
+
+  /** Maximum number of report runs in progress, the others wait in the report queue */
+  public static final String GP_REPORT_QUEUE_MAX_RUNS = "eptsreports.reportQueue.maxRuns";
+
+  /** Maximum number of runs of heavy reports in progress */
+  public static final String GP_REPORT_QUEUE_MAX_HEAVY_RUNS =
+      "eptsreports.reportQueue.maxHeavyRuns";
+
+  /** Comma separated uuids of the report definitions of the heavy reports */
+  public static final String GP_REPORT_QUEUE_HEAVY_REPORTS = "eptsreports.reportQueue.heavyReports";
 }
@@ -14,6 +14,11 @@
 
 package org.openmrs.module.eptsreports.api;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.openmrs.OpenmrsObject;
 import org.openmrs.api.OpenmrsService;
 
 /**
@@ -23,4 +28,94 @@ import org.openmrs.api.OpenmrsService;
 public interface EptsReportsService extends OpenmrsService {
 
   void purgeReportDesignIfExists(String uuid);
+
+  /**
+   * @param query a query returning the patient_id column
+   * @param parameters the values of the named parameters used in the query
+   * @return the distinct patient ids returned by the query
+   */
+  List<Integer> getPatientIds(String query, Map<String, Object> parameters);
+
+  /**
+   * Writes the patient ids returned by the query into a new table indexed on the patient id, in a
+   * transaction of its own, so the table can be read from any connection once this returns
+   *
+   * @param table the table name
+   * @param query a query returning the patient_id column
+   * @param parameters the values of the named parameters used in the query, ids for metadata
+   * @return the number of patients written
+   */
+  int materializePatientIds(String table, String query, Map<String, Object> parameters);
+
+  /**
+   * Drops a table written by {@link #materializePatientIds(String, String, Map)}
+   *
+   * @param table the table name
+   */
+  void dropMaterializedTable(String table);
+
+  /**
+   * Evaluates the epts_patient_summary rows of every patient, once per location with encounters
+   *
+   * @param summaryQuery a query returning the patient id and ART start date of the patients at the
+   *     {@code location} parameter
+   * @param parameters the values of the other named parameters used in the query
+   * @return the patient id, location id and ART start date of each row
+   */
+  List<Object[]> getPatientSummaries(String summaryQuery, Map<String, Object> parameters);
+
+  /**
+   * Replaces the epts_patient_summary rows of some patients, in one transaction
+   *
+   * @param patientIds the patients whose rows are deleted
+   * @param rows the new rows of these patients, patient id, location id and ART start date
+   * @return the number of rows written
+   */
+  int writePatientSummaries(Collection<Integer> patientIds, List<Object[]> rows);
+
+  /**
+   * @return the highest ids of the obs, encounter, person, person name, person attribute, patient
+   *     identifier, patient program and patient state tables, separated by colons
+   */
+  String getDataWatermark();
+
+  /**
+   * @return the id of the database connection of the current session, read on that connection, -1
+   *     if it is unknown
+   */
+  long getConnectionId();
+
+  /**
+   * Kills the statement running on a database connection, from a connection of its own
+   *
+   * @param connectionId the id of the connection
+   */
+  void killQuery(long connectionId);
+
+  /**
+   * Keeps the time of a completed report run, along with the times of the last runs of the same
+   * report only
+   *
+   * @param reportDefinitionUuid the uuid of the report definition
+   * @param startDate when the run started
+   * @param durationMillis how long the run took
+   * @param lastRuns the number of runs of the report to keep
+   */
+  void saveReportRun(
+      String reportDefinitionUuid, Date startDate, long durationMillis, int lastRuns);
+
+  /**
+   * @param lastRuns the maximum number of runs per report
+   * @return the times of the last completed runs of each report definition uuid, latest first
+   */
+  Map<String, List<Long>> getReportRunDurations(int lastRuns);
+
+  /**
+   * Loads an object again in the session of the current thread, so it can be used by the thread
+   * whichever session loaded the given object
+   *
+   * @param object the object
+   * @return the object with the same type and id loaded in the current session
+   */
+  <T extends OpenmrsObject> T reload(T object);
 }
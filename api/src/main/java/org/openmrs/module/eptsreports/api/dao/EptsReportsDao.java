@@ -14,8 +14,21 @@
 
 package org.openmrs.module.eptsreports.api.dao;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import org.hibernate.Hibernate;
+import org.hibernate.SQLQuery;
+import org.hibernate.Session;
 import org.hibernate.Transaction;
+import org.hibernate.jdbc.Work;
+import org.openmrs.OpenmrsObject;
 import org.openmrs.api.db.hibernate.DbSession;
 import org.openmrs.api.db.hibernate.DbSessionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -62,4 +75,280 @@ public class EptsReportsDao {
         .executeUpdate();
     transaction.commit();
   }
+
+  /**
+   * @param query a query returning the patient ids in its first column, named patient_id
+   * @param parameters the values of the named parameters used in the query, ids for metadata
+   * @return the distinct patient ids returned by the query
+   */
+  @SuppressWarnings("unchecked")
+  public List<Integer> getPatientIds(String query, Map<String, Object> parameters) {
+    SQLQuery select =
+        sessionFactory
+            .getCurrentSession()
+            .createSQLQuery(
+                "SELECT DISTINCT q.patient_id FROM ("
+                    + query
+                    + ") q WHERE q.patient_id IS NOT NULL");
+    bind(select, parameters);
+    List<Number> list = select.list();
+    List<Integer> patientIds = new ArrayList<>(list.size());
+    for (Number patientId : list) {
+      patientIds.add(patientId.intValue());
+    }
+    return patientIds;
+  }
+
+  /**
+   * Creates a MEMORY table holding the distinct patient ids returned by the query, with the patient
+   * id as primary key. A MEMORY table is not transactional: its rows are seen by every connection
+   * as soon as they are written, also by transactions that started before the table was created,
+   * which would fail to read a new InnoDB table.
+   *
+   * @param table the table name
+   * @param query a query returning the patient ids in its first column, named patient_id
+   * @param parameters the values of the named parameters used in the query, ids for metadata
+   * @return the number of rows written
+   */
+  public int createPatientIdTable(String table, String query, Map<String, Object> parameters) {
+    final DbSession session = sessionFactory.getCurrentSession();
+    session
+        .createSQLQuery(
+            "CREATE TABLE "
+                + table
+                + " (patient_id INT NOT NULL, PRIMARY KEY (patient_id)) ENGINE=MEMORY")
+        .executeUpdate();
+    SQLQuery insert =
+        session.createSQLQuery(
+            "INSERT INTO "
+                + table
+                + " (patient_id) SELECT DISTINCT q.patient_id FROM ("
+                + query
+                + ") q WHERE q.patient_id IS NOT NULL");
+    bind(insert, parameters);
+    return insert.executeUpdate();
+  }
+
+  /** @param table the name of the table to drop, if it exists */
+  public void dropTable(String table) {
+    sessionFactory
+        .getCurrentSession()
+        .createSQLQuery("DROP TABLE IF EXISTS " + table)
+        .executeUpdate();
+  }
+
+  /**
+   * @param query a query returning the patient id and the ART start date
+   * @param parameters the values of the named parameters used in the query, ids for metadata
+   * @return the rows returned by the query
+   */
+  @SuppressWarnings("unchecked")
+  public List<Object[]> getPatientSummaries(String query, Map<String, Object> parameters) {
+    SQLQuery select = sessionFactory.getCurrentSession().createSQLQuery(query);
+    bind(select, parameters);
+    return select.list();
+  }
+
+  /** @return the ids of the locations with non voided encounters */
+  @SuppressWarnings("unchecked")
+  public List<Integer> getEncounterLocationIds() {
+    List<Number> list =
+        sessionFactory
+            .getCurrentSession()
+            .createSQLQuery(
+                "SELECT DISTINCT e.location_id FROM encounter e "
+                    + "WHERE e.voided = 0 AND e.location_id IS NOT NULL")
+            .list();
+    List<Integer> locationIds = new ArrayList<>(list.size());
+    for (Number locationId : list) {
+      locationIds.add(locationId.intValue());
+    }
+    return locationIds;
+  }
+
+  /**
+   * Deletes the epts_patient_summary rows of some patients
+   *
+   * @param patientIds the patient ids
+   * @return the number of rows deleted
+   */
+  public int deletePatientSummaries(Collection<Integer> patientIds) {
+    return sessionFactory
+        .getCurrentSession()
+        .createSQLQuery("DELETE FROM epts_patient_summary WHERE patient_id IN (:patientIds)")
+        .setParameterList("patientIds", patientIds)
+        .executeUpdate();
+  }
+
+  /**
+   * Inserts rows into epts_patient_summary with a single statement
+   *
+   * @param rows the patient id, location id and ART start date of each row
+   * @return the number of rows written
+   */
+  public int insertPatientSummaries(List<Object[]> rows) {
+    StringBuilder sql =
+        new StringBuilder(
+            "INSERT INTO epts_patient_summary (patient_id, location_id, art_start_date, "
+                + "date_updated) VALUES ");
+    for (int i = 0; i < rows.size(); i++) {
+      sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, NOW())");
+    }
+    SQLQuery insert = sessionFactory.getCurrentSession().createSQLQuery(sql.toString());
+    for (int i = 0; i < rows.size(); i++) {
+      Object[] row = rows.get(i);
+      insert.setInteger(i * 3, (Integer) row[0]);
+      insert.setInteger(i * 3 + 1, (Integer) row[1]);
+      insert.setTimestamp(i * 3 + 2, (Date) row[2]);
+    }
+    return insert.executeUpdate();
+  }
+
+  /**
+   * Reads the highest primary key of the patient data tables. The keys are indexed, so each maximum
+   * is a single index lookup, and rows inserted by any means, the API or plain SQL, raise them.
+   *
+   * @return the highest ids, separated by colons
+   */
+  public String getDataWatermark() {
+    String[][] tables = {
+      {"obs", "obs_id"},
+      {"encounter", "encounter_id"},
+      {"person", "person_id"},
+      {"person_name", "person_name_id"},
+      {"person_attribute", "person_attribute_id"},
+      {"patient_identifier", "patient_identifier_id"},
+      {"patient_program", "patient_program_id"},
+      {"patient_state", "patient_state_id"}
+    };
+    StringBuilder query = new StringBuilder("SELECT ");
+    for (int i = 0; i < tables.length; i++) {
+      query.append(i == 0 ? "" : ", ").append("(SELECT MAX(").append(tables[i][1]);
+      query.append(") FROM ").append(tables[i][0]).append(")");
+    }
+    Object[] ids =
+        (Object[])
+            sessionFactory.getCurrentSession().createSQLQuery(query.toString()).uniqueResult();
+    StringBuilder watermark = new StringBuilder();
+    for (int i = 0; i < ids.length; i++) {
+      watermark.append(i == 0 ? "" : ":").append(ids[i]);
+    }
+    return watermark.toString();
+  }
+
+  /**
+   * Reads the id of the database connection of the current session on that very connection, the
+   * connection held by the transaction of the current thread
+   *
+   * @return the connection id, -1 if it is unknown
+   */
+  public long getConnectionId() {
+    final long[] id = {-1};
+    sessionFactory
+        .getCurrentSession()
+        .doWork(
+            new Work() {
+              @Override
+              public void execute(Connection connection) throws SQLException {
+                try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery("SELECT CONNECTION_ID()")) {
+                  if (resultSet.next()) {
+                    id[0] = resultSet.getLong(1);
+                  }
+                }
+              }
+            });
+    return id[0];
+  }
+
+  /**
+   * Kills the statement running on a database connection. The KILL is sent from a session of its
+   * own, as the connection to kill is busy running the statement.
+   *
+   * @param connectionId the id of the connection
+   */
+  public void killQuery(long connectionId) {
+    Session session = sessionFactory.getHibernateSessionFactory().openSession();
+    try {
+      session.createSQLQuery("KILL QUERY " + connectionId).executeUpdate();
+    } finally {
+      session.close();
+    }
+  }
+
+  /**
+   * Inserts a row into epts_report_run
+   *
+   * @param reportDefinitionUuid the uuid of the report definition
+   * @param startDate when the run started
+   * @param durationMillis how long the run took
+   */
+  public void insertReportRun(String reportDefinitionUuid, Date startDate, long durationMillis) {
+    sessionFactory
+        .getCurrentSession()
+        .createSQLQuery(
+            "INSERT INTO epts_report_run (report_definition_uuid, start_datetime, duration_ms) "
+                + "VALUES (:uuid, :startDate, :duration)")
+        .setParameter("uuid", reportDefinitionUuid)
+        .setParameter("startDate", startDate)
+        .setParameter("duration", durationMillis)
+        .executeUpdate();
+  }
+
+  /**
+   * Deletes the rows of epts_report_run of a report but the latest ones, and the rows of more than
+   * a year ago of any report
+   *
+   * @param reportDefinitionUuid the uuid of the report definition
+   * @param lastRuns the number of rows of the report to keep
+   */
+  public void deleteReportRuns(String reportDefinitionUuid, int lastRuns) {
+    sessionFactory
+        .getCurrentSession()
+        .createSQLQuery(
+            "DELETE FROM epts_report_run "
+                + "WHERE start_datetime < DATE_SUB(NOW(), INTERVAL 1 YEAR) "
+                + "OR (report_definition_uuid = :uuid AND report_run_id NOT IN ("
+                + "SELECT kept.report_run_id FROM (SELECT r.report_run_id FROM epts_report_run r "
+                + "WHERE r.report_definition_uuid = :uuid "
+                + "ORDER BY r.start_datetime DESC, r.report_run_id DESC LIMIT :lastRuns) kept))")
+        .setParameter("uuid", reportDefinitionUuid)
+        .setParameter("lastRuns", lastRuns)
+        .executeUpdate();
+  }
+
+  /**
+   * @return the report definition uuid and duration of the runs of epts_report_run of the last
+   *     year, latest first
+   */
+  @SuppressWarnings("unchecked")
+  public List<Object[]> getReportRuns() {
+    return sessionFactory
+        .getCurrentSession()
+        .createSQLQuery(
+            "SELECT r.report_definition_uuid, r.duration_ms FROM epts_report_run r "
+                + "WHERE r.start_datetime >= DATE_SUB(NOW(), INTERVAL 1 YEAR) "
+                + "ORDER BY r.start_datetime DESC")
+        .list();
+  }
+
+  /**
+   * @param object an object loaded in any session
+   * @return the object with the same type and id loaded in the current session
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends OpenmrsObject> T getObject(T object) {
+    return (T) sessionFactory.getCurrentSession().get(Hibernate.getClass(object), object.getId());
+  }
+
+  private static void bind(SQLQuery query, Map<String, Object> parameters) {
+    for (String name : query.getNamedParameters()) {
+      Object value = parameters.get(name);
+      if (value instanceof Collection) {
+        query.setParameterList(name, (Collection<?>) value);
+      } else {
+        query.setParameter(name, value);
+      }
+    }
+  }
 }
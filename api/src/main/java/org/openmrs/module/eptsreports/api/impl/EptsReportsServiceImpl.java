@@ -14,9 +14,18 @@
 
 package org.openmrs.module.eptsreports.api.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openmrs.OpenmrsObject;
 import org.openmrs.api.impl.BaseOpenmrsService;
 import org.openmrs.module.eptsreports.api.EptsReportsService;
 import org.openmrs.module.eptsreports.api.dao.EptsReportsDao;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 public class EptsReportsServiceImpl extends BaseOpenmrsService implements EptsReportsService {
 
@@ -32,4 +41,90 @@ public class EptsReportsServiceImpl extends BaseOpenmrsService implements EptsRe
     String serializedObjectUuid = dao.getSerializedObjectByReportDesignUUID(uuid);
     dao.purgeReportDesign(uuid, serializedObjectUuid);
   }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Integer> getPatientIds(String query, Map<String, Object> parameters) {
+    return dao.getPatientIds(query, parameters);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public int materializePatientIds(String table, String query, Map<String, Object> parameters) {
+    return dao.createPatientIdTable(table, query, parameters);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void dropMaterializedTable(String table) {
+    dao.dropTable(table);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Object[]> getPatientSummaries(String summaryQuery, Map<String, Object> parameters) {
+    List<Object[]> rows = new ArrayList<>();
+    for (Integer locationId : dao.getEncounterLocationIds()) {
+      Map<String, Object> locationParameters = new HashMap<>(parameters);
+      locationParameters.put("location", locationId);
+      for (Object[] row : dao.getPatientSummaries(summaryQuery, locationParameters)) {
+        rows.add(new Object[] {((Number) row[0]).intValue(), locationId, row[1]});
+      }
+    }
+    return rows;
+  }
+
+  @Override
+  @Transactional
+  public int writePatientSummaries(Collection<Integer> patientIds, List<Object[]> rows) {
+    if (patientIds.isEmpty()) {
+      return 0;
+    }
+    dao.deletePatientSummaries(patientIds);
+    return rows.isEmpty() ? 0 : dao.insertPatientSummaries(rows);
+  }
+
+  @Override
+  public String getDataWatermark() {
+    return dao.getDataWatermark();
+  }
+
+  @Override
+  public long getConnectionId() {
+    return dao.getConnectionId();
+  }
+
+  @Override
+  public void killQuery(long connectionId) {
+    dao.killQuery(connectionId);
+  }
+
+  @Override
+  @Transactional
+  public void saveReportRun(
+      String reportDefinitionUuid, Date startDate, long durationMillis, int lastRuns) {
+    dao.insertReportRun(reportDefinitionUuid, startDate, durationMillis);
+    dao.deleteReportRuns(reportDefinitionUuid, lastRuns);
+  }
+
+  @Override
+  public Map<String, List<Long>> getReportRunDurations(int lastRuns) {
+    Map<String, List<Long>> durations = new HashMap<>();
+    for (Object[] row : dao.getReportRuns()) {
+      List<Long> last = durations.get((String) row[0]);
+      if (last == null) {
+        last = new ArrayList<>();
+        durations.put((String) row[0], last);
+      }
+      if (last.size() < lastRuns) {
+        last.add(((Number) row[1]).longValue());
+      }
+    }
+    return durations;
+  }
+
+  @Override
+  public <T extends OpenmrsObject> T reload(T object) {
+    return dao.getObject(object);
+  }
 }
@@ -15,7 +15,6 @@ package org.openmrs.module.eptsreports.metadata;
 
 import org.openmrs.Concept;
 import org.openmrs.PersonAttributeType;
-import org.openmrs.api.context.Context;
 import org.springframework.stereotype.Component;
 
 @Component("commonMetadata")
@@ -34,7 +33,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getNegative() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.NegativeUuid");
+    String uuid = getGlobalProperty("eptsreports.NegativeUuid");
     return getConcept(uuid);
   }
 
@@ -48,7 +47,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getPositive() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.positiveUuid");
+    String uuid = getGlobalProperty("eptsreports.positiveUuid");
     return getConcept(uuid);
   }
 
@@ -62,11 +61,15 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getYesConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.yesConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.yesConceptUuid");
     return getConcept(uuid);
   }
 
+  /** @return the id of {@link #getYesConcept()}, without loading the concept */
+  public int getYesConceptId() {
+    return getConceptId(getGlobalProperty("eptsreports.yesConceptUuid"));
+  }
+
   /**
    * <b>concept_id = 1066</b>
    *
@@ -77,7 +80,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getNoConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.noConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.noConceptUuid");
     return getConcept(uuid);
   }
 
@@ -92,8 +95,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getStartDrugsConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.startDrugsConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.startDrugsConceptUuid");
     return getConcept(uuid);
   }
 
@@ -107,9 +109,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getTransferFromOtherFacilityConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty(gpTransferFromOtherFacilityConceptUuid);
+    String uuid = getGlobalProperty(gpTransferFromOtherFacilityConceptUuid);
     return getConcept(uuid);
   }
 
@@ -123,9 +123,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getTransferOutToAnotherFacilityConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.transferOutToAnotherFacilityConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.transferOutToAnotherFacilityConceptUuid");
     return getConcept(uuid);
   }
 
@@ -139,9 +137,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getHistoricalDrugStartDateConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.historicalStartDateConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.historicalStartDateConceptUuid");
     return getConcept(uuid);
   }
 
@@ -155,8 +151,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getPregnantConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.pregnantConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.pregnantConceptUuid");
     return getConcept(uuid);
   }
 
@@ -170,9 +165,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getNumberOfWeeksPregnant() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.numberOfWeeksPregnantConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.numberOfWeeksPregnantConceptUuid");
     return getConcept(uuid);
   }
 
@@ -186,9 +179,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getPregnancyDueDate() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.pregnancyDueDateConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.pregnancyDueDateConceptUuid");
     return getConcept(uuid);
   }
 
@@ -203,9 +194,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getBreastfeeding() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.breastfeedingConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.breastfeedingConceptUuid");
     return getConcept(uuid);
   }
 
@@ -219,9 +208,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getReturnVisitDateConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.returnVisitDateConceptConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.returnVisitDateConceptConceptUuid");
     return getConcept(uuid);
   }
 
@@ -235,9 +222,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getPriorDeliveryDateConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.priorDeliveryDateConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.priorDeliveryDateConceptUuid");
     return getConcept(uuid);
   }
 
@@ -251,8 +236,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getScreeningForSTIConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.screeningForSTIIuid");
+    String uuid = getGlobalProperty("eptsreports.screeningForSTIIuid");
     return getConcept(uuid);
   }
 
@@ -266,9 +250,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getStage4PediatricMozambiqueConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.stage4PediatricMozambiqueUuid");
+    String uuid = getGlobalProperty("eptsreports.stage4PediatricMozambiqueUuid");
     return getConcept(uuid);
   }
 
@@ -282,9 +264,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getAdultClinicalHistoryConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.adultClinicalHistoryUuid");
+    String uuid = getGlobalProperty("eptsreports.adultClinicalHistoryUuid");
     return getConcept(uuid);
   }
 
@@ -298,8 +278,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getSkimExamFindingsConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.skimExamFindingsUuid");
+    String uuid = getGlobalProperty("eptsreports.skimExamFindingsUuid");
     return getConcept(uuid);
   }
 
@@ -313,9 +292,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getExtremityExamFindingsConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.extremityExamFindingsUuid");
+    String uuid = getGlobalProperty("eptsreports.extremityExamFindingsUuid");
     return getConcept(uuid);
   }
 
@@ -329,9 +306,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getStateAdultMozambiqueConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.stateAdultMozambiqueUuid");
+    String uuid = getGlobalProperty("eptsreports.stateAdultMozambiqueUuid");
     return getConcept(uuid);
   }
 
@@ -345,8 +320,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getKaposiSarcomaConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.kaposiSarcomaUuid");
+    String uuid = getGlobalProperty("eptsreports.kaposiSarcomaUuid");
     return getConcept(uuid);
   }
 
@@ -360,9 +334,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getClassificationOfMalnutritionConcept() {
-    return getConcept(
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.classificationOfMalnutritionConceptUuid"));
+    return getConcept(getGlobalProperty("eptsreports.classificationOfMalnutritionConceptUuid"));
   }
 
   /**
@@ -375,9 +347,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getMalnutritionLightConcept() {
-    return getConcept(
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.malnutritionLightConceptUuid"));
+    return getConcept(getGlobalProperty("eptsreports.malnutritionLightConceptUuid"));
   }
 
   /**
@@ -391,9 +361,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getMalnutritionConcept() {
-    return getConcept(
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.malnutritionConceptUuid"));
+    return getConcept(getGlobalProperty("eptsreports.malnutritionConceptUuid"));
   }
 
   /**
@@ -406,9 +374,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getChronicMalnutritionConcept() {
-    return getConcept(
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.chronicMalnutritionConceptUuid"));
+    return getConcept(getGlobalProperty("eptsreports.chronicMalnutritionConceptUuid"));
   }
 
   /**
@@ -421,8 +387,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getStiScreeningConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.stiScreeningConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.stiScreeningConceptUuid");
     return getConcept(uuid);
   }
 
@@ -436,9 +401,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getCotrimoxazoleProphylaxisStartDateConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.cotrimoxazoleProphylaxisStartDateConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.cotrimoxazoleProphylaxisStartDateConceptUuid");
     return getConcept(uuid);
   }
 
@@ -452,9 +415,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getNutritionalSupplememtConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.nutritionalSupplememtConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.nutritionalSupplememtConceptUuid");
     return getConcept(uuid);
   }
 
@@ -468,9 +429,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getATPUSupplememtConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.ATPUSupplememtConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.ATPUSupplememtConceptUuid");
     return getConcept(uuid);
   }
 
@@ -484,9 +443,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getSojaSupplememtConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.sojaSupplememtConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.sojaSupplememtConceptUuid");
     return getConcept(uuid);
   }
 
@@ -500,9 +457,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getAlternativeLineConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.alternativeLineConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.alternativeLineConceptUuid");
     return getConcept(uuid);
   }
 
@@ -516,9 +471,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getAlternativeFirstLineConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.alternativeFirstLineConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.alternativeFirstLineConceptUuid");
     return getConcept(uuid);
   }
 
@@ -532,8 +485,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getRegimeChangeConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.regimeChangeConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.regimeChangeConceptUuid");
     return getConcept(uuid);
   }
 
@@ -547,9 +499,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getRegimenAlternativeToFirstLineConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.regimenAlternativeToFirstLineConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.regimenAlternativeToFirstLineConceptUuid");
     return getConcept(uuid);
   }
 
@@ -563,9 +513,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getIndeterminate() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.indeterminateConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.indeterminateConceptUuid");
     return getConcept(uuid);
   }
 
@@ -579,8 +527,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getSugestive() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.sugestiveConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.sugestiveConceptUuid");
     return getConcept(uuid);
   }
 
@@ -594,9 +541,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getSampleCollectionDateAndTime() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.sampleCollectionDateAndTimeUuid");
+    String uuid = getGlobalProperty("eptsreports.sampleCollectionDateAndTimeUuid");
     return getConcept(uuid);
   }
 
@@ -610,8 +555,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getNotFoundConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.notFoundConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.notFoundConceptUuid");
     return getConcept(uuid);
   }
 
@@ -627,8 +571,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getBodyMassIndexConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.bmiConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.bmiConceptUuid");
     return getConcept(uuid);
   }
 
@@ -642,9 +585,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getPositivityLevelConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.positivityLevelConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.positivityLevelConceptUuid");
     return getConcept(uuid);
   }
 
@@ -658,8 +599,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getFourPlusConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.fourPlusConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.fourPlusConceptUuid");
     return getConcept(uuid);
   }
 
@@ -673,8 +613,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getThreePlusConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.threePlusConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.threePlusConceptUuid");
     return getConcept(uuid);
   }
 
@@ -690,8 +629,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getMidUpperArmCircumferenceConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.muacConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.muacConceptUuid");
     return getConcept(uuid);
   }
 
@@ -705,8 +643,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getTwoPlusConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.twoPlusConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.twoPlusConceptUuid");
     return getConcept(uuid);
   }
 
@@ -720,8 +657,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getOnePlusConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.onePlusConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.onePlusConceptUuid");
     return getConcept(uuid);
   }
 
@@ -735,8 +671,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link PersonAttributeType}
    */
   public PersonAttributeType getOVCDataInscricaoPersonAttributeType() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.dataInscricaoOVCUuid");
+    String uuid = getGlobalProperty("eptsreports.dataInscricaoOVCUuid");
     return getPersonAttributeType(uuid);
   }
 
@@ -750,8 +685,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link PersonAttributeType}
    */
   public PersonAttributeType getOVCDataSaidaPersonAttributeType() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.dataSaidaOVCUuid");
+    String uuid = getGlobalProperty("eptsreports.dataSaidaOVCUuid");
     return getPersonAttributeType(uuid);
   }
 
@@ -765,9 +699,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link PersonAttributeType}
    */
   public PersonAttributeType getOVCEstadoBeneficiarioPersonAttributeType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.estadoDoBeneficiarioOVCUuid");
+    String uuid = getGlobalProperty("eptsreports.estadoDoBeneficiarioOVCUuid");
     return getPersonAttributeType(uuid);
   }
 
@@ -781,7 +713,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getOVCActivoConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.activoOVCUuid");
+    String uuid = getGlobalProperty("eptsreports.activoOVCUuid");
     return getConcept(uuid);
   }
 
@@ -795,8 +727,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getOVCGraduadoConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.graduadoOVCUuid");
+    String uuid = getGlobalProperty("eptsreports.graduadoOVCUuid");
     return getConcept(uuid);
   }
 
@@ -810,9 +741,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getOVCSaidaSemGraduacaoConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.saidaSemGraduacaoOVCUuid");
+    String uuid = getGlobalProperty("eptsreports.saidaSemGraduacaoOVCUuid");
     return getConcept(uuid);
   }
 
@@ -826,9 +755,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getMotivoConsultaCriancaRiscoConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.motivoConsultaCriancaRiscoConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.motivoConsultaCriancaRiscoConceptUuid");
     return getConcept(uuid);
   }
 
@@ -842,9 +769,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getPrematuridadeConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.prematuridadeConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.prematuridadeConceptUuid");
     return getConcept(uuid);
   }
 
@@ -858,9 +783,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getRecenNascidoMaeHivPositivoConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.recenNascidoMaeHivPositivoConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.recenNascidoMaeHivPositivoConceptUuid");
     return getConcept(uuid);
   }
 
@@ -874,9 +797,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getDesmameBruscoAleitamentoArtificalConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.desmameBruscoAleitamentoArtificalConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.desmameBruscoAleitamentoArtificalConceptUuid");
     return getConcept(uuid);
   }
 
@@ -890,8 +811,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getContactoTbConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.contactoTbConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.contactoTbConceptUuid");
     return getConcept(uuid);
   }
 
@@ -905,8 +825,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getTwinsConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.twinsConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.twinsConceptUuid");
     return getConcept(uuid);
   }
 
@@ -920,9 +839,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getFalenciaDeCrescimentoConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.falenciaDeCrescimentoConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.falenciaDeCrescimentoConceptUuid");
     return getConcept(uuid);
   }
 
@@ -936,9 +853,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getPesoInferior2dot5KgConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.pesoInferior2dot5KgConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.pesoInferior2dot5KgConceptUuid");
     return getConcept(uuid);
   }
 
@@ -952,9 +867,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getMigracaoRecenteFamiliaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.migracaoRecenteFamiliaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.migracaoRecenteFamiliaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -968,9 +881,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getCriancaMaeAusenteConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.criancaMaeAusenteConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.criancaMaeAusenteConceptUuid");
     return getConcept(uuid);
   }
 
@@ -984,8 +895,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getMothersNameConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.mothersNameConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.mothersNameConceptUuid");
     return getConcept(uuid);
   }
 
@@ -999,9 +909,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getAcceptsHomeVisitConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.acceptsHomeVisitConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.acceptsHomeVisitConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1015,9 +923,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getSampleEarlyInfantDiagnosisConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.sampleEarlyInfantDiagnosisConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.sampleEarlyInfantDiagnosisConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1031,9 +937,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getFirstSampleInLessThan9MonthsConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.firstSampleInLessThan9MonthsConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.firstSampleInLessThan9MonthsConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1047,9 +951,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getNextSampleInLessThan9MonthsConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.nextSampleInLessThan9MonthsConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.nextSampleInLessThan9MonthsConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1063,9 +965,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getFirstSampleBetween9To17MonthsConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.firstSampleBetween9To17MonthsConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.firstSampleBetween9To17MonthsConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1079,9 +979,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getFollowingtSampleBetween9To17MonthsConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.followingSampleBetween9To17MonthsConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.followingSampleBetween9To17MonthsConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1095,9 +993,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getMethodOfFamilyPlanningConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.methodOfFamilyPlanningUuid");
+    String uuid = getGlobalProperty("eptsreports.methodOfFamilyPlanningUuid");
     return getConcept(uuid);
   }
 
@@ -1111,8 +1007,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getCondomsConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.condomsConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.condomsConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1126,9 +1021,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getOralContraceptionConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.oralContraceptionConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.oralContraceptionConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1143,9 +1036,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getInjectibleContraceptiveConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.injectibleContraceptiveConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.injectibleContraceptiveConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1160,8 +1051,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getImplantConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.implantConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.implantConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1176,9 +1066,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getIntrauterineDeviceConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.intrauterineDeviceConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.intrauterineDeviceConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1192,9 +1080,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getFemaleSterilizationConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.femaleSterilizationConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.femaleSterilizationConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1208,8 +1094,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getVasectomyConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.vasectomyConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.vasectomyConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1223,9 +1108,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getOtherFamilyPlanningConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.otherFamilyPlanningConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.otherFamilyPlanningConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1240,9 +1123,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getSystolicBoodPressureConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.systolicBoodPressureConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.systolicBoodPressureConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1257,9 +1138,7 @@ public class CommonMetadata extends Metadata {
    * @return {@link Concept}
    */
   public Concept getDiastolicBoodPressureConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.diastolicBoodPressureConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.diastolicBoodPressureConceptUuid");
     return getConcept(uuid);
   }
 }
@@ -19,7 +19,6 @@ import org.openmrs.Program;
 import org.openmrs.ProgramWorkflow;
 import org.openmrs.ProgramWorkflowState;
 import org.openmrs.RelationshipType;
-import org.openmrs.api.context.Context;
 import org.springframework.stereotype.Component;
 
 @Component("hivMetadata")
@@ -40,8 +39,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getResultForBasiloscopia() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.basiloscopiaUuid");
+    String uuid = getGlobalProperty("eptsreports.basiloscopiaUuid");
     return getConcept(uuid);
   }
 
@@ -55,8 +53,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getRegArvSecondLine() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.regArvSecondLineUuid");
+    String uuid = getGlobalProperty("eptsreports.regArvSecondLineUuid");
     return getConcept(uuid);
   }
 
@@ -70,9 +67,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getJustificativeToChangeArvTreatment() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.justificativeToChangeArvTreatmentUuid");
+    String uuid = getGlobalProperty("eptsreports.justificativeToChangeArvTreatmentUuid");
     return getConcept(uuid);
   }
 
@@ -87,11 +82,15 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHivViralLoadConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.hivViralLoadConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.hivViralLoadConceptUuid");
     return getConcept(uuid);
   }
 
+  /** @return the id of {@link #getHivViralLoadConcept()}, without loading the concept */
+  public int getHivViralLoadConceptId() {
+    return getConceptId(getGlobalProperty("eptsreports.hivViralLoadConceptUuid"));
+  }
+
   /**
    * <b>concept_id = 6334</b>
    *
@@ -102,8 +101,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCriteriaForArtStart() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.criteriaForArtStartUuid");
+    String uuid = getGlobalProperty("eptsreports.criteriaForArtStartUuid");
     return getConcept(uuid);
   }
 
@@ -118,9 +116,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getReturnVisitDateForArvDrugConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.returnVisitDateForArvDrugConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.returnVisitDateForArvDrugConceptUuid");
     return getConcept(uuid);
   }
 
@@ -134,8 +130,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDateOfHivDiagnosisConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.dateOfHIVDiagnosis");
+    String uuid = getGlobalProperty("eptsreports.dateOfHIVDiagnosis");
     return getConcept(uuid);
   }
 
@@ -151,9 +146,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getARVStartDateConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.historicalStartDateConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.historicalStartDateConceptUuid");
     return getConcept(uuid);
   }
 
@@ -168,8 +161,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getARVPlanConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.arvPlanConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.arvPlanConceptUuid");
     return getConcept(uuid);
   }
 
@@ -186,7 +178,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getRegimeConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.regimeUuid");
+    String uuid = getGlobalProperty("eptsreports.regimeUuid");
     return getConcept(uuid);
   }
 
@@ -200,8 +192,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getRestartConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.restartConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.restartConceptUuid");
     return getConcept(uuid);
   }
 
@@ -215,8 +206,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAbandonedConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.abandonedConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.abandonedConceptUuid");
     return getConcept(uuid);
   }
 
@@ -230,9 +220,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAzt3tcAbcEfvConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.AZT_3TC_ABC_EFV_ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.AZT_3TC_ABC_EFV_ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -246,9 +234,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getD4t3tcAbcEfvConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.D4T_3TC_ABC_EFV_ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.D4T_3TC_ABC_EFV_ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -262,9 +248,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAzt3tcAbcLpvConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.AZT_3TC_ABC_LPV_ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.AZT_3TC_ABC_LPV_ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -278,9 +262,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getD4t3tcAbcLpvConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.D4T_3TC_ABC_LPV_ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.D4T_3TC_ABC_LPV_ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -294,8 +276,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAztDdiLpvConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.AZT_DDI_LPV_ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.AZT_DDI_LPV_ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -309,8 +290,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTdf3tcEfvConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.TDF_3TC_EFV_ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.TDF_3TC_EFV_ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -324,8 +304,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAzt3tcLpvConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.AZT_3TC_LPV_ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.AZT_3TC_LPV_ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -339,8 +318,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAbc3tcEfvConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.ABC_3TC_EFV_ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.ABC_3TC_EFV_ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -354,8 +332,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAbc3tcNvpConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.ABC_3TC_NVP_ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.ABC_3TC_NVP_ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -369,8 +346,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAbc3tcLpvConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.ABC_3TC_LPV_ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.ABC_3TC_LPV_ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -384,8 +360,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTdf3tcLpvConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.TDF_3TC_LPV_ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.TDF_3TC_LPV_ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -400,9 +375,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAcceptContactConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.acceptContactConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.acceptContactConceptUuid");
     return getConcept(uuid);
   }
 
@@ -417,7 +390,7 @@ public class HivMetadata extends ProgramsMetadata {
    */
   @Override
   public Concept getNoConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.noConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.noConceptUuid");
     return getConcept(uuid);
   }
 
@@ -431,9 +404,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDataInicioProfilaxiaIsoniazidaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.DataInicioProfilaxiaIsoniazidaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.DataInicioProfilaxiaIsoniazidaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -447,9 +418,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDataFinalizacaoProfilaxiaIsoniazidaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.DataFimProfilaxiaIsoniazidaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.DataFimProfilaxiaIsoniazidaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -463,8 +432,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getIsoniazidUsageConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.isoniazidUseConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.isoniazidUseConceptUuid");
     return getConcept(uuid);
   }
 
@@ -478,8 +446,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCD4AbsoluteOBSConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.cd4AbsoluteOBSUuid");
+    String uuid = getGlobalProperty("eptsreports.cd4AbsoluteOBSUuid");
     return getConcept(uuid);
   }
 
@@ -493,9 +460,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCoucelingActivityConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.coucelingActivityTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.coucelingActivityTypeUuid");
     return getConcept(uuid);
   }
 
@@ -509,8 +474,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getFirstLineConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.firstLineConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.firstLineConceptUuid");
     return getConcept(uuid);
   }
 
@@ -525,8 +489,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getcurrentWhoHivStageConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.currentWhoHivStageUuid");
+    String uuid = getGlobalProperty("eptsreports.currentWhoHivStageUuid");
     return getConcept(uuid);
   }
 
@@ -540,8 +503,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getWho2AdultStageConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.who2AdultStageUuid");
+    String uuid = getGlobalProperty("eptsreports.who2AdultStageUuid");
     return getConcept(uuid);
   }
 
@@ -555,8 +517,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getWho3AdultStageConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.who3AdultStageUuid");
+    String uuid = getGlobalProperty("eptsreports.who3AdultStageUuid");
     return getConcept(uuid);
   }
 
@@ -570,8 +531,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getWho4AdultStageConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.who4AdultStageUuid");
+    String uuid = getGlobalProperty("eptsreports.who4AdultStageUuid");
     return getConcept(uuid);
   }
 
@@ -585,9 +545,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientHasDiedConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.patientHasDiedConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.patientHasDiedConceptUuid");
     return getConcept(uuid);
   }
 
@@ -601,7 +559,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTypeOfVisitConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.typeOfVisit");
+    String uuid = getGlobalProperty("eptsreports.typeOfVisit");
     return getConcept(uuid);
   }
 
@@ -615,7 +573,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientFoundConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.patientFound");
+    String uuid = getGlobalProperty("eptsreports.patientFound");
     return getConcept(uuid);
   }
 
@@ -629,11 +587,15 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientFoundYesConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.yesConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.yesConceptUuid");
     return getConcept(uuid);
   }
 
+  /** @return the id of {@link #getPatientFoundYesConcept()}, without loading the concept */
+  public int getPatientFoundYesConceptId() {
+    return getConceptId(getGlobalProperty("eptsreports.yesConceptUuid"));
+  }
+
   /**
    * <b>concept_id = 2160</b>
    *
@@ -644,7 +606,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getBuscaConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.busca");
+    String uuid = getGlobalProperty("eptsreports.busca");
     return getConcept(uuid);
   }
 
@@ -659,7 +621,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getSecondAttemptConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.secondAttempt");
+    String uuid = getGlobalProperty("eptsreports.secondAttempt");
     return getConcept(uuid);
   }
 
@@ -674,7 +636,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getThirdAttemptConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.thirdAttempt");
+    String uuid = getGlobalProperty("eptsreports.thirdAttempt");
     return getConcept(uuid);
   }
 
@@ -688,8 +650,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDefaultingMotiveConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.defaultingMotive");
+    String uuid = getGlobalProperty("eptsreports.defaultingMotive");
     return getConcept(uuid);
   }
 
@@ -703,9 +664,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getReasonForStoppedTakingArvDrugsDuringLast7DaysConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.reasonForStoppedTakingArvDrugsDuringLast7Days");
+    String uuid = getGlobalProperty("eptsreports.reasonForStoppedTakingArvDrugsDuringLast7Days");
     return getConcept(uuid);
   }
 
@@ -719,9 +678,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getReasonForStoppedTakingArvDrugsDuringLastMonthConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.reasonForStoppedTakingArvDrugsDuringLastMonth");
+    String uuid = getGlobalProperty("eptsreports.reasonForStoppedTakingArvDrugsDuringLastMonth");
     return getConcept(uuid);
   }
 
@@ -735,9 +692,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getMainReasonForDelayInTakingArvConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.mainReasonForDelayInTakingArv");
+    String uuid = getGlobalProperty("eptsreports.mainReasonForDelayInTakingArv");
     return getConcept(uuid);
   }
 
@@ -751,9 +706,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientRecordHasWrongAddressConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.patientRecordHasWrongAddress");
+    String uuid = getGlobalProperty("eptsreports.patientRecordHasWrongAddress");
     return getConcept(uuid);
   }
 
@@ -767,8 +720,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientMovedHousesConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.patientMovedHouses");
+    String uuid = getGlobalProperty("eptsreports.patientMovedHouses");
     return getConcept(uuid);
   }
 
@@ -782,8 +734,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientTookATripConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.patientTookATrip");
+    String uuid = getGlobalProperty("eptsreports.patientTookATrip");
     return getConcept(uuid);
   }
 
@@ -797,9 +748,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getOtherReasonsWhyPatientWasNotLocatedByActivistConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.otherReasonsWhyPatientWasNotLocatedByActivist");
+    String uuid = getGlobalProperty("eptsreports.otherReasonsWhyPatientWasNotLocatedByActivist");
     return getConcept(uuid);
   }
 
@@ -813,8 +762,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getReportOfVisitSupportConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.reportOfVisitSupport");
+    String uuid = getGlobalProperty("eptsreports.reportOfVisitSupport");
     return getConcept(uuid);
   }
 
@@ -828,8 +776,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientHadDifficultyConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.patientHadDifficulty");
+    String uuid = getGlobalProperty("eptsreports.patientHadDifficulty");
     return getConcept(uuid);
   }
 
@@ -844,8 +791,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientFoundForwardedConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.patientFoundForwarded");
+    String uuid = getGlobalProperty("eptsreports.patientFoundForwarded");
     return getConcept(uuid);
   }
 
@@ -859,8 +805,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getWhoGaveInformationConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.whoGaveInformation");
+    String uuid = getGlobalProperty("eptsreports.whoGaveInformation");
     return getConcept(uuid);
   }
 
@@ -872,8 +817,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCardDeliveryDateConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.cardDeliveryDate");
+    String uuid = getGlobalProperty("eptsreports.cardDeliveryDate");
     return getConcept(uuid);
   }
 
@@ -887,9 +831,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getSuspendedTreatmentConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.suspendedTreatmentConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.suspendedTreatmentConceptUuid");
     return getConcept(uuid);
   }
 
@@ -903,8 +845,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getActiveOnProgramConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.activeOnProgramConcept");
+    String uuid = getGlobalProperty("eptsreports.activeOnProgramConcept");
     return getConcept(uuid);
   }
 
@@ -918,9 +859,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getUrogenitalExamFindingsConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.urogenitalExamFindingsConcept");
+    String uuid = getGlobalProperty("eptsreports.urogenitalExamFindingsConcept");
     return getConcept(uuid);
   }
 
@@ -934,7 +873,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getNormalConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.normalConcept");
+    String uuid = getGlobalProperty("eptsreports.normalConcept");
     return getConcept(uuid);
   }
 
@@ -948,8 +887,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAbnormalConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.abnormalConcept");
+    String uuid = getGlobalProperty("eptsreports.abnormalConcept");
     return getConcept(uuid);
   }
 
@@ -963,8 +901,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getSecretionsConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.secretionsConcept");
+    String uuid = getGlobalProperty("eptsreports.secretionsConcept");
     return getConcept(uuid);
   }
 
@@ -978,8 +915,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCondylomasConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.condylomasConcept");
+    String uuid = getGlobalProperty("eptsreports.condylomasConcept");
     return getConcept(uuid);
   }
 
@@ -993,7 +929,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getUlcersConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.ulcersConcept");
+    String uuid = getGlobalProperty("eptsreports.ulcersConcept");
     return getConcept(uuid);
   }
 
@@ -1007,8 +943,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAdherenceCoucelingConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.adherenceCounselingUuid");
+    String uuid = getGlobalProperty("eptsreports.adherenceCounselingUuid");
     return getConcept(uuid);
   }
 
@@ -1022,8 +957,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCD4PercentConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.cd4PercentUuid");
+    String uuid = getGlobalProperty("eptsreports.cd4PercentUuid");
     return getConcept(uuid);
   }
 
@@ -1037,8 +971,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAdherence() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.poorAdherenceUuid");
+    String uuid = getGlobalProperty("eptsreports.poorAdherenceUuid");
     return getConcept(uuid);
   }
 
@@ -1052,8 +985,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAdverseReaction() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.adverseReactionUuid");
+    String uuid = getGlobalProperty("eptsreports.adverseReactionUuid");
     return getConcept(uuid);
   }
 
@@ -1068,7 +1000,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getNeutropenia() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.neutropenia");
+    String uuid = getGlobalProperty("eptsreports.neutropenia");
     return getConcept(uuid);
   }
 
@@ -1083,7 +1015,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPancreatitis() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.pancreatitis");
+    String uuid = getGlobalProperty("eptsreports.pancreatitis");
     return getConcept(uuid);
   }
 
@@ -1098,8 +1030,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHepatotoxicity() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.hepatotoxicity");
+    String uuid = getGlobalProperty("eptsreports.hepatotoxicity");
     return getConcept(uuid);
   }
 
@@ -1113,8 +1044,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPsychologicalChanges() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.psychologicalChanges");
+    String uuid = getGlobalProperty("eptsreports.psychologicalChanges");
     return getConcept(uuid);
   }
 
@@ -1129,7 +1059,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getMyopathy() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.myopathy");
+    String uuid = getGlobalProperty("eptsreports.myopathy");
     return getConcept(uuid);
   }
 
@@ -1143,7 +1073,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getSkinAllergy() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.skinAllergy");
+    String uuid = getGlobalProperty("eptsreports.skinAllergy");
     return getConcept(uuid);
   }
 
@@ -1159,7 +1089,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getLipodystrophy() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.lipodystrophy");
+    String uuid = getGlobalProperty("eptsreports.lipodystrophy");
     return getConcept(uuid);
   }
 
@@ -1175,8 +1105,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getLacticAcidosis() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.lacticAcidosis");
+    String uuid = getGlobalProperty("eptsreports.lacticAcidosis");
     return getConcept(uuid);
   }
 
@@ -1192,8 +1121,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPeripheralNeuropathy() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.peripheralNeuropathy");
+    String uuid = getGlobalProperty("eptsreports.peripheralNeuropathy");
     return getConcept(uuid);
   }
 
@@ -1207,7 +1135,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDiarrhea() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.diarrhea");
+    String uuid = getGlobalProperty("eptsreports.diarrhea");
     return getConcept(uuid);
   }
 
@@ -1221,8 +1149,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getOtherDiagnosis() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.otherDiagnosis");
+    String uuid = getGlobalProperty("eptsreports.otherDiagnosis");
     return getConcept(uuid);
   }
 
@@ -1236,7 +1163,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getGaac() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.gaac");
+    String uuid = getGlobalProperty("eptsreports.gaac");
     return getConcept(uuid);
   }
 
@@ -1250,8 +1177,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getFamilyApproach() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.familyApproach");
+    String uuid = getGlobalProperty("eptsreports.familyApproach");
     return getConcept(uuid);
   }
 
@@ -1265,8 +1191,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAccessionClubs() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.accessionClubs");
+    String uuid = getGlobalProperty("eptsreports.accessionClubs");
     return getConcept(uuid);
   }
 
@@ -1280,7 +1205,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getSingleStop() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.singleStop");
+    String uuid = getGlobalProperty("eptsreports.singleStop");
     return getConcept(uuid);
   }
 
@@ -1294,7 +1219,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getRapidFlow() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.rapidFlow");
+    String uuid = getGlobalProperty("eptsreports.rapidFlow");
     return getConcept(uuid);
   }
 
@@ -1308,8 +1233,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getQuarterlyDispensation() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.quarterlyDispensation");
+    String uuid = getGlobalProperty("eptsreports.quarterlyDispensation");
     return getConcept(uuid);
   }
 
@@ -1323,8 +1247,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCommunityDispensation() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.communityDispensation");
+    String uuid = getGlobalProperty("eptsreports.communityDispensation");
     return getConcept(uuid);
   }
 
@@ -1338,7 +1261,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAnotherModel() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.anotherModel");
+    String uuid = getGlobalProperty("eptsreports.anotherModel");
     return getConcept(uuid);
   }
 
@@ -1353,11 +1276,15 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getStartDrugs() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.startDrugsConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.startDrugsConceptUuid");
     return getConcept(uuid);
   }
 
+  /** @return the id of {@link #getStartDrugs()}, without loading the concept */
+  public int getStartDrugsConceptId() {
+    return getConceptId(getGlobalProperty("eptsreports.startDrugsConceptUuid"));
+  }
+
   /**
    * <b>concept_id = 1257</b>
    *
@@ -1369,8 +1296,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getContinueRegimenConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.continueRegimen");
+    String uuid = getGlobalProperty("eptsreports.continueRegimen");
     return getConcept(uuid);
   }
 
@@ -1384,8 +1310,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPreArtStartDate() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.preArtStartDate");
+    String uuid = getGlobalProperty("eptsreports.preArtStartDate");
     return getConcept(uuid);
   }
 
@@ -1399,11 +1324,15 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getArtDatePickupMasterCard() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.preArtPickupDate");
+    String uuid = getGlobalProperty("eptsreports.preArtPickupDate");
     return getConcept(uuid);
   }
 
+  /** @return the id of {@link #getArtDatePickupMasterCard()}, without loading the concept */
+  public int getArtDatePickupMasterCardConceptId() {
+    return getConceptId(getGlobalProperty("eptsreports.preArtPickupDate"));
+  }
+
   /**
    * <b>concept_id = 6300</b>
    *
@@ -1414,9 +1343,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTypeOfPatientTransferredFrom() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.typeOfPatientTransferredFrom");
+    String uuid = getGlobalProperty("eptsreports.typeOfPatientTransferredFrom");
     return getConcept(uuid);
   }
 
@@ -1430,9 +1357,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getStateOfStayOfPreArtPatient() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.stateOfStayOfPreArtPatient");
+    String uuid = getGlobalProperty("eptsreports.stateOfStayOfPreArtPatient");
     return getConcept(uuid);
   }
 
@@ -1446,8 +1371,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getStateOfStayOfArtPatient() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.stateOfStayArtPatient");
+    String uuid = getGlobalProperty("eptsreports.stateOfStayArtPatient");
     return getConcept(uuid);
   }
 
@@ -1461,8 +1385,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getReasonPatientNotFound() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.reasonPatientNotFound");
+    String uuid = getGlobalProperty("eptsreports.reasonPatientNotFound");
     return getConcept(uuid);
   }
 
@@ -1476,8 +1399,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientIsDead() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.patientIsdeadIncorrect");
+    String uuid = getGlobalProperty("eptsreports.patientIsdeadIncorrect");
     return getConcept(uuid);
   }
 
@@ -1491,7 +1413,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientIsDeadCorrect() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.patientIsdead");
+    String uuid = getGlobalProperty("eptsreports.patientIsdead");
     return getConcept(uuid);
   }
 
@@ -1505,7 +1427,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getArtStatus() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.art");
+    String uuid = getGlobalProperty("eptsreports.art");
     return getConcept(uuid);
   }
 
@@ -1519,9 +1441,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTransferredOutConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.transferOutToAnotherFacilityConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.transferOutToAnotherFacilityConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1535,8 +1455,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAutoTransferConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.autoTransferConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.autoTransferConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1550,9 +1469,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getStateOfStayPriorArtPatientConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.stateOfStayPriorArtPatientConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.stateOfStayPriorArtPatientConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1566,9 +1483,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getApplicationForLaboratoryResearch() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.applicationForLaboratoryResearch");
+    String uuid = getGlobalProperty("eptsreports.applicationForLaboratoryResearch");
     return getConcept(uuid);
   }
 
@@ -1582,9 +1497,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHivViralLoadQualitative() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.viralLoadQualitativeConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.viralLoadQualitativeConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1598,9 +1511,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getKeyPopulationConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.keyPopulationConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.keyPopulationConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1614,8 +1525,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHomosexualConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.homosexualConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.homosexualConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1629,8 +1539,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDrugUseConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.drugUseConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.drugUseConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1644,8 +1553,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getImprisonmentConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.imprisonmentConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.imprisonmentConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1659,8 +1567,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getSexWorkerConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.sexWorkerConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.sexWorkerConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1674,8 +1581,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getArtPickupConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.artPickupConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.artPickupConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1689,9 +1595,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDateOfLastMenstruationConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.dateOfLastMenstruationConcept");
+    String uuid = getGlobalProperty("eptsreports.dateOfLastMenstruationConcept");
     return getConcept(uuid);
   }
 
@@ -1705,9 +1609,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTypeOfDispensationConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.typeOfDispensationConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.typeOfDispensationConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1721,8 +1623,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getQuarterlyConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.quarterlyConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.quarterlyConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1736,8 +1637,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCompletedConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.completedConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.completedConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1751,8 +1651,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCytopeniaConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.cytopeniaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.cytopeniaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1766,9 +1665,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getNephrotoxicityConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.nephrotoxicityConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.nephrotoxicityConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1783,8 +1680,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHepatitisConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.hepatitisConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.hepatitisConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1798,9 +1694,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getStevensJonhsonSyndromeConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.stevensJonhsonSyndromeConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.stevensJonhsonSyndromeConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1814,9 +1708,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHypersensitivityToAbcOrRailConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.hypersensitivityToAbcOrRailConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.hypersensitivityToAbcOrRailConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1830,9 +1722,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHepaticSteatosisWithHyperlactataemiaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.hepaticSteatosisWithHyperlactataemiaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.hepaticSteatosisWithHyperlactataemiaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1846,9 +1736,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTBDrugStartDateConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.tuberculosisTreatmentStartDateConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.tuberculosisTreatmentStartDateConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1862,9 +1750,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTBDrugEndDateConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.tbDgrusTreatmentEndDateUuid");
+    String uuid = getGlobalProperty("eptsreports.tbDgrusTreatmentEndDateUuid");
     return getConcept(uuid);
   }
 
@@ -1878,8 +1764,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getActiveTBConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.activeTBConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.activeTBConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1893,9 +1778,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTBTreatmentPlanConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.tuberculosisTreatmentPlanConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.tuberculosisTreatmentPlanConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1909,9 +1792,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getBeyondDetectableLimitConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.beyondDtectableLimitConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.beyondDtectableLimitConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1925,9 +1806,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getUndetectableViralLoadConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.undetectableViralLoadConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.undetectableViralLoadConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1941,9 +1820,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getLessThan839CopiesConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.lessThan839CopiesConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.lessThan839CopiesConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1957,9 +1834,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getLessThan10CopiesConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.lessThan10CopiesConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.lessThan10CopiesConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1973,9 +1848,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getLessThan20CopiesConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.lessThan20CopiesConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.lessThan20CopiesConceptUuid");
     return getConcept(uuid);
   }
 
@@ -1989,9 +1862,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getLessThan40CopiesConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.lessThan40CopiesConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.lessThan40CopiesConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2005,9 +1876,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getLessThan400CopiesConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.lessThan400CopiesConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.lessThan400CopiesConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2021,8 +1890,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getUnkownConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.unknownConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.unknownConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2036,8 +1904,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getMonthlyConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.monthlyConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.monthlyConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2051,8 +1918,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getSemiannualDispensation() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.semiannualConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.semiannualConceptUuid");
 
     return getConcept(uuid);
   }
@@ -2067,9 +1933,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientForgotVisitDateConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.patientForgotVisitDateConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.patientForgotVisitDateConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2083,9 +1947,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientIsBedriddenAtHomeConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.patientIsBedriddenAtHomeConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.patientIsBedriddenAtHomeConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2100,9 +1962,7 @@ public class HivMetadata extends ProgramsMetadata {
    */
   public Concept getDistanceOrMoneyForTransportIsTooMuchForPatientConcept() {
     String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty(
-                "eptsreports.distanceOrMoneyForTransportIsTooMuchForPatientConceptUuid");
+        getGlobalProperty("eptsreports.distanceOrMoneyForTransportIsTooMuchForPatientConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2117,9 +1977,7 @@ public class HivMetadata extends ProgramsMetadata {
    */
   public Concept getPatientIsDissatisfiedWithDayHospitalServicesConcept() {
     String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty(
-                "eptsreports.patientIsDissatisfiedWithDayHospitalServicesConceptUuid");
+        getGlobalProperty("eptsreports.patientIsDissatisfiedWithDayHospitalServicesConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2134,9 +1992,7 @@ public class HivMetadata extends ProgramsMetadata {
    */
   public Concept getPatientIsTreatingHivWithTraditionalMedicineConcept() {
     String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty(
-                "eptsreports.patientIsTreatingHivWithTraditionalMedicineConceptUuid");
+        getGlobalProperty("eptsreports.patientIsTreatingHivWithTraditionalMedicineConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2150,9 +2006,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getOtherReasonWhyPatientMissedVisitConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.otherReasonWhyPatientMissedVisitConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.otherReasonWhyPatientMissedVisitConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2166,9 +2020,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getFearOfTheProviderConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.fearOfTheProviderConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.fearOfTheProviderConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2182,9 +2034,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAbsenceOfHealthProviderInHealthUnitConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.absenceOfHealthProviderInHealthUnitConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.absenceOfHealthProviderInHealthUnitConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2198,8 +2048,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getBpostiveConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.bPlusConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.bPlusConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2214,8 +2063,7 @@ public class HivMetadata extends ProgramsMetadata {
    */
   public Concept getReasonPatientNotFoundByActivist2ndVisitConcept() {
     String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.reasonPatientNotFoundByActivist2ndVisitConceptUuid");
+        getGlobalProperty("eptsreports.reasonPatientNotFoundByActivist2ndVisitConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2230,8 +2078,7 @@ public class HivMetadata extends ProgramsMetadata {
    */
   public Concept getReasonPatientNotFoundByActivist3rdVisitConcept() {
     String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.reasonPatientNotFoundByActivist3rdVisitConceptUuid");
+        getGlobalProperty("eptsreports.reasonPatientNotFoundByActivist3rdVisitConceptUuid");
     return getConcept(uuid);
   }
 
@@ -2245,12 +2092,19 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getAdultoSeguimentoEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.sTarvAdultoSeguimentoEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.sTarvAdultoSeguimentoEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
+  /**
+   * @return the id of {@link #getAdultoSeguimentoEncounterType()}, without loading the encounter
+   *     type
+   */
+  public int getAdultoSeguimentoEncounterTypeId() {
+    return getEncounterTypeId(
+        getGlobalProperty("eptsreports.sTarvAdultoSeguimentoEncounterTypeUuid"));
+  }
+
   /**
    * <b>encounterType_id = 9</b>
    *
@@ -2261,12 +2115,19 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getPediatriaSeguimentoEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.sTarvPediatriaSeguimentoEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.sTarvPediatriaSeguimentoEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
+  /**
+   * @return the id of {@link #getPediatriaSeguimentoEncounterType()}, without loading the encounter
+   *     type
+   */
+  public int getPediatriaSeguimentoEncounterTypeId() {
+    return getEncounterTypeId(
+        getGlobalProperty("eptsreports.sTarvPediatriaSeguimentoEncounterTypeUuid"));
+  }
+
   /**
    * <b>encounterType_id = 21</b>
    *
@@ -2277,9 +2138,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getBuscaActivaEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.buscaActivaEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.buscaActivaEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -2293,9 +2152,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getARVAdultInitialEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.sTarvAdultoInitialAEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.sTarvAdultoInitialAEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -2309,9 +2166,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getARVPediatriaInitialEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.sTarvPediatriaInicialAEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.sTarvPediatriaInicialAEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -2326,11 +2181,17 @@ public class HivMetadata extends ProgramsMetadata {
    */
   public EncounterType getARVPharmaciaEncounterType() {
     String gpSTarvFarmaciaEncounterTypeUuid = "eptsreports.sTarvFarmaciaEncounterTypeUuid";
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty(gpSTarvFarmaciaEncounterTypeUuid);
+    String uuid = getGlobalProperty(gpSTarvFarmaciaEncounterTypeUuid);
     return getEncounterType(uuid);
   }
 
+  /**
+   * @return the id of {@link #getARVPharmaciaEncounterType()}, without loading the encounter type
+   */
+  public int getARVPharmaciaEncounterTypeId() {
+    return getEncounterTypeId(getGlobalProperty("eptsreports.sTarvFarmaciaEncounterTypeUuid"));
+  }
+
   /**
    * <b>encounterType_id = 29</b>
    *
@@ -2341,9 +2202,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getEvaluationAndPrepForARTEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.evaluationAndPrepForARTEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.evaluationAndPrepForARTEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -2357,12 +2216,18 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getMisauLaboratorioEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.misauLaboratorioEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.misauLaboratorioEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
+  /**
+   * @return the id of {@link #getMisauLaboratorioEncounterType()}, without loading the encounter
+   *     type
+   */
+  public int getMisauLaboratorioEncounterTypeId() {
+    return getEncounterTypeId(getGlobalProperty("eptsreports.misauLaboratorioEncounterTypeUuid"));
+  }
+
   /**
    * <b>encounterType_id = 34</b>
    *
@@ -2374,8 +2239,7 @@ public class HivMetadata extends ProgramsMetadata {
    */
   public EncounterType getPrevencaoPositivaInicialEncounterType() {
     String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.apssPrevencaoPositivaInicialInicialEncounterTypeUuid");
+        getGlobalProperty("eptsreports.apssPrevencaoPositivaInicialInicialEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -2389,9 +2253,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getPrevencaoPositivaSeguimentoEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.apssPrevencaoPositivaSeguimentoEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.apssPrevencaoPositivaSeguimentoEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -2406,9 +2268,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getVisitaApoioReintegracaoParteAEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.visitaApoioReintegracaoParteA");
+    String uuid = getGlobalProperty("eptsreports.visitaApoioReintegracaoParteA");
     return getEncounterType(uuid);
   }
 
@@ -2423,9 +2283,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getVisitaApoioReintegracaoParteBEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.visitaApoioReintegracaoParteB");
+    String uuid = getGlobalProperty("eptsreports.visitaApoioReintegracaoParteB");
     return getEncounterType(uuid);
   }
 
@@ -2439,9 +2297,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getARVAdultInitialBEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.adultInitialBEncounterType");
+    String uuid = getGlobalProperty("eptsreports.adultInitialBEncounterType");
     return getEncounterType(uuid);
   }
 
@@ -2455,9 +2311,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getARVPediatriaInitialBEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.pediatriaInitialBEncounterType");
+    String uuid = getGlobalProperty("eptsreports.pediatriaInitialBEncounterType");
     return getEncounterType(uuid);
   }
 
@@ -2471,9 +2325,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getArtAconselhamentoEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.artAconselhamentoEncounterType");
+    String uuid = getGlobalProperty("eptsreports.artAconselhamentoEncounterType");
     return getEncounterType(uuid);
   }
 
@@ -2487,9 +2339,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getArtAconselhamentoSeguimentoEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.artAconselhamentoSeguimentoEncounterType");
+    String uuid = getGlobalProperty("eptsreports.artAconselhamentoSeguimentoEncounterType");
     return getEncounterType(uuid);
   }
 
@@ -2503,12 +2353,19 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getMasterCardDrugPickupEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.masterCardDrugPickupEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.masterCardDrugPickupEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
+  /**
+   * @return the id of {@link #getMasterCardDrugPickupEncounterType()}, without loading the
+   *     encounter type
+   */
+  public int getMasterCardDrugPickupEncounterTypeId() {
+    return getEncounterTypeId(
+        getGlobalProperty("eptsreports.masterCardDrugPickupEncounterTypeUuid"));
+  }
+
   /**
    * <b>encounterType_id = 53</b>
    *
@@ -2519,11 +2376,15 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getMasterCardEncounterType() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.masterCardEncounterType");
+    String uuid = getGlobalProperty("eptsreports.masterCardEncounterType");
     return getEncounterType(uuid);
   }
 
+  /** @return the id of {@link #getMasterCardEncounterType()}, without loading the encounter type */
+  public int getMasterCardEncounterTypeId() {
+    return getEncounterTypeId(getGlobalProperty("eptsreports.masterCardEncounterType"));
+  }
+
   /**
    * <b>encounterType_id = 51</b>
    *
@@ -2534,8 +2395,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getFsrEncounterType() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.fsrEncounterType");
+    String uuid = getGlobalProperty("eptsreports.fsrEncounterType");
     return getEncounterType(uuid);
   }
 
@@ -2549,9 +2409,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getLivroRegistoChamadasVisistasDomiciliaresEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.livroRegistoDiarioChamadasVisitasTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.livroRegistoDiarioChamadasVisitasTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -2567,7 +2425,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Program}
    */
   public Program getARTProgram() {
-    String uuid = Context.getAdministrationService().getGlobalProperty(gpArtProgramUuid);
+    String uuid = getGlobalProperty(gpArtProgramUuid);
     return getProgram(uuid);
   }
 
@@ -2581,8 +2439,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Program}
    */
   public Program getCCRProgram() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.ccrProgramUuid");
+    String uuid = getGlobalProperty("eptsreports.ccrProgramUuid");
     return getProgram(uuid);
   }
 
@@ -2596,7 +2453,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Program}
    */
   public Program getPtvEtvProgram() {
-    String uuid = Context.getAdministrationService().getGlobalProperty(gpPtvEtvProgramUuid);
+    String uuid = getGlobalProperty(gpPtvEtvProgramUuid);
     return getProgram(uuid);
   }
 
@@ -2610,8 +2467,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Program}
    */
   public Program getHIVCareProgram() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.hivCareProgramUuid");
+    String uuid = getGlobalProperty("eptsreports.hivCareProgramUuid");
     return getProgram(uuid);
   }
 
@@ -2625,7 +2481,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Program}
    */
   public Program getTBProgram() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.tbProgramUuid");
+    String uuid = getGlobalProperty("eptsreports.tbProgramUuid");
     return getProgram(uuid);
   }
 
@@ -2640,8 +2496,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link PatientIdentifierType}
    */
   public PatientIdentifierType getNidServiceTarvIdentifierType() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.nidServicoTarvUuid");
+    String uuid = getGlobalProperty("eptsreports.nidServicoTarvUuid");
     return getPatientIdentifierType(uuid);
   }
 
@@ -2655,7 +2510,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link PatientIdentifierType}
    */
   public PatientIdentifierType getCcrNidIdentifierType() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.nidCcrUuid");
+    String uuid = getGlobalProperty("eptsreports.nidCcrUuid");
     return getPatientIdentifierType(uuid);
   }
 
@@ -2671,7 +2526,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link ProgramWorkflowState}
    */
   public ProgramWorkflowState getTransferredOutToAnotherHealthFacilityWorkflowState() {
-    String artProgramUuid = Context.getAdministrationService().getGlobalProperty(gpArtProgramUuid);
+    String artProgramUuid = getGlobalProperty(gpArtProgramUuid);
     return getProgramWorkflowState(artProgramUuid, "2", "TRANSFERRED OUT TO ANOTHER FACILITY");
   }
 
@@ -2688,10 +2543,8 @@ public class HivMetadata extends ProgramsMetadata {
     // TODO Refactor this method, use
     // #getTransferredFromOtherHealthFacilityWorkflowState(Program,
     // ProgramWorkflow)
-    String artProgramUuid = Context.getAdministrationService().getGlobalProperty(gpArtProgramUuid);
-    String transferFromOtherUuid =
-        Context.getAdministrationService()
-            .getGlobalProperty(gpTransferFromOtherFacilityConceptUuid);
+    String artProgramUuid = getGlobalProperty(gpArtProgramUuid);
+    String transferFromOtherUuid = getGlobalProperty(gpTransferFromOtherFacilityConceptUuid);
     return getProgramWorkflowState(artProgramUuid, "2", transferFromOtherUuid);
   }
 
@@ -2796,7 +2649,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link ProgramWorkflowState}
    */
   public ProgramWorkflowState getSuspendedTreatmentWorkflowState() {
-    String artProgramUuid = Context.getAdministrationService().getGlobalProperty(gpArtProgramUuid);
+    String artProgramUuid = getGlobalProperty(gpArtProgramUuid);
     return getProgramWorkflowState(artProgramUuid, "2", "SUSPEND TREATMENT");
   }
 
@@ -2810,7 +2663,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link ProgramWorkflowState}
    */
   public ProgramWorkflowState getAbandonedWorkflowState() {
-    String artProgramUuid = Context.getAdministrationService().getGlobalProperty(gpArtProgramUuid);
+    String artProgramUuid = getGlobalProperty(gpArtProgramUuid);
     return getProgramWorkflowState(artProgramUuid, "2", "ABANDONED");
   }
 
@@ -2824,7 +2677,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link ProgramWorkflowState}
    */
   public ProgramWorkflowState getPatientHasDiedWorkflowState() {
-    String artProgramUuid = Context.getAdministrationService().getGlobalProperty(gpArtProgramUuid);
+    String artProgramUuid = getGlobalProperty(gpArtProgramUuid);
     return getProgramWorkflowState(artProgramUuid, "2", "PATIENT HAS DIED");
   }
 
@@ -2838,8 +2691,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link ProgramWorkflowState}
    */
   public ProgramWorkflowState getPatientGaveBirthWorkflowState() {
-    String ptvProgramUuid =
-        Context.getAdministrationService().getGlobalProperty(gpPtvEtvProgramUuid);
+    String ptvProgramUuid = getGlobalProperty(gpPtvEtvProgramUuid);
     return getProgramWorkflowState(ptvProgramUuid, "5", "GAVE BIRTH");
   }
 
@@ -2869,7 +2721,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link ProgramWorkflowState}
    */
   public ProgramWorkflowState getPateintActiveArtWorkflowState() {
-    String artProgramUuid = Context.getAdministrationService().getGlobalProperty(gpArtProgramUuid);
+    String artProgramUuid = getGlobalProperty(gpArtProgramUuid);
     return getProgramWorkflowState(artProgramUuid, "2", "c50d6bdc-8a79-43ae-ab45-abbaa6b45e7d");
   }
 
@@ -2884,14 +2736,13 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link ProgramWorkflowState}
    */
   public ProgramWorkflowState getPateintTransferedFromOtherFacilityWorkflowState() {
-    String artProgramUuid = Context.getAdministrationService().getGlobalProperty(gpArtProgramUuid);
+    String artProgramUuid = getGlobalProperty(gpArtProgramUuid);
     return getProgramWorkflowState(artProgramUuid, "2", "TRANSFER FROM OTHER FACILITY");
   }
 
   // TODO: Duplicated and Missing program_workflow_id
   public ProgramWorkflowState getPateintPregnantWorkflowState() {
-    String ptvProgramUuid =
-        Context.getAdministrationService().getGlobalProperty(gpPtvEtvProgramUuid);
+    String ptvProgramUuid = getGlobalProperty(gpPtvEtvProgramUuid);
     return getProgramWorkflowState(ptvProgramUuid, "5", "PREGNANT");
   }
 
@@ -2906,8 +2757,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link ProgramWorkflowState}
    */
   public ProgramWorkflowState getPateintActiveOnHIVCareProgramtWorkflowState() {
-    String hivCareProgramUuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.hivCareProgramUuid");
+    String hivCareProgramUuid = getGlobalProperty("eptsreports.hivCareProgramUuid");
     return getProgramWorkflowState(hivCareProgramUuid, "1", "ACTIVE ON PROGRAM");
   }
 
@@ -2922,8 +2772,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link ProgramWorkflowState}
    */
   public ProgramWorkflowState getPateintTransferedFromOtherFacilityHIVCareWorkflowState() {
-    String hivCareProgramUuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.hivCareProgramUuid");
+    String hivCareProgramUuid = getGlobalProperty("eptsreports.hivCareProgramUuid");
     return getProgramWorkflowState(hivCareProgramUuid, "1", "TRANSFER FROM OTHER FACILITY");
   }
 
@@ -2938,7 +2787,7 @@ public class HivMetadata extends ProgramsMetadata {
    */
   public ProgramWorkflowState getPatientActiveOnTBProgramWorkflowState() {
     String getTBProgramUuid = "eptsreports.tbProgramUuid";
-    String tbProgramUuid = Context.getAdministrationService().getGlobalProperty(getTBProgramUuid);
+    String tbProgramUuid = getGlobalProperty(getTBProgramUuid);
     return getProgramWorkflowState(tbProgramUuid, "4", "ACTIVE ON PROGRAM");
   }
 
@@ -2952,9 +2801,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCurrentWHOHIVStageConcept() {
-    return getConcept(
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.currentWHOHIVStageConceptUuid"));
+    return getConcept(getGlobalProperty("eptsreports.currentWHOHIVStageConceptUuid"));
   }
 
   /**
@@ -2967,8 +2814,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPregnancyResponseConcept() {
-    return getConcept(
-        Context.getAdministrationService().getGlobalProperty("eptsreports.pregnancyConceptUuid"));
+    return getConcept(getGlobalProperty("eptsreports.pregnancyConceptUuid"));
   }
 
   /**
@@ -2981,9 +2827,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getReasonForRequestingViralLoadConcept() {
-    return getConcept(
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.reasonForRequestingViralLoadConceptUuid"));
+    return getConcept(getGlobalProperty("eptsreports.reasonForRequestingViralLoadConceptUuid"));
   }
 
   /**
@@ -2996,9 +2840,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getRoutineForRequestingViralLoadConcept() {
-    return getConcept(
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.routineForRequestingViralLoadConceptUuid"));
+    return getConcept(getGlobalProperty("eptsreports.routineForRequestingViralLoadConceptUuid"));
   }
 
   /**
@@ -3011,9 +2853,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getRegimenFailureConcept() {
-    return getConcept(
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.regimenFailureConceptUuid"));
+    return getConcept(getGlobalProperty("eptsreports.regimenFailureConceptUuid"));
   }
 
   /**
@@ -3026,9 +2866,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getSuspectedImmuneFailureConcept() {
-    return getConcept(
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.suspectedImmuneFailureConceptUuid"));
+    return getConcept(getGlobalProperty("eptsreports.suspectedImmuneFailureConceptUuid"));
   }
 
   /**
@@ -3041,9 +2879,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getRepeatAfterBreastfeedingConcept() {
-    return getConcept(
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.repeatAfterBreastfeedingConceptUuid"));
+    return getConcept(getGlobalProperty("eptsreports.repeatAfterBreastfeedingConceptUuid"));
   }
 
   /**
@@ -3056,9 +2892,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getClinicalSuspicionConcept() {
-    return getConcept(
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.clinicalSuspicionConceptUuid"));
+    return getConcept(getGlobalProperty("eptsreports.clinicalSuspicionConceptUuid"));
   }
 
   public ProgramWorkflow getPreArtWorkflow() {
@@ -3194,9 +3028,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link PersonAttributeType}
    */
   public PersonAttributeType getIdentificadorDefinidoLocalmente01() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.identificadorDefinidoLocalment01Uuid");
+    String uuid = getGlobalProperty("eptsreports.identificadorDefinidoLocalment01Uuid");
     return getPersonAttributeType(uuid);
   }
 
@@ -3211,8 +3043,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getBPlusConcept() {
-    return getConcept(
-        Context.getAdministrationService().getGlobalProperty("eptsreports.bPlusConceptUuid"));
+    return getConcept(getGlobalProperty("eptsreports.bPlusConceptUuid"));
   }
 
   /**
@@ -3225,8 +3056,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPreTarvConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.preTarvConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.preTarvConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3240,9 +3070,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDateOfMasterCardFileOpeningConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.dateOfMasterCardFileOpeningConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.dateOfMasterCardFileOpeningConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3256,8 +3084,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getSecondLineConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.artSecondLineSwitchUuid");
+    String uuid = getGlobalProperty("eptsreports.artSecondLineSwitchUuid");
     return getConcept(uuid);
   }
 
@@ -3271,9 +3098,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTherapeuticLineConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.therapeuticLineConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.therapeuticLineConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3287,9 +3112,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTBSymptomsConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.hasTbSymptomsConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.hasTbSymptomsConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3304,9 +3127,7 @@ public class HivMetadata extends ProgramsMetadata {
    */
   public Concept getPreARTCounselingConcept() {
 
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.preARTCounselingConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.preARTCounselingConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3320,8 +3141,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPP1Concept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.pp1ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.pp1ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3336,8 +3156,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPP2Concept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.pp2ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.pp2ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3351,8 +3170,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPP3Concept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.pp3ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.pp3ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3366,8 +3184,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPP4Concept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.pp4ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.pp4ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3381,9 +3198,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getfamilyPlanningConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.familyPlanningConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.familyPlanningConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3397,8 +3212,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPP6Concept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.pp6ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.pp6ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3412,8 +3226,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPP7Concept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.pp7ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.pp7ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3427,8 +3240,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getRevealdConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.revealedConcept");
+    String uuid = getGlobalProperty("eptsreports.revealedConcept");
     return getConcept(uuid);
   }
 
@@ -3443,8 +3255,7 @@ public class HivMetadata extends ProgramsMetadata {
    */
   public Concept getDisclosureOfHIVDiagnosisToChildrenAdolescentsConcept() {
     String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.disclosureOfHIVDiagnosisToChildrenAdolescentsConcept");
+        getGlobalProperty("eptsreports.disclosureOfHIVDiagnosisToChildrenAdolescentsConcept");
     return getConcept(uuid);
   }
 
@@ -3458,8 +3269,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getMemberShipPlanConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.memberShipPlanConcept");
+    String uuid = getGlobalProperty("eptsreports.memberShipPlanConcept");
     return getConcept(uuid);
   }
 
@@ -3474,9 +3284,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCounseledOnSideEffectsOfArtConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.counseledOnSideEffectsOfArtConcept");
+    String uuid = getGlobalProperty("eptsreports.counseledOnSideEffectsOfArtConcept");
     return getConcept(uuid);
   }
 
@@ -3490,9 +3298,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAdherenceEvaluationConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.adherenceEvaluationConcept");
+    String uuid = getGlobalProperty("eptsreports.adherenceEvaluationConcept");
     return getConcept(uuid);
   }
 
@@ -3506,8 +3312,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getArvAdherenceRiskConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.arvAdherenceRiskConcept");
+    String uuid = getGlobalProperty("eptsreports.arvAdherenceRiskConcept");
     return getConcept(uuid);
   }
 
@@ -3521,7 +3326,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getBadConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.badConcept");
+    String uuid = getGlobalProperty("eptsreports.badConcept");
     return getConcept(uuid);
   }
 
@@ -3535,8 +3340,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTypeTestHIVConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.typeTestHIVConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.typeTestHIVConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3550,9 +3354,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHivTestingSiteConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.hivTestingSiteConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.hivTestingSiteConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3566,9 +3368,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getVoluntaryCouncelingTestingCommunityConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.voluntaryCouncelingTestingCommunityConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.voluntaryCouncelingTestingCommunityConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3582,9 +3382,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHivPCRQualitativeConceptUuid() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.hivPCRQualitativeConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.hivPCRQualitativeConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3598,9 +3396,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHivRapidTest1QualitativeConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.hivRapidTest1QualitativeConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.hivRapidTest1QualitativeConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3614,9 +3410,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPresumptiveDiagnosisInChildrenConcep() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.presumptiveDiagnosisInChildrenConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.presumptiveDiagnosisInChildrenConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3630,9 +3424,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getReturnDateOnFirstAttemptConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.returnDateOnFirstAttemptConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.returnDateOnFirstAttemptConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3646,9 +3438,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getReturnDateOnSecondAttemptConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.returnDateOnSecondAttemptConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.returnDateOnSecondAttemptConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3662,9 +3452,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getReturnDateOnThirdAttemptConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.returnDateOnThirdAttemptConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.returnDateOnThirdAttemptConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3678,9 +3466,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientElegibilityConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.patientElegibleForConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.patientElegibleForConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3694,8 +3480,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientTreatmentFollowUp() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.treatmentFollowUpUuid");
+    String uuid = getGlobalProperty("eptsreports.treatmentFollowUpUuid");
     return getConcept(uuid);
   }
 
@@ -3709,9 +3494,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getReintegrationConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.reintegrationConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.reintegrationConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3725,9 +3508,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getElegibilityDateConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.elegibitilyDateConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.elegibitilyDateConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3741,9 +3522,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientContactedOnFirstAttemptConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.contactedOnFirstAttemptConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.contactedOnFirstAttemptConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3757,9 +3536,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientContactedOnSecondAttemptConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.contactedOnSecondAttemptConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.contactedOnSecondAttemptConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3773,9 +3550,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientContactedOnThirdAttemptConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.contactedOnThirdAttemptConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.contactedOnThirdAttemptConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3789,9 +3564,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDateAgreedForReturnOnFirstCallConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.dateAgreedForReturnOnFirstCallConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.dateAgreedForReturnOnFirstCallConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3805,9 +3578,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDateAgreedForReturnOnSecondCallConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.dateAgreedForReturnOnSecondCallConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.dateAgreedForReturnOnSecondCallConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3821,9 +3592,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDateAgreedForReturnOnThirdCallConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.dateAgreedForReturnOnThirdCallConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.dateAgreedForReturnOnThirdCallConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3837,9 +3606,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientContactedConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.patientContactedConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.patientContactedConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3853,9 +3620,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientReturnedConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.patientReturnedtoHealthUnitConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.patientReturnedtoHealthUnitConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3869,9 +3634,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientFoundOnFirstAttemptConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.patientFoundOnFirstAttemptConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.patientFoundOnFirstAttemptConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3885,9 +3648,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientFoundOnSecondAttemptConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.patientFoundOnSecondAttemptConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.patientFoundOnSecondAttemptConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3901,9 +3662,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientFoundOnThirdAttemptConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.patientFoundOnThirdAttemptConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.patientFoundOnThirdAttemptConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3917,9 +3676,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientReturnedAfterVisitConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.ReturnedtoHealthUnitAfterVisitConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.ReturnedtoHealthUnitAfterVisitConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3933,9 +3690,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDatePatientReturnedAfterVisitConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.DateReturnedtoHUAfterVisitConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.DateReturnedtoHUAfterVisitConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3949,9 +3704,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public EncounterType getRastreioDoCancroDoColoUterinoEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.rastreioDoCancroDoColoUterinoEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.rastreioDoCancroDoColoUterinoEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -3965,8 +3718,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getResultadoViaConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.resultadoViaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.resultadoViaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3980,9 +3732,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getSuspectedCancerConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.suspectedCancerConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.suspectedCancerConceptUuid");
     return getConcept(uuid);
   }
 
@@ -3996,9 +3746,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCryotherapyPerformedOnTheSameDayASViaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.cryotherapyPerformedOnTheSameDayASViaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.cryotherapyPerformedOnTheSameDayASViaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4012,9 +3760,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCryotherapyDateConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.cryotherapyDateConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.cryotherapyDateConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4028,9 +3774,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getViaResultOnTheReferenceConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.viaResultOnTheReferenceConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.viaResultOnTheReferenceConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4044,9 +3788,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPediatricNursingConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.pediatricNursingConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.pediatricNursingConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4060,9 +3802,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getThermocoagulationConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.thermocoagulationConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.thermocoagulationConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4076,8 +3816,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getLeepConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.leepConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.leepConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4091,8 +3830,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getconizationConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.conizationConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.conizationConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4109,9 +3847,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getPreviousARVUsedForTreatmentConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.previousARVUsedForTreatmentConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.previousARVUsedForTreatmentConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4125,8 +3861,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getWeightConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.weightConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.weightConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4140,9 +3875,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getReturnVisitDateConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.returnVisitDateConceptConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.returnVisitDateConceptConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4154,8 +3887,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getArtDrugFormulationConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.artDrugFormulation");
+    String uuid = getGlobalProperty("eptsreports.artDrugFormulation");
     return getConcept(uuid);
   }
 
@@ -4167,8 +3899,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getDrugAndQuantityConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.drugAndQuantity");
+    String uuid = getGlobalProperty("eptsreports.drugAndQuantity");
     return getConcept(uuid);
   }
 
@@ -4180,9 +3911,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getTDFand3TCandDTGCConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.TDFand3TCandDTGConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.TDFand3TCandDTGConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4194,9 +3923,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getLopinavirAndRitonavirConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.lopinavirAndRitonavirConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.lopinavirAndRitonavirConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4208,9 +3935,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getAbacavirAndLamivudinaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.abacavirAndLamivudinaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.abacavirAndLamivudinaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4222,9 +3947,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getZidovudineAndLamivudineConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.zidovudineAndLamivudineConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.zidovudineAndLamivudineConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4236,9 +3959,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getTenofovirOrLamivudinaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.tenofovirOrLamivudinaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.tenofovirOrLamivudinaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4250,8 +3971,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getRaltegravirConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.raltegravirConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.raltegravirConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4263,9 +3983,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getPatientKnowledgeOfEffectOfHIVConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.patientKnowledgeOfEffectOfHIVConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.patientKnowledgeOfEffectOfHIVConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4277,8 +3995,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getPaternalDataConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.paternalDataConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.paternalDataConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4290,8 +4007,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getNevirapineConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.nevirapineConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.nevirapineConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4303,8 +4019,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getZidovudineConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.zidovudineConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.zidovudineConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4316,8 +4031,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getAbacavirConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.abacavirConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.abacavirConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4329,8 +4043,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getEfavirenzConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.efavirenzConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.efavirenzConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4342,8 +4055,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getLamivudinaConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.lamivudinaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.lamivudinaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4355,8 +4067,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getTenofovirConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.tenofovirConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.tenofovirConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4368,9 +4079,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getTdfAnd3tcAndEfvConceptUuid() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.tdfAnd3tcAndEfvConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.tdfAnd3tcAndEfvConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4382,9 +4091,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getAztAnd3tcAndNvpConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.aztAnd3tcAndNvpConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.aztAnd3tcAndNvpConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4396,9 +4103,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getAztAnd3tcAndAbcConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.aztAnd3tcAndAbcConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.aztAnd3tcAndAbcConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4410,8 +4115,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getTdfAndFtcConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.tdfAndFtcConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.tdfAndFtcConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4423,9 +4127,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getConfidentAcceptContact() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.confidentAcceptContactUuid");
+    String uuid = getGlobalProperty("eptsreports.confidentAcceptContactUuid");
     return getConcept(uuid);
   }
 
@@ -4437,9 +4139,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return
    */
   public Concept getConfidentConsentDate() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.confidentConsentDateUuid");
+    String uuid = getGlobalProperty("eptsreports.confidentConsentDateUuid");
     return getConcept(uuid);
   }
 
@@ -4451,9 +4151,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getInitialStatusPrepUserConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.initialStatusPrepUserUuid");
+    String uuid = getGlobalProperty("eptsreports.initialStatusPrepUserUuid");
     return getConcept(uuid);
   }
 
@@ -4465,8 +4163,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPrepStartDateConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.prepStartDateUuid");
+    String uuid = getGlobalProperty("eptsreports.prepStartDateUuid");
     return getConcept(uuid);
   }
 
@@ -4478,8 +4175,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getReferalTypeConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.referalTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.referalTypeUuid");
     return getConcept(uuid);
   }
 
@@ -4491,9 +4187,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTransferredFromOtherFacilityConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.transferredFromOtherFacilityUuid");
+    String uuid = getGlobalProperty("eptsreports.transferredFromOtherFacilityUuid");
     return getConcept(uuid);
   }
 
@@ -4505,9 +4199,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getStateOfStayOnPrepProgram() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.stateOfStayOnPrepProgramUuid");
+    String uuid = getGlobalProperty("eptsreports.stateOfStayOnPrepProgramUuid");
     return getConcept(uuid);
   }
 
@@ -4521,8 +4213,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Program}
    */
   public Program getPrepProgram() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.prepProgramUuid");
+    String uuid = getGlobalProperty("eptsreports.prepProgramUuid");
     return getProgram(uuid);
   }
 
@@ -4536,9 +4227,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getPrepInicialEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.prepInicialEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.prepInicialEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -4552,9 +4241,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getPrepSeguimentoEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.prepSeguimentoEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.prepSeguimentoEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -4566,8 +4253,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTransGenderConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.transGenderUuid");
+    String uuid = getGlobalProperty("eptsreports.transGenderUuid");
     return getConcept(uuid);
   }
 
@@ -4579,9 +4265,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDateOfInitialHivTestConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.dateOfInitialHivTestUuid");
+    String uuid = getGlobalProperty("eptsreports.dateOfInitialHivTestUuid");
     return getConcept(uuid);
   }
 
@@ -4593,9 +4277,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCurrentStateOfTheWomanUuidConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.currentStateOfTheWomanUuid");
+    String uuid = getGlobalProperty("eptsreports.currentStateOfTheWomanUuid");
     return getConcept(uuid);
   }
 
@@ -4607,9 +4289,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDateOfHivTestWithNegativeResultsPrepUuidConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.dateOfHivTestWithNegativeResultsPrepUuid");
+    String uuid = getGlobalProperty("eptsreports.dateOfHivTestWithNegativeResultsPrepUuid");
     return getConcept(uuid);
   }
 
@@ -4621,9 +4301,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAcceptStartMedicationConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.acceptStartMedicationUuid");
+    String uuid = getGlobalProperty("eptsreports.acceptStartMedicationUuid");
     return getConcept(uuid);
   }
 
@@ -4635,8 +4313,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPrepRegimeConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.prepRegimeUuid");
+    String uuid = getGlobalProperty("eptsreports.prepRegimeUuid");
     return getConcept(uuid);
   }
 
@@ -4648,7 +4325,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTdfAnd3tcConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.tdfAnd3tcUuid");
+    String uuid = getGlobalProperty("eptsreports.tdfAnd3tcUuid");
     return getConcept(uuid);
   }
 
@@ -4660,8 +4337,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getOtherDrugForPrepConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.otherDrugForPrepUuid");
+    String uuid = getGlobalProperty("eptsreports.otherDrugForPrepUuid");
     return getConcept(uuid);
   }
 
@@ -4673,8 +4349,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getNumberOfBottlesConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.numberOfBottlesUuid");
+    String uuid = getGlobalProperty("eptsreports.numberOfBottlesUuid");
     return getConcept(uuid);
   }
 
@@ -4686,9 +4361,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAdolescentsAndYouthAtRiskConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.adolescentsAndYouthAtRiskUuid");
+    String uuid = getGlobalProperty("eptsreports.adolescentsAndYouthAtRiskUuid");
     return getConcept(uuid);
   }
 
@@ -4700,8 +4373,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getMilitaryOrPoliceConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.militaryOrPoliceUuid");
+    String uuid = getGlobalProperty("eptsreports.militaryOrPoliceUuid");
     return getConcept(uuid);
   }
 
@@ -4713,7 +4385,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDriverConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.driverUuid");
+    String uuid = getGlobalProperty("eptsreports.driverUuid");
     return getConcept(uuid);
   }
 
@@ -4725,7 +4397,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getMinerConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.minerUuid");
+    String uuid = getGlobalProperty("eptsreports.minerUuid");
     return getConcept(uuid);
   }
 
@@ -4737,9 +4409,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCoupleResultsAreDifferentConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.coupleResultsAreDifferentUuid");
+    String uuid = getGlobalProperty("eptsreports.coupleResultsAreDifferentUuid");
     return getConcept(uuid);
   }
 
@@ -4751,8 +4421,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPrepTargetGroupConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.prepTargetGroupUuid");
+    String uuid = getGlobalProperty("eptsreports.prepTargetGroupUuid");
     return getConcept(uuid);
   }
 
@@ -4764,8 +4433,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getOtherOrNonCodedConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.otherOrNonCodedUuid");
+    String uuid = getGlobalProperty("eptsreports.otherOrNonCodedUuid");
     return getConcept(uuid);
   }
 
@@ -4779,9 +4447,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getLastRecordOfDispensingModeConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.lastRecordOfDispensingModeConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.lastRecordOfDispensingModeConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4795,9 +4461,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getForaDoHorarioConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.foraDoHorarioConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.foraDoHorarioConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4811,9 +4475,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getLastRecordOfFarmacConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.lastRecordOfFarmacConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.lastRecordOfFarmacConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4827,9 +4489,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDispensaComunitariaViaProvedorConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.dispensaComunitariaViaProvedorConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.dispensaComunitariaViaProvedorConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4843,9 +4503,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getBrigadasMoveisConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.brigadasMoveisConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.brigadasMoveisConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4859,9 +4517,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getBrigadasMoveisDiurnasConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.brigadasMoveiDiurnasConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.brigadasMoveiDiurnasConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4875,9 +4531,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getBrigadasMoveisNocturnasConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.brigadasMoveiNocturnasConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.brigadasMoveiNocturnasConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4891,9 +4545,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDispensaComunitariaViaApeConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.dispensaComunitariaViaApeConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.dispensaComunitariaViaApeConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4907,9 +4559,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getClinicasMoveisDiurnasConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.clinicasMoveisDiurnasConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.clinicasMoveisDiurnasConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4923,9 +4573,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getClinicasMoveisNocturnasConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.clinicasMoveisNocturnasConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.clinicasMoveisNocturnasConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4939,9 +4587,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getClinicasMoveisConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.clinicasMoveisConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.clinicasMoveisConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4955,9 +4601,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getExtensaoHorarioConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.extensaoHorarioConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.extensaoHorarioConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4971,9 +4615,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getParagemUnicaNoSectorDaTBConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.paragemUnicaNoSectorDaTBConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.paragemUnicaNoSectorDaTBConceptUuid");
     return getConcept(uuid);
   }
 
@@ -4987,9 +4629,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getParagemUnicaNosServicosTARVConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.paragemUnicaNosServicosTARVConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.paragemUnicaNosServicosTARVConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5003,8 +4643,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getMdcState() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.mdcStateConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.mdcStateConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5018,9 +4657,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDescentralizedArvDispensationConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.descentralizedArvDispensationConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.descentralizedArvDispensationConceptUuid");
     return getConcept(uuid);
   }
   /**
@@ -5033,9 +4670,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPartiallyRevealedConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.partiallyRevealedConcept");
+    String uuid = getGlobalProperty("eptsreports.partiallyRevealedConcept");
     return getConcept(uuid);
   }
   /**
@@ -5048,8 +4683,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getNotRevealedConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.notRevealedConcept");
+    String uuid = getGlobalProperty("eptsreports.notRevealedConcept");
 
     return getConcept(uuid);
   }
@@ -5063,9 +4697,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAnnualArvDispensationConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.annualArvDispensationConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.annualArvDispensationConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5079,9 +4711,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getParagemUnicaNoSAAJConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.paragemUnicaNoSAAJConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.paragemUnicaNoSAAJConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5095,9 +4725,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getParagemUnicaNaSMIConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.paragemUnicaNaSMIConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.paragemUnicaNaSMIConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5111,9 +4739,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDoencaAvancadaPorHIVConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.doencaAvancadaPorHIVConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.doencaAvancadaPorHIVConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5127,9 +4753,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getBimonthlyDispensationConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.bimonthlyDispensationUuid");
+    String uuid = getGlobalProperty("eptsreports.bimonthlyDispensationUuid");
     return getConcept(uuid);
   }
 
@@ -5143,8 +4767,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getKeyPopOtherConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.keyPopOtherConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.keyPopOtherConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5158,9 +4781,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getNegativeDiagnosisConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.negativeDiagnosisConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.negativeDiagnosisConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5174,8 +4795,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getChampioManConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.champioManConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.champioManConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5189,9 +4809,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getYouthAndTeenageMenthorConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.youthAndTeenageMenthorConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.youthAndTeenageMenthorConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5205,9 +4823,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getMentoringMotherConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.mentoringMotherConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.mentoringMotherConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5221,9 +4837,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDateOfNextCounselingConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.dateOfNextCounselingConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.dateOfNextCounselingConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5237,8 +4851,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getRegArvThirdLine() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.regArvThirdLineUuid");
+    String uuid = getGlobalProperty("eptsreports.regArvThirdLineUuid");
     return getConcept(uuid);
   }
 
@@ -5252,9 +4865,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getArtPickupAccommodationCamp() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.artPickupAccommodationCamp");
+    String uuid = getGlobalProperty("eptsreports.artPickupAccommodationCamp");
     return getConcept(uuid);
   }
 
@@ -5268,8 +4879,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCryotherapyConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.cryotherapyConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.cryotherapyConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5283,9 +4893,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getAdvancedHivIllnessEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.advancedHivIllnessEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.advancedHivIllnessEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -5299,8 +4907,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCD4LabsetConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.cd4LabsetConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.cd4LabsetConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5314,8 +4921,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getWhoStageIConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.whoStageIConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.whoStageIConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5329,8 +4935,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getWhoStageIIConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.whoStageIIConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.whoStageIIConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5344,7 +4949,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getNAConcept() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.naConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.naConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5358,8 +4963,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCragSoroConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.cragSoroConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.cragSoroConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5373,8 +4977,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCragLCRConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.cragLRCConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.cragLRCConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5388,8 +4991,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCacuConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.cacuConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.cacuConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5403,9 +5005,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getChronicDiarrheaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.chronicDiarrheaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.chronicDiarrheaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5419,8 +5019,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getFeverConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.feverConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.feverConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5434,8 +5033,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAnemiaConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.anemiaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.anemiaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5449,8 +5047,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPneumoniaConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.pneumoniaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.pneumoniaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5464,8 +5061,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getMeningitisConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.meningitisConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.meningitisConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5479,8 +5075,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getGingivitisConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.gingivitisConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.gingivitisConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5494,9 +5089,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getEstomatiteUlcerativaNecrotizanteConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.estomatiteUlcerativaNecrotizanteConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.estomatiteUlcerativaNecrotizanteConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5510,9 +5103,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCandidiaseOralConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.candidiaseOralConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.candidiaseOralConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5526,9 +5117,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCryptococcalMeningitisConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.cryptococcalMeningitisConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.cryptococcalMeningitisConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5542,9 +5131,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCervicalCancerConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.cervicalCancerConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.cervicalCancerConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5558,9 +5145,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCandidiaseEsofagicaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.candidiaseEsofagicaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.candidiaseEsofagicaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5574,9 +5159,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHerpesSimplesConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.herpesSimplesConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.herpesSimplesConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5590,8 +5173,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCachexiaConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.cachexiaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.cachexiaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5605,8 +5187,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getToxoplasmoseConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.toxoplasmoseConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.toxoplasmoseConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5620,9 +5201,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHivDiseaseResultingInEncephalopathyConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.hivDiseaseResultingInEncephalopathyConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.hivDiseaseResultingInEncephalopathyConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5636,8 +5215,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getArtInitiationCd4Concept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.artInitiationCd4");
+    String uuid = getGlobalProperty("eptsreports.artInitiationCd4");
     return getConcept(uuid);
   }
 
@@ -5651,9 +5229,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getExitFromArvTreatmentConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.exitFromArvTreatmentUuid");
+    String uuid = getGlobalProperty("eptsreports.exitFromArvTreatmentUuid");
     return getConcept(uuid);
   }
 
@@ -5667,9 +5243,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getExitDateFromArvTreatmentConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.exitDateFromArvTreatmentUuid");
+    String uuid = getGlobalProperty("eptsreports.exitDateFromArvTreatmentUuid");
     return getConcept(uuid);
   }
 
@@ -5683,8 +5257,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCragSoroLabsetConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.cragSoroLabsetUuid");
+    String uuid = getGlobalProperty("eptsreports.cragSoroLabsetUuid");
     return getConcept(uuid);
   }
 
@@ -5698,8 +5271,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTreatmentStartDateConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.treatmentStartDateUuid");
+    String uuid = getGlobalProperty("eptsreports.treatmentStartDateUuid");
     return getConcept(uuid);
   }
   /**
@@ -5712,9 +5284,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getInducaoAnfotericinaLipossomicaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.inducaoAnfotericinaLipossomicaUuid");
+    String uuid = getGlobalProperty("eptsreports.inducaoAnfotericinaLipossomicaUuid");
     return getConcept(uuid);
   }
 
@@ -5728,9 +5298,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDateOfDiagnosisOfKaposiSarcomaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.dateOfDiagnosisOfKaposiSarcomaUuid");
+    String uuid = getGlobalProperty("eptsreports.dateOfDiagnosisOfKaposiSarcomaUuid");
     return getConcept(uuid);
   }
 
@@ -5744,8 +5312,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getOutraQuimioterapiaConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.outraQuimioterapiaUuid");
+    String uuid = getGlobalProperty("eptsreports.outraQuimioterapiaUuid");
     return getConcept(uuid);
   }
 
@@ -5759,9 +5326,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getStartDateForQuimiotherapyConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.startDateForQuimiotherapyUuid");
+    String uuid = getGlobalProperty("eptsreports.startDateForQuimiotherapyUuid");
     return getConcept(uuid);
   }
 
@@ -5775,8 +5340,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPrepStatusConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.prepStatusConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.prepStatusConceptUuid");
 
     return getConcept(uuid);
   }
@@ -5791,8 +5355,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getStopAllConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.stopAllConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.stopAllConceptUuid");
 
     return getConcept(uuid);
   }
@@ -5807,9 +5370,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getReasonToNotPrescribePrepConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.reasonToNotPrescribePrepConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.reasonToNotPrescribePrepConceptUuid");
 
     return getConcept(uuid);
   }
@@ -5824,8 +5385,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHivInfectedConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.hivInfectedConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.hivInfectedConceptUuid");
 
     return getConcept(uuid);
   }
@@ -5840,9 +5400,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getNoMoreSubstantialRisksConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.noMoreSubstantialRisksConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.noMoreSubstantialRisksConceptUuid");
 
     return getConcept(uuid);
   }
@@ -5857,9 +5415,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getUserPreferenceConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.userPreferenceConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.userPreferenceConceptUuid");
 
     return getConcept(uuid);
   }
@@ -5874,9 +5430,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getNotApplicableConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.notApplicableConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.notApplicableConceptUuid");
 
     return getConcept(uuid);
   }
@@ -5891,9 +5445,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHumanPapillomavirusDnaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.humanPapillomavirusDnaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.humanPapillomavirusDnaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5908,8 +5460,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTreatmentConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.treatmentConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.treatmentConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5923,9 +5474,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTermoablationConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.termoablationConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.termoablationConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5937,9 +5486,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPatientConsentConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.patientConsentConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.patientConsentConceptUuid");
     return getConcept(uuid);
   }
 
@@ -5953,9 +5500,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getCCRResumoEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.ccrResumoEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.ccrResumoEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -5969,9 +5514,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link RelationshipType}
    */
   public RelationshipType getMotherToSonRelationshipType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.motherToSonRelationshipTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.motherToSonRelationshipTypeUuid");
     return getRelationshipType(uuid);
   }
 
@@ -5985,9 +5528,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getCCRSeguimentoEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.ccrSeguimentoEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.ccrSeguimentoEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -6001,8 +5542,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getSampleTypeConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.sampleTypeConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.sampleTypeConceptUuid");
     return getConcept(uuid);
   }
 
@@ -6016,8 +5556,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTipoDeAltaConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.tipoDeAltaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.tipoDeAltaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -6031,9 +5570,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTransferidoParaSectorTbConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.transferidoParaSectorTbConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.transferidoParaSectorTbConceptUuid");
     return getConcept(uuid);
   }
 
@@ -6047,9 +5584,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTransferidoParaConsultasIntegradasConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.transferidoParaConsultasIntegradasConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.transferidoParaConsultasIntegradasConceptUuid");
     return getConcept(uuid);
   }
 
@@ -6063,9 +5598,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTransferidoParaConsultaDeCriancaSadiaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.transferidoParaConsultaDeCriancaSadiaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.transferidoParaConsultaDeCriancaSadiaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -6079,8 +5612,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCD4SemiQuantitativeConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.cd4SemiQuantitativeUuid");
+    String uuid = getGlobalProperty("eptsreports.cd4SemiQuantitativeUuid");
     return getConcept(uuid);
   }
 
@@ -6094,9 +5626,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCD4CountLessThanOrEqualTo200Concept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.cd4CountLessThanOrEqualTo200ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.cd4CountLessThanOrEqualTo200ConceptUuid");
     return getConcept(uuid);
   }
 
@@ -6110,9 +5640,7 @@ public class HivMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCD4CountGreaterThan200Concept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.cd4CountGreaterThan200ConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.cd4CountGreaterThan200ConceptUuid");
     return getConcept(uuid);
   }
 }
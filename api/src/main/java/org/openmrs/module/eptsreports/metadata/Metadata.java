@@ -29,6 +29,14 @@ import org.openmrs.module.reporting.common.ObjectUtil;
 
 public class Metadata {
 
+  /**
+   * @return the value of the global property, {@code eptsreports.*} properties are served from the
+   *     {@link MetadataRegistry}
+   */
+  protected static String getGlobalProperty(String name) {
+    return MetadataRegistry.getInstance().getGlobalProperty(name);
+  }
+
   /** @return the PatientIdentifier that matches the passed uuid, name, or primary key id */
   public static PatientIdentifierType getPatientIdentifierType(String lookup) {
     PatientIdentifierType pit = Context.getPatientService().getPatientIdentifierTypeByUuid(lookup);
@@ -52,6 +60,15 @@ public class Metadata {
    * @return the Concept that matches the passed uuid, name, source:code mapping, or primary key id
    */
   public static Concept getConcept(String lookup) {
+    MetadataRegistry registry = MetadataRegistry.getInstance();
+    long generation = registry.getGeneration();
+    Integer conceptId = registry.getConceptId(lookup);
+    if (conceptId != null) {
+      Concept cached = Context.getConceptService().getConcept(conceptId);
+      if (cached != null) {
+        return cached;
+      }
+    }
     Concept c = Context.getConceptService().getConceptByUuid(lookup);
     if (c == null) {
       c = Context.getConceptService().getConceptByName(lookup);
@@ -76,9 +93,19 @@ public class Metadata {
     if (c == null) {
       throw new ConfigurableMetadataLookupException("Unable to find Concept using key: " + lookup);
     }
+    registry.putConceptId(lookup, c.getConceptId(), generation);
     return c;
   }
 
+  /**
+   * @return the id of the Concept that matches the passed lookup, read from the {@link
+   *     MetadataRegistry} without loading the Concept once it is resolved
+   */
+  public static int getConceptId(String lookup) {
+    Integer conceptId = MetadataRegistry.getInstance().getConceptId(lookup);
+    return conceptId != null ? conceptId : getConcept(lookup).getConceptId();
+  }
+
   /**
    * @return the List of Concepts that matches the passed comma-separated list of concept lookups
    * @see Metadata#getConcept(String)
@@ -168,6 +195,15 @@ public class Metadata {
 
   /** @return the EncounterType that matches the passed uuid, name, or primary key id */
   public static EncounterType getEncounterType(String lookup) {
+    MetadataRegistry registry = MetadataRegistry.getInstance();
+    long generation = registry.getGeneration();
+    Integer encounterTypeId = registry.getEncounterTypeId(lookup);
+    if (encounterTypeId != null) {
+      EncounterType cached = Context.getEncounterService().getEncounterType(encounterTypeId);
+      if (cached != null) {
+        return cached;
+      }
+    }
     EncounterType et = Context.getEncounterService().getEncounterTypeByUuid(lookup);
     if (et == null) {
       et = Context.getEncounterService().getEncounterType(lookup);
@@ -183,10 +219,21 @@ public class Metadata {
       throw new ConfigurableMetadataLookupException(
           "Unable to find EncounterType using key: " + lookup);
     }
-
+    registry.putEncounterTypeId(lookup, et.getEncounterTypeId(), generation);
     return et;
   }
 
+  /**
+   * @return the id of the EncounterType that matches the passed lookup, read from the {@link
+   *     MetadataRegistry} without loading the EncounterType once it is resolved
+   */
+  public static int getEncounterTypeId(String lookup) {
+    Integer encounterTypeId = MetadataRegistry.getInstance().getEncounterTypeId(lookup);
+    return encounterTypeId != null
+        ? encounterTypeId
+        : getEncounterType(lookup).getEncounterTypeId();
+  }
+
   /**
    * @return the List of EncounterTypes that matches the passed comma-separated list of Encounter
    *     lookups
@@ -0,0 +1,256 @@
+/*
+ * The contents of this file are subject to the OpenMRS Public License
+ * Version 1.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ * http://license.openmrs.org
+ *
+ * Software distributed under the License is distributed on an "AS IS"
+ * basis, WITHOUT WARRANTY OF ANY KIND, either express or implied. See the
+ * License for the specific language governing rights and limitations
+ * under the License.
+ *
+ * Copyright (C) OpenMRS, LLC.  All Rights Reserved.
+ */
+package org.openmrs.module.eptsreports.metadata;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.GlobalProperty;
+import org.openmrs.api.GlobalPropertyListener;
+import org.openmrs.api.context.Context;
+
+/**
+ * Resolves the {@code eptsreports.*} global properties once and keeps the ids of the concepts and
+ * encounter types they point to, so the metadata getters do not hit the database on every call. The
+ * registry is invalidated when any {@code eptsreports.*} global property changes.
+ *
+ * <p>Every invalidation starts a new generation. What is resolved is only stored if no invalidation
+ * happened since the lookup started, so a lookup racing with a global property change can not write
+ * back an id resolved from the old value.
+ */
+public class MetadataRegistry implements GlobalPropertyListener {
+
+  public static final String GLOBAL_PROPERTY_PREFIX = "eptsreports.";
+
+  private static final Log log = LogFactory.getLog(MetadataRegistry.class);
+
+  private static final MetadataRegistry INSTANCE = new MetadataRegistry();
+
+  private volatile boolean enabled;
+
+  /** Guards the stores and invalidations of the generation */
+  private final Object lock = new Object();
+
+  private volatile long generation;
+
+  private volatile Map<String, String> globalProperties;
+
+  private final ConcurrentMap<String, Integer> conceptIds = new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<String, Integer> encounterTypeIds = new ConcurrentHashMap<>();
+
+  private MetadataRegistry() {}
+
+  public static MetadataRegistry getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Turns the registry on and registers it as a global property listener. Until then every lookup
+   * goes straight to the services.
+   */
+  public void start() {
+    invalidate();
+    Context.getAdministrationService().addGlobalPropertyListener(this);
+    enabled = true;
+  }
+
+  /** Turns the registry off and drops what was cached */
+  public void stop() {
+    enabled = false;
+    Context.getAdministrationService().removeGlobalPropertyListener(this);
+    invalidate();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Loads all the {@code eptsreports.*} global properties and resolves, in two queries, the
+   * concepts and encounter types whose uuid is the value of one of them
+   */
+  public void preload() {
+    if (!enabled) {
+      return;
+    }
+    long start = System.currentTimeMillis();
+    long loadedGeneration = generation;
+    Map<String, String> properties = getGlobalProperties();
+    Collection<String> values = properties.values();
+    Map<String, Integer> loadedConceptIds = loadIdsByUuid("concept", "concept_id", values);
+    Map<String, Integer> loadedEncounterTypeIds =
+        loadIdsByUuid("encounter_type", "encounter_type_id", values);
+    synchronized (lock) {
+      if (generation != loadedGeneration) {
+        log.info("Global properties changed while preloading, the metadata is resolved on demand");
+        return;
+      }
+      conceptIds.putAll(loadedConceptIds);
+      encounterTypeIds.putAll(loadedEncounterTypeIds);
+    }
+    log.info(
+        "Preloaded "
+            + properties.size()
+            + " global properties, "
+            + conceptIds.size()
+            + " concepts and "
+            + encounterTypeIds.size()
+            + " encounter types in "
+            + (System.currentTimeMillis() - start)
+            + "ms");
+  }
+
+  /**
+   * @param name the global property name
+   * @return the value of the global property, read from the registry for {@code eptsreports.*}
+   *     properties
+   */
+  public String getGlobalProperty(String name) {
+    if (enabled && name != null && name.startsWith(GLOBAL_PROPERTY_PREFIX)) {
+      String value = getGlobalProperties().get(name);
+      if (value != null) {
+        return value;
+      }
+    }
+    return Context.getAdministrationService().getGlobalProperty(name);
+  }
+
+  /**
+   * @param lookup the uuid, name, mapping or id used to find the concept
+   * @return the id of the concept previously resolved for the lookup, or null
+   */
+  public Integer getConceptId(String lookup) {
+    return !enabled || lookup == null ? null : conceptIds.get(lookup);
+  }
+
+  /**
+   * @param lookup the uuid, name or id used to find the encounter type
+   * @return the id of the encounter type previously resolved for the lookup, or null
+   */
+  public Integer getEncounterTypeId(String lookup) {
+    return !enabled || lookup == null ? null : encounterTypeIds.get(lookup);
+  }
+
+  /**
+   * @return the current generation, to be read before a lookup starts and given back when its
+   *     result is stored
+   */
+  public long getGeneration() {
+    return generation;
+  }
+
+  void putConceptId(String lookup, Integer conceptId, long lookupGeneration) {
+    put(conceptIds, lookup, conceptId, lookupGeneration);
+  }
+
+  void putEncounterTypeId(String lookup, Integer encounterTypeId, long lookupGeneration) {
+    put(encounterTypeIds, lookup, encounterTypeId, lookupGeneration);
+  }
+
+  private void put(Map<String, Integer> ids, String lookup, Integer id, long lookupGeneration) {
+    if (enabled && lookup != null && id != null) {
+      synchronized (lock) {
+        if (generation == lookupGeneration) {
+          ids.put(lookup, id);
+        }
+      }
+    }
+  }
+
+  /** Drops everything, the next lookups resolve the metadata again */
+  public void invalidate() {
+    synchronized (lock) {
+      generation++;
+      globalProperties = null;
+      conceptIds.clear();
+      encounterTypeIds.clear();
+    }
+  }
+
+  @Override
+  public boolean supportsPropertyName(String propertyName) {
+    return propertyName != null && propertyName.startsWith(GLOBAL_PROPERTY_PREFIX);
+  }
+
+  @Override
+  public void globalPropertyChanged(GlobalProperty newValue) {
+    log.debug("Global property " + newValue.getProperty() + " changed, invalidating metadata");
+    invalidate();
+  }
+
+  @Override
+  public void globalPropertyDeleted(String propertyName) {
+    log.debug("Global property " + propertyName + " deleted, invalidating metadata");
+    invalidate();
+  }
+
+  private Map<String, String> getGlobalProperties() {
+    Map<String, String> properties = globalProperties;
+    if (properties == null) {
+      long loadedGeneration = generation;
+      properties = new HashMap<>();
+      for (GlobalProperty gp :
+          Context.getAdministrationService().getGlobalPropertiesByPrefix(GLOBAL_PROPERTY_PREFIX)) {
+        if (gp.getPropertyValue() != null) {
+          properties.put(gp.getProperty(), gp.getPropertyValue());
+        }
+      }
+      properties = Collections.unmodifiableMap(properties);
+      synchronized (lock) {
+        if (generation == loadedGeneration) {
+          globalProperties = properties;
+        }
+      }
+    }
+    return properties;
+  }
+
+  private static Map<String, Integer> loadIdsByUuid(
+      String table, String idColumn, Collection<String> uuids) {
+    StringBuilder in = new StringBuilder();
+    for (String uuid : uuids) {
+      // only well formed uuids, other values are names, mappings or ids resolved on demand
+      if (uuid.matches("[0-9a-fA-F-]{36}")) {
+        in.append(in.length() == 0 ? "'" : ",'").append(uuid).append("'");
+      }
+    }
+    Map<String, Integer> ids = new HashMap<>();
+    if (in.length() == 0) {
+      return ids;
+    }
+    List<List<Object>> rows =
+        Context.getAdministrationService()
+            .executeSQL(
+                "SELECT uuid, "
+                    + idColumn
+                    + " FROM "
+                    + table
+                    + " WHERE retired = 0 AND uuid IN ("
+                    + in
+                    + ")",
+                true);
+    for (List<Object> row : rows) {
+      ids.put(StringUtils.trim(String.valueOf(row.get(0))), ((Number) row.get(1)).intValue());
+    }
+    return ids;
+  }
+}
@@ -16,7 +16,6 @@ package org.openmrs.module.eptsreports.metadata;
 import org.openmrs.Concept;
 import org.openmrs.EncounterType;
 import org.openmrs.Program;
-import org.openmrs.api.context.Context;
 import org.springframework.stereotype.Component;
 
 @Component("tbMetadata")
@@ -32,8 +31,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getLymphadenopathy() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.lymphadenopathyUuid");
+    String uuid = getGlobalProperty("eptsreports.lymphadenopathyUuid");
     return getConcept(uuid);
   }
 
@@ -47,9 +45,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCoughLastingMoraThan3Weeks() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.coughLastingMoraThan3WeeksUuid");
+    String uuid = getGlobalProperty("eptsreports.coughLastingMoraThan3WeeksUuid");
     return getConcept(uuid);
   }
 
@@ -63,9 +59,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getNightsWeatsLastingMoraThan3Weeks() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.nightsWeatsLastingMoraThan3WeeksUuid");
+    String uuid = getGlobalProperty("eptsreports.nightsWeatsLastingMoraThan3WeeksUuid");
     return getConcept(uuid);
   }
 
@@ -79,9 +73,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getFeverLastingMoraThan3Weeks() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.feverLastingMoraThan3WeeksUuid");
+    String uuid = getGlobalProperty("eptsreports.feverLastingMoraThan3WeeksUuid");
     return getConcept(uuid);
   }
 
@@ -95,9 +87,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getWeightLossOfMoreThan3KgInLastMonth() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.weightLossOfMoreThan3KgInLastMonthUuid");
+    String uuid = getGlobalProperty("eptsreports.weightLossOfMoreThan3KgInLastMonthUuid");
     return getConcept(uuid);
   }
 
@@ -111,9 +101,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCohabitantBeingTreatedForTB() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.cohabitantBeingTreatedForTBUuid");
+    String uuid = getGlobalProperty("eptsreports.cohabitantBeingTreatedForTBUuid");
     return getConcept(uuid);
   }
 
@@ -128,9 +116,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTBTreatmentPlanConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.tuberculosisTreatmentPlanConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.tuberculosisTreatmentPlanConceptUuid");
     return getConcept(uuid);
   }
 
@@ -144,9 +130,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getObservationTB() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.observationTBConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.observationTBConceptUuid");
     return getConcept(uuid);
   }
 
@@ -160,8 +144,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPulmonaryTB() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.pulmonaryTBUuid");
+    String uuid = getGlobalProperty("eptsreports.pulmonaryTBUuid");
     return getConcept(uuid);
   }
 
@@ -175,9 +158,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTBDrugTreatmentStartDate() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.tuberculosisTreatmentStartDateConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.tuberculosisTreatmentStartDateConceptUuid");
     return getConcept(uuid);
   }
 
@@ -191,8 +172,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTBGenexpertTestConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.TBGenexpertTestUuid");
+    String uuid = getGlobalProperty("eptsreports.TBGenexpertTestUuid");
     return getConcept(uuid);
   }
 
@@ -206,8 +186,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getCultureTest() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.cultureTestUuid");
+    String uuid = getGlobalProperty("eptsreports.cultureTestUuid");
     return getConcept(uuid);
   }
 
@@ -221,7 +200,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getAsthenia() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.astheniaUuid");
+    String uuid = getGlobalProperty("eptsreports.astheniaUuid");
     return getConcept(uuid);
   }
 
@@ -235,8 +214,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getActiveTBConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.activeTBConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.activeTBConceptUuid");
     return getConcept(uuid);
   }
 
@@ -250,7 +228,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTestTBLAM() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.testTBLAMUuid");
+    String uuid = getGlobalProperty("eptsreports.testTBLAMUuid");
     return getConcept(uuid);
   }
 
@@ -266,7 +244,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Program}
    */
   public Program getTBProgram() {
-    String uuid = Context.getAdministrationService().getGlobalProperty("eptsreports.tbProgramUuid");
+    String uuid = getGlobalProperty("eptsreports.tbProgramUuid");
     return getProgram(uuid);
   }
 
@@ -282,9 +260,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getTBLivroEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.tbLivroEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.tbLivroEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -298,9 +274,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getTBProcessoEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.tbProcessoEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.tbProcessoEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -314,9 +288,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getTBRastreioEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.tbRastreioEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.tbRastreioEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -330,8 +302,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTbScreeningConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.tbScreeningConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.tbScreeningConceptUuid");
     return getConcept(uuid);
   }
 
@@ -345,9 +316,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getResearchResultConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.researchResultForTbConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.researchResultForTbConceptUuid");
     return getConcept(uuid);
   }
 
@@ -361,8 +330,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getPositiveConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.positiveConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.positiveConceptUuid");
     return getConcept(uuid);
   }
 
@@ -376,8 +344,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getNegativeConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.negativeConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.negativeConceptUuid");
     return getConcept(uuid);
   }
 
@@ -391,9 +358,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept gettbDgrusTreatmentEndDateConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.tbDgrusTreatmentEndDateUuid");
+    String uuid = getGlobalProperty("eptsreports.tbDgrusTreatmentEndDateUuid");
     return getConcept(uuid);
   }
 
@@ -407,9 +372,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getHasTbSymptomsConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.hasTbSymptomsConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.hasTbSymptomsConceptUuid");
     return getConcept(uuid);
   }
 
@@ -423,8 +386,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getXRayChest() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.xrayChestConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.xrayChestConceptUuid");
     return getConcept(uuid);
   }
 
@@ -438,9 +400,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link EncounterType}
    */
   public EncounterType getRegimeTPTEncounterType() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.regimeTPTEncounterTypeUuid");
+    String uuid = getGlobalProperty("eptsreports.regimeTPTEncounterTypeUuid");
     return getEncounterType(uuid);
   }
 
@@ -454,8 +414,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getIsoniazidConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.isoniazidConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.isoniazidConceptUuid");
     return getConcept(uuid);
   }
 
@@ -469,9 +428,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTreatmentPrescribedConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.treatmentPrescribedConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.treatmentPrescribedConceptUuid");
     return getConcept(uuid);
   }
 
@@ -485,9 +442,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getIsoniazidePiridoxinaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.isoniazidePiridoxinaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.isoniazidePiridoxinaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -501,9 +456,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept get3HPPiridoxinaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.3HPPiridoxinaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.3HPPiridoxinaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -517,11 +470,15 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getRegimeTPTConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.regimeTPTConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.regimeTPTConceptUuid");
     return getConcept(uuid);
   }
 
+  /** @return the id of {@link #getRegimeTPTConcept()}, without loading the concept */
+  public int getRegimeTPTConceptId() {
+    return getConceptId(getGlobalProperty("eptsreports.regimeTPTConceptUuid"));
+  }
+
   /**
    * <b>concept_id = 23954</b>
    *
@@ -532,8 +489,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept get3HPConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.3HPConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.3HPConceptUuid");
     return getConcept(uuid);
   }
 
@@ -547,8 +503,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDtINHConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.dtINHConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.dtINHConceptUuid");
     return getConcept(uuid);
   }
 
@@ -562,9 +517,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTypeDispensationTPTConceptUuid() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.typeDispensationTPTConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.typeDispensationTPTConceptUuid");
     return getConcept(uuid);
   }
 
@@ -578,9 +531,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTreatmentFollowUpTPTConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.treatmentFollowUpTPTConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.treatmentFollowUpTPTConceptUuid");
     return getConcept(uuid);
   }
 
@@ -594,8 +545,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDT3HPConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.DT3HPConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.DT3HPConceptUuid");
     return getConcept(uuid);
   }
 
@@ -609,9 +559,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getDataEstadoDaProfilaxiaConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.dataEstadoDaProfilaxiaConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.dataEstadoDaProfilaxiaConceptUuid");
     return getConcept(uuid);
   }
 
@@ -625,8 +573,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTestXpertMtbUuidConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.testXpertMtbConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.testXpertMtbConceptUuid");
     return getConcept(uuid);
   }
 
@@ -640,9 +587,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getRifampinResistanceConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.rifampinResistanceConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.rifampinResistanceConceptUuid");
     return getConcept(uuid);
   }
 
@@ -656,9 +601,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getNotFoundTestResultConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.notFoundTestResultConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.notFoundTestResultConceptUuid");
     return getConcept(uuid);
   }
 
@@ -672,8 +615,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept get1HPConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.regime1HPConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.regime1HPConceptUuid");
     return getConcept(uuid);
   }
 
@@ -687,8 +629,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getLFXConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.regimeLFXConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.regimeLFXConceptUuid");
     return getConcept(uuid);
   }
 
@@ -702,9 +643,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getTbLamPosivityLvelConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.tbLamPositivityLevelConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.tbLamPositivityLevelConceptUuid");
     return getConcept(uuid);
   }
 
@@ -718,9 +657,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getExtraPulmonaryTbConcept() {
-    String uuid =
-        Context.getAdministrationService()
-            .getGlobalProperty("eptsreports.extraPulmonaryTbConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.extraPulmonaryTbConceptUuid");
     return getConcept(uuid);
   }
 
@@ -734,8 +671,7 @@ public class TbMetadata extends ProgramsMetadata {
    * @return {@link Concept}
    */
   public Concept getNotDoneConcept() {
-    String uuid =
-        Context.getAdministrationService().getGlobalProperty("eptsreports.noteDoneConceptUuid");
+    String uuid = getGlobalProperty("eptsreports.noteDoneConceptUuid");
     return getConcept(uuid);
   }
 }
@@ -17,6 +17,7 @@ package org.openmrs.module.eptsreports.reporting;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.reporting.queue.EptsReportQueue;
 import org.openmrs.module.eptsreports.reporting.reports.manager.EptsReportManager;
 import org.openmrs.module.eptsreports.reporting.utils.EptsReportUtils;
 import org.openmrs.module.reporting.ReportingConstants;
@@ -39,6 +40,7 @@ public class EptsReportInitializer {
       } else {
         // setup EPTS active reports
         EptsReportUtils.setupReportDefinition(reportManager);
+        EptsReportQueue.addReport(reportManager.getUuid());
         log.info("Setting up report " + reportManager.getName() + "...");
       }
     }
@@ -0,0 +1,108 @@
+/*
+ * The contents of this file are subject to the OpenMRS Public License
+ * Version 1.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ * http://license.openmrs.org
+ *
+ * Software distributed under the License is distributed on an "AS IS"
+ * basis, WITHOUT WARRANTY OF ANY KIND, either express or implied. See the
+ * License for the specific language governing rights and limitations
+ * under the License.
+ *
+ * Copyright (C) OpenMRS, LLC.  All Rights Reserved.
+ */
+package org.openmrs.module.eptsreports.reporting.cache;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openmrs.Location;
+import org.openmrs.module.eptsreports.reporting.library.queries.CommonQueries;
+import org.openmrs.module.eptsreports.reporting.library.queries.PatientSummaryQueries;
+import org.openmrs.module.eptsreports.reporting.profiler.EvaluationProfiler;
+import org.openmrs.module.reporting.common.DateUtil;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.querybuilder.SqlQueryBuilder;
+import org.openmrs.module.reporting.evaluation.service.EvaluationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Report run scoped index of the ART start date of every patient, as defined by {@link
+ * CommonQueries#InitialArtStartDateOverallQuery()}. The index is computed once per (end date,
+ * location) for all patients of the location and kept in the {@link EptsReportRunCache} of the
+ * report run, so every evaluator and calculation that needs the ART start date of a patient reads
+ * it from the same map.
+ *
+ * <p>When the {@link PatientSummaryTable} is enabled the index is read from it.
+ */
+@Component
+public class ArtStartDateIndex {
+
+  public static final String REGION = "artStartDate";
+
+  private final EvaluationService evaluationService;
+
+  private final CommonQueries commonQueries;
+
+  private final PatientSummaryQueries patientSummaryQueries;
+
+  private final PatientSummaryTable patientSummaryTable;
+
+  @Autowired
+  public ArtStartDateIndex(
+      EvaluationService evaluationService,
+      CommonQueries commonQueries,
+      PatientSummaryQueries patientSummaryQueries,
+      PatientSummaryTable patientSummaryTable) {
+    this.evaluationService = evaluationService;
+    this.commonQueries = commonQueries;
+    this.patientSummaryQueries = patientSummaryQueries;
+    this.patientSummaryTable = patientSummaryTable;
+  }
+
+  /**
+   * Returns the ART start date of every patient who started ART on or before the end date at the
+   * location
+   *
+   * @param endDate the end date, only the date part is used
+   * @param location the location
+   * @param context the evaluation context of the report run
+   * @return an unmodifiable map of patient id to ART start date
+   */
+  public Map<Integer, Date> getArtStartDates(
+      Date endDate, Location location, final EvaluationContext context) throws EvaluationException {
+    final Date onOrBefore = DateUtil.getStartOfDay(endDate);
+
+    return EptsReportRunCache.getInstance(context)
+        .get(
+            REGION,
+            DateUtil.formatDate(onOrBefore, "yyyy-MM-dd") + "|" + location.getLocationId(),
+            () -> load(onOrBefore, location, context));
+  }
+
+  private Map<Integer, Date> load(Date onOrBefore, Location location, EvaluationContext context)
+      throws EvaluationException {
+    String sql =
+        patientSummaryTable.isEnabled()
+            ? patientSummaryQueries.getArtStartDateQuery()
+            : commonQueries.InitialArtStartDateOverallQuery();
+    EvaluationProfiler.recordStatement(sql);
+    SqlQueryBuilder q = new SqlQueryBuilder(sql);
+    q.addParameter("endDate", onOrBefore);
+    q.addParameter("location", location);
+
+    // evaluated without a base cohort, the index is shared by all cohorts of the run
+    List<Object[]> results = evaluationService.evaluateToList(q, new EvaluationContext());
+
+    Map<Integer, Date> artStartDates = new HashMap<>(results.size());
+    for (Object[] row : results) {
+      Integer patientId = Integer.valueOf(String.valueOf(row[0]));
+      artStartDates.put(patientId, (Date) row[1]);
+    }
+    return Collections.unmodifiableMap(artStartDates);
+  }
+}
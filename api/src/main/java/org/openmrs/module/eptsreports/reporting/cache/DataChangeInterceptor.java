@@ -0,0 +1,98 @@
+package org.openmrs.module.eptsreports.reporting.cache;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.type.Type;
+import org.openmrs.GlobalProperty;
+import org.openmrs.OpenmrsData;
+import org.openmrs.module.eptsreports.EptsReportsConfig;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the patient data and metadata global properties of the module saved, changed or deleted
+ * through Hibernate since the application started. OpenMRS adds the Hibernate interceptors declared
+ * as beans by the modules to its session factory, so every change made through the API is counted,
+ * whatever the table.
+ *
+ * <p>The version returned by {@link #getVersion()} changes on every counted change and on every
+ * start of the application, so data changed while the application was down is not missed.
+ */
+@Component("eptsreports.DataChangeInterceptor")
+public class DataChangeInterceptor extends EmptyInterceptor {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final String STARTUP = UUID.randomUUID().toString();
+
+  private static final AtomicLong changes = new AtomicLong();
+
+  /** The global properties of the module that don't change the results of the reports */
+  private static final Set<String> SETTINGS =
+      new HashSet<>(
+          Arrays.asList(
+              EptsReportsConfig.GP_DATASET_EVALUATION_THREADS,
+              EptsReportsConfig.GP_PATIENT_SUMMARY_ENABLED,
+              EptsReportsConfig.GP_PATIENT_SUMMARY_WATERMARK,
+              EptsReportsConfig.GP_REPORT_RESULT_CACHE_ENABLED,
+              EptsReportsConfig.GP_LOCATION_EVALUATION_THREADS,
+              EptsReportsConfig.GP_PROFILER_ENABLED,
+              EptsReportsConfig.GP_REPORT_TIMEOUT_MINUTES,
+              EptsReportsConfig.GP_QUERY_TIMEOUT_SECONDS,
+              EptsReportsConfig.GP_REPORT_QUEUE_MAX_RUNS,
+              EptsReportsConfig.GP_REPORT_QUEUE_MAX_HEAVY_RUNS,
+              EptsReportsConfig.GP_REPORT_QUEUE_HEAVY_REPORTS));
+
+  /** @return a value that changes whenever counted data changes */
+  public static String getVersion() {
+    return STARTUP + ":" + changes.get();
+  }
+
+  @Override
+  public boolean onSave(
+      Object entity, Serializable id, Object[] state, String[] propertyNames, Type[] types) {
+    count(entity);
+    return false;
+  }
+
+  @Override
+  public boolean onFlushDirty(
+      Object entity,
+      Serializable id,
+      Object[] currentState,
+      Object[] previousState,
+      String[] propertyNames,
+      Type[] types) {
+    count(entity);
+    return false;
+  }
+
+  @Override
+  public void onDelete(
+      Object entity, Serializable id, Object[] state, String[] propertyNames, Type[] types) {
+    count(entity);
+  }
+
+  /**
+   * Counts the change of patient data (persons, patients, their names, identifiers and attributes,
+   * encounters, obs, programs...) and of the eptsreports global properties holding the metadata
+   * uuids the reports are built with. Metadata is left out, so saving report requests and designs
+   * does not count, and so are the other global properties and the settings of the module, e.g. the
+   * patient summary watermark moved by every refresh.
+   */
+  private static void count(Object entity) {
+    if (entity instanceof OpenmrsData
+        || entity instanceof GlobalProperty
+            && isMetadataProperty(((GlobalProperty) entity).getProperty())) {
+      changes.incrementAndGet();
+    }
+  }
+
+  private static boolean isMetadataProperty(String property) {
+    return property != null && property.startsWith("eptsreports.") && !SETTINGS.contains(property);
+  }
+}
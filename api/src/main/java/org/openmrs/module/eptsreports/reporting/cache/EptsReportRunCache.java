@@ -0,0 +1,374 @@
+/*
+ * The contents of this file are subject to the OpenMRS Public License
+ * Version 1.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ * http://license.openmrs.org
+ *
+ * Software distributed under the License is distributed on an "AS IS"
+ * basis, WITHOUT WARRANTY OF ANY KIND, either express or implied. See the
+ * License for the specific language governing rights and limitations
+ * under the License.
+ *
+ * Copyright (C) OpenMRS, LLC.  All Rights Reserved.
+ */
+package org.openmrs.module.eptsreports.reporting.cache;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.Cohort;
+import org.openmrs.OpenmrsObject;
+import org.openmrs.api.APIException;
+import org.openmrs.calculation.patient.PatientCalculationContext;
+import org.openmrs.module.eptsreports.reporting.profiler.EvaluationProfiler;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.parameter.Parameter;
+
+/**
+ * Holds values that are computed once and shared by every definition evaluated during the same
+ * report run. The instance lives in the reporting {@link EvaluationContext} cache, which is shared
+ * by all child contexts of a report evaluation, and is carried into calculation contexts so that
+ * calculations and the data definitions they evaluate see the same values.
+ *
+ * <p>Values are grouped by region (e.g. "artStartDate") and hit/miss counters are kept per region.
+ */
+public class EptsReportRunCache {
+
+  public static final String CACHE_KEY = "eptsreports.reportRunCache";
+
+  private static final Log log = LogFactory.getLog(EptsReportRunCache.class);
+
+  private final String id = UUID.randomUUID().toString();
+
+  private final ConcurrentMap<String, FutureTask<Object>> values = new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<String, AtomicLong> hits = new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<String, AtomicLong> misses = new ConcurrentHashMap<>();
+
+  private final Set<String> statements = ConcurrentHashMap.newKeySet();
+
+  private final List<Runnable> closeActions = new CopyOnWriteArrayList<>();
+
+  /** The run cache of the report run evaluated by the current thread, if any */
+  private static final ThreadLocal<EptsReportRunCache> current = new ThreadLocal<>();
+
+  /** Computes a value that is stored in the run cache */
+  public interface Loader<T> {
+    T load() throws EvaluationException;
+  }
+
+  /**
+   * Returns the run cache stored in the given reporting context, creating it if necessary
+   *
+   * @param context the reporting evaluation context
+   * @return the run cache
+   */
+  public static synchronized EptsReportRunCache getInstance(EvaluationContext context) {
+    EptsReportRunCache cache = (EptsReportRunCache) context.getFromCache(CACHE_KEY);
+    if (cache == null) {
+      cache = new EptsReportRunCache();
+      context.addToCache(CACHE_KEY, cache);
+    }
+    return cache;
+  }
+
+  /**
+   * Returns the run cache stored in the given calculation context, creating it if necessary
+   *
+   * @param context the calculation context
+   * @return the run cache
+   */
+  public static synchronized EptsReportRunCache getInstance(PatientCalculationContext context) {
+    EptsReportRunCache cache = (EptsReportRunCache) context.getFromCache(CACHE_KEY);
+    if (cache == null) {
+      cache = new EptsReportRunCache();
+      context.addToCache(CACHE_KEY, cache);
+    }
+    return cache;
+  }
+
+  /**
+   * Makes the run cache of a reporting context available to a calculation context
+   *
+   * @param from the reporting evaluation context
+   * @param to the calculation context
+   */
+  public static void propagate(EvaluationContext from, PatientCalculationContext to) {
+    to.addToCache(CACHE_KEY, getInstance(from));
+  }
+
+  /**
+   * Makes the run cache of a calculation context available to a reporting context
+   *
+   * @param from the calculation context
+   * @param to the reporting evaluation context
+   */
+  public static void propagate(PatientCalculationContext from, EvaluationContext to) {
+    to.addToCache(CACHE_KEY, getInstance(from));
+  }
+
+  /**
+   * Returns the value stored for the given region and key, computing it with the loader on the
+   * first request. Concurrent requests for the same key wait for a single computation.
+   *
+   * @param region the region, used to group the hit/miss counters
+   * @param key the key within the region
+   * @param loader computes the value when it is not cached yet
+   * @return the cached value
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String region, String key, final Loader<T> loader) throws EvaluationException {
+    String cacheKey = region + ":" + key;
+    FutureTask<Object> task = values.get(cacheKey);
+    if (task == null) {
+      FutureTask<Object> newTask = new FutureTask<>(loader::load);
+      task = values.putIfAbsent(cacheKey, newTask);
+      if (task == null) {
+        task = newTask;
+        counter(misses, region).incrementAndGet();
+        log.debug("Run cache miss for " + cacheKey);
+        task.run();
+      }
+    } else {
+      counter(hits, region).incrementAndGet();
+      EvaluationProfiler.recordCacheHit();
+      log.debug("Run cache hit for " + cacheKey);
+    }
+    try {
+      return (T) task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new EvaluationException("Interrupted while waiting for " + cacheKey, e);
+    } catch (ExecutionException e) {
+      values.remove(cacheKey, task);
+      if (e.getCause() instanceof EvaluationException) {
+        throw (EvaluationException) e.getCause();
+      }
+      throw new APIException("Unable to compute " + cacheKey, e.getCause());
+    }
+  }
+
+  /**
+   * Removes all values of a region, used when the underlying data is known to have changed
+   *
+   * @param region the region
+   */
+  public void invalidate(String region) {
+    values.keySet().removeIf(key -> key.startsWith(region + ":"));
+  }
+
+  /** @return a random id of the run, to name what the run writes to the database */
+  public String getId() {
+    return id;
+  }
+
+  public long getHits(String region) {
+    AtomicLong count = hits.get(region);
+    return count == null ? 0 : count.get();
+  }
+
+  public long getMisses(String region) {
+    AtomicLong count = misses.get(region);
+    return count == null ? 0 : count.get();
+  }
+
+  /**
+   * Makes the run cache of a context the run cache of the current thread, which records the
+   * statements the thread prepares until {@link #restore(EptsReportRunCache)} is called
+   *
+   * @param context the reporting evaluation context of the run
+   * @return the run cache the thread had before, to give back to {@link #restore}
+   */
+  public static EptsReportRunCache bind(EvaluationContext context) {
+    EptsReportRunCache previous = current.get();
+    current.set(getInstance(context));
+    return previous;
+  }
+
+  /**
+   * Gives the current thread back the run cache it had before {@link #bind(EvaluationContext)}
+   *
+   * @param previous the value returned by bind
+   */
+  public static void restore(EptsReportRunCache previous) {
+    if (previous == null) {
+      current.remove();
+    } else {
+      current.set(previous);
+    }
+  }
+
+  /** @return the run cache bound to the current thread, null if the thread runs no report */
+  public static EptsReportRunCache getCurrent() {
+    return current.get();
+  }
+
+  /**
+   * Registers an action to run when the report run ends, such as dropping a table written for the
+   * run
+   *
+   * @param action the action
+   */
+  public void onClose(Runnable action) {
+    closeActions.add(action);
+  }
+
+  /**
+   * Runs the actions registered with {@link #onClose(Runnable)}, latest first, once. Called by the
+   * report definition evaluator that bound the run, when the run ends. A failing action is logged
+   * and does not stop the others.
+   */
+  public void close() {
+    List<Runnable> actions = new ArrayList<>(closeActions);
+    closeActions.removeAll(actions);
+    for (int i = actions.size() - 1; i >= 0; i--) {
+      try {
+        actions.get(i).run();
+      } catch (RuntimeException e) {
+        log.warn("Unable to close the report run", e);
+      }
+    }
+  }
+
+  /**
+   * Records the text of a SQL statement prepared by the current thread in the run cache bound to
+   * it, if any. Called by {@link StatementInterceptor} for every statement Hibernate prepares.
+   *
+   * @param sql the statement text
+   */
+  public static void recordStatement(String sql) {
+    EptsReportRunCache cache = current.get();
+    if (cache != null) {
+      cache.statements.add(sql);
+    }
+  }
+
+  /** @return the number of distinct statement texts recorded during the run */
+  public int getDistinctStatementCount() {
+    return statements.size();
+  }
+
+  /**
+   * @return the hit and miss counters of every region, as "region.hits"/"region.misses", and the
+   *     number of distinct statements as "statements.distinct"
+   */
+  public Map<String, Long> getStatistics() {
+    Map<String, Long> statistics = new TreeMap<>();
+    for (Map.Entry<String, AtomicLong> e : hits.entrySet()) {
+      statistics.put(e.getKey() + ".hits", e.getValue().get());
+    }
+    for (Map.Entry<String, AtomicLong> e : misses.entrySet()) {
+      statistics.put(e.getKey() + ".misses", e.getValue().get());
+    }
+    statistics.put("statements.distinct", (long) statements.size());
+    return statistics;
+  }
+
+  /**
+   * Builds a cache key part identifying the base cohort of a context. The member ids are sorted and
+   * digested with SHA-256, so two different cohorts don't get the same key, unlike with the hash
+   * code of the set of ids, which is their sum.
+   *
+   * @param cohort the base cohort, may be null
+   * @return "*" for no base cohort, otherwise the size and digest of the member ids
+   */
+  public static String getCohortKey(Cohort cohort) {
+    if (cohort == null) {
+      return "*";
+    }
+    int[] ids = new int[cohort.getMemberIds().size()];
+    int i = 0;
+    for (Integer id : cohort.getMemberIds()) {
+      ids[i++] = id;
+    }
+    Arrays.sort(ids);
+    ByteBuffer bytes = ByteBuffer.allocate(ids.length * 4);
+    bytes.asIntBuffer().put(ids);
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes.array());
+      return ids.length + ":" + new BigInteger(1, digest).toString(16);
+    } catch (NoSuchAlgorithmException e) {
+      throw new APIException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * Builds the key of a definition evaluated in a context: the given key followed by the values of
+   * the parameters and the base cohort of the context
+   *
+   * @param key identifies the definition
+   * @param parameters the parameters of the definition
+   * @param context the evaluation context
+   * @return the key
+   */
+  public static String getEvaluationKey(
+      String key, List<Parameter> parameters, EvaluationContext context) {
+    StringBuilder evaluationKey = new StringBuilder(key);
+    for (Parameter parameter : parameters) {
+      evaluationKey
+          .append('|')
+          .append(parameter.getName())
+          .append('=')
+          .append(getValueKey(context.getParameterValue(parameter.getName())));
+    }
+    evaluationKey.append("|base=").append(getCohortKey(context.getBaseCohort()));
+    return evaluationKey.toString();
+  }
+
+  /**
+   * Builds a cache key part identifying a parameter value
+   *
+   * @param value the parameter value, may be null
+   * @return the time of dates, the id of OpenMRS objects, the keys of the elements of collections
+   *     and the string value of anything else
+   */
+  public static String getValueKey(Object value) {
+    if (value == null) {
+      return "";
+    }
+    if (value instanceof Date) {
+      return String.valueOf(((Date) value).getTime());
+    }
+    if (value instanceof OpenmrsObject) {
+      return String.valueOf(((OpenmrsObject) value).getId());
+    }
+    if (value instanceof Collection) {
+      List<String> keys = new ArrayList<>();
+      for (Object o : (Collection<?>) value) {
+        keys.add(getValueKey(o));
+      }
+      return "[" + StringUtils.join(keys, ",") + "]";
+    }
+    return value.toString();
+  }
+
+  private static AtomicLong counter(ConcurrentMap<String, AtomicLong> counters, String region) {
+    AtomicLong counter = counters.get(region);
+    if (counter == null) {
+      counters.putIfAbsent(region, new AtomicLong());
+      counter = counters.get(region);
+    }
+    return counter;
+  }
+}
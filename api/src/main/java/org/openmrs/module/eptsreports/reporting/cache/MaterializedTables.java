@@ -0,0 +1,126 @@
+package org.openmrs.module.eptsreports.reporting.cache;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.OpenmrsObject;
+import org.openmrs.api.APIException;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.api.EptsReportsService;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Materializes named intermediate results of a report run into indexed tables, so the subqueries
+ * they replace are computed once per run and later SQL can join the table instead.
+ *
+ * <p>A table is written the first time a run requests the name with the same parameter values, and
+ * is dropped when the run ends ({@link EptsReportRunCache#close()}). Tables are plain MEMORY
+ * tables, named after the run, so the parallel data set workers, each with its own connection, all
+ * read the same table. Only runs bound to the evaluating thread ({@link
+ * EptsReportRunCache#bind(EvaluationContext)}) end with a close, other evaluations get no table.
+ */
+@Component
+public class MaterializedTables {
+
+  public static final String REGION = "materialized";
+
+  /** The prefix of the table names, to tell the tables apart from the OpenMRS ones */
+  public static final String TABLE_PREFIX = "epts_mat_";
+
+  private static final Log log = LogFactory.getLog(MaterializedTables.class);
+
+  /**
+   * @param context the evaluation context
+   * @return true if the run of the context can have tables, which are then dropped when it ends
+   */
+  public boolean isAvailable(EvaluationContext context) {
+    EptsReportRunCache current = EptsReportRunCache.getCurrent();
+    return current != null && current == EptsReportRunCache.getInstance(context);
+  }
+
+  /**
+   * Returns the name of the table holding the patient ids of the query, writing it if this is the
+   * first request of the run for the same name and parameter values
+   *
+   * @param name the name of the intermediate result, letters, digits and underscores only
+   * @param query the query returning a patient_id column
+   * @param parameterValues the values of the named parameters used in the query
+   * @param context the evaluation context of the report run, see {@link #isAvailable}
+   * @return the table name
+   */
+  public String materialize(
+      String name,
+      final String query,
+      Map<String, Object> parameterValues,
+      EvaluationContext context)
+      throws EvaluationException {
+    if (!name.matches("\\w{1,30}")) {
+      throw new IllegalArgumentException("Invalid materialized table name " + name);
+    }
+    if (!isAvailable(context)) {
+      throw new IllegalStateException("No report run is bound to the current thread");
+    }
+    final Map<String, Object> parameters = new TreeMap<>();
+    StringBuilder key = new StringBuilder(name);
+    for (Map.Entry<String, Object> e : new TreeMap<>(parameterValues).entrySet()) {
+      parameters.put(e.getKey(), toSqlValue(e.getValue()));
+      key.append('|').append(e.getKey()).append('=');
+      key.append(EptsReportRunCache.getValueKey(e.getValue()));
+    }
+    final EptsReportRunCache run = EptsReportRunCache.getInstance(context);
+    final String table = TABLE_PREFIX + name + "_" + digest(run.getId() + "|" + key);
+    return run.get(
+        REGION,
+        key.toString(),
+        () -> {
+          final EptsReportsService service = Context.getService(EptsReportsService.class);
+          run.onClose(() -> service.dropMaterializedTable(table));
+          long start = System.currentTimeMillis();
+          int rows = service.materializePatientIds(table, query, parameters);
+          log.debug(
+              "Materialized "
+                  + rows
+                  + " patients into "
+                  + table
+                  + " in "
+                  + (System.currentTimeMillis() - start)
+                  + "ms");
+          return table;
+        });
+  }
+
+  private static Object toSqlValue(Object value) {
+    if (value instanceof OpenmrsObject) {
+      return ((OpenmrsObject) value).getId();
+    }
+    if (value instanceof Collection) {
+      List<Object> values = new ArrayList<>();
+      for (Object o : (Collection<?>) value) {
+        values.add(toSqlValue(o));
+      }
+      return values;
+    }
+    return value;
+  }
+
+  /** The first 16 hexadecimal digits of the SHA-256 digest of the text */
+  private static String digest(String text) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+      return String.format("%064x", new BigInteger(1, digest)).substring(0, 16);
+    } catch (NoSuchAlgorithmException e) {
+      throw new APIException("SHA-256 is not available", e);
+    }
+  }
+}
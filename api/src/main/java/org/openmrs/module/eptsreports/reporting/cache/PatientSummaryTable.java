@@ -0,0 +1,147 @@
+package org.openmrs.module.eptsreports.reporting.cache;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.EptsReportsConfig;
+import org.openmrs.module.eptsreports.api.EptsReportsService;
+import org.openmrs.module.eptsreports.reporting.library.queries.PatientSummaryQueries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintains the epts_patient_summary table. A refresh rewrites the rows of the patients with
+ * encounters, observations, programs or demographics created, changed or voided since the last
+ * refresh, whose time is kept in the {@link EptsReportsConfig#GP_PATIENT_SUMMARY_WATERMARK} global
+ * property, and a rebuild rewrites the rows of every patient.
+ *
+ * <p>Queries read the table instead of the raw records only when {@link
+ * EptsReportsConfig#GP_PATIENT_SUMMARY_ENABLED} is true and the table was built at least once.
+ *
+ * <p>The table holds the ART start date only, read by {@link ArtStartDateIndex}. The other facts of
+ * the TX_CURR and IIT cohorts (last pick-up, next scheduled pick-up, last consultation, last viral
+ * load, transfer out, death, suspension and pregnancy) and a query mode reading them are left to a
+ * follow-up.
+ */
+@Component
+public class PatientSummaryTable {
+
+  private static final Log log = LogFactory.getLog(PatientSummaryTable.class);
+
+  private static final String WATERMARK_FORMAT = "yyyy-MM-dd HH:mm:ss";
+
+  /** The number of patients whose rows are replaced in one transaction */
+  private static final int BATCH_SIZE = 1000;
+
+  private final PatientSummaryQueries patientSummaryQueries;
+
+  @Autowired
+  public PatientSummaryTable(PatientSummaryQueries patientSummaryQueries) {
+    this.patientSummaryQueries = patientSummaryQueries;
+  }
+
+  /** @return true if queries should read the table */
+  public boolean isEnabled() {
+    return Boolean.parseBoolean(
+            Context.getAdministrationService()
+                .getGlobalProperty(EptsReportsConfig.GP_PATIENT_SUMMARY_ENABLED))
+        && getWatermark() != null;
+  }
+
+  /** @return the time of the last refresh or rebuild, null if the table was never built */
+  public Date getWatermark() {
+    String value =
+        Context.getAdministrationService()
+            .getGlobalProperty(EptsReportsConfig.GP_PATIENT_SUMMARY_WATERMARK);
+    if (StringUtils.isBlank(value)) {
+      return null;
+    }
+    try {
+      return new SimpleDateFormat(WATERMARK_FORMAT).parse(value.trim());
+    } catch (ParseException e) {
+      log.warn(
+          "Invalid value "
+              + value
+              + " for "
+              + EptsReportsConfig.GP_PATIENT_SUMMARY_WATERMARK
+              + ", the table will be rebuilt");
+      return null;
+    }
+  }
+
+  /**
+   * Rewrites the rows of the patients changed since the watermark, or of every patient if the table
+   * was never built
+   *
+   * @return the number of rows written
+   */
+  public synchronized int refresh() {
+    Date since = getWatermark();
+    if (since == null) {
+      return rebuild();
+    }
+    return write(patientSummaryQueries.getChangedPatientsQuery(), since);
+  }
+
+  /**
+   * Rewrites the rows of every patient
+   *
+   * @return the number of rows written
+   */
+  public synchronized int rebuild() {
+    return write(patientSummaryQueries.getAllPatientsQuery(), null);
+  }
+
+  /**
+   * Replaces the rows of the patients returned by the query {@link #BATCH_SIZE} patients at a time.
+   * The rows of a batch are evaluated for the patients of the batch only and written in a
+   * transaction of their own. The watermark moves only once every batch is written, so the patients
+   * of a failed refresh are refreshed again.
+   */
+  private int write(String patientsQuery, Date since) {
+    long start = System.currentTimeMillis();
+    // records saved while the table is written are picked by the next refresh, which also takes
+    // the records of the second of the watermark as it is kept in whole seconds
+    Date now = new Date(start);
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("since", since);
+    parameters.put("endDate", now);
+    EptsReportsService service = Context.getService(EptsReportsService.class);
+
+    List<Integer> patientIds = service.getPatientIds(patientsQuery, parameters);
+    int written = 0;
+    for (int from = 0; from < patientIds.size(); from += BATCH_SIZE) {
+      List<Integer> batch =
+          new ArrayList<>(patientIds.subList(from, Math.min(from + BATCH_SIZE, patientIds.size())));
+      Map<String, Object> batchParameters = new HashMap<>(parameters);
+      batchParameters.put("patientIds", batch);
+      List<Object[]> rows =
+          service.getPatientSummaries(patientSummaryQueries.getSummaryQuery(), batchParameters);
+      written += service.writePatientSummaries(batch, rows);
+    }
+
+    Context.getAdministrationService()
+        .setGlobalProperty(
+            EptsReportsConfig.GP_PATIENT_SUMMARY_WATERMARK,
+            new SimpleDateFormat(WATERMARK_FORMAT).format(now));
+    log.info(
+        "Wrote "
+            + written
+            + " epts_patient_summary rows of "
+            + patientIds.size()
+            + " patients "
+            + (since == null ? "" : "changed since " + since + " ")
+            + "in "
+            + (System.currentTimeMillis() - start)
+            + "ms");
+    return written;
+  }
+}
@@ -0,0 +1,13 @@
+package org.openmrs.module.eptsreports.reporting.cache;
+
+import org.openmrs.api.context.Context;
+import org.openmrs.scheduler.tasks.AbstractTask;
+
+/** Scheduled task calling {@link PatientSummaryTable#rebuild()} */
+public class RebuildPatientSummaryTask extends AbstractTask {
+
+  @Override
+  public void execute() {
+    Context.getRegisteredComponents(PatientSummaryTable.class).get(0).rebuild();
+  }
+}
@@ -0,0 +1,338 @@
+package org.openmrs.module.eptsreports.reporting.cache;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.EptsReportsConfig;
+import org.openmrs.module.eptsreports.api.EptsReportsService;
+import org.openmrs.module.reporting.dataset.DataSet;
+import org.openmrs.module.reporting.dataset.DataSetColumn;
+import org.openmrs.module.reporting.dataset.DataSetRow;
+import org.openmrs.module.reporting.dataset.SimpleDataSet;
+import org.openmrs.module.reporting.dataset.definition.DataSetDefinition;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.parameter.Mapped;
+import org.openmrs.module.reporting.indicator.IndicatorResult;
+import org.openmrs.module.reporting.report.definition.ReportDefinition;
+import org.openmrs.module.reporting.report.manager.ReportManager;
+import org.openmrs.util.OpenmrsUtil;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the data sets of evaluated reports on disk, keyed by report uuid, report version and
+ * parameter values, so a report run again for the same period and location returns them instead of
+ * evaluating it. An entry is discarded once the data watermark taken when its evaluation started
+ * moved: patient data or the metadata global properties of the module were changed through the API
+ * ({@link DataChangeInterceptor}), rows were inserted in the patient data tables by any means
+ * ({@link EptsReportsService#getDataWatermark()}), or the application was restarted. Entries older
+ * than {@link #MAX_AGE_DAYS} days are discarded, and the oldest ones are deleted when the entries
+ * take more than {@link #MAX_SIZE_MB} MB.
+ *
+ * <p>Only the values are kept: indicator results become their numeric value, so the cached data
+ * sets render the same but can't be drilled down to the patients of an indicator. The cache is off
+ * unless {@link EptsReportsConfig#GP_REPORT_RESULT_CACHE_ENABLED} is true.
+ */
+@Component
+public class ReportResultCache {
+
+  private static final Log log = LogFactory.getLog(ReportResultCache.class);
+
+  private static final String DIRECTORY = "eptsreports" + File.separator + "results";
+
+  /** Entries older than this are discarded */
+  public static final int MAX_AGE_DAYS = 7;
+
+  /** The oldest entries are deleted when the entries take more than this */
+  public static final int MAX_SIZE_MB = 100;
+
+  /** @return true if report results are cached */
+  public boolean isEnabled() {
+    return "true"
+        .equalsIgnoreCase(
+            Context.getAdministrationService()
+                .getGlobalProperty(EptsReportsConfig.GP_REPORT_RESULT_CACHE_ENABLED, "false")
+                .trim());
+  }
+
+  /** @return the version of the data, to be taken before evaluating a report */
+  public String getDataWatermark() {
+    return DataChangeInterceptor.getVersion()
+        + "|"
+        + Context.getService(EptsReportsService.class).getDataWatermark();
+  }
+
+  /**
+   * Returns the cached data sets of a report evaluated with the same parameter values
+   *
+   * @param reportDefinition the report definition
+   * @param context the evaluation context
+   * @return the data sets, null if there is no valid cached entry
+   */
+  public Map<String, DataSet> get(ReportDefinition reportDefinition, EvaluationContext context) {
+    String key = getKey(reportDefinition, context);
+    if (key == null) {
+      return null;
+    }
+    File file = getFile(key);
+    if (!file.exists()) {
+      return null;
+    }
+    Entry entry;
+    try (InputStream in = new FileInputStream(file)) {
+      entry = Entry.read(in);
+    } catch (IOException | ClassNotFoundException e) {
+      log.warn("Could not read the cached results of " + key, e);
+      return null;
+    }
+    if (!key.equals(entry.key)) {
+      return null;
+    }
+    if (System.currentTimeMillis() - file.lastModified() > TimeUnit.DAYS.toMillis(MAX_AGE_DAYS)) {
+      log.debug("Discarding the cached results of " + key + ", they are too old");
+      file.delete();
+      return null;
+    }
+    if (!getDataWatermark().equals(entry.watermark)) {
+      log.debug("Discarding the cached results of " + key + ", the data changed");
+      file.delete();
+      return null;
+    }
+    log.info("Using the results of " + key + " cached on " + new Date(file.lastModified()));
+    return entry.toDataSets(reportDefinition, context);
+  }
+
+  /**
+   * Caches the data sets of a report
+   *
+   * @param reportDefinition the report definition
+   * @param context the evaluation context
+   * @param watermark the data watermark taken before the evaluation
+   * @param dataSets the evaluated data sets
+   */
+  public void put(
+      ReportDefinition reportDefinition,
+      EvaluationContext context,
+      String watermark,
+      Map<String, DataSet> dataSets) {
+    String key = getKey(reportDefinition, context);
+    if (key == null) {
+      return;
+    }
+    File file = getFile(key);
+    File temporary = new File(file.getPath() + "." + Thread.currentThread().getId() + ".tmp");
+    try {
+      try (OutputStream out = new FileOutputStream(temporary)) {
+        Entry.of(key, watermark, dataSets).write(out);
+      }
+      if (!temporary.renameTo(file)) {
+        file.delete();
+        if (!temporary.renameTo(file)) {
+          throw new IOException("Could not rename " + temporary + " to " + file);
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Could not cache the results of " + key, e);
+      temporary.delete();
+    }
+    evict(
+        file.getParentFile(),
+        System.currentTimeMillis(),
+        TimeUnit.DAYS.toMillis(MAX_AGE_DAYS),
+        MAX_SIZE_MB * 1024L * 1024L);
+  }
+
+  /**
+   * Deletes the files of the directory older than the maximum age, then the oldest ones until the
+   * files take at most the maximum size
+   *
+   * @param directory the directory of the entries
+   * @param now the current time
+   * @param maxAgeMillis the maximum age
+   * @param maxBytes the maximum size
+   */
+  public static void evict(File directory, long now, long maxAgeMillis, long maxBytes) {
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    Arrays.sort(files, Comparator.comparingLong(File::lastModified).reversed());
+    long size = 0;
+    for (File file : files) {
+      size += file.length();
+      if (now - file.lastModified() > maxAgeMillis || size > maxBytes) {
+        if (!file.delete()) {
+          log.warn("Could not delete " + file);
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the uuid, version and parameter values of the report, null if the version of the report
+   *     is unknown
+   */
+  private String getKey(ReportDefinition reportDefinition, EvaluationContext context) {
+    for (ReportManager reportManager : Context.getRegisteredComponents(ReportManager.class)) {
+      if (reportManager.getUuid().equals(reportDefinition.getUuid())) {
+        return EptsReportRunCache.getEvaluationKey(
+            reportDefinition.getUuid() + "|" + reportManager.getVersion(),
+            reportDefinition.getParameters(),
+            context);
+      }
+    }
+    return null;
+  }
+
+  private File getFile(String key) {
+    File directory = OpenmrsUtil.getDirectoryInApplicationDataDirectory(DIRECTORY);
+    return new File(
+        directory,
+        UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString() + ".ser.gz");
+  }
+
+  /** The values of the data sets of a report, the definitions are the ones of the report */
+  public static class Entry implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String key;
+
+    private final String watermark;
+
+    private final LinkedHashMap<String, Table> tables = new LinkedHashMap<>();
+
+    private Entry(String key, String watermark) {
+      this.key = key;
+      this.watermark = watermark;
+    }
+
+    public static Entry of(String key, String watermark, Map<String, DataSet> dataSets) {
+      Entry entry = new Entry(key, watermark);
+      for (Map.Entry<String, DataSet> e : dataSets.entrySet()) {
+        entry.tables.put(e.getKey(), Table.of(e.getValue()));
+      }
+      return entry;
+    }
+
+    public static Entry read(InputStream in) throws IOException, ClassNotFoundException {
+      try (ObjectInputStream objects = new ObjectInputStream(new GZIPInputStream(in))) {
+        return (Entry) objects.readObject();
+      }
+    }
+
+    public void write(OutputStream out) throws IOException {
+      try (ObjectOutputStream objects = new ObjectOutputStream(new GZIPOutputStream(out))) {
+        objects.writeObject(this);
+      }
+    }
+
+    public String getKey() {
+      return key;
+    }
+
+    public String getWatermark() {
+      return watermark;
+    }
+
+    /**
+     * @param reportDefinition the report definition, for the data set definitions
+     * @param context the evaluation context of the data sets
+     * @return the data sets
+     */
+    public Map<String, DataSet> toDataSets(
+        ReportDefinition reportDefinition, EvaluationContext context) {
+      Map<String, DataSet> dataSets = new LinkedHashMap<>();
+      for (Map.Entry<String, Table> e : tables.entrySet()) {
+        Mapped<? extends DataSetDefinition> mapped =
+            reportDefinition.getDataSetDefinitions().get(e.getKey());
+        DataSetDefinition definition = mapped == null ? null : mapped.getParameterizable();
+        dataSets.put(e.getKey(), e.getValue().toDataSet(definition, context));
+      }
+      return dataSets;
+    }
+  }
+
+  private static class Table implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> names = new ArrayList<>();
+
+    private final List<String> labels = new ArrayList<>();
+
+    private final List<Class<?>> dataTypes = new ArrayList<>();
+
+    private final List<Object[]> rows = new ArrayList<>();
+
+    static Table of(DataSet dataSet) {
+      Table table = new Table();
+      List<DataSetColumn> columns = dataSet.getMetaData().getColumns();
+      for (DataSetColumn column : columns) {
+        table.names.add(column.getName());
+        table.labels.add(column.getLabel());
+        table.dataTypes.add(column.getDataType());
+      }
+      for (DataSetRow row : dataSet) {
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+          values[i] = toValue(row.getColumnValue(columns.get(i)));
+        }
+        table.rows.add(values);
+      }
+      return table;
+    }
+
+    DataSet toDataSet(DataSetDefinition definition, EvaluationContext context) {
+      SimpleDataSet dataSet = new SimpleDataSet(definition, context);
+      List<DataSetColumn> columns = new ArrayList<>();
+      for (int i = 0; i < names.size(); i++) {
+        DataSetColumn column = new DataSetColumn(names.get(i), labels.get(i), dataTypes.get(i));
+        columns.add(column);
+        dataSet.getMetaData().addColumn(column);
+      }
+      for (Object[] values : rows) {
+        DataSetRow row = new DataSetRow();
+        for (int i = 0; i < values.length; i++) {
+          row.addColumnValue(columns.get(i), values[i]);
+        }
+        dataSet.addRow(row);
+      }
+      return dataSet;
+    }
+
+    private static Object toValue(Object value) {
+      if (value instanceof IndicatorResult) {
+        return ((IndicatorResult) value).getValue();
+      }
+      if (value == null
+          || value instanceof Number
+          || value instanceof String
+          || value instanceof Date
+          || value instanceof Boolean) {
+        return value;
+      }
+      return value.toString();
+    }
+  }
+}
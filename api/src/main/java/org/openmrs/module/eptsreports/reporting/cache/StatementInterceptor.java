@@ -0,0 +1,21 @@
+package org.openmrs.module.eptsreports.reporting.cache;
+
+import org.hibernate.EmptyInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the text of every statement Hibernate prepares in the {@link EptsReportRunCache} of the
+ * report run evaluated by the current thread, so its "statements.distinct" statistic counts the
+ * statements actually sent to the database, whoever built them.
+ */
+@Component("eptsreports.StatementInterceptor")
+public class StatementInterceptor extends EmptyInterceptor {
+
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public String onPrepareStatement(String sql) {
+    EptsReportRunCache.recordStatement(sql);
+    return sql;
+  }
+}
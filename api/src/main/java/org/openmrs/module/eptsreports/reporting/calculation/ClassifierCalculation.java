@@ -0,0 +1,55 @@
+package org.openmrs.module.eptsreports.reporting.calculation;
+
+import java.util.Collection;
+import java.util.Map;
+import org.openmrs.calculation.patient.PatientCalculationContext;
+import org.openmrs.calculation.result.CalculationResultMap;
+
+/**
+ * A calculation which puts each patient in one category, e.g. the key population or the target
+ * group of the patient. One evaluation of {@link #classify} serves every category, so the
+ * dimensions built with {@link
+ * org.openmrs.module.eptsreports.reporting.cohort.definition.ClassifierCohortDefinition} fetch
+ * their source data once per run instead of once per option.
+ *
+ * @param <C> the type of the categories
+ */
+public abstract class ClassifierCalculation<C> extends AbstractPatientCalculation {
+
+  /**
+   * Classifies the patients of a cohort
+   *
+   * @param cohort the patient ids
+   * @param parameterValues the calculation parameters, other than the category
+   * @param context the calculation context
+   * @return the category of each patient, the patients without a category are left out
+   */
+  public abstract Map<Integer, C> classify(
+      Collection<Integer> cohort,
+      Map<String, Object> parameterValues,
+      PatientCalculationContext context);
+
+  /** @return the calculation parameter holding the category to select in {@link #evaluate} */
+  public abstract String getCategoryParameter();
+
+  /**
+   * Selects one category of the classification, the category given by the {@link
+   * #getCategoryParameter()} parameter
+   *
+   * @return true for the patients of the category, false for the others
+   */
+  @Override
+  public CalculationResultMap evaluate(
+      Collection<Integer> cohort,
+      Map<String, Object> parameterValues,
+      PatientCalculationContext context) {
+    Map<Integer, C> categories = classify(cohort, parameterValues, context);
+    Object category = parameterValues.get(getCategoryParameter());
+    CalculationResultMap resultMap = new CalculationResultMap();
+    for (Integer pId : cohort) {
+      boolean equals = category != null && category.equals(categories.get(pId));
+      resultMap.put(pId, new BooleanResult(equals, this));
+    }
+    return resultMap;
+  }
+}
@@ -0,0 +1,349 @@
+/*
+ * The contents of this file are subject to the OpenMRS Public License Version
+ * 1.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://license.openmrs.org
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * Copyright (C) OpenMRS, LLC. All Rights Reserved.
+ */
+package org.openmrs.module.eptsreports.reporting.calculation.common;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.openmrs.calculation.patient.PatientCalculation;
+import org.openmrs.calculation.patient.PatientCalculationContext;
+import org.openmrs.calculation.result.CalculationResult;
+import org.openmrs.calculation.result.CalculationResultMap;
+import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
+
+/**
+ * A {@link CalculationResultMap} of the raw values of a data definition, kept in int keyed open
+ * addressing arrays instead of boxed keys and hash map entries. A value is wrapped in its {@link
+ * CalculationResult} (see {@link EptsCalculationUtils#toCalculationResult}) the first time its
+ * patient is read, so the results of the patients a calculation never looks at are never built.
+ *
+ * <p>{@link #get}, {@link #containsKey} and {@link #size} read the compact store. Any other
+ * operation first copies every result into the map itself and then behaves like a plain {@link
+ * CalculationResultMap}.
+ *
+ * <p>The values stay the objects returned by the data definition, obs included: the obs are not
+ * projected into columns. The obs data evaluators instead select the obs ids of their query and
+ * load only the obs they pick (see {@link
+ * org.openmrs.module.eptsreports.reporting.cohort.evaluator.JembiObsDefinitionEvaluator}).
+ */
+public class CompactCalculationResultMap extends CalculationResultMap {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final int FREE = Integer.MIN_VALUE;
+
+  private final transient PatientCalculation calculation;
+
+  private final transient PatientCalculationContext calculationContext;
+
+  private transient int[] keys;
+
+  private transient Object[] values;
+
+  private transient CalculationResult[] results;
+
+  private transient int count;
+
+  /**
+   * @param expectedSize the expected number of patients
+   * @param calculation the calculation (optional)
+   * @param calculationContext the calculation context
+   */
+  public CompactCalculationResultMap(
+      int expectedSize,
+      PatientCalculation calculation,
+      PatientCalculationContext calculationContext) {
+    this.calculation = calculation;
+    this.calculationContext = calculationContext;
+    allocate(capacityFor(expectedSize));
+  }
+
+  /**
+   * Stores the raw value of a patient, replacing any previous one
+   *
+   * @param patientId the patient id
+   * @param value the raw value, may be null
+   */
+  public void putValue(int patientId, Object value) {
+    if (patientId == FREE) {
+      throw new IllegalArgumentException("Invalid patient id " + patientId);
+    }
+    if (keys == null) {
+      super.put(
+          patientId,
+          EptsCalculationUtils.toCalculationResult(value, calculation, calculationContext));
+      return;
+    }
+    int slot = slot(patientId);
+    if (keys[slot] == FREE) {
+      if ((count + 1) * 2 > keys.length) {
+        rehash(keys.length * 2);
+        slot = slot(patientId);
+      }
+      keys[slot] = patientId;
+      count++;
+    }
+    values[slot] = value;
+    results[slot] = null;
+  }
+
+  @Override
+  public CalculationResult get(Object key) {
+    if (keys == null) {
+      return super.get(key);
+    }
+    if (!(key instanceof Integer)) {
+      return null;
+    }
+    int slot = slot((Integer) key);
+    if (keys[slot] == FREE) {
+      return null;
+    }
+    return result(slot);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    if (keys == null) {
+      return super.containsKey(key);
+    }
+    return key instanceof Integer && keys[slot((Integer) key)] != FREE;
+  }
+
+  @Override
+  public int size() {
+    return keys == null ? super.size() : count;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public CalculationResult getOrDefault(Object key, CalculationResult defaultValue) {
+    return containsKey(key) ? get(key) : defaultValue;
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    materialize();
+    return super.containsValue(value);
+  }
+
+  @Override
+  public CalculationResult put(Integer key, CalculationResult value) {
+    materialize();
+    return super.put(key, value);
+  }
+
+  @Override
+  public void putAll(Map<? extends Integer, ? extends CalculationResult> m) {
+    materialize();
+    super.putAll(m);
+  }
+
+  @Override
+  public CalculationResult putIfAbsent(Integer key, CalculationResult value) {
+    materialize();
+    return super.putIfAbsent(key, value);
+  }
+
+  @Override
+  public CalculationResult remove(Object key) {
+    materialize();
+    return super.remove(key);
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    materialize();
+    return super.remove(key, value);
+  }
+
+  @Override
+  public boolean replace(Integer key, CalculationResult oldValue, CalculationResult newValue) {
+    materialize();
+    return super.replace(key, oldValue, newValue);
+  }
+
+  @Override
+  public CalculationResult replace(Integer key, CalculationResult value) {
+    materialize();
+    return super.replace(key, value);
+  }
+
+  @Override
+  public CalculationResult computeIfAbsent(
+      Integer key, Function<? super Integer, ? extends CalculationResult> mappingFunction) {
+    materialize();
+    return super.computeIfAbsent(key, mappingFunction);
+  }
+
+  @Override
+  public CalculationResult computeIfPresent(
+      Integer key,
+      BiFunction<? super Integer, ? super CalculationResult, ? extends CalculationResult>
+          remappingFunction) {
+    materialize();
+    return super.computeIfPresent(key, remappingFunction);
+  }
+
+  @Override
+  public CalculationResult compute(
+      Integer key,
+      BiFunction<? super Integer, ? super CalculationResult, ? extends CalculationResult>
+          remappingFunction) {
+    materialize();
+    return super.compute(key, remappingFunction);
+  }
+
+  @Override
+  public CalculationResult merge(
+      Integer key,
+      CalculationResult value,
+      BiFunction<? super CalculationResult, ? super CalculationResult, ? extends CalculationResult>
+          remappingFunction) {
+    materialize();
+    return super.merge(key, value, remappingFunction);
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super Integer, ? super CalculationResult> action) {
+    materialize();
+    super.forEach(action);
+  }
+
+  @Override
+  public void replaceAll(
+      BiFunction<? super Integer, ? super CalculationResult, ? extends CalculationResult>
+          function) {
+    materialize();
+    super.replaceAll(function);
+  }
+
+  @Override
+  public void clear() {
+    keys = null;
+    values = null;
+    results = null;
+    count = 0;
+    super.clear();
+  }
+
+  @Override
+  public Set<Integer> keySet() {
+    materialize();
+    return super.keySet();
+  }
+
+  @Override
+  public Collection<CalculationResult> values() {
+    materialize();
+    return super.values();
+  }
+
+  @Override
+  public Set<Map.Entry<Integer, CalculationResult>> entrySet() {
+    materialize();
+    return super.entrySet();
+  }
+
+  @Override
+  public Object clone() {
+    materialize();
+    return super.clone();
+  }
+
+  /** Serializes the results as a plain map */
+  private Object writeReplace() {
+    materialize();
+    return this;
+  }
+
+  /** Copies every result of the compact store into the map and drops the store */
+  private void materialize() {
+    if (keys == null) {
+      return;
+    }
+    for (int slot = 0; slot < keys.length; slot++) {
+      if (keys[slot] != FREE) {
+        super.put(keys[slot], result(slot));
+      }
+    }
+    keys = null;
+    values = null;
+    results = null;
+    count = 0;
+  }
+
+  private CalculationResult result(int slot) {
+    CalculationResult result = results[slot];
+    if (result == null && values[slot] != null) {
+      result =
+          EptsCalculationUtils.toCalculationResult(values[slot], calculation, calculationContext);
+      results[slot] = result;
+      values[slot] = null;
+    }
+    return result;
+  }
+
+  /** @return the slot holding the key, or the free slot where it would be stored */
+  private int slot(int key) {
+    int mask = keys.length - 1;
+    int slot = mix(key) & mask;
+    while (keys[slot] != FREE && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void rehash(int capacity) {
+    int[] oldKeys = keys;
+    Object[] oldValues = values;
+    CalculationResult[] oldResults = results;
+    allocate(capacity);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != FREE) {
+        int slot = slot(oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+        results[slot] = oldResults[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new int[capacity];
+    Arrays.fill(keys, FREE);
+    values = new Object[capacity];
+    results = new CalculationResult[capacity];
+  }
+
+  /** @return the power of two keeping the load factor at or below one half */
+  private static int capacityFor(int expectedSize) {
+    int capacity = 2;
+    while (capacity < expectedSize * 2) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private static int mix(int key) {
+    int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
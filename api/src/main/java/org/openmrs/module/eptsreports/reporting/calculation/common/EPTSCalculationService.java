@@ -451,4 +451,19 @@ public class EPTSCalculationService {
 
     return EptsCalculationUtils.evaluateWithReporting(def, cohort, null, null, context);
   }
+
+  /**
+   * Starts a batch of {@link #getObs(Concept, EncounterType, Collection, Location, List,
+   * TimeQualifier, Date, Date, EPTSMetadataDatetimeQualifier, PatientCalculationContext)} requests
+   * over the same cohort and location, fetched together by {@link ObsBatch#fetch()}
+   *
+   * @param cohort
+   * @param location
+   * @param context
+   * @return ObsBatch
+   */
+  public ObsBatch newObsBatch(
+      Collection<Integer> cohort, Location location, PatientCalculationContext context) {
+    return new ObsBatch(cohort, location, context);
+  }
 }
@@ -0,0 +1,282 @@
+/*
+ * The contents of this file are subject to the OpenMRS Public License Version
+ * 1.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://license.openmrs.org
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * Copyright (C) OpenMRS, LLC. All Rights Reserved.
+ */
+package org.openmrs.module.eptsreports.reporting.calculation.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.openmrs.Concept;
+import org.openmrs.EncounterType;
+import org.openmrs.Location;
+import org.openmrs.Obs;
+import org.openmrs.calculation.patient.PatientCalculationContext;
+import org.openmrs.calculation.result.CalculationResult;
+import org.openmrs.calculation.result.CalculationResultMap;
+import org.openmrs.calculation.result.ListResult;
+import org.openmrs.calculation.result.ObsResult;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.JembiMultipleEncounterObsDefinition;
+import org.openmrs.module.eptsreports.reporting.utils.EPTSMetadataDatetimeQualifier;
+import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
+import org.openmrs.module.reporting.common.TimeQualifier;
+
+/**
+ * Collects several {@link EPTSCalculationService#getObs(Concept, EncounterType, Collection,
+ * Location, List, TimeQualifier, Date, Date, EPTSMetadataDatetimeQualifier,
+ * PatientCalculationContext)} requests over the same cohort and location and fetches them with one
+ * scan per {@link EPTSMetadataDatetimeQualifier}, instead of one query per request. The window of a
+ * scan spans the windows of its requests. The requests without a start or without an end date are
+ * scanned apart, so they don't open the window of the others.
+ *
+ * <p>Each call to {@link #getObs} returns an empty {@link CalculationResultMap} that is populated
+ * when {@link #fetch()} is called, with the same content the single request would have returned.
+ */
+public class ObsBatch {
+
+  private final Collection<Integer> cohort;
+
+  private final Location location;
+
+  private final PatientCalculationContext context;
+
+  private final List<ObsRequest> pending = new ArrayList<>();
+
+  private int requestCount;
+
+  private int scanCount;
+
+  ObsBatch(Collection<Integer> cohort, Location location, PatientCalculationContext context) {
+    this.cohort = cohort;
+    this.location = location;
+    this.context = context;
+  }
+
+  /**
+   * Registers an obs request, the returned map is populated by {@link #fetch()}
+   *
+   * @param question the obs concept
+   * @param encounterType the encounter type of the obs encounter
+   * @param answers the accepted coded values, or null for any value
+   * @param timeQualifier FIRST, LAST or ANY
+   * @param startDate the start of the window, or null
+   * @param endDate the end of the window, or null
+   * @param eptsMetadataDatetimeQualifier the date used for the window and the ordering
+   * @return the result map of the request
+   */
+  public CalculationResultMap getObs(
+      Concept question,
+      EncounterType encounterType,
+      List<Concept> answers,
+      TimeQualifier timeQualifier,
+      Date startDate,
+      Date endDate,
+      EPTSMetadataDatetimeQualifier eptsMetadataDatetimeQualifier) {
+    ObsRequest request =
+        new ObsRequest(
+            question,
+            encounterType,
+            answers,
+            timeQualifier,
+            startDate,
+            endDate,
+            eptsMetadataDatetimeQualifier);
+    pending.add(request);
+    requestCount++;
+    return request.result;
+  }
+
+  /** Fetches all the pending requests and populates their result maps */
+  public void fetch() {
+    // one scan per datetime qualifier and kind of window (bounded, without start, without end...)
+    Map<List<Object>, List<ObsRequest>> byScan = new LinkedHashMap<>();
+    for (ObsRequest request : pending) {
+      List<Object> key =
+          Arrays.<Object>asList(
+              request.datetimeQualifier, request.startDate == null, request.endDate == null);
+      List<ObsRequest> requests = byScan.get(key);
+      if (requests == null) {
+        requests = new ArrayList<>();
+        byScan.put(key, requests);
+      }
+      requests.add(request);
+    }
+    pending.clear();
+
+    for (List<ObsRequest> requests : byScan.values()) {
+      CalculationResultMap scan = scan(requests.get(0).datetimeQualifier, requests);
+      for (Integer patientId : cohort) {
+        List<Obs> observations = getObservations(scan.get(patientId));
+        for (ObsRequest request : requests) {
+          request.result.put(patientId, request.select(observations));
+        }
+      }
+    }
+  }
+
+  /** @return the number of requests registered in this batch */
+  public int getRequestCount() {
+    return requestCount;
+  }
+
+  /** @return the number of queries executed by this batch */
+  public int getScanCount() {
+    return scanCount;
+  }
+
+  private CalculationResultMap scan(
+      EPTSMetadataDatetimeQualifier datetimeQualifier, List<ObsRequest> requests) {
+    Set<Concept> questions = new LinkedHashSet<>();
+    Set<EncounterType> encounterTypes = new LinkedHashSet<>();
+    Date onOrAfter = requests.get(0).startDate;
+    Date onOrBefore = requests.get(0).endDate;
+    for (ObsRequest request : requests) {
+      questions.add(request.question);
+      encounterTypes.add(request.encounterType);
+      // the requests of a scan have either all or none of their start and end dates
+      if (onOrAfter != null && request.startDate.before(onOrAfter)) {
+        onOrAfter = request.startDate;
+      }
+      if (onOrBefore != null && request.endDate.after(onOrBefore)) {
+        onOrBefore = request.endDate;
+      }
+    }
+
+    JembiMultipleEncounterObsDefinition def = new JembiMultipleEncounterObsDefinition();
+    def.setName("batched obs");
+    def.setQuestions(new ArrayList<>(questions));
+    def.setEncounterTypes(new ArrayList<>(encounterTypes));
+    def.setLocation(location);
+    def.setOnOrAfter(onOrAfter);
+    def.setOnOrBefore(onOrBefore);
+    def.setEptsMetadataDatetimeQualifier(datetimeQualifier);
+
+    scanCount++;
+    return EptsCalculationUtils.evaluateWithReporting(def, cohort, null, null, context);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Obs> getObservations(CalculationResult result) {
+    List<Obs> observations = new ArrayList<>();
+    if (result instanceof ListResult) {
+      for (CalculationResult item : (List<CalculationResult>) result.getValue()) {
+        observations.add((Obs) item.getValue());
+      }
+    }
+    return observations;
+  }
+
+  private class ObsRequest {
+
+    private final Concept question;
+
+    private final EncounterType encounterType;
+
+    private final List<Concept> answers;
+
+    private final TimeQualifier timeQualifier;
+
+    private final Date startDate;
+
+    private final Date endDate;
+
+    private final EPTSMetadataDatetimeQualifier datetimeQualifier;
+
+    private final CalculationResultMap result = new CalculationResultMap();
+
+    ObsRequest(
+        Concept question,
+        EncounterType encounterType,
+        List<Concept> answers,
+        TimeQualifier timeQualifier,
+        Date startDate,
+        Date endDate,
+        EPTSMetadataDatetimeQualifier datetimeQualifier) {
+      this.question = question;
+      this.encounterType = encounterType;
+      this.answers = answers;
+      this.timeQualifier = timeQualifier;
+      this.startDate = startDate;
+      this.endDate = endDate;
+      this.datetimeQualifier = datetimeQualifier;
+    }
+
+    /**
+     * Selects the obs of this request from the scanned obs of a patient, using the same rules as
+     * the JembiEncounterObsDefinitionEvaluator: obs without a date come first when sorting, and
+     * among obs of the same date the first obs is the one with the lowest id and the last obs the
+     * one with the highest id. The scanned obs are in id order.
+     */
+    CalculationResult select(List<Obs> observations) {
+      List<Obs> matching = new ArrayList<>();
+      for (Obs obs : observations) {
+        if (matches(obs)) {
+          matching.add(obs);
+        }
+      }
+      if (matching.isEmpty()) {
+        return null;
+      }
+      if (timeQualifier == TimeQualifier.ANY) {
+        ListResult all = new ListResult();
+        for (Obs obs : matching) {
+          all.add(new ObsResult(obs, null, context));
+        }
+        return all;
+      }
+      Obs selected = matching.get(0);
+      for (Obs obs : matching) {
+        int compared = compareDates(getDate(obs), getDate(selected));
+        if (timeQualifier == TimeQualifier.FIRST ? compared < 0 : compared >= 0) {
+          selected = obs;
+        }
+      }
+      return new ObsResult(selected, null, context);
+    }
+
+    private boolean matches(Obs obs) {
+      if (!question.equals(obs.getConcept())
+          || !encounterType.equals(obs.getEncounter().getEncounterType())) {
+        return false;
+      }
+      if (answers != null && !answers.isEmpty() && !answers.contains(obs.getValueCoded())) {
+        return false;
+      }
+      Date date = getDate(obs);
+      if (startDate != null && (date == null || date.compareTo(startDate) < 0)) {
+        return false;
+      }
+      return endDate == null || (date != null && date.compareTo(endDate) <= 0);
+    }
+
+    private Date getDate(Obs obs) {
+      if (datetimeQualifier == EPTSMetadataDatetimeQualifier.VALUE_DATETIME) {
+        return obs.getValueDatetime();
+      }
+      if (datetimeQualifier == EPTSMetadataDatetimeQualifier.OBS_DATETIME) {
+        return obs.getObsDatetime();
+      }
+      return obs.getEncounter().getEncounterDatetime();
+    }
+
+    private int compareDates(Date d1, Date d2) {
+      if (d1 == null || d2 == null) {
+        return d1 == d2 ? 0 : (d1 == null ? -1 : 1);
+      }
+      return d1.compareTo(d2);
+    }
+  }
+}
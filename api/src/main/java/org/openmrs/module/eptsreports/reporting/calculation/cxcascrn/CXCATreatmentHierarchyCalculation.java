@@ -159,7 +159,7 @@ public class CXCATreatmentHierarchyCalculation extends AbstractPatientCalculatio
     Map<String, Integer> map = new HashMap<>();
     map.put("28", hivMetadata.getRastreioDoCancroDoColoUterinoEncounterType().getEncounterTypeId());
     map.put("2117", hivMetadata.getCryotherapyPerformedOnTheSameDayASViaConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     map.put("23967", hivMetadata.getCryotherapyDateConcept().getConceptId());
     map.put("2149", hivMetadata.getViaResultOnTheReferenceConcept().getConceptId());
     map.put("23974", hivMetadata.getCryotherapyConcept().getConceptId());
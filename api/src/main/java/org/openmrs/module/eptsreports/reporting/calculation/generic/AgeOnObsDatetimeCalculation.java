@@ -97,7 +97,7 @@ public class AgeOnObsDatetimeCalculation extends AbstractPatientCalculation {
     def.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1982", commonMetadata.getPregnantConcept().getConceptId());
     map.put("21187", hivMetadata.getRegArvSecondLine().getConceptId());
     map.put("1792", hivMetadata.getJustificativeToChangeArvTreatment().getConceptId());
@@ -93,8 +93,7 @@ public class AgeOnPreArtStartDateCalculation extends AbstractPatientCalculation
 
     Map<String, Integer> map = new HashMap<>();
     map.put("hivCareProgram", hivMetadata.getHIVCareProgram().getId());
-    map.put(
-        "masterCardEncounterType", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("masterCardEncounterType", hivMetadata.getMasterCardEncounterTypeId());
     map.put("pPreArtStartDate", hivMetadata.getPreArtStartDate().getConceptId());
 
     String query =
@@ -11,22 +11,27 @@
  */
 package org.openmrs.module.eptsreports.reporting.calculation.generic;
 
-import static org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils.latestCalculationMapDateValuePerPatient;
-
 import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
 import org.openmrs.Location;
+import org.openmrs.api.APIException;
+import org.openmrs.api.context.Context;
 import org.openmrs.calculation.patient.PatientCalculationContext;
 import org.openmrs.calculation.result.CalculationResult;
 import org.openmrs.calculation.result.CalculationResultMap;
 import org.openmrs.calculation.result.SimpleResult;
+import org.openmrs.module.eptsreports.reporting.cache.ArtStartDateIndex;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
 import org.openmrs.module.eptsreports.reporting.calculation.AbstractPatientCalculation;
-import org.openmrs.module.eptsreports.reporting.data.definition.InitialArtStartDateDataDefinition;
-import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
 import org.springframework.stereotype.Component;
 
-/** Calculates the date on which a patient first started ART */
+/**
+ * Calculates the date on which a patient first started ART, read from the {@link ArtStartDateIndex}
+ * of the report run
+ */
 @Component
 public class InitialArtStartDateCalculation extends AbstractPatientCalculation {
 
@@ -52,27 +57,22 @@ public class InitialArtStartDateCalculation extends AbstractPatientCalculation {
       throw new IllegalArgumentException(String.format("Parameter %s must be set", ON_OR_BEFORE));
     }
 
-    CalculationResultMap map = new CalculationResultMap();
-
-    InitialArtStartDateDataDefinition initialArtStartDateDefinition =
-        new InitialArtStartDateDataDefinition();
-    initialArtStartDateDefinition.setName("Patients with Initial date of ART initiation");
-    initialArtStartDateDefinition.setOnOrBefore(onOrBefore);
-    initialArtStartDateDefinition.setLocation(location);
-
-    CalculationResultMap ret =
-        EptsCalculationUtils.evaluateWithReporting(
-            initialArtStartDateDefinition, cohort, parameterValues, null, context);
-
-    CalculationResultMap latestArtStartDateMaps = latestCalculationMapDateValuePerPatient(ret);
+    // the index is kept in the run cache of the calculation context
+    EvaluationContext evaluationContext = new EvaluationContext();
+    EptsReportRunCache.propagate(context, evaluationContext);
+    Map<Integer, Date> artStartDates;
+    try {
+      artStartDates =
+          Context.getRegisteredComponents(ArtStartDateIndex.class)
+              .get(0)
+              .getArtStartDates(onOrBefore, location, evaluationContext);
+    } catch (EvaluationException e) {
+      throw new APIException(e);
+    }
 
+    CalculationResultMap map = new CalculationResultMap();
     for (Integer pId : cohort) {
-      Date actualArtStartDate = null;
-      CalculationResult latestDateResult = latestArtStartDateMaps.get(pId);
-      if (latestDateResult != null) {
-        actualArtStartDate = (Date) latestDateResult.getValue();
-      }
-      map.put(pId, new SimpleResult(actualArtStartDate, this));
+      map.put(pId, new SimpleResult(artStartDates.get(pId), this));
     }
     return map;
   }
@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.joda.time.LocalDate;
@@ -20,8 +21,7 @@ import org.openmrs.calculation.patient.PatientCalculationContext;
 import org.openmrs.calculation.result.CalculationResultMap;
 import org.openmrs.calculation.result.ListResult;
 import org.openmrs.module.eptsreports.metadata.HivMetadata;
-import org.openmrs.module.eptsreports.reporting.calculation.AbstractPatientCalculation;
-import org.openmrs.module.eptsreports.reporting.calculation.BooleanResult;
+import org.openmrs.module.eptsreports.reporting.calculation.ClassifierCalculation;
 import org.openmrs.module.eptsreports.reporting.calculation.common.EPTSCalculationService;
 import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
 import org.openmrs.module.reporting.common.ListMap;
@@ -29,7 +29,8 @@ import org.openmrs.module.reporting.data.person.definition.PersonAttributeDataDe
 import org.springframework.stereotype.Component;
 
 @Component
-public class KeyPopulationCalculation extends AbstractPatientCalculation {
+public class KeyPopulationCalculation
+    extends ClassifierCalculation<KeyPopulationCalculation.KeyPop> {
 
   public static final String TYPE = "type";
 
@@ -117,12 +118,12 @@ public class KeyPopulationCalculation extends AbstractPatientCalculation {
   }
 
   @Override
-  public CalculationResultMap evaluate(
+  public Map<Integer, KeyPop> classify(
       Collection<Integer> cohort,
       Map<String, Object> parameterValues,
       PatientCalculationContext context) {
 
-    CalculationResultMap resultMap = new CalculationResultMap();
+    Map<Integer, KeyPop> keyPops = new HashMap<>();
 
     Location location = (Location) context.getFromCache("location");
     Date onOrBefore = (Date) context.getFromCache("onOrBefore");
@@ -138,11 +139,7 @@ public class KeyPopulationCalculation extends AbstractPatientCalculation {
     CalculationResultMap getPrepSeguimento =
         getPrepSeguimento(cohort, context, location, onOrBefore);
 
-    KeyPop type = (KeyPop) parameterValues.get(TYPE);
-
     for (Integer pId : cohort) {
-      boolean equals = false;
-
       KeyPop patientKeyPop =
           getAssignedKeyPop(
               pId,
@@ -152,13 +149,17 @@ public class KeyPopulationCalculation extends AbstractPatientCalculation {
               getPrepInicial,
               getPrepSeguimento,
               onOrBefore);
-      if (type != null && type.equals(patientKeyPop)) {
-        equals = true;
+      if (patientKeyPop != null) {
+        keyPops.put(pId, patientKeyPop);
       }
-      resultMap.put(pId, new BooleanResult(equals, this));
     }
 
-    return resultMap;
+    return keyPops;
+  }
+
+  @Override
+  public String getCategoryParameter() {
+    return TYPE;
   }
 
   private KeyPop getAssignedKeyPop(
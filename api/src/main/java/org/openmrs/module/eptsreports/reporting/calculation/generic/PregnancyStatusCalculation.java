@@ -0,0 +1,151 @@
+package org.openmrs.module.eptsreports.reporting.calculation.generic;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.joda.time.LocalDate;
+import org.openmrs.EncounterType;
+import org.openmrs.calculation.patient.PatientCalculation;
+import org.openmrs.calculation.patient.PatientCalculationContext;
+import org.openmrs.calculation.result.CalculationResult;
+import org.openmrs.calculation.result.CalculationResultMap;
+import org.openmrs.module.eptsreports.reporting.calculation.ClassifierCalculation;
+import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
+import org.openmrs.module.eptsreports.reporting.utils.EptsReportConstants.PregnantOrBreastfeedingWomen;
+
+/**
+ * Resolves the pregnancy and breastfeeding status of the female patients: the latest pregnancy
+ * date, the latest breastfeeding date and the winning state, pregnant when the pregnancy is not
+ * older than the breastfeeding. Both dates are computed once for both states, the subclasses give
+ * the date calculations of their indicators.
+ */
+public abstract class PregnancyStatusCalculation
+    extends ClassifierCalculation<PregnantOrBreastfeedingWomen> {
+
+  public static final String STATE = "state";
+
+  public static final String ENCOUNTER_TYPE_LIST = "encounterTypeList";
+
+  /** @return the calculation of the latest pregnancy date */
+  protected abstract PatientCalculation getPregnantDateCalculation();
+
+  /** @return the calculation of the latest breastfeeding date */
+  protected abstract PatientCalculation getBreastfeedingDateCalculation();
+
+  /**
+   * Resolves the status of the female patients of a cohort
+   *
+   * @param cohort the patient ids
+   * @param parameterValues the calculation parameters, with the {@link #ENCOUNTER_TYPE_LIST}
+   * @param context the calculation context
+   * @return the status of each female patient with a pregnancy or breastfeeding date
+   */
+  @SuppressWarnings("unchecked")
+  public Map<Integer, PregnancyStatus> resolve(
+      Collection<Integer> cohort,
+      Map<String, Object> parameterValues,
+      PatientCalculationContext context) {
+    Map<String, Object> dateParameters = new HashMap<>(parameterValues);
+    dateParameters.put(
+        "encounterList", (List<EncounterType>) parameterValues.get(ENCOUNTER_TYPE_LIST));
+
+    CalculationResultMap pregnantDateMap =
+        calculate(getPregnantDateCalculation(), cohort, dateParameters, context);
+    CalculationResultMap breastfeedingDateMap =
+        calculate(getBreastfeedingDateCalculation(), cohort, dateParameters, context);
+    Set<Integer> femaleCohort = EptsCalculationUtils.female(cohort, context);
+
+    Map<Integer, PregnancyStatus> statuses = new HashMap<>();
+    for (Integer ptId : cohort) {
+      Date pregnancyDate = getDate(pregnantDateMap.get(ptId));
+      Date breastfeedingDate = getDate(breastfeedingDateMap.get(ptId));
+      PregnantOrBreastfeedingWomen state =
+          PregnancyStatus.getState(femaleCohort.contains(ptId), pregnancyDate, breastfeedingDate);
+      if (state != null) {
+        statuses.put(ptId, new PregnancyStatus(pregnancyDate, breastfeedingDate, state));
+      }
+    }
+    return statuses;
+  }
+
+  @Override
+  public Map<Integer, PregnantOrBreastfeedingWomen> classify(
+      Collection<Integer> cohort,
+      Map<String, Object> parameterValues,
+      PatientCalculationContext context) {
+    Map<Integer, PregnantOrBreastfeedingWomen> states = new HashMap<>();
+    for (Map.Entry<Integer, PregnancyStatus> entry :
+        resolve(cohort, parameterValues, context).entrySet()) {
+      states.put(entry.getKey(), entry.getValue().getState());
+    }
+    return states;
+  }
+
+  @Override
+  public String getCategoryParameter() {
+    return STATE;
+  }
+
+  private static Date getDate(CalculationResult result) {
+    if (result == null || result.getValue() == null) {
+      return null;
+    }
+    return new LocalDate(result.getValue()).toDate();
+  }
+
+  /** The pregnancy and breastfeeding status of a patient */
+  public static class PregnancyStatus {
+
+    private final Date pregnancyDate;
+
+    private final Date breastfeedingDate;
+
+    private final PregnantOrBreastfeedingWomen state;
+
+    public PregnancyStatus(
+        Date pregnancyDate, Date breastfeedingDate, PregnantOrBreastfeedingWomen state) {
+      this.pregnancyDate = pregnancyDate;
+      this.breastfeedingDate = breastfeedingDate;
+      this.state = state;
+    }
+
+    /**
+     * The winning state of a patient: pregnant when the pregnancy date is on or after the
+     * breastfeeding date, breastfeeding when the breastfeeding date is after the pregnancy date
+     *
+     * @param female whether the patient is female
+     * @param pregnancyDate the latest pregnancy date, may be null
+     * @param breastfeedingDate the latest breastfeeding date, may be null
+     * @return the state, null for male patients and patients without any date
+     */
+    public static PregnantOrBreastfeedingWomen getState(
+        boolean female, Date pregnancyDate, Date breastfeedingDate) {
+      if (!female) {
+        return null;
+      }
+      if (pregnancyDate != null
+          && (breastfeedingDate == null || breastfeedingDate.compareTo(pregnancyDate) <= 0)) {
+        return PregnantOrBreastfeedingWomen.PREGNANTWOMEN;
+      }
+      if (breastfeedingDate != null) {
+        return PregnantOrBreastfeedingWomen.BREASTFEEDINGWOMEN;
+      }
+      return null;
+    }
+
+    public Date getPregnancyDate() {
+      return pregnancyDate;
+    }
+
+    public Date getBreastfeedingDate() {
+      return breastfeedingDate;
+    }
+
+    public PregnantOrBreastfeedingWomen getState() {
+      return state;
+    }
+  }
+}
@@ -140,7 +140,7 @@ public class StartedArtMinusARTCareEnrollmentDateCalculationIMER1B
         String.format(
             sql,
             hivMetadata.getHIVCareProgram().getId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getPreArtStartDate().getConceptId()));
 
     Map<String, Object> params = new HashMap<>();
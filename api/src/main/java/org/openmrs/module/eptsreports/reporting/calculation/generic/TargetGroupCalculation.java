@@ -8,8 +8,7 @@ import org.openmrs.calculation.result.CalculationResultMap;
 import org.openmrs.calculation.result.ListResult;
 import org.openmrs.module.eptsreports.metadata.CommonMetadata;
 import org.openmrs.module.eptsreports.metadata.HivMetadata;
-import org.openmrs.module.eptsreports.reporting.calculation.AbstractPatientCalculation;
-import org.openmrs.module.eptsreports.reporting.calculation.BooleanResult;
+import org.openmrs.module.eptsreports.reporting.calculation.ClassifierCalculation;
 import org.openmrs.module.eptsreports.reporting.calculation.common.EPTSCalculationService;
 import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
 import org.openmrs.module.reporting.common.ListMap;
@@ -17,7 +16,8 @@ import org.openmrs.module.reporting.data.person.definition.PersonAttributeDataDe
 import org.springframework.stereotype.Component;
 
 @Component
-public class TargetGroupCalculation extends AbstractPatientCalculation {
+public class TargetGroupCalculation
+    extends ClassifierCalculation<TargetGroupCalculation.TargetGroup> {
 
   public static final String TIPO = "type";
 
@@ -107,12 +107,12 @@ public class TargetGroupCalculation extends AbstractPatientCalculation {
   }
 
   @Override
-  public CalculationResultMap evaluate(
+  public Map<Integer, TargetGroup> classify(
       Collection<Integer> cohort,
       Map<String, Object> parameterValues,
       PatientCalculationContext context) {
 
-    CalculationResultMap resultMap = new CalculationResultMap();
+    Map<Integer, TargetGroup> targetGroups = new HashMap<>();
 
     Location location = (Location) context.getFromCache("location");
     Date onOrBefore = (Date) context.getFromCache("onOrBefore");
@@ -125,21 +125,21 @@ public class TargetGroupCalculation extends AbstractPatientCalculation {
     CalculationResultMap getPrepSeguimento =
         getPrepSeguimento(cohort, context, location, onOrAfter, onOrBefore);
 
-    TargetGroup type = (TargetGroup) parameterValues.get(TIPO);
-
     for (Integer pId : cohort) {
-      boolean equals = false;
-
       TargetGroup patientTargetGroup =
           getAssignedTargetGroup(
               pId, personAttribute, getPrepInicial, getPrepSeguimento, onOrBefore);
-      if (type != null && type.equals(patientTargetGroup)) {
-        equals = true;
+      if (patientTargetGroup != null) {
+        targetGroups.put(pId, patientTargetGroup);
       }
-      resultMap.put(pId, new BooleanResult(equals, this));
     }
 
-    return resultMap;
+    return targetGroups;
+  }
+
+  @Override
+  public String getCategoryParameter() {
+    return TIPO;
   }
 
   private TargetGroup getAssignedTargetGroup(
@@ -24,6 +24,7 @@ import org.openmrs.module.eptsreports.metadata.TbMetadata;
 import org.openmrs.module.eptsreports.reporting.calculation.AbstractPatientCalculation;
 import org.openmrs.module.eptsreports.reporting.calculation.BooleanResult;
 import org.openmrs.module.eptsreports.reporting.calculation.common.EPTSCalculationService;
+import org.openmrs.module.eptsreports.reporting.calculation.common.ObsBatch;
 import org.openmrs.module.eptsreports.reporting.utils.EPTSMetadataDatetimeQualifier;
 import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
 import org.openmrs.module.reporting.common.TimeQualifier;
@@ -112,6 +113,8 @@ public class CompletedIsoniazidProphylaticTreatmentCalculation extends AbstractP
       Concept c23987 = hivMetadata.getPatientTreatmentFollowUp();
       Concept c165308 = tbMetadata.getDataEstadoDaProfilaxiaConcept();
 
+      ObsBatch tptObs = ePTSCalculationService.newObsBatch(cohort, location, context);
+
       /** ----- all patients who started IPT in the previous reporting period ---- */
       // I.
       CalculationResultMap startProfilaxiaObservations =
@@ -141,258 +144,198 @@ public class CompletedIsoniazidProphylaticTreatmentCalculation extends AbstractP
       // during the previous period
 
       CalculationResultMap regimeTPT1stPickUpPreviousPeriodMap =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c656, c23982),
               TimeQualifier.FIRST,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       CalculationResultMap regimeTPT1stPickUpPreviousPeriodMap2 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23987,
               e60,
-              cohort,
-              location,
               Arrays.asList(c1257),
               TimeQualifier.FIRST,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       CalculationResultMap exclisionRegimeTPT1stPickUpPreviousPeriodMap =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c656, c23982),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -13),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       // II new
       CalculationResultMap anyIsoniazidaPiridoxina =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c656, c23982),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       CalculationResultMap anyIsoniazidaPiridoxina2 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23987,
               e60,
-              cohort,
-              location,
               Arrays.asList(c1256, c1705),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       CalculationResultMap firstINHDateMap2 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23987,
               e60,
-              cohort,
-              location,
               Arrays.asList(c1257),
               TimeQualifier.FIRST,
               onOrAfter,
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       CalculationResultMap notInINHDateMap =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c656, c23982),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -7),
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       CalculationResultMap notInINHDateMap2 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e6,
-              cohort,
-              location,
               Arrays.asList(c6128),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -7),
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       CalculationResultMap notInINHDateMap3 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e9,
-              cohort,
-              location,
               Arrays.asList(c6128),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -7),
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       CalculationResultMap notInINHDateMap4 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e53,
-              cohort,
-              location,
               Arrays.asList(c6128),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -7),
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       /** ------ who completed IPT treatment during the reporting period--- */
       // V
       CalculationResultMap endProfilaxiaObservations6 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c6129,
               e6,
-              cohort,
-              location,
               null,
               TimeQualifier.LAST,
               null,
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap endProfilaxiaObservations53 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c6129,
               e53,
-              cohort,
-              location,
               null,
               TimeQualifier.LAST,
               null,
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.VALUE_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.VALUE_DATETIME);
       CalculationResultMap endProfilaxiaObservations9 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c6129,
               e9,
-              cohort,
-              location,
               null,
               TimeQualifier.LAST,
               null,
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap notInINHDateMap5 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e53,
-              cohort,
-              location,
               null,
               TimeQualifier.ANY,
               null,
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap lastProfilaxiaTPTWithINHOn53Map =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e53,
-              cohort,
-              location,
               Arrays.asList(c656),
               TimeQualifier.LAST,
               null,
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap anyProfilaxiaTPTWithINHOn6Map =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e6,
-              cohort,
-              location,
               Arrays.asList(c656),
               TimeQualifier.ANY,
               null,
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap anyProfilaxiaTPTWithINHOn9Map =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e9,
-              cohort,
-              location,
               Arrays.asList(c656),
               TimeQualifier.ANY,
               null,
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap fimEstadoProfilaxiaOn6Map =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c165308,
               e6,
-              cohort,
-              location,
               Arrays.asList(c1267),
               TimeQualifier.ANY,
               null,
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap inicioOrContinuaEstadoProfilaxiaOn6Map =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c165308,
               e6,
-              cohort,
-              location,
               Arrays.asList(c1256, c1257),
               TimeQualifier.ANY,
               null,
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap inicioOrContinuaEstadoProfilaxiaOn9Map =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c165308,
               e9,
-              cohort,
-              location,
               Arrays.asList(c1256, c1257),
               TimeQualifier.ANY,
               null,
               onOrBefore,
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       // VI
       CalculationResultMap completedDrugsObservations =
           ePTSCalculationService.getObs(
@@ -423,554 +366,424 @@ public class CompletedIsoniazidProphylaticTreatmentCalculation extends AbstractP
       // IX
       // iptstartdate  + 7m <= iptstartdate
       CalculationResultMap filtMap1 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c656),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap filtMap2 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23986,
               e60,
-              cohort,
-              location,
               Arrays.asList(c1098),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap filtMap3 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23982),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap filtMap4 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23986,
               e60,
-              cohort,
-              location,
               Arrays.asList(c1098),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       // X
       CalculationResultMap dtINHMap1 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c6122,
               e6,
-              cohort,
-              location,
               Arrays.asList(c1256),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap dtINHMap2 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c1719,
               e6,
-              cohort,
-              location,
               Arrays.asList(c23955),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap dtINHMap3 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c6122,
               e6,
-              cohort,
-              location,
               Arrays.asList(c1257),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap dtINHMap4 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c1719,
               e6,
-              cohort,
-              location,
               Arrays.asList(c23955),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap anyProfilaxiaTPTWithINHOn6Map2 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e6,
-              cohort,
-              location,
               Arrays.asList(c656),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap inicioOrContinuaEstadoProfilaxiaOn6Map2 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c165308,
               e6,
-              cohort,
-              location,
               Arrays.asList(c1256, c1257),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       // XI
       CalculationResultMap dfiltdtINHMap1 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c656),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap dfiltdtINHMap2 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23986,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23720),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap dfiltdtINHMap3 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23982),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap dfiltdtINHMap4 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23986,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23720),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       // XII
       CalculationResultMap atLeast3FichaClínicaINHMap1 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c6122,
               e6,
-              cohort,
-              location,
               Arrays.asList(c1256),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atLeast3FichaClínicaINHMap2 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c6122,
               e6,
-              cohort,
-              location,
               Arrays.asList(c1257),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atLeast3FichaClínicaINHMap3 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c1719,
               e6,
-              cohort,
-              location,
               null,
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap exclusionAtLeast3FichaClínicaINHMap3 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c1719,
               e6,
-              cohort,
-              location,
               Arrays.asList(c23955),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atLeast3FichaClínicaINHMap4 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c6122,
               e6,
-              cohort,
-              location,
               Arrays.asList(c1256),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atLeast3FichaClínicaINHMap5 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c6122,
               e6,
-              cohort,
-              location,
               Arrays.asList(c1257),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atLeast3FichaClínicaINHMap6 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c1719,
               e6,
-              cohort,
-              location,
               Arrays.asList(c23955),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       // XIII
 
       CalculationResultMap atLeast3FILTINHMensal1FILTDTINHMap1 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c656),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atLeast3FILTINHMensal1FILTDTINHMap2 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23986,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23720),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atLeast3FILTINHMensal1FILTDTINHMap3 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23982),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atLeast3FILTINHMensal1FILTDTINHMap4 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23986,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23720),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atLeast3FILTINHMensal1FILTDTINHMap5 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c656),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atLeast3FILTINHMensal1FILTDTINHMap6 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23986,
               e60,
-              cohort,
-              location,
               Arrays.asList(c1098),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atLeast3FILTINHMensal1FILTDTINHMap7 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23982),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atLeast3FILTINHMensal1FILTDTINHMap8 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23986,
               e60,
-              cohort,
-              location,
               Arrays.asList(c1098),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atLeast3FILTINHMensal1FILTDTINHMap9 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e6,
-              cohort,
-              location,
               Arrays.asList(c656),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap inicioOrContinuaEstadoProfilaxiaOn6Map3 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c165308,
               e6,
-              cohort,
-              location,
               Arrays.asList(c1256, c1257),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, 1),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       /** START and END 3HP Treatment */
 
       // I
 
       CalculationResultMap artListTbPrevList3HPPreviousPeriodMap =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c1719,
               e6,
-              cohort,
-              location,
               Arrays.asList(c23954),
               TimeQualifier.FIRST,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       CalculationResultMap exclucsionAartListTbPrevList3HPPreviousPeriodMap =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c1719,
               e6,
-              cohort,
-              location,
               Arrays.asList(c23954),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -12),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       // II
       CalculationResultMap regimeTPT3HPMap =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23954, c23984),
               TimeQualifier.FIRST,
               DateUtils.addMonths(onOrAfter, -6),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       CalculationResultMap exclusionregimeTPT3HPMap =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c1719,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23954),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -10),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       // III
       CalculationResultMap atleast1FILT3HPTrimestralMa1 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23954),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -10),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atleast1FILT3HPTrimestralMa2 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23986,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23720),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -10),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atleast1FILT3HPTrimestralMa3 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23984),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -10),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atleast1FILT3HPTrimestralMa4 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23986,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23720),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -10),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       // part 2 from  III
       CalculationResultMap atleast3FILTS3HPMensal1 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23954),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -10),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       CalculationResultMap atleast3FILTS3HPMensal2 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23986,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23720),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -10),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atleast3FILTS3HPMensal3 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23985,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23984),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -10),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
       CalculationResultMap atleast3FILTS3HPMensal4 =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c23986,
               e60,
-              cohort,
-              location,
               Arrays.asList(c23720),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -10),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
 
       // IV
       CalculationResultMap atLeast3FichaClínicaMastercard3HPUntil4MonthMap =
-          ePTSCalculationService.getObs(
+          tptObs.getObs(
               c1719,
               e6,
-              cohort,
-              location,
               Arrays.asList(c23954),
               TimeQualifier.ANY,
               DateUtils.addMonths(onOrAfter, -10),
               DateUtils.addMonths(onOrBefore, -6),
-              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
-              context);
+              EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
+
+      tptObs.fetch();
 
       for (Integer patientId : cohort) {
         // ipt start date section
@@ -1,6 +1,5 @@
 package org.openmrs.module.eptsreports.reporting.calculation.rtt;
 
-import java.text.SimpleDateFormat;
 import java.util.*;
 import org.apache.commons.lang.time.DateUtils;
 import org.apache.commons.text.StringSubstitutor;
@@ -10,32 +9,35 @@ import org.openmrs.Location;
 import org.openmrs.api.context.Context;
 import org.openmrs.calculation.patient.PatientCalculationContext;
 import org.openmrs.calculation.result.CalculationResultMap;
-import org.openmrs.calculation.result.SimpleResult;
 import org.openmrs.module.eptsreports.metadata.CommonMetadata;
 import org.openmrs.module.eptsreports.metadata.HivMetadata;
-import org.openmrs.module.eptsreports.reporting.calculation.AbstractPatientCalculation;
+import org.openmrs.module.eptsreports.reporting.calculation.ClassifierCalculation;
 import org.openmrs.module.eptsreports.reporting.library.dimensions.PLHIVDays;
+import org.openmrs.module.eptsreports.reporting.profiler.EvaluationProfiler;
 import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
+import org.openmrs.module.eptsreports.reporting.utils.queries.QueryTemplates;
+import org.openmrs.module.reporting.common.DateUtil;
 import org.openmrs.module.reporting.data.patient.definition.SqlPatientDataDefinition;
 import org.openmrs.module.reporting.evaluation.parameter.Parameter;
 import org.springframework.stereotype.Component;
 
 @Component
-public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculation {
+public class ReturnedDateIITDateDaysCalculation extends ClassifierCalculation<PLHIVDays> {
 
   private final int YEAR_DAYS = 365;
   private final String ON_OR_AFTER = "onOrAfter";
   private final String ON_OR_BEFORE = "onOrBefore";
   private final String LOCATION = "location";
+  private final String END_DATE = "endDate";
   private final String PERIOD = "period";
 
   @Override
-  public CalculationResultMap evaluate(
+  public Map<Integer, PLHIVDays> classify(
       Collection<Integer> cohort,
       Map<String, Object> parameterValues,
       PatientCalculationContext context) {
 
-    CalculationResultMap calculationResultMap = new CalculationResultMap();
+    Map<Integer, PLHIVDays> periods = new HashMap<>();
 
     Date onOrAfter = (Date) context.getFromCache(ON_OR_AFTER);
     Date onOrBefore = (Date) context.getFromCache(ON_OR_BEFORE);
@@ -54,8 +56,6 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
         getOldestDateForPatientWhoReturned(
             cohort, context, hivMetadata, location, onOrAfter, onOrBefore);
 
-    PLHIVDays period = (PLHIVDays) parameterValues.get(PERIOD);
-
     for (Integer pId : cohort) {
 
       Date a = EptsCalculationUtils.resultForPatient(mostRecent, pId);
@@ -65,17 +65,18 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
         DateTime mostRecentDateTime = new DateTime(a.getTime());
         DateTime oldestDateTime = new DateTime(b.getTime());
         int days = Days.daysBetween(mostRecentDateTime, oldestDateTime).getDays();
-        if (period == PLHIVDays.LESS_THAN_365 && days < YEAR_DAYS) {
-          calculationResultMap.put(pId, new SimpleResult(days, this));
-        } else if (period == PLHIVDays.MORE_THAN_365 && days >= YEAR_DAYS) {
-          calculationResultMap.put(pId, new SimpleResult(days, this));
-        }
-      } else if ((a == null || b == null) && period == PLHIVDays.UNKNOWN) {
-        calculationResultMap.put(pId, new SimpleResult(null, this));
+        periods.put(pId, days < YEAR_DAYS ? PLHIVDays.LESS_THAN_365 : PLHIVDays.MORE_THAN_365);
+      } else {
+        periods.put(pId, PLHIVDays.UNKNOWN);
       }
     }
 
-    return calculationResultMap;
+    return periods;
+  }
+
+  @Override
+  public String getCategoryParameter() {
+    return PERIOD;
   }
 
   /**
@@ -103,20 +104,20 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
       Date previousPeriod,
       Location location) {
 
-    SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
-    String endDate = format.format(previousPeriod);
-
     SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
 
+    sqlPatientDataDefinition.addParameter(new Parameter(END_DATE, END_DATE, Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter(LOCATION, LOCATION, Location.class));
 
-    String query1 = getQuery1FromLTFU(hivMetadata, commonMetadata, endDate);
-    String query2 = getQuery2FromLTFU(hivMetadata, commonMetadata, endDate);
+    String query1 = getQuery1FromLTFU(hivMetadata, commonMetadata);
+    String query2 = getQuery2FromLTFU(hivMetadata, commonMetadata);
     String finalQuery = query1 + " UNION " + query2;
 
     sqlPatientDataDefinition.setSql(finalQuery);
+    EvaluationProfiler.recordStatement(finalQuery);
 
     Map<String, Object> param = new HashMap<>();
+    param.put(END_DATE, DateUtil.getStartOfDay(previousPeriod));
     param.put(LOCATION, location);
 
     CalculationResultMap calculationResultMap =
@@ -176,26 +177,19 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
         sqlPatientDataDefinition, cohort, param, null, context);
   }
 
-  private String getQuery1FromLTFU(
-      HivMetadata hivMetadata, CommonMetadata commonMetadata, String endDate) {
+  private String getQuery1FromLTFU(HivMetadata hivMetadata, CommonMetadata commonMetadata) {
     Map<String, Integer> map1 = new HashMap<>();
     map1.put(
         "returnVisitDateForArvDrugConcept",
         hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    map1.put(
-        "ARVPharmaciaEncounterType",
-        hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    map1.put("ARVPharmaciaEncounterType", hivMetadata.getARVPharmaciaEncounterTypeId());
     map1.put("returnVisitDateConcept", commonMetadata.getReturnVisitDateConcept().getConceptId());
+    map1.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map1.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map1.put(
-        "aRVPediatriaSeguimentoEncounterType",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map1.put("artDatePickup", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+        "aRVPediatriaSeguimentoEncounterType", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map1.put("artDatePickup", hivMetadata.getArtDatePickupMasterCardConceptId());
     map1.put(
-        "msterCardDrugPickupEncounterType",
-        hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+        "msterCardDrugPickupEncounterType", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map1.put("numDays", 29);
 
     String query1 =
@@ -210,9 +204,7 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
             + "                                AND enc.voided = 0 "
             + "								AND enc.encounter_type = ${ARVPharmaciaEncounterType} "
             + "                                AND enc.location_id = :location "
-            + "                                AND enc.encounter_datetime <= '"
-            + endDate
-            + "' "
+            + "                                AND enc.encounter_datetime <= :endDate "
             + "                            GROUP  BY pa.patient_id) fila "
             + "                        INNER JOIN encounter e on "
             + "                            e.patient_id = fila.patient_id and "
@@ -220,9 +212,7 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
             + "                            e.encounter_type =  ${ARVPharmaciaEncounterType} and "
             + "                            e.location_id = :location and "
             + "                            e.voided = 0 and "
-            + "                            e.encounter_datetime <= '"
-            + endDate
-            + "' "
+            + "                            e.encounter_datetime <= :endDate "
             + "					INNER JOIN obs o on "
             + "                            o.encounter_id = e.encounter_id and "
             + "                            o.concept_id = ${returnVisitDateForArvDrugConcept} and "
@@ -238,9 +228,7 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
             + "                                AND enc.voided = 0 "
             + "                                AND enc.encounter_type IN ( ${adultoSeguimentoEncounterType},${aRVPediatriaSeguimentoEncounterType} ) "
             + "                                AND enc.location_id = :location "
-            + "                                AND enc.encounter_datetime <= '"
-            + endDate
-            + "' "
+            + "                                AND enc.encounter_datetime <= :endDate "
             + "							GROUP  BY pa.patient_id) ficha "
             + "                        INNER JOIN encounter e on "
             + "                            e.patient_id = ficha.patient_id and "
@@ -267,38 +255,28 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
             + "                            AND obs.value_datetime IS NOT NULL "
             + "                            AND enc.encounter_type = ${msterCardDrugPickupEncounterType}  "
             + "                            AND enc.location_id = :location "
-            + "                            AND obs.value_datetime <= '"
-            + endDate
-            + "' "
+            + "                            AND obs.value_datetime <= :endDate "
             + "                       GROUP  BY pa.patient_id "
             + "                   ) most_recent "
             + "               GROUP BY most_recent.patient_id ";
 
-    StringSubstitutor stringSubstitutor1 = new StringSubstitutor(map1);
-    return stringSubstitutor1.replace(query1);
+    return QueryTemplates.render("ReturnedDateIITDateDaysCalculation.query1", map1, query1);
   }
 
-  private String getQuery2FromLTFU(
-      HivMetadata hivMetadata, CommonMetadata commonMetadata, String endDate) {
+  private String getQuery2FromLTFU(HivMetadata hivMetadata, CommonMetadata commonMetadata) {
 
     Map<String, Integer> map2 = new HashMap<>();
+    map2.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map2.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map2.put(
-        "ARVPediatriaSeguimentoEncounterType",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+        "ARVPediatriaSeguimentoEncounterType", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map2.put("aRVPharmaciaEncounterType", hivMetadata.getARVPharmaciaEncounterTypeId());
     map2.put(
-        "aRVPharmaciaEncounterType",
-        hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map2.put(
-        "masterCardDrugPickupEncounterType",
-        hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+        "masterCardDrugPickupEncounterType", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map2.put("returnVisitDateConcept", commonMetadata.getReturnVisitDateConcept().getConceptId());
     map2.put(
         "returnVisitDateForArvDrugConcept",
         hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    map2.put("artDatePickup", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map2.put("artDatePickup", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query2 =
         " SELECT pat.patient_id,  enc.encounter_datetime   "
@@ -307,9 +285,7 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
             + " WHERE  pat.voided=0 "
             + " AND enc.voided = 0 "
             + " AND enc.location_id = :location "
-            + " AND enc.encounter_datetime <= '"
-            + endDate
-            + "'"
+            + " AND enc.encounter_datetime <= :endDate"
             + " AND    pat.patient_id NOT IN "
             + " ( "
             + " SELECT patient_id "
@@ -321,9 +297,7 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
             + " FROM       patient pat "
             + " INNER JOIN encounter e "
             + " ON         pat.patient_id=e.patient_id "
-            + " WHERE      e.encounter_datetime<= '"
-            + endDate
-            + "' "
+            + " WHERE      e.encounter_datetime<= :endDate "
             + " AND        pat.voided=0 "
             + " AND        e.voided=0 "
             + " AND        e.location_id=:location "
@@ -334,9 +308,7 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
             + " INNER JOIN obs o1 "
             + " ON         e1.encounter_id=o1.encounter_id "
             + " WHERE      qa.encounter_datetime=e1.encounter_datetime "
-            + " AND        e1.encounter_datetime<= '"
-            + endDate
-            + "' "
+            + " AND        e1.encounter_datetime<= :endDate "
             + " AND        e1.voided=0 "
             + " AND        e1.encounter_type IN(${adultoSeguimentoEncounterType}) "
             + " AND        e1.location_id=:location "
@@ -353,9 +325,7 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
             + " FROM       patient pat "
             + " INNER JOIN encounter e "
             + " ON         pat.patient_id=e.patient_id "
-            + " WHERE      e.encounter_datetime<= '"
-            + endDate
-            + "' "
+            + " WHERE      e.encounter_datetime<= :endDate "
             + " AND        pat.voided=0 "
             + " AND        e.voided=0 "
             + " AND        e.location_id=:location "
@@ -366,9 +336,7 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
             + " INNER JOIN obs o1 "
             + " ON         e1.encounter_id=o1.encounter_id "
             + " WHERE      qb.encounter_datetime=e1.encounter_datetime "
-            + " AND        e1.encounter_datetime<= '"
-            + endDate
-            + "' "
+            + " AND        e1.encounter_datetime<= :endDate "
             + " AND        e1.voided=0 "
             + " AND        e1.encounter_type IN(${ARVPediatriaSeguimentoEncounterType}) "
             + " AND        e1.location_id=:location "
@@ -385,9 +353,7 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
             + " FROM       patient pat "
             + " INNER JOIN encounter e "
             + " ON         pat.patient_id=e.patient_id "
-            + " WHERE      e.encounter_datetime<= '"
-            + endDate
-            + "' "
+            + " WHERE      e.encounter_datetime<= :endDate "
             + " AND        pat.voided=0 "
             + " AND        e.voided=0 "
             + " AND        e.location_id=:location "
@@ -398,9 +364,7 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
             + " INNER JOIN obs o1 "
             + " ON         e1.encounter_id=o1.encounter_id "
             + " WHERE      qc.encounter_datetime=e1.encounter_datetime "
-            + " AND        e1.encounter_datetime<= '"
-            + endDate
-            + "' "
+            + " AND        e1.encounter_datetime<= :endDate "
             + " AND        e1.voided=0 "
             + " AND        e1.encounter_type IN(${aRVPharmaciaEncounterType}) "
             + " AND        e1.location_id=:location "
@@ -424,32 +388,23 @@ public class ReturnedDateIITDateDaysCalculation extends AbstractPatientCalculati
             + " AND        en.encounter_type IN(${masterCardDrugPickupEncounterType}) "
             + " AND        ob.concept_id     IN(${artDatePickup}) "
             + " AND        ob.value_datetime IS NOT NULL "
-            + " AND        ob.value_datetime<= '"
-            + endDate
-            + "' ) fn)  "
+            + " AND        ob.value_datetime<= :endDate ) fn)  "
             + "GROUP BY pat.patient_id";
 
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map2);
-    return stringSubstitutor.replace(query2);
+    return QueryTemplates.render("ReturnedDateIITDateDaysCalculation.query2", map2, query2);
   }
 
   private String getReturnedInPeriodQuery(HivMetadata hivMetadata) {
     Map<String, Integer> map = new HashMap<>();
+    map.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "ARVPediatriaSeguimentoEncounterType",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "aRVPharmaciaEncounterType",
-        hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+        "ARVPediatriaSeguimentoEncounterType", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("aRVPharmaciaEncounterType", hivMetadata.getARVPharmaciaEncounterTypeId());
     map.put(
-        "masterCardDrugPickupEncounterType",
-        hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+        "masterCardDrugPickupEncounterType", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("artPickupConcept", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("yesConcept", hivMetadata.getPatientFoundYesConcept().getConceptId());
-    map.put("artDatePickup", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("yesConcept", hivMetadata.getPatientFoundYesConceptId());
+    map.put("artDatePickup", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         " SELECT outter.patient_id, MIN(outter.encounterdatetime) AS  encounterdatetime"
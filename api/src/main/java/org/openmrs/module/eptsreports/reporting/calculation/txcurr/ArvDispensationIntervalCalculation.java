@@ -0,0 +1,165 @@
+package org.openmrs.module.eptsreports.reporting.calculation.txcurr;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openmrs.Concept;
+import org.openmrs.Encounter;
+import org.openmrs.EncounterType;
+import org.openmrs.Location;
+import org.openmrs.Obs;
+import org.openmrs.api.context.Context;
+import org.openmrs.calculation.patient.PatientCalculationContext;
+import org.openmrs.calculation.result.CalculationResultMap;
+import org.openmrs.calculation.result.ListResult;
+import org.openmrs.module.eptsreports.metadata.HivMetadata;
+import org.openmrs.module.eptsreports.reporting.calculation.ClassifierCalculation;
+import org.openmrs.module.eptsreports.reporting.calculation.common.EPTSCalculationService;
+import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
+import org.openmrs.module.reporting.common.TimeQualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Places each patient in one interval of ARVs dispensed (less than 3 months, 3 to 5 months, 6
+ * months or more). The FILA and Ficha Clínica facts are fetched once for the cohort, four obs
+ * lookups and three encounter lookups, and the rules of {@link ArvDispensationRules} pick the
+ * interval of each patient.
+ */
+@Component
+public class ArvDispensationIntervalCalculation
+    extends ClassifierCalculation<ArvDispensationIntervalCalculation.Interval> {
+
+  public static final String INTERVAL = "interval";
+
+  public enum Interval {
+    LESS_THAN_3_MONTHS,
+    THREE_TO_FIVE_MONTHS,
+    SIX_MONTHS_OR_MORE
+  }
+
+  @Override
+  public Map<Integer, Interval> classify(
+      Collection<Integer> cohort,
+      Map<String, Object> parameterValues,
+      PatientCalculationContext context) {
+
+    HivMetadata hivMetadata = Context.getRegisteredComponents(HivMetadata.class).get(0);
+    EPTSCalculationService ePTSCalculationService =
+        Context.getRegisteredComponents(EPTSCalculationService.class).get(0);
+
+    Location location = (Location) context.getFromCache("location");
+    Date onOrBefore = (Date) context.getFromCache("onOrBefore");
+
+    EncounterType fila = hivMetadata.getARVPharmaciaEncounterType();
+    EncounterType ficha = hivMetadata.getAdultoSeguimentoEncounterType();
+
+    CalculationResultMap returnVisitMap =
+        getAllObs(
+            ePTSCalculationService,
+            hivMetadata.getReturnVisitDateForArvDrugConcept(),
+            fila,
+            cohort,
+            location,
+            onOrBefore,
+            context);
+    CalculationResultMap typeOfDispensationMap =
+        getAllObs(
+            ePTSCalculationService,
+            hivMetadata.getTypeOfDispensationConcept(),
+            ficha,
+            cohort,
+            location,
+            onOrBefore,
+            context);
+    CalculationResultMap quarterlyDispensationMap =
+        getAllObs(
+            ePTSCalculationService,
+            hivMetadata.getQuarterlyDispensation(),
+            ficha,
+            cohort,
+            location,
+            onOrBefore,
+            context);
+    CalculationResultMap semiannualDispensationMap =
+        getAllObs(
+            ePTSCalculationService,
+            hivMetadata.getSemiannualDispensation(),
+            ficha,
+            cohort,
+            location,
+            onOrBefore,
+            context);
+    CalculationResultMap lastFichaEncounterMap =
+        ePTSCalculationService.getEncounter(
+            Arrays.asList(ficha), TimeQualifier.LAST, cohort, location, onOrBefore, context);
+    CalculationResultMap lastFilaEncounterMap =
+        ePTSCalculationService.getEncounter(
+            Arrays.asList(fila), TimeQualifier.LAST, cohort, location, onOrBefore, context);
+    CalculationResultMap allFilaEncountersMap =
+        ePTSCalculationService.getEncounter(
+            Arrays.asList(fila), TimeQualifier.ANY, cohort, location, onOrBefore, context);
+
+    ArvDispensationRules rules = new ArvDispensationRules(hivMetadata);
+    Map<Integer, Interval> intervals = new HashMap<>();
+    for (Integer pId : cohort) {
+      Encounter lastFichaEncounter =
+          EptsCalculationUtils.resultForPatient(lastFichaEncounterMap, pId);
+      Encounter lastFilaEncounter =
+          EptsCalculationUtils.resultForPatient(lastFilaEncounterMap, pId);
+      List<Encounter> filaEncounters =
+          EptsCalculationUtils.extractResultValues((ListResult) allFilaEncountersMap.get(pId));
+      ArvDispensationRules.DispensationFacts facts =
+          new ArvDispensationRules.DispensationFacts(
+              lastFichaEncounter,
+              lastFilaEncounter,
+              filaEncounters,
+              getObsList(returnVisitMap, pId),
+              getObsList(typeOfDispensationMap, pId),
+              getObsList(quarterlyDispensationMap, pId),
+              getObsList(semiannualDispensationMap, pId));
+      Interval interval = rules.getInterval(facts);
+      if (interval != null) {
+        intervals.put(pId, interval);
+      }
+    }
+    return intervals;
+  }
+
+  @Override
+  public String getCategoryParameter() {
+    return INTERVAL;
+  }
+
+  /**
+   * All the obs of the question up to the end date. The less than 3 months, 3 to 5 months and 6
+   * months or more calculations this one replaces bounded their lookups by the same date, the
+   * onOrBefore read from the context by the getObs overload they used, so no obs after the end date
+   * is a fact of the rules.
+   */
+  private static CalculationResultMap getAllObs(
+      EPTSCalculationService ePTSCalculationService,
+      Concept question,
+      EncounterType encounterType,
+      Collection<Integer> cohort,
+      Location location,
+      Date onOrBefore,
+      PatientCalculationContext context) {
+    return ePTSCalculationService.getObs(
+        question,
+        Arrays.asList(encounterType),
+        cohort,
+        Arrays.asList(location),
+        null,
+        TimeQualifier.ANY,
+        null,
+        onOrBefore,
+        context);
+  }
+
+  private static List<Obs> getObsList(CalculationResultMap map, Integer pId) {
+    return EptsCalculationUtils.extractResultValues((ListResult) map.get(pId));
+  }
+}
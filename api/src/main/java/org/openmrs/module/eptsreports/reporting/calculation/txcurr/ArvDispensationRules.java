@@ -0,0 +1,850 @@
+package org.openmrs.module.eptsreports.reporting.calculation.txcurr;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import org.openmrs.Concept;
+import org.openmrs.Encounter;
+import org.openmrs.Obs;
+import org.openmrs.module.eptsreports.metadata.HivMetadata;
+import org.openmrs.module.eptsreports.reporting.calculation.txcurr.ArvDispensationIntervalCalculation.Interval;
+import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
+
+/**
+ * The rules placing a patient in one ARV dispensation interval, from the FILA next pick-up dates
+ * and the Ficha Clínica dispensation type, quarterly (DT) and semiannual (DS) dispensation obs of
+ * the patient. The last obs used by the rules are taken from the lists of all the obs, so the facts
+ * of a patient are fetched once for the three intervals.
+ */
+public class ArvDispensationRules {
+
+  private final Concept monthly;
+
+  private final Concept quarterly;
+
+  private final Concept semiannualDispensation;
+
+  private final Concept completed;
+
+  private final Concept startDrugs;
+
+  private final Concept continueRegimen;
+
+  public ArvDispensationRules(HivMetadata hivMetadata) {
+    this.monthly = hivMetadata.getMonthlyConcept();
+    this.quarterly = hivMetadata.getQuarterlyConcept();
+    this.semiannualDispensation = hivMetadata.getSemiannualDispensation();
+    this.completed = hivMetadata.getCompletedConcept();
+    this.startDrugs = hivMetadata.getStartDrugs();
+    this.continueRegimen = hivMetadata.getContinueRegimenConcept();
+  }
+
+  /**
+   * Places the patient in the longest interval it qualifies for: 6 months or more, then 3 to 5
+   * months, then less than 3 months
+   *
+   * @param facts the dispensation facts of the patient
+   * @return the interval, null if the patient qualifies for none
+   */
+  public Interval getInterval(DispensationFacts facts) {
+    if (isSixMonthsOrMore(facts)) {
+      return Interval.SIX_MONTHS_OR_MORE;
+    }
+    if (isThreeToFiveMonths(facts)) {
+      return Interval.THREE_TO_FIVE_MONTHS;
+    }
+    if (isLessThanThreeMonths(facts)) {
+      return Interval.LESS_THAN_3_MONTHS;
+    }
+    return null;
+  }
+
+  /** @return true if the patient qualifies for less than 3 months of ARVs dispensed */
+  public boolean isLessThanThreeMonths(DispensationFacts facts) {
+    boolean found = false;
+
+    Encounter lastFichaEncounter = facts.getLastFichaEncounter();
+    Encounter lastFilaEncounter = facts.getLastFilaEncounter();
+
+    Obs getObsWithReturnVisitDateFilled = last(facts.getReturnVisitObs());
+    Obs getObsWithDepositionAndMonthlyAsCodedValue =
+        last(facts.getTypeOfDispensationObs(), monthly);
+    Obs getObsWithoutDepositionAndMonthlyAsCodedValue = last(facts.getTypeOfDispensationObs());
+
+    List<Obs> obsListNextDrugPickup = facts.getReturnVisitObs();
+    List<Obs> obsListDespositionMonthlyObs = facts.getTypeOfDispensationObs();
+
+    // case 1: fila as last encounter and has return visit date for drugs filled
+    // Both 2 encounter are filled with relevant obseravtions
+    // We consider the fila
+    if (getObsWithoutDepositionAndMonthlyAsCodedValue != null
+        && lastFilaEncounter != null
+        && getObsWithoutDepositionAndMonthlyAsCodedValue.getEncounter() != null
+        && getObsWithoutDepositionAndMonthlyAsCodedValue.getEncounter().getEncounterDatetime()
+            != null
+        && getObsWithReturnVisitDateFilled != null
+        && lastFilaEncounter.equals(getObsWithReturnVisitDateFilled.getEncounter())
+        && getObsWithReturnVisitDateFilled.getEncounter() != null
+        && getObsWithReturnVisitDateFilled.getEncounter().getEncounterDatetime() != null
+        && getObsWithReturnVisitDateFilled.getValueDatetime() != null
+        && getObsWithReturnVisitDateFilled
+            .getEncounter()
+            .getEncounterDatetime()
+            .after(
+                getObsWithoutDepositionAndMonthlyAsCodedValue.getEncounter().getEncounterDatetime())
+        && EptsCalculationUtils.daysSince(
+                getObsWithReturnVisitDateFilled.getEncounter().getEncounterDatetime(),
+                getObsWithReturnVisitDateFilled.getValueDatetime())
+            < 83) {
+      found = true;
+    }
+    // case 2: ficha as the last encounter and has Last TYPE OF DISPENSATION and value coded as
+    // monthly, make sure the last encounter has required obs collected on them
+    else if (lastFilaEncounter != null
+        && getObsWithReturnVisitDateFilled != null
+        && lastFichaEncounter != null
+        && getObsWithReturnVisitDateFilled.getEncounter() != null
+        && lastFilaEncounter.equals(getObsWithReturnVisitDateFilled.getEncounter())
+        && getObsWithoutDepositionAndMonthlyAsCodedValue != null
+        && lastFichaEncounter.equals(getObsWithoutDepositionAndMonthlyAsCodedValue.getEncounter())
+        && getObsWithoutDepositionAndMonthlyAsCodedValue.getValueCoded().equals(monthly)
+        && lastFichaEncounter
+                .getEncounterDatetime()
+                .compareTo(lastFilaEncounter.getEncounterDatetime())
+            > 0) {
+      found = true;
+    }
+    // case 3: if both fila and ficha are available taken on the same date, we pick fila first if
+    // it has the next drug pick up date
+    // otherwise we consider ficha if fila is null, but ficha has to contain the required obs to
+    // pass
+    else if (lastFichaEncounter != null
+        && lastFilaEncounter != null
+        && lastFichaEncounter.getEncounterDatetime() != null
+        && getObsWithReturnVisitDateFilled != null
+        && lastFilaEncounter.equals(getObsWithReturnVisitDateFilled.getEncounter())
+        && getObsWithReturnVisitDateFilled.getEncounter() != null
+        && getObsWithReturnVisitDateFilled.getEncounter().getEncounterDatetime() != null
+        && getObsWithReturnVisitDateFilled.getValueDatetime() != null
+        && getObsWithReturnVisitDateFilled
+            .getEncounter()
+            .getEncounterDatetime()
+            .equals(lastFichaEncounter.getEncounterDatetime())
+        && EptsCalculationUtils.daysSince(
+                getObsWithReturnVisitDateFilled.getEncounter().getEncounterDatetime(),
+                getObsWithReturnVisitDateFilled.getValueDatetime())
+            < 83) {
+      found = true;
+    }
+
+    // case 4: Only fila available and has value datetime collected for the next drug pick up
+
+    else if (getObsWithReturnVisitDateFilled != null
+        && lastFilaEncounter != null
+        && getObsWithReturnVisitDateFilled.getEncounter() != null
+        && lastFilaEncounter.equals(getObsWithReturnVisitDateFilled.getEncounter())
+        && getObsWithDepositionAndMonthlyAsCodedValue == null
+        && getObsWithReturnVisitDateFilled.getEncounter().getEncounterDatetime() != null
+        && getObsWithReturnVisitDateFilled.getValueDatetime() != null
+        && EptsCalculationUtils.daysSince(
+                getObsWithReturnVisitDateFilled.getEncounter().getEncounterDatetime(),
+                getObsWithReturnVisitDateFilled.getValueDatetime())
+            < 83) {
+      found = true;
+    }
+    // case 5: if only ficha is available and has Last TYPE OF DISPENSATION and value coded as
+    // monthly
+    else if (getObsWithDepositionAndMonthlyAsCodedValue != null
+        && getObsWithReturnVisitDateFilled == null) {
+      found = true;
+    }
+    // case 6 check if there is date for drug pick up and there is a ficha without this concept
+    // 23739
+    // collected
+    else if (getObsWithReturnVisitDateFilled != null
+        && lastFilaEncounter != null
+        && getObsWithReturnVisitDateFilled.getEncounter() != null
+        && lastFilaEncounter.equals(getObsWithReturnVisitDateFilled.getEncounter())
+        && getObsWithoutDepositionAndMonthlyAsCodedValue == null
+        && getObsWithReturnVisitDateFilled.getEncounter().getEncounterDatetime() != null
+        && getObsWithReturnVisitDateFilled.getValueDatetime() != null
+        && EptsCalculationUtils.daysSince(
+                getObsWithReturnVisitDateFilled.getEncounter().getEncounterDatetime(),
+                getObsWithReturnVisitDateFilled.getValueDatetime())
+            < 83) {
+      found = true;
+    }
+    // get all the fila obs collected and compare with last value date
+    else if (lastFilaEncounter != null && obsListNextDrugPickup.size() > 0) {
+      for (Obs obs : obsListNextDrugPickup) {
+        if (lastFilaEncounter.equals(obs.getEncounter())
+            && obs.getValueDatetime() != null
+            && EptsCalculationUtils.daysSince(
+                    lastFilaEncounter.getEncounterDatetime(), obs.getValueDatetime())
+                < 83) {
+          found = true;
+          break;
+        }
+      }
+    }
+    // get all ficha with 1098 values and match last encounter
+    else if (lastFichaEncounter != null && obsListDespositionMonthlyObs.size() > 0) {
+      for (Obs obs : obsListDespositionMonthlyObs) {
+        if (lastFichaEncounter.equals(obs.getEncounter())
+            && obs.getValueCoded() != null
+            && obs.getValueCoded().equals(monthly)) {
+          found = true;
+          break;
+        }
+      }
+    }
+    return found;
+  }
+
+  /** @return true if the patient qualifies for 3 to 5 months of ARVs dispensed */
+  public boolean isThreeToFiveMonths(DispensationFacts facts) {
+    boolean found = false;
+
+    Obs lastFilaObs = last(facts.getReturnVisitObs());
+    Obs getLastTypeOfDispensationObsWithoutQuartelyValueCoded =
+        last(facts.getTypeOfDispensationObs());
+    Obs getLastQuartelyDispensationObsWithStartOrContinueRegimenObs =
+        last(facts.getQuarterlyDispensationObs());
+    Encounter lastFichaEncounter = facts.getLastFichaEncounter();
+    Obs lastQuartelyObsWithCompleted = last(facts.getQuarterlyDispensationObs());
+
+    Encounter lastFilaEncounter = facts.getLastFilaEncounter();
+
+    // get t he last obs for concept 23739 and answer 23720
+    Obs getLastTypeOfDispensationWithQuartelyAsValueCodedAddedObs =
+        last(facts.getTypeOfDispensationObs(), quarterly);
+    // get obs that has monthly value coded
+    Obs getLastEncounterWithDepositionAndMonthlyAsCodedValueAddedObs =
+        last(facts.getTypeOfDispensationObs(), monthly);
+    Obs getLastQuartelyDispensationWithStartOrContinueRegimenValueCodedObs =
+        last(facts.getQuarterlyDispensationObs(), startDrugs, continueRegimen);
+
+    // get all the list result for the fila
+    List<Obs> obsListForAllFila = facts.getReturnVisitObs();
+
+    List<Encounter> allFilaEncounters = new ArrayList<>(facts.getFilaEncounters());
+    Encounter lastFilaPickedEncounter = null;
+    Encounter secondLastEncounter = null;
+    List<Obs> filaObsOnTheSameEncounterDate = new ArrayList<>();
+    if (allFilaEncounters.size() >= 2) {
+      sortEncountersByEncounterDatetime(allFilaEncounters);
+      lastFilaPickedEncounter = allFilaEncounters.get(allFilaEncounters.size() - 1);
+      secondLastEncounter = allFilaEncounters.get(allFilaEncounters.size() - 2);
+    }
+
+    // case 1: fila as last encounter and has return visit date for drugs filled
+    // this is compared to ficha, if fila > ficha and the ficha filled should be the one with
+    // typeOfDispensation(23739)
+    if (lastFilaObs != null
+        && lastFilaObs.getEncounter() != null
+        && lastFilaObs.getEncounter().getEncounterDatetime() != null
+        && getLastTypeOfDispensationObsWithoutQuartelyValueCoded != null
+        && getLastTypeOfDispensationObsWithoutQuartelyValueCoded.getEncounter() != null
+        && getLastTypeOfDispensationObsWithoutQuartelyValueCoded
+                .getEncounter()
+                .getEncounterDatetime()
+            != null
+        && lastFilaObs.getValueDatetime() != null
+        && lastFilaObs
+                .getEncounter()
+                .getEncounterDatetime()
+                .compareTo(
+                    getLastTypeOfDispensationObsWithoutQuartelyValueCoded
+                        .getEncounter()
+                        .getEncounterDatetime())
+            > 0
+        && isBetween83And173Days(lastFilaObs)) {
+      found = true;
+    }
+
+    // case 2: fila as last encounter and has return visit date for drugs filled
+    // this is compared to ficha, if fila > ficha and the ficha filled should be the one with
+    // QUARTERLY DISPENSATION (DT) - 23730
+    else if (lastFilaObs != null
+        && lastFilaObs.getEncounter() != null
+        && lastFilaObs.getEncounter().getEncounterDatetime() != null
+        && getLastQuartelyDispensationObsWithStartOrContinueRegimenObs != null
+        && getLastQuartelyDispensationObsWithStartOrContinueRegimenObs.getEncounter() != null
+        && getLastQuartelyDispensationObsWithStartOrContinueRegimenObs
+                .getEncounter()
+                .getEncounterDatetime()
+            != null
+        && lastFilaObs.getValueDatetime() != null
+        && lastFilaObs
+                .getEncounter()
+                .getEncounterDatetime()
+                .compareTo(
+                    getLastQuartelyDispensationObsWithStartOrContinueRegimenObs
+                        .getEncounter()
+                        .getEncounterDatetime())
+            > 0
+        && isBetween83And173Days(lastFilaObs)) {
+      found = true;
+    }
+    // case 3: fila as the last encounter and has return visit date for drugs filled
+    // This is comapred to the 6 with 23739 concept collected and value coded of 23720
+
+    else if (lastFilaObs != null
+        && lastFilaObs.getEncounter() != null
+        && lastFilaObs.getEncounter().getEncounterDatetime() != null
+        && getLastTypeOfDispensationObsWithoutQuartelyValueCoded == null
+        && getLastQuartelyDispensationObsWithStartOrContinueRegimenObs == null
+        && lastFilaObs.getValueDatetime() != null
+        && isBetween83And173Days(lastFilaObs)) {
+      found = true;
+    }
+    // case 4: ficha  as last encounter(ficha > fila) reverse of case1
+    // this is compared to the date of Encounter Type Id = 6 Last TYPE OF DISPENSATION
+    // (id=23739)Value.code = QUARTERLY (id=23720)
+    else if (lastFilaObs != null
+        && getLastTypeOfDispensationObsWithoutQuartelyValueCoded != null
+        && getLastTypeOfDispensationObsWithoutQuartelyValueCoded.getValueCoded().equals(quarterly)
+        && getLastTypeOfDispensationObsWithoutQuartelyValueCoded
+                .getEncounter()
+                .getEncounterDatetime()
+                .compareTo(lastFilaObs.getEncounter().getEncounterDatetime())
+            > 0) {
+      found = true;
+    }
+    // case 5: ficha as last encounter, ficha >fila opposite of 2
+    // this is compared to the date of Encounter Type Id = 6 Last QUARTERLY DISPENSATION (DT)
+    // (id=23730)Value.coded= START DRUGS (id=1256) OR Value.coded= (CONTINUE REGIMEN id=1257)
+    else if (lastFilaObs != null
+        && lastFichaEncounter != null
+        && getLastQuartelyDispensationObsWithStartOrContinueRegimenObs != null
+        && (getLastQuartelyDispensationObsWithStartOrContinueRegimenObs
+                .getValueCoded()
+                .equals(startDrugs)
+            || getLastQuartelyDispensationObsWithStartOrContinueRegimenObs
+                .getValueCoded()
+                .equals(continueRegimen))
+        && getLastQuartelyDispensationObsWithStartOrContinueRegimenObs
+                .getEncounter()
+                .getEncounterDatetime()
+                .compareTo(lastFilaObs.getEncounter().getEncounterDatetime())
+            > 0) {
+      found = true;
+    }
+    // case 6: If the most recent have more than one source FILA and FICHA registered on the same
+    // most recent date, then consider the information from FILA compare with quartely 23739
+    else if (lastFilaObs != null
+        && lastFilaObs.getEncounter() != null
+        && lastFilaObs.getValueDatetime() != null
+        && getLastTypeOfDispensationObsWithoutQuartelyValueCoded != null
+        && getLastTypeOfDispensationObsWithoutQuartelyValueCoded.getEncounter() != null
+        && lastFilaObs
+            .getEncounter()
+            .getEncounterDatetime()
+            .equals(
+                getLastTypeOfDispensationObsWithoutQuartelyValueCoded
+                    .getEncounter()
+                    .getEncounterDatetime())
+        && isBetween83And173Days(lastFilaObs)) {
+      found = true;
+    }
+    // case 7: here fila is the latest/only  encounter with the values for the observations when
+    // DT is null
+    // collected getLastTypeOfDispensationObsWithoutQuartelyValueCoded
+    else if (lastFilaObs != null
+        && lastFilaObs.getEncounter() != null
+        && lastFilaObs.getEncounter().getEncounterDatetime() != null
+        && lastFilaObs.getValueDatetime() != null
+        && getLastQuartelyDispensationObsWithStartOrContinueRegimenObs != null
+        && getLastQuartelyDispensationObsWithStartOrContinueRegimenObs.getEncounter() != null
+        && lastFilaObs
+            .getEncounter()
+            .getEncounterDatetime()
+            .equals(
+                getLastQuartelyDispensationObsWithStartOrContinueRegimenObs
+                    .getEncounter()
+                    .getEncounterDatetime())
+        && isBetween83And173Days(lastFilaObs)) {
+      found = true;
+    }
+    // case 10: ficha has last/only encounter  Last TYPE OF DISPENSATION (id=23739) Value.code =
+    // QUARTERLY (id=23720)
+    // included also is the start and continue regimen
+    else if (getLastTypeOfDispensationObsWithoutQuartelyValueCoded != null
+        && lastFilaObs == null
+        && getLastTypeOfDispensationObsWithoutQuartelyValueCoded.getValueCoded() != null
+        && getLastTypeOfDispensationObsWithoutQuartelyValueCoded
+            .getValueCoded()
+            .equals(quarterly)) {
+      found = true;
+    }
+
+    // case 11: ficha has last/only encounter
+    // included also is the start and continue regimen
+    else if (getLastQuartelyDispensationObsWithStartOrContinueRegimenObs != null
+        && lastFilaObs == null
+        && getLastQuartelyDispensationObsWithStartOrContinueRegimenObs.getValueCoded() != null
+        && (getLastQuartelyDispensationObsWithStartOrContinueRegimenObs
+                .getValueCoded()
+                .equals(startDrugs)
+            || getLastQuartelyDispensationObsWithStartOrContinueRegimenObs
+                .getValueCoded()
+                .equals(continueRegimen))) {
+      found = true;
+    } else if (getLastTypeOfDispensationWithQuartelyAsValueCodedAddedObs != null
+        && lastFilaObs == null
+        && getLastEncounterWithDepositionAndMonthlyAsCodedValueAddedObs != null
+        && getLastTypeOfDispensationWithQuartelyAsValueCodedAddedObs
+                .getObsDatetime()
+                .compareTo(
+                    getLastEncounterWithDepositionAndMonthlyAsCodedValueAddedObs.getObsDatetime())
+            >= 0) {
+      found = true;
+    } else if (getLastEncounterWithDepositionAndMonthlyAsCodedValueAddedObs != null
+        && lastFilaObs == null
+        && getLastQuartelyDispensationWithStartOrContinueRegimenValueCodedObs != null
+        && getLastQuartelyDispensationWithStartOrContinueRegimenValueCodedObs
+                .getObsDatetime()
+                .compareTo(
+                    getLastEncounterWithDepositionAndMonthlyAsCodedValueAddedObs.getObsDatetime())
+            >= 0) {
+      found = true;
+    } else if (lastFilaObs != null
+        && getLastTypeOfDispensationWithQuartelyAsValueCodedAddedObs != null
+        && getLastTypeOfDispensationWithQuartelyAsValueCodedAddedObs
+                .getEncounter()
+                .getEncounterDatetime()
+                .compareTo(lastFilaObs.getEncounter().getEncounterDatetime())
+            > 0) {
+      found = true;
+    } else if (lastFilaObs != null
+        && getLastQuartelyDispensationWithStartOrContinueRegimenValueCodedObs != null
+        && getLastQuartelyDispensationWithStartOrContinueRegimenValueCodedObs
+                .getEncounter()
+                .getEncounterDatetime()
+                .compareTo(lastFilaObs.getEncounter().getEncounterDatetime())
+            > 0) {
+      found = true;
+    } else if (lastFilaEncounter != null
+        && lastFichaEncounter == null
+        && obsListForAllFila.size() > 0) {
+      for (Obs obs : obsListForAllFila) {
+        if (lastFilaEncounter.equals(obs.getEncounter())
+            && obs.getValueDatetime() != null
+            && isBetween83And173Days(obs)) {
+          found = true;
+          break;
+        }
+      }
+    }
+    // fila and ficha available, but fila> fila
+    else if (lastFilaPickedEncounter != null
+        && secondLastEncounter != null
+        && obsListForAllFila.size() > 0) {
+      if (lastFilaPickedEncounter
+          .getEncounterDatetime()
+          .equals(secondLastEncounter.getEncounterDatetime())) {
+        // loop through the obs and pick those that match those 2 encounter
+        for (Obs obs : obsListForAllFila) {
+          if (obs.getValueDatetime() != null
+              && (lastFilaPickedEncounter.equals(obs.getEncounter())
+                  || secondLastEncounter.equals(obs.getEncounter()))) {
+            filaObsOnTheSameEncounterDate.add(obs);
+          }
+        }
+        Date requiredDate = null;
+        if (filaObsOnTheSameEncounterDate.size() == 2) {
+          requiredDate = filaObsOnTheSameEncounterDate.get(0).getValueDatetime();
+          if (filaObsOnTheSameEncounterDate.get(1).getValueDatetime().compareTo(requiredDate) > 0) {
+            requiredDate = filaObsOnTheSameEncounterDate.get(1).getValueDatetime();
+          }
+        }
+        // no that you have the right value datetime and the encounter date, do the logic for >=83
+        // days and <=173 days
+        if (requiredDate != null
+            && EptsCalculationUtils.daysSince(
+                    lastFilaPickedEncounter.getEncounterDatetime(), requiredDate)
+                >= 83
+            && EptsCalculationUtils.daysSince(
+                    lastFilaPickedEncounter.getEncounterDatetime(), requiredDate)
+                <= 173) {
+          found = true;
+        }
+      }
+    }
+
+    // exclude   patients   who   have   the   last   SEMESTRAL   QUARTERLY (concept   id=23730
+    // with value_coded as value_coded=1267)
+    if (lastFichaEncounter != null
+        && lastFilaEncounter != null
+        && lastQuartelyObsWithCompleted != null
+        && lastQuartelyObsWithCompleted.getEncounter() != null
+        && lastQuartelyObsWithCompleted.getValueCoded() != null
+        && lastFichaEncounter.equals(lastQuartelyObsWithCompleted.getEncounter())
+        && lastQuartelyObsWithCompleted.getValueCoded().equals(completed)
+        && lastFichaEncounter
+                .getEncounterDatetime()
+                .compareTo(lastFilaEncounter.getEncounterDatetime())
+            > 0) {
+      found = false;
+    }
+    // exclude all patients who have ficha with 1098 which is after recent fila and ficha of
+    // start/continue regimen
+    if (getLastTypeOfDispensationWithQuartelyAsValueCodedAddedObs != null
+        && lastFilaObs != null
+        && lastFilaObs.getEncounter() != null
+        && getLastTypeOfDispensationWithQuartelyAsValueCodedAddedObs.getEncounter() != null
+        && getLastEncounterWithDepositionAndMonthlyAsCodedValueAddedObs != null
+        && getLastEncounterWithDepositionAndMonthlyAsCodedValueAddedObs.getEncounter() != null
+        && getLastQuartelyDispensationWithStartOrContinueRegimenValueCodedObs != null
+        && getLastQuartelyDispensationWithStartOrContinueRegimenValueCodedObs.getEncounter() != null
+        && getLastEncounterWithDepositionAndMonthlyAsCodedValueAddedObs
+                .getEncounter()
+                .getEncounterDatetime()
+                .compareTo(lastFilaObs.getEncounter().getEncounterDatetime())
+            > 0
+        && getLastEncounterWithDepositionAndMonthlyAsCodedValueAddedObs
+                .getEncounter()
+                .getEncounterDatetime()
+                .compareTo(
+                    getLastTypeOfDispensationWithQuartelyAsValueCodedAddedObs
+                        .getEncounter()
+                        .getEncounterDatetime())
+            > 0
+        && getLastEncounterWithDepositionAndMonthlyAsCodedValueAddedObs
+                .getEncounter()
+                .getEncounterDatetime()
+                .compareTo(
+                    getLastQuartelyDispensationWithStartOrContinueRegimenValueCodedObs
+                        .getEncounter()
+                        .getEncounterDatetime())
+            > 0) {
+      found = false;
+    }
+    return found;
+  }
+
+  /** @return true if the patient qualifies for 6 or more months of ARVs dispensed */
+  public boolean isSixMonthsOrMore(DispensationFacts facts) {
+    boolean found = false;
+    // get last encounters
+    Encounter lastFichaEncounter = facts.getLastFichaEncounter();
+    Encounter lastFilaEncounter = facts.getLastFilaEncounter();
+
+    Obs lastFilaWithReturnForDrugsObs = last(facts.getReturnVisitObs());
+    Obs lastFichaObsWithSemestarlValueCoded = last(facts.getTypeOfDispensationObs());
+    Obs lastDispensaTrimestralWithCompltedObs =
+        last(facts.getSemiannualDispensationObs(), completed);
+    Obs lastDispensaSemestraWithStartOrContinueDrugsObs =
+        last(facts.getSemiannualDispensationObs());
+
+    Obs lastDispensaTrimestralWithoutSemestralObs = last(facts.getTypeOfDispensationObs());
+    Obs lastDispensaSemestraWithoutStartOrContinueDrugsObs =
+        last(facts.getSemiannualDispensationObs());
+    // get latest ficha with monthly obs collected
+    Obs getLastFichaWithMonthlyObs = last(facts.getTypeOfDispensationObs(), monthly);
+    // get lates ficha with quatertly collected
+    Obs getLastFichaWithQuartelyObs = last(facts.getTypeOfDispensationObs(), quarterly);
+    // get latest semestarl obs collected
+    Obs getLastFichaWithSemestaralObs =
+        last(facts.getTypeOfDispensationObs(), semiannualDispensation);
+
+    // get all fila list of date obs
+    List<Obs> allFilaObsList = facts.getReturnVisitObs();
+    // get all ficha with type of disposition
+    List<Obs> listResultDispositionObs = facts.getTypeOfDispensationObs();
+    // get all ficha obs with allDispensaSemestraWithoutStartOrContinueDrugsMap
+    List<Obs> allListResultDispensaSemestryObs = facts.getSemiannualDispensationObs();
+
+    // case 1 fila filled is after ficha filled with semestral concept id
+    if (lastDispensaTrimestralWithoutSemestralObs != null
+        && lastFilaEncounter != null
+        && lastFichaEncounter != null
+        && lastDispensaTrimestralWithoutSemestralObs.getEncounter() != null
+        && lastFichaEncounter.equals(lastDispensaTrimestralWithoutSemestralObs.getEncounter())
+        && lastFilaWithReturnForDrugsObs != null
+        && lastFilaWithReturnForDrugsObs.getEncounter() != null
+        && lastFilaEncounter.equals(lastFilaWithReturnForDrugsObs.getEncounter())
+        && lastFilaWithReturnForDrugsObs.getValueDatetime() != null
+        && lastFilaWithReturnForDrugsObs
+            .getEncounter()
+            .getEncounterDatetime()
+            .after(lastDispensaTrimestralWithoutSemestralObs.getEncounter().getEncounterDatetime())
+        && EptsCalculationUtils.daysSince(
+                lastFilaWithReturnForDrugsObs.getEncounter().getEncounterDatetime(),
+                lastFilaWithReturnForDrugsObs.getValueDatetime())
+            > 173) {
+      found = true;
+
+    }
+    // case 2 ficha filled is after fila filled with semestral concept id reverse of 1
+    else if (lastFilaEncounter != null
+        && lastFilaWithReturnForDrugsObs != null
+        && lastFichaEncounter != null
+        && lastFichaObsWithSemestarlValueCoded != null
+        && lastFichaObsWithSemestarlValueCoded.getEncounter() != null
+        && lastFichaEncounter.equals(lastFichaObsWithSemestarlValueCoded.getEncounter())
+        && lastFilaEncounter.equals(lastFilaWithReturnForDrugsObs.getEncounter())
+        && lastFichaObsWithSemestarlValueCoded.getValueCoded().equals(semiannualDispensation)
+        && lastFichaEncounter
+            .getEncounterDatetime()
+            .after(lastFilaEncounter.getEncounterDatetime())) {
+      found = true;
+    }
+    // case 3 ficha filled is after fila filled with start or continue regimen concept id
+    else if (lastFilaWithReturnForDrugsObs != null
+        && lastFichaEncounter != null
+        && lastFilaEncounter != null
+        && lastFilaWithReturnForDrugsObs.getEncounter() != null
+        && lastFilaEncounter.equals(lastFilaWithReturnForDrugsObs.getEncounter())
+        && lastDispensaSemestraWithStartOrContinueDrugsObs != null
+        && lastFichaEncounter.equals(lastDispensaSemestraWithStartOrContinueDrugsObs.getEncounter())
+        && (lastDispensaSemestraWithStartOrContinueDrugsObs.getValueCoded().equals(startDrugs)
+            || lastDispensaSemestraWithStartOrContinueDrugsObs
+                .getValueCoded()
+                .equals(continueRegimen))
+        && lastFichaEncounter
+            .getEncounterDatetime()
+            .after(lastFilaEncounter.getEncounterDatetime())) {
+      found = true;
+
+    }
+    // case 4 if there are multiple fila filled/only fila available for the same date, pick the
+    // latest that has
+    // information filled
+    else if (lastFilaWithReturnForDrugsObs != null
+        && lastFilaEncounter != null
+        && lastFilaWithReturnForDrugsObs.getEncounter() != null
+        && lastFilaEncounter.equals(lastFilaWithReturnForDrugsObs.getEncounter())
+        && lastFilaWithReturnForDrugsObs.getEncounter().getEncounterDatetime() != null
+        && lastDispensaTrimestralWithoutSemestralObs == null
+        && lastDispensaSemestraWithoutStartOrContinueDrugsObs == null
+        && lastFilaWithReturnForDrugsObs.getValueDatetime() != null
+        && EptsCalculationUtils.daysSince(
+                lastFilaWithReturnForDrugsObs.getEncounter().getEncounterDatetime(),
+                lastFilaWithReturnForDrugsObs.getValueDatetime())
+            > 173) {
+      found = true;
+    }
+    // case 5 if ficha filled
+    else if ((lastFichaObsWithSemestarlValueCoded != null
+            && lastFichaEncounter != null
+            && lastFichaObsWithSemestarlValueCoded.getEncounter() != null
+            && lastFichaEncounter.equals(lastFichaObsWithSemestarlValueCoded.getEncounter())
+            && lastFichaObsWithSemestarlValueCoded.getValueCoded().equals(semiannualDispensation)
+            && lastFilaWithReturnForDrugsObs == null)
+        || (lastDispensaSemestraWithStartOrContinueDrugsObs != null
+                && lastFichaEncounter != null
+                && lastDispensaSemestraWithStartOrContinueDrugsObs.getEncounter() != null
+                && lastFichaEncounter.equals(
+                    lastDispensaSemestraWithStartOrContinueDrugsObs.getEncounter())
+                && (lastDispensaSemestraWithStartOrContinueDrugsObs
+                        .getValueCoded()
+                        .equals(startDrugs)
+                    || lastDispensaSemestraWithStartOrContinueDrugsObs
+                        .getValueCoded()
+                        .equals(continueRegimen)))
+            && lastFilaWithReturnForDrugsObs == null) {
+      found = true;
+    }
+    // case 6 if there is a fila filled with ficha filled with semestral concept filled on the
+    // same date
+    // we will end up picking the fila
+    else if (lastFichaEncounter != null
+        && lastFilaEncounter != null
+        && lastFichaEncounter.getEncounterDatetime() != null
+        && lastFilaWithReturnForDrugsObs != null
+        && lastFilaWithReturnForDrugsObs.getEncounter() != null
+        && lastFilaEncounter.equals(lastFilaWithReturnForDrugsObs.getEncounter())
+        && lastFilaWithReturnForDrugsObs.getEncounter().getEncounterDatetime() != null
+        && lastFilaWithReturnForDrugsObs.getValueDatetime() != null
+        && lastFichaEncounter
+            .getEncounterDatetime()
+            .equals(lastFilaWithReturnForDrugsObs.getEncounter().getEncounterDatetime())
+        && EptsCalculationUtils.daysSince(
+                lastFilaWithReturnForDrugsObs.getEncounter().getEncounterDatetime(),
+                lastFilaWithReturnForDrugsObs.getValueDatetime())
+            > 173) {
+      found = true;
+    }
+    // find all the fila, compare with the last encounter, if it has >173 days, pick it here
+    else if (lastFilaEncounter != null && allFilaObsList.size() > 0) {
+      for (Obs obs : allFilaObsList) {
+        if (lastFilaEncounter.equals(obs.getEncounter())
+            && obs.getValueDatetime() != null
+            && EptsCalculationUtils.daysSince(
+                    lastFilaEncounter.getEncounterDatetime(), obs.getValueDatetime())
+                > 173) {
+          found = true;
+          break;
+        }
+      }
+    }
+    // find all obs compared per the encounter based on
+    else if (lastFichaEncounter != null && listResultDispositionObs.size() > 0) {
+      for (Obs obs : listResultDispositionObs) {
+        if (lastFichaEncounter.equals(obs.getEncounter())
+            && obs.getValueCoded() != null
+            && obs.getValueCoded().equals(semiannualDispensation)) {
+          found = true;
+          break;
+        }
+      }
+    }
+    // find all obs compared with last encounter with start and continue regimen
+    else if (lastFichaEncounter != null && allListResultDispensaSemestryObs.size() > 0) {
+      for (Obs obs : allListResultDispensaSemestryObs) {
+        if (lastFichaEncounter.equals(obs.getEncounter())
+            && obs.getValueCoded() != null
+            && (obs.getValueCoded().equals(startDrugs)
+                || obs.getValueCoded().equals(continueRegimen))) {
+          found = true;
+          break;
+        }
+      }
+    }
+    // what if there is 3 fichas on the same date that has a criteria for <3 months, 3-5 months
+    // and > 6 months
+    // we will have to pick that criteria here as well
+    else if (getLastFichaWithMonthlyObs != null
+        && getLastFichaWithSemestaralObs != null
+        && getLastFichaWithMonthlyObs.getObsDatetime() != null
+        && getLastFichaWithSemestaralObs.getObsDatetime() != null
+        && getLastFichaWithSemestaralObs
+                .getObsDatetime()
+                .compareTo(getLastFichaWithMonthlyObs.getObsDatetime())
+            >= 0) {
+      found = true;
+    } else if (getLastFichaWithQuartelyObs != null
+        && getLastFichaWithSemestaralObs != null
+        && getLastFichaWithQuartelyObs.getObsDatetime() != null
+        && getLastFichaWithSemestaralObs.getObsDatetime() != null
+        && getLastFichaWithSemestaralObs
+                .getObsDatetime()
+                .compareTo(getLastFichaWithQuartelyObs.getObsDatetime())
+            >= 0) {
+      found = true;
+    }
+
+    // case 8:
+    if (lastDispensaTrimestralWithCompltedObs != null) {
+      found = false;
+    }
+    return found;
+  }
+
+  private static boolean isBetween83And173Days(Obs obs) {
+    int days =
+        EptsCalculationUtils.daysSince(
+            obs.getEncounter().getEncounterDatetime(), obs.getValueDatetime());
+    return days >= 83 && days <= 173;
+  }
+
+  /**
+   * The obs with the latest obs date, the last one of the list for equal dates, as returned by a
+   * {@link org.openmrs.module.reporting.common.TimeQualifier#LAST} obs lookup
+   *
+   * @param obs all the obs of the patient for a question
+   * @param answers the coded values to keep, any value if none is given
+   * @return the last obs, null if there is none or if its encounter is voided
+   */
+  static Obs last(List<Obs> obs, Concept... answers) {
+    List<Concept> values = Arrays.asList(answers);
+    Obs last = null;
+    for (Obs o : obs) {
+      if ((values.isEmpty() || values.contains(o.getValueCoded()))
+          && (last == null || !o.getObsDatetime().before(last.getObsDatetime()))) {
+        last = o;
+      }
+    }
+    if (last != null && last.getEncounter() != null && last.getEncounter().getVoided()) {
+      return null;
+    }
+    return last;
+  }
+
+  private static void sortEncountersByEncounterDatetime(List<Encounter> encounters) {
+    Collections.sort(
+        encounters,
+        new Comparator<Encounter>() {
+          @Override
+          public int compare(Encounter a, Encounter b) {
+            return a.getEncounterDatetime().compareTo(b.getEncounterDatetime());
+          }
+        });
+  }
+
+  /** The facts used by the dispensation rules for one patient */
+  public static class DispensationFacts {
+
+    private final Encounter lastFichaEncounter;
+
+    private final Encounter lastFilaEncounter;
+
+    private final List<Encounter> filaEncounters;
+
+    private final List<Obs> returnVisitObs;
+
+    private final List<Obs> typeOfDispensationObs;
+
+    private final List<Obs> quarterlyDispensationObs;
+
+    private final List<Obs> semiannualDispensationObs;
+
+    /**
+     * @param lastFichaEncounter the last Ficha Clínica encounter
+     * @param lastFilaEncounter the last FILA encounter
+     * @param filaEncounters all the FILA encounters
+     * @param returnVisitObs all the FILA next pick-up date obs
+     * @param typeOfDispensationObs all the Ficha Clínica type of dispensation obs
+     * @param quarterlyDispensationObs all the Ficha Clínica quarterly dispensation (DT) obs
+     * @param semiannualDispensationObs all the Ficha Clínica semiannual dispensation (DS) obs
+     */
+    public DispensationFacts(
+        Encounter lastFichaEncounter,
+        Encounter lastFilaEncounter,
+        List<Encounter> filaEncounters,
+        List<Obs> returnVisitObs,
+        List<Obs> typeOfDispensationObs,
+        List<Obs> quarterlyDispensationObs,
+        List<Obs> semiannualDispensationObs) {
+      this.lastFichaEncounter = lastFichaEncounter;
+      this.lastFilaEncounter = lastFilaEncounter;
+      this.filaEncounters = filaEncounters;
+      this.returnVisitObs = returnVisitObs;
+      this.typeOfDispensationObs = typeOfDispensationObs;
+      this.quarterlyDispensationObs = quarterlyDispensationObs;
+      this.semiannualDispensationObs = semiannualDispensationObs;
+    }
+
+    public Encounter getLastFichaEncounter() {
+      return lastFichaEncounter;
+    }
+
+    public Encounter getLastFilaEncounter() {
+      return lastFilaEncounter;
+    }
+
+    public List<Encounter> getFilaEncounters() {
+      return filaEncounters;
+    }
+
+    public List<Obs> getReturnVisitObs() {
+      return returnVisitObs;
+    }
+
+    public List<Obs> getTypeOfDispensationObs() {
+      return typeOfDispensationObs;
+    }
+
+    public List<Obs> getQuarterlyDispensationObs() {
+      return quarterlyDispensationObs;
+    }
+
+    public List<Obs> getSemiannualDispensationObs() {
+      return semiannualDispensationObs;
+    }
+  }
+}
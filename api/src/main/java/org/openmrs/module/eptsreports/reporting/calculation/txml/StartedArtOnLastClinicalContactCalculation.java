@@ -169,21 +169,15 @@ public class StartedArtOnLastClinicalContactCalculation extends AbstractPatientC
     valuesMap.put(
         "returnVisitDateForArvDrug",
         hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    valuesMap.put(
-        "aRVPharmaciaEncounterType",
-        hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("aRVPharmaciaEncounterType", hivMetadata.getARVPharmaciaEncounterTypeId());
     valuesMap.put("returnVisitDate", hivMetadata.getReturnVisitDateConcept().getConceptId());
     valuesMap.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put(
-        "pediatriaSeguimentoEncounterType",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+        "adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put(
-        "artDatePickupMasterCard", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+        "pediatriaSeguimentoEncounterType", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("artDatePickupMasterCard", hivMetadata.getArtDatePickupMasterCardConceptId());
     valuesMap.put(
-        "masterCardDrugPickupEncounterType",
-        hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+        "masterCardDrugPickupEncounterType", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
 
     sqlPatientDataDefinition.setSql(sub.replace(query));
 
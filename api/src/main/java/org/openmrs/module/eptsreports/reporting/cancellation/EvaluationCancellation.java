@@ -0,0 +1,195 @@
+package org.openmrs.module.eptsreports.reporting.cancellation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.api.EptsReportsService;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+
+/**
+ * Keeps the {@link EvaluationToken} of the report runs in progress. The token of a run is kept in
+ * the cache of its evaluation context, shared by the child contexts of the run. A watchdog checks
+ * the timeouts of the runs every second and cancels the runs which exceeded them. The statements in
+ * flight of a run with a timeout are killed with KILL QUERY, see {@link EvaluationToken}.
+ */
+public class EvaluationCancellation {
+
+  public static final String CACHE_KEY = "eptsreports.evaluationToken";
+
+  private static final Log log = LogFactory.getLog(EvaluationCancellation.class);
+
+  private static final AtomicInteger ids = new AtomicInteger();
+
+  private static final List<EvaluationToken> running = new CopyOnWriteArrayList<>();
+
+  private static ScheduledExecutorService watchdog;
+
+  private EvaluationCancellation() {}
+
+  /**
+   * Starts the token of a report run
+   *
+   * @param context the context of the run
+   * @param name the name of the report
+   * @param reportTimeoutMillis the maximum time of the run, 0 for no limit
+   * @param queryTimeoutMillis the maximum time of an evaluation which does not evaluate other
+   *     definitions, 0 for no limit
+   * @return the token, null if the context already belongs to a run with a token
+   */
+  public static EvaluationToken startRun(
+      EvaluationContext context, String name, long reportTimeoutMillis, long queryTimeoutMillis) {
+    if (context.getFromCache(CACHE_KEY) != null) {
+      return null;
+    }
+    EvaluationToken token =
+        new EvaluationToken(ids.incrementAndGet(), name, reportTimeoutMillis, queryTimeoutMillis);
+    context.addToCache(CACHE_KEY, token);
+    running.add(token);
+    if (reportTimeoutMillis > 0 || queryTimeoutMillis > 0) {
+      startWatchdog();
+    }
+    return token;
+  }
+
+  /** Ends a run started by {@link #startRun} */
+  public static void endRun(EvaluationToken token) {
+    running.remove(token);
+  }
+
+  /** @return the token of the run of the context, null if there is none */
+  public static EvaluationToken getToken(EvaluationContext context) {
+    Object token = context.getFromCache(CACHE_KEY);
+    return token instanceof EvaluationToken ? (EvaluationToken) token : null;
+  }
+
+  /**
+   * Called by the evaluators between their stages
+   *
+   * @param context the evaluation context
+   * @throws EvaluationCancelledException if the run of the context was cancelled
+   */
+  public static void checkpoint(EvaluationContext context) throws EvaluationCancelledException {
+    EvaluationToken token = getToken(context);
+    if (token != null) {
+      token.checkpoint();
+    }
+  }
+
+  /** @return the runs in progress, oldest first */
+  public static List<EvaluationToken> getRunning() {
+    return new ArrayList<>(running);
+  }
+
+  /**
+   * Cancels a run in progress and kills the statements it has in flight
+   *
+   * @param id the id of the run
+   * @param reason why the run is cancelled
+   * @return false if there is no such run in progress
+   */
+  public static boolean cancel(int id, String reason) {
+    for (EvaluationToken token : running) {
+      if (token.getId() == id) {
+        cancel(token, reason);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Stops the watchdog, the runs in progress are no longer timed out */
+  public static synchronized void shutdown() {
+    if (watchdog != null) {
+      watchdog.shutdownNow();
+      watchdog = null;
+    }
+  }
+
+  /**
+   * @return the id of the database connection of the transaction of the current thread, -1 if it is
+   *     unknown
+   */
+  static long getConnectionId() {
+    try {
+      return Context.getService(EptsReportsService.class).getConnectionId();
+    } catch (RuntimeException e) {
+      log.debug("Unable to get the connection id, statements will not be killed", e);
+      return -1;
+    }
+  }
+
+  private static void cancel(EvaluationToken token, String reason) {
+    if (!token.cancel(reason)) {
+      return;
+    }
+    log.warn("Cancelling " + token.getName() + ": " + reason);
+    if (!token.isKillingQueries() || token.getConnectionIds().isEmpty()) {
+      return;
+    }
+    boolean session = !Context.isSessionOpen();
+    if (session) {
+      Context.openSession();
+    }
+    try {
+      token.killQueries(
+          new EvaluationToken.QueryKiller() {
+            @Override
+            public void kill(long connectionId) {
+              try {
+                Context.getService(EptsReportsService.class).killQuery(connectionId);
+              } catch (RuntimeException e) {
+                log.warn("Unable to kill the query of connection " + connectionId, e);
+              }
+            }
+          });
+    } finally {
+      if (session) {
+        Context.closeSession();
+      }
+    }
+  }
+
+  private static synchronized void startWatchdog() {
+    if (watchdog != null) {
+      return;
+    }
+    watchdog =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactory() {
+              @Override
+              public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "eptsreports-evaluation-watchdog");
+                t.setDaemon(true);
+                return t;
+              }
+            });
+    watchdog.scheduleWithFixedDelay(
+        new Runnable() {
+          @Override
+          public void run() {
+            long now = System.currentTimeMillis();
+            for (EvaluationToken token : running) {
+              String reason = token.getTimeoutReason(now);
+              if (reason != null) {
+                try {
+                  cancel(token, reason);
+                } catch (RuntimeException e) {
+                  log.error("Unable to cancel " + token.getName(), e);
+                }
+              }
+            }
+          }
+        },
+        1,
+        1,
+        TimeUnit.SECONDS);
+  }
+}
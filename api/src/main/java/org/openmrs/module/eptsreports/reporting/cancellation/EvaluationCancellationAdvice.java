@@ -0,0 +1,95 @@
+package org.openmrs.module.eptsreports.reporting.cancellation;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.EptsReportsConfig;
+import org.openmrs.module.reporting.evaluation.Definition;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.parameter.Mapped;
+import org.openmrs.module.reporting.report.definition.ReportDefinition;
+
+/**
+ * Around advice of the evaluate methods of the reporting definition services (see config.xml).
+ * Evaluating a report definition starts the {@link EvaluationToken} of the run, with the timeouts
+ * of the global properties, and every evaluation of the run checks the token before it starts and
+ * registers on it. The advice is added to the service after its transaction interceptor, so the
+ * connection id read by the outermost evaluation of a thread is the one of the transaction its
+ * statements run on.
+ */
+public class EvaluationCancellationAdvice implements MethodInterceptor {
+
+  private static final Log log = LogFactory.getLog(EvaluationCancellationAdvice.class);
+
+  private static final EvaluationToken.ConnectionIdLoader CONNECTION_ID =
+      new EvaluationToken.ConnectionIdLoader() {
+        @Override
+        public long load() {
+          return EvaluationCancellation.getConnectionId();
+        }
+      };
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Object[] arguments = invocation.getArguments();
+    if (!"evaluate".equals(invocation.getMethod().getName())
+        || arguments.length != 2
+        || !(arguments[1] instanceof EvaluationContext)) {
+      return invocation.proceed();
+    }
+    Object definition = arguments[0];
+    if (definition instanceof Mapped) {
+      definition = ((Mapped<?>) definition).getParameterizable();
+    }
+    EvaluationContext context = (EvaluationContext) arguments[1];
+    EvaluationToken run = null;
+    if (definition instanceof ReportDefinition) {
+      run =
+          EvaluationCancellation.startRun(
+              context,
+              ((Definition) definition).getName(),
+              getTimeout(EptsReportsConfig.GP_REPORT_TIMEOUT_MINUTES) * 60 * 1000,
+              getTimeout(EptsReportsConfig.GP_QUERY_TIMEOUT_SECONDS) * 1000);
+    }
+    EvaluationToken token = run != null ? run : EvaluationCancellation.getToken(context);
+    if (token == null) {
+      return invocation.proceed();
+    }
+    try {
+      token.checkpoint();
+      token.enter(CONNECTION_ID);
+      try {
+        return invocation.proceed();
+      } catch (EvaluationCancelledException e) {
+        throw e;
+      } catch (Throwable t) {
+        // the statement killed on cancellation fails with a database error
+        if (token.isCancelled()) {
+          throw new EvaluationCancelledException(token.getCancelReason(), t);
+        }
+        throw t;
+      } finally {
+        token.exit();
+      }
+    } finally {
+      if (run != null) {
+        EvaluationCancellation.endRun(run);
+      }
+    }
+  }
+
+  private static long getTimeout(String property) {
+    String value = Context.getAdministrationService().getGlobalProperty(property);
+    if (StringUtils.isNotBlank(value)) {
+      try {
+        return Math.max(Long.parseLong(value.trim()), 0);
+      } catch (NumberFormatException e) {
+        log.warn("Invalid value " + value + " for " + property + ", using no timeout");
+      }
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,11 @@
+package org.openmrs.module.eptsreports.reporting.cancellation;
+
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+
+/** Thrown by the evaluations of a report run that was cancelled or timed out */
+public class EvaluationCancelledException extends EvaluationException {
+
+  public EvaluationCancelledException(String reason, Throwable cause) {
+    super(reason, cause);
+  }
+}
@@ -0,0 +1,202 @@
+package org.openmrs.module.eptsreports.reporting.cancellation;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The cancellation token of one report run. The evaluations of the run check it between their
+ * stages. When the run has a timeout, the outermost evaluation of each thread registers the id of
+ * the database connection of its transaction, read on that connection when the evaluation starts,
+ * so the statement in flight can be killed when the run is cancelled. A query is only killed while
+ * the evaluation holding the connection is in progress: {@link #exit()} waits for a kill in
+ * progress, so the connection cannot be back in the pool when the kill is sent.
+ */
+public class EvaluationToken {
+
+  /** Returns the id of the database connection of the current thread */
+  public interface ConnectionIdLoader {
+    long load();
+  }
+
+  /** Kills the statement running on a database connection */
+  public interface QueryKiller {
+    void kill(long connectionId);
+  }
+
+  private final int id;
+
+  private final String name;
+
+  private final Date startDate = new Date();
+
+  private final long reportTimeoutMillis;
+
+  private final long queryTimeoutMillis;
+
+  private final ConcurrentMap<Thread, Connection> connections = new ConcurrentHashMap<>();
+
+  private volatile String cancelReason;
+
+  /**
+   * @param id the id of the run
+   * @param name the name of the report
+   * @param reportTimeoutMillis the maximum time of the run, 0 for no limit
+   * @param queryTimeoutMillis the maximum time of an evaluation which does not evaluate other
+   *     definitions, 0 for no limit
+   */
+  public EvaluationToken(int id, String name, long reportTimeoutMillis, long queryTimeoutMillis) {
+    this.id = id;
+    this.name = name;
+    this.reportTimeoutMillis = reportTimeoutMillis;
+    this.queryTimeoutMillis = queryTimeoutMillis;
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Date getStartDate() {
+    return startDate;
+  }
+
+  /**
+   * Cancels the run
+   *
+   * @param reason why the run is cancelled, reported by the evaluations that fail
+   * @return false if the run was already cancelled
+   */
+  public synchronized boolean cancel(String reason) {
+    if (cancelReason != null) {
+      return false;
+    }
+    cancelReason = reason;
+    return true;
+  }
+
+  public boolean isCancelled() {
+    return cancelReason != null;
+  }
+
+  public String getCancelReason() {
+    return cancelReason;
+  }
+
+  /** @throws EvaluationCancelledException if the run was cancelled */
+  public void checkpoint() throws EvaluationCancelledException {
+    if (cancelReason != null) {
+      throw new EvaluationCancelledException(cancelReason, null);
+    }
+  }
+
+  /** @return whether the run has a timeout, only then are the statements in flight killed */
+  public boolean isKillingQueries() {
+    return reportTimeoutMillis > 0 || queryTimeoutMillis > 0;
+  }
+
+  /**
+   * Registers the start of an evaluation on the current thread
+   *
+   * @param loader loads the id of the connection of the transaction of the thread, called by the
+   *     outermost evaluation of the thread when the run has a timeout
+   */
+  public void enter(ConnectionIdLoader loader) {
+    Thread thread = Thread.currentThread();
+    Connection connection = connections.get(thread);
+    if (connection == null) {
+      connection = new Connection(isKillingQueries() ? loader.load() : -1);
+      connections.put(thread, connection);
+    }
+    connection.starts.push(System.currentTimeMillis());
+  }
+
+  /**
+   * Registers the end of the last evaluation started on the current thread. The end of the
+   * outermost evaluation waits for a kill in progress on its connection.
+   */
+  public void exit() {
+    Thread thread = Thread.currentThread();
+    Connection connection = connections.get(thread);
+    if (connection != null) {
+      connection.starts.poll();
+      if (connection.starts.isEmpty()) {
+        synchronized (connection) {
+          connection.open = false;
+        }
+        connections.remove(thread);
+      }
+    }
+  }
+
+  /**
+   * Kills the statements in flight of the evaluations in progress
+   *
+   * @param killer kills the statement of a connection
+   */
+  public void killQueries(QueryKiller killer) {
+    for (Connection connection : connections.values()) {
+      synchronized (connection) {
+        if (connection.open && connection.id >= 0) {
+          killer.kill(connection.id);
+        }
+      }
+    }
+  }
+
+  /** @return the ids of the connections with evaluations in progress */
+  public List<Long> getConnectionIds() {
+    List<Long> ids = new ArrayList<>();
+    for (Connection connection : connections.values()) {
+      ids.add(connection.id);
+    }
+    return ids;
+  }
+
+  /**
+   * @param now the current time
+   * @return the reason to cancel the run at the given time, null if it is within its timeouts
+   */
+  public String getTimeoutReason(long now) {
+    if (reportTimeoutMillis > 0 && now - startDate.getTime() > reportTimeoutMillis) {
+      return name + " exceeded the report timeout of " + reportTimeoutMillis / 1000 + "s";
+    }
+    if (queryTimeoutMillis > 0) {
+      for (Map.Entry<Thread, Connection> e : connections.entrySet()) {
+        Long start = e.getValue().starts.peek();
+        if (start != null && now - start > queryTimeoutMillis) {
+          return "A query of "
+              + name
+              + " on "
+              + e.getKey().getName()
+              + " exceeded the query timeout of "
+              + queryTimeoutMillis / 1000
+              + "s";
+        }
+      }
+    }
+    return null;
+  }
+
+  /** The connection of one thread, with the start times of its evaluations, innermost first */
+  private static class Connection {
+
+    private final long id;
+
+    private final Deque<Long> starts = new ConcurrentLinkedDeque<>();
+
+    private boolean open = true;
+
+    Connection(long id) {
+      this.id = id;
+    }
+  }
+}
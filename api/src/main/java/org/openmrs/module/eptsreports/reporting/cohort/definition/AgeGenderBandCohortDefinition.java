@@ -0,0 +1,77 @@
+package org.openmrs.module.eptsreports.reporting.cohort.definition;
+
+import java.util.Date;
+import org.openmrs.module.reporting.cohort.definition.BaseCohortDefinition;
+import org.openmrs.module.reporting.definition.configuration.ConfigurationProperty;
+import org.openmrs.module.reporting.evaluation.caching.Caching;
+import org.openmrs.module.reporting.evaluation.caching.NoCachingStrategy;
+
+/**
+ * One age band and/or gender of an age/gender disaggregation. All the bands evaluated during a
+ * report run are served from a single load of the birthdate and gender of the base cohort.
+ *
+ * <p>The age is the age in complete years on the effective date, as for {@link
+ * org.openmrs.module.reporting.cohort.definition.AgeCohortDefinition}. Leaving both ages empty
+ * matches every age, unless unknown age is set, in which case only the patients without a birthdate
+ * are matched. Like the {@code unknownAge} SQL cohort it replaces, the unknown age band keeps
+ * voided patients and persons, which all the other bands leave out.
+ */
+@Caching(strategy = NoCachingStrategy.class)
+public class AgeGenderBandCohortDefinition extends BaseCohortDefinition {
+
+  @ConfigurationProperty(required = false)
+  private Integer minAge;
+
+  @ConfigurationProperty(required = false)
+  private Integer maxAge;
+
+  @ConfigurationProperty(required = false)
+  private boolean unknownAge = false;
+
+  /** M, F or null for both */
+  @ConfigurationProperty(required = false)
+  private String gender;
+
+  @ConfigurationProperty(required = false)
+  private Date effectiveDate;
+
+  public Integer getMinAge() {
+    return minAge;
+  }
+
+  public void setMinAge(Integer minAge) {
+    this.minAge = minAge;
+  }
+
+  public Integer getMaxAge() {
+    return maxAge;
+  }
+
+  public void setMaxAge(Integer maxAge) {
+    this.maxAge = maxAge;
+  }
+
+  public boolean isUnknownAge() {
+    return unknownAge;
+  }
+
+  public void setUnknownAge(boolean unknownAge) {
+    this.unknownAge = unknownAge;
+  }
+
+  public String getGender() {
+    return gender;
+  }
+
+  public void setGender(String gender) {
+    this.gender = gender;
+  }
+
+  public Date getEffectiveDate() {
+    return effectiveDate;
+  }
+
+  public void setEffectiveDate(Date effectiveDate) {
+    this.effectiveDate = effectiveDate;
+  }
+}
@@ -0,0 +1,39 @@
+package org.openmrs.module.eptsreports.reporting.cohort.definition;
+
+import org.openmrs.module.eptsreports.reporting.calculation.ClassifierCalculation;
+import org.openmrs.module.reporting.definition.configuration.ConfigurationProperty;
+import org.openmrs.module.reporting.evaluation.caching.Caching;
+import org.openmrs.module.reporting.evaluation.caching.NoCachingStrategy;
+
+/**
+ * Selects the patients of one category of a {@link ClassifierCalculation}. The classification is
+ * evaluated once per report run for the same calculation, calculation parameters, dates, location
+ * and base cohort, and shared by the definitions of all the categories.
+ */
+@Caching(strategy = NoCachingStrategy.class)
+public class ClassifierCohortDefinition extends CalculationCohortDefinition {
+
+  @ConfigurationProperty(required = true, group = "calculation")
+  private Object category;
+
+  public ClassifierCohortDefinition() {}
+
+  /**
+   * @param name the name
+   * @param calculation the classifier calculation
+   * @param category the category to select
+   */
+  public ClassifierCohortDefinition(
+      String name, ClassifierCalculation<?> calculation, Object category) {
+    super(name, calculation);
+    this.category = category;
+  }
+
+  public Object getCategory() {
+    return category;
+  }
+
+  public void setCategory(Object category) {
+    this.category = category;
+  }
+}
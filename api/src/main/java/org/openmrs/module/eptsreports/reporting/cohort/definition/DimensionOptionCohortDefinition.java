@@ -0,0 +1,53 @@
+package org.openmrs.module.eptsreports.reporting.cohort.definition;
+
+import java.util.ArrayList;
+import org.openmrs.module.reporting.cohort.definition.BaseCohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
+import org.openmrs.module.reporting.definition.configuration.ConfigurationProperty;
+import org.openmrs.module.reporting.evaluation.caching.Caching;
+import org.openmrs.module.reporting.evaluation.caching.NoCachingStrategy;
+
+/**
+ * Wraps the cohort definition of a dimension option so that it is evaluated once per report run for
+ * the same parameter values and base cohort, no matter how many data sets or columns use the
+ * dimension.
+ *
+ * <p>The dimension definitions are rebuilt for every data set, so the wrapped definitions are
+ * identified by the given key and not by their uuid.
+ */
+@Caching(strategy = NoCachingStrategy.class)
+public class DimensionOptionCohortDefinition extends BaseCohortDefinition {
+
+  @ConfigurationProperty private String key;
+
+  @ConfigurationProperty private CohortDefinition cohortDefinition;
+
+  public DimensionOptionCohortDefinition() {}
+
+  /**
+   * @param key identifies the dimension option, e.g. "gender|M"
+   * @param cohortDefinition the cohort definition of the option
+   */
+  public DimensionOptionCohortDefinition(String key, CohortDefinition cohortDefinition) {
+    this.key = key;
+    this.cohortDefinition = cohortDefinition;
+    setName(cohortDefinition.getName());
+    setParameters(new ArrayList<>(cohortDefinition.getParameters()));
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public void setKey(String key) {
+    this.key = key;
+  }
+
+  public CohortDefinition getCohortDefinition() {
+    return cohortDefinition;
+  }
+
+  public void setCohortDefinition(CohortDefinition cohortDefinition) {
+    this.cohortDefinition = cohortDefinition;
+  }
+}
@@ -0,0 +1,97 @@
+package org.openmrs.module.eptsreports.reporting.cohort.definition;
+
+import java.util.Date;
+import java.util.List;
+import org.openmrs.Concept;
+import org.openmrs.EncounterType;
+import org.openmrs.Location;
+import org.openmrs.module.eptsreports.reporting.utils.EPTSMetadataDatetimeQualifier;
+import org.openmrs.module.reporting.common.Localized;
+import org.openmrs.module.reporting.data.BaseDataDefinition;
+import org.openmrs.module.reporting.data.patient.definition.PatientDataDefinition;
+import org.openmrs.module.reporting.definition.configuration.ConfigurationProperty;
+import org.openmrs.module.reporting.definition.configuration.ConfigurationPropertyCachingStrategy;
+import org.openmrs.module.reporting.evaluation.caching.Caching;
+
+/**
+ * Returns, for each patient, all the obs of any of the questions recorded in encounters of any of
+ * the encounter types at the location, within the date window. Used to fetch the data of several
+ * {@link JembiEncounterObsDefinition}s in a single scan.
+ */
+@Caching(strategy = ConfigurationPropertyCachingStrategy.class)
+@Localized("reporting.JembiMultipleEncounterObsDefinition")
+public class JembiMultipleEncounterObsDefinition extends BaseDataDefinition
+    implements PatientDataDefinition {
+
+  @ConfigurationProperty(required = true)
+  private List<Concept> questions;
+
+  @ConfigurationProperty(required = true)
+  private List<EncounterType> encounterTypes;
+
+  @ConfigurationProperty(required = true)
+  private Location location;
+
+  @ConfigurationProperty(required = false)
+  private Date onOrAfter;
+
+  @ConfigurationProperty(required = false)
+  private Date onOrBefore;
+
+  @ConfigurationProperty(required = true)
+  private EPTSMetadataDatetimeQualifier eptsMetadataDatetimeQualifier;
+
+  @Override
+  public Class<?> getDataType() {
+    return List.class;
+  }
+
+  public List<Concept> getQuestions() {
+    return questions;
+  }
+
+  public void setQuestions(List<Concept> questions) {
+    this.questions = questions;
+  }
+
+  public List<EncounterType> getEncounterTypes() {
+    return encounterTypes;
+  }
+
+  public void setEncounterTypes(List<EncounterType> encounterTypes) {
+    this.encounterTypes = encounterTypes;
+  }
+
+  public Location getLocation() {
+    return location;
+  }
+
+  public void setLocation(Location location) {
+    this.location = location;
+  }
+
+  public Date getOnOrAfter() {
+    return onOrAfter;
+  }
+
+  public void setOnOrAfter(Date onOrAfter) {
+    this.onOrAfter = onOrAfter;
+  }
+
+  public Date getOnOrBefore() {
+    return onOrBefore;
+  }
+
+  public void setOnOrBefore(Date onOrBefore) {
+    this.onOrBefore = onOrBefore;
+  }
+
+  public EPTSMetadataDatetimeQualifier getEptsMetadataDatetimeQualifier() {
+    return eptsMetadataDatetimeQualifier;
+  }
+
+  public void setEptsMetadataDatetimeQualifier(
+      EPTSMetadataDatetimeQualifier eptsMetadataDatetimeQualifier) {
+    this.eptsMetadataDatetimeQualifier = eptsMetadataDatetimeQualifier;
+  }
+}
@@ -0,0 +1,47 @@
+package org.openmrs.module.eptsreports.reporting.cohort.definition;
+
+import org.openmrs.module.reporting.cohort.definition.BaseCohortDefinition;
+import org.openmrs.module.reporting.definition.configuration.ConfigurationProperty;
+import org.openmrs.module.reporting.evaluation.caching.Caching;
+import org.openmrs.module.reporting.evaluation.caching.NoCachingStrategy;
+
+/**
+ * A SQL cohort whose result is written once per report run into a table, see {@link
+ * org.openmrs.module.eptsreports.reporting.cache.MaterializedTables}, and evaluated like a {@link
+ * org.openmrs.module.reporting.cohort.definition.SqlCohortDefinition} outside of a report run. The
+ * query must return a patient_id column and may use the parameters of the definition as named
+ * parameters.
+ */
+@Caching(strategy = NoCachingStrategy.class)
+public class MaterializedCohortDefinition extends BaseCohortDefinition {
+
+  /** Name of the intermediate result, letters, digits and underscores only */
+  @ConfigurationProperty(required = true)
+  private String tableName;
+
+  @ConfigurationProperty(required = true)
+  private String query;
+
+  public MaterializedCohortDefinition() {}
+
+  public MaterializedCohortDefinition(String tableName, String query) {
+    this.tableName = tableName;
+    this.query = query;
+  }
+
+  public String getTableName() {
+    return tableName;
+  }
+
+  public void setTableName(String tableName) {
+    this.tableName = tableName;
+  }
+
+  public String getQuery() {
+    return query;
+  }
+
+  public void setQuery(String query) {
+    this.query = query;
+  }
+}
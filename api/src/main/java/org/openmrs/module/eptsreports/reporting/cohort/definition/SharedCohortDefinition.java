@@ -0,0 +1,54 @@
+package org.openmrs.module.eptsreports.reporting.cohort.definition;
+
+import java.util.ArrayList;
+import org.openmrs.module.reporting.cohort.definition.BaseCohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
+import org.openmrs.module.reporting.definition.configuration.ConfigurationProperty;
+import org.openmrs.module.reporting.evaluation.caching.Caching;
+import org.openmrs.module.reporting.evaluation.caching.NoCachingStrategy;
+
+/**
+ * Publishes a cohort under a key for the duration of a report run. Data sets of the same report
+ * that wrap their cohort with the same key, e.g. a patient list and the data set with its total,
+ * share a single evaluation for the same parameter values and base cohort.
+ *
+ * <p>The cohort queries build a new definition on every call, so the wrapped definitions are
+ * identified by the given key and not by their uuid.
+ */
+@Caching(strategy = NoCachingStrategy.class)
+public class SharedCohortDefinition extends BaseCohortDefinition {
+
+  @ConfigurationProperty private String key;
+
+  @ConfigurationProperty private CohortDefinition cohortDefinition;
+
+  public SharedCohortDefinition() {}
+
+  /**
+   * @param key identifies the shared cohort, e.g. "listOfPatientsEligibleForVL"
+   * @param cohortDefinition the cohort definition to share
+   */
+  public SharedCohortDefinition(String key, CohortDefinition cohortDefinition) {
+    this.key = key;
+    this.cohortDefinition = cohortDefinition;
+    setName(cohortDefinition.getName());
+    // a copy, so parameters added to one of the definitions are not added to the other
+    setParameters(new ArrayList<>(cohortDefinition.getParameters()));
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public void setKey(String key) {
+    this.key = key;
+  }
+
+  public CohortDefinition getCohortDefinition() {
+    return cohortDefinition;
+  }
+
+  public void setCohortDefinition(CohortDefinition cohortDefinition) {
+    this.cohortDefinition = cohortDefinition;
+  }
+}
@@ -0,0 +1,150 @@
+package org.openmrs.module.eptsreports.reporting.cohort.evaluator;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.openmrs.Cohort;
+import org.openmrs.annotation.Handler;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.AgeGenderBandCohortDefinition;
+import org.openmrs.module.reporting.cohort.EvaluatedCohort;
+import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.evaluator.CohortDefinitionEvaluator;
+import org.openmrs.module.reporting.common.DateUtil;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.querybuilder.SqlQueryBuilder;
+import org.openmrs.module.reporting.evaluation.service.EvaluationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Evaluates an {@link AgeGenderBandCohortDefinition}. The birthdate and gender of the base cohort
+ * are loaded in one query per report run, the ages on each effective date are computed once, and
+ * every band is then a filter over those values.
+ */
+@Handler(supports = AgeGenderBandCohortDefinition.class, order = 50)
+public class AgeGenderBandCohortDefinitionEvaluator implements CohortDefinitionEvaluator {
+
+  public static final String DEMOGRAPHICS_REGION = "demographics";
+
+  public static final String AGES_REGION = "ages";
+
+  private EvaluationService evaluationService;
+
+  @Autowired
+  public AgeGenderBandCohortDefinitionEvaluator(EvaluationService evaluationService) {
+    this.evaluationService = evaluationService;
+  }
+
+  @Override
+  public EvaluatedCohort evaluate(CohortDefinition cohortDefinition, EvaluationContext context)
+      throws EvaluationException {
+    AgeGenderBandCohortDefinition cd = (AgeGenderBandCohortDefinition) cohortDefinition;
+    EptsReportRunCache cache = EptsReportRunCache.getInstance(context);
+    String baseKey = EptsReportRunCache.getCohortKey(context.getBaseCohort());
+
+    final Demographics demographics =
+        cache.get(DEMOGRAPHICS_REGION, baseKey, () -> loadDemographics(context));
+
+    Map<Integer, Integer> ages = Collections.emptyMap();
+    boolean byAge = !cd.isUnknownAge() && (cd.getMinAge() != null || cd.getMaxAge() != null);
+    if (byAge) {
+      final Date effectiveDate =
+          DateUtil.getStartOfDay(
+              cd.getEffectiveDate() == null ? new Date() : cd.getEffectiveDate());
+      ages =
+          cache.get(
+              AGES_REGION,
+              effectiveDate.getTime() + "|" + baseKey,
+              () -> getAges(demographics.birthdates, effectiveDate));
+    }
+
+    List<Integer> members = new ArrayList<>();
+    for (Map.Entry<Integer, String> patient : demographics.genders.entrySet()) {
+      Integer patientId = patient.getKey();
+      if (cd.getGender() != null && !cd.getGender().equals(patient.getValue())) {
+        continue;
+      }
+      if (cd.isUnknownAge()) {
+        if (demographics.birthdates.get(patientId) != null) {
+          continue;
+        }
+      } else if (demographics.voided.contains(patientId)) {
+        continue;
+      } else if (byAge) {
+        Integer age = ages.get(patientId);
+        if (age == null
+            || (cd.getMinAge() != null && age < cd.getMinAge())
+            || (cd.getMaxAge() != null && age > cd.getMaxAge())) {
+          continue;
+        }
+      }
+      members.add(patientId);
+    }
+    return new EvaluatedCohort(new Cohort(members), cd, context);
+  }
+
+  private Demographics loadDemographics(EvaluationContext context) throws EvaluationException {
+    SqlQueryBuilder q = new SqlQueryBuilder();
+    // the voided patients are loaded too, for the unknown age band
+    q.append("SELECT p.patient_id, pr.birthdate, pr.gender, ");
+    q.append("       CASE WHEN p.voided = 0 AND pr.voided = 0 THEN 0 ELSE 1 END ");
+    q.append("FROM   patient p ");
+    q.append("       JOIN person pr ON pr.person_id = p.patient_id ");
+    if (context.getBaseCohort() != null) {
+      q.append("WHERE  p.patient_id IN (:patientIds) ");
+      q.addParameter("patientIds", new ArrayList<>(context.getBaseCohort().getMemberIds()));
+    }
+    Demographics demographics = new Demographics();
+    for (Object[] row : evaluationService.evaluateToList(q, new EvaluationContext())) {
+      Integer patientId = ((Number) row[0]).intValue();
+      demographics.birthdates.put(patientId, (Date) row[1]);
+      demographics.genders.put(patientId, (String) row[2]);
+      if (((Number) row[3]).intValue() == 1) {
+        demographics.voided.add(patientId);
+      }
+    }
+    return demographics;
+  }
+
+  private static Map<Integer, Integer> getAges(Map<Integer, Date> birthdates, Date effectiveDate) {
+    Map<Integer, Integer> ages = new HashMap<>();
+    Calendar on = Calendar.getInstance();
+    on.setTime(effectiveDate);
+    Calendar born = Calendar.getInstance();
+    for (Map.Entry<Integer, Date> e : birthdates.entrySet()) {
+      if (e.getValue() != null) {
+        born.setTime(e.getValue());
+        ages.put(e.getKey(), getAgeInYears(born, on));
+      }
+    }
+    return ages;
+  }
+
+  /** @return the number of complete years between the two dates */
+  static int getAgeInYears(Calendar born, Calendar on) {
+    int age = on.get(Calendar.YEAR) - born.get(Calendar.YEAR);
+    if (on.get(Calendar.MONTH) < born.get(Calendar.MONTH)
+        || (on.get(Calendar.MONTH) == born.get(Calendar.MONTH)
+            && on.get(Calendar.DAY_OF_MONTH) < born.get(Calendar.DAY_OF_MONTH))) {
+      age--;
+    }
+    return age;
+  }
+
+  /** Birthdate, gender and voided patients of a base cohort */
+  private static class Demographics {
+
+    private final Map<Integer, Date> birthdates = new HashMap<>();
+
+    private final Map<Integer, String> genders = new HashMap<>();
+
+    private final Set<Integer> voided = new HashSet<>();
+  }
+}
@@ -23,6 +23,8 @@ import org.openmrs.api.context.Context;
 import org.openmrs.calculation.patient.PatientCalculationContext;
 import org.openmrs.calculation.patient.PatientCalculationService;
 import org.openmrs.calculation.result.CalculationResultMap;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancellation;
 import org.openmrs.module.eptsreports.reporting.cohort.definition.CalculationCohortDefinition;
 import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
 import org.openmrs.module.reporting.cohort.EvaluatedCohort;
@@ -43,7 +45,9 @@ public class CalculationCohortDefinitionEvaluator implements CohortDefinitionEva
   @Override
   public EvaluatedCohort evaluate(CohortDefinition cohortDefinition, EvaluationContext context)
       throws EvaluationException {
+    EvaluationCancellation.checkpoint(context);
     CalculationResultMap map = doCalculation(cohortDefinition, context);
+    EvaluationCancellation.checkpoint(context);
 
     CalculationCohortDefinition cd = (CalculationCohortDefinition) cohortDefinition;
     Set<Integer> passing =
@@ -64,19 +68,42 @@ public class CalculationCohortDefinitionEvaluator implements CohortDefinitionEva
       CohortDefinition cohortDefinition, EvaluationContext context) {
     CalculationCohortDefinition cd = (CalculationCohortDefinition) cohortDefinition;
 
+    PatientCalculationService pcs = Context.getService(PatientCalculationService.class);
+    PatientCalculationContext calcContext = createCalculationContext(cd, context);
+
+    return pcs.evaluate(
+        getCohort(context).getMemberIds(),
+        cd.getCalculation(),
+        cd.getCalculationParameters(),
+        calcContext);
+  }
+
+  /**
+   * Creates the calculation context of a definition, with the location and dates of the definition
+   * and the run cache of the evaluation context
+   *
+   * @param cd the cohort definition
+   * @param context the evaluation context
+   * @return the calculation context
+   */
+  protected PatientCalculationContext createCalculationContext(
+      CalculationCohortDefinition cd, EvaluationContext context) {
     PatientCalculationService pcs = Context.getService(PatientCalculationService.class);
     PatientCalculationContext calcContext = pcs.createCalculationContext();
     calcContext.addToCache("location", cd.getLocation());
     calcContext.addToCache("onOrAfter", cd.getOnOrAfter());
     calcContext.addToCache("onOrBefore", cd.getOnOrBefore());
+    EptsReportRunCache.propagate(context, calcContext);
+    return calcContext;
+  }
 
+  /** @return the base cohort of the context, all the patients if there is none */
+  protected Cohort getCohort(EvaluationContext context) {
     Cohort cohort = context.getBaseCohort();
     if (cohort == null) {
       cohort = getAllPatientsCohort();
     }
-
-    return pcs.evaluate(
-        cohort.getMemberIds(), cd.getCalculation(), cd.getCalculationParameters(), calcContext);
+    return cohort;
   }
 
   private Cohort getAllPatientsCohort() {
@@ -0,0 +1,90 @@
+package org.openmrs.module.eptsreports.reporting.cohort.evaluator;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.openmrs.Cohort;
+import org.openmrs.annotation.Handler;
+import org.openmrs.calculation.patient.PatientCalculationContext;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.eptsreports.reporting.calculation.ClassifierCalculation;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancellation;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.ClassifierCohortDefinition;
+import org.openmrs.module.reporting.cohort.EvaluatedCohort;
+import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+
+/**
+ * Evaluates a {@link ClassifierCohortDefinition} from the classification of its calculation, kept
+ * in the {@link EptsReportRunCache} under the {@link #REGION} region and keyed by the calculation,
+ * its parameters other than the category, the location, the dates and the base cohort. The cache
+ * hits of the region are the classifications avoided during the run.
+ */
+@Handler(supports = ClassifierCohortDefinition.class, order = 50)
+public class ClassifierCohortDefinitionEvaluator extends CalculationCohortDefinitionEvaluator {
+
+  public static final String REGION = "classifier";
+
+  @Override
+  public EvaluatedCohort evaluate(
+      CohortDefinition cohortDefinition, final EvaluationContext context)
+      throws EvaluationException {
+    EvaluationCancellation.checkpoint(context);
+    final ClassifierCohortDefinition cd = (ClassifierCohortDefinition) cohortDefinition;
+    final ClassifierCalculation<?> calculation = (ClassifierCalculation<?>) cd.getCalculation();
+    final Map<String, Object> parameters = getParameters(cd, calculation);
+
+    Map<Integer, ?> categories =
+        EptsReportRunCache.getInstance(context)
+            .get(
+                REGION,
+                getCacheKey(cd, calculation, parameters, context),
+                () -> {
+                  PatientCalculationContext calcContext = createCalculationContext(cd, context);
+                  return calculation.classify(
+                      getCohort(context).getMemberIds(), parameters, calcContext);
+                });
+    EvaluationCancellation.checkpoint(context);
+
+    Set<Integer> passing = new HashSet<>();
+    for (Map.Entry<Integer, ?> entry : categories.entrySet()) {
+      if (cd.getCategory().equals(entry.getValue())) {
+        passing.add(entry.getKey());
+      }
+    }
+    return new EvaluatedCohort(new Cohort(passing), cd, context);
+  }
+
+  /** @return the calculation parameters of the definition, without the category */
+  private static Map<String, Object> getParameters(
+      ClassifierCohortDefinition cd, ClassifierCalculation<?> calculation) {
+    Map<String, Object> parameters = new HashMap<>();
+    if (cd.getCalculationParameters() != null) {
+      parameters.putAll(cd.getCalculationParameters());
+    }
+    parameters.remove(calculation.getCategoryParameter());
+    return parameters;
+  }
+
+  static String getCacheKey(
+      ClassifierCohortDefinition cd,
+      ClassifierCalculation<?> calculation,
+      Map<String, Object> parameters,
+      EvaluationContext context) {
+    StringBuilder key = new StringBuilder(calculation.getClass().getName());
+    key.append("|location=").append(EptsReportRunCache.getValueKey(cd.getLocation()));
+    key.append("|onOrAfter=").append(EptsReportRunCache.getValueKey(cd.getOnOrAfter()));
+    key.append("|onOrBefore=").append(EptsReportRunCache.getValueKey(cd.getOnOrBefore()));
+    for (Map.Entry<String, Object> entry : new TreeMap<>(parameters).entrySet()) {
+      key.append('|')
+          .append(entry.getKey())
+          .append('=')
+          .append(EptsReportRunCache.getValueKey(entry.getValue()));
+    }
+    key.append("|base=").append(EptsReportRunCache.getCohortKey(context.getBaseCohort()));
+    return key.toString();
+  }
+}
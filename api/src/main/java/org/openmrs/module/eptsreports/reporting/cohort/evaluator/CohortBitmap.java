@@ -0,0 +1,203 @@
+package org.openmrs.module.eptsreports.reporting.cohort.evaluator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.openmrs.Cohort;
+
+/**
+ * An immutable set of patient ids kept as bits, in containers of 65536 ids (1024 longs) keyed by
+ * the high 16 bits of the id, as roaring bitmaps do. Only the containers of the ranges holding
+ * members are allocated, so a cohort costs one bit per id of its ranges instead of a boxed {@link
+ * Integer} and a hash set entry per member, and the set algebra is done one long at a time.
+ */
+public final class CohortBitmap {
+
+  private static final int CONTAINER_LONGS = 1024;
+
+  private static final CohortBitmap EMPTY = new CohortBitmap(new int[0], new long[0][]);
+
+  /** The sorted high 16 bits of the containers */
+  private final int[] highs;
+
+  private final long[][] containers;
+
+  private CohortBitmap(int[] highs, long[][] containers) {
+    this.highs = highs;
+    this.containers = containers;
+  }
+
+  /**
+   * @param memberIds the patient ids, not negative
+   * @return the bitmap of the ids
+   */
+  public static CohortBitmap of(Collection<Integer> memberIds) {
+    if (memberIds.isEmpty()) {
+      return EMPTY;
+    }
+    int[] ids = new int[memberIds.size()];
+    int i = 0;
+    for (Integer id : memberIds) {
+      if (id < 0) {
+        throw new IllegalArgumentException("Invalid patient id " + id);
+      }
+      ids[i++] = id;
+    }
+    Arrays.sort(ids);
+
+    int[] highs = new int[ids.length];
+    long[][] containers = new long[ids.length][];
+    int count = -1;
+    for (int id : ids) {
+      int high = id >>> 16;
+      if (count < 0 || highs[count] != high) {
+        count++;
+        highs[count] = high;
+        containers[count] = new long[CONTAINER_LONGS];
+      }
+      int low = id & 0xFFFF;
+      containers[count][low >>> 6] |= 1L << low;
+    }
+    return new CohortBitmap(Arrays.copyOf(highs, count + 1), Arrays.copyOf(containers, count + 1));
+  }
+
+  /** @return the members of both bitmaps */
+  public CohortBitmap and(CohortBitmap other) {
+    int[] resultHighs = new int[Math.min(highs.length, other.highs.length)];
+    long[][] resultContainers = new long[resultHighs.length][];
+    int count = 0;
+    int i = 0;
+    int j = 0;
+    while (i < highs.length && j < other.highs.length) {
+      if (highs[i] < other.highs[j]) {
+        i++;
+      } else if (highs[i] > other.highs[j]) {
+        j++;
+      } else {
+        long[] container = new long[CONTAINER_LONGS];
+        boolean empty = true;
+        for (int k = 0; k < CONTAINER_LONGS; k++) {
+          container[k] = containers[i][k] & other.containers[j][k];
+          empty &= container[k] == 0;
+        }
+        if (!empty) {
+          resultHighs[count] = highs[i];
+          resultContainers[count++] = container;
+        }
+        i++;
+        j++;
+      }
+    }
+    return create(resultHighs, resultContainers, count);
+  }
+
+  /** @return the members of either bitmap */
+  public CohortBitmap or(CohortBitmap other) {
+    int[] resultHighs = new int[highs.length + other.highs.length];
+    long[][] resultContainers = new long[resultHighs.length][];
+    int count = 0;
+    int i = 0;
+    int j = 0;
+    while (i < highs.length || j < other.highs.length) {
+      if (j == other.highs.length || (i < highs.length && highs[i] < other.highs[j])) {
+        resultHighs[count] = highs[i];
+        resultContainers[count++] = containers[i++];
+      } else if (i == highs.length || highs[i] > other.highs[j]) {
+        resultHighs[count] = other.highs[j];
+        resultContainers[count++] = other.containers[j++];
+      } else {
+        long[] container = new long[CONTAINER_LONGS];
+        for (int k = 0; k < CONTAINER_LONGS; k++) {
+          container[k] = containers[i][k] | other.containers[j][k];
+        }
+        resultHighs[count] = highs[i];
+        resultContainers[count++] = container;
+        i++;
+        j++;
+      }
+    }
+    return create(resultHighs, resultContainers, count);
+  }
+
+  /** @return the members of this bitmap that are not members of the other */
+  public CohortBitmap andNot(CohortBitmap other) {
+    int[] resultHighs = new int[highs.length];
+    long[][] resultContainers = new long[highs.length][];
+    int count = 0;
+    int j = 0;
+    for (int i = 0; i < highs.length; i++) {
+      while (j < other.highs.length && other.highs[j] < highs[i]) {
+        j++;
+      }
+      if (j == other.highs.length || other.highs[j] != highs[i]) {
+        resultHighs[count] = highs[i];
+        resultContainers[count++] = containers[i];
+        continue;
+      }
+      long[] container = new long[CONTAINER_LONGS];
+      boolean empty = true;
+      for (int k = 0; k < CONTAINER_LONGS; k++) {
+        container[k] = containers[i][k] & ~other.containers[j][k];
+        empty &= container[k] == 0;
+      }
+      if (!empty) {
+        resultHighs[count] = highs[i];
+        resultContainers[count++] = container;
+      }
+    }
+    return create(resultHighs, resultContainers, count);
+  }
+
+  /** @return whether the id is a member */
+  public boolean contains(int id) {
+    if (id < 0) {
+      return false;
+    }
+    int index = Arrays.binarySearch(highs, id >>> 16);
+    if (index < 0) {
+      return false;
+    }
+    int low = id & 0xFFFF;
+    return (containers[index][low >>> 6] & (1L << low)) != 0;
+  }
+
+  /** @return the number of members */
+  public int size() {
+    int size = 0;
+    for (long[] container : containers) {
+      for (long word : container) {
+        size += Long.bitCount(word);
+      }
+    }
+    return size;
+  }
+
+  /** @return the members, in ascending order */
+  public List<Integer> toList() {
+    List<Integer> ids = new ArrayList<>(size());
+    for (int i = 0; i < highs.length; i++) {
+      int base = highs[i] << 16;
+      for (int k = 0; k < CONTAINER_LONGS; k++) {
+        long word = containers[i][k];
+        while (word != 0) {
+          ids.add(base + (k << 6) + Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+    }
+    return ids;
+  }
+
+  /** @return a cohort of the members */
+  public Cohort toCohort() {
+    return new Cohort(toList());
+  }
+
+  private static CohortBitmap create(int[] highs, long[][] containers, int count) {
+    if (count == 0) {
+      return EMPTY;
+    }
+    return new CohortBitmap(Arrays.copyOf(highs, count), Arrays.copyOf(containers, count));
+  }
+}
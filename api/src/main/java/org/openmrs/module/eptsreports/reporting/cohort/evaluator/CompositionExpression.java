@@ -0,0 +1,217 @@
+package org.openmrs.module.eptsreports.reporting.cohort.evaluator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+
+/**
+ * A parsed composition string, evaluated over {@link CohortBitmap}s. Only the compositions whose
+ * meaning does not depend on the precedence of the operators are parsed: each level of parentheses
+ * either unions its operands with OR, or intersects them with AND and subtracts the ones preceded
+ * by NOT ({@code A NOT B} is read as {@code A AND NOT B}). As for the reporting evaluator, {@code
+ * NOT B} is all the patients but B, so {@code A AND NOT B} only keeps the members of A that are
+ * among all the patients. A leading NOT and OR NOT are not parsed.
+ */
+public final class CompositionExpression {
+
+  /** Evaluates the search of a key of the composition */
+  public interface Searches {
+
+    CohortBitmap evaluate(String key) throws EvaluationException;
+  }
+
+  /** Evaluates all the patients, the patients a NOT is taken from */
+  public interface AllPatients {
+
+    CohortBitmap evaluate() throws EvaluationException;
+  }
+
+  private static final String AND = "AND";
+
+  private static final String OR = "OR";
+
+  private static final String NOT = "NOT";
+
+  private final String key;
+
+  private final boolean union;
+
+  private final List<CompositionExpression> included;
+
+  private final List<CompositionExpression> excluded;
+
+  private CompositionExpression(
+      String key,
+      boolean union,
+      List<CompositionExpression> included,
+      List<CompositionExpression> excluded) {
+    this.key = key;
+    this.union = union;
+    this.included = included;
+    this.excluded = excluded;
+  }
+
+  /**
+   * @param compositionString the composition string
+   * @return the expression, or null when the string is not supported
+   */
+  public static CompositionExpression parse(String compositionString) {
+    if (compositionString == null) {
+      return null;
+    }
+    List<String> tokens = tokenize(compositionString);
+    int[] position = {0};
+    CompositionExpression expression = parseGroup(tokens, position, false);
+    return position[0] == tokens.size() ? expression : null;
+  }
+
+  /** @return the keys of the searches used by the expression */
+  public Set<String> getKeys() {
+    Set<String> keys = new LinkedHashSet<>();
+    collectKeys(keys);
+    return keys;
+  }
+
+  /**
+   * @param searches evaluates the searches of the keys
+   * @param allPatients evaluates all the patients, only called when the composition has a NOT
+   * @return the members of the composition
+   */
+  public CohortBitmap evaluate(Searches searches, AllPatients allPatients)
+      throws EvaluationException {
+    if (key != null) {
+      return searches.evaluate(key);
+    }
+    CohortBitmap result = included.get(0).evaluate(searches, allPatients);
+    for (int i = 1; i < included.size(); i++) {
+      CohortBitmap operand = included.get(i).evaluate(searches, allPatients);
+      result = union ? result.or(operand) : result.and(operand);
+    }
+    if (!excluded.isEmpty()) {
+      result = result.and(allPatients.evaluate());
+    }
+    for (CompositionExpression operand : excluded) {
+      result = result.andNot(operand.evaluate(searches, allPatients));
+    }
+    return result;
+  }
+
+  private void collectKeys(Set<String> keys) {
+    if (key != null) {
+      keys.add(key);
+      return;
+    }
+    for (CompositionExpression operand : included) {
+      operand.collectKeys(keys);
+    }
+    for (CompositionExpression operand : excluded) {
+      operand.collectKeys(keys);
+    }
+  }
+
+  /**
+   * Parses the operands of one level of parentheses, up to its closing parenthesis
+   *
+   * @return the expression of the level, or null when it is not supported
+   */
+  private static CompositionExpression parseGroup(
+      List<String> tokens, int[] position, boolean nested) {
+    List<CompositionExpression> included = new ArrayList<>();
+    List<CompositionExpression> excluded = new ArrayList<>();
+    String operator = null;
+    String pending = null;
+    boolean negated = false;
+
+    while (position[0] < tokens.size()) {
+      String token = tokens.get(position[0]++);
+      String upper = token.toUpperCase();
+      boolean expectOperand = included.isEmpty() || pending != null;
+
+      if (!expectOperand) {
+        if (AND.equals(upper) || OR.equals(upper)) {
+          pending = upper;
+        } else if (NOT.equals(upper)) {
+          pending = AND;
+          negated = true;
+        } else if (")".equals(token) && nested) {
+          return group(included, excluded, operator);
+        } else {
+          return null;
+        }
+        if (operator != null && !operator.equals(pending)) {
+          return null;
+        }
+        operator = pending;
+        continue;
+      }
+
+      CompositionExpression operand;
+      if (NOT.equals(upper)) {
+        if (negated || !AND.equals(pending)) {
+          return null;
+        }
+        negated = true;
+        continue;
+      } else if ("(".equals(token)) {
+        operand = parseGroup(tokens, position, true);
+        if (operand == null) {
+          return null;
+        }
+      } else if (AND.equals(upper) || OR.equals(upper) || ")".equals(token)) {
+        return null;
+      } else {
+        operand = new CompositionExpression(token, false, null, null);
+      }
+
+      if (negated) {
+        excluded.add(operand);
+      } else {
+        included.add(operand);
+      }
+      pending = null;
+      negated = false;
+    }
+
+    if (nested || included.isEmpty() || pending != null) {
+      return null;
+    }
+    return group(included, excluded, operator);
+  }
+
+  private static CompositionExpression group(
+      List<CompositionExpression> included, List<CompositionExpression> excluded, String operator) {
+    if (included.size() == 1 && excluded.isEmpty()) {
+      return included.get(0);
+    }
+    return new CompositionExpression(
+        null,
+        OR.equals(operator),
+        Collections.unmodifiableList(included),
+        Collections.unmodifiableList(excluded));
+  }
+
+  private static List<String> tokenize(String compositionString) {
+    List<String> tokens = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    for (char c : compositionString.toCharArray()) {
+      if (Character.isWhitespace(c) || c == '(' || c == ')') {
+        if (current.length() > 0) {
+          tokens.add(current.toString());
+          current.setLength(0);
+        }
+        if (c == '(' || c == ')') {
+          tokens.add(String.valueOf(c));
+        }
+      } else {
+        current.append(c);
+      }
+    }
+    if (current.length() > 0) {
+      tokens.add(current.toString());
+    }
+    return tokens;
+  }
+}
@@ -0,0 +1,59 @@
+package org.openmrs.module.eptsreports.reporting.cohort.evaluator;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.Cohort;
+import org.openmrs.annotation.Handler;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.DimensionOptionCohortDefinition;
+import org.openmrs.module.reporting.cohort.EvaluatedCohort;
+import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.evaluator.CohortDefinitionEvaluator;
+import org.openmrs.module.reporting.cohort.definition.service.CohortDefinitionService;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Evaluates a {@link DimensionOptionCohortDefinition} through the {@link EptsReportRunCache}, keyed
+ * by the option key, the parameter values and the base cohort. The cache hits of the {@link
+ * #REGION} region are the dimension evaluations avoided during the run.
+ */
+@Handler(supports = DimensionOptionCohortDefinition.class, order = 50)
+public class DimensionOptionCohortDefinitionEvaluator implements CohortDefinitionEvaluator {
+
+  public static final String REGION = "dimension";
+
+  private static final Log log = LogFactory.getLog(DimensionOptionCohortDefinitionEvaluator.class);
+
+  private CohortDefinitionService cohortDefinitionService;
+
+  @Autowired
+  public DimensionOptionCohortDefinitionEvaluator(CohortDefinitionService cohortDefinitionService) {
+    this.cohortDefinitionService = cohortDefinitionService;
+  }
+
+  @Override
+  public EvaluatedCohort evaluate(
+      CohortDefinition cohortDefinition, final EvaluationContext context)
+      throws EvaluationException {
+    final DimensionOptionCohortDefinition cd = (DimensionOptionCohortDefinition) cohortDefinition;
+    EptsReportRunCache cache = EptsReportRunCache.getInstance(context);
+    Cohort cohort =
+        cache.get(
+            REGION,
+            getCacheKey(cd, context),
+            () -> {
+              Cohort c = cohortDefinitionService.evaluate(cd.getCohortDefinition(), context);
+              return new Cohort(c.getMemberIds());
+            });
+    if (log.isDebugEnabled()) {
+      log.debug(cache.getHits(REGION) + " dimension evaluations avoided so far");
+    }
+    return new EvaluatedCohort(cohort, cd, context);
+  }
+
+  static String getCacheKey(DimensionOptionCohortDefinition cd, EvaluationContext context) {
+    return EptsReportRunCache.getEvaluationKey(cd.getKey(), cd.getParameters(), context);
+  }
+}
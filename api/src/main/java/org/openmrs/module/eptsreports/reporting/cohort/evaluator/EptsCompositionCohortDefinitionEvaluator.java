@@ -0,0 +1,70 @@
+package org.openmrs.module.eptsreports.reporting.cohort.evaluator;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.openmrs.annotation.Handler;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancellation;
+import org.openmrs.module.reporting.cohort.Cohorts;
+import org.openmrs.module.reporting.cohort.EvaluatedCohort;
+import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.CompositionCohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.evaluator.CompositionCohortDefinitionEvaluator;
+import org.openmrs.module.reporting.cohort.definition.service.CohortDefinitionService;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Evaluates a {@link CompositionCohortDefinition} over {@link CohortBitmap}s: each search is
+ * evaluated once and turned into a bitmap, the AND, OR and NOT of the composition string are done
+ * on the bitmaps and only the result is turned back into a cohort. A NOT is taken from {@link
+ * Cohorts#allPatients(EvaluationContext)}, as in the reporting evaluator. The composition strings
+ * that {@link CompositionExpression} does not parse, or that use a key without search, are left to
+ * the reporting evaluator.
+ */
+@Handler(supports = CompositionCohortDefinition.class, order = 50)
+public class EptsCompositionCohortDefinitionEvaluator extends CompositionCohortDefinitionEvaluator {
+
+  private CohortDefinitionService cohortDefinitionService;
+
+  @Autowired
+  public EptsCompositionCohortDefinitionEvaluator(CohortDefinitionService cohortDefinitionService) {
+    this.cohortDefinitionService = cohortDefinitionService;
+  }
+
+  @Override
+  public EvaluatedCohort evaluate(
+      CohortDefinition cohortDefinition, final EvaluationContext context)
+      throws EvaluationException {
+    final CompositionCohortDefinition cd = (CompositionCohortDefinition) cohortDefinition;
+    CompositionExpression expression = CompositionExpression.parse(cd.getCompositionString());
+    if (expression == null || !cd.getSearches().keySet().containsAll(expression.getKeys())) {
+      return super.evaluate(cohortDefinition, context);
+    }
+
+    final Map<String, CohortBitmap> evaluated = new HashMap<>();
+    final CohortBitmap[] allPatients = new CohortBitmap[1];
+    CohortBitmap result =
+        expression.evaluate(
+            key -> {
+              CohortBitmap bitmap = evaluated.get(key);
+              if (bitmap == null) {
+                EvaluationCancellation.checkpoint(context);
+                bitmap =
+                    CohortBitmap.of(
+                        cohortDefinitionService
+                            .evaluate(cd.getSearches().get(key), context)
+                            .getMemberIds());
+                evaluated.put(key, bitmap);
+              }
+              return bitmap;
+            },
+            () -> {
+              if (allPatients[0] == null) {
+                allPatients[0] = CohortBitmap.of(Cohorts.allPatients(context).getMemberIds());
+              }
+              return allPatients[0];
+            });
+    return new EvaluatedCohort(result.toCohort(), cd, context);
+  }
+}
@@ -1,8 +1,10 @@
 package org.openmrs.module.eptsreports.reporting.cohort.evaluator;
 
 import java.util.List;
+import java.util.Map;
 import org.openmrs.Obs;
 import org.openmrs.annotation.Handler;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancellation;
 import org.openmrs.module.eptsreports.reporting.cohort.definition.JembiEncounterObsDefinition;
 import org.openmrs.module.eptsreports.reporting.utils.EPTSMetadataDatetimeQualifier;
 import org.openmrs.module.reporting.common.ListMap;
@@ -28,82 +30,41 @@ public class JembiEncounterObsDefinitionEvaluator implements PatientDataEvaluato
     JembiEncounterObsDefinition def = (JembiEncounterObsDefinition) definition;
     EvaluatedPatientData evaluatedPatientData = new EvaluatedPatientData(def, context);
 
-    HqlQueryBuilder hqb = buildQueryBuilder(def);
+    if (def.getTimeQualifier() == TimeQualifier.ANY) {
+      List<Object[]> queryResult =
+          evaluationService.evaluateToList(buildQueryBuilder(def, "o.personId", "o"), context);
+      EvaluationCancellation.checkpoint(context);
 
-    List<Object[]> queryResult = evaluationService.evaluateToList(hqb, context);
-
-    ListMap<Integer, Obs> listMap = new ListMap<>();
-    for (Object[] row : queryResult) {
-      listMap.putInList((Integer) row[0], (Obs) row[1]);
-    }
-
-    for (Integer pId : listMap.keySet()) {
-      List<Obs> obss = listMap.get(pId);
-
-      if (def.getTimeQualifier() == TimeQualifier.FIRST
-          && def.getEptsMetadataDatetimeQualifier() == EPTSMetadataDatetimeQualifier.OBS_DATETIME) {
-        Obs obs = obss.get(0);
-
-        evaluatedPatientData.addData(pId, obs);
-        continue;
-      }
-
-      if (def.getTimeQualifier() == TimeQualifier.LAST
-          && def.getEptsMetadataDatetimeQualifier() == EPTSMetadataDatetimeQualifier.OBS_DATETIME) {
-        Obs obs = obss.get(0);
-
-        evaluatedPatientData.addData(pId, obs);
-        continue;
+      ListMap<Integer, Obs> listMap = new ListMap<>();
+      for (Object[] row : queryResult) {
+        listMap.putInList((Integer) row[0], (Obs) row[1]);
       }
-
-      if (def.getTimeQualifier() == TimeQualifier.FIRST
-          && def.getEptsMetadataDatetimeQualifier()
-              == EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME) {
-        Obs obs = obss.get(0);
-
-        evaluatedPatientData.addData(pId, obs);
-        continue;
-      }
-
-      if (def.getTimeQualifier() == TimeQualifier.LAST
-          && def.getEptsMetadataDatetimeQualifier()
-              == EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME) {
-        Obs obs = obss.get(0);
-
-        evaluatedPatientData.addData(pId, obs);
-        continue;
-      }
-
-      if (def.getTimeQualifier() == TimeQualifier.LAST
-          && def.getEptsMetadataDatetimeQualifier()
-              == EPTSMetadataDatetimeQualifier.VALUE_DATETIME) {
-        Obs obs = obss.get(0);
-
-        evaluatedPatientData.addData(pId, obs);
-        continue;
-      }
-
-      if (def.getTimeQualifier() == TimeQualifier.FIRST
-          && def.getEptsMetadataDatetimeQualifier()
-              == EPTSMetadataDatetimeQualifier.VALUE_DATETIME) {
-        Obs obs = obss.get(0);
-
-        evaluatedPatientData.addData(pId, obs);
-        continue;
+      for (Integer pId : listMap.keySet()) {
+        evaluatedPatientData.addData(pId, listMap.get(pId));
       }
+      return evaluatedPatientData;
+    }
+    if (def.getTimeQualifier() == null || def.getEptsMetadataDatetimeQualifier() == null) {
+      return evaluatedPatientData;
+    }
 
-      if (def.getTimeQualifier() == TimeQualifier.ANY) {
+    // the query orders the obs of each patient so the first or last one comes first, the obs ids
+    // are enough to pick it and only the picked obs are loaded
+    List<Object[]> queryResult =
+        evaluationService.evaluateToList(buildQueryBuilder(def, "o.personId", "o.obsId"), context);
+    EvaluationCancellation.checkpoint(context);
 
-        evaluatedPatientData.addData(pId, obss);
-      }
+    for (Map.Entry<Integer, Obs> e :
+        ObsSelection.load(ObsSelection.first(queryResult), evaluationService, context).entrySet()) {
+      evaluatedPatientData.addData(e.getKey(), e.getValue());
     }
 
     return evaluatedPatientData;
   }
 
-  private HqlQueryBuilder buildQueryBuilder(JembiEncounterObsDefinition def) {
+  private HqlQueryBuilder buildQueryBuilder(JembiEncounterObsDefinition def, String... columns) {
     HqlQueryBuilder hqb = new HqlQueryBuilder();
-    hqb.select("o.personId", "o");
+    hqb.select(columns);
     hqb.from(Obs.class, "o");
     hqb.whereEqual("o.encounter.encounterType", def.getEncounterType());
     hqb.whereEqual("o.encounter.location", def.getLocation());
@@ -168,6 +129,12 @@ public class JembiEncounterObsDefinitionEvaluator implements PatientDataEvaluato
             == EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME) {
       hqb.orderDesc("o.encounter.encounterDatetime");
     }
+    // obs of the same date by id, the last obs being the one with the highest id
+    if (def.getTimeQualifier() == TimeQualifier.LAST) {
+      hqb.orderDesc("o.obsId");
+    } else {
+      hqb.orderAsc("o.obsId");
+    }
 
     return hqb;
   }
@@ -0,0 +1,83 @@
+package org.openmrs.module.eptsreports.reporting.cohort.evaluator;
+
+import java.util.List;
+import org.openmrs.Obs;
+import org.openmrs.annotation.Handler;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancellation;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.JembiMultipleEncounterObsDefinition;
+import org.openmrs.module.eptsreports.reporting.utils.EPTSMetadataDatetimeQualifier;
+import org.openmrs.module.reporting.common.ListMap;
+import org.openmrs.module.reporting.data.patient.EvaluatedPatientData;
+import org.openmrs.module.reporting.data.patient.definition.PatientDataDefinition;
+import org.openmrs.module.reporting.data.patient.evaluator.PatientDataEvaluator;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.querybuilder.HqlQueryBuilder;
+import org.openmrs.module.reporting.evaluation.service.EvaluationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@Handler(supports = JembiMultipleEncounterObsDefinition.class, order = 50)
+public class JembiMultipleEncounterObsDefinitionEvaluator implements PatientDataEvaluator {
+
+  @Autowired private EvaluationService evaluationService;
+
+  @Override
+  public EvaluatedPatientData evaluate(PatientDataDefinition definition, EvaluationContext context)
+      throws EvaluationException {
+
+    JembiMultipleEncounterObsDefinition def = (JembiMultipleEncounterObsDefinition) definition;
+    EvaluatedPatientData evaluatedPatientData = new EvaluatedPatientData(def, context);
+
+    if (context.getBaseCohort() != null && context.getBaseCohort().isEmpty()) {
+      return evaluatedPatientData;
+    }
+
+    HqlQueryBuilder hqb = buildQueryBuilder(def, context);
+
+    List<Object[]> queryResult = evaluationService.evaluateToList(hqb, context);
+    EvaluationCancellation.checkpoint(context);
+
+    ListMap<Integer, Obs> listMap = new ListMap<>();
+    for (Object[] row : queryResult) {
+      listMap.putInList((Integer) row[0], (Obs) row[1]);
+    }
+
+    for (Integer pId : listMap.keySet()) {
+      evaluatedPatientData.addData(pId, listMap.get(pId));
+    }
+
+    return evaluatedPatientData;
+  }
+
+  private HqlQueryBuilder buildQueryBuilder(
+      JembiMultipleEncounterObsDefinition def, EvaluationContext context) {
+    HqlQueryBuilder hqb = new HqlQueryBuilder();
+    hqb.select("o.personId", "o");
+    hqb.from(Obs.class, "o");
+    hqb.wherePatientIn("o.personId", context);
+    hqb.whereIn("o.encounter.encounterType", def.getEncounterTypes());
+    hqb.whereEqual("o.encounter.location", def.getLocation());
+    hqb.whereIn("o.concept", def.getQuestions());
+
+    String dateProperty = getDateProperty(def.getEptsMetadataDatetimeQualifier());
+    if (def.getOnOrAfter() != null) {
+      hqb.whereGreaterOrEqualTo(dateProperty, def.getOnOrAfter());
+    }
+    if (def.getOnOrBefore() != null) {
+      hqb.whereLessOrEqualTo(dateProperty, def.getOnOrBefore());
+    }
+    hqb.orderAsc("o.obsId");
+
+    return hqb;
+  }
+
+  private String getDateProperty(EPTSMetadataDatetimeQualifier qualifier) {
+    if (qualifier == EPTSMetadataDatetimeQualifier.VALUE_DATETIME) {
+      return "o.valueDatetime";
+    }
+    if (qualifier == EPTSMetadataDatetimeQualifier.OBS_DATETIME) {
+      return "o.obsDatetime";
+    }
+    return "o.encounter.encounterDatetime";
+  }
+}
@@ -16,10 +16,11 @@ package org.openmrs.module.eptsreports.reporting.cohort.evaluator;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import org.openmrs.Obs;
 import org.openmrs.annotation.Handler;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancellation;
 import org.openmrs.module.eptsreports.reporting.cohort.definition.JembiObsDefinition;
-import org.openmrs.module.reporting.common.ListMap;
 import org.openmrs.module.reporting.data.patient.EvaluatedPatientData;
 import org.openmrs.module.reporting.data.patient.definition.PatientDataDefinition;
 import org.openmrs.module.reporting.data.patient.evaluator.PatientDataEvaluator;
@@ -44,33 +45,26 @@ public class JembiObsDefinitionEvaluator implements PatientDataEvaluator {
       return c;
     }
 
-    HqlQueryBuilder q = getHqlQuery(context, def);
+    // the obs ids only, so just the picked obs are loaded
+    HqlQueryBuilder q = getHqlQuery(context, def, "obs.person.personId", "obs.obsId");
 
     List<Object[]> queryResult = evaluationService.evaluateToList(q, context);
+    EvaluationCancellation.checkpoint(context);
 
-    ListMap<Integer, Obs> patientToObs = new ListMap<Integer, Obs>();
-    for (Object[] row : queryResult) {
-      patientToObs.putInList((Integer) row[0], (Obs) row[1]);
-    }
-
-    for (Integer pId : patientToObs.keySet()) {
-      List<Obs> observations = patientToObs.get(pId);
-      Obs obs;
-      if (def.isFirst()) {
-        obs = observations.get(0);
-      } else {
-        // last
-        obs = observations.get(observations.size() - 1);
-      }
-      c.addData(pId, obs);
+    Map<Integer, Integer> picked =
+        def.isFirst() ? ObsSelection.first(queryResult) : ObsSelection.last(queryResult);
+    for (Map.Entry<Integer, Obs> e :
+        ObsSelection.load(picked, evaluationService, context).entrySet()) {
+      c.addData(e.getKey(), e.getValue());
     }
 
     return c;
   }
 
-  private HqlQueryBuilder getHqlQuery(EvaluationContext context, JembiObsDefinition def) {
+  private HqlQueryBuilder getHqlQuery(
+      EvaluationContext context, JembiObsDefinition def, String... columns) {
     HqlQueryBuilder q = new HqlQueryBuilder();
-    q.select("obs.person.personId", "obs");
+    q.select(columns);
     q.from(Obs.class, "obs");
     q.wherePatientIn("obs.person.personId", context);
     q.whereEqual("obs.concept", def.getQuestion());
@@ -95,6 +89,8 @@ public class JembiObsDefinitionEvaluator implements PatientDataEvaluator {
     } else {
       q.orderAsc("obs.valueDatetime");
     }
+    // obs of the same date by id, the last obs being the one with the highest id
+    q.orderAsc("obs.obsId");
     return q;
   }
 }
@@ -3,6 +3,7 @@ package org.openmrs.module.eptsreports.reporting.cohort.evaluator;
 import java.util.List;
 import org.openmrs.PatientState;
 import org.openmrs.annotation.Handler;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancellation;
 import org.openmrs.module.eptsreports.reporting.cohort.definition.JembiPatientStateDefinition;
 import org.openmrs.module.reporting.common.ListMap;
 import org.openmrs.module.reporting.common.TimeQualifier;
@@ -57,6 +58,7 @@ public class JembiPatientStateEvaluator implements PatientDataEvaluator {
     }
 
     List<Object[]> queryResult = evaluationService.evaluateToList(qb, context);
+    EvaluationCancellation.checkpoint(context);
 
     ListMap<Integer, PatientState> obsForPatients = new ListMap<>();
     for (Object[] row : queryResult) {
@@ -15,6 +15,7 @@ package org.openmrs.module.eptsreports.reporting.cohort.evaluator;
 import java.util.List;
 import org.openmrs.PatientProgram;
 import org.openmrs.annotation.Handler;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancellation;
 import org.openmrs.module.eptsreports.reporting.cohort.definition.JembiProgramEnrollmentForPatientDefinition;
 import org.openmrs.module.reporting.common.ListMap;
 import org.openmrs.module.reporting.common.TimeQualifier;
@@ -58,6 +59,7 @@ public class JembiProgramEnrollmentForPatientEvaluator implements PatientDataEva
     }
 
     List<Object[]> queryResult = evaluationService.evaluateToList(q, context);
+    EvaluationCancellation.checkpoint(context);
 
     ListMap<Integer, PatientProgram> enrollmentsForPatients =
         new ListMap<Integer, PatientProgram>();
@@ -0,0 +1,81 @@
+package org.openmrs.module.eptsreports.reporting.cohort.evaluator;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.openmrs.annotation.Handler;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.api.EptsReportsService;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.eptsreports.reporting.cache.MaterializedTables;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.MaterializedCohortDefinition;
+import org.openmrs.module.reporting.cohort.EvaluatedCohort;
+import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.evaluator.CohortDefinitionEvaluator;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.parameter.Parameter;
+import org.openmrs.module.reporting.evaluation.querybuilder.SqlQueryBuilder;
+import org.openmrs.module.reporting.evaluation.service.EvaluationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Evaluates a {@link MaterializedCohortDefinition}. Within a report run the members are read once
+ * from the materialized table and restricted to the base cohort of each evaluation, otherwise the
+ * query is evaluated as is.
+ */
+@Handler(supports = MaterializedCohortDefinition.class, order = 50)
+public class MaterializedCohortDefinitionEvaluator implements CohortDefinitionEvaluator {
+
+  public static final String REGION = "materializedCohort";
+
+  private MaterializedTables materializedTables;
+
+  private EvaluationService evaluationService;
+
+  @Autowired
+  public MaterializedCohortDefinitionEvaluator(
+      MaterializedTables materializedTables, EvaluationService evaluationService) {
+    this.materializedTables = materializedTables;
+    this.evaluationService = evaluationService;
+  }
+
+  @Override
+  public EvaluatedCohort evaluate(CohortDefinition cohortDefinition, EvaluationContext context)
+      throws EvaluationException {
+    MaterializedCohortDefinition cd = (MaterializedCohortDefinition) cohortDefinition;
+
+    Set<Integer> members;
+    if (materializedTables.isAvailable(context)) {
+      Map<String, Object> parameterValues = new HashMap<>();
+      for (Parameter parameter : cd.getParameters()) {
+        parameterValues.put(parameter.getName(), context.getParameterValue(parameter.getName()));
+      }
+      final String table =
+          materializedTables.materialize(
+              cd.getTableName(), cd.getQuery(), parameterValues, context);
+      Set<Integer> all =
+          EptsReportRunCache.getInstance(context)
+              .get(
+                  REGION,
+                  table,
+                  () ->
+                      new HashSet<>(
+                          Context.getService(EptsReportsService.class)
+                              .getPatientIds(
+                                  "SELECT patient_id FROM " + table, Collections.emptyMap())));
+      members = new HashSet<>(all);
+    } else {
+      SqlQueryBuilder q = new SqlQueryBuilder(cd.getQuery(), context.getParameterValues());
+      members = new HashSet<>(evaluationService.evaluateToList(q, Integer.class, context));
+    }
+    if (context.getBaseCohort() != null) {
+      members.retainAll(context.getBaseCohort().getMemberIds());
+    }
+    EvaluatedCohort ret = new EvaluatedCohort(null, cd, context);
+    ret.setMemberIds(members);
+    return ret;
+  }
+}
@@ -0,0 +1,85 @@
+package org.openmrs.module.eptsreports.reporting.cohort.evaluator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.openmrs.Obs;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancellation;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.querybuilder.HqlQueryBuilder;
+import org.openmrs.module.reporting.evaluation.service.EvaluationService;
+
+/**
+ * Picks one obs per patient from the rows of patient id and obs id of an ordered query, and loads
+ * only the picked obs, so the obs of the patients that are not picked are never read as entities.
+ */
+final class ObsSelection {
+
+  /** The number of obs ids of each load query */
+  static final int BATCH_SIZE = 1000;
+
+  private ObsSelection() {}
+
+  /**
+   * @param rows the rows of patient id and obs id, in the order of the query
+   * @return the obs id of the first row of each patient
+   */
+  static Map<Integer, Integer> first(List<Object[]> rows) {
+    Map<Integer, Integer> ret = new LinkedHashMap<>();
+    for (Object[] row : rows) {
+      if (!ret.containsKey((Integer) row[0])) {
+        ret.put((Integer) row[0], (Integer) row[1]);
+      }
+    }
+    return ret;
+  }
+
+  /**
+   * @param rows the rows of patient id and obs id, in the order of the query
+   * @return the obs id of the last row of each patient
+   */
+  static Map<Integer, Integer> last(List<Object[]> rows) {
+    Map<Integer, Integer> ret = new LinkedHashMap<>();
+    for (Object[] row : rows) {
+      ret.put((Integer) row[0], (Integer) row[1]);
+    }
+    return ret;
+  }
+
+  /**
+   * Loads the picked obs, {@link #BATCH_SIZE} ids per query
+   *
+   * @param picked the obs id of each patient
+   * @return the obs of each patient, in the order of the picked ids
+   */
+  static Map<Integer, Obs> load(
+      Map<Integer, Integer> picked, EvaluationService evaluationService, EvaluationContext context)
+      throws EvaluationException {
+    List<Integer> obsIds = new ArrayList<>(picked.values());
+    Map<Integer, Obs> obsById = new HashMap<>();
+    for (int from = 0; from < obsIds.size(); from += BATCH_SIZE) {
+      HqlQueryBuilder q = new HqlQueryBuilder();
+      q.select("obs");
+      q.from(Obs.class, "obs");
+      q.whereIn(
+          "obs.obsId",
+          new ArrayList<>(obsIds.subList(from, Math.min(from + BATCH_SIZE, obsIds.size()))));
+      for (Obs obs : evaluationService.evaluateToList(q, Obs.class, context)) {
+        obsById.put(obs.getObsId(), obs);
+      }
+      EvaluationCancellation.checkpoint(context);
+    }
+
+    Map<Integer, Obs> ret = new LinkedHashMap<>();
+    for (Map.Entry<Integer, Integer> e : picked.entrySet()) {
+      Obs obs = obsById.get(e.getValue());
+      if (obs != null) {
+        ret.put(e.getKey(), obs);
+      }
+    }
+    return ret;
+  }
+}
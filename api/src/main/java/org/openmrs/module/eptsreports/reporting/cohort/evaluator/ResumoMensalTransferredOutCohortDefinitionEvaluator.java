@@ -378,22 +378,20 @@ public class ResumoMensalTransferredOutCohortDefinitionEvaluator
         hivMetadata.getTransferredOutToAnotherHealthFacilityWorkflowState();
     q.addParameter("transferOutState", transferOut.getProgramWorkflowStateId());
 
-    q.addParameter("adultSeg", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    q.addParameter("masterCard", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    q.addParameter("adultSeg", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    q.addParameter("masterCard", hivMetadata.getMasterCardEncounterTypeId());
     q.addParameter("preArtStateOfStay", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     q.addParameter("artStateOfStay", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     q.addParameter("transfOutConcept", hivMetadata.getTransferredOutConcept().getConceptId());
-    q.addParameter(
-        "childSeg", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    q.addParameter("fila", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    q.addParameter("childSeg", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    q.addParameter("fila", hivMetadata.getARVPharmaciaEncounterTypeId());
     q.addParameter("location", cd.getLocation());
     q.addParameter("onOrAfter", cd.getOnOrAfter());
     q.addParameter("onOrBefore", DateUtil.getEndOfDayIfTimeExcluded(cd.getOnOrBefore()));
-    q.addParameter(
-        "arvPickUp", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    q.addParameter("arvPickUpDate", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    q.addParameter("arvPickUp", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    q.addParameter("arvPickUpDate", hivMetadata.getArtDatePickupMasterCardConceptId());
     q.addParameter("pickedUpArv", hivMetadata.getArtPickupConcept().getConceptId());
-    q.addParameter("yes", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    q.addParameter("yes", hivMetadata.getPatientFoundYesConceptId());
     q.addParameter("nextPickUp", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
 
     List<Integer> results = evaluationService.evaluateToList(q, Integer.class, context);
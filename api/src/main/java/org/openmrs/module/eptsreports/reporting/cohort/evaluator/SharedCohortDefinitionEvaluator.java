@@ -0,0 +1,55 @@
+package org.openmrs.module.eptsreports.reporting.cohort.evaluator;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.Cohort;
+import org.openmrs.annotation.Handler;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.SharedCohortDefinition;
+import org.openmrs.module.reporting.cohort.EvaluatedCohort;
+import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.evaluator.CohortDefinitionEvaluator;
+import org.openmrs.module.reporting.cohort.definition.service.CohortDefinitionService;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Evaluates a {@link SharedCohortDefinition} through the {@link EptsReportRunCache}, keyed by the
+ * shared key, the parameter values and the base cohort. The first data set to need the cohort
+ * evaluates it, the others get the same members.
+ */
+@Handler(supports = SharedCohortDefinition.class, order = 50)
+public class SharedCohortDefinitionEvaluator implements CohortDefinitionEvaluator {
+
+  public static final String REGION = "shared";
+
+  private static final Log log = LogFactory.getLog(SharedCohortDefinitionEvaluator.class);
+
+  private CohortDefinitionService cohortDefinitionService;
+
+  @Autowired
+  public SharedCohortDefinitionEvaluator(CohortDefinitionService cohortDefinitionService) {
+    this.cohortDefinitionService = cohortDefinitionService;
+  }
+
+  @Override
+  public EvaluatedCohort evaluate(
+      CohortDefinition cohortDefinition, final EvaluationContext context)
+      throws EvaluationException {
+    final SharedCohortDefinition cd = (SharedCohortDefinition) cohortDefinition;
+    EptsReportRunCache cache = EptsReportRunCache.getInstance(context);
+    Cohort cohort =
+        cache.get(
+            REGION,
+            EptsReportRunCache.getEvaluationKey(cd.getKey(), cd.getParameters(), context),
+            () -> {
+              Cohort c = cohortDefinitionService.evaluate(cd.getCohortDefinition(), context);
+              return new Cohort(c.getMemberIds());
+            });
+    if (log.isDebugEnabled()) {
+      log.debug(cache.getHits(REGION) + " shared cohort evaluations avoided so far");
+    }
+    return new EvaluatedCohort(cohort, cd, context);
+  }
+}
@@ -0,0 +1,228 @@
+package org.openmrs.module.eptsreports.reporting.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The first five differentiated service models (MDS) of a patient, following the rules of the MDS
+ * columns of the MDS evaluation list:
+ *
+ * <ul>
+ *   <li>the Nth MDS starts on the Nth distinct date a model was marked as "Início"
+ *   <li>the first MDS is the model started on that date, the next ones are the lowest model started
+ *       after the start date of the previous MDS
+ *   <li>each MDS ends on the first later "Fim" of its model
+ * </ul>
+ *
+ * <p>The end dates keep the particularities of the queries they replace:
+ *
+ * <ul>
+ *   <li>the first MDS ends on the first "Fim" after the first start that is 33 days or more after
+ *       the ART start, of the model started then, counting the "Fim" of voided consultations
+ *   <li>the third MDS end is searched from the start dates counted from the first "Início",
+ *       including the ones of voided consultations
+ *   <li>the fourth MDS end counts the "Fim" recorded at any location
+ * </ul>
+ *
+ * When several models are started on the same date the lowest one is taken.
+ */
+public class MdsTimeline {
+
+  public static final int POSITIONS = 5;
+
+  private final Mds[] models;
+
+  private MdsTimeline(Mds[] models) {
+    this.models = models;
+  }
+
+  /**
+   * @param position the position of the model, from 1 to {@link #POSITIONS}
+   * @return the model in the given position, or null if there is none
+   */
+  public Mds getMds(int position) {
+    return position >= 1 && position <= POSITIONS ? models[position - 1] : null;
+  }
+
+  /** A model of the timeline, any of its values can be missing */
+  public static class Mds {
+
+    private final Integer model;
+
+    private final Date startDate;
+
+    private final Date endDate;
+
+    Mds(Integer model, Date startDate, Date endDate) {
+      this.model = model;
+      this.startDate = startDate;
+      this.endDate = endDate;
+    }
+
+    /** @return the concept id of the model */
+    public Integer getModel() {
+      return model;
+    }
+
+    public Date getStartDate() {
+      return startDate;
+    }
+
+    /** @return the end date, or null if the model was not ended */
+    public Date getEndDate() {
+      return endDate;
+    }
+  }
+
+  /** Collects the start and end records of a patient, in any order */
+  public static class Builder {
+
+    private final TreeMap<Date, Integer> starts = new TreeMap<>();
+
+    private final TreeMap<Date, Integer> lateStarts = new TreeMap<>();
+
+    private Date firstVoidedStart;
+
+    private final List<End> ends = new ArrayList<>();
+
+    /**
+     * Adds a record of a model marked as "Início" at the location
+     *
+     * @param date the consultation date
+     * @param model the concept id of the model
+     * @param voided true if the consultation is voided
+     * @param late true if the consultation is 33 days or more after the ART start
+     */
+    public Builder addStart(Date date, Integer model, boolean voided, boolean late) {
+      if (voided) {
+        if (firstVoidedStart == null || date.before(firstVoidedStart)) {
+          firstVoidedStart = date;
+        }
+        return this;
+      }
+      putLowest(starts, date, model);
+      if (late) {
+        putLowest(lateStarts, date, model);
+      }
+      return this;
+    }
+
+    /**
+     * Adds a record of a model marked as "Fim"
+     *
+     * @param date the consultation date
+     * @param model the concept id of the model
+     * @param voided true if the consultation is voided
+     * @param elsewhere true if the consultation is at another location
+     */
+    public Builder addEnd(Date date, Integer model, boolean voided, boolean elsewhere) {
+      ends.add(new End(date, model, voided, elsewhere));
+      return this;
+    }
+
+    public MdsTimeline build() {
+      Date first = starts.isEmpty() ? null : starts.firstKey();
+      Date firstRecorded =
+          firstVoidedStart != null && (first == null || firstVoidedStart.before(first))
+              ? firstVoidedStart
+              : first;
+
+      Mds[] models = new Mds[POSITIONS];
+      for (int position = 1; position <= POSITIONS; position++) {
+        Integer model = getModel(first, position);
+        Date startDate = getStartDate(first, position);
+        Date endDate;
+        if (position == 1) {
+          Map.Entry<Date, Integer> lateStart = lateStarts.firstEntry();
+          endDate =
+              lateStart == null
+                  ? null
+                  : getFirstEnd(lateStart.getValue(), lateStart.getKey(), true, false);
+        } else if (position == 3) {
+          endDate =
+              getFirstEnd(
+                  getModel(firstRecorded, position),
+                  getStartDate(firstRecorded, position),
+                  false,
+                  false);
+        } else {
+          endDate = getFirstEnd(model, startDate, false, position == 4);
+        }
+        if (model != null || startDate != null || endDate != null) {
+          models[position - 1] = new Mds(model, startDate, endDate);
+        }
+      }
+      return new MdsTimeline(models);
+    }
+
+    /** The start date in the given position, counting the start dates from the given one */
+    private Date getStartDate(Date first, int position) {
+      Date date = first;
+      for (int i = 1; i < position && date != null; i++) {
+        date = starts.higherKey(date);
+      }
+      return date;
+    }
+
+    /** The model in the given position, counting the start dates from the given one */
+    private Integer getModel(Date first, int position) {
+      if (position == 1) {
+        return first == null ? null : starts.get(first);
+      }
+      Date previous = getStartDate(first, position - 1);
+      if (previous == null) {
+        return null;
+      }
+      Collection<Integer> later = starts.tailMap(previous, false).values();
+      return later.isEmpty() ? null : Collections.min(later);
+    }
+
+    private Date getFirstEnd(
+        Integer model, Date after, boolean includeVoided, boolean includeElsewhere) {
+      if (model == null || after == null) {
+        return null;
+      }
+      Date endDate = null;
+      for (End end : ends) {
+        if (end.model.equals(model)
+            && end.date.after(after)
+            && (includeVoided || !end.voided)
+            && (includeElsewhere || !end.elsewhere)
+            && (endDate == null || end.date.before(endDate))) {
+          endDate = end.date;
+        }
+      }
+      return endDate;
+    }
+
+    private static void putLowest(TreeMap<Date, Integer> starts, Date date, Integer model) {
+      Integer current = starts.get(date);
+      if (current == null || model < current) {
+        starts.put(date, model);
+      }
+    }
+  }
+
+  private static class End {
+
+    private final Date date;
+
+    private final Integer model;
+
+    private final boolean voided;
+
+    private final boolean elsewhere;
+
+    private End(Date date, Integer model, boolean voided, boolean elsewhere) {
+      this.date = date;
+      this.model = model;
+      this.voided = voided;
+      this.elsewhere = elsewhere;
+    }
+  }
+}
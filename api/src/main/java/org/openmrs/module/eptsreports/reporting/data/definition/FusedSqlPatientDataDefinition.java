@@ -0,0 +1,80 @@
+package org.openmrs.module.eptsreports.reporting.data.definition;
+
+import java.util.List;
+import org.openmrs.module.reporting.data.BaseDataDefinition;
+import org.openmrs.module.reporting.data.patient.definition.PatientDataDefinition;
+import org.openmrs.module.reporting.data.patient.definition.SqlPatientDataDefinition;
+import org.openmrs.module.reporting.definition.configuration.ConfigurationProperty;
+import org.openmrs.module.reporting.evaluation.caching.Caching;
+import org.openmrs.module.reporting.evaluation.caching.NoCachingStrategy;
+import org.openmrs.module.reporting.evaluation.parameter.Parameter;
+
+/**
+ * One column of a group of {@link SqlPatientDataDefinition}s that share the row cohort and the
+ * parameter mappings of a patient data set. The first column of the group that is evaluated runs
+ * the queries of all the columns as a single wide query, the other columns read their values from
+ * the report run cache.
+ *
+ * @see org.openmrs.module.eptsreports.reporting.utils.EptsReportUtils#fuseSqlColumns
+ */
+@Caching(strategy = NoCachingStrategy.class)
+public class FusedSqlPatientDataDefinition extends BaseDataDefinition
+    implements PatientDataDefinition {
+
+  @ConfigurationProperty private String group;
+
+  @ConfigurationProperty private List<SqlPatientDataDefinition> columns;
+
+  @ConfigurationProperty private Integer index;
+
+  public FusedSqlPatientDataDefinition() {}
+
+  /**
+   * @param group identifies the group of columns within the report run
+   * @param columns the columns of the group, shared by all the definitions of the group
+   * @param index the index of this column in the group
+   */
+  public FusedSqlPatientDataDefinition(
+      String group, List<SqlPatientDataDefinition> columns, Integer index) {
+    this.group = group;
+    this.columns = columns;
+    this.index = index;
+    setName(columns.get(index).getName());
+    for (SqlPatientDataDefinition column : columns) {
+      for (Parameter parameter : column.getParameters()) {
+        if (getParameter(parameter.getName()) == null) {
+          addParameter(parameter);
+        }
+      }
+    }
+  }
+
+  @Override
+  public Class<?> getDataType() {
+    return Object.class;
+  }
+
+  public String getGroup() {
+    return group;
+  }
+
+  public void setGroup(String group) {
+    this.group = group;
+  }
+
+  public List<SqlPatientDataDefinition> getColumns() {
+    return columns;
+  }
+
+  public void setColumns(List<SqlPatientDataDefinition> columns) {
+    this.columns = columns;
+  }
+
+  public Integer getIndex() {
+    return index;
+  }
+
+  public void setIndex(Integer index) {
+    this.index = index;
+  }
+}
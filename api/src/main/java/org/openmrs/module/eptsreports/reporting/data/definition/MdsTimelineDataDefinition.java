@@ -0,0 +1,68 @@
+package org.openmrs.module.eptsreports.reporting.data.definition;
+
+import java.util.Date;
+import org.openmrs.module.reporting.data.BaseDataDefinition;
+import org.openmrs.module.reporting.data.patient.definition.PatientDataDefinition;
+import org.openmrs.module.reporting.definition.configuration.ConfigurationProperty;
+import org.openmrs.module.reporting.evaluation.caching.Caching;
+import org.openmrs.module.reporting.evaluation.caching.NoCachingStrategy;
+
+/**
+ * One column of the {@link org.openmrs.module.eptsreports.reporting.data.MdsTimeline} of the
+ * patients: the model, start date or end date of the MDS in a given position. The timelines are
+ * loaded by the query once per report run and shared by all the columns with the same query.
+ *
+ * <p>The query selects the patient id, the consultation date, the model concept id, 1 for "Início"
+ * or 0 for "Fim", the voided flag of the consultation, 1 if the consultation is 33 days or more
+ * after the ART start and 1 if it is at another location, one row per record.
+ */
+@Caching(strategy = NoCachingStrategy.class)
+public class MdsTimelineDataDefinition extends BaseDataDefinition implements PatientDataDefinition {
+
+  public enum Column {
+    MODEL,
+    START_DATE,
+    END_DATE
+  }
+
+  @ConfigurationProperty private String query;
+
+  @ConfigurationProperty private Integer position;
+
+  @ConfigurationProperty private Column column;
+
+  public MdsTimelineDataDefinition() {}
+
+  public MdsTimelineDataDefinition(String name) {
+    super(name);
+  }
+
+  @Override
+  public Class<?> getDataType() {
+    return column == Column.MODEL ? Integer.class : Date.class;
+  }
+
+  public String getQuery() {
+    return query;
+  }
+
+  public void setQuery(String query) {
+    this.query = query;
+  }
+
+  public Integer getPosition() {
+    return position;
+  }
+
+  public void setPosition(Integer position) {
+    this.position = position;
+  }
+
+  public Column getColumn() {
+    return column;
+  }
+
+  public void setColumn(Column column) {
+    this.column = column;
+  }
+}
@@ -8,6 +8,7 @@ import org.openmrs.calculation.patient.PatientCalculationContext;
 import org.openmrs.calculation.patient.PatientCalculationService;
 import org.openmrs.calculation.result.CalculationResult;
 import org.openmrs.calculation.result.CalculationResultMap;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
 import org.openmrs.module.eptsreports.reporting.data.definition.CalculationDataDefinition;
 import org.openmrs.module.reporting.data.patient.EvaluatedPatientData;
 import org.openmrs.module.reporting.data.patient.definition.PatientDataDefinition;
@@ -52,6 +53,7 @@ public class CalculationDataEvaluator implements PatientDataEvaluator {
     calcContext.addToCache("location", def.getLocation());
     calcContext.addToCache("onOrBefore", def.getOnOrBefore());
     calcContext.setNow(onDate);
+    EptsReportRunCache.propagate(context, calcContext);
     CalculationResultMap resultMap =
         service.evaluate(
             context.getBaseCohort().getMemberIds(),
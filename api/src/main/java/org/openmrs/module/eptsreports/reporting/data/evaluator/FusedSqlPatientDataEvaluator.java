@@ -0,0 +1,90 @@
+package org.openmrs.module.eptsreports.reporting.data.evaluator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openmrs.annotation.Handler;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.eptsreports.reporting.data.definition.FusedSqlPatientDataDefinition;
+import org.openmrs.module.eptsreports.reporting.profiler.EvaluationProfiler;
+import org.openmrs.module.eptsreports.reporting.utils.queries.FusedColumnsBuilder;
+import org.openmrs.module.reporting.data.patient.EvaluatedPatientData;
+import org.openmrs.module.reporting.data.patient.definition.PatientDataDefinition;
+import org.openmrs.module.reporting.data.patient.definition.SqlPatientDataDefinition;
+import org.openmrs.module.reporting.data.patient.evaluator.PatientDataEvaluator;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.querybuilder.SqlQueryBuilder;
+import org.openmrs.module.reporting.evaluation.service.EvaluationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Evaluates a {@link FusedSqlPatientDataDefinition}. The columns of the group are evaluated
+ * together with one {@link FusedColumnsBuilder} query per parameter values and base cohort, and
+ * kept in the {@link EptsReportRunCache} for the other columns of the group.
+ */
+@Handler(supports = FusedSqlPatientDataDefinition.class, order = 50)
+public class FusedSqlPatientDataEvaluator implements PatientDataEvaluator {
+
+  public static final String REGION = "fusedColumns";
+
+  private final EvaluationService evaluationService;
+
+  @Autowired
+  public FusedSqlPatientDataEvaluator(EvaluationService evaluationService) {
+    this.evaluationService = evaluationService;
+  }
+
+  @Override
+  public EvaluatedPatientData evaluate(PatientDataDefinition definition, EvaluationContext context)
+      throws EvaluationException {
+    FusedSqlPatientDataDefinition def = (FusedSqlPatientDataDefinition) definition;
+    EvaluatedPatientData evaluatedPatientData = new EvaluatedPatientData(def, context);
+
+    if (context.getBaseCohort() != null && context.getBaseCohort().isEmpty()) {
+      return evaluatedPatientData;
+    }
+
+    List<Map<Integer, Object>> columns =
+        EptsReportRunCache.getInstance(context)
+            .get(REGION, getCacheKey(def, context), () -> evaluateGroup(def, context));
+    evaluatedPatientData.setData(new HashMap<>(columns.get(def.getIndex())));
+    return evaluatedPatientData;
+  }
+
+  private List<Map<Integer, Object>> evaluateGroup(
+      FusedSqlPatientDataDefinition def, EvaluationContext context) throws EvaluationException {
+    List<Map<Integer, Object>> columns = new ArrayList<>();
+    FusedColumnsBuilder builder = new FusedColumnsBuilder();
+    for (SqlPatientDataDefinition column : def.getColumns()) {
+      builder.column(column.getSql());
+      columns.add(new HashMap<>());
+    }
+    if (context.getBaseCohort() != null) {
+      builder.restrictToPatientIds();
+    }
+    String sql = builder.buildQuery();
+    EvaluationProfiler.recordStatement(sql);
+
+    SqlQueryBuilder q = new SqlQueryBuilder(sql, context.getParameterValues());
+    if (context.getBaseCohort() != null) {
+      q.addParameter("patientIds", context.getBaseCohort().getMemberIds());
+    }
+
+    List<Object[]> results = evaluationService.evaluateToList(q, context);
+    for (Object[] row : results) {
+      Integer patientId = ((Number) row[0]).intValue();
+      for (int i = 0; i < columns.size(); i++) {
+        if (row[i + 1] != null) {
+          columns.get(i).put(patientId, row[i + 1]);
+        }
+      }
+    }
+    return columns;
+  }
+
+  static String getCacheKey(FusedSqlPatientDataDefinition def, EvaluationContext context) {
+    return EptsReportRunCache.getEvaluationKey(def.getGroup(), def.getParameters(), context);
+  }
+}
@@ -1,20 +1,18 @@
 package org.openmrs.module.eptsreports.reporting.data.evaluator;
 
 import java.util.Date;
-import java.util.List;
+import java.util.Map;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.openmrs.annotation.Handler;
+import org.openmrs.module.eptsreports.reporting.cache.ArtStartDateIndex;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancellation;
 import org.openmrs.module.eptsreports.reporting.data.definition.InitialArtStartDateDataDefinition;
-import org.openmrs.module.eptsreports.reporting.library.queries.CommonQueries;
-import org.openmrs.module.reporting.common.DateUtil;
 import org.openmrs.module.reporting.data.patient.EvaluatedPatientData;
 import org.openmrs.module.reporting.data.patient.definition.PatientDataDefinition;
 import org.openmrs.module.reporting.data.patient.evaluator.PatientDataEvaluator;
 import org.openmrs.module.reporting.evaluation.EvaluationContext;
 import org.openmrs.module.reporting.evaluation.EvaluationException;
-import org.openmrs.module.reporting.evaluation.querybuilder.SqlQueryBuilder;
-import org.openmrs.module.reporting.evaluation.service.EvaluationService;
 import org.springframework.beans.factory.annotation.Autowired;
 
 @Handler(supports = InitialArtStartDateDataDefinition.class, order = 50)
@@ -22,14 +20,11 @@ public class InitialArtStartDateEvaluator implements PatientDataEvaluator {
 
   protected static final Log log = LogFactory.getLog(InitialArtStartDateDataDefinition.class);
 
-  private final EvaluationService evaluationService;
-  private final CommonQueries commonQueries;
+  private final ArtStartDateIndex artStartDateIndex;
 
   @Autowired
-  public InitialArtStartDateEvaluator(
-      EvaluationService evaluationService, CommonQueries commonQueries) {
-    this.evaluationService = evaluationService;
-    this.commonQueries = commonQueries;
+  public InitialArtStartDateEvaluator(ArtStartDateIndex artStartDateIndex) {
+    this.artStartDateIndex = artStartDateIndex;
   }
 
   @Override
@@ -42,22 +37,19 @@ public class InitialArtStartDateEvaluator implements PatientDataEvaluator {
     if (context.getBaseCohort() != null && context.getBaseCohort().isEmpty()) {
       return evaluatedPatientData;
     }
-    String onOrBefore = DateUtil.formatDate(def.getOnOrBefore(), "yyyy-MM-dd");
-    Integer location = def.getLocation().getLocationId();
+    Map<Integer, Date> artStartDates =
+        artStartDateIndex.getArtStartDates(def.getOnOrBefore(), def.getLocation(), context);
+    EvaluationCancellation.checkpoint(context);
 
-    SqlQueryBuilder q =
-        new SqlQueryBuilder(commonQueries.InitialArtStartDateOverallQuery(onOrBefore, location));
-
-    List<Object[]> results = evaluationService.evaluateToList(q, context);
-
-    for (Object[] row : results) {
-      Integer patientId = Integer.valueOf(String.valueOf(row[0]));
-      Date artStartDate = (Date) (row[1]);
-
-      if (artStartDate != null) {
-        evaluatedPatientData.addData(patientId, artStartDate);
-      } else {
-        evaluatedPatientData.addData(patientId, null);
+    if (context.getBaseCohort() == null) {
+      for (Map.Entry<Integer, Date> entry : artStartDates.entrySet()) {
+        evaluatedPatientData.addData(entry.getKey(), entry.getValue());
+      }
+    } else {
+      for (Integer patientId : context.getBaseCohort().getMemberIds()) {
+        if (artStartDates.containsKey(patientId)) {
+          evaluatedPatientData.addData(patientId, artStartDates.get(patientId));
+        }
       }
     }
     return evaluatedPatientData;
@@ -0,0 +1,111 @@
+package org.openmrs.module.eptsreports.reporting.data.evaluator;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openmrs.annotation.Handler;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.eptsreports.reporting.data.MdsTimeline;
+import org.openmrs.module.eptsreports.reporting.data.definition.MdsTimelineDataDefinition;
+import org.openmrs.module.reporting.data.patient.EvaluatedPatientData;
+import org.openmrs.module.reporting.data.patient.definition.PatientDataDefinition;
+import org.openmrs.module.reporting.data.patient.evaluator.PatientDataEvaluator;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.querybuilder.SqlQueryBuilder;
+import org.openmrs.module.reporting.evaluation.service.EvaluationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Evaluates a {@link MdsTimelineDataDefinition}. The timelines of the query are loaded with a
+ * single scan and kept in the {@link EptsReportRunCache}, each column is a projection of them.
+ */
+@Handler(supports = MdsTimelineDataDefinition.class, order = 50)
+public class MdsTimelineDataEvaluator implements PatientDataEvaluator {
+
+  public static final String REGION = "mdsTimeline";
+
+  private final EvaluationService evaluationService;
+
+  @Autowired
+  public MdsTimelineDataEvaluator(EvaluationService evaluationService) {
+    this.evaluationService = evaluationService;
+  }
+
+  @Override
+  public EvaluatedPatientData evaluate(PatientDataDefinition definition, EvaluationContext context)
+      throws EvaluationException {
+    MdsTimelineDataDefinition def = (MdsTimelineDataDefinition) definition;
+    EvaluatedPatientData evaluatedPatientData = new EvaluatedPatientData(def, context);
+
+    if (context.getBaseCohort() != null && context.getBaseCohort().isEmpty()) {
+      return evaluatedPatientData;
+    }
+
+    Map<Integer, MdsTimeline> timelines =
+        EptsReportRunCache.getInstance(context)
+            .get(
+                REGION,
+                EptsReportRunCache.getEvaluationKey(def.getQuery(), def.getParameters(), context),
+                () -> loadTimelines(def, context));
+
+    for (Map.Entry<Integer, MdsTimeline> entry : timelines.entrySet()) {
+      if (context.getBaseCohort() != null && !context.getBaseCohort().contains(entry.getKey())) {
+        continue;
+      }
+      MdsTimeline.Mds mds = entry.getValue().getMds(def.getPosition());
+      if (mds == null) {
+        continue;
+      }
+      Object value;
+      switch (def.getColumn()) {
+        case MODEL:
+          value = mds.getModel();
+          break;
+        case START_DATE:
+          value = mds.getStartDate();
+          break;
+        case END_DATE:
+          value = mds.getEndDate();
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown column " + def.getColumn());
+      }
+      if (value != null) {
+        evaluatedPatientData.addData(entry.getKey(), value);
+      }
+    }
+    return evaluatedPatientData;
+  }
+
+  private Map<Integer, MdsTimeline> loadTimelines(
+      MdsTimelineDataDefinition def, EvaluationContext context) throws EvaluationException {
+    SqlQueryBuilder q = new SqlQueryBuilder(def.getQuery(), context.getParameterValues());
+    List<Object[]> results = evaluationService.evaluateToList(q, context);
+
+    Map<Integer, MdsTimeline.Builder> builders = new HashMap<>();
+    for (Object[] row : results) {
+      Integer patientId = ((Number) row[0]).intValue();
+      Date date = (Date) row[1];
+      Integer model = ((Number) row[2]).intValue();
+      MdsTimeline.Builder builder =
+          builders.computeIfAbsent(patientId, id -> new MdsTimeline.Builder());
+      if (isTrue(row[3])) {
+        builder.addStart(date, model, isTrue(row[4]), isTrue(row[5]));
+      } else {
+        builder.addEnd(date, model, isTrue(row[4]), isTrue(row[6]));
+      }
+    }
+
+    Map<Integer, MdsTimeline> timelines = new HashMap<>();
+    for (Map.Entry<Integer, MdsTimeline.Builder> entry : builders.entrySet()) {
+      timelines.put(entry.getKey(), entry.getValue().build());
+    }
+    return timelines;
+  }
+
+  private static boolean isTrue(Object value) {
+    return value instanceof Boolean ? (Boolean) value : ((Number) value).intValue() == 1;
+  }
+}
@@ -381,11 +381,11 @@ public class APSSResumoTrimestralCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         "SELECT "
@@ -458,11 +458,11 @@ public class APSSResumoTrimestralCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         "SELECT "
@@ -597,7 +597,7 @@ public class APSSResumoTrimestralCohortQueries {
     map.put("24006", hivMetadata.getPatientIsBedriddenAtHomeConcept().getConceptId());
     map.put("24011", hivMetadata.getPatientReturnedAfterVisitConcept().getConceptId());
     map.put("24012", hivMetadata.getDatePatientReturnedAfterVisitConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     map.put("35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
 
     String query =
@@ -791,7 +791,7 @@ public class APSSResumoTrimestralCohortQueries {
         hivMetadata
             .getLivroRegistoChamadasVisistasDomiciliaresEncounterType()
             .getEncounterTypeId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("23998", hivMetadata.getPatientContactedOnFirstAttemptConcept().getConceptId());
     map.put("23999", hivMetadata.getPatientContactedOnSecondAttemptConcept().getConceptId());
     map.put("24000", hivMetadata.getPatientContactedOnThirdAttemptConcept().getConceptId());
@@ -934,7 +934,7 @@ public class APSSResumoTrimestralCohortQueries {
     map.put(
         "prevencaoPositivaSeguimentoEncounterType",
         hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("patientFoundYesConcept", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("patientFoundYesConcept", hivMetadata.getPatientFoundYesConceptId());
     map.put("pp1Concept", hivMetadata.getPP1Concept().getConceptId());
     map.put("pp2Concept", hivMetadata.getPP2Concept().getConceptId());
     map.put("pp3Concept", hivMetadata.getPP3Concept().getConceptId());
@@ -1096,7 +1096,7 @@ public class APSSResumoTrimestralCohortQueries {
     map.put(
         "prevencaoPositivaSeguimentoEncounterType",
         hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("yesConcept", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("yesConcept", hivMetadata.getPatientFoundYesConceptId());
     map.put("memberShipPlanConcept", hivMetadata.getMemberShipPlanConcept().getConceptId());
     map.put(
         "counseledOnSideEffectsOfArtConcept",
@@ -1107,25 +1107,18 @@ public class APSSResumoTrimestralCohortQueries {
     map.put("arvAdherenceRiskConcept", hivMetadata.getArvAdherenceRiskConcept().getConceptId());
     map.put("badConcept", hivMetadata.getBadConcept().getConceptId());
     map.put("artProgram", hivMetadata.getARTProgram().getProgramId());
+    map.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "pediatriaSeguimentoEncounterType",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "arvPharmaciaEncounterType",
-        hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put(
-        "masterCardEncounterType", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+        "pediatriaSeguimentoEncounterType", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("arvPharmaciaEncounterType", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("masterCardEncounterType", hivMetadata.getMasterCardEncounterTypeId());
     map.put("arvStartDateConcept", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("arvPlanConcept", hivMetadata.getARVPlanConcept().getConceptId());
-    map.put("startDrugs", hivMetadata.getStartDrugs().getConceptId());
+    map.put("startDrugs", hivMetadata.getStartDrugsConceptId());
     map.put(
-        "masterCardDrugPickupEncounterType",
-        hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+        "masterCardDrugPickupEncounterType", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("artPickupConcept", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("artDatePickupMasterCard", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("artDatePickupMasterCard", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         ""
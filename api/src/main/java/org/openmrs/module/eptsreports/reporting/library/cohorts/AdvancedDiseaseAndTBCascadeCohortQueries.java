@@ -591,21 +591,21 @@ public class AdvancedDiseaseAndTBCascadeCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
     Map<String, Integer> map = new HashMap<>();
 
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
     map.put("1600", hivMetadata.getPregnancyDueDate().getConceptId());
     map.put("23821", hivMetadata.getSampleCollectionDateAndTime().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6334", hivMetadata.getCriteriaForArtStart().getConceptId());
     map.put("8", hivMetadata.getPtvEtvProgram().getProgramId());
     map.put("1279", hivMetadata.getNumberOfWeeksPregnant().getConceptId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("6331", hivMetadata.getBPlusConcept().getConceptId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("5599", hivMetadata.getPriorDeliveryDateConcept().getConceptId());
@@ -900,21 +900,21 @@ public class AdvancedDiseaseAndTBCascadeCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
     Map<String, Integer> map = new HashMap<>();
 
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
     map.put("1600", hivMetadata.getPregnancyDueDate().getConceptId());
     map.put("23821", hivMetadata.getSampleCollectionDateAndTime().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6334", hivMetadata.getCriteriaForArtStart().getConceptId());
     map.put("8", hivMetadata.getPtvEtvProgram().getProgramId());
     map.put("1279", hivMetadata.getNumberOfWeeksPregnant().getConceptId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("6331", hivMetadata.getBPlusConcept().getConceptId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("5599", hivMetadata.getPriorDeliveryDateConcept().getConceptId());
@@ -2649,9 +2649,9 @@ public class AdvancedDiseaseAndTBCascadeCohortQueries {
 
   private Map<String, Integer> getMetadata() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
     map.put("90", hivMetadata.getAdvancedHivIllnessEncounterType().getEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
@@ -2663,13 +2663,13 @@ public class AdvancedDiseaseAndTBCascadeCohortQueries {
     map.put("23951", tbMetadata.getTestTBLAM().getConceptId());
     map.put("23723", tbMetadata.getTBGenexpertTestConcept().getConceptId());
     map.put("165189", tbMetadata.getTestXpertMtbUuidConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     map.put("165185", hivMetadata.getPositivityLevelConcept().getConceptId());
     map.put("165348", hivMetadata.getFourPlusConcept().getConceptId());
     map.put("165188", hivMetadata.getThreePlusConcept().getConceptId());
     map.put("165187", hivMetadata.getTwoPlusConcept().getConceptId());
     map.put("165186", hivMetadata.getOnePlusConcept().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("165349", tbMetadata.getTbLamPosivityLvelConcept().getConceptId());
     map.put("165515", hivMetadata.getCD4SemiQuantitativeConcept().getConceptId());
     map.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
@@ -2678,7 +2678,7 @@ public class AdvancedDiseaseAndTBCascadeCohortQueries {
     map.put("6334", hivMetadata.getCriteriaForArtStart().getConceptId());
     map.put("8", hivMetadata.getPtvEtvProgram().getProgramId());
     map.put("1279", hivMetadata.getNumberOfWeeksPregnant().getConceptId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
     map.put("6331", hivMetadata.getBPlusConcept().getConceptId());
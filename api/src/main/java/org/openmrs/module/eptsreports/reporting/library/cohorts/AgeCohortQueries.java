@@ -14,6 +14,7 @@
 package org.openmrs.module.eptsreports.reporting.library.cohorts;
 
 import java.util.Date;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.AgeGenderBandCohortDefinition;
 import org.openmrs.module.reporting.cohort.definition.AgeCohortDefinition;
 import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
 import org.openmrs.module.reporting.evaluation.parameter.Parameter;
@@ -54,4 +55,35 @@ public class AgeCohortQueries {
         "unknownAge",
         "SELECT p.patient_id FROM patient p JOIN person pr ON p.patient_id = pr.person_id WHERE pr.birthdate IS NULL");
   }
+
+  /**
+   * Same as {@link #createXtoYAgeCohort(String, Integer, Integer)}, evaluated in memory from the
+   * birthdates of the base cohort loaded once per report run
+   *
+   * @param name filter name
+   * @param minAge minimum age of a patient based on the effective date
+   * @param maxAge maximum age of a patient based on the effective date
+   * @return CohortDefinition
+   */
+  public CohortDefinition createXtoYAgeBandCohort(String name, Integer minAge, Integer maxAge) {
+    AgeGenderBandCohortDefinition cd = new AgeGenderBandCohortDefinition();
+    cd.setName(name);
+    cd.setMinAge(minAge);
+    cd.setMaxAge(maxAge);
+    cd.addParameter(new Parameter("effectiveDate", "effectiveDate", Date.class));
+    return cd;
+  }
+
+  /**
+   * Same as {@link #createUnknownAgeCohort()}, evaluated in memory from the birthdates of the base
+   * cohort loaded once per report run
+   *
+   * @return CohortDefinition
+   */
+  public CohortDefinition createUnknownAgeBandCohort() {
+    AgeGenderBandCohortDefinition cd = new AgeGenderBandCohortDefinition();
+    cd.setName("unknownAge");
+    cd.setUnknownAge(true);
+    return cd;
+  }
 }
@@ -76,18 +76,18 @@ public class CommonCohortQueries {
 
     cd.setQuery(
         CommonQueries.getPatientsOnTbTreatmentQuery(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
             hivMetadata.getTBDrugStartDateConcept().getConceptId(),
             hivMetadata.getTBDrugEndDateConcept().getConceptId(),
             hivMetadata.getTBProgram().getProgramId(),
             hivMetadata.getPatientActiveOnTBProgramWorkflowState().getProgramWorkflowStateId(),
             hivMetadata.getActiveTBConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getTBTreatmentPlanConcept().getConceptId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getStartDrugsConceptId(),
             hivMetadata.getContinueRegimenConcept().getConceptId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             tbMetadata.getPulmonaryTB().getConceptId(),
             hivMetadata.getOtherDiagnosis().getConceptId()));
 
@@ -346,13 +346,13 @@ public class CommonCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         " SELECT patient_id "
@@ -449,7 +449,7 @@ public class CommonCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
 
     String query =
         " SELECT  "
@@ -658,8 +658,8 @@ public class CommonCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("21151", hivMetadata.getTherapeuticLineConcept().getConceptId());
     map.put("21150", hivMetadata.getFirstLineConcept().getConceptId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
@@ -901,7 +901,7 @@ public class CommonCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Date.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("minAge", minAge);
     map.put("maxAge", maxAge);
 
@@ -1030,9 +1030,9 @@ public class CommonCohortQueries {
     }
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
     map.put("period", period);
@@ -1070,7 +1070,7 @@ public class CommonCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("question", question);
     map.put("answer", answer);
 
@@ -1120,7 +1120,7 @@ public class CommonCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Date.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("question", question);
     map.put("answer", answer);
 
@@ -58,9 +58,9 @@ public class Eri2MonthsCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
 
     CommonQueries commonQueries = new CommonQueries(new CommonMetadata(), new HivMetadata());
 
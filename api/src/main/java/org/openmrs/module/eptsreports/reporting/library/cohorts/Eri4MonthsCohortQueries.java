@@ -58,9 +58,9 @@ public class Eri4MonthsCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
 
     CommonQueries commonQueries = new CommonQueries(new CommonMetadata(), new HivMetadata());
 
@@ -145,8 +145,8 @@ public class Eri4MonthsCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
     cd.setQuery(
         Eri4MonthsQueries.getPatientsLostToFollowUpOnConsultation(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
             hivMetadata.getReturnVisitDateConcept().getConceptId(),
             daysThreshold));
     return cd;
@@ -159,7 +159,7 @@ public class Eri4MonthsCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
     cd.setQuery(
         Eri4MonthsQueries.getPatientsLostToFollowUpOnDrugPickup(
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId(),
             daysThreshold));
     return cd;
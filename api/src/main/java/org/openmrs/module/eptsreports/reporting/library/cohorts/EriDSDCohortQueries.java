@@ -450,9 +450,9 @@ public class EriDSDCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6332", hivMetadata.getBreastfeeding().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
 
     String query =
@@ -1589,8 +1589,8 @@ public class EriDSDCohortQueries {
 
     cd.setQuery(
         DsdQueries.getPatientsOnSarcomaKarposi(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
             hivMetadata.getOtherDiagnosis().getConceptId(),
             hivMetadata.getKaposiSarcomaConcept().getConceptId()));
 
@@ -1728,12 +1728,12 @@ public class EriDSDCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
     map.put("730", hivMetadata.getCD4PercentConcept().getConceptId());
@@ -2119,11 +2119,11 @@ public class EriDSDCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
 
     String query =
@@ -2216,16 +2216,12 @@ public class EriDSDCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put(
-        "adultoSeguimento", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "pediatriaSeguimento",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "misauLaboratorio", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("adultoSeguimento", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("pediatriaSeguimento", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("misauLaboratorio", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("fsr", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    map.put("masterCard", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("hivViralLoad", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("masterCard", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("hivViralLoad", hivMetadata.getHivViralLoadConceptId());
     map.put("hivViralLoadQualitative", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -2446,9 +2442,9 @@ public class EriDSDCohortQueries {
         EptsReportUtils.map(
             DsdQueries.getPatientsWhoExperiencedInterruptionIn3MonthsBeforeReportingEndDate(
                 hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId(),
-                hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
-                hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-                hivMetadata.getArtDatePickupMasterCard().getConceptId()),
+                hivMetadata.getARVPharmaciaEncounterTypeId(),
+                hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+                hivMetadata.getArtDatePickupMasterCardConceptId()),
             "endDate=${endDate},location=${location}"));
 
     cd.addSearch(
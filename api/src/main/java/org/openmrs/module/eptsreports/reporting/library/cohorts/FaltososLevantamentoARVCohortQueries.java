@@ -404,10 +404,10 @@ public class FaltososLevantamentoARVCohortQueries {
       boolean selectDatetime) {
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     valuesMap.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
     valuesMap.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
 
     String fromSql =
@@ -476,11 +476,11 @@ public class FaltososLevantamentoARVCohortQueries {
     addSqlCohortDefinitionParameters(sqlCohortDefinition);
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String transferredOutInProgram = getPatientsTransferredOutRegisteredInProgramState(true);
     String transferredOutInResumoAndMasterCard =
@@ -546,11 +546,11 @@ public class FaltososLevantamentoARVCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
 
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String deathDayInProgramState =
         getPatientsDeathDayOrTreatmentSuspensionRegisteredInProgramState();
@@ -628,9 +628,9 @@ public class FaltososLevantamentoARVCohortQueries {
     sqlCohortDefinition.setName("Select all patients from the A (Denominator) and filter ");
     addSqlCohortDefinitionParameters(sqlCohortDefinition);
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String lastNextScheduledPickup = getPatientsWithLastNextScheduledPickup(true);
 
@@ -718,9 +718,9 @@ public class FaltososLevantamentoARVCohortQueries {
     addSqlCohortDefinitionParameters(sqlCohortDefinition);
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         "SELECT pickup_after.patient_id "
@@ -806,10 +806,10 @@ public class FaltososLevantamentoARVCohortQueries {
     addSqlCohortDefinitionParameters(sqlCohortDefinition);
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6332", hivMetadata.getBreastfeeding().getConceptId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         "SELECT pregnant.patient_id "
@@ -880,10 +880,10 @@ public class FaltososLevantamentoARVCohortQueries {
     addSqlCohortDefinitionParameters(sqlCohortDefinition);
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6332", hivMetadata.getBreastfeeding().getConceptId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         "SELECT breastfeeding.patient_id "
@@ -993,11 +993,11 @@ public class FaltososLevantamentoARVCohortQueries {
     addSqlCohortDefinitionParameters(sqlCohortDefinition);
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     valuesMap.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("856", hivMetadata.getHivViralLoadConceptId());
     valuesMap.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -1183,7 +1183,7 @@ public class FaltososLevantamentoARVCohortQueries {
   public String getPatientsAndDeathDayOrTreatmentSuspensionRegisteredInFichaResumo() {
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
     valuesMap.put("6272", hivMetadata.getStateOfStayPriorArtPatientConcept().getConceptId());
     valuesMap.put("1366", hivMetadata.getPatientHasDiedConcept().getConceptId());
     valuesMap.put("1709", hivMetadata.getSuspendedTreatmentConcept().getConceptId());
@@ -1231,7 +1231,7 @@ public class FaltososLevantamentoARVCohortQueries {
   public String getPatientsAndDeathDayOrTreatmentSuspensionRegisteredInFichaClinica() {
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     valuesMap.put("1366", hivMetadata.getPatientHasDiedConcept().getConceptId());
     valuesMap.put("1709", hivMetadata.getSuspendedTreatmentConcept().getConceptId());
@@ -1261,12 +1261,12 @@ public class FaltososLevantamentoARVCohortQueries {
   private String getPatientsWithLastNextScheduledPickup(boolean selectDatetime) {
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
     valuesMap.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     valuesMap.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    valuesMap.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    valuesMap.put("1065", hivMetadata.getPatientFoundYesConceptId());
     String fromSQL =
         "FROM   (SELECT patient_id, Max(recent_datetime) recent_datetime "
             + "        FROM   (SELECT p.patient_id, Max(o.value_datetime) recent_datetime "
@@ -13,6 +13,7 @@
  */
 package org.openmrs.module.eptsreports.reporting.library.cohorts;
 
+import org.openmrs.module.eptsreports.reporting.cohort.definition.AgeGenderBandCohortDefinition;
 import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
 import org.openmrs.module.reporting.cohort.definition.GenderCohortDefinition;
 import org.springframework.stereotype.Component;
@@ -45,4 +46,18 @@ public class GenderCohortQueries {
     cohort.setFemaleIncluded(false);
     return cohort;
   }
+
+  /**
+   * Patients of the given gender, evaluated in memory from the genders of the base cohort loaded
+   * once per report run
+   *
+   * @param gender M or F
+   * @return the cohort definition
+   */
+  public CohortDefinition genderBandCohort(String gender) {
+    AgeGenderBandCohortDefinition cohort = new AgeGenderBandCohortDefinition();
+    cohort.setName("F".equals(gender) ? "femaleCohort" : "maleCohort");
+    cohort.setGender(gender);
+    return cohort;
+  }
 }
@@ -163,7 +163,7 @@ public class GenericCohortQueries {
                 BaseQueries.getBaseCohortQuery(
                     hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
                     hivMetadata.getARVPediatriaInitialEncounterType().getEncounterTypeId(),
-                    hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                    hivMetadata.getMasterCardEncounterTypeId(),
                     hivMetadata.getHIVCareProgram().getProgramId(),
                     hivMetadata.getARTProgram().getProgramId(),
                     hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId())),
@@ -327,16 +327,16 @@ public class GenericCohortQueries {
             hivMetadata.getNoConcept().getConceptId(),
             hivMetadata.getReasonPatientNotFound().getConceptId(),
             hivMetadata.getPatientIsDead().getConceptId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
             hivMetadata.getStateOfStayOfPreArtPatient().getConceptId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getPatientHasDiedConcept().getConceptId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId()));
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+            hivMetadata.getArtDatePickupMasterCardConceptId()));
 
     return cd;
   }
@@ -410,7 +410,7 @@ public class GenericCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("minAge", minAge);
     map.put("maxAge", maxAge);
@@ -495,7 +495,7 @@ public class GenericCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("minAge", minAge);
     map.put("maxAge", maxAge);
@@ -887,9 +887,9 @@ public class GenericCohortQueries {
     return generalSql(
         "getPatientAgeBasedOnFirstViralLoadDate",
         ViralLoadQueries.getPatientAgeBasedOnFirstViralLoadDate(
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             minAge,
             maxAge));
   }
@@ -905,7 +905,7 @@ public class GenericCohortQueries {
         PrepNewQueries.getPatientAgeBasedOnPrepStartDate(
             hivMetadata.getInitialStatusPrepUserConcept().getConceptId(),
             hivMetadata.getPrepInicialEncounterType().getEncounterTypeId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getStartDrugsConceptId(),
             hivMetadata.getPrepStartDateConcept().getConceptId(),
             minAge,
             maxAge));
@@ -936,7 +936,7 @@ public class GenericCohortQueries {
             hivMetadata.getCurrentStateOfTheWomanUuidConcept().getConceptId(),
             hivMetadata.getPrepTargetGroupConcept().getConceptId(),
             commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             commonMetadata.getBreastfeeding().getConceptId()));
   }
 
@@ -954,7 +954,7 @@ public class GenericCohortQueries {
             hivMetadata.getCurrentStateOfTheWomanUuidConcept().getConceptId(),
             hivMetadata.getPrepTargetGroupConcept().getConceptId(),
             commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             commonMetadata.getBreastfeeding().getConceptId()));
   }
 
@@ -983,7 +983,7 @@ public class GenericCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("minAge", minAge);
     map.put("maxAge", maxAge);
 
@@ -1054,7 +1054,7 @@ public class GenericCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("minAge", minAge);
     map.put("maxAge", maxAge);
 
@@ -1121,7 +1121,7 @@ public class GenericCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
     map.put("minAge", minAge);
@@ -1178,7 +1178,7 @@ public class GenericCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
@@ -1293,7 +1293,7 @@ public class GenericCohortQueries {
 
     HivMetadata hivMetadata = new HivMetadata();
     TbMetadata tbMetadata = new TbMetadata();
-    int encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+    int encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     int concept = hivMetadata.getApplicationForLaboratoryResearch().getConceptId();
     List<Integer> values = Arrays.asList(tbMetadata.getTBGenexpertTestConcept().getConceptId());
 
@@ -1353,9 +1353,9 @@ public class GenericCohortQueries {
 
     HivMetadata hivMetadata = new HivMetadata();
     TbMetadata tbMetadata = new TbMetadata();
-    int encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+    int encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     int concept = tbMetadata.getActiveTBConcept().getConceptId();
-    List<Integer> values = Arrays.asList(hivMetadata.getYesConcept().getConceptId());
+    List<Integer> values = Arrays.asList(hivMetadata.getYesConceptId());
 
     Map<String, Integer> map = new HashMap<>();
     map.put("minAge", minAge);
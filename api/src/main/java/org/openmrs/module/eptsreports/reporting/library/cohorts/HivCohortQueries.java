@@ -13,7 +13,6 @@
  */
 package org.openmrs.module.eptsreports.reporting.library.cohorts;
 
-import static org.openmrs.module.eptsreports.reporting.calculation.generic.TargetGroupCalculation.TIPO;
 import static org.openmrs.module.eptsreports.reporting.calculation.generic.TargetGroupCalculation.TargetGroup.ADOLESCENT_AND_YOUTH;
 import static org.openmrs.module.eptsreports.reporting.calculation.generic.TargetGroupCalculation.TargetGroup.BREASTFEEDING;
 import static org.openmrs.module.eptsreports.reporting.calculation.generic.TargetGroupCalculation.TargetGroup.MILITARY;
@@ -29,7 +28,7 @@ import org.openmrs.*;
 import org.openmrs.api.context.Context;
 import org.openmrs.module.eptsreports.metadata.HivMetadata;
 import org.openmrs.module.eptsreports.reporting.calculation.generic.TargetGroupCalculation;
-import org.openmrs.module.eptsreports.reporting.cohort.definition.CalculationCohortDefinition;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.ClassifierCohortDefinition;
 import org.openmrs.module.eptsreports.reporting.library.queries.ResumoMensalQueries;
 import org.openmrs.module.eptsreports.reporting.library.queries.ViralLoadQueries;
 import org.openmrs.module.eptsreports.reporting.utils.EptsQueriesUtil;
@@ -161,17 +160,11 @@ public class HivCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
 
+    map.put("aRVPharmaciaEncounterType", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put(
-        "aRVPharmaciaEncounterType",
-        hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "aRVPediatriaSeguimentoEncounterType",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "masterCardEncounterType", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+        "aRVPediatriaSeguimentoEncounterType", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("masterCardEncounterType", hivMetadata.getMasterCardEncounterTypeId());
     map.put(
         "historicalDrugStartDateConcept",
         hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
@@ -488,9 +481,9 @@ public class HivCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
     cd.setQuery(
         ResumoMensalQueries.getPatientsTransferredFromAnotherHealthFacilityByEndOfPreviousMonth(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId(),
             hivMetadata.getARTProgram().getProgramId(),
@@ -508,17 +501,12 @@ public class HivCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
+    map.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "pediatriaSeguimentoEncounterType",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "pharmaciaEncounterType", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+        "pediatriaSeguimentoEncounterType", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("pharmaciaEncounterType", hivMetadata.getARVPharmaciaEncounterTypeId());
 
-    map.put(
-        "masterCardEncounterType", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("masterCardEncounterType", hivMetadata.getMasterCardEncounterTypeId());
     map.put(
         "stateOfStayOfPreArtPatient", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("transferedOutConcept", transferedOutConcept);
@@ -643,16 +631,11 @@ public class HivCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
+    map.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "pediatriaSeguimentoEncounterType",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "pharmaciaEncounterType", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put(
-        "masterCardEncounterType", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+        "pediatriaSeguimentoEncounterType", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("pharmaciaEncounterType", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("masterCardEncounterType", hivMetadata.getMasterCardEncounterTypeId());
     map.put(
         "stateOfStayOfPreArtPatient", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("suspendedConcept", suspendedConcept);
@@ -749,35 +732,38 @@ public class HivCohortQueries {
 
   // TARGET GROUP SECTION
   public CohortDefinition getAdolescentsAndYouthTargetGroupCohort() {
-    CalculationCohortDefinition cd = new CalculationCohortDefinition();
-    cd.setCalculation(Context.getRegisteredComponents(TargetGroupCalculation.class).get(0));
-    cd.setName("Adolescents and Youth at Risk Target Group");
+    ClassifierCohortDefinition cd =
+        new ClassifierCohortDefinition(
+            "Adolescents and Youth at Risk Target Group",
+            Context.getRegisteredComponents(TargetGroupCalculation.class).get(0),
+            ADOLESCENT_AND_YOUTH);
     cd.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     cd.addParameter(new Parameter("onOrAfter", "onOrAfter", Date.class));
     cd.addParameter(new Parameter("location", "location", Location.class));
-    cd.addCalculationParameter(TIPO, ADOLESCENT_AND_YOUTH);
     return cd;
   }
 
   public CohortDefinition getPregnantWomanTargetGroupCohort() {
-    CalculationCohortDefinition cd = new CalculationCohortDefinition();
-    cd.setCalculation(Context.getRegisteredComponents(TargetGroupCalculation.class).get(0));
-    cd.setName("Pregnant Woman at Risk");
+    ClassifierCohortDefinition cd =
+        new ClassifierCohortDefinition(
+            "Pregnant Woman at Risk",
+            Context.getRegisteredComponents(TargetGroupCalculation.class).get(0),
+            PREGNANT);
     cd.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     cd.addParameter(new Parameter("onOrAfter", "onOrAfter", Date.class));
     cd.addParameter(new Parameter("location", "location", Location.class));
-    cd.addCalculationParameter(TIPO, PREGNANT);
     return cd;
   }
 
   public CohortDefinition getBreastfeedingTargetGroupCohort() {
-    CalculationCohortDefinition cd = new CalculationCohortDefinition();
-    cd.setCalculation(Context.getRegisteredComponents(TargetGroupCalculation.class).get(0));
-    cd.setName("Breastfeeding woman at Risk Target Group");
+    ClassifierCohortDefinition cd =
+        new ClassifierCohortDefinition(
+            "Breastfeeding woman at Risk Target Group",
+            Context.getRegisteredComponents(TargetGroupCalculation.class).get(0),
+            BREASTFEEDING);
     cd.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     cd.addParameter(new Parameter("onOrAfter", "onOrAfter", Date.class));
     cd.addParameter(new Parameter("location", "location", Location.class));
-    cd.addCalculationParameter(TIPO, BREASTFEEDING);
     return cd;
   }
 
@@ -826,46 +812,50 @@ public class HivCohortQueries {
   }
 
   public CohortDefinition getMilitaryTargetGroupCohort() {
-    CalculationCohortDefinition cd = new CalculationCohortDefinition();
-    cd.setCalculation(Context.getRegisteredComponents(TargetGroupCalculation.class).get(0));
-    cd.setName("Military Target Group");
+    ClassifierCohortDefinition cd =
+        new ClassifierCohortDefinition(
+            "Military Target Group",
+            Context.getRegisteredComponents(TargetGroupCalculation.class).get(0),
+            MILITARY);
     cd.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     cd.addParameter(new Parameter("onOrAfter", "onOrAfter", Date.class));
     cd.addParameter(new Parameter("location", "location", Location.class));
-    cd.addCalculationParameter(TIPO, MILITARY);
     return cd;
   }
 
   public CohortDefinition getMinerTargetGroupCohort() {
-    CalculationCohortDefinition cd = new CalculationCohortDefinition();
-    cd.setCalculation(Context.getRegisteredComponents(TargetGroupCalculation.class).get(0));
-    cd.setName("Miner Target Group");
+    ClassifierCohortDefinition cd =
+        new ClassifierCohortDefinition(
+            "Miner Target Group",
+            Context.getRegisteredComponents(TargetGroupCalculation.class).get(0),
+            MINER);
     cd.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     cd.addParameter(new Parameter("onOrAfter", "onOrAfter", Date.class));
     cd.addParameter(new Parameter("location", "location", Location.class));
-    cd.addCalculationParameter(TIPO, MINER);
     return cd;
   }
 
   public CohortDefinition getTruckDriverTargetGroupCohort() {
-    CalculationCohortDefinition cd = new CalculationCohortDefinition();
-    cd.setCalculation(Context.getRegisteredComponents(TargetGroupCalculation.class).get(0));
-    cd.setName("Long Course Truck Driver Target Group");
+    ClassifierCohortDefinition cd =
+        new ClassifierCohortDefinition(
+            "Long Course Truck Driver Target Group",
+            Context.getRegisteredComponents(TargetGroupCalculation.class).get(0),
+            TRUCK_DRIVER);
     cd.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     cd.addParameter(new Parameter("onOrAfter", "onOrAfter", Date.class));
     cd.addParameter(new Parameter("location", "location", Location.class));
-    cd.addCalculationParameter(TIPO, TRUCK_DRIVER);
     return cd;
   }
 
   public CohortDefinition getSerodiscordantCouplesTargetGroupCohort() {
-    CalculationCohortDefinition cd = new CalculationCohortDefinition();
-    cd.setCalculation(Context.getRegisteredComponents(TargetGroupCalculation.class).get(0));
-    cd.setName("Serodiscordant Couples Target Group");
+    ClassifierCohortDefinition cd =
+        new ClassifierCohortDefinition(
+            "Serodiscordant Couples Target Group",
+            Context.getRegisteredComponents(TargetGroupCalculation.class).get(0),
+            SERODISCORDANT);
     cd.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     cd.addParameter(new Parameter("onOrAfter", "onOrAfter", Date.class));
     cd.addParameter(new Parameter("location", "location", Location.class));
-    cd.addCalculationParameter(TIPO, SERODISCORDANT);
     return cd;
   }
 
@@ -886,10 +876,10 @@ public class HivCohortQueries {
     definition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     valuesMap.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         "SELECT final.patient_id FROM  ( "
@@ -1013,7 +1003,7 @@ public class HivCohortQueries {
     definition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put(
         "17", hivMetadata.getIdentificadorDefinidoLocalmente01().getPersonAttributeTypeId());
     valuesMap.put(
@@ -252,7 +252,7 @@ public class IMER1BDenominatorCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("1", hivMetadata.getHIVCareProgram().getId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("23808", hivMetadata.getPreArtStartDate().getConceptId());
 
     String query =
@@ -317,7 +317,7 @@ public class IMER1BDenominatorCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("1", hivMetadata.getHIVCareProgram().getId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("23808", hivMetadata.getPreArtStartDate().getConceptId());
 
     CommonQueries commonQueries = new CommonQueries(new CommonMetadata(), new HivMetadata());
@@ -252,7 +252,7 @@ public class IMER1DenominatorCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("1", hivMetadata.getHIVCareProgram().getId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("23808", hivMetadata.getPreArtStartDate().getConceptId());
 
     String query =
@@ -55,8 +55,8 @@ public class IMER1NumeratorCohortQueries {
     map.put("23884", hivMetadata.getHivTestingSiteConcept().getConceptId());
     map.put("22772", hivMetadata.getTypeTestHIVConcept().getConceptId());
     map.put("6245", hivMetadata.getVoluntaryCouncelingTestingCommunityConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
 
     String query =
         " SELECT final_outter.patient_id  "
@@ -164,11 +164,8 @@ public class IMER1NumeratorCohortQueries {
     map.put(
         "hivPCRQualitativeConceptUuid",
         hivMetadata.getHivPCRQualitativeConceptUuid().getConceptId());
-    map.put(
-        "masterCardEncounterType", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("masterCardEncounterType", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
 
     String query =
         "SELECT final.patient_id  "
@@ -133,19 +133,17 @@ public class IntensiveMonitoringCohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -224,21 +222,19 @@ public class IntensiveMonitoringCohortQueries {
     // DEFINITIONS FROM RF8
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     // DEFINITIONS FROM RF9
     CohortDefinition breastfeeding =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     // DEFINITIONS FROM RF6
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -523,13 +519,11 @@ public class IntensiveMonitoringCohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getNewMQPregnantORBreastfeeding(
-            hivMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition brestfeeding =
         commonCohortQueries.getNewMQPregnantORBreastfeeding(
-            hivMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition b2New =
         commonCohortQueries.getPatientsWithFirstTherapeuticLineOnLastClinicalEncounterB2NEW();
@@ -1206,7 +1200,7 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
 
     String query =
         "SELECT p.patient_id "
@@ -1241,8 +1235,8 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
 
     String query =
@@ -1303,8 +1297,8 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1707", hivMetadata.getAbandonedConcept().getConceptId());
@@ -1385,9 +1379,9 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6332", hivMetadata.getBreastfeeding().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     String query =
         "SELECT p.patient_id FROM patient p  "
@@ -1426,9 +1420,9 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
 
     String query =
         "SELECT tabela.patient_id  "
@@ -1479,8 +1473,8 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("endDate", "endDate", Date.class));
     cd.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
 
     String query =
         " SELECT p.patient_id "
@@ -1521,9 +1515,9 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     String query =
         "SELECT p.patient_id FROM patient p INNER JOIN person pr ON p.patient_id = pr.person_id  "
@@ -1559,8 +1553,8 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
 
     String query =
         " SELECT p.patient_id "
@@ -1620,9 +1614,9 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("23724", hivMetadata.getGaac().getConceptId());
     map.put("23730", hivMetadata.getQuarterlyDispensation().getConceptId());
     map.put("23888", hivMetadata.getSemiannualDispensation().getConceptId());
@@ -1689,9 +1683,9 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
     map.put("165515", hivMetadata.getCD4SemiQuantitativeConcept().getConceptId());
     map.put("165513", hivMetadata.getCD4CountLessThanOrEqualTo200Concept().getConceptId());
@@ -1749,8 +1743,8 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("23724", hivMetadata.getGaac().getConceptId());
     map.put("23730", hivMetadata.getQuarterlyDispensation().getConceptId());
     map.put("23888", hivMetadata.getSemiannualDispensation().getConceptId());
@@ -1820,7 +1814,7 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
     map.put("23724", hivMetadata.getGaac().getConceptId());
     map.put("23730", hivMetadata.getQuarterlyDispensation().getConceptId());
@@ -1903,9 +1897,9 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("upper", upper);
     map.put("lower", lower);
 
@@ -2029,8 +2023,8 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -2127,7 +2121,7 @@ public class IntensiveMonitoringCohortQueries {
             hivMetadata.getSemiannualDispensation().getConceptId());
 
     List<Integer> states = Arrays.asList(hivMetadata.getCompletedConcept().getConceptId());
-    List<Integer> start = Arrays.asList(hivMetadata.getStartDrugs().getConceptId());
+    List<Integer> start = Arrays.asList(hivMetadata.getStartDrugsConceptId());
 
     CohortDefinition mdcLastClinical =
         qualityImprovement2020CohortQueries
@@ -2220,7 +2214,7 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
 
     String sql =
         "SELECT p.person_id "
@@ -2263,8 +2257,8 @@ public class IntensiveMonitoringCohortQueries {
 
     cd.setName("All patients with concept “PEDIDO DE INVESTIGACOES LABORATORIAIS”");
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
 
     String query =
@@ -2303,8 +2297,8 @@ public class IntensiveMonitoringCohortQueries {
 
     cd.setName("All patients with concept PEDIDO DE INVESTIGACOES LABORATORIAIS BEFORE LAST VISIT");
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
 
     String query =
@@ -2358,13 +2352,11 @@ public class IntensiveMonitoringCohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getNewMQPregnantORBreastfeeding(
-            hivMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition brestfeeding =
         commonCohortQueries.getNewMQPregnantORBreastfeeding(
-            hivMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition PrimeiraLinha =
         qualityImprovement2020CohortQueries.getUtentesPrimeiraLinha(
@@ -2465,8 +2457,8 @@ public class IntensiveMonitoringCohortQueries {
 
     cd.setQuery(
         IntensiveMonitoringQueries.getMI13AbandonedTarvOnArtStartDate(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getAbandonedConcept().getConceptId(),
             hivMetadata.getStateOfStayOfPreArtPatient().getConceptId(),
@@ -2504,12 +2496,12 @@ public class IntensiveMonitoringCohortQueries {
 
     cd.setQuery(
         IntensiveMonitoringQueries.getMI13AbandonedTarvOnFirstPregnancyStateDate(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getAbandonedConcept().getConceptId(),
             hivMetadata.getStateOfStayOfPreArtPatient().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getPregnantConcept().getConceptId()));
 
     return cd;
@@ -2536,9 +2528,9 @@ public class IntensiveMonitoringCohortQueries {
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -2619,8 +2611,8 @@ public class IntensiveMonitoringCohortQueries {
 
     cd.setQuery(
         IntensiveMonitoringQueries.getViralLoadResultQuery(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
             hivMetadata.getHivViralLoadQualitative().getConceptId()));
 
     return cd;
@@ -2654,7 +2646,7 @@ public class IntensiveMonitoringCohortQueries {
             qualityImprovement2020CohortQueries.getPregnantAndBreastfeedingStates(
                 hivMetadata.getAdultoSeguimentoEncounterType(),
                 hivMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
 
     cd.addSearch(
@@ -2696,8 +2688,8 @@ public class IntensiveMonitoringCohortQueries {
 
     cd.setQuery(
         IntensiveMonitoringQueries.getPreviousViralLoadQuery(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
             hivMetadata.getHivViralLoadQualitative().getConceptId(),
             hivMetadata.getApplicationForLaboratoryResearch().getConceptId()));
 
@@ -2843,25 +2835,23 @@ public class IntensiveMonitoringCohortQueries {
         "C",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             inclusionRequestPeriodMappings));
 
     cd.addSearch(
         "D",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getBreastfeeding().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId()),
             inclusionRequestPeriodMappings));
 
     cd.addSearch(
         "E",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getTransferredInPatients(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-                hivMetadata.getPatientFoundYesConcept().getConceptId(),
+                hivMetadata.getPatientFoundYesConceptId(),
                 hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
                 hivMetadata.getArtStatus().getConceptId()),
             inclusionRequestPeriodMappings));
@@ -2870,16 +2860,14 @@ public class IntensiveMonitoringCohortQueries {
         "pregnantOnPeriod",
         EptsReportUtils.map(
             qualityImprovement2020CohortQueries.getMOHPregnantORBreastfeedingOnClinicalConsultation(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             cd4RequestMappings));
 
     cd.addSearch(
         "breastfeedingOnPeriod",
         EptsReportUtils.map(
             qualityImprovement2020CohortQueries.getMOHPregnantORBreastfeedingOnClinicalConsultation(
-                commonMetadata.getBreastfeeding().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId()),
             cd4RequestMappings));
 
     cd.addSearch(
@@ -2892,25 +2880,23 @@ public class IntensiveMonitoringCohortQueries {
         "CC",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             inclusionResultPeriodMappings));
 
     cd.addSearch(
         "DD",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getBreastfeeding().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId()),
             inclusionResultPeriodMappings));
 
     cd.addSearch(
         "transferredIn",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getTransferredInPatients(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-                hivMetadata.getPatientFoundYesConcept().getConceptId(),
+                hivMetadata.getPatientFoundYesConceptId(),
                 hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
                 hivMetadata.getArtStatus().getConceptId()),
             inclusionResultPeriodMappings));
@@ -2919,16 +2905,14 @@ public class IntensiveMonitoringCohortQueries {
         "pregnantOnPeriodCd4Resul",
         EptsReportUtils.map(
             qualityImprovement2020CohortQueries.getMOHPregnantORBreastfeedingOnClinicalConsultation(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             cd4ResultMappings));
 
     cd.addSearch(
         "breastfeedingOnPeriodCd4Result",
         EptsReportUtils.map(
             qualityImprovement2020CohortQueries.getMOHPregnantORBreastfeedingOnClinicalConsultation(
-                commonMetadata.getBreastfeeding().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId()),
             cd4ResultMappings));
 
     cd.addSearch(
@@ -3003,17 +2987,16 @@ public class IntensiveMonitoringCohortQueries {
         "pregnantOnPeriod",
         EptsReportUtils.map(
             getFirstPregnancyORBreastfeedingOnClinicalConsultation(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             inclusionPeriodMappings));
 
     cd.addSearch(
         "transferredIn",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getTransferredInPatients(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-                hivMetadata.getPatientFoundYesConcept().getConceptId(),
+                hivMetadata.getPatientFoundYesConceptId(),
                 hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
                 hivMetadata.getArtStatus().getConceptId()),
             "startDate=${revisionEndDate-3m+1d},endDate=${revisionEndDate-2m},location=${location}"));
@@ -3051,7 +3034,7 @@ public class IntensiveMonitoringCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("question", question);
     map.put("answer", answer);
 
@@ -3280,17 +3263,16 @@ public class IntensiveMonitoringCohortQueries {
         "pregnantOnPeriod",
         EptsReportUtils.map(
             getFirstPregnancyORBreastfeedingOnClinicalConsultation(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             inclusionPeriodMappings));
 
     cd.addSearch(
         "transferredIn",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getTransferredInPatients(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-                hivMetadata.getPatientFoundYesConcept().getConceptId(),
+                hivMetadata.getPatientFoundYesConceptId(),
                 hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
                 hivMetadata.getArtStatus().getConceptId()),
             "startDate=${revisionEndDate-2m+1d},endDate=${revisionEndDate-1m},location=${location}"));
@@ -3301,7 +3283,7 @@ public class IntensiveMonitoringCohortQueries {
             qualityImprovement2020CohortQueries
                 .getRequestForCd4OnFirstClinicalConsultationOfPregnancy(
                     commonMetadata.getPregnantConcept().getConceptId(),
-                    hivMetadata.getYesConcept().getConceptId(),
+                    hivMetadata.getYesConceptId(),
                     hivMetadata.getApplicationForLaboratoryResearch().getConceptId(),
                     hivMetadata.getCD4AbsoluteOBSConcept().getConceptId()),
             "startDate=${revisionEndDate-3m+1d},endDate=${revisionEndDate-2m},location=${location}"));
@@ -3310,8 +3292,7 @@ public class IntensiveMonitoringCohortQueries {
         "resultCd4ForPregnant",
         EptsReportUtils.map(
             qualityImprovement2020CohortQueries.getCd4ResultAfterFirstConsultationOfPregnancy(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             inclusionPeriodMappings));
 
     if (flag == 9) {
@@ -3334,9 +3315,9 @@ public class IntensiveMonitoringCohortQueries {
     CohortDefinition inTarv = resumoMensalCohortQueries.getPatientsWhoWereActiveByEndOfMonthB13();
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -3772,9 +3753,9 @@ public class IntensiveMonitoringCohortQueries {
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
     cd.addSearch(
@@ -3864,7 +3845,7 @@ public class IntensiveMonitoringCohortQueries {
             hivMetadata.getRapidFlow().getConceptId(),
             hivMetadata.getSemiannualDispensation().getConceptId());
 
-    List<Integer> states = Arrays.asList(hivMetadata.getStartDrugs().getConceptId());
+    List<Integer> states = Arrays.asList(hivMetadata.getStartDrugsConceptId());
 
     CohortDefinition mds =
         qualityImprovement2020CohortQueries
@@ -3903,8 +3884,8 @@ public class IntensiveMonitoringCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
@@ -4017,10 +3998,10 @@ public class IntensiveMonitoringCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         "SELECT   final.patient_id "
@@ -4114,7 +4095,7 @@ public class IntensiveMonitoringCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1268", hivMetadata.getTBTreatmentPlanConcept().getConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
 
@@ -4187,8 +4168,8 @@ public class IntensiveMonitoringCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("2015", hivMetadata.getAdverseReaction().getConceptId());
     map.put("23748", hivMetadata.getCytopeniaConcept().getConceptId());
     map.put("6293", hivMetadata.getPancreatitis().getConceptId());
@@ -4232,10 +4213,10 @@ public class IntensiveMonitoringCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         " SELECT   patient_id "
@@ -4371,13 +4352,11 @@ public class IntensiveMonitoringCohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getNewMQPregnantORBreastfeeding(
-            hivMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getNewMQPregnantORBreastfeeding(
-            hivMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition firstLine =
         qualityImprovement2020CohortQueries.getUtentesPrimeiraLinha(
@@ -4615,19 +4594,17 @@ public class IntensiveMonitoringCohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -4870,23 +4847,21 @@ public class IntensiveMonitoringCohortQueries {
         "C",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.addSearch(
         "D",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getBreastfeeding().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.addSearch(
         "E",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getTransferredInPatients(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-                hivMetadata.getPatientFoundYesConcept().getConceptId(),
+                hivMetadata.getPatientFoundYesConceptId(),
                 hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
                 hivMetadata.getArtStatus().getConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
@@ -5052,12 +5027,12 @@ public class IntensiveMonitoringCohortQueries {
     sqlCohortDefinition.setName("VL ON 2nd Line");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1982", commonMetadata.getPregnantConcept().getConceptId());
     map.put("21187", hivMetadata.getRegArvSecondLine().getConceptId());
     map.put("1792", hivMetadata.getJustificativeToChangeArvTreatment().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
     map.put("1190", hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
 
@@ -5300,9 +5275,9 @@ public class IntensiveMonitoringCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
     map.put("1190", hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
 
@@ -5440,13 +5415,11 @@ public class IntensiveMonitoringCohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getNewMQPregnantORBreastfeeding(
-            hivMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getNewMQPregnantORBreastfeeding(
-            hivMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition firstLine =
         qualityImprovement2020CohortQueries.getUtentesPrimeiraLinha(
@@ -5517,8 +5490,7 @@ public class IntensiveMonitoringCohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition tbDiagnosisActive =
         qualityImprovement2020CohortQueries.getPatientsWithTbActiveOrTbTreatment();
@@ -5528,9 +5500,9 @@ public class IntensiveMonitoringCohortQueries {
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -5603,8 +5575,7 @@ public class IntensiveMonitoringCohortQueries {
     CohortDefinition transferredOut = getTranferredOutPatientsForMI7();
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition pregnantAbandonedDuringPeriod =
         qualityImprovement2020CohortQueries
@@ -5612,9 +5583,9 @@ public class IntensiveMonitoringCohortQueries {
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -5657,8 +5628,7 @@ public class IntensiveMonitoringCohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition transferredOut = getTranferredOutPatientsForMI7();
 
@@ -5668,9 +5638,9 @@ public class IntensiveMonitoringCohortQueries {
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
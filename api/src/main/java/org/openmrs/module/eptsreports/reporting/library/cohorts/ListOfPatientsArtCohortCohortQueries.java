@@ -6,6 +6,7 @@ import java.util.Map;
 import org.apache.commons.text.StringSubstitutor;
 import org.openmrs.Location;
 import org.openmrs.module.eptsreports.metadata.HivMetadata;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.SharedCohortDefinition;
 import org.openmrs.module.eptsreports.reporting.library.queries.CommonQueries;
 import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
 import org.openmrs.module.reporting.cohort.definition.SqlCohortDefinition;
@@ -47,7 +48,7 @@ public class ListOfPatientsArtCohortCohortQueries {
             + "   GROUP BY patient_id";
 
     sqlCohortDefinition.setQuery(query);
-    return sqlCohortDefinition;
+    return new SharedCohortDefinition("listOfPatientsArtCohort", sqlCohortDefinition);
   }
 
   /**
@@ -94,8 +95,8 @@ public class ListOfPatientsArtCohortCohortQueries {
     addSqlPatientDataDefinitionParameters(sqlPatientDataDefinition);
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         " SELECT p.patient_id, "
@@ -141,8 +142,8 @@ public class ListOfPatientsArtCohortCohortQueries {
     addSqlPatientDataDefinitionParameters(sqlPatientDataDefinition);
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         " SELECT patient_id, DATE_ADD(recent_date, INTERVAL 30 DAY) AS next_pickup "
@@ -192,8 +193,8 @@ public class ListOfPatientsArtCohortCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("1410", hivMetadata.getReturnVisitDateConcept().getConceptId());
 
     String query =
@@ -262,7 +263,7 @@ public class ListOfPatientsArtCohortCohortQueries {
         hivMetadata
             .getTransferredOutToAnotherHealthFacilityWorkflowState()
             .getProgramWorkflowStateId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("10", hivMetadata.getArtDeadWorkflowState().getProgramWorkflowStateId());
     valuesMap.put(
         "8", hivMetadata.getSuspendedTreatmentWorkflowState().getProgramWorkflowStateId());
@@ -324,7 +325,7 @@ public class ListOfPatientsArtCohortCohortQueries {
         hivMetadata
             .getTransferredOutToAnotherHealthFacilityWorkflowState()
             .getProgramWorkflowStateId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("10", hivMetadata.getArtDeadWorkflowState().getProgramWorkflowStateId());
     valuesMap.put(
         "8", hivMetadata.getSuspendedTreatmentWorkflowState().getProgramWorkflowStateId());
@@ -378,7 +379,7 @@ public class ListOfPatientsArtCohortCohortQueries {
     addSqlPatientDataDefinitionParameters(sqlPatientDataDefinition);
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     valuesMap.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     valuesMap.put("1707", hivMetadata.getAbandonedConcept().getConceptId());
@@ -436,7 +437,7 @@ public class ListOfPatientsArtCohortCohortQueries {
     addSqlPatientDataDefinitionParameters(sqlPatientDataDefinition);
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     valuesMap.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     valuesMap.put("1707", hivMetadata.getAbandonedConcept().getConceptId());
@@ -484,7 +485,7 @@ public class ListOfPatientsArtCohortCohortQueries {
 
     Map<String, Integer> valuesMap = new HashMap<>();
     valuesMap.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
     valuesMap.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     valuesMap.put("1707", hivMetadata.getAbandonedConcept().getConceptId());
     valuesMap.put("1366", hivMetadata.getPatientHasDiedConcept().getConceptId());
@@ -546,7 +547,7 @@ public class ListOfPatientsArtCohortCohortQueries {
 
     Map<String, Integer> valuesMap = new HashMap<>();
     valuesMap.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
     valuesMap.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     valuesMap.put("1707", hivMetadata.getAbandonedConcept().getConceptId());
     valuesMap.put("1366", hivMetadata.getPatientHasDiedConcept().getConceptId());
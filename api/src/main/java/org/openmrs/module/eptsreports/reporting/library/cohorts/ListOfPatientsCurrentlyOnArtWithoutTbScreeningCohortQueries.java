@@ -6,6 +6,7 @@ import java.util.Map;
 import org.apache.commons.text.StringSubstitutor;
 import org.openmrs.Location;
 import org.openmrs.module.eptsreports.metadata.HivMetadata;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.SharedCohortDefinition;
 import org.openmrs.module.eptsreports.reporting.library.queries.CommonQueries;
 import org.openmrs.module.eptsreports.reporting.library.queries.TxtbDenominatorQueries;
 import org.openmrs.module.eptsreports.reporting.utils.EptsQueriesUtil;
@@ -66,7 +67,8 @@ public class ListOfPatientsCurrentlyOnArtWithoutTbScreeningCohortQueries {
 
     composition.setCompositionString("tx-curr AND NOT txtb-screened");
 
-    return composition;
+    return new SharedCohortDefinition(
+        "listOfPatientsCurrentlyOnArtWithoutTbScreening", composition);
   }
 
   /**
@@ -197,7 +199,7 @@ public class ListOfPatientsCurrentlyOnArtWithoutTbScreeningCohortQueries {
 
     Map<String, Integer> valuesMap = new HashMap<>();
     valuesMap.put("23739", hivMetadata.getTypeOfDispensationConcept().getConceptId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
 
     String query =
         "SELECT p.patient_id , o.value_coded "
@@ -265,7 +267,7 @@ public class ListOfPatientsCurrentlyOnArtWithoutTbScreeningCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "End Date", Date.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
     valuesMap.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
 
     String query =
@@ -317,8 +319,8 @@ public class ListOfPatientsCurrentlyOnArtWithoutTbScreeningCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "End Date", Date.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
 
     String query =
         "SELECT p.patient_id, "
@@ -363,8 +365,8 @@ public class ListOfPatientsCurrentlyOnArtWithoutTbScreeningCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "End Date", Date.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
 
     String query =
         "SELECT p.patient_id, "
@@ -413,8 +415,8 @@ public class ListOfPatientsCurrentlyOnArtWithoutTbScreeningCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
     valuesMap.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
     valuesMap.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     valuesMap.put("165322", hivMetadata.getMdcState().getConceptId());
@@ -467,10 +469,10 @@ public class ListOfPatientsCurrentlyOnArtWithoutTbScreeningCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     valuesMap.put("165322", hivMetadata.getMdcState().getConceptId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
     valuesMap.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
 
     String query =
@@ -595,7 +597,7 @@ public class ListOfPatientsCurrentlyOnArtWithoutTbScreeningCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
 
     String query =
         "SELECT p.patient_id "
@@ -303,8 +303,8 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
 
     definition.setQuery(
         getDeadPatientsInFichaResumeAndClinicaOfMasterCardByReportEndDate(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayPriorArtPatientConcept().getConceptId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getPatientHasDiedConcept().getConceptId()));
@@ -342,10 +342,10 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     map.put(
         "23945", hivMetadata.getReasonPatientNotFoundByActivist3rdVisitConcept().getConceptId());
     map.put("1366", hivMetadata.getPatientHasDiedConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("6272", hivMetadata.getStateOfStayPriorArtPatientConcept().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
 
@@ -481,15 +481,15 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put(
         "7",
         hivMetadata
             .getTransferredOutToAnotherHealthFacilityWorkflowState()
             .getProgramWorkflowStateId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
@@ -622,11 +622,11 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("8", hivMetadata.getSuspendedTreatmentWorkflowState().getProgramWorkflowStateId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1709", hivMetadata.getSuspendedTreatmentConcept().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
@@ -729,10 +729,10 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1113", hivMetadata.getTBDrugStartDateConcept().getConceptId());
     map.put("1268", hivMetadata.getTBTreatmentPlanConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
 
     String query =
         " SELECT p.patient_id FROM patient p  "
@@ -767,8 +767,8 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("1113", hivMetadata.getTBDrugStartDateConcept().getConceptId());
 
     String query =
@@ -804,7 +804,7 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1406", hivMetadata.getOtherDiagnosis().getConceptId());
     map.put("42", tbMetadata.getPulmonaryTB().getConceptId());
 
@@ -875,9 +875,9 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23761", tbMetadata.getActiveTBConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     String query =
         "SELECT p.patient_id FROM patient p  "
@@ -912,10 +912,10 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         "SELECT p.patient_id, o.value_datetime  "
@@ -971,10 +971,10 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         "SELECT p.patient_id, DATE_ADD(o.value_datetime, INTERVAL 30 DAY)  "
@@ -1094,12 +1094,12 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("maxDay", "maxDay", Integer.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
     valuesMap.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     valuesMap.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    valuesMap.put("1065", hivMetadata.getYesConcept().getConceptId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("1065", hivMetadata.getYesConceptId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String sql =
         " SELECT p.patient_id FROM patient p INNER JOIN "
@@ -1160,8 +1160,8 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     spdd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("1268", hivMetadata.getTBTreatmentPlanConcept().getConceptId());
     valuesMap.put("1113", hivMetadata.getTBDrugStartDateConcept().getConceptId());
     valuesMap.put("1406", hivMetadata.getOtherDiagnosis().getConceptId());
@@ -1169,9 +1169,9 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     valuesMap.put("6269", hivMetadata.getActiveOnProgramConcept().getConceptId());
     valuesMap.put("5", hivMetadata.getTBProgram().getProgramId());
     valuesMap.put("23761", hivMetadata.getActiveTBConcept().getConceptId());
-    valuesMap.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("1065", hivMetadata.getPatientFoundYesConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
 
     String sql =
         " SELECT final_query.patient_id, CASE WHEN final_query.result_Value IS NOT NULL THEN 'S' WHEN final_query.result_Value IS NULL THEN 'INACTIVE' ELSE '' END"
@@ -1390,7 +1390,7 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     map.put("35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
     map.put("6306", hivMetadata.getAcceptContactConcept().getConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("23775", hivMetadata.getPatientConsentConcept().getConceptId());
 
     String query =
@@ -1488,7 +1488,7 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     Map<String, Integer> map = new HashMap<>();
     map.put("35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6177", hivMetadata.getConfidentAcceptContact().getConceptId());
     map.put("23776", hivMetadata.getConfidentConsentDate().getConceptId());
 
@@ -1589,12 +1589,12 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     spdd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         "  SELECT p.patient_id,CASE WHEN last_next_scheduled_pick_up.patient_id IS NOT NULL  THEN  TIMESTAMPDIFF(DAY, last_next_scheduled_pick_up.max_datetame,:endDate)  "
@@ -1666,9 +1666,9 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     Map<String, Integer> map = new HashMap<>();
     map.put("2", hivMetadata.getARTProgram().getProgramId());
     map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
@@ -1799,8 +1799,8 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
     map.put("23739", hivMetadata.getTypeOfDispensationConcept().getConceptId());
     map.put("23730", hivMetadata.getQuarterlyDispensation().getConceptId());
@@ -2253,11 +2253,8 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
 
     Map<String, String> map = new HashMap<>();
     StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
-    map.put(
-        "6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()));
-    map.put(
-        "9",
-        String.valueOf(hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId()));
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
+    map.put("9", String.valueOf(hivMetadata.getPediatriaSeguimentoEncounterTypeId()));
     map.put(
         "35",
         String.valueOf(
@@ -2418,7 +2415,7 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
 
     Map<String, Integer> valuesMap = new HashMap<>();
     valuesMap.put("keypop", keyPopConcept.getConceptId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("23703", hivMetadata.getKeyPopulationConcept().getConceptId());
 
     String sql =
@@ -2511,9 +2508,9 @@ public class ListOfPatientsDefaultersOrIITCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
     map.put("1707", hivMetadata.getAbandonedConcept().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayPriorArtPatientConcept().getConceptId());
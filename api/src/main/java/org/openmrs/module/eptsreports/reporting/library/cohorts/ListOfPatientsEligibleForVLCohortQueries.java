@@ -7,6 +7,7 @@ import org.apache.commons.text.StringSubstitutor;
 import org.openmrs.Location;
 import org.openmrs.module.eptsreports.metadata.CommonMetadata;
 import org.openmrs.module.eptsreports.metadata.HivMetadata;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.SharedCohortDefinition;
 import org.openmrs.module.eptsreports.reporting.utils.EptsReportUtils;
 import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
 import org.openmrs.module.reporting.cohort.definition.CompositionCohortDefinition;
@@ -98,7 +99,7 @@ public class ListOfPatientsEligibleForVLCohortQueries {
     cd.setCompositionString(
         "txcurr AND (X1 OR X2 OR X3) AND VLMORE6MONTHS AND (VL12MONTHS OR VL3MONTHS OR NOVLRESULTS) AND NOT (BREASTFEEDING OR PREGNANT)");
 
-    return cd;
+    return new SharedCohortDefinition("listOfPatientsEligibleForVL", cd);
   }
 
   /**
@@ -212,17 +213,17 @@ public class ListOfPatientsEligibleForVLCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     valuesMap.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    valuesMap.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    valuesMap.put("1065", hivMetadata.getPatientFoundYesConceptId());
     valuesMap.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     valuesMap.put("1255", hivMetadata.getARVPlanConcept().getConceptId());
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
     valuesMap.put("2", hivMetadata.getARTProgram().getProgramId());
 
     String X1 = getLastScheduledConsultationDate(true);
@@ -349,12 +350,12 @@ public class ListOfPatientsEligibleForVLCohortQueries {
     String VL = mostRecentVL(true);
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     valuesMap.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("856", hivMetadata.getHivViralLoadConceptId());
     valuesMap.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -425,12 +426,12 @@ public class ListOfPatientsEligibleForVLCohortQueries {
     String VL2 = mostRecentVL(true);
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     valuesMap.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("856", hivMetadata.getHivViralLoadConceptId());
     valuesMap.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -497,12 +498,12 @@ public class ListOfPatientsEligibleForVLCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     valuesMap.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("856", hivMetadata.getHivViralLoadConceptId());
     valuesMap.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -564,7 +565,7 @@ public class ListOfPatientsEligibleForVLCohortQueries {
 
     Map<String, Integer> valuesMap = new HashMap<>();
 
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
     valuesMap.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
     String query =
         " FROM patient p "
@@ -608,10 +609,10 @@ public class ListOfPatientsEligibleForVLCohortQueries {
       boolean selectDatetime) {
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     valuesMap.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    valuesMap.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    valuesMap.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         "      FROM patient p "
@@ -660,8 +661,8 @@ public class ListOfPatientsEligibleForVLCohortQueries {
   private String getLastScheduledConsultationDate(boolean selectDatetime) {
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("1410", hivMetadata.getReturnVisitDateConcept().getConceptId());
 
     String query =
@@ -752,13 +753,13 @@ public class ListOfPatientsEligibleForVLCohortQueries {
 
     Map<String, Integer> valuesMap = new HashMap<>();
     valuesMap.put("6332", commonMetadata.getBreastfeeding().getConceptId());
-    valuesMap.put("1065", hivMetadata.getYesConcept().getConceptId());
+    valuesMap.put("1065", hivMetadata.getYesConceptId());
     valuesMap.put("5599", hivMetadata.getPriorDeliveryDateConcept().getConceptId());
     valuesMap.put("1600", hivMetadata.getPregnancyDueDate().getConceptId());
     valuesMap.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("6334", hivMetadata.getCriteriaForArtStart().getConceptId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
     valuesMap.put("8", hivMetadata.getPtvEtvProgram().getProgramId());
     valuesMap.put("27", hivMetadata.getPatientGaveBirthWorkflowState().getProgramWorkflowStateId());
     valuesMap.put("1190", hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
@@ -1092,13 +1093,13 @@ public class ListOfPatientsEligibleForVLCohortQueries {
 
     Map<String, Integer> valuesMap = new HashMap<>();
     valuesMap.put("6332", commonMetadata.getBreastfeeding().getConceptId());
-    valuesMap.put("1065", hivMetadata.getYesConcept().getConceptId());
+    valuesMap.put("1065", hivMetadata.getYesConceptId());
     valuesMap.put("5599", hivMetadata.getPriorDeliveryDateConcept().getConceptId());
     valuesMap.put("1600", hivMetadata.getPregnancyDueDate().getConceptId());
     valuesMap.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("6334", hivMetadata.getCriteriaForArtStart().getConceptId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
     valuesMap.put("8", hivMetadata.getPtvEtvProgram().getProgramId());
     valuesMap.put("27", hivMetadata.getPatientGaveBirthWorkflowState().getProgramWorkflowStateId());
     valuesMap.put("1190", hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
@@ -1409,12 +1410,12 @@ public class ListOfPatientsEligibleForVLCohortQueries {
   private String mostRecentVL(boolean selectDatetime) {
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     valuesMap.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("856", hivMetadata.getHivViralLoadConceptId());
     valuesMap.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -54,23 +54,23 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     valuesMap.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("856", hivMetadata.getHivViralLoadConceptId());
     valuesMap.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     valuesMap.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    valuesMap.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    valuesMap.put("1065", hivMetadata.getPatientFoundYesConceptId());
     valuesMap.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     valuesMap.put("1255", hivMetadata.getARVPlanConcept().getConceptId());
     valuesMap.put("1410", hivMetadata.getReturnVisitDateConcept().getConceptId());
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
     valuesMap.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
     valuesMap.put("2", hivMetadata.getARTProgram().getProgramId());
 
     String query =
@@ -177,7 +177,7 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("21151", hivMetadata.getTherapeuticLineConcept().getConceptId());
 
     String query =
@@ -240,12 +240,12 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     valuesMap.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("856", hivMetadata.getHivViralLoadConceptId());
     valuesMap.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -308,12 +308,12 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     valuesMap.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("856", hivMetadata.getHivViralLoadConceptId());
     valuesMap.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -371,8 +371,8 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
 
     String query =
         "  SELECT p.patient_id, MAX(e.encounter_datetime) FROM patient p "
@@ -412,8 +412,8 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("1410", hivMetadata.getReturnVisitDateConcept().getConceptId());
 
     String query =
@@ -467,7 +467,7 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
 
     String query =
         " SELECT p.patient_id, MAX(e.encounter_datetime) FROM patient p "
@@ -507,10 +507,10 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     valuesMap.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    valuesMap.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    valuesMap.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         "  SELECT p.patient_id, obs_value.value_datetime    FROM patient p "
@@ -574,7 +574,7 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
     valuesMap.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
 
     String query =
@@ -635,10 +635,10 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     valuesMap.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    valuesMap.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    valuesMap.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         "  SELECT p.patient_id, DATE_ADD(obs_value.value_datetime, INTERVAL 30 DAY) return_date    FROM patient p "
@@ -706,12 +706,12 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     Map<String, Integer> valuesMap = new HashMap<>();
     valuesMap.put(
         "35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     valuesMap.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("856", hivMetadata.getHivViralLoadConceptId());
 
     String query =
         " SELECT  "
@@ -786,8 +786,8 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     spdd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
 
     String sql =
@@ -817,10 +817,10 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     spdd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String sql =
         "SELECT patient_id, most_recent_next_pickup "
@@ -1012,13 +1012,13 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     Map<String, Integer> map = new HashMap<>();
     map.put("1", hivMetadata.getHIVCareProgram().getProgramId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("8", hivMetadata.getSuspendedTreatmentWorkflowState().getProgramWorkflowStateId());
     map.put("10", hivMetadata.getArtDeadWorkflowState().getProgramWorkflowStateId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1366", hivMetadata.getPatientHasDiedConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("1709", hivMetadata.getSuspendedTreatmentConcept().getConceptId());
@@ -1029,7 +1029,7 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6275", hivMetadata.getPreTarvConcept().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
     map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
     map.put(
@@ -1079,7 +1079,7 @@ public class ListOfPatientsEligibleForVLDataDefinitionQueries {
     spdd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23703", hivMetadata.getKeyPopulationConcept().getConceptId());
 
     String sql =
@@ -6,6 +6,7 @@ import java.util.Map;
 import org.apache.commons.text.StringSubstitutor;
 import org.openmrs.Location;
 import org.openmrs.module.eptsreports.metadata.HivMetadata;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.SharedCohortDefinition;
 import org.openmrs.module.eptsreports.reporting.utils.EptsReportUtils;
 import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
 import org.openmrs.module.reporting.cohort.definition.CompositionCohortDefinition;
@@ -56,7 +57,7 @@ public class ListOfPatientsWhoPickedupArvDuringPeriodCohortQueries {
             lastPickupFila, "startDate=${startDate},endDate=${endDate},location=${location}"));
 
     cd.setCompositionString("txcurr AND pickup");
-    return cd;
+    return new SharedCohortDefinition("listOfPatientsWhoPickedupArvDuringPeriod", cd);
   }
 
   /**
@@ -73,7 +74,7 @@ public class ListOfPatientsWhoPickedupArvDuringPeriodCohortQueries {
     cd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
 
     String sql =
         " SELECT p.patient_id "
@@ -59,13 +59,13 @@ public class ListOfPatientsWhoPickeupArvDuringPeriodDataDefinitionQueries {
 
     Map<String, Integer> valuesMap = new HashMap<>();
     valuesMap.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
     valuesMap.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     valuesMap.put("1707", hivMetadata.getAbandonedConcept().getConceptId());
     valuesMap.put("1366", hivMetadata.getPatientHasDiedConcept().getConceptId());
     valuesMap.put("1709", hivMetadata.getSuspendedTreatmentConcept().getConceptId());
     valuesMap.put("23903", hivMetadata.getNegativeDiagnosisConcept().getConceptId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     valuesMap.put("2", hivMetadata.getARTProgram().getProgramId());
     valuesMap.put(
@@ -73,7 +73,7 @@ public class ListOfPatientsWhoPickeupArvDuringPeriodDataDefinitionQueries {
         hivMetadata
             .getTransferredOutToAnotherHealthFacilityWorkflowState()
             .getProgramWorkflowStateId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("10", hivMetadata.getArtDeadWorkflowState().getProgramWorkflowStateId());
     valuesMap.put(
         "8", hivMetadata.getSuspendedTreatmentWorkflowState().getProgramWorkflowStateId());
@@ -215,13 +215,13 @@ public class ListOfPatientsWhoPickeupArvDuringPeriodDataDefinitionQueries {
 
     Map<String, Integer> valuesMap = new HashMap<>();
     valuesMap.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
     valuesMap.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     valuesMap.put("1707", hivMetadata.getAbandonedConcept().getConceptId());
     valuesMap.put("1366", hivMetadata.getPatientHasDiedConcept().getConceptId());
     valuesMap.put("1709", hivMetadata.getSuspendedTreatmentConcept().getConceptId());
     valuesMap.put("23903", hivMetadata.getNegativeDiagnosisConcept().getConceptId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     valuesMap.put("2", hivMetadata.getARTProgram().getProgramId());
     valuesMap.put(
@@ -229,7 +229,7 @@ public class ListOfPatientsWhoPickeupArvDuringPeriodDataDefinitionQueries {
         hivMetadata
             .getTransferredOutToAnotherHealthFacilityWorkflowState()
             .getProgramWorkflowStateId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("10", hivMetadata.getArtDeadWorkflowState().getProgramWorkflowStateId());
     valuesMap.put(
         "8", hivMetadata.getSuspendedTreatmentWorkflowState().getProgramWorkflowStateId());
@@ -342,7 +342,7 @@ public class ListOfPatientsWhoPickeupArvDuringPeriodDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
 
     String query =
         " SELECT p.patient_id, MAX(e.encounter_datetime) as last_pickup_date"
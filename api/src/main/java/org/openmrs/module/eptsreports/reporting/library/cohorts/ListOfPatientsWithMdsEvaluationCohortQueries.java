@@ -8,6 +8,8 @@ import org.openmrs.Location;
 import org.openmrs.module.eptsreports.metadata.CommonMetadata;
 import org.openmrs.module.eptsreports.metadata.HivMetadata;
 import org.openmrs.module.eptsreports.metadata.TbMetadata;
+import org.openmrs.module.eptsreports.reporting.data.MdsTimeline;
+import org.openmrs.module.eptsreports.reporting.data.definition.MdsTimelineDataDefinition;
 import org.openmrs.module.eptsreports.reporting.library.queries.ListOfPatientsWithMdsEvaluationQueries;
 import org.openmrs.module.eptsreports.reporting.utils.EptsQueriesUtil;
 import org.openmrs.module.eptsreports.reporting.utils.queries.UnionBuilder;
@@ -224,11 +226,11 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     dd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     String query =
         "       SELECT start.patient_id, "
@@ -319,11 +321,11 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     dd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     String query =
         "SELECT p.patient_id, FLOOR(DATEDIFF(art.first_pickup,ps.birthdate)/365) AS age "
@@ -368,20 +370,20 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     dd.addParameter(new Parameter("endDate", "endDate", Date.class));
     dd.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("165305", tbMetadata.get1HPConcept().getConceptId());
     map.put("165306", tbMetadata.getLFXConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
 
@@ -502,13 +504,13 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
@@ -631,21 +633,21 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
 
     String query =
         "SELECT pt.patient_id, "
@@ -761,23 +763,23 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
 
     String query =
         "SELECT p.patient_id, "
@@ -843,23 +845,23 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
     map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
@@ -931,14 +933,14 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     String query = getLastVlDateOn1st12MonthsOfTarv();
 
@@ -1015,17 +1017,17 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
     map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
 
@@ -1105,14 +1107,14 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     String query =
         "SELECT     p.patient_id, "
@@ -1173,17 +1175,17 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
     map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
 
@@ -1250,21 +1252,21 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
 
     String query =
         "                   SELECT cd4_2.patient_id, "
@@ -1341,21 +1343,21 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
 
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
     map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
     map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
@@ -1469,20 +1471,20 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     map.put("1383", hivMetadata.getPatientIsDead().getConceptId());
     map.put("1749", hivMetadata.getArvAdherenceRiskConcept().getConceptId());
     map.put("1385", hivMetadata.getBadConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
     map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
     map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
@@ -1624,9 +1626,9 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
@@ -1635,11 +1637,11 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
     map.put("6332", hivMetadata.getBreastfeeding().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
     map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
     map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
@@ -1802,24 +1804,24 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("23761", hivMetadata.getActiveTBConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("1268", hivMetadata.getTBTreatmentPlanConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
@@ -1977,26 +1979,26 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
     map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
     map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
@@ -2066,102 +2068,13 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
    */
   public DataDefinition getMds1(
       int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("B10- Tipo de MDS - (MDS1) Coluna S");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
-
-    Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
-    map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
-    map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
-    map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
-
-    String query =
-        "                  SELECT     mds1.patient_id, "
-            + "                             otype1.value_coded AS first_mds "
-            + "                  FROM       patient mds1 "
-            + "                  INNER JOIN encounter enc "
-            + "                  ON         enc.patient_id = mds1.patient_id "
-            + "                  INNER JOIN obs otype1 "
-            + "                  ON         otype1.encounter_id = enc.encounter_id "
-            + "                  INNER JOIN obs ostate1 "
-            + "                  ON         ostate1.encounter_id = enc.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     p.patient_id, "
-            + "                             MIN(e.encounter_datetime) AS encounter_date "
-            + "                  FROM       patient p "
-            + "                  INNER JOIN encounter e "
-            + "                  ON         e.patient_id = p.patient_id "
-            + "                  INNER JOIN obs otype "
-            + "                  ON         otype.encounter_id = e.encounter_id "
-            + "                  INNER JOIN obs ostate "
-            + "                  ON         ostate.encounter_id = e.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = p.patient_id "
-            + "                  WHERE      p.voided = 0 "
-            + "                  AND        e.voided = 0 "
-            + "                  AND        otype.voided = 0 "
-            + "                  AND        ostate.voided = 0 "
-            + "                  AND        e.encounter_type = ${6} "
-            + "                  AND        e.location_id = :location "
-            + "                  AND        e.encounter_datetime >= art.art_encounter "
-            + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND    (   ( otype.concept_id = ${165174} "
-            + "                               AND otype.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate.concept_id = ${165322} "
-            + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
-            + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-            + "                  GROUP BY   p.patient_id ) mds_one "
-            + "                  ON mds_one.patient_id = mds1.patient_id "
-            + "                  WHERE mds1.voided = 0 "
-            + "                  AND enc.voided = 0 "
-            + "                  AND otype1.voided = 0 "
-            + "                  AND ostate1.voided = 0 "
-            + "                  AND        enc.encounter_type = ${6} "
-            + "                  AND        enc.location_id = :location "
-            + "                  AND        enc.encounter_datetime = mds_one.encounter_date "
-            + "                  AND    (   ( otype1.concept_id = ${165174} "
-            + "                               AND otype1.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate1.concept_id = ${165322} "
-            + "                                 AND  ostate1.value_coded IN (${1256}) ) ) "
-            + "                  AND  otype1.obs_group_id = ostate1.obs_group_id "
-            + " AND mds1.patient_id IN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
-                minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "       GROUP BY mds1.patient_id";
-
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
-
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
-
-    return sqlPatientDataDefinition;
+    return getMdsTimelineColumn(
+        "B10- Tipo de MDS - (MDS1) Coluna S",
+        1,
+        MdsTimelineDataDefinition.Column.MODEL,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
   }
 
   /**
@@ -2172,79 +2085,14 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
    * @return {@link DataDefinition}
    */
   public DataDefinition getMds1StartDate(
-      int numberOfYears, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("Data Início de MDS1: Coluna T");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
-
-    Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
-    map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
-    map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
-    map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
-
-    String query =
-        "                  SELECT     p.patient_id, "
-            + "                             MIN(e.encounter_datetime) AS encounter_date "
-            + "                  FROM       patient p "
-            + "                  INNER JOIN encounter e "
-            + "                  ON         e.patient_id = p.patient_id "
-            + "                  INNER JOIN obs otype "
-            + "                  ON         otype.encounter_id = e.encounter_id "
-            + "                  INNER JOIN obs ostate "
-            + "                  ON         ostate.encounter_id = e.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = p.patient_id "
-            + "                  WHERE      p.voided = 0 "
-            + "                  AND        e.voided = 0 "
-            + "                  AND        otype.voided = 0 "
-            + "                  AND        ostate.voided = 0 "
-            + "                  AND        e.encounter_type = ${6} "
-            + "                  AND        e.location_id = :location "
-            + "                  AND        e.encounter_datetime >= art.art_encounter "
-            + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfYears
-            + " MONTH ) "
-            + "                  AND    (   ( otype.concept_id = ${165174} "
-            + "                               AND otype.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate.concept_id = ${165322} "
-            + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
-            + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-            + " AND p.patient_id IN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
-                minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "                  GROUP BY   p.patient_id";
-
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
-
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
-
-    return sqlPatientDataDefinition;
+      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
+    return getMdsTimelineColumn(
+        "Data Início de MDS1: Coluna T",
+        1,
+        MdsTimelineDataDefinition.Column.START_DATE,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
   }
 
   /**
@@ -2256,115 +2104,13 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
    */
   public DataDefinition getMds2StartDate(
       int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("Data Início de MDS2: Coluna W");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
-
-    Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
-    map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
-    map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
-    map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
-
-    String query =
-        "                  SELECT     mds2.patient_id, "
-            + "                             MIN(enc2.encounter_datetime) AS second_mds_date "
-            + "                  FROM       patient mds2 "
-            + "                  INNER JOIN encounter enc2 "
-            + "                  ON         enc2.patient_id = mds2.patient_id "
-            + "                  INNER JOIN obs otype2 "
-            + "                  ON         otype2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN obs ostate2 "
-            + "                  ON         ostate2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds2.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     p.patient_id, "
-            + "                             MIN(e.encounter_datetime) AS first_mds_date, "
-            + "                             MIN(otype.value_coded) AS first_mds "
-            + "                  FROM       patient p "
-            + "                  INNER JOIN encounter e "
-            + "                  ON         e.patient_id = p.patient_id "
-            + "                  INNER JOIN obs otype "
-            + "                  ON         otype.encounter_id = e.encounter_id "
-            + "                  INNER JOIN obs ostate "
-            + "                  ON         ostate.encounter_id = e.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = p.patient_id "
-            + "                  WHERE      p.voided = 0 "
-            + "                  AND        e.voided = 0 "
-            + "                  AND        otype.voided = 0 "
-            + "                  AND        ostate.voided = 0 "
-            + "                  AND        e.encounter_type = ${6} "
-            + "                  AND        e.location_id = :location "
-            + "                  AND        e.encounter_datetime >= art.art_encounter "
-            + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND    (   ( otype.concept_id = ${165174} "
-            + "                               AND otype.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate.concept_id = ${165322} "
-            + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
-            + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-            + "       GROUP BY p.patient_id ) mds_1st "
-            + "                  ON mds_1st.patient_id = mds2.patient_id "
-            + "                  WHERE mds2.voided = 0 "
-            + "                  AND enc2.voided = 0 "
-            + "                  AND otype2.voided = 0 "
-            + "                  AND ostate2.voided = 0 "
-            + "                  AND        enc2.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc2.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND enc2.encounter_datetime > mds_1st.first_mds_date "
-            + "                  AND        enc2.encounter_type = ${6} "
-            + "                  AND        enc2.location_id = :location "
-            + "                  AND    (   ( otype2.concept_id = ${165174} "
-            + "                               AND otype2.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate2.concept_id = ${165322} "
-            + "                                 AND  ostate2.value_coded = ${1256} ) ) "
-            + "                  AND  otype2.obs_group_id = ostate2.obs_group_id "
-            + " AND mds2.patient_id IN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
-                minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "       GROUP BY mds2.patient_id";
-
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
-
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
-
-    return sqlPatientDataDefinition;
+    return getMdsTimelineColumn(
+        "Data Início de MDS2: Coluna W",
+        2,
+        MdsTimelineDataDefinition.Column.START_DATE,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
   }
 
   /**
@@ -2376,1950 +2122,193 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
    */
   public DataDefinition getMds2EndDate(
       int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("Data Fim de MDS2: Coluna X");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
+    return getMdsTimelineColumn(
+        "Data Fim de MDS2: Coluna X",
+        2,
+        MdsTimelineDataDefinition.Column.END_DATE,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
+  }
 
-    Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
-    map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
-    map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
-    map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
-
-    String query =
-        "                  SELECT     mds2_end.patient_id, "
-            + "                             MIN(ee22.encounter_datetime) AS second_mds_end_date "
-            + "                  FROM       patient mds2_end "
-            + "                  INNER JOIN encounter ee22 "
-            + "                  ON         ee22.patient_id = mds2_end.patient_id "
-            + "                  INNER JOIN obs ot22 "
-            + "                  ON         ot22.encounter_id = ee22.encounter_id "
-            + "                  INNER JOIN obs os22 "
-            + "                  ON         os22.encounter_id = ee22.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds2_end.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds2.patient_id, "
-            + "                             MIN(enc2.encounter_datetime) AS second_mds_date, "
-            + "                             MIN(otype2.value_coded) AS second_mds "
-            + "                  FROM       patient mds2 "
-            + "                  INNER JOIN encounter enc2 "
-            + "                  ON         enc2.patient_id = mds2.patient_id "
-            + "                  INNER JOIN obs otype2 "
-            + "                  ON         otype2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN obs ostate2 "
-            + "                  ON         ostate2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds2.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     p.patient_id, "
-            + "                             MIN(e.encounter_datetime) AS first_mds_date, "
-            + "                             MIN(otype.value_coded) AS first_mds "
-            + "                  FROM       patient p "
-            + "                  INNER JOIN encounter e "
-            + "                  ON         e.patient_id = p.patient_id "
-            + "                  INNER JOIN obs otype "
-            + "                  ON         otype.encounter_id = e.encounter_id "
-            + "                  INNER JOIN obs ostate "
-            + "                  ON         ostate.encounter_id = e.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = p.patient_id "
-            + "                  WHERE      p.voided = 0 "
-            + "                  AND        e.voided = 0 "
-            + "                  AND        otype.voided = 0 "
-            + "                  AND        ostate.voided = 0 "
-            + "                  AND        e.encounter_type = ${6} "
-            + "                  AND        e.location_id = :location "
-            + "                  AND        e.encounter_datetime >= art.art_encounter "
-            + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND    (   ( otype.concept_id = ${165174} "
-            + "                               AND otype.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate.concept_id = ${165322} "
-            + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
-            + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-            + "       GROUP BY p.patient_id ) mds_1st "
-            + "                  ON mds_1st.patient_id = mds2.patient_id "
-            + "                  WHERE mds2.voided = 0 "
-            + "                  AND enc2.voided = 0 "
-            + "                  AND otype2.voided = 0 "
-            + "                  AND ostate2.voided = 0 "
-            + "                  AND enc2.encounter_datetime > mds_1st.first_mds_date "
-            + "                  AND        enc2.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc2.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc2.encounter_type = ${6} "
-            + "                  AND        enc2.location_id = :location "
-            + "                  AND    (   ( otype2.concept_id = ${165174} "
-            + "                               AND otype2.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate2.concept_id = ${165322} "
-            + "                                 AND  ostate2.value_coded = ${1256} ) ) "
-            + "                  AND  otype2.obs_group_id = ostate2.obs_group_id "
-            + "       GROUP BY mds2.patient_id ) mds_2nd "
-            + "                  ON mds_2nd.patient_id = mds2_end.patient_id "
-            + "                  WHERE mds2_end.voided = 0 "
-            + "                  AND ee22.voided = 0 "
-            + "                  AND ot22.voided = 0 "
-            + "                  AND os22.voided = 0 "
-            + "                  AND ee22.encounter_datetime > mds_2nd.second_mds_date "
-            + "                  AND        ee22.encounter_datetime >= art.art_encounter "
-            + "                  AND        ee22.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        ee22.encounter_type = ${6} "
-            + "                  AND        ee22.location_id = :location "
-            + "                  AND    (   ( ot22.concept_id = ${165174} "
-            + "                               AND ot22.value_coded = mds_2nd.second_mds  ) "
-            + "                  AND         ( os22.concept_id = ${165322} "
-            + "                                 AND  os22.value_coded = ${1267} ) ) "
-            + "                  AND  ot22.obs_group_id = os22.obs_group_id "
-            + " AND mds2_end.patient_id IN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
-                minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "       GROUP BY mds2_end.patient_id";
-
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
-
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
-
-    return sqlPatientDataDefinition;
-  }
-
-  /**
-   * Coluna U - Data da consulta (Ficha Clínica) em que o primeiro MDS foi marcado como “Fim”,
-   * ocorrido entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data Início
-   * TARV” e <= “Data Início TARV” + 12 meses)
-   *
-   * @return {@link DataDefinition}
-   */
-  public DataDefinition getMds1EndDate(
-      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("Data Fim de MDS1: Coluna U");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
-
-    Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
-    map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
-    map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
-    map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
-
-    String query =
-        "                  SELECT     mds1_end.patient_id, "
-            + "                             MIN(ee.encounter_datetime) AS encounter_end_date "
-            + "                  FROM       patient mds1_end "
-            + "                  INNER JOIN encounter ee "
-            + "                  ON         ee.patient_id = mds1_end.patient_id "
-            + "                  INNER JOIN obs ot "
-            + "                  ON         ot.encounter_id = ee.encounter_id "
-            + "                  INNER JOIN obs os "
-            + "                  ON         os.encounter_id = ee.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds1_end.patient_id "
-            + "                  INNER JOIN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getFirstMdsAndDateQuery(numberOfMonths)
-            + "                  ) mds1 "
-            + "                  ON         mds1.patient_id = mds1_end.patient_id "
-            + "                  WHERE      mds1_end.voided = 0 "
-            + "                  AND        ot.voided = 0 "
-            + "                  AND        os.voided = 0 "
-            + "                  AND        ee.encounter_type = ${6} "
-            + "                  AND        ee.location_id = :location "
-            + "                  AND        ee.encounter_datetime >= art.art_encounter "
-            + "                  AND        ee.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        ee.encounter_datetime > mds1.first_mds "
-            + "                  AND    (   ( ot.concept_id = ${165174} "
-            + "                               AND ot.value_coded = mds1.mds_one ) "
-            + "                  AND         ( os.concept_id = ${165322} "
-            + "                                 AND  os.value_coded IN (${1267}) ) ) "
-            + "                  AND  ot.obs_group_id = os.obs_group_id "
-            + " AND mds1_end.patient_id IN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
-                minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "                  GROUP BY   mds1_end.patient_id";
-
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
-
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
-
-    return sqlPatientDataDefinition;
-  }
-
-  /**
-   * MDS2 - Coluna V - Segundo MDS marcado como "Início" numa consulta clínica (Ficha Clínica)
-   * ocorrida entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data Início
-   * TARV” e <= “Data Início TARV” + 12 meses)
-   *
-   * @return {@link DataDefinition}
-   */
-  public DataDefinition getMds2(
-      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("B10- Tipo de MDS: (MDS2) Coluna V");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
-
-    Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
-    map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
-    map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
-    map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
-
-    String query =
-        "                  SELECT     mds2.patient_id, "
-            + "                             MIN(otype2.value_coded) AS second_mds "
-            + "                  FROM       patient mds2 "
-            + "                  INNER JOIN encounter enc2 "
-            + "                  ON         enc2.patient_id = mds2.patient_id "
-            + "                  INNER JOIN obs otype2 "
-            + "                  ON         otype2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN obs ostate2 "
-            + "                  ON         ostate2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds2.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     p.patient_id, "
-            + "                             MIN(e.encounter_datetime) AS first_mds_date, "
-            + "                             MIN(otype.value_coded) AS first_mds "
-            + "                  FROM       patient p "
-            + "                  INNER JOIN encounter e "
-            + "                  ON         e.patient_id = p.patient_id "
-            + "                  INNER JOIN obs otype "
-            + "                  ON         otype.encounter_id = e.encounter_id "
-            + "                  INNER JOIN obs ostate "
-            + "                  ON         ostate.encounter_id = e.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = p.patient_id "
-            + "                  WHERE      p.voided = 0 "
-            + "                  AND        e.voided = 0 "
-            + "                  AND        otype.voided = 0 "
-            + "                  AND        ostate.voided = 0 "
-            + "                  AND        e.encounter_type = ${6} "
-            + "                  AND        e.location_id = :location "
-            + "                  AND        e.encounter_datetime >= art.art_encounter "
-            + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND    (   ( otype.concept_id = ${165174} "
-            + "                               AND otype.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate.concept_id = ${165322} "
-            + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
-            + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-            + "       GROUP BY p.patient_id ) mds_1st "
-            + "                  ON mds_1st.patient_id = mds2.patient_id "
-            + "                  WHERE mds2.voided = 0 "
-            + "                  AND enc2.voided = 0 "
-            + "                  AND otype2.voided = 0 "
-            + "                  AND ostate2.voided = 0 "
-            + "                  AND enc2.encounter_datetime > mds_1st.first_mds_date "
-            + "                  AND        enc2.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc2.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc2.encounter_type = ${6} "
-            + "                  AND        enc2.location_id = :location "
-            + "                  AND    (   ( otype2.concept_id = ${165174} "
-            + "                               AND otype2.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate2.concept_id = ${165322} "
-            + "                                 AND  ostate2.value_coded = ${1256} ) ) "
-            + "                  AND  otype2.obs_group_id = ostate2.obs_group_id "
-            + " AND mds2.patient_id IN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
-                minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "       GROUP BY mds2.patient_id";
-
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
-
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
-
-    return sqlPatientDataDefinition;
-  }
-
-  /**
-   * MDS3 - Coluna Y - Terceiro MDS marcado como "Início" numa consulta clínica (Ficha Clínica)
-   * ocorrida entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data Início
-   * TARV” e <= “Data Início TARV” + 12 meses)
-   *
-   * @return {@link DataDefinition}
-   */
-  public DataDefinition getMds3(
-      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("B10- Tipo de MDS: (MDS3) Coluna Y");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
-
-    Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
-    map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
-    map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
-    map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
-
-    String query =
-        "                  SELECT     mds3.patient_id, "
-            + "                             MIN(otype3.value_coded) AS third_mds "
-            + "                  FROM       patient mds3 "
-            + "                  INNER JOIN encounter enc3 "
-            + "                  ON         enc3.patient_id = mds3.patient_id "
-            + "                  INNER JOIN obs otype3 "
-            + "                  ON         otype3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN obs ostate3 "
-            + "                  ON         ostate3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds3.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds2.patient_id, "
-            + "                             MIN(enc2.encounter_datetime) AS second_mds_date, "
-            + "                             MIN(otype2.value_coded) AS second_mds "
-            + "                  FROM       patient mds2 "
-            + "                  INNER JOIN encounter enc2 "
-            + "                  ON         enc2.patient_id = mds2.patient_id "
-            + "                  INNER JOIN obs otype2 "
-            + "                  ON         otype2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN obs ostate2 "
-            + "                  ON         ostate2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds2.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     p.patient_id, "
-            + "                             MIN(e.encounter_datetime) AS first_mds_date, "
-            + "                             MIN(otype.value_coded) AS first_mds "
-            + "                  FROM       patient p "
-            + "                  INNER JOIN encounter e "
-            + "                  ON         e.patient_id = p.patient_id "
-            + "                  INNER JOIN obs otype "
-            + "                  ON         otype.encounter_id = e.encounter_id "
-            + "                  INNER JOIN obs ostate "
-            + "                  ON         ostate.encounter_id = e.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = p.patient_id "
-            + "                  WHERE      p.voided = 0 "
-            + "                  AND        e.voided = 0 "
-            + "                  AND        otype.voided = 0 "
-            + "                  AND        ostate.voided = 0 "
-            + "                  AND        e.encounter_type = ${6} "
-            + "                  AND        e.location_id = :location "
-            + "                  AND        e.encounter_datetime >= art.art_encounter "
-            + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND    (   ( otype.concept_id = ${165174} "
-            + "                               AND otype.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate.concept_id = ${165322} "
-            + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
-            + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-            + "       GROUP BY p.patient_id ) mds_1st "
-            + "                  ON mds_1st.patient_id = mds2.patient_id "
-            + "                  WHERE mds2.voided = 0 "
-            + "                  AND enc2.voided = 0 "
-            + "                  AND otype2.voided = 0 "
-            + "                  AND ostate2.voided = 0 "
-            + "                  AND enc2.encounter_datetime > mds_1st.first_mds_date "
-            + "                  AND        enc2.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc2.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc2.encounter_type = ${6} "
-            + "                  AND        enc2.location_id = :location "
-            + "                  AND    (   ( otype2.concept_id = ${165174} "
-            + "                               AND otype2.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate2.concept_id = ${165322} "
-            + "                                 AND  ostate2.value_coded = ${1256} ) ) "
-            + "                  AND  otype2.obs_group_id = ostate2.obs_group_id "
-            + "       GROUP BY mds2.patient_id ) mds_2nd "
-            + "                  ON mds_2nd.patient_id = mds3.patient_id "
-            + "                  WHERE mds3.voided = 0 "
-            + "                  AND enc3.voided = 0 "
-            + "                  AND otype3.voided = 0 "
-            + "                  AND ostate3.voided = 0 "
-            + "                  AND enc3.encounter_datetime > mds_2nd.second_mds_date "
-            + "                  AND        enc3.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc3.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc3.encounter_type = ${6} "
-            + "                  AND        enc3.location_id = :location "
-            + "                  AND    (   ( otype3.concept_id = ${165174} "
-            + "                               AND otype3.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate3.concept_id = ${165322} "
-            + "                                 AND  ostate3.value_coded = ${1256} ) ) "
-            + "                  AND  otype3.obs_group_id = ostate3.obs_group_id "
-            + " AND mds3.patient_id IN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
-                minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "       GROUP BY mds3.patient_id";
-
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
-
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
-
-    return sqlPatientDataDefinition;
-  }
-
-  /**
-   * MDS3 - Coluna Z - Data da consulta (Ficha Clínica) em que o terceiro MDS foi marcado como
-   * "Início", ocorrido entre data do início TARV e 12 meses do início TARV (Data da Consulta >=
-   * “Data Início TARV” e <= “Data Início TARV” + 12 meses)
-   *
-   * @return {@link DataDefinition}
-   */
-  public DataDefinition getMds3StartDate(
-      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("B10- Data Início de MDS3: Coluna Z");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
-
-    Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
-    map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
-    map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
-    map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
-
-    String query =
-        "                  SELECT     mds3.patient_id, "
-            + "                             MIN(enc3.encounter_datetime) AS third_mds_date "
-            + "                  FROM       patient mds3 "
-            + "                  INNER JOIN encounter enc3 "
-            + "                  ON         enc3.patient_id = mds3.patient_id "
-            + "                  INNER JOIN obs otype3 "
-            + "                  ON         otype3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN obs ostate3 "
-            + "                  ON         ostate3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds3.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds2.patient_id, "
-            + "                             MIN(enc2.encounter_datetime) AS second_mds_date, "
-            + "                             MIN(otype2.value_coded) AS second_mds "
-            + "                  FROM       patient mds2 "
-            + "                  INNER JOIN encounter enc2 "
-            + "                  ON         enc2.patient_id = mds2.patient_id "
-            + "                  INNER JOIN obs otype2 "
-            + "                  ON         otype2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN obs ostate2 "
-            + "                  ON         ostate2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds2.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     p.patient_id, "
-            + "                             MIN(e.encounter_datetime) AS first_mds_date, "
-            + "                             MIN(otype.value_coded) AS first_mds "
-            + "                  FROM       patient p "
-            + "                  INNER JOIN encounter e "
-            + "                  ON         e.patient_id = p.patient_id "
-            + "                  INNER JOIN obs otype "
-            + "                  ON         otype.encounter_id = e.encounter_id "
-            + "                  INNER JOIN obs ostate "
-            + "                  ON         ostate.encounter_id = e.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = p.patient_id "
-            + "                  WHERE      p.voided = 0 "
-            + "                  AND        e.voided = 0 "
-            + "                  AND        otype.voided = 0 "
-            + "                  AND        ostate.voided = 0 "
-            + "                  AND        e.encounter_type = ${6} "
-            + "                  AND        e.location_id = :location "
-            + "                  AND        e.encounter_datetime >= art.art_encounter "
-            + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND    (   ( otype.concept_id = ${165174} "
-            + "                               AND otype.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate.concept_id = ${165322} "
-            + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
-            + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-            + "       GROUP BY p.patient_id ) mds_1st "
-            + "                  ON mds_1st.patient_id = mds2.patient_id "
-            + "                  WHERE mds2.voided = 0 "
-            + "                  AND enc2.voided = 0 "
-            + "                  AND otype2.voided = 0 "
-            + "                  AND ostate2.voided = 0 "
-            + "                  AND enc2.encounter_datetime > mds_1st.first_mds_date "
-            + "                  AND        enc2.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc2.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc2.encounter_type = ${6} "
-            + "                  AND        enc2.location_id = :location "
-            + "                  AND    (   ( otype2.concept_id = ${165174} "
-            + "                               AND otype2.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate2.concept_id = ${165322} "
-            + "                                 AND  ostate2.value_coded = ${1256} ) ) "
-            + "                  AND  otype2.obs_group_id = ostate2.obs_group_id "
-            + "       GROUP BY mds2.patient_id ) mds_2nd "
-            + "                  ON mds_2nd.patient_id = mds3.patient_id "
-            + "                  WHERE mds3.voided = 0 "
-            + "                  AND enc3.voided = 0 "
-            + "                  AND otype3.voided = 0 "
-            + "                  AND ostate3.voided = 0 "
-            + "                  AND enc3.encounter_datetime > mds_2nd.second_mds_date "
-            + "                  AND        enc3.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc3.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc3.encounter_type = ${6} "
-            + "                  AND        enc3.location_id = :location "
-            + "                  AND    (   ( otype3.concept_id = ${165174} "
-            + "                               AND otype3.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate3.concept_id = ${165322} "
-            + "                                 AND  ostate3.value_coded = ${1256} ) ) "
-            + "                  AND  otype3.obs_group_id = ostate3.obs_group_id "
-            + " AND mds3.patient_id IN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
-                minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "       GROUP BY mds3.patient_id";
-
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
-
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
-
-    return sqlPatientDataDefinition;
-  }
-
-  /**
-   * MDS3 - Coluna AA - Data da consulta (Ficha Clínica) em que o terceiro MDS foi marcado como
-   * “Fim”, ocorrido entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data
-   * Início TARV” e <= “Data Início TARV” + 12 meses)
-   *
-   * @return {@link DataDefinition}
-   */
-  public DataDefinition getMds3EndDate(
-      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("B10- Data Fim de MDS3: Coluna AA");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
-
-    Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
-    map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
-    map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
-    map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
-    map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-
-    String query =
-        "                  SELECT     mds3_end.patient_id, "
-            + "                             MIN(ee33.encounter_datetime) AS third_mds_end_date "
-            + "                  FROM       patient mds3_end "
-            + "                  INNER JOIN encounter ee33 "
-            + "                  ON         ee33.patient_id = mds3_end.patient_id "
-            + "                  INNER JOIN obs ot33 "
-            + "                  ON         ot33.encounter_id = ee33.encounter_id "
-            + "                  INNER JOIN obs os33 "
-            + "                  ON         os33.encounter_id = ee33.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds3_end.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds3.patient_id, "
-            + "                             MIN(enc3.encounter_datetime) AS third_mds_date, "
-            + "                             MIN(otype3.value_coded) AS third_mds "
-            + "                  FROM       patient mds3 "
-            + "                  INNER JOIN encounter enc3 "
-            + "                  ON         enc3.patient_id = mds3.patient_id "
-            + "                  INNER JOIN obs otype3 "
-            + "                  ON         otype3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN obs ostate3 "
-            + "                  ON         ostate3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds3.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds2.patient_id, "
-            + "                             MIN(enc2.encounter_datetime) AS second_mds_date, "
-            + "                             MIN(otype2.value_coded) AS second_mds "
-            + "                  FROM       patient mds2 "
-            + "                  INNER JOIN encounter enc2 "
-            + "                  ON         enc2.patient_id = mds2.patient_id "
-            + "                  INNER JOIN obs otype2 "
-            + "                  ON         otype2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN obs ostate2 "
-            + "                  ON         ostate2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds2.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     p.patient_id, "
-            + "                             MIN(e.encounter_datetime) AS first_mds_date, "
-            + "                             MIN(otype.value_coded) AS first_mds "
-            + "                  FROM       patient p "
-            + "                  INNER JOIN encounter e "
-            + "                  ON         e.patient_id = p.patient_id "
-            + "                  INNER JOIN obs otype "
-            + "                  ON         otype.encounter_id = e.encounter_id "
-            + "                  INNER JOIN obs ostate "
-            + "                  ON         ostate.encounter_id = e.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = p.patient_id "
-            + "                  WHERE      p.voided = 0 "
-            + "                  AND        otype.voided = 0 "
-            + "                  AND        ostate.voided = 0 "
-            + "                  AND        e.encounter_type = ${6} "
-            + "                  AND        e.location_id = :location "
-            + "                  AND        e.encounter_datetime >= art.art_encounter "
-            + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND    (   ( otype.concept_id = ${165174} "
-            + "                               AND otype.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate.concept_id = ${165322} "
-            + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
-            + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-            + "       GROUP BY p.patient_id ) mds_1st "
-            + "                  ON mds_1st.patient_id = mds2.patient_id "
-            + "                  WHERE mds2.voided = 0 "
-            + "                  AND enc2.voided = 0 "
-            + "                  AND otype2.voided = 0 "
-            + "                  AND ostate2.voided = 0 "
-            + "                  AND enc2.encounter_datetime > mds_1st.first_mds_date "
-            + "                  AND        enc2.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc2.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc2.encounter_type = ${6} "
-            + "                  AND        enc2.location_id = :location "
-            + "                  AND    (   ( otype2.concept_id = ${165174} "
-            + "                               AND otype2.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate2.concept_id = ${165322} "
-            + "                                 AND  ostate2.value_coded = ${1256} ) ) "
-            + "                  AND  otype2.obs_group_id = ostate2.obs_group_id "
-            + "       GROUP BY mds2.patient_id ) mds_2nd "
-            + "                  ON mds_2nd.patient_id = mds3.patient_id "
-            + "                  WHERE mds3.voided = 0 "
-            + "                  AND enc3.voided = 0 "
-            + "                  AND otype3.voided = 0 "
-            + "                  AND ostate3.voided = 0 "
-            + "                  AND enc3.encounter_datetime > mds_2nd.second_mds_date "
-            + "                  AND        enc3.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc3.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc3.encounter_type = ${6} "
-            + "                  AND        enc3.location_id = :location "
-            + "                  AND    (   ( otype3.concept_id = ${165174} "
-            + "                               AND otype3.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate3.concept_id = ${165322} "
-            + "                                 AND  ostate3.value_coded = ${1256} ) ) "
-            + "                  AND  otype3.obs_group_id = ostate3.obs_group_id "
-            + "       GROUP BY mds3.patient_id ) mds_3rd "
-            + "                  ON mds_3rd.patient_id = mds3_end.patient_id "
-            + "                  WHERE mds3_end.voided = 0 "
-            + "                  AND ee33.voided = 0 "
-            + "                  AND ot33.voided = 0 "
-            + "                  AND os33.voided = 0 "
-            + "                  AND ee33.encounter_datetime > mds_3rd.third_mds_date "
-            + "                  AND        ee33.encounter_datetime >= art.art_encounter "
-            + "                  AND        ee33.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        ee33.encounter_type = ${6} "
-            + "                  AND        ee33.location_id = :location "
-            + "                  AND    (   ( ot33.concept_id = ${165174} "
-            + "                               AND ot33.value_coded = mds_3rd.third_mds ) "
-            + "                  AND         ( os33.concept_id = ${165322} "
-            + "                                 AND  os33.value_coded = ${1267} ) ) "
-            + "                  AND  ot33.obs_group_id = os33.obs_group_id "
-            + " AND mds3_end.patient_id IN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
-                minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "       GROUP BY mds3_end.patient_id";
-
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
-
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
-
-    return sqlPatientDataDefinition;
-  }
-
-  /**
-   * MDS4 - Coluna AB - Quarto MDS marcado como "Início" numa consulta clínica (Ficha Clínica)
-   * ocorrida entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data Início
-   * TARV” e <= “Data Início TARV” + 12 meses)
-   *
-   * @return {@link DataDefinition}
-   */
-  public DataDefinition getMds4(
-      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("B10- Tipo de MDS: (MDS4) Coluna AB");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
-
-    Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
-    map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
-    map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
-    map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
-
-    String query =
-        "                  SELECT     mds4.patient_id, "
-            + "                             MIN(otype4.value_coded) AS fourth_mds "
-            + "                  FROM       patient mds4 "
-            + "                  INNER JOIN encounter enc4 "
-            + "                  ON         enc4.patient_id = mds4.patient_id "
-            + "                  INNER JOIN obs otype4 "
-            + "                  ON         otype4.encounter_id = enc4.encounter_id "
-            + "                  INNER JOIN obs ostate4 "
-            + "                  ON         ostate4.encounter_id = enc4.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds4.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds3.patient_id, "
-            + "                             MIN(enc3.encounter_datetime) AS third_mds_date, "
-            + "                             MIN(otype3.value_coded) AS third_mds "
-            + "                  FROM       patient mds3 "
-            + "                  INNER JOIN encounter enc3 "
-            + "                  ON         enc3.patient_id = mds3.patient_id "
-            + "                  INNER JOIN obs otype3 "
-            + "                  ON         otype3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN obs ostate3 "
-            + "                  ON         ostate3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds3.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds2.patient_id, "
-            + "                             MIN(enc2.encounter_datetime) AS second_mds_date, "
-            + "                             MIN(otype2.value_coded) AS second_mds "
-            + "                  FROM       patient mds2 "
-            + "                  INNER JOIN encounter enc2 "
-            + "                  ON         enc2.patient_id = mds2.patient_id "
-            + "                  INNER JOIN obs otype2 "
-            + "                  ON         otype2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN obs ostate2 "
-            + "                  ON         ostate2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds2.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     p.patient_id, "
-            + "                             MIN(e.encounter_datetime) AS first_mds_date, "
-            + "                             MIN(otype.value_coded) AS first_mds "
-            + "                  FROM       patient p "
-            + "                  INNER JOIN encounter e "
-            + "                  ON         e.patient_id = p.patient_id "
-            + "                  INNER JOIN obs otype "
-            + "                  ON         otype.encounter_id = e.encounter_id "
-            + "                  INNER JOIN obs ostate "
-            + "                  ON         ostate.encounter_id = e.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = p.patient_id "
-            + "                  WHERE      p.voided = 0 "
-            + "                  AND        e.voided = 0 "
-            + "                  AND        otype.voided = 0 "
-            + "                  AND        ostate.voided = 0 "
-            + "                  AND        e.encounter_type = ${6} "
-            + "                  AND        e.location_id = :location "
-            + "                  AND        e.encounter_datetime >= art.art_encounter "
-            + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND    (   ( otype.concept_id = ${165174} "
-            + "                               AND otype.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate.concept_id = ${165322} "
-            + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
-            + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-            + "       GROUP BY p.patient_id ) mds_1st "
-            + "                  ON mds_1st.patient_id = mds2.patient_id "
-            + "                  WHERE mds2.voided = 0 "
-            + "                  AND enc2.voided = 0 "
-            + "                  AND otype2.voided = 0 "
-            + "                  AND ostate2.voided = 0 "
-            + "                  AND enc2.encounter_datetime > mds_1st.first_mds_date "
-            + "                  AND        enc2.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc2.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc2.encounter_type = ${6} "
-            + "                  AND        enc2.location_id = :location "
-            + "                  AND    (   ( otype2.concept_id = ${165174} "
-            + "                               AND otype2.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate2.concept_id = ${165322} "
-            + "                                 AND  ostate2.value_coded = ${1256} ) ) "
-            + "                  AND  otype2.obs_group_id = ostate2.obs_group_id "
-            + "       GROUP BY mds2.patient_id ) mds_2nd "
-            + "                  ON mds_2nd.patient_id = mds3.patient_id "
-            + "                  WHERE mds3.voided = 0 "
-            + "                  AND enc3.voided = 0 "
-            + "                  AND otype3.voided = 0 "
-            + "                  AND ostate3.voided = 0 "
-            + "                  AND enc3.encounter_datetime > mds_2nd.second_mds_date "
-            + "                  AND        enc3.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc3.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc3.encounter_type = ${6} "
-            + "                  AND        enc3.location_id = :location "
-            + "                  AND    (   ( otype3.concept_id = ${165174} "
-            + "                               AND otype3.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate3.concept_id = ${165322} "
-            + "                                 AND  ostate3.value_coded = ${1256} ) ) "
-            + "                  AND  otype3.obs_group_id = ostate3.obs_group_id "
-            + "       GROUP BY mds3.patient_id ) mds_3rd "
-            + "                  ON mds_3rd.patient_id = mds4.patient_id "
-            + "                  WHERE mds4.voided = 0 "
-            + "                  AND enc4.voided = 0 "
-            + "                  AND otype4.voided = 0 "
-            + "                  AND ostate4.voided = 0 "
-            + "                  AND enc4.encounter_datetime > mds_3rd.third_mds_date "
-            + "                  AND        enc4.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc4.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc4.encounter_type = ${6} "
-            + "                  AND        enc4.location_id = :location "
-            + "                  AND    (   ( otype4.concept_id = ${165174} "
-            + "                               AND otype4.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate4.concept_id = ${165322} "
-            + "                                 AND  ostate4.value_coded = ${1256} ) ) "
-            + "                  AND  otype4.obs_group_id = ostate4.obs_group_id "
-            + " AND mds4.patient_id IN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
-                minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "       GROUP BY mds4.patient_id";
-
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
-
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
-
-    return sqlPatientDataDefinition;
-  }
-
-  /**
-   * MDS4 - Coluna AC - Data da consulta (Ficha Clínica) em que o quarto MDS foi marcado como
-   * "Início", ocorrido entre data do início TARV e 12 meses do início TARV (Data da Consulta >=
-   * “Data Início TARV” e <= “Data Início TARV” + 12 meses)
-   *
-   * @return {@link DataDefinition}
-   */
-  public DataDefinition getMds4StartDate(
-      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("B10- Data Início de MDS4: Coluna AC");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
-
-    Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
-    map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
-    map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
-    map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
-
-    String query =
-        "                  SELECT     mds4.patient_id, "
-            + "                             MIN(enc4.encounter_datetime) AS fourth_mds_date "
-            + "                  FROM       patient mds4 "
-            + "                  INNER JOIN encounter enc4 "
-            + "                  ON         enc4.patient_id = mds4.patient_id "
-            + "                  INNER JOIN obs otype4 "
-            + "                  ON         otype4.encounter_id = enc4.encounter_id "
-            + "                  INNER JOIN obs ostate4 "
-            + "                  ON         ostate4.encounter_id = enc4.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds4.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds3.patient_id, "
-            + "                             MIN(enc3.encounter_datetime) AS third_mds_date, "
-            + "                             MIN(otype3.value_coded) AS third_mds "
-            + "                  FROM       patient mds3 "
-            + "                  INNER JOIN encounter enc3 "
-            + "                  ON         enc3.patient_id = mds3.patient_id "
-            + "                  INNER JOIN obs otype3 "
-            + "                  ON         otype3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN obs ostate3 "
-            + "                  ON         ostate3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds3.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds2.patient_id, "
-            + "                             MIN(enc2.encounter_datetime) AS second_mds_date, "
-            + "                             MIN(otype2.value_coded) AS second_mds "
-            + "                  FROM       patient mds2 "
-            + "                  INNER JOIN encounter enc2 "
-            + "                  ON         enc2.patient_id = mds2.patient_id "
-            + "                  INNER JOIN obs otype2 "
-            + "                  ON         otype2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN obs ostate2 "
-            + "                  ON         ostate2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds2.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     p.patient_id, "
-            + "                             MIN(e.encounter_datetime) AS first_mds_date, "
-            + "                             MIN(otype.value_coded) AS first_mds "
-            + "                  FROM       patient p "
-            + "                  INNER JOIN encounter e "
-            + "                  ON         e.patient_id = p.patient_id "
-            + "                  INNER JOIN obs otype "
-            + "                  ON         otype.encounter_id = e.encounter_id "
-            + "                  INNER JOIN obs ostate "
-            + "                  ON         ostate.encounter_id = e.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = p.patient_id "
-            + "                  WHERE      p.voided = 0 "
-            + "                  AND        e.voided = 0 "
-            + "                  AND        otype.voided = 0 "
-            + "                  AND        ostate.voided = 0 "
-            + "                  AND        e.encounter_type = ${6} "
-            + "                  AND        e.location_id = :location "
-            + "                  AND        e.encounter_datetime >= art.art_encounter "
-            + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND    (   ( otype.concept_id = ${165174} "
-            + "                               AND otype.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate.concept_id = ${165322} "
-            + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
-            + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-            + "       GROUP BY p.patient_id ) mds_1st "
-            + "                  ON mds_1st.patient_id = mds2.patient_id "
-            + "                  WHERE mds2.voided = 0 "
-            + "                  AND enc2.voided = 0 "
-            + "                  AND otype2.voided = 0 "
-            + "                  AND ostate2.voided = 0 "
-            + "                  AND enc2.encounter_datetime > mds_1st.first_mds_date "
-            + "                  AND        enc2.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc2.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc2.encounter_type = ${6} "
-            + "                  AND        enc2.location_id = :location "
-            + "                  AND    (   ( otype2.concept_id = ${165174} "
-            + "                               AND otype2.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate2.concept_id = ${165322} "
-            + "                                 AND  ostate2.value_coded = ${1256} ) ) "
-            + "                  AND  otype2.obs_group_id = ostate2.obs_group_id "
-            + "       GROUP BY mds2.patient_id ) mds_2nd "
-            + "                  ON mds_2nd.patient_id = mds3.patient_id "
-            + "                  WHERE mds3.voided = 0 "
-            + "                  AND enc3.voided = 0 "
-            + "                  AND otype3.voided = 0 "
-            + "                  AND ostate3.voided = 0 "
-            + "                  AND enc3.encounter_datetime > mds_2nd.second_mds_date "
-            + "                  AND        enc3.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc3.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc3.encounter_type = ${6} "
-            + "                  AND        enc3.location_id = :location "
-            + "                  AND    (   ( otype3.concept_id = ${165174} "
-            + "                               AND otype3.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate3.concept_id = ${165322} "
-            + "                                 AND  ostate3.value_coded = ${1256} ) ) "
-            + "                  AND  otype3.obs_group_id = ostate3.obs_group_id "
-            + "       GROUP BY mds3.patient_id ) mds_3rd "
-            + "                  ON mds_3rd.patient_id = mds4.patient_id "
-            + "                  WHERE mds4.voided = 0 "
-            + "                  AND enc4.voided = 0 "
-            + "                  AND otype4.voided = 0 "
-            + "                  AND ostate4.voided = 0 "
-            + "                  AND enc4.encounter_datetime > mds_3rd.third_mds_date "
-            + "                  AND        enc4.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc4.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc4.encounter_type = ${6} "
-            + "                  AND        enc4.location_id = :location "
-            + "                  AND    (   ( otype4.concept_id = ${165174} "
-            + "                               AND otype4.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate4.concept_id = ${165322} "
-            + "                                 AND  ostate4.value_coded = ${1256} ) ) "
-            + "                  AND  otype4.obs_group_id = ostate4.obs_group_id "
-            + " AND mds4.patient_id IN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
-                minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "       GROUP BY mds4.patient_id";
-
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
-
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
-
-    return sqlPatientDataDefinition;
-  }
-
-  /**
-   * MDS4 - Coluna AD - Data da consulta (Ficha Clínica) em que o quarto MDS foi marcado como “Fim”,
-   * ocorrido entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data Início
-   * TARV” e <= “Data Início TARV” + 12 meses)
-   *
-   * @return {@link DataDefinition}
-   */
-  public DataDefinition getMds4EndDate(
-      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("B10- Data Fim de MDS4: Coluna AD");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
-
-    Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
-    map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
-    map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
-    map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
-
-    String query =
-        "                  SELECT     mds4_end.patient_id, "
-            + "                             MIN(ee44.encounter_datetime) AS fourth_mds_end_date "
-            + "                  FROM       patient mds4_end "
-            + "                  INNER JOIN encounter ee44 "
-            + "                  ON         ee44.patient_id = mds4_end.patient_id "
-            + "                  INNER JOIN obs ot44 "
-            + "                  ON         ot44.encounter_id = ee44.encounter_id "
-            + "                  INNER JOIN obs os44 "
-            + "                  ON         os44.encounter_id = ee44.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds4_end.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds4.patient_id, "
-            + "                             MIN(enc4.encounter_datetime) AS fourth_mds_date, "
-            + "                             MIN(otype4.value_coded) AS fourth_mds "
-            + "                  FROM       patient mds4 "
-            + "                  INNER JOIN encounter enc4 "
-            + "                  ON         enc4.patient_id = mds4.patient_id "
-            + "                  INNER JOIN obs otype4 "
-            + "                  ON         otype4.encounter_id = enc4.encounter_id "
-            + "                  INNER JOIN obs ostate4 "
-            + "                  ON         ostate4.encounter_id = enc4.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds4.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds3.patient_id, "
-            + "                             MIN(enc3.encounter_datetime) AS third_mds_date, "
-            + "                             MIN(otype3.value_coded) AS third_mds "
-            + "                  FROM       patient mds3 "
-            + "                  INNER JOIN encounter enc3 "
-            + "                  ON         enc3.patient_id = mds3.patient_id "
-            + "                  INNER JOIN obs otype3 "
-            + "                  ON         otype3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN obs ostate3 "
-            + "                  ON         ostate3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds3.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds2.patient_id, "
-            + "                             MIN(enc2.encounter_datetime) AS second_mds_date, "
-            + "                             MIN(otype2.value_coded) AS second_mds "
-            + "                  FROM       patient mds2 "
-            + "                  INNER JOIN encounter enc2 "
-            + "                  ON         enc2.patient_id = mds2.patient_id "
-            + "                  INNER JOIN obs otype2 "
-            + "                  ON         otype2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN obs ostate2 "
-            + "                  ON         ostate2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds2.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     p.patient_id, "
-            + "                             MIN(e.encounter_datetime) AS first_mds_date, "
-            + "                             MIN(otype.value_coded) AS first_mds "
-            + "                  FROM       patient p "
-            + "                  INNER JOIN encounter e "
-            + "                  ON         e.patient_id = p.patient_id "
-            + "                  INNER JOIN obs otype "
-            + "                  ON         otype.encounter_id = e.encounter_id "
-            + "                  INNER JOIN obs ostate "
-            + "                  ON         ostate.encounter_id = e.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = p.patient_id "
-            + "                  WHERE      p.voided = 0 "
-            + "                  AND        e.voided = 0 "
-            + "                  AND        otype.voided = 0 "
-            + "                  AND        ostate.voided = 0 "
-            + "                  AND        e.encounter_type = ${6} "
-            + "                  AND        e.location_id = :location "
-            + "                  AND        e.encounter_datetime >= art.art_encounter "
-            + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND    (   ( otype.concept_id = ${165174} "
-            + "                               AND otype.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate.concept_id = ${165322} "
-            + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
-            + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-            + "       GROUP BY p.patient_id ) mds_1st "
-            + "                  ON mds_1st.patient_id = mds2.patient_id "
-            + "                  WHERE mds2.voided = 0 "
-            + "                  AND enc2.voided = 0 "
-            + "                  AND otype2.voided = 0 "
-            + "                  AND ostate2.voided = 0 "
-            + "                  AND enc2.encounter_datetime > mds_1st.first_mds_date "
-            + "                  AND        enc2.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc2.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc2.encounter_type = ${6} "
-            + "                  AND        enc2.location_id = :location "
-            + "                  AND    (   ( otype2.concept_id = ${165174} "
-            + "                               AND otype2.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate2.concept_id = ${165322} "
-            + "                                 AND  ostate2.value_coded = ${1256} ) ) "
-            + "                  AND  otype2.obs_group_id = ostate2.obs_group_id "
-            + "       GROUP BY mds2.patient_id ) mds_2nd "
-            + "                  ON mds_2nd.patient_id = mds3.patient_id "
-            + "                  WHERE mds3.voided = 0 "
-            + "                  AND enc3.voided = 0 "
-            + "                  AND otype3.voided = 0 "
-            + "                  AND ostate3.voided = 0 "
-            + "                  AND enc3.encounter_datetime > mds_2nd.second_mds_date "
-            + "                  AND        enc3.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc3.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc3.encounter_type = ${6} "
-            + "                  AND        enc3.location_id = :location "
-            + "                  AND    (   ( otype3.concept_id = ${165174} "
-            + "                               AND otype3.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate3.concept_id = ${165322} "
-            + "                                 AND  ostate3.value_coded = ${1256} ) ) "
-            + "                  AND  otype3.obs_group_id = ostate3.obs_group_id "
-            + "       GROUP BY mds3.patient_id ) mds_3rd "
-            + "                  ON mds_3rd.patient_id = mds4.patient_id "
-            + "                  WHERE mds4.voided = 0 "
-            + "                  AND enc4.voided = 0 "
-            + "                  AND otype4.voided = 0 "
-            + "                  AND ostate4.voided = 0 "
-            + "                  AND enc4.encounter_datetime > mds_3rd.third_mds_date "
-            + "                  AND        enc4.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc4.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc4.encounter_type = ${6} "
-            + "                  AND        enc4.location_id = :location "
-            + "                  AND    (   ( otype4.concept_id = ${165174} "
-            + "                               AND otype4.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate4.concept_id = ${165322} "
-            + "                                 AND  ostate4.value_coded = ${1256} ) ) "
-            + "                  AND  otype4.obs_group_id = ostate4.obs_group_id "
-            + "       GROUP BY mds4.patient_id ) mds_4th "
-            + "                  ON mds_4th.patient_id = mds4_end.patient_id "
-            + "                  WHERE mds4_end.voided = 0 "
-            + "                  AND ee44.voided = 0 "
-            + "                  AND ot44.voided = 0 "
-            + "                  AND os44.voided = 0 "
-            + "                  AND ee44.encounter_datetime > mds_4th.fourth_mds_date "
-            + "                  AND        ee44.encounter_datetime >= art.art_encounter "
-            + "                  AND        ee44.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        ee44.encounter_type = ${6} "
-            + "                  AND    (   ( ot44.concept_id = ${165174} "
-            + "                               AND ot44.value_coded = mds_4th.fourth_mds ) "
-            + "                  AND         ( os44.concept_id = ${165322} "
-            + "                                 AND  os44.value_coded = ${1267} ) ) "
-            + "                  AND  ot44.obs_group_id = os44.obs_group_id "
-            + " AND mds4_end.patient_id IN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
-                minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "       GROUP BY mds4_end.patient_id";
-
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
-
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
-
-    return sqlPatientDataDefinition;
-  }
+  /**
+   * Coluna U - Data da consulta (Ficha Clínica) em que o primeiro MDS foi marcado como “Fim”,
+   * ocorrido entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data Início
+   * TARV” e <= “Data Início TARV” + 12 meses)
+   *
+   * @return {@link DataDefinition}
+   */
+  public DataDefinition getMds1EndDate(
+      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
+    return getMdsTimelineColumn(
+        "Data Fim de MDS1: Coluna U",
+        1,
+        MdsTimelineDataDefinition.Column.END_DATE,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
+  }
 
   /**
-   * MDS5 - Coluna AE - Quinto MDS marcado como "Início" numa consulta clínica (Ficha Clínica)
-   * ocorrida entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data Início
-   * TARV” e <= “Data Início TARV” + 12 meses)
-   *
-   * @return {@link DataDefinition}
-   */
-  public DataDefinition getMds5(
-      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("B10- Tipo de MDS: (MDS5) Coluna AE");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
-
-    Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
-    map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
-    map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
-    map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
-
-    String query =
-        "                  SELECT     mds5.patient_id, "
-            + "                             MIN(otype5.value_coded) AS fifth_mds "
-            + "                  FROM       patient mds5 "
-            + "                  INNER JOIN encounter enc5 "
-            + "                  ON         enc5.patient_id = mds5.patient_id "
-            + "                  INNER JOIN obs otype5 "
-            + "                  ON         otype5.encounter_id = enc5.encounter_id "
-            + "                  INNER JOIN obs ostate5 "
-            + "                  ON         ostate5.encounter_id = enc5.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds5.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds4.patient_id, "
-            + "                             MIN(enc4.encounter_datetime) AS fourth_mds_date, "
-            + "                             MIN(otype4.value_coded) AS fourth_mds "
-            + "                  FROM       patient mds4 "
-            + "                  INNER JOIN encounter enc4 "
-            + "                  ON         enc4.patient_id = mds4.patient_id "
-            + "                  INNER JOIN obs otype4 "
-            + "                  ON         otype4.encounter_id = enc4.encounter_id "
-            + "                  INNER JOIN obs ostate4 "
-            + "                  ON         ostate4.encounter_id = enc4.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds4.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds3.patient_id, "
-            + "                             MIN(enc3.encounter_datetime) AS third_mds_date, "
-            + "                             MIN(otype3.value_coded) AS third_mds "
-            + "                  FROM       patient mds3 "
-            + "                  INNER JOIN encounter enc3 "
-            + "                  ON         enc3.patient_id = mds3.patient_id "
-            + "                  INNER JOIN obs otype3 "
-            + "                  ON         otype3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN obs ostate3 "
-            + "                  ON         ostate3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds3.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds2.patient_id, "
-            + "                             MIN(enc2.encounter_datetime) AS second_mds_date, "
-            + "                             MIN(otype2.value_coded) AS second_mds "
-            + "                  FROM       patient mds2 "
-            + "                  INNER JOIN encounter enc2 "
-            + "                  ON         enc2.patient_id = mds2.patient_id "
-            + "                  INNER JOIN obs otype2 "
-            + "                  ON         otype2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN obs ostate2 "
-            + "                  ON         ostate2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds2.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     p.patient_id, "
-            + "                             MIN(e.encounter_datetime) AS first_mds_date, "
-            + "                             MIN(otype.value_coded) AS first_mds "
-            + "                  FROM       patient p "
-            + "                  INNER JOIN encounter e "
-            + "                  ON         e.patient_id = p.patient_id "
-            + "                  INNER JOIN obs otype "
-            + "                  ON         otype.encounter_id = e.encounter_id "
-            + "                  INNER JOIN obs ostate "
-            + "                  ON         ostate.encounter_id = e.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = p.patient_id "
-            + "                  WHERE      p.voided = 0 "
-            + "                  AND        e.voided = 0 "
-            + "                  AND        otype.voided = 0 "
-            + "                  AND        ostate.voided = 0 "
-            + "                  AND        e.encounter_type = ${6} "
-            + "                  AND        e.location_id = :location "
-            + "                  AND        e.encounter_datetime >= art.art_encounter "
-            + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND    (   ( otype.concept_id = ${165174} "
-            + "                               AND otype.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate.concept_id = ${165322} "
-            + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
-            + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-            + "       GROUP BY p.patient_id ) mds_1st "
-            + "                  ON mds_1st.patient_id = mds2.patient_id "
-            + "                  WHERE mds2.voided = 0 "
-            + "                  AND enc2.voided = 0 "
-            + "                  AND otype2.voided = 0 "
-            + "                  AND ostate2.voided = 0 "
-            + "                  AND enc2.encounter_datetime > mds_1st.first_mds_date "
-            + "                  AND        enc2.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc2.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc2.encounter_type = ${6} "
-            + "                  AND        enc2.location_id = :location "
-            + "                  AND    (   ( otype2.concept_id = ${165174} "
-            + "                               AND otype2.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate2.concept_id = ${165322} "
-            + "                                 AND  ostate2.value_coded = ${1256} ) ) "
-            + "                  AND  otype2.obs_group_id = ostate2.obs_group_id "
-            + "       GROUP BY mds2.patient_id ) mds_2nd "
-            + "                  ON mds_2nd.patient_id = mds3.patient_id "
-            + "                  WHERE mds3.voided = 0 "
-            + "                  AND enc3.voided = 0 "
-            + "                  AND otype3.voided = 0 "
-            + "                  AND ostate3.voided = 0 "
-            + "                  AND enc3.encounter_datetime > mds_2nd.second_mds_date "
-            + "                  AND        enc3.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc3.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc3.encounter_type = ${6} "
-            + "                  AND        enc3.location_id = :location "
-            + "                  AND    (   ( otype3.concept_id = ${165174} "
-            + "                               AND otype3.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate3.concept_id = ${165322} "
-            + "                                 AND  ostate3.value_coded = ${1256} ) ) "
-            + "                  AND  otype3.obs_group_id = ostate3.obs_group_id "
-            + "       GROUP BY mds3.patient_id ) mds_3rd "
-            + "                  ON mds_3rd.patient_id = mds4.patient_id "
-            + "                  WHERE mds4.voided = 0 "
-            + "                  AND enc4.voided = 0 "
-            + "                  AND otype4.voided = 0 "
-            + "                  AND ostate4.voided = 0 "
-            + "                  AND enc4.encounter_datetime > mds_3rd.third_mds_date "
-            + "                  AND        enc4.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc4.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc4.encounter_type = ${6} "
-            + "                  AND        enc4.location_id = :location "
-            + "                  AND    (   ( otype4.concept_id = ${165174} "
-            + "                               AND otype4.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate4.concept_id = ${165322} "
-            + "                                 AND  ostate4.value_coded = ${1256} ) ) "
-            + "                  AND  otype4.obs_group_id = ostate4.obs_group_id "
-            + "       GROUP BY mds4.patient_id ) mds_4th "
-            + "                  ON mds_4th.patient_id = mds5.patient_id "
-            + "                  WHERE mds5.voided = 0 "
-            + "                  AND enc5.voided = 0 "
-            + "                  AND otype5.voided = 0 "
-            + "                  AND ostate5.voided = 0 "
-            + "                  AND enc5.encounter_datetime > mds_4th.fourth_mds_date "
-            + "                  AND        enc5.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc5.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc5.encounter_type = ${6} "
-            + "                  AND        enc5.location_id = :location "
-            + "                  AND    (   ( otype5.concept_id = ${165174} "
-            + "                               AND otype5.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate5.concept_id = ${165322} "
-            + "                                 AND  ostate5.value_coded = ${1256} ) ) "
-            + "                  AND  otype5.obs_group_id = ostate5.obs_group_id "
-            + " AND mds5.patient_id IN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
-                minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "       GROUP BY mds5.patient_id";
-
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
+   * MDS2 - Coluna V - Segundo MDS marcado como "Início" numa consulta clínica (Ficha Clínica)
+   * ocorrida entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data Início
+   * TARV” e <= “Data Início TARV” + 12 meses)
+   *
+   * @return {@link DataDefinition}
+   */
+  public DataDefinition getMds2(
+      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
+    return getMdsTimelineColumn(
+        "B10- Tipo de MDS: (MDS2) Coluna V",
+        2,
+        MdsTimelineDataDefinition.Column.MODEL,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
+  }
 
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
+  /**
+   * MDS3 - Coluna Y - Terceiro MDS marcado como "Início" numa consulta clínica (Ficha Clínica)
+   * ocorrida entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data Início
+   * TARV” e <= “Data Início TARV” + 12 meses)
+   *
+   * @return {@link DataDefinition}
+   */
+  public DataDefinition getMds3(
+      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
+    return getMdsTimelineColumn(
+        "B10- Tipo de MDS: (MDS3) Coluna Y",
+        3,
+        MdsTimelineDataDefinition.Column.MODEL,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
+  }
 
-    return sqlPatientDataDefinition;
+  /**
+   * MDS3 - Coluna Z - Data da consulta (Ficha Clínica) em que o terceiro MDS foi marcado como
+   * "Início", ocorrido entre data do início TARV e 12 meses do início TARV (Data da Consulta >=
+   * “Data Início TARV” e <= “Data Início TARV” + 12 meses)
+   *
+   * @return {@link DataDefinition}
+   */
+  public DataDefinition getMds3StartDate(
+      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
+    return getMdsTimelineColumn(
+        "B10- Data Início de MDS3: Coluna Z",
+        3,
+        MdsTimelineDataDefinition.Column.START_DATE,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
   }
 
   /**
-   * MDS5 - Coluna AF - Data da consulta (Ficha Clínica) em que o quinto MDS foi marcado como
-   * "Início"ocorrido entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data
-   * Início TARV” e <= “Data Início TARV” + 12 meses).
+   * MDS3 - Coluna AA - Data da consulta (Ficha Clínica) em que o terceiro MDS foi marcado como
+   * “Fim”, ocorrido entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data
+   * Início TARV” e <= “Data Início TARV” + 12 meses)
    *
    * @return {@link DataDefinition}
    */
-  public DataDefinition getMds5StartDate(
+  public DataDefinition getMds3EndDate(
       int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("B10- Data Início de MDS5: Coluna AF");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
+    return getMdsTimelineColumn(
+        "B10- Data Fim de MDS3: Coluna AA",
+        3,
+        MdsTimelineDataDefinition.Column.END_DATE,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
+  }
 
-    Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
-    map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
-    map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
-    map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("1066", hivMetadata.getNoConcept().getConceptId());
-    map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
-    map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
+  /**
+   * MDS4 - Coluna AB - Quarto MDS marcado como "Início" numa consulta clínica (Ficha Clínica)
+   * ocorrida entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data Início
+   * TARV” e <= “Data Início TARV” + 12 meses)
+   *
+   * @return {@link DataDefinition}
+   */
+  public DataDefinition getMds4(
+      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
+    return getMdsTimelineColumn(
+        "B10- Tipo de MDS: (MDS4) Coluna AB",
+        4,
+        MdsTimelineDataDefinition.Column.MODEL,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
+  }
 
-    String query =
-        "                  SELECT     mds5.patient_id, "
-            + "                             MIN(enc5.encounter_datetime) AS fifth_mds_date "
-            + "                  FROM       patient mds5 "
-            + "                  INNER JOIN encounter enc5 "
-            + "                  ON         enc5.patient_id = mds5.patient_id "
-            + "                  INNER JOIN obs otype5 "
-            + "                  ON         otype5.encounter_id = enc5.encounter_id "
-            + "                  INNER JOIN obs ostate5 "
-            + "                  ON         ostate5.encounter_id = enc5.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds5.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds4.patient_id, "
-            + "                             MIN(enc4.encounter_datetime) AS fourth_mds_date, "
-            + "                             MIN(otype4.value_coded) AS fourth_mds "
-            + "                  FROM       patient mds4 "
-            + "                  INNER JOIN encounter enc4 "
-            + "                  ON         enc4.patient_id = mds4.patient_id "
-            + "                  INNER JOIN obs otype4 "
-            + "                  ON         otype4.encounter_id = enc4.encounter_id "
-            + "                  INNER JOIN obs ostate4 "
-            + "                  ON         ostate4.encounter_id = enc4.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds4.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds3.patient_id, "
-            + "                             MIN(enc3.encounter_datetime) AS third_mds_date, "
-            + "                             MIN(otype3.value_coded) AS third_mds "
-            + "                  FROM       patient mds3 "
-            + "                  INNER JOIN encounter enc3 "
-            + "                  ON         enc3.patient_id = mds3.patient_id "
-            + "                  INNER JOIN obs otype3 "
-            + "                  ON         otype3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN obs ostate3 "
-            + "                  ON         ostate3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds3.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds2.patient_id, "
-            + "                             MIN(enc2.encounter_datetime) AS second_mds_date, "
-            + "                             MIN(otype2.value_coded) AS second_mds "
-            + "                  FROM       patient mds2 "
-            + "                  INNER JOIN encounter enc2 "
-            + "                  ON         enc2.patient_id = mds2.patient_id "
-            + "                  INNER JOIN obs otype2 "
-            + "                  ON         otype2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN obs ostate2 "
-            + "                  ON         ostate2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds2.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     p.patient_id, "
-            + "                             MIN(e.encounter_datetime) AS first_mds_date, "
-            + "                             MIN(otype.value_coded) AS first_mds "
-            + "                  FROM       patient p "
-            + "                  INNER JOIN encounter e "
-            + "                  ON         e.patient_id = p.patient_id "
-            + "                  INNER JOIN obs otype "
-            + "                  ON         otype.encounter_id = e.encounter_id "
-            + "                  INNER JOIN obs ostate "
-            + "                  ON         ostate.encounter_id = e.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = p.patient_id "
-            + "                  WHERE      p.voided = 0 "
-            + "                  AND        e.voided = 0 "
-            + "                  AND        otype.voided = 0 "
-            + "                  AND        ostate.voided = 0 "
-            + "                  AND        e.encounter_type = ${6} "
-            + "                  AND        e.location_id = :location "
-            + "                  AND        e.encounter_datetime >= art.art_encounter "
-            + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND    (   ( otype.concept_id = ${165174} "
-            + "                               AND otype.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate.concept_id = ${165322} "
-            + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
-            + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-            + "       GROUP BY p.patient_id ) mds_1st "
-            + "                  ON mds_1st.patient_id = mds2.patient_id "
-            + "                  WHERE mds2.voided = 0 "
-            + "                  AND enc2.voided = 0 "
-            + "                  AND otype2.voided = 0 "
-            + "                  AND ostate2.voided = 0 "
-            + "                  AND enc2.encounter_datetime > mds_1st.first_mds_date "
-            + "                  AND        enc2.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc2.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc2.encounter_type = ${6} "
-            + "                  AND        enc2.location_id = :location "
-            + "                  AND    (   ( otype2.concept_id = ${165174} "
-            + "                               AND otype2.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate2.concept_id = ${165322} "
-            + "                                 AND  ostate2.value_coded = ${1256} ) ) "
-            + "                  AND  otype2.obs_group_id = ostate2.obs_group_id "
-            + "       GROUP BY mds2.patient_id ) mds_2nd "
-            + "                  ON mds_2nd.patient_id = mds3.patient_id "
-            + "                  WHERE mds3.voided = 0 "
-            + "                  AND enc3.voided = 0 "
-            + "                  AND otype3.voided = 0 "
-            + "                  AND ostate3.voided = 0 "
-            + "                  AND enc3.encounter_datetime > mds_2nd.second_mds_date "
-            + "                  AND        enc3.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc3.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc3.encounter_type = ${6} "
-            + "                  AND        enc3.location_id = :location "
-            + "                  AND    (   ( otype3.concept_id = ${165174} "
-            + "                               AND otype3.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate3.concept_id = ${165322} "
-            + "                                 AND  ostate3.value_coded = ${1256} ) ) "
-            + "                  AND  otype3.obs_group_id = ostate3.obs_group_id "
-            + "       GROUP BY mds3.patient_id ) mds_3rd "
-            + "                  ON mds_3rd.patient_id = mds4.patient_id "
-            + "                  WHERE mds4.voided = 0 "
-            + "                  AND enc4.voided = 0 "
-            + "                  AND otype4.voided = 0 "
-            + "                  AND ostate4.voided = 0 "
-            + "                  AND enc4.encounter_datetime > mds_3rd.third_mds_date "
-            + "                  AND        enc4.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc4.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc4.encounter_type = ${6} "
-            + "                  AND        enc4.location_id = :location "
-            + "                  AND    (   ( otype4.concept_id = ${165174} "
-            + "                               AND otype4.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate4.concept_id = ${165322} "
-            + "                                 AND  ostate4.value_coded = ${1256} ) ) "
-            + "                  AND  otype4.obs_group_id = ostate4.obs_group_id "
-            + "       GROUP BY mds4.patient_id ) mds_4th "
-            + "                  ON mds_4th.patient_id = mds5.patient_id "
-            + "                  WHERE mds5.voided = 0 "
-            + "                  AND enc5.voided = 0 "
-            + "                  AND otype5.voided = 0 "
-            + "                  AND ostate5.voided = 0 "
-            + "                  AND enc5.encounter_datetime > mds_4th.fourth_mds_date "
-            + "                  AND        enc5.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc5.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonths
-            + " MONTH ) "
-            + "                  AND        enc5.encounter_type = ${6} "
-            + "                  AND        enc5.location_id = :location "
-            + "                  AND    (   ( otype5.concept_id = ${165174} "
-            + "                               AND otype5.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate5.concept_id = ${165322} "
-            + "                                 AND  ostate5.value_coded = ${1256} ) ) "
-            + "                  AND  otype5.obs_group_id = ostate5.obs_group_id "
-            + " AND mds5.patient_id IN ( "
-            + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
-                minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "       GROUP BY mds5.patient_id";
+  /**
+   * MDS4 - Coluna AC - Data da consulta (Ficha Clínica) em que o quarto MDS foi marcado como
+   * "Início", ocorrido entre data do início TARV e 12 meses do início TARV (Data da Consulta >=
+   * “Data Início TARV” e <= “Data Início TARV” + 12 meses)
+   *
+   * @return {@link DataDefinition}
+   */
+  public DataDefinition getMds4StartDate(
+      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
+    return getMdsTimelineColumn(
+        "B10- Data Início de MDS4: Coluna AC",
+        4,
+        MdsTimelineDataDefinition.Column.START_DATE,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
+  }
 
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
+  /**
+   * MDS4 - Coluna AD - Data da consulta (Ficha Clínica) em que o quarto MDS foi marcado como “Fim”,
+   * ocorrido entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data Início
+   * TARV” e <= “Data Início TARV” + 12 meses)
+   *
+   * @return {@link DataDefinition}
+   */
+  public DataDefinition getMds4EndDate(
+      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
+    return getMdsTimelineColumn(
+        "B10- Data Fim de MDS4: Coluna AD",
+        4,
+        MdsTimelineDataDefinition.Column.END_DATE,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
+  }
 
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
+  /**
+   * MDS5 - Coluna AE - Quinto MDS marcado como "Início" numa consulta clínica (Ficha Clínica)
+   * ocorrida entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data Início
+   * TARV” e <= “Data Início TARV” + 12 meses)
+   *
+   * @return {@link DataDefinition}
+   */
+  public DataDefinition getMds5(
+      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
+    return getMdsTimelineColumn(
+        "B10- Tipo de MDS: (MDS5) Coluna AE",
+        5,
+        MdsTimelineDataDefinition.Column.MODEL,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
+  }
 
-    return sqlPatientDataDefinition;
+  /**
+   * MDS5 - Coluna AF - Data da consulta (Ficha Clínica) em que o quinto MDS foi marcado como
+   * "Início"ocorrido entre data do início TARV e 12 meses do início TARV (Data da Consulta >= “Data
+   * Início TARV” e <= “Data Início TARV” + 12 meses).
+   *
+   * @return {@link DataDefinition}
+   */
+  public DataDefinition getMds5StartDate(
+      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
+    return getMdsTimelineColumn(
+        "B10- Data Início de MDS5: Coluna AF",
+        5,
+        MdsTimelineDataDefinition.Column.START_DATE,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
   }
 
   /**
@@ -4330,134 +2319,85 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
    * @return {@link DataDefinition}
    */
   public DataDefinition getMds5EndDate(
-      int numberOfMonthss, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
-    SqlPatientDataDefinition sqlPatientDataDefinition = new SqlPatientDataDefinition();
-    sqlPatientDataDefinition.setName("B10- Data Fim de MDS5: Coluna AG");
-    sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
-    sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
+      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
+    return getMdsTimelineColumn(
+        "B10- Data Fim de MDS5: Coluna AG",
+        5,
+        MdsTimelineDataDefinition.Column.END_DATE,
+        numberOfMonths,
+        minCohortNumberOfYears,
+        maxCohortNumberOfYears);
+  }
+
+  /**
+   * A column of the MDS timeline of the patients of the cohort, see {@link MdsTimeline}. The
+   * timeline is built from the MDS marked as "Início" or "Fim" on the clinical consultations (Ficha
+   * Clínica) between the ART start date and the given number of months after it, and it is loaded
+   * once per report run for all the columns of the same period and cohort.
+   *
+   * @param name the column name
+   * @param position the position of the MDS, starting at 1
+   * @param column the model, start date or end date of the MDS
+   * @return {@link DataDefinition}
+   */
+  private DataDefinition getMdsTimelineColumn(
+      String name,
+      int position,
+      MdsTimelineDataDefinition.Column column,
+      int numberOfMonths,
+      int minCohortNumberOfYears,
+      int maxCohortNumberOfYears) {
+    MdsTimelineDataDefinition definition = new MdsTimelineDataDefinition(name);
+    definition.addParameter(new Parameter("endDate", "endDate", Date.class));
+    definition.addParameter(new Parameter("location", "location", Location.class));
+    definition.setQuery(
+        getMdsTimelineQuery(numberOfMonths, minCohortNumberOfYears, maxCohortNumberOfYears));
+    definition.setPosition(position);
+    definition.setColumn(column);
+    return definition;
+  }
 
+  /**
+   * The "Início" and "Fim" records of the models in the period, with the voided flag of the
+   * consultation, whether it is 33 days or more after the ART start and whether it is at another
+   * location. Voided consultations and the "Fim" of other locations are kept for the end dates that
+   * count them, see {@link MdsTimeline}.
+   */
+  private String getMdsTimelineQuery(
+      int numberOfMonths, int minCohortNumberOfYears, int maxCohortNumberOfYears) {
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
     map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
     map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
 
     String query =
-        "                  SELECT     mds5_end.patient_id, "
-            + "                             MIN(ee55.encounter_datetime) AS fifth_mds_end_date "
-            + "                  FROM       patient mds5_end "
-            + "                  INNER JOIN encounter ee55 "
-            + "                  ON         ee55.patient_id = mds5_end.patient_id "
-            + "                  INNER JOIN obs ot55 "
-            + "                  ON         ot55.encounter_id = ee55.encounter_id "
-            + "                  INNER JOIN obs os55 "
-            + "                  ON         os55.encounter_id = ee55.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds5_end.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds5.patient_id, "
-            + "                             MIN(enc5.encounter_datetime) AS fifth_mds_date, "
-            + "                             MIN(otype5.value_coded) AS fifth_mds "
-            + "                  FROM       patient mds5 "
-            + "                  INNER JOIN encounter enc5 "
-            + "                  ON         enc5.patient_id = mds5.patient_id "
-            + "                  INNER JOIN obs otype5 "
-            + "                  ON         otype5.encounter_id = enc5.encounter_id "
-            + "                  INNER JOIN obs ostate5 "
-            + "                  ON         ostate5.encounter_id = enc5.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds5.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds4.patient_id, "
-            + "                             MIN(enc4.encounter_datetime) AS fourth_mds_date, "
-            + "                             MIN(otype4.value_coded) AS fourth_mds "
-            + "                  FROM       patient mds4 "
-            + "                  INNER JOIN encounter enc4 "
-            + "                  ON         enc4.patient_id = mds4.patient_id "
-            + "                  INNER JOIN obs otype4 "
-            + "                  ON         otype4.encounter_id = enc4.encounter_id "
-            + "                  INNER JOIN obs ostate4 "
-            + "                  ON         ostate4.encounter_id = enc4.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds4.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds3.patient_id, "
-            + "                             MIN(enc3.encounter_datetime) AS third_mds_date, "
-            + "                             MIN(otype3.value_coded) AS third_mds "
-            + "                  FROM       patient mds3 "
-            + "                  INNER JOIN encounter enc3 "
-            + "                  ON         enc3.patient_id = mds3.patient_id "
-            + "                  INNER JOIN obs otype3 "
-            + "                  ON         otype3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN obs ostate3 "
-            + "                  ON         ostate3.encounter_id = enc3.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds3.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     mds2.patient_id, "
-            + "                             MIN(enc2.encounter_datetime) AS second_mds_date, "
-            + "                             MIN(otype2.value_coded) AS second_mds "
-            + "                  FROM       patient mds2 "
-            + "                  INNER JOIN encounter enc2 "
-            + "                  ON         enc2.patient_id = mds2.patient_id "
-            + "                  INNER JOIN obs otype2 "
-            + "                  ON         otype2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN obs ostate2 "
-            + "                  ON         ostate2.encounter_id = enc2.encounter_id "
-            + "                  INNER JOIN ( "
-            + "                           SELECT art_patient.patient_id, "
-            + "                                  art_patient.first_pickup AS art_encounter "
-            + "                           FROM   ( "
-            + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-            + "                           ) art_patient "
-            + "                             ) art "
-            + "                  ON         art.patient_id = mds2.patient_id "
-            + "                  INNER JOIN ( "
-            + "                  SELECT     p.patient_id, "
-            + "                             MIN(e.encounter_datetime) AS first_mds_date, "
-            + "                             MIN(otype.value_coded) AS first_mds "
+        "                  SELECT     p.patient_id, "
+            + "                             e.encounter_datetime, "
+            + "                             otype.value_coded AS mds, "
+            + "                             CASE WHEN ostate.value_coded = ${1256} THEN 1 ELSE 0 END AS mds_start, "
+            + "                             e.voided, "
+            + "                             CASE WHEN e.encounter_datetime >= date_add( art.art_encounter, INTERVAL 33 DAY ) "
+            + "                                  THEN 1 ELSE 0 END AS late, "
+            + "                             CASE WHEN e.location_id = :location THEN 0 ELSE 1 END AS elsewhere "
             + "                  FROM       patient p "
             + "                  INNER JOIN encounter e "
             + "                  ON         e.patient_id = p.patient_id "
@@ -4474,121 +2414,28 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
             + "                             ) art "
             + "                  ON         art.patient_id = p.patient_id "
             + "                  WHERE      p.voided = 0 "
-            + "                  AND        e.voided = 0 "
             + "                  AND        otype.voided = 0 "
             + "                  AND        ostate.voided = 0 "
             + "                  AND        e.encounter_type = ${6} "
-            + "                  AND        e.location_id = :location "
+            + "                  AND        ( e.location_id = :location "
+            + "                               OR ( e.voided = 0 AND ostate.value_coded = ${1267} ) ) "
             + "                  AND        e.encounter_datetime >= art.art_encounter "
             + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonthss
+            + numberOfMonths
             + " MONTH ) "
             + "                  AND    (   ( otype.concept_id = ${165174} "
             + "                               AND otype.value_coded IS NOT NULL ) "
             + "                  AND         ( ostate.concept_id = ${165322} "
-            + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
+            + "                                 AND  ostate.value_coded IN (${1256}, ${1267}) ) ) "
             + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-            + "       GROUP BY p.patient_id ) mds_1st "
-            + "                  ON mds_1st.patient_id = mds2.patient_id "
-            + "                  WHERE mds2.voided = 0 "
-            + "                  AND enc2.voided = 0 "
-            + "                  AND otype2.voided = 0 "
-            + "                  AND ostate2.voided = 0 "
-            + "                  AND enc2.encounter_datetime > mds_1st.first_mds_date "
-            + "                  AND        enc2.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc2.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonthss
-            + " MONTH ) "
-            + "                  AND        enc2.encounter_type = ${6} "
-            + "                  AND        enc2.location_id = :location "
-            + "                  AND    (   ( otype2.concept_id = ${165174} "
-            + "                               AND otype2.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate2.concept_id = ${165322} "
-            + "                                 AND  ostate2.value_coded = ${1256} ) ) "
-            + "                  AND  otype2.obs_group_id = ostate2.obs_group_id "
-            + "       GROUP BY mds2.patient_id ) mds_2nd "
-            + "                  ON mds_2nd.patient_id = mds3.patient_id "
-            + "                  WHERE mds3.voided = 0 "
-            + "                  AND enc3.voided = 0 "
-            + "                  AND otype3.voided = 0 "
-            + "                  AND ostate3.voided = 0 "
-            + "                  AND enc3.encounter_datetime > mds_2nd.second_mds_date "
-            + "                  AND        enc3.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc3.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonthss
-            + " MONTH ) "
-            + "                  AND        enc3.encounter_type = ${6} "
-            + "                  AND        enc3.location_id = :location "
-            + "                  AND    (   ( otype3.concept_id = ${165174} "
-            + "                               AND otype3.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate3.concept_id = ${165322} "
-            + "                                 AND  ostate3.value_coded = ${1256} ) ) "
-            + "                  AND  otype3.obs_group_id = ostate3.obs_group_id "
-            + "       GROUP BY mds3.patient_id ) mds_3rd "
-            + "                  ON mds_3rd.patient_id = mds4.patient_id "
-            + "                  WHERE mds4.voided = 0 "
-            + "                  AND enc4.voided = 0 "
-            + "                  AND otype4.voided = 0 "
-            + "                  AND ostate4.voided = 0 "
-            + "                  AND enc4.encounter_datetime > mds_3rd.third_mds_date "
-            + "                  AND        enc4.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc4.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonthss
-            + " MONTH ) "
-            + "                  AND        enc4.encounter_type = ${6} "
-            + "                  AND        enc4.location_id = :location "
-            + "                  AND    (   ( otype4.concept_id = ${165174} "
-            + "                               AND otype4.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate4.concept_id = ${165322} "
-            + "                                 AND  ostate4.value_coded = ${1256} ) ) "
-            + "                  AND  otype4.obs_group_id = ostate4.obs_group_id "
-            + "       GROUP BY mds4.patient_id ) mds_4th "
-            + "                  ON mds_4th.patient_id = mds5.patient_id "
-            + "                  WHERE mds5.voided = 0 "
-            + "                  AND enc5.voided = 0 "
-            + "                  AND otype5.voided = 0 "
-            + "                  AND ostate5.voided = 0 "
-            + "                  AND enc5.encounter_datetime > mds_4th.fourth_mds_date "
-            + "                  AND        enc5.encounter_datetime >= art.art_encounter "
-            + "                  AND        enc5.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonthss
-            + " MONTH ) "
-            + "                  AND        enc5.encounter_type = ${6} "
-            + "                  AND        enc5.location_id = :location "
-            + "                  AND    (   ( otype5.concept_id = ${165174} "
-            + "                               AND otype5.value_coded IS NOT NULL ) "
-            + "                  AND         ( ostate5.concept_id = ${165322} "
-            + "                                 AND  ostate5.value_coded = ${1256} ) ) "
-            + "                  AND  otype5.obs_group_id = ostate5.obs_group_id "
-            + "       GROUP BY mds5.patient_id ) mds_5th "
-            + "                  ON mds_5th.patient_id = mds5_end.patient_id "
-            + "                  WHERE mds5_end.voided = 0 "
-            + "                  AND ee55.voided = 0 "
-            + "                  AND ot55.voided = 0 "
-            + "                  AND os55.voided = 0 "
-            + "                  AND ee55.encounter_datetime > mds_5th.fifth_mds_date "
-            + "                  AND        ee55.encounter_datetime >= art.art_encounter "
-            + "                  AND        ee55.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-            + numberOfMonthss
-            + " MONTH ) "
-            + "                  AND        ee55.encounter_type = ${6} "
-            + "                  AND        ee55.location_id = :location "
-            + "                  AND    (   ( ot55.concept_id = ${165174} "
-            + "                               AND ot55.value_coded = mds_5th.fifth_mds ) "
-            + "                  AND         ( os55.concept_id = ${165322} "
-            + "                                 AND  os55.value_coded = ${1267} ) ) "
-            + "                  AND  ot55.obs_group_id = os55.obs_group_id "
-            + " AND mds5_end.patient_id IN ( "
+            + " AND p.patient_id IN ( "
             + ListOfPatientsWithMdsEvaluationQueries.getCohortPatientsByYear(
                 minCohortNumberOfYears, maxCohortNumberOfYears)
-            + " ) "
-            + "       GROUP BY mds5_end.patient_id";
+            + " ) ";
 
     StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
 
-    sqlPatientDataDefinition.setQuery(stringSubstitutor.replace(query));
-
-    return sqlPatientDataDefinition;
+    return stringSubstitutor.replace(query);
   }
 
   /**
@@ -4632,24 +2479,24 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("23758", hivMetadata.getTBSymptomsConcept().getConceptId());
     map.put("1343", commonMetadata.getMidUpperArmCircumferenceConcept().getConceptId());
     map.put("1342", commonMetadata.getBodyMassIndexConcept().getConceptId());
@@ -4873,24 +2720,24 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("23758", hivMetadata.getTBSymptomsConcept().getConceptId());
     map.put("1343", commonMetadata.getMidUpperArmCircumferenceConcept().getConceptId());
     map.put("1342", commonMetadata.getBodyMassIndexConcept().getConceptId());
@@ -5001,25 +2848,25 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
     map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
 
     String query =
@@ -5084,7 +2931,7 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
@@ -5092,18 +2939,18 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
     map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
 
     String query =
@@ -5164,12 +3011,12 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     Map<String, Integer> map = new HashMap<>();
     map.put("1", hivMetadata.getHIVCareProgram().getProgramId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("10", hivMetadata.getArtDeadWorkflowState().getProgramWorkflowStateId());
     map.put("8", hivMetadata.getSuspendedTreatmentWorkflowState().getProgramWorkflowStateId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
     map.put(
         "28",
@@ -5181,8 +3028,8 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
         hivMetadata
             .getTransferredFromOtherHealthFacilityWorkflowState()
             .getProgramWorkflowStateId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6275", hivMetadata.getPreTarvConcept().getConceptId());
@@ -5243,24 +3090,24 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("1406", hivMetadata.getOtherDiagnosis().getConceptId());
     map.put("42", tbMetadata.getPulmonaryTB().getConceptId());
     map.put("5334", hivMetadata.getCandidiaseOralConcept().getConceptId());
@@ -5401,24 +3248,24 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("374", commonMetadata.getMethodOfFamilyPlanningConcept().getConceptId());
     map.put("190", commonMetadata.getCondomsConcept().getConceptId());
     map.put("780", commonMetadata.getOralContraceptionConcept().getConceptId());
@@ -5623,24 +3470,24 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("374", commonMetadata.getMethodOfFamilyPlanningConcept().getConceptId());
     map.put("190", commonMetadata.getCondomsConcept().getConceptId());
     map.put("780", commonMetadata.getOralContraceptionConcept().getConceptId());
@@ -5777,26 +3624,26 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
     map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
@@ -5991,26 +3838,26 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
     map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
@@ -6151,24 +3998,24 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("5085", commonMetadata.getSystolicBoodPressureConcept().getConceptId());
     map.put("5086", commonMetadata.getDiastolicBoodPressureConcept().getConceptId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
@@ -6404,24 +4251,24 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("5085", commonMetadata.getSystolicBoodPressureConcept().getConceptId());
     map.put("5086", commonMetadata.getDiastolicBoodPressureConcept().getConceptId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
@@ -6578,23 +4425,23 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
     map.put("2094", hivMetadata.getResultadoViaConcept().getConceptId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
@@ -6732,23 +4579,23 @@ public class ListOfPatientsWithMdsEvaluationCohortQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("endDate", "endDate", Date.class));
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId());
     map.put("165322", hivMetadata.getMdcState().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("2094", hivMetadata.getResultadoViaConcept().getConceptId());
     map.put("703", hivMetadata.getPositive().getConceptId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
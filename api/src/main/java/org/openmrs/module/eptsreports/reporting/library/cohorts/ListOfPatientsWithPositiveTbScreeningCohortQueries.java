@@ -2,6 +2,7 @@ package org.openmrs.module.eptsreports.reporting.library.cohorts;
 
 import java.util.Date;
 import org.openmrs.Location;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.SharedCohortDefinition;
 import org.openmrs.module.eptsreports.reporting.library.queries.ListOfPatientsWithPositiveTbScreeningQueries;
 import org.openmrs.module.eptsreports.reporting.utils.EptsQueriesUtil;
 import org.openmrs.module.eptsreports.reporting.utils.EptsReportUtils;
@@ -51,7 +52,7 @@ public class ListOfPatientsWithPositiveTbScreeningCohortQueries {
 
     cd.setCompositionString("txcurr AND positiveScreening");
 
-    return cd;
+    return new SharedCohortDefinition("listOfPatientsWithPositiveTbScreening", cd);
   }
 
   /**
@@ -97,8 +97,7 @@ public class ListOfPatientsWithPositiveTbScreeningDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, String> map = new HashMap<>();
-    map.put(
-        "6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()));
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
     map.put(
         "23722", String.valueOf(hivMetadata.getApplicationForLaboratoryResearch().getConceptId()));
     map.put("testConcept", StringUtils.join(testConcept, ","));
@@ -186,7 +186,7 @@ public class PmtctEidCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("23821", hivMetadata.getSampleCollectionDateAndTime().getConceptId());
     map.put("165502", hivMetadata.getSampleEarlyInfantDiagnosisConcept().getConceptId());
     map.put("165503", hivMetadata.getFirstSampleInLessThan9MonthsConcept().getConceptId());
@@ -250,7 +250,7 @@ public class PmtctEidCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("23821", hivMetadata.getSampleCollectionDateAndTime().getConceptId());
     map.put("165502", hivMetadata.getSampleEarlyInfantDiagnosisConcept().getConceptId());
     map.put("165503", hivMetadata.getFirstSampleInLessThan9MonthsConcept().getConceptId());
@@ -324,7 +324,7 @@ public class PmtctEidCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("23821", hivMetadata.getSampleCollectionDateAndTime().getConceptId());
     map.put("165502", hivMetadata.getSampleEarlyInfantDiagnosisConcept().getConceptId());
     map.put("165503", hivMetadata.getFirstSampleInLessThan9MonthsConcept().getConceptId());
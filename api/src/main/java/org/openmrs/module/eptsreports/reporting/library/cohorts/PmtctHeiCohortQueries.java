@@ -104,7 +104,7 @@ public class PmtctHeiCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("23821", hivMetadata.getSampleCollectionDateAndTime().getConceptId());
     map.put("165502", hivMetadata.getSampleEarlyInfantDiagnosisConcept().getConceptId());
     map.put("165503", hivMetadata.getFirstSampleInLessThan9MonthsConcept().getConceptId());
@@ -189,7 +189,7 @@ public class PmtctHeiCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("23821", hivMetadata.getSampleCollectionDateAndTime().getConceptId());
     map.put("165502", hivMetadata.getSampleEarlyInfantDiagnosisConcept().getConceptId());
     map.put("165503", hivMetadata.getFirstSampleInLessThan9MonthsConcept().getConceptId());
@@ -286,7 +286,7 @@ public class PmtctHeiCohortQueries {
     scd.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("23821", hivMetadata.getSampleCollectionDateAndTime().getConceptId());
     map.put("165502", hivMetadata.getSampleEarlyInfantDiagnosisConcept().getConceptId());
     map.put("165503", hivMetadata.getFirstSampleInLessThan9MonthsConcept().getConceptId());
@@ -387,9 +387,9 @@ public class PmtctHeiCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         new EptsQueriesUtil().patientIdQueryBuilder(commonQueries.getArtInitiation()).getQuery();
@@ -136,7 +136,7 @@ public class PrepCtCohortQueries {
         PrepCtQueries.getPatientsListInitiatedOnPREP(
             hivMetadata.getInitialStatusPrepUserConcept().getConceptId(),
             hivMetadata.getPrepInicialEncounterType().getEncounterTypeId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getStartDrugsConceptId(),
             hivMetadata.getPrepStartDateConcept().getConceptId(),
             hivMetadata.getPrepSeguimentoEncounterType().getEncounterTypeId()));
 
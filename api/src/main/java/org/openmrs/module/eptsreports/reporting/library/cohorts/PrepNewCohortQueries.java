@@ -99,7 +99,7 @@ public class PrepNewCohortQueries {
         PrepNewQueries.getA(
             hivMetadata.getInitialStatusPrepUserConcept().getConceptId(),
             hivMetadata.getPrepInicialEncounterType().getEncounterTypeId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getStartDrugsConceptId(),
             hivMetadata.getPrepStartDateConcept().getConceptId());
 
     sqlCohortDefinition.setQuery(query);
@@ -155,9 +155,9 @@ public class PrepNewCohortQueries {
             hivMetadata.getPrepInicialEncounterType().getEncounterTypeId(),
             hivMetadata.getInitialStatusPrepUserConcept().getConceptId(),
             hivMetadata.getPrepTargetGroupConcept().getConceptId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getStartDrugsConceptId(),
             commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getYesConceptId(),
             commonMetadata.getBreastfeeding().getConceptId(),
             hivMetadata.getPrepStartDateConcept().getConceptId());
 
@@ -182,9 +182,9 @@ public class PrepNewCohortQueries {
             hivMetadata.getPrepInicialEncounterType().getEncounterTypeId(),
             hivMetadata.getInitialStatusPrepUserConcept().getConceptId(),
             hivMetadata.getPrepTargetGroupConcept().getConceptId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getStartDrugsConceptId(),
             commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getYesConceptId(),
             commonMetadata.getBreastfeeding().getConceptId(),
             hivMetadata.getPrepStartDateConcept().getConceptId());
 
@@ -152,9 +152,9 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -189,7 +189,7 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
 
     String query =
@@ -393,8 +393,8 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("22772", hivMetadata.getTypeTestHIVConcept().getConceptId());
 
     String query =
@@ -466,8 +466,8 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("endDate", "End Date", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("22772", hivMetadata.getTypeTestHIVConcept().getConceptId());
     map.put("23807", hivMetadata.getPresumptiveDiagnosisInChildrenConcep().getConceptId());
 
@@ -529,23 +529,21 @@ public class QualityImprovement2020CohortQueries {
         "B",
         EptsReportUtils.map(
             getPregnantAndBreastfeedingStates(
-                hivMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                hivMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.addSearch(
         "C",
         EptsReportUtils.map(
             getPregnantAndBreastfeedingStates(
-                hivMetadata.getBreastfeeding().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                hivMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.addSearch(
         "D",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getTransferredInPatients(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-                hivMetadata.getPatientFoundYesConcept().getConceptId(),
+                hivMetadata.getPatientFoundYesConceptId(),
                 hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
                 hivMetadata.getArtStatus().getConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
@@ -594,24 +592,22 @@ public class QualityImprovement2020CohortQueries {
         "B",
         EptsReportUtils.map(
             getPregnantAndBreastfeedingStates(
-                hivMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                hivMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.addSearch(
         "C",
         EptsReportUtils.map(
             getPregnantAndBreastfeedingStates(
-                hivMetadata.getBreastfeeding().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                hivMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.addSearch("FEMALE", EptsReportUtils.map(genderCohortQueries.femaleCohort(), ""));
     cd.addSearch(
         "D",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getTransferredInPatients(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-                hivMetadata.getPatientFoundYesConcept().getConceptId(),
+                hivMetadata.getPatientFoundYesConceptId(),
                 hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
                 hivMetadata.getArtStatus().getConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
@@ -781,9 +777,7 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put(
         "classificationOfMalnutritionConcept",
         commonMetadata.getClassificationOfMalnutritionConcept().getConceptId());
@@ -873,7 +867,7 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6336", commonMetadata.getClassificationOfMalnutritionConcept().getConceptId());
     map.put("1844", hivMetadata.getChronicMalnutritionConcept().getConceptId());
     map.put("68", hivMetadata.getMalnutritionConcept().getConceptId());
@@ -938,8 +932,8 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
     map.put("1256", hivMetadata.getStartDrugsConcept().getConceptId());
@@ -1026,8 +1020,8 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
     map.put("1256", hivMetadata.getStartDrugsConcept().getConceptId());
@@ -1114,14 +1108,14 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("23761", tbMetadata.getActiveTBConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     String query =
         ""
@@ -1206,14 +1200,14 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("23761", tbMetadata.getActiveTBConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     String query =
         ""
@@ -1300,14 +1294,14 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
     map.put("1256", hivMetadata.getStartDrugsConcept().getConceptId());
     map.put("23758", tbMetadata.getHasTbSymptomsConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     String query =
         " SELECT p.patient_id "
@@ -1391,14 +1385,14 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
     map.put("1256", hivMetadata.getStartDrugsConcept().getConceptId());
     map.put("23758", tbMetadata.getHasTbSymptomsConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6128", hivMetadata.getDataInicioProfilaxiaIsoniazidaConcept().getConceptId());
 
     String query =
@@ -1483,9 +1477,9 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
     map.put("1256", hivMetadata.getStartDrugsConcept().getConceptId());
@@ -1576,9 +1570,9 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
     map.put("1256", hivMetadata.getStartDrugsConcept().getConceptId());
@@ -1696,18 +1690,16 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -1758,7 +1750,7 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1844", hivMetadata.getChronicMalnutritionConcept().getConceptId());
     map.put("68", hivMetadata.getMalnutritionConcept().getConceptId());
     map.put("6336", commonMetadata.getClassificationOfMalnutritionConcept().getConceptId());
@@ -1842,19 +1834,17 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -1946,18 +1936,16 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -2053,26 +2041,24 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
     CohortDefinition tbSymptoms =
         QualityImprovement2020Queries.getPatientsWithTBSymptoms(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             hivMetadata.getTBSymptomsConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getNoConcept().getConceptId());
 
     compositionCohortDefinition.addSearch("A", EptsReportUtils.map(startedART, MAPPING));
@@ -2231,19 +2217,17 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -2438,19 +2422,17 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -2622,51 +2604,49 @@ public class QualityImprovement2020CohortQueries {
     if (indicatorFlag == 4) {
       pregnantWithCargaViralHigherThan1000 =
           QualityImprovement2020Queries.getMQ13DenB4_P4(
-              hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-              hivMetadata.getHivViralLoadConcept().getConceptId(),
-              hivMetadata.getYesConcept().getConceptId(),
+              hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+              hivMetadata.getHivViralLoadConceptId(),
+              hivMetadata.getYesConceptId(),
               commonMetadata.getPregnantConcept().getConceptId(),
               50);
 
       breastfeedingWithCargaViralHigherThan1000 =
           QualityImprovement2020Queries.getMQ13DenB5_P4(
-              hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-              hivMetadata.getHivViralLoadConcept().getConceptId(),
-              hivMetadata.getYesConcept().getConceptId(),
+              hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+              hivMetadata.getHivViralLoadConceptId(),
+              hivMetadata.getYesConceptId(),
               commonMetadata.getBreastfeeding().getConceptId(),
               50);
 
     } else {
       pregnantWithCargaViralHigherThan1000 =
           QualityImprovement2020Queries.getMQ13DenB4_P4(
-              hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-              hivMetadata.getHivViralLoadConcept().getConceptId(),
-              hivMetadata.getYesConcept().getConceptId(),
+              hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+              hivMetadata.getHivViralLoadConceptId(),
+              hivMetadata.getYesConceptId(),
               commonMetadata.getPregnantConcept().getConceptId());
 
       breastfeedingWithCargaViralHigherThan1000 =
           QualityImprovement2020Queries.getMQ13DenB5_P4(
-              hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-              hivMetadata.getHivViralLoadConcept().getConceptId(),
-              hivMetadata.getYesConcept().getConceptId(),
+              hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+              hivMetadata.getHivViralLoadConceptId(),
+              hivMetadata.getYesConceptId(),
               commonMetadata.getBreastfeeding().getConceptId());
     }
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -2833,13 +2813,11 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition transfOut = getTranferredOutPatientsCat7();
 
@@ -2975,19 +2953,17 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -3113,7 +3089,7 @@ public class QualityImprovement2020CohortQueries {
         new Parameter("revisionEndDate", "revisionEndDate", Date.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("21151", hivMetadata.getTherapeuticLineConcept().getConceptId());
     map.put("21150", hivMetadata.getFirstLineConcept().getConceptId());
     map.put("21148", hivMetadata.getSecondLineConcept().getConceptId());
@@ -3185,9 +3161,9 @@ public class QualityImprovement2020CohortQueries {
         new Parameter("revisionEndDate", "revisionEndDate", Date.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
 
     String query =
         " SELECT"
@@ -3252,7 +3228,7 @@ public class QualityImprovement2020CohortQueries {
         new Parameter("revisionEndDate", "revisionEndDate", Date.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("21151", hivMetadata.getTherapeuticLineConcept().getConceptId());
     map.put("21150", hivMetadata.getFirstLineConcept().getConceptId());
 
@@ -3315,7 +3291,7 @@ public class QualityImprovement2020CohortQueries {
         new Parameter("revisionEndDate", "revisionEndDate", Date.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("21151", hivMetadata.getTherapeuticLineConcept().getConceptId());
     map.put("21148", hivMetadata.getSecondLineConcept().getConceptId());
 
@@ -3398,7 +3374,7 @@ public class QualityImprovement2020CohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
     map.put("minDays", minDays);
     map.put("maxDays", maxDays);
@@ -3466,7 +3442,7 @@ public class QualityImprovement2020CohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
     map.put("minDays", minDays);
     map.put("maxDays", maxDays);
@@ -3537,7 +3513,7 @@ public class QualityImprovement2020CohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
     map.put("minDays", minDays);
     map.put("maxDays", maxDays);
@@ -3623,7 +3599,7 @@ public class QualityImprovement2020CohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
     map.put("minDays", minDays);
     map.put("maxDays", maxDays);
@@ -3723,7 +3699,7 @@ public class QualityImprovement2020CohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
     map.put("minDays", minDays);
     map.put("maxDays", maxDays);
@@ -3805,7 +3781,7 @@ public class QualityImprovement2020CohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
     map.put("minDays", minDays);
     map.put("maxDays", maxDays);
@@ -3946,9 +3922,9 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.setName("Category 11 - Numerator - H1");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
 
     String query =
         " SELECT p.patient_id "
@@ -4001,9 +3977,9 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.setName("Category 11 - Numerator - H2");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
 
     String query =
         " SELECT p.patient_id "
@@ -4068,9 +4044,9 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.setName("Category 11 - Numerator - H3");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
 
     String query =
         "SELECT p.patient_id "
@@ -4261,19 +4237,17 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition c =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition d =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition e =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -4408,24 +4382,23 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition b4 =
         QualityImprovement2020Queries.getMQ13DenB4_P4(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
+            hivMetadata.getYesConceptId(),
             commonMetadata.getPregnantConcept().getConceptId(),
             50);
 
     CohortDefinition b5 =
         QualityImprovement2020Queries.getMQ13DenB5_P4(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
+            hivMetadata.getYesConceptId(),
             commonMetadata.getBreastfeeding().getConceptId(),
             50);
 
     CohortDefinition c =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition f = intensiveMonitoringCohortQueries.getTranferredOutPatientsForMI7();
     CohortDefinition h = getMQC11NH(true);
@@ -4474,17 +4447,15 @@ public class QualityImprovement2020CohortQueries {
     CohortDefinition a = getMOHArtStartDate();
     CohortDefinition c =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
     CohortDefinition d =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
     CohortDefinition e =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
     CohortDefinition f = intensiveMonitoringCohortQueries.getTranferredOutPatientsForMI7();
@@ -4533,18 +4504,16 @@ public class QualityImprovement2020CohortQueries {
     CohortDefinition a = getMOHArtStartDate();
     CohortDefinition c =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition d =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
     CohortDefinition e =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
     CohortDefinition f = intensiveMonitoringCohortQueries.getTranferredOutPatientsForMI7();
@@ -4607,16 +4576,16 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition b4 =
         QualityImprovement2020Queries.getMQ13DenB4_P4(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
+            hivMetadata.getYesConceptId(),
             commonMetadata.getPregnantConcept().getConceptId());
 
     CohortDefinition b5 =
         QualityImprovement2020Queries.getMQ13DenB5_P4(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
+            hivMetadata.getYesConceptId(),
             commonMetadata.getBreastfeeding().getConceptId());
 
     CohortDefinition f = intensiveMonitoringCohortQueries.getTranferredOutPatientsForMI7();
@@ -4715,19 +4684,17 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -4797,8 +4764,8 @@ public class QualityImprovement2020CohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
 
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("21190", commonMetadata.getRegimenAlternativeToFirstLineConcept().getConceptId());
     map.put("21151", hivMetadata.getTherapeuticLineConcept().getConceptId());
     map.put("21150", hivMetadata.getFirstLineConcept().getConceptId());
@@ -4883,8 +4850,8 @@ public class QualityImprovement2020CohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
 
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("21187", hivMetadata.getRegArvSecondLine().getConceptId());
     map.put("21151", hivMetadata.getTherapeuticLineConcept().getConceptId());
     map.put("21148", hivMetadata.getSecondLineConcept().getConceptId());
@@ -4949,7 +4916,7 @@ public class QualityImprovement2020CohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
 
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1982", commonMetadata.getPregnantConcept().getConceptId());
     map.put("21187", hivMetadata.getRegArvSecondLine().getConceptId());
     map.put("1792", hivMetadata.getJustificativeToChangeArvTreatment().getConceptId());
@@ -5181,49 +5148,49 @@ public class QualityImprovement2020CohortQueries {
         QualityImprovement2020Queries.getMQ12NumH(
             20,
             33,
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getHistoricalDrugStartDateConcept().getConceptId(),
             hivMetadata.getArtPickupConcept().getConceptId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId());
+            hivMetadata.getArtDatePickupMasterCardConceptId());
 
     CohortDefinition returnedForAnotherConsultationOrPickup =
         QualityImprovement2020Queries.getMQ12NumI(
             20,
             33,
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getHistoricalDrugStartDateConcept().getConceptId(),
             hivMetadata.getArtPickupConcept().getConceptId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId());
+            hivMetadata.getArtDatePickupMasterCardConceptId());
 
     CohortDefinition returnedForAnotherConsultationOrPickup3466 =
         QualityImprovement2020Queries.getMQ12NumI(
             34,
             66,
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getHistoricalDrugStartDateConcept().getConceptId(),
             hivMetadata.getArtPickupConcept().getConceptId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId());
+            hivMetadata.getArtDatePickupMasterCardConceptId());
 
     CohortDefinition returnedForAnotherConsultationOrPickup6799 =
         QualityImprovement2020Queries.getMQ12NumI(
             67,
             99,
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getHistoricalDrugStartDateConcept().getConceptId(),
             hivMetadata.getArtPickupConcept().getConceptId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId());
+            hivMetadata.getArtDatePickupMasterCardConceptId());
 
     CohortDefinition mq12Den1 = getMQ12DEN(1);
     CohortDefinition mq12Den2 = getMQ12DEN(2);
@@ -5331,8 +5298,8 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
 
     String query =
@@ -5451,9 +5418,9 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -5618,9 +5585,9 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -5688,13 +5655,11 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getNewMQPregnantORBreastfeeding(
-            hivMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition brestfeeding =
         commonCohortQueries.getNewMQPregnantORBreastfeeding(
-            hivMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition b2New =
         commonCohortQueries.getPatientsWithFirstTherapeuticLineOnLastClinicalEncounterB2NEW();
@@ -6005,23 +5970,21 @@ public class QualityImprovement2020CohortQueries {
         "C",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             MAPPING));
     cd.addSearch(
         "D",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getBreastfeeding().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId()),
             MAPPING));
     cd.addSearch(
         "E",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getTransferredInPatients(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-                hivMetadata.getPatientFoundYesConcept().getConceptId(),
+                hivMetadata.getPatientFoundYesConceptId(),
                 hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
                 hivMetadata.getArtStatus().getConceptId()),
             MAPPING));
@@ -6077,14 +6040,14 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.setName("Category 13 Part 3- Numerator - G");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -6153,13 +6116,13 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.setName("Category 13 Part 3- Numerator - H");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("21190", commonMetadata.getRegimenAlternativeToFirstLineConcept().getConceptId());
     map.put("21151", hivMetadata.getTherapeuticLineConcept().getConceptId());
     map.put("21150", hivMetadata.getFirstLineConcept().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -6242,12 +6205,12 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.setName("Category 13 Part 3- Numerator - I");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1982", commonMetadata.getPregnantConcept().getConceptId());
     map.put("21187", hivMetadata.getRegArvSecondLine().getConceptId());
     map.put("1792", hivMetadata.getJustificativeToChangeArvTreatment().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -6322,8 +6285,8 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.setName("Category 13 - Part 4 Denominator - H");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
 
     String query =
@@ -6447,40 +6410,40 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnantWithCargaViralHigherThan1000 =
         QualityImprovement2020Queries.getMQ13DenB4_P4(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
+            hivMetadata.getYesConceptId(),
             commonMetadata.getPregnantConcept().getConceptId());
 
     CohortDefinition breastfeedingWithCargaViralHigherThan1000 =
         QualityImprovement2020Queries.getMQ13DenB5_P4(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
+            hivMetadata.getYesConceptId(),
             commonMetadata.getBreastfeeding().getConceptId());
 
     CohortDefinition pregnantWithCargaViralHigherThan50 =
         QualityImprovement2020Queries.getCV50ForPregnant(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
+            hivMetadata.getYesConceptId(),
             commonMetadata.getPregnantConcept().getConceptId(),
             50);
 
     CohortDefinition breastfeedingWithCargaViralHigherThan50 =
         QualityImprovement2020Queries.getMQ13DenB5_P4(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
+            hivMetadata.getYesConceptId(),
             commonMetadata.getBreastfeeding().getConceptId(),
             50);
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -6661,10 +6624,10 @@ public class QualityImprovement2020CohortQueries {
     cd.setName(" B2 - categoria 13 - Denominador - part 2");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
 
     String query =
@@ -6718,11 +6681,11 @@ public class QualityImprovement2020CohortQueries {
     cd.setName(" B3 - categoria 13 - Denominador - part 2");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
 
     StringSubstitutor sb = new StringSubstitutor(map);
 
@@ -6795,11 +6758,11 @@ public class QualityImprovement2020CohortQueries {
     cd.setName(" B4 - categoria 13 - Denominador - part 2");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
 
     StringSubstitutor sb = new StringSubstitutor(map);
 
@@ -6868,8 +6831,7 @@ public class QualityImprovement2020CohortQueries {
     CohortDefinition transferredOut = getTranferredOutPatientsCat7();
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition pregnantAbandonedDuringPeriod =
         getPatientsWhoAbandonedOrRestartedTarvOnLast3MonthsArt();
@@ -7054,11 +7016,11 @@ public class QualityImprovement2020CohortQueries {
     cd.setName(" K - categoria 13 - Numerador - part 2");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -7156,13 +7118,13 @@ public class QualityImprovement2020CohortQueries {
     cd.setName(" L - categoria 13 - Numerador - part 2");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -7266,11 +7228,11 @@ public class QualityImprovement2020CohortQueries {
     cd.setName(" M - categoria 13 - Numerador - part 2");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -7362,13 +7324,13 @@ public class QualityImprovement2020CohortQueries {
     cd.setName(" N - categoria 13 - Numerador - part 2");
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -7468,8 +7430,7 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition transferredOut = getTranferredOutPatients();
 
@@ -7651,7 +7612,7 @@ public class QualityImprovement2020CohortQueries {
             hivMetadata.getSemiannualDispensation().getConceptId(),
             hivMetadata.getAnnualArvDispensationConcept().getConceptId());
 
-    List<Integer> states = Arrays.asList(hivMetadata.getStartDrugs().getConceptId());
+    List<Integer> states = Arrays.asList(hivMetadata.getStartDrugsConceptId());
 
     CohortDefinition inscritosNoMDSHa24Meses =
         QualityImprovement2020Queries.getPatientsWithFollowingMdcDispensationsWithStates(
@@ -7925,7 +7886,7 @@ public class QualityImprovement2020CohortQueries {
             hivMetadata.getRapidFlow().getConceptId(),
             hivMetadata.getSemiannualDispensation().getConceptId());
 
-    List<Integer> states = Arrays.asList(hivMetadata.getStartDrugs().getConceptId());
+    List<Integer> states = Arrays.asList(hivMetadata.getStartDrugsConceptId());
 
     CohortDefinition queryA1 =
         QualityImprovement2020Queries.getPatientsWithFollowingMdcDispensationsWithStates(
@@ -7934,64 +7895,62 @@ public class QualityImprovement2020CohortQueries {
     CohortDefinition queryA2 =
         QualityImprovement2020Queries.getMQ15DenA1orA2(
             "A2",
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getStartDrugsConceptId(),
             hivMetadata.getGaac().getConceptId(),
             hivMetadata.getQuarterlyDispensation().getConceptId());
 
     CohortDefinition queryA3 =
         QualityImprovement2020Queries.getMQ15DenA3(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             hivMetadata.getQuarterlyConcept().getConceptId(),
             hivMetadata.getTypeOfDispensationConcept().getConceptId(),
             hivMetadata.getSemiannualDispensation().getConceptId());
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition h1 =
         QualityImprovement2020Queries.getMQ15NumH(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getStartDrugsConceptId(),
             hivMetadata.getQuarterlyConcept().getConceptId(),
             hivMetadata.getGaac().getConceptId(),
             hivMetadata.getQuarterlyDispensation().getConceptId(),
             hivMetadata.getTypeOfDispensationConcept().getConceptId(),
             hivMetadata.getApplicationForLaboratoryResearch().getConceptId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId());
+            hivMetadata.getHivViralLoadConceptId());
 
     CohortDefinition h2 =
         QualityImprovement2020Queries.getMQ15NumH2(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getStartDrugsConceptId(),
             hivMetadata.getQuarterlyConcept().getConceptId(),
             hivMetadata.getGaac().getConceptId(),
             hivMetadata.getQuarterlyDispensation().getConceptId(),
             hivMetadata.getTypeOfDispensationConcept().getConceptId(),
             hivMetadata.getApplicationForLaboratoryResearch().getConceptId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
+            hivMetadata.getHivViralLoadConceptId(),
             hivMetadata.getHivViralLoadQualitative().getConceptId(),
-            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+            hivMetadata.getMisauLaboratorioEncounterTypeId());
 
     CohortDefinition i =
         QualityImprovement2020Queries.getMQ15NumI(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getStartDrugsConceptId(),
             hivMetadata.getQuarterlyConcept().getConceptId(),
             hivMetadata.getGaac().getConceptId(),
             hivMetadata.getQuarterlyDispensation().getConceptId(),
             hivMetadata.getTypeOfDispensationConcept().getConceptId(),
             hivMetadata.getApplicationForLaboratoryResearch().getConceptId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
+            hivMetadata.getHivViralLoadConceptId(),
             hivMetadata.getHivViralLoadQualitative().getConceptId(),
-            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+            hivMetadata.getMisauLaboratorioEncounterTypeId());
 
     CohortDefinition transferOut = commonCohortQueries.getTranferredOutPatients();
     // Utentes que tiveram dois pedidos de investigação depois da inscrição ao GACC/DT/APE/DD/FR/DS
@@ -8321,7 +8280,7 @@ public class QualityImprovement2020CohortQueries {
 
     List<Integer> states =
         Arrays.asList(
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getStartDrugsConceptId(),
             hivMetadata.getContinueRegimenConcept().getConceptId());
 
     CohortDefinition mdsLastClinical =
@@ -8615,23 +8574,21 @@ public class QualityImprovement2020CohortQueries {
         "C",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.addSearch(
         "D",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getBreastfeeding().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.addSearch(
         "E",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getTransferredInPatients(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-                hivMetadata.getPatientFoundYesConcept().getConceptId(),
+                hivMetadata.getPatientFoundYesConceptId(),
                 hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
                 hivMetadata.getArtStatus().getConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
@@ -8640,16 +8597,14 @@ public class QualityImprovement2020CohortQueries {
         "pregnantOnPeriod",
         EptsReportUtils.map(
             getMOHPregnantORBreastfeedingOnClinicalConsultation(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             inclusionPeriodMappings));
 
     cd.addSearch(
         "breastfeedingOnPeriod",
         EptsReportUtils.map(
             getMOHPregnantORBreastfeedingOnClinicalConsultation(
-                commonMetadata.getBreastfeeding().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId()),
             inclusionPeriodMappings));
 
     cd.setCompositionString(
@@ -8693,17 +8648,16 @@ public class QualityImprovement2020CohortQueries {
         "pregnantOnPeriod",
         EptsReportUtils.map(
             intensiveMonitoringCohortQueries.getFirstPregnancyORBreastfeedingOnClinicalConsultation(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             inclusionPeriodMappings));
 
     cd.addSearch(
         "transferredIn",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getTransferredInPatients(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-                hivMetadata.getPatientFoundYesConcept().getConceptId(),
+                hivMetadata.getPatientFoundYesConceptId(),
                 hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
                 hivMetadata.getArtStatus().getConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
@@ -8746,7 +8700,7 @@ public class QualityImprovement2020CohortQueries {
         EptsReportUtils.map(
             getRequestForCd4OnFirstClinicalConsultationOfPregnancy(
                 commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId(),
+                hivMetadata.getYesConceptId(),
                 hivMetadata.getApplicationForLaboratoryResearch().getConceptId(),
                 hivMetadata.getCD4AbsoluteOBSConcept().getConceptId()),
             inclusionPeriodMappings));
@@ -8755,8 +8709,7 @@ public class QualityImprovement2020CohortQueries {
         "resultCd4ForPregnant",
         EptsReportUtils.map(
             getCd4ResultAfterFirstConsultationOfPregnancy(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             inclusionPeriodMappings));
 
     if (numerator == 9) {
@@ -8807,23 +8760,21 @@ public class QualityImprovement2020CohortQueries {
         "C",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.addSearch(
         "D",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getBreastfeeding().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.addSearch(
         "E",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getTransferredInPatients(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-                hivMetadata.getPatientFoundYesConcept().getConceptId(),
+                hivMetadata.getPatientFoundYesConceptId(),
                 hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
                 hivMetadata.getArtStatus().getConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
@@ -8943,7 +8894,7 @@ public class QualityImprovement2020CohortQueries {
             + "GROUP BY pa.patient_id";
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
     map.put("730", hivMetadata.getCD4PercentConcept().getConceptId());
     map.put("165515", hivMetadata.getCD4SemiQuantitativeConcept().getConceptId());
@@ -9096,23 +9047,21 @@ public class QualityImprovement2020CohortQueries {
         "C",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.addSearch(
         "D",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getBreastfeeding().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.addSearch(
         "E",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getTransferredInPatients(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-                hivMetadata.getPatientFoundYesConcept().getConceptId(),
+                hivMetadata.getPatientFoundYesConceptId(),
                 hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
                 hivMetadata.getArtStatus().getConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
@@ -9195,9 +9144,9 @@ public class QualityImprovement2020CohortQueries {
         "Active",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getPatientsWithAtLeastAdrugPickup(
-                hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-                hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
-                hivMetadata.getArtDatePickupMasterCard().getConceptId(),
+                hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+                hivMetadata.getARVPharmaciaEncounterTypeId(),
+                hivMetadata.getArtDatePickupMasterCardConceptId(),
                 hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId()),
             "endDate=${revisionEndDate},location{location}"));
     cd.addSearch(
@@ -9260,9 +9209,9 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("23724", hivMetadata.getGaac().getConceptId());
     map.put("23730", hivMetadata.getQuarterlyDispensation().getConceptId());
     map.put("23888", hivMetadata.getSemiannualDispensation().getConceptId());
@@ -9433,7 +9382,7 @@ public class QualityImprovement2020CohortQueries {
             hivMetadata.getSemiannualDispensation().getConceptId(),
             hivMetadata.getAnnualArvDispensationConcept().getConceptId());
 
-    List<Integer> states = Arrays.asList(hivMetadata.getStartDrugs().getConceptId());
+    List<Integer> states = Arrays.asList(hivMetadata.getStartDrugsConceptId());
 
     CohortDefinition mds =
         getPatientsWhoHadMdsOnMostRecentClinicalAndPickupOnFilaFR36(mdsConcepts, states);
@@ -9725,7 +9674,7 @@ public class QualityImprovement2020CohortQueries {
                     hivMetadata.getRapidFlow().getConceptId(),
                     hivMetadata.getSemiannualDispensation().getConceptId()),
                 Arrays.asList(
-                    hivMetadata.getStartDrugs().getConceptId(),
+                    hivMetadata.getStartDrugsConceptId(),
                     hivMetadata.getContinueRegimenConcept().getConceptId())),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.setCompositionString("A AND MDC");
@@ -9759,7 +9708,7 @@ public class QualityImprovement2020CohortQueries {
                     hivMetadata.getRapidFlow().getConceptId(),
                     hivMetadata.getSemiannualDispensation().getConceptId()),
                 Arrays.asList(
-                    hivMetadata.getStartDrugs().getConceptId(),
+                    hivMetadata.getStartDrugsConceptId(),
                     hivMetadata.getContinueRegimenConcept().getConceptId())),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.setCompositionString("B AND MDC");
@@ -9788,10 +9737,10 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6332", hivMetadata.getBreastfeeding().getConceptId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         "SELECT pregnant.patient_id "
@@ -9856,10 +9805,10 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6332", hivMetadata.getBreastfeeding().getConceptId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         "SELECT breastfeeding.patient_id "
@@ -9930,11 +9879,11 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
 
     String query =
         "SELECT  final.patient_id "
@@ -9993,13 +9942,13 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
 
     String query =
         "SELECT tpt_inh_start.patient_id "
@@ -10097,11 +10046,11 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
 
     String query =
         ""
@@ -10160,11 +10109,11 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     String query =
         ""
             + "SELECT  final.patient_id "
@@ -10220,11 +10169,11 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
 
     String query =
         ""
@@ -10291,12 +10240,12 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
 
     String query =
@@ -10424,12 +10373,12 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
 
     String query =
@@ -10539,9 +10488,9 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
 
     String query =
         " SELECT p.patient_id "
@@ -10610,9 +10559,9 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("21190", commonMetadata.getRegimenAlternativeToFirstLineConcept().getConceptId());
     map.put("21151", hivMetadata.getTherapeuticLineConcept().getConceptId());
     map.put("21150", hivMetadata.getFirstLineConcept().getConceptId());
@@ -10712,8 +10661,8 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1792", hivMetadata.getJustificativeToChangeArvTreatment().getConceptId());
     map.put("1982", commonMetadata.getPregnantConcept().getConceptId());
     map.put("21187", hivMetadata.getRegArvSecondLine().getConceptId());
@@ -10793,8 +10742,8 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("21187", hivMetadata.getRegArvSecondLine().getConceptId());
     map.put("21151", hivMetadata.getTherapeuticLineConcept().getConceptId());
     map.put("21148", hivMetadata.getSecondLineConcept().getConceptId());
@@ -10895,8 +10844,8 @@ public class QualityImprovement2020CohortQueries {
 
     cd.setQuery(
         QualityImprovement2020Queries.getMQ13AbandonedOrRestartedTarvOnLast6MonthsArt(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getAbandonedConcept().getConceptId(),
             hivMetadata.getRestartConcept().getConceptId(),
@@ -10939,8 +10888,8 @@ public class QualityImprovement2020CohortQueries {
 
     cd.setQuery(
         QualityImprovement2020Queries.getMQ13AbandonedOrRestartedTarvOnLast6MonthsArt(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getAbandonedConcept().getConceptId(),
             hivMetadata.getRestartConcept().getConceptId(),
@@ -10982,8 +10931,8 @@ public class QualityImprovement2020CohortQueries {
 
     cd.setQuery(
         QualityImprovement2020Queries.getMQ13AbandonedOrRestartedTarvOnArtStartDate(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getAbandonedConcept().getConceptId(),
             hivMetadata.getRestartConcept().getConceptId(),
@@ -11020,8 +10969,8 @@ public class QualityImprovement2020CohortQueries {
 
     cd.setQuery(
         QualityImprovement2020Queries.getMQ13AbandonedTarvOnArtStartDateForPregnants(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getAbandonedConcept().getConceptId(),
             hivMetadata.getRestartConcept().getConceptId(),
@@ -11053,17 +11002,17 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("1707", hivMetadata.getAbandonedConcept().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
 
     String a =
         "SELECT abandoned.patient_id from (  "
@@ -11154,9 +11103,9 @@ public class QualityImprovement2020CohortQueries {
 
     cd.setQuery(
         QualityImprovement2020Queries.getMQ13AbandonedTarvOnArtRestartDate(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getAbandonedConcept().getConceptId(),
             hivMetadata.getStateOfStayOfPreArtPatient().getConceptId(),
@@ -11195,8 +11144,8 @@ public class QualityImprovement2020CohortQueries {
 
     cd.setQuery(
         QualityImprovement2020Queries.getMQ13AbandonedTarvOnFirstLineDate(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getAbandonedConcept().getConceptId(),
             hivMetadata.getRestartConcept().getConceptId(),
@@ -11240,8 +11189,8 @@ public class QualityImprovement2020CohortQueries {
 
     cd.setQuery(
         QualityImprovement2020Queries.getMQ13AbandonedTarvInTheLastSixMonthsFromFirstLineDate(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getAbandonedConcept().getConceptId(),
             hivMetadata.getRestartConcept().getConceptId(),
@@ -11285,8 +11234,8 @@ public class QualityImprovement2020CohortQueries {
 
     cd.setQuery(
         QualityImprovement2020Queries.getMQ13AbandonedTarvOnSecondLineDate(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getAbandonedConcept().getConceptId(),
             hivMetadata.getRestartConcept().getConceptId(),
@@ -11317,8 +11266,8 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
@@ -11356,18 +11305,18 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, String> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId().toString());
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId().toString());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId().toString());
+    map.put("856", String.valueOf(hivMetadata.getHivViralLoadConceptId()));
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId().toString());
     map.put("165322", hivMetadata.getMdcState().getConceptId().toString());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId().toString());
+    map.put("1256", String.valueOf(hivMetadata.getStartDrugsConceptId()));
     map.put("23739", hivMetadata.getTypeOfDispensationConcept().getConceptId().toString());
     map.put("23888", hivMetadata.getSemiannualDispensation().getConceptId().toString());
     map.put("23720", hivMetadata.getQuarterlyConcept().getConceptId().toString());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId().toString());
     map.put("dispensationTypes", getMetadataFrom(dispensationTypes));
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId().toString());
+    map.put("18", String.valueOf(hivMetadata.getARVPharmaciaEncounterTypeId()));
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId().toString());
     map.put("lower", "83");
     map.put("upper", "97");
@@ -11491,7 +11440,7 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, String> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId().toString());
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
     map.put("165322", hivMetadata.getMdcState().getConceptId().toString());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId().toString());
     map.put("dispensationTypes", getMetadataFrom(dispensationTypes));
@@ -11554,9 +11503,9 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1410", hivMetadata.getReturnVisitDateConcept().getConceptId());
 
     String query =
@@ -11611,7 +11560,7 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23739", hivMetadata.getTypeOfDispensationConcept().getConceptId());
     map.put("dispensation", dispensationType.getConceptId());
 
@@ -11684,7 +11633,7 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, String> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId().toString());
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
     map.put("165322", hivMetadata.getMdcState().getConceptId().toString());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId().toString());
     map.put("dispensationTypes", getMetadataFrom(dispensationTypes));
@@ -11762,8 +11711,8 @@ public class QualityImprovement2020CohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     HivMetadata hivMetadata = new HivMetadata();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
     map.put("lower", lowerBounded);
     map.put("upper", upperBounded);
@@ -11828,18 +11777,18 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, String> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId().toString());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId().toString());
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
+    map.put("13", String.valueOf(hivMetadata.getMisauLaboratorioEncounterTypeId()));
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId().toString());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId().toString());
+    map.put("856", String.valueOf(hivMetadata.getHivViralLoadConceptId()));
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId().toString());
     map.put("165322", hivMetadata.getMdcState().getConceptId().toString());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId().toString());
+    map.put("1256", String.valueOf(hivMetadata.getStartDrugsConceptId()));
     map.put("23739", hivMetadata.getTypeOfDispensationConcept().getConceptId().toString());
     map.put("23888", hivMetadata.getSemiannualDispensation().getConceptId().toString());
     map.put("23720", hivMetadata.getQuarterlyConcept().getConceptId().toString());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId().toString());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId().toString());
+    map.put("18", String.valueOf(hivMetadata.getARVPharmaciaEncounterTypeId()));
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId().toString());
     map.put("lower", "83");
     map.put("upper", "97");
@@ -11982,18 +11931,18 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, String> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId().toString());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId().toString());
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
+    map.put("13", String.valueOf(hivMetadata.getMisauLaboratorioEncounterTypeId()));
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId().toString());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId().toString());
+    map.put("856", String.valueOf(hivMetadata.getHivViralLoadConceptId()));
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId().toString());
     map.put("165322", hivMetadata.getMdcState().getConceptId().toString());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId().toString());
+    map.put("1256", String.valueOf(hivMetadata.getStartDrugsConceptId()));
     map.put("23739", hivMetadata.getTypeOfDispensationConcept().getConceptId().toString());
     map.put("23888", hivMetadata.getSemiannualDispensation().getConceptId().toString());
     map.put("23720", hivMetadata.getQuarterlyConcept().getConceptId().toString());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId().toString());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId().toString());
+    map.put("18", String.valueOf(hivMetadata.getARVPharmaciaEncounterTypeId()));
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId().toString());
     map.put("lower", "83");
     map.put("upper", "97");
@@ -12263,12 +12212,12 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, String> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId().toString());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId().toString());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId().toString());
+    map.put("13", String.valueOf(hivMetadata.getMisauLaboratorioEncounterTypeId()));
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
+    map.put("9", String.valueOf(hivMetadata.getPediatriaSeguimentoEncounterTypeId()));
     map.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId().toString());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId().toString());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId().toString());
+    map.put("53", String.valueOf(hivMetadata.getMasterCardEncounterTypeId()));
+    map.put("856", String.valueOf(hivMetadata.getHivViralLoadConceptId()));
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId().toString());
     map.put("165322", hivMetadata.getMdcState().getConceptId().toString());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId().toString());
@@ -12351,9 +12300,9 @@ public class QualityImprovement2020CohortQueries {
     CohortDefinition inTarv = resumoMensalCohortQueries.getPatientsWhoWereActiveByEndOfMonthB13();
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -12435,7 +12384,7 @@ public class QualityImprovement2020CohortQueries {
         new Parameter("revisionEndDate", "revisionEndDate", Date.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("question", question);
     map.put("answer", answer);
 
@@ -12495,7 +12444,7 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
 
     String query =
         "SELECT final.patient_id  "
@@ -12544,7 +12493,7 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
 
@@ -12623,7 +12572,7 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("question", question);
     map.put("answer", answer);
 
@@ -12693,7 +12642,7 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("question", pregnantConcept);
     map.put("answer", yesConcept);
     map.put("labResearchConcept", labResearchConcept);
@@ -12751,7 +12700,7 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
     map.put("730", hivMetadata.getCD4PercentConcept().getConceptId());
     map.put("165515", hivMetadata.getCD4SemiQuantitativeConcept().getConceptId());
@@ -12830,14 +12779,14 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
 
     String query =
         "SELECT transferred_out.patient_id "
@@ -12936,14 +12885,14 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
 
     String query =
         "SELECT transferout.patient_id "
@@ -13053,10 +13002,10 @@ public class QualityImprovement2020CohortQueries {
         new Parameter("revisionEndDate", "revisionEndDate", Date.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("21151", hivMetadata.getTherapeuticLineConcept().getConceptId());
     map.put("21150", hivMetadata.getFirstLineConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
 
     String query =
@@ -13136,8 +13085,8 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("21190", commonMetadata.getRegimenAlternativeToFirstLineConcept().getConceptId());
     map.put("23898", commonMetadata.getAlternativeLineConcept().getConceptId());
 
@@ -13221,8 +13170,8 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("21190", commonMetadata.getRegimenAlternativeToFirstLineConcept().getConceptId());
     map.put("23898", commonMetadata.getAlternativeLineConcept().getConceptId());
     map.put("21151", hivMetadata.getTherapeuticLineConcept().getConceptId());
@@ -13316,9 +13265,9 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
 
     String query =
         "  SELECT vl.patient_id "
@@ -13374,7 +13323,7 @@ public class QualityImprovement2020CohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1190", hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
     map.put("35", hivMetadata.getPrevencaoPositivaSeguimentoEncounterType().getEncounterTypeId());
 
@@ -13502,8 +13451,8 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("507", hivMetadata.getKaposiSarcomaConcept().getConceptId());
     map.put("1406", hivMetadata.getOtherDiagnosis().getConceptId());
 
@@ -13609,7 +13558,7 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("21151", hivMetadata.getTherapeuticLineConcept().getConceptId());
     map.put("21150", hivMetadata.getFirstLineConcept().getConceptId());
 
@@ -13681,7 +13630,7 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1268", hivMetadata.getTBTreatmentPlanConcept().getConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
 
@@ -13744,7 +13693,7 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
 
@@ -13784,12 +13733,12 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
     map.put("1707", hivMetadata.getAbandonedConcept().getConceptId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         "SELECT restarted.patient_id FROM ( "
@@ -13892,7 +13841,7 @@ public class QualityImprovement2020CohortQueries {
             + "GROUP BY pa.patient_id";
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
     map.put("730", hivMetadata.getCD4PercentConcept().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
@@ -14034,9 +13983,9 @@ public class QualityImprovement2020CohortQueries {
         "transferredIn",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getTransferredInPatients(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-                hivMetadata.getPatientFoundYesConcept().getConceptId(),
+                hivMetadata.getPatientFoundYesConceptId(),
                 hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
                 hivMetadata.getArtStatus().getConceptId()),
             MAPPING));
@@ -14161,7 +14110,7 @@ public class QualityImprovement2020CohortQueries {
             + "GROUP BY pa.patient_id";
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
@@ -14191,7 +14140,7 @@ public class QualityImprovement2020CohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
     map.put("730", hivMetadata.getCD4PercentConcept().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
@@ -14265,9 +14214,9 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -14337,23 +14286,21 @@ public class QualityImprovement2020CohortQueries {
         "C",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.addSearch(
         "D",
         EptsReportUtils.map(
             commonCohortQueries.getMOHPregnantORBreastfeeding(
-                commonMetadata.getBreastfeeding().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
     cd.addSearch(
         "E",
         EptsReportUtils.map(
             QualityImprovement2020Queries.getTransferredInPatients(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-                hivMetadata.getPatientFoundYesConcept().getConceptId(),
+                hivMetadata.getPatientFoundYesConceptId(),
                 hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
                 hivMetadata.getArtStatus().getConceptId()),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
@@ -14362,16 +14309,14 @@ public class QualityImprovement2020CohortQueries {
         "pregnantOnPeriod",
         EptsReportUtils.map(
             getMOHPregnantORBreastfeedingOnClinicalConsultation(
-                commonMetadata.getPregnantConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId()),
             inclusionPeriodMappings));
 
     cd.addSearch(
         "breastfeedingOnPeriod",
         EptsReportUtils.map(
             getMOHPregnantORBreastfeedingOnClinicalConsultation(
-                commonMetadata.getBreastfeeding().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                commonMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId()),
             inclusionPeriodMappings));
 
     cd.setCompositionString(
@@ -14633,13 +14578,11 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getNewMQPregnantORBreastfeeding(
-            hivMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getNewMQPregnantORBreastfeeding(
-            hivMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition firstLine = getUtentesPrimeiraLinha(UtentesPrimeiraLinhaPreposition.MQ);
 
@@ -14755,13 +14698,11 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getNewMQPregnantORBreastfeeding(
-            hivMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition breastfeeding =
         commonCohortQueries.getNewMQPregnantORBreastfeeding(
-            hivMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getBreastfeeding().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition firstLine = getUtentesPrimeiraLinha(UtentesPrimeiraLinhaPreposition.MQ);
 
@@ -14837,8 +14778,7 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition pregnant =
         commonCohortQueries.getMOHPregnantORBreastfeeding(
-            commonMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            commonMetadata.getPregnantConcept().getConceptId(), hivMetadata.getYesConceptId());
 
     CohortDefinition tbDiagnosisActive = getPatientsWithTbActiveOrTbTreatment();
 
@@ -14846,9 +14786,9 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -14974,9 +14914,9 @@ public class QualityImprovement2020CohortQueries {
 
     CohortDefinition transferredIn =
         QualityImprovement2020Queries.getTransferredInPatients(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             commonMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId());
 
@@ -15044,7 +14984,7 @@ public class QualityImprovement2020CohortQueries {
             + " TIMESTAMPDIFF(DAY, restart.restart_date, :endDate) < 33 ";
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
 
@@ -15064,11 +15004,11 @@ public class QualityImprovement2020CohortQueries {
     HivMetadata hivMetadata = new HivMetadata();
     TbMetadata tbMetadata = new TbMetadata();
 
-    int encounterType1 = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+    int encounterType1 = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     int concept1 = hivMetadata.getTBSymptomsConcept().getConceptId();
-    List<Integer> values1 = Arrays.asList(hivMetadata.getPatientFoundYesConcept().getConceptId());
+    List<Integer> values1 = Arrays.asList(hivMetadata.getPatientFoundYesConceptId());
 
-    int encounterType2 = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+    int encounterType2 = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     int concept2 = tbMetadata.getObservationTB().getConceptId();
     List<Integer> values2 =
         Arrays.asList(
@@ -15160,7 +15100,7 @@ public class QualityImprovement2020CohortQueries {
     HivMetadata hivMetadata = new HivMetadata();
     TbMetadata tbMetadata = new TbMetadata();
 
-    int encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+    int encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     int concept = hivMetadata.getApplicationForLaboratoryResearch().getConceptId();
     List<Integer> values = Arrays.asList(tbMetadata.getTBGenexpertTestConcept().getConceptId());
 
@@ -15200,11 +15140,11 @@ public class QualityImprovement2020CohortQueries {
     HivMetadata hivMetadata = new HivMetadata();
     TbMetadata tbMetadata = new TbMetadata();
 
-    int encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+    int encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     int concept = hivMetadata.getApplicationForLaboratoryResearch().getConceptId();
     List<Integer> values = Arrays.asList(tbMetadata.getTBGenexpertTestConcept().getConceptId());
 
-    int encounterType2 = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+    int encounterType2 = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     int concept2 = tbMetadata.getTBGenexpertTestConcept().getConceptId();
     List<Integer> values2 =
         Arrays.asList(
@@ -15263,11 +15203,11 @@ public class QualityImprovement2020CohortQueries {
     HivMetadata hivMetadata = new HivMetadata();
     TbMetadata tbMetadata = new TbMetadata();
 
-    int encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+    int encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     int concept = hivMetadata.getApplicationForLaboratoryResearch().getConceptId();
     List<Integer> values = Arrays.asList(tbMetadata.getTBGenexpertTestConcept().getConceptId());
 
-    int encounterType2 = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+    int encounterType2 = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     int concept2 = tbMetadata.getTBGenexpertTestConcept().getConceptId();
     List<Integer> values2 =
         Arrays.asList(
@@ -15325,7 +15265,7 @@ public class QualityImprovement2020CohortQueries {
     HivMetadata hivMetadata = new HivMetadata();
     TbMetadata tbMetadata = new TbMetadata();
 
-    int encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+    int encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     int concept = hivMetadata.getApplicationForLaboratoryResearch().getConceptId();
     List<Integer> values = Arrays.asList(tbMetadata.getTBGenexpertTestConcept().getConceptId());
 
@@ -15380,9 +15320,9 @@ public class QualityImprovement2020CohortQueries {
     HivMetadata hivMetadata = new HivMetadata();
     TbMetadata tbMetadata = new TbMetadata();
 
-    int encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+    int encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     int concept = tbMetadata.getActiveTBConcept().getConceptId();
-    List<Integer> values = Arrays.asList(hivMetadata.getYesConcept().getConceptId());
+    List<Integer> values = Arrays.asList(hivMetadata.getYesConceptId());
 
     String query =
         "SELECT patient_id "
@@ -15422,13 +15362,13 @@ public class QualityImprovement2020CohortQueries {
     HivMetadata hivMetadata = new HivMetadata();
     TbMetadata tbMetadata = new TbMetadata();
 
-    int encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+    int encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     int concept = tbMetadata.getActiveTBConcept().getConceptId();
-    List<Integer> values = Arrays.asList(hivMetadata.getYesConcept().getConceptId());
+    List<Integer> values = Arrays.asList(hivMetadata.getYesConceptId());
 
-    int encounterType2 = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+    int encounterType2 = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     int concept2 = hivMetadata.getTBTreatmentPlanConcept().getConceptId();
-    List<Integer> values2 = Arrays.asList(hivMetadata.getStartDrugs().getConceptId());
+    List<Integer> values2 = Arrays.asList(hivMetadata.getStartDrugsConceptId());
 
     String query =
         "SELECT p.patient_id "
@@ -60,9 +60,9 @@ public class QualityImprovementCohortQueries {
     String query =
         QualiltyImprovementQueries.getPatientStartedTarvInInclusionPeriodWithAtLeastOneEncounter(
             hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getARVPlanConcept().getConceptId(),
             commonMetadata.getStartDrugsConcept().getConceptId(),
             hivMetadata.getARVStartDateConcept().getConceptId(),
@@ -70,7 +70,7 @@ public class QualityImprovementCohortQueries {
             hivMetadata.getPtvEtvProgram().getProgramId(),
             commonMetadata.getNumberOfWeeksPregnant().getConceptId(),
             commonMetadata.getPregnantConcept().getConceptId(),
-            commonMetadata.getYesConcept().getConceptId(),
+            commonMetadata.getYesConceptId(),
             hivMetadata.getPateintActiveArtWorkflowState().getProgramWorkflowStateId(),
             hivMetadata
                 .getTransferredOutToAnotherHealthFacilityWorkflowState()
@@ -106,8 +106,8 @@ public class QualityImprovementCohortQueries {
             hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
             hivMetadata.getARVPediatriaInitialEncounterType().getEncounterTypeId(),
             hivMetadata.getDateOfHivDiagnosisConcept().getConceptId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId()));
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId()));
 
     return sqlCohortDefinition;
   }
@@ -157,8 +157,8 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPatientWithTrackInEachTBEncounter(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
             tbMetadata.getTbScreeningConcept().getConceptId()));
 
     return sqlCohortDefinition;
@@ -210,9 +210,9 @@ public class QualityImprovementCohortQueries {
         QualiltyImprovementQueries
             .getPragnantPatientsEnrolledInARVThatStartedInInclusionPeriodPregnantSample(
                 hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+                hivMetadata.getARVPharmaciaEncounterTypeId(),
                 commonMetadata.getPregnantConcept().getConceptId(),
                 commonMetadata.getNumberOfWeeksPregnant().getConceptId(),
                 commonMetadata.getPregnancyDueDate().getConceptId(),
@@ -221,7 +221,7 @@ public class QualityImprovementCohortQueries {
                 commonMetadata.getStartDrugsConcept().getConceptId(),
                 hivMetadata.getARTProgram().getProgramId(),
                 hivMetadata.getARVStartDateConcept().getConceptId(),
-                commonMetadata.getYesConcept().getConceptId()));
+                commonMetadata.getYesConceptId()));
 
     return sqlCohortDefinition;
   }
@@ -570,8 +570,8 @@ public class QualityImprovementCohortQueries {
             .getPatientWhoStartedIsoniazidProphylaxisInInclusioPeriodAndCompleted(
                 hivMetadata.getDataInicioProfilaxiaIsoniazidaConcept().getConceptId(),
                 hivMetadata.getDataFinalizacaoProfilaxiaIsoniazidaConcept().getConceptId(),
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId()));
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId()));
 
     return sqlCohortDefinition;
   }
@@ -622,8 +622,8 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPatientWhoStartedIsoniazidProphylaxisInInclusioPeriod(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
             hivMetadata.getDataInicioProfilaxiaIsoniazidaConcept().getConceptId()));
 
     return sqlCohortDefinition;
@@ -790,8 +790,8 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPatientsWithEnconterInPeriodAndHadScreeningForSTI(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
             commonMetadata.getScreeningForSTIConcept().getConceptId()));
 
     return sqlCohortDefinition;
@@ -843,12 +843,12 @@ public class QualityImprovementCohortQueries {
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPacientsWithCD4RegisteredIn33Days(
             hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             hivMetadata
                 .getPateintActiveOnHIVCareProgramtWorkflowState()
                 .getProgramWorkflowStateId(),
             hivMetadata.getARVPediatriaInitialEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
             hivMetadata.getCD4AbsoluteOBSConcept().getConceptId()));
 
     return sqlCohortDefinition;
@@ -899,10 +899,10 @@ public class QualityImprovementCohortQueries {
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPatientsWhomStartedARVIn15Days(
             hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             hivMetadata.getARVPediatriaInitialEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getARVPlanConcept().getConceptId(),
             commonMetadata.getStartDrugsConcept().getConceptId(),
             hivMetadata.getARVStartDateConcept().getConceptId(),
@@ -958,9 +958,9 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPacientsStartedARVInAPeriodAndHadEncounter33DaysAfterBegining(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getARVPlanConcept().getConceptId(),
             commonMetadata.getStartDrugsConcept().getConceptId(),
             hivMetadata.getARVStartDateConcept().getConceptId(),
@@ -1025,9 +1025,9 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPatientsWhoHadAtLeast3EncountersIn3MonthsAfterBeginingART(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getARVPlanConcept().getConceptId(),
             commonMetadata.getStartDrugsConcept().getConceptId(),
             hivMetadata.getARVStartDateConcept().getConceptId(),
@@ -1090,9 +1090,9 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPatientWhoAtLeast3JoiningEvaluationWithin3MothsARIEL(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getARVPlanConcept().getConceptId(),
             commonMetadata.getStartDrugsConcept().getConceptId(),
             hivMetadata.getARVStartDateConcept().getConceptId(),
@@ -1158,9 +1158,9 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPacientesWithMonthEncountersAfterInitialization(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getARVPlanConcept().getConceptId(),
             commonMetadata.getStartDrugsConcept().getConceptId(),
             hivMetadata.getARVStartDateConcept().getConceptId(),
@@ -1219,9 +1219,9 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPatientsWithAPSSMonthEncountersAfterTARVInitialization(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getARVPlanConcept().getConceptId(),
             commonMetadata.getStartDrugsConcept().getConceptId(),
             hivMetadata.getARVStartDateConcept().getConceptId(),
@@ -1367,11 +1367,11 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPatientsWithCD4GreterThan200ORCVLessThan1000InLast12Months(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getMisauLaboratorioEncounterTypeId(),
             hivMetadata.getCD4AbsoluteOBSConcept().getConceptId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId()));
+            hivMetadata.getHivViralLoadConceptId()));
     return sqlCohortDefinition;
   }
   /**
@@ -1387,9 +1387,9 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPatientsInTARVMoreThan6Months(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getARVPlanConcept().getConceptId(),
             hivMetadata.getStartDrugsConcept().getConceptId(),
             hivMetadata.getARVStartDateConcept().getConceptId(),
@@ -1595,9 +1595,9 @@ public class QualityImprovementCohortQueries {
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries
             .getPatientWhichMoreThan60DaysPassedWithoutReturnAndNotNitifiedAsAbandonment(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+                hivMetadata.getARVPharmaciaEncounterTypeId(),
                 hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId(),
                 hivMetadata.getARTProgram().getProgramId(),
                 commonMetadata.getReturnVisitDateConcept().getConceptId(),
@@ -1681,9 +1681,9 @@ public class QualityImprovementCohortQueries {
             commonMetadata.getPregnancyDueDate().getConceptId(),
             commonMetadata.getNumberOfWeeksPregnant().getConceptId(),
             hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             hivMetadata.getPtvEtvProgram().getProgramId(),
-            commonMetadata.getYesConcept().getConceptId()));
+            commonMetadata.getYesConceptId()));
 
     return sqlCohortDefinition;
   }
@@ -1903,8 +1903,8 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPatientWithAtLeastOneEncounterInPeriod(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId()));
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId()));
 
     return sqlCohortDefinition;
   }
@@ -1925,8 +1925,8 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPatientsStartTuberculoseTreatmentNotComplete(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
             tbMetadata.getTBLivroEncounterType().getEncounterTypeId(),
             tbMetadata.getTBRastreioEncounterType().getEncounterTypeId(),
             tbMetadata.getTBDrugTreatmentStartDate().getConceptId(),
@@ -2041,8 +2041,8 @@ public class QualityImprovementCohortQueries {
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries
             .getPatientsWhoHadEnconterInLast7MonthAndWereMarkedToNextEncounterIn6Months(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
                 hivMetadata.getReturnVisitDateConcept().getConceptId()));
 
     return sqlCohortDefinition;
@@ -2061,7 +2061,7 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPatientsTookARVInLast5MonthAndWereMarkedToNextEncounter(
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId()));
 
     return sqlCohortDefinition;
@@ -2132,14 +2132,14 @@ public class QualityImprovementCohortQueries {
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries
             .getPatientWhoReceivedViralLoadFindingBetween6to9MonthAfterTARVStart(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+                hivMetadata.getARVPharmaciaEncounterTypeId(),
                 hivMetadata.getARVPlanConcept().getConceptId(),
                 commonMetadata.getStartDrugsConcept().getConceptId(),
                 hivMetadata.getARVStartDateConcept().getConceptId(),
                 hivMetadata.getARTProgram().getProgramId(),
-                hivMetadata.getHivViralLoadConcept().getConceptId()));
+                hivMetadata.getHivViralLoadConceptId()));
 
     return sqlCohortDefinition;
   }
@@ -2210,9 +2210,9 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPatientsWithImmunologicFailture(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getARVPlanConcept().getConceptId(),
             hivMetadata.getStartDrugsConcept().getConceptId(),
             hivMetadata.getARVStartDateConcept().getConceptId(),
@@ -2232,9 +2232,9 @@ public class QualityImprovementCohortQueries {
 
     sqlCohortDefinition.setQuery(
         QualiltyImprovementQueries.getPatientWithClinicFailtures(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getARVPlanConcept().getConceptId(),
             hivMetadata.getStartDrugsConcept().getConceptId(),
             hivMetadata.getARVStartDateConcept().getConceptId(),
@@ -50,7 +50,7 @@ public class RMPREPCohortQueries {
         RMPREPQueries.getA1(
             hivMetadata.getPrepInicialEncounterType().getEncounterTypeId(),
             hivMetadata.getAcceptStartMedicationConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId());
+            hivMetadata.getYesConceptId());
 
     sqlCohortDefinition.setQuery(query);
     return sqlCohortDefinition;
@@ -184,7 +184,7 @@ public class RMPREPCohortQueries {
             hivMetadata.getPrepSeguimentoEncounterType().getEncounterTypeId(),
             hivMetadata.getNumberOfBottlesConcept().getConceptId(),
             hivMetadata.getInitialStatusPrepUserConcept().getConceptId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getStartDrugsConceptId(),
             hivMetadata.getPrepStartDateConcept().getConceptId(),
             hivMetadata.getPrepProgram().getProgramId(),
             hivMetadata.getStateOfStayOnPrepProgram().getConceptId(),
@@ -182,7 +182,7 @@ public class ResumoMensalCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
     sqlCohortDefinition.setQuery(
         getAllPatientsWithPreArtStartDateLessThanReportingStartDate(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getPreArtStartDate().getConceptId()));
     return sqlCohortDefinition;
   }
@@ -266,7 +266,7 @@ public class ResumoMensalCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
     sqlCohortDefinition.setQuery(
         getPatientsWhoInitiatedPreArtDuringCurrentMonthWithConditions(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getPreArtStartDate().getConceptId(),
             hivMetadata.getHIVCareProgram().getProgramId(),
             hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
@@ -318,9 +318,9 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
@@ -446,14 +446,14 @@ public class ResumoMensalCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
 
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("23808", hivMetadata.getPreArtStartDate().getConceptId());
     map.put("1", hivMetadata.getHIVCareProgram().getProgramId());
     map.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
     map.put("7", hivMetadata.getARVPediatriaInitialEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
@@ -545,14 +545,14 @@ public class ResumoMensalCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
 
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("23808", hivMetadata.getPreArtStartDate().getConceptId());
     map.put("1", hivMetadata.getHIVCareProgram().getProgramId());
     map.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
     map.put("7", hivMetadata.getARVPediatriaInitialEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23761", tbMetadata.getActiveTBConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         "SELECT res.patient_id "
@@ -717,11 +717,11 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     String query =
         "       SELECT patient_id "
@@ -742,11 +742,11 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     String query =
         new EptsQueriesUtil().patientIdQueryBuilder(getPatientStartedTarvBeforeQuery()).getQuery();
@@ -798,11 +798,11 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     String query =
         new EptsQueriesUtil().patientIdQueryBuilder(getPatientStartedTarvBeforeQuery()).getQuery();
@@ -937,11 +937,11 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     String query =
         "       SELECT first.patient_id"
@@ -1306,14 +1306,13 @@ public class ResumoMensalCohortQueries {
     valuesMap.put(
         "suspendedState",
         hivMetadata.getSuspendedTreatmentWorkflowState().getProgramWorkflowStateId());
-    valuesMap.put("adultSeg", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("masterCard", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("adultSeg", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("masterCard", hivMetadata.getMasterCardEncounterTypeId());
     valuesMap.put("artStateOfStay", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     valuesMap.put("preArtStateOfStay", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     valuesMap.put("suspendedConcept", hivMetadata.getSuspendedTreatmentConcept().getConceptId());
-    valuesMap.put(
-        "childSeg", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("fila", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("childSeg", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("fila", hivMetadata.getARVPharmaciaEncounterTypeId());
 
     StringSubstitutor sub = new StringSubstitutor(valuesMap);
     cd.setQuery(sub.replace(sql));
@@ -1444,18 +1443,15 @@ public class ResumoMensalCohortQueries {
             + "        )";
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put(
-        "adultoSeguimento", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("masterCard", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("adultoSeguimento", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("masterCard", hivMetadata.getMasterCardEncounterTypeId());
     valuesMap.put("preArtStateOfStay", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     valuesMap.put("artStateOfStay", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     valuesMap.put("patientDeadConcept", hivMetadata.getPatientHasDiedConcept().getConceptId());
     valuesMap.put("arvProgram", hivMetadata.getARTProgram().getProgramId());
     valuesMap.put("deadState", hivMetadata.getArtDeadWorkflowState().getProgramWorkflowStateId());
-    valuesMap.put(
-        "pediatriaSeguimento",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("farmacia", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("pediatriaSeguimento", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("farmacia", hivMetadata.getARVPharmaciaEncounterTypeId());
 
     StringSubstitutor sub = new StringSubstitutor(valuesMap);
     cd.setQuery(sub.replace(sql));
@@ -1811,9 +1807,9 @@ public class ResumoMensalCohortQueries {
     cd.setQuery(
         String.format(
             query,
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+            hivMetadata.getArtDatePickupMasterCardConceptId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId()));
     return cd;
   }
@@ -1825,9 +1821,9 @@ public class ResumoMensalCohortQueries {
     transferredIn.addParameter(new Parameter("location", "location", Location.class));
     transferredIn.setQuery(
         getPatientsTransferredFromAnotherHealthFacilityByEndOfPreviousMonth(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getTypeOfPatientTransferredFrom().getConceptId(),
             hivMetadata.getArtStatus().getConceptId(),
             hivMetadata.getARTProgram().getProgramId(),
@@ -1925,11 +1921,9 @@ public class ResumoMensalCohortQueries {
     definition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("tbSymptomsConcept", tbMetadata.getHasTbSymptomsConcept().getConceptId());
-    map.put("yesConcept", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("yesConcept", hivMetadata.getPatientFoundYesConceptId());
     map.put("noConcept", hivMetadata.getNoConcept().getConceptId());
     String query =
         "SELECT form.patient_id FROM "
@@ -2131,9 +2125,9 @@ public class ResumoMensalCohortQueries {
     definition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23761", tbMetadata.getActiveTBConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     String query =
         "SELECT pt.patient_id "
             + "FROM   ( "
@@ -2204,7 +2198,7 @@ public class ResumoMensalCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
     sqlCohortDefinition.setQuery(
         getPatientsWhoInitiatedPreArtDuringCurrentMonthWithConditions(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getPreArtStartDate().getConceptId(),
             hivMetadata.getHIVCareProgram().getProgramId(),
             hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
@@ -2241,9 +2235,9 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
@@ -2536,8 +2530,8 @@ public class ResumoMensalCohortQueries {
     definition.setQuery(
         String.format(
             query,
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId()));
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+            hivMetadata.getArtDatePickupMasterCardConceptId()));
 
     definition.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     definition.addParameter(new Parameter("location", "location", Location.class));
@@ -2568,7 +2562,7 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
     cd.setQuery(
         GenericCohortQueries.getPatientsWithCodedObsValueDatetimeBeforeEndDate(
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId()));
     return cd;
   }
@@ -2627,9 +2621,9 @@ public class ResumoMensalCohortQueries {
             genericCohortQueries.generalSql(
                 "E1x",
                 getE1ExclusionCriteria(
-                    hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                    hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                     hivMetadata.getApplicationForLaboratoryResearch().getConceptId(),
-                    hivMetadata.getHivViralLoadConcept().getConceptId())),
+                    hivMetadata.getHivViralLoadConceptId())),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
 
     cd.setCompositionString("(common AND F) AND NOT E1x");
@@ -2707,7 +2701,7 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
     cd.setQuery(
         ResumoMensalQueries.getPatientsWithCodedObsAndAnswers(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             question.getConceptId(),
             answer.getConceptId()));
     return cd;
@@ -2726,9 +2720,9 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
     cd.setQuery(
         ResumoMensalQueries.getPatientsWithTBScreening(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             tbMetadata.getHasTbSymptomsConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
+            hivMetadata.getPatientFoundYesConceptId(),
             hivMetadata.getNoConcept().getConceptId(),
             tbMetadata.getTBTreatmentPlanConcept().getConceptId()));
     return cd;
@@ -2747,8 +2741,8 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
     cd.setQuery(
         getPatientsHavingViralLoadResults(
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()));
+            hivMetadata.getHivViralLoadConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId()));
     return cd;
   }
 
@@ -2768,8 +2762,7 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
     cd.setQuery(
         ResumoMensalQueries.gePatientsWithCodedObs(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            question.getConceptId()));
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(), question.getConceptId()));
     return cd;
   }
 
@@ -2895,8 +2888,8 @@ public class ResumoMensalCohortQueries {
             genericCohortQueries.generalSql(
                 "Ex2",
                 getE2ExclusionCriteria(
-                    hivMetadata.getHivViralLoadConcept().getConceptId(),
-                    hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                    hivMetadata.getHivViralLoadConceptId(),
+                    hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                     hivMetadata.getHivViralLoadQualitative().getConceptId())),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
 
@@ -2966,8 +2959,8 @@ public class ResumoMensalCohortQueries {
             genericCohortQueries.generalSql(
                 "Ex3",
                 getE3ExclusionCriteria(
-                    hivMetadata.getHivViralLoadConcept().getConceptId(),
-                    hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                    hivMetadata.getHivViralLoadConceptId(),
+                    hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                     hivMetadata.getHivViralLoadQualitative().getConceptId())),
             "startDate=${startDate},endDate=${endDate},location=${location}"));
 
@@ -2988,8 +2981,8 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
     cd.setQuery(
         getPatientsHavingViralLoadSuppression(
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()));
+            hivMetadata.getHivViralLoadConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId()));
     return cd;
   }
 
@@ -3031,8 +3024,7 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("endDate", "End Date", Date.class));
     cd.addParameter(new Parameter("location", "Location", Location.class));
     cd.setQuery(
-        getPatientsWithGivenEncounterType(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()));
+        getPatientsWithGivenEncounterType(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
     return cd;
   }
 
@@ -3061,7 +3053,7 @@ public class ResumoMensalCohortQueries {
     sqlEncounterQuery.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
 
     String query =
         "SELECT e.encounter_id "
@@ -3087,9 +3079,9 @@ public class ResumoMensalCohortQueries {
     sqlEncounterQuery.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23758", tbMetadata.getHasTbSymptomsConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("1268", tbMetadata.getTBTreatmentPlanConcept().getConceptId());
 
@@ -3257,9 +3249,9 @@ public class ResumoMensalCohortQueries {
 
     cd.setQuery(
         ResumoMensalQueries.getPatientsRegisteredAsTransferredInDuringTheStatisticalYear(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId(),
             hivMetadata.getARTProgram().getProgramId(),
             hivMetadata
@@ -3280,8 +3272,7 @@ public class ResumoMensalCohortQueries {
     sql.addParameter(new Parameter("startDate", "Start Date", Date.class));
     sql.addParameter(new Parameter("endDate", "End Date", Date.class));
     sql.addParameter(new Parameter("location", "Location", Location.class));
-    sql.setQuery(
-        getF3Exclusion(hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()));
+    sql.setQuery(getF3Exclusion(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
 
     return sql;
   }
@@ -3301,8 +3292,8 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("endDate", "End Date", Date.class));
     cd.setQuery(
         ResumoMensalQueries.getPatientsWithFirstClinicalConsultationOnTheSameDateAsPreArtStartDate(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             hivMetadata.getPreArtStartDate().getConceptId()));
     return cd;
   }
@@ -3404,11 +3395,11 @@ public class ResumoMensalCohortQueries {
     cd.setQuery(
         getNumberOfPatientsWhoAbandonedArtBySpecifiedDateB7(
             hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
+            hivMetadata.getArtDatePickupMasterCardConceptId(),
             hivMetadata.getArtPickupConcept().getConceptId(),
-            hivMetadata.getPatientFoundYesConcept().getConceptId(),
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId()));
+            hivMetadata.getPatientFoundYesConceptId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId()));
     return cd;
   }
 
@@ -3452,11 +3443,11 @@ public class ResumoMensalCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
 
     String sql =
         "SELECT final.patient_id "
@@ -3527,9 +3518,9 @@ public class ResumoMensalCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
 
     String sql =
         "SELECT p.patient_id "
@@ -3789,9 +3780,9 @@ public class ResumoMensalCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
     cd.setQuery(
         ResumoMensalQueries.getPatientsWhoAreTransferredIn(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getTransferFromOtherFacilityConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId(),
             hivMetadata.getARTProgram().getProgramId(),
             hivMetadata
@@ -3849,17 +3840,17 @@ public class ResumoMensalCohortQueries {
         hivMetadata
             .getTransferredOutToAnotherHealthFacilityWorkflowState()
             .getProgramWorkflowStateId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
 
     String query =
@@ -4017,17 +4008,17 @@ public class ResumoMensalCohortQueries {
         hivMetadata
             .getTransferredOutToAnotherHealthFacilityWorkflowState()
             .getProgramWorkflowStateId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
 
     String query =
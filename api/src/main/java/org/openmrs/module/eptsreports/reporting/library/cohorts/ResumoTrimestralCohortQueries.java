@@ -289,14 +289,14 @@ public class ResumoTrimestralCohortQueries {
         ResumoTrimestralQueries.getPatientsWhoSuspendedTreatment(
             hivMetadata.getARTProgram().getProgramId(),
             hivMetadata.getSuspendedTreatmentWorkflowState().getProgramWorkflowStateId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayOfPreArtPatient().getConceptId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getSuspendedTreatmentConcept().getConceptId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId()));
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+            hivMetadata.getArtDatePickupMasterCardConceptId()));
 
     CompositionCohortDefinition comp = new CompositionCohortDefinition();
     comp.setName("I indicator - Suspended Patients");
@@ -365,7 +365,7 @@ public class ResumoTrimestralCohortQueries {
     cd.setQuery(
         ResumoTrimestralQueries
             .getPatientsWithLastTherapeuticLineEqualsToFirstLineOrWithoutInformation(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 hivMetadata.getTherapeuticLineConcept().getConceptId(),
                 hivMetadata.getFirstLineConcept().getConceptId()));
     return cd;
@@ -425,8 +425,8 @@ public class ResumoTrimestralCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
     sqlCohortDefinition.setQuery(
         ResumoTrimestralQueries.getPatientsWhoReceivedOneViralLoadResult(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
             hivMetadata.getHivViralLoadQualitative().getConceptId()));
 
     return sqlCohortDefinition;
@@ -457,7 +457,7 @@ public class ResumoTrimestralCohortQueries {
     sql.setQuery(
         ResumoTrimestralQueries
             .getPatientsWithLastObsInSecondTherapeuticLineInMasterCardFichaClinicaBeforeMonthEndDate(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 hivMetadata.getTherapeuticLineConcept().getConceptId(),
                 hivMetadata.getSecondLineConcept().getConceptId()));
     return sql;
@@ -491,15 +491,15 @@ public class ResumoTrimestralCohortQueries {
             hivMetadata
                 .getTransferredOutToAnotherHealthFacilityWorkflowState()
                 .getProgramWorkflowStateId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayOfPreArtPatient().getConceptId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getTransferredOutConcept().getConceptId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId()));
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+            hivMetadata.getArtDatePickupMasterCardConceptId()));
     return cd;
   }
 
@@ -530,14 +530,14 @@ public class ResumoTrimestralCohortQueries {
             hivMetadata.getNoConcept().getConceptId(),
             hivMetadata.getReasonPatientNotFound().getConceptId(),
             hivMetadata.getPatientIsDead().getConceptId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
             hivMetadata.getStateOfStayOfPreArtPatient().getConceptId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getPatientHasDiedConcept().getConceptId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId()));
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
+            hivMetadata.getArtDatePickupMasterCardConceptId()));
     return cd;
   }
 }
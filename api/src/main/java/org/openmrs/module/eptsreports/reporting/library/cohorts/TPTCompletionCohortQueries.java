@@ -108,23 +108,22 @@ public class TPTCompletionCohortQueries {
 
     CohortDefinition A1Inh =
         getINHStartA2Part2(
-            Collections.singletonList(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId()),
-            tbMetadata.getRegimeTPTConcept().getConceptId(),
+            Collections.singletonList(hivMetadata.getMasterCardEncounterTypeId()),
+            tbMetadata.getRegimeTPTConceptId(),
             tbMetadata.getIsoniazidConcept().getConceptId(),
             tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getStartDrugsConceptId(),
             false);
 
     CohortDefinition A2Inh =
         getINHStartA2Part2(
             Arrays.asList(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId()),
-            tbMetadata.getRegimeTPTConcept().getConceptId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId()),
+            tbMetadata.getRegimeTPTConceptId(),
             tbMetadata.getIsoniazidConcept().getConceptId(),
             tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getStartDrugsConceptId(),
             false);
 
     compositionCohortDefinition.addSearch("A1", EptsReportUtils.map(A1Inh, mapping3));
@@ -146,11 +145,11 @@ public class TPTCompletionCohortQueries {
         "B5Part1",
         EptsReportUtils.map(
             tptEligiblePatientListCohortQueries.getIPTB5Part1(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getStartDrugs().getConceptId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getStartDrugsConceptId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
                 hivMetadata.getContinueRegimenConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId(),
+                hivMetadata.getYesConceptId(),
                 false),
             mapping3));
 
@@ -158,9 +157,9 @@ public class TPTCompletionCohortQueries {
         "B5Part2",
         EptsReportUtils.map(
             tptEligiblePatientListCohortQueries.getIPTB5Part2(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getStartDrugs().getConceptId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getStartDrugsConceptId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
                 hivMetadata.getContinueRegimenConcept().getConceptId(),
                 tbMetadata.getTreatmentPrescribedConcept().getConceptId(),
                 tbMetadata.getDtINHConcept().getConceptId(),
@@ -171,9 +170,9 @@ public class TPTCompletionCohortQueries {
         "B5Part3",
         EptsReportUtils.map(
             tptEligiblePatientListCohortQueries.getIPTB5Part3(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getStartDrugs().getConceptId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getStartDrugsConceptId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
                 hivMetadata.getContinueRegimenConcept().getConceptId(),
                 tbMetadata.getTreatmentPrescribedConcept().getConceptId(),
                 tbMetadata.getDtINHConcept().getConceptId(),
@@ -185,7 +184,7 @@ public class TPTCompletionCohortQueries {
         EptsReportUtils.map(
             tptEligiblePatientListCohortQueries.getIPTB6Part1(
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.getIsoniazidConcept().getConceptId(),
                 tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId(),
                 hivMetadata.getMonthlyConcept().getConceptId(),
@@ -198,7 +197,7 @@ public class TPTCompletionCohortQueries {
         EptsReportUtils.map(
             getIPTB6Part2(
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.getIsoniazidConcept().getConceptId(),
                 tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId(),
                 tbMetadata.getTypeDispensationTPTConceptUuid().getConceptId(),
@@ -211,7 +210,7 @@ public class TPTCompletionCohortQueries {
         EptsReportUtils.map(
             tptEligiblePatientListCohortQueries.getIPTB6Part3(
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.getIsoniazidConcept().getConceptId(),
                 tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId(),
                 hivMetadata.getMonthlyConcept().getConceptId(),
@@ -246,7 +245,7 @@ public class TPTCompletionCohortQueries {
         "D2",
         EptsReportUtils.map(
             tptEligiblePatientListCohortQueries.get3HPC1(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getTreatmentPrescribedConcept().getConceptId(),
                 false),
@@ -256,7 +255,7 @@ public class TPTCompletionCohortQueries {
         "D3",
         EptsReportUtils.map(
             tptEligiblePatientListCohortQueries.get3HPC1part2(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getTreatmentPrescribedConcept().getConceptId(),
                 false),
@@ -268,7 +267,7 @@ public class TPTCompletionCohortQueries {
             tptEligiblePatientListCohortQueries.get3HPC2(
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.get3HPPiridoxinaConcept().getConceptId(),
                 tbMetadata.getTypeDispensationTPTConceptUuid().getConceptId(),
                 hivMetadata.getQuarterlyConcept().getConceptId(),
@@ -281,7 +280,7 @@ public class TPTCompletionCohortQueries {
             tptEligiblePatientListCohortQueries.get3HPC3(
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.get3HPPiridoxinaConcept().getConceptId(),
                 tbMetadata.getTypeDispensationTPTConceptUuid().getConceptId(),
                 hivMetadata.getMonthlyConcept().getConceptId(),
@@ -313,23 +312,22 @@ public class TPTCompletionCohortQueries {
 
     CohortDefinition A1Inh =
         getINHStartA2Part2(
-            Collections.singletonList(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId()),
-            tbMetadata.getRegimeTPTConcept().getConceptId(),
+            Collections.singletonList(hivMetadata.getMasterCardEncounterTypeId()),
+            tbMetadata.getRegimeTPTConceptId(),
             tbMetadata.getIsoniazidConcept().getConceptId(),
             tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getStartDrugsConceptId(),
             true);
 
     CohortDefinition A2Inh =
         getINHStartA2Part2(
             Arrays.asList(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId()),
-            tbMetadata.getRegimeTPTConcept().getConceptId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId()),
+            tbMetadata.getRegimeTPTConceptId(),
             tbMetadata.getIsoniazidConcept().getConceptId(),
             tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId(),
-            hivMetadata.getStartDrugs().getConceptId(),
+            hivMetadata.getStartDrugsConceptId(),
             true);
 
     definition.addSearch("A1", EptsReportUtils.map(A1Inh, mapping3));
@@ -350,11 +348,11 @@ public class TPTCompletionCohortQueries {
         "B5Part1",
         EptsReportUtils.map(
             tptEligiblePatientListCohortQueries.getIPTB5Part1(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getStartDrugs().getConceptId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getStartDrugsConceptId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
                 hivMetadata.getContinueRegimenConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId(),
+                hivMetadata.getYesConceptId(),
                 true),
             mapping3));
 
@@ -362,9 +360,9 @@ public class TPTCompletionCohortQueries {
         "B5Part2",
         EptsReportUtils.map(
             tptEligiblePatientListCohortQueries.getIPTB5Part2(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getStartDrugs().getConceptId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getStartDrugsConceptId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
                 hivMetadata.getContinueRegimenConcept().getConceptId(),
                 tbMetadata.getTreatmentPrescribedConcept().getConceptId(),
                 tbMetadata.getDtINHConcept().getConceptId(),
@@ -375,9 +373,9 @@ public class TPTCompletionCohortQueries {
         "B5Part3",
         EptsReportUtils.map(
             tptEligiblePatientListCohortQueries.getIPTB5Part3(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getStartDrugs().getConceptId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getStartDrugsConceptId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
                 hivMetadata.getContinueRegimenConcept().getConceptId(),
                 tbMetadata.getTreatmentPrescribedConcept().getConceptId(),
                 tbMetadata.getDtINHConcept().getConceptId(),
@@ -389,7 +387,7 @@ public class TPTCompletionCohortQueries {
         EptsReportUtils.map(
             tptEligiblePatientListCohortQueries.getIPTB6Part1(
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.getIsoniazidConcept().getConceptId(),
                 tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId(),
                 hivMetadata.getMonthlyConcept().getConceptId(),
@@ -402,7 +400,7 @@ public class TPTCompletionCohortQueries {
         EptsReportUtils.map(
             getIPTB6Part2(
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.getIsoniazidConcept().getConceptId(),
                 tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId(),
                 tbMetadata.getTypeDispensationTPTConceptUuid().getConceptId(),
@@ -415,7 +413,7 @@ public class TPTCompletionCohortQueries {
         EptsReportUtils.map(
             tptEligiblePatientListCohortQueries.getIPTB6Part3(
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.getIsoniazidConcept().getConceptId(),
                 tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId(),
                 hivMetadata.getMonthlyConcept().getConceptId(),
@@ -435,7 +433,7 @@ public class TPTCompletionCohortQueries {
         "D2",
         EptsReportUtils.map(
             tptEligiblePatientListCohortQueries.get3HPC1(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getTreatmentPrescribedConcept().getConceptId(),
                 true),
@@ -445,7 +443,7 @@ public class TPTCompletionCohortQueries {
         "D3",
         EptsReportUtils.map(
             tptEligiblePatientListCohortQueries.get3HPC1part2(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getTreatmentPrescribedConcept().getConceptId(),
                 true),
@@ -457,7 +455,7 @@ public class TPTCompletionCohortQueries {
             tptEligiblePatientListCohortQueries.get3HPC2(
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.get3HPPiridoxinaConcept().getConceptId(),
                 tbMetadata.getTypeDispensationTPTConceptUuid().getConceptId(),
                 hivMetadata.getQuarterlyConcept().getConceptId(),
@@ -470,7 +468,7 @@ public class TPTCompletionCohortQueries {
             tptEligiblePatientListCohortQueries.get3HPC3(
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.get3HPPiridoxinaConcept().getConceptId(),
                 tbMetadata.getTypeDispensationTPTConceptUuid().getConceptId(),
                 hivMetadata.getMonthlyConcept().getConceptId(),
@@ -756,16 +754,16 @@ public class TPTCompletionCohortQueries {
 
     Map<String, Integer> valuesMap = new HashMap<>();
     valuesMap.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    valuesMap.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    valuesMap.put("23985", tbMetadata.getRegimeTPTConceptId());
     valuesMap.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     valuesMap.put("23982", tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId());
     valuesMap.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
     valuesMap.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
     valuesMap.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("1705", hivMetadata.getRestartConcept().getConceptId());
 
     EptsQueriesUtil patientBuilder = new EptsQueriesUtil();
@@ -1129,11 +1127,11 @@ public class TPTCompletionCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("23982", tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId());
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
 
     String query =
@@ -1185,7 +1183,7 @@ public class TPTCompletionCohortQueries {
     Map<String, Integer> valuesMap = new HashMap<>();
     valuesMap.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
     valuesMap.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
 
     String query =
         "SELECT p.patient_id "
@@ -1236,11 +1234,11 @@ public class TPTCompletionCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("23984", tbMetadata.get3HPPiridoxinaConcept().getConceptId());
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
 
     String query =
@@ -1295,17 +1293,17 @@ public class TPTCompletionCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23984", tbMetadata.get3HPPiridoxinaConcept().getConceptId());
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
@@ -1409,12 +1407,11 @@ public class TPTCompletionCohortQueries {
         "C4",
         EptsReportUtils.map(
             getINHStartA1ForAnyEncounterType(
-                Collections.singletonList(
-                    hivMetadata.getMasterCardEncounterType().getEncounterTypeId()),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                Collections.singletonList(hivMetadata.getMasterCardEncounterTypeId()),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId(),
-                Collections.singletonList(hivMetadata.getStartDrugs().getConceptId()),
+                Collections.singletonList(hivMetadata.getStartDrugsConceptId()),
                 duringPeriod),
             mapping3));
 
@@ -1445,12 +1442,11 @@ public class TPTCompletionCohortQueries {
         "C5",
         EptsReportUtils.map(
             getINHStartA1ForAnyEncounterType(
-                Collections.singletonList(
-                    hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                Collections.singletonList(hivMetadata.getAdultoSeguimentoEncounterTypeId()),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId(),
-                Collections.singletonList(hivMetadata.getStartDrugs().getConceptId()),
+                Collections.singletonList(hivMetadata.getStartDrugsConceptId()),
                 duringPeriod),
             mapping3));
 
@@ -1531,7 +1527,7 @@ public class TPTCompletionCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("23984", tbMetadata.get3HPPiridoxinaConcept().getConceptId());
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
@@ -1604,7 +1600,7 @@ public class TPTCompletionCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("23984", tbMetadata.get3HPPiridoxinaConcept().getConceptId());
 
@@ -1658,12 +1654,12 @@ public class TPTCompletionCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("23984", tbMetadata.get3HPPiridoxinaConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
 
@@ -1719,8 +1715,8 @@ public class TPTCompletionCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
 
     String query =
@@ -1781,13 +1777,13 @@ public class TPTCompletionCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23984", tbMetadata.get3HPPiridoxinaConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("6129", hivMetadata.getDataFinalizacaoProfilaxiaIsoniazidaConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
@@ -1887,13 +1883,13 @@ public class TPTCompletionCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
 
     String query =
         " SELECT p.patient_id FROM patient p    "
@@ -1988,14 +1984,14 @@ public class TPTCompletionCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23984", tbMetadata.get3HPPiridoxinaConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
 
     String query =
@@ -2112,11 +2108,11 @@ public class TPTCompletionCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23984", tbMetadata.get3HPPiridoxinaConcept().getConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
 
@@ -2242,12 +2238,12 @@ public class TPTCompletionCohortQueries {
             get3HPD4A(
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.get3HPPiridoxinaConcept().getConceptId(),
                 tbMetadata.getTypeDispensationTPTConceptUuid().getConceptId(),
                 hivMetadata.getQuarterlyConcept().getConceptId(),
                 hivMetadata.getPatientTreatmentFollowUp().getConceptId(),
-                hivMetadata.getStartDrugs().getConceptId(),
+                hivMetadata.getStartDrugsConceptId(),
                 hivMetadata.getRestartConcept().getConceptId()),
             mapping));
     compositionCohortDefinition.addSearch(
@@ -2256,7 +2252,7 @@ public class TPTCompletionCohortQueries {
             get3HPD4B(
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.get3HPPiridoxinaConcept().getConceptId(),
                 tbMetadata.getTypeDispensationTPTConceptUuid().getConceptId(),
                 hivMetadata.getMonthlyConcept().getConceptId()),
@@ -2543,13 +2539,13 @@ public class TPTCompletionCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("23982", tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
@@ -2629,11 +2625,11 @@ public class TPTCompletionCohortQueries {
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
@@ -2718,14 +2714,14 @@ public class TPTCompletionCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
     map.put("23982", tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId());
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
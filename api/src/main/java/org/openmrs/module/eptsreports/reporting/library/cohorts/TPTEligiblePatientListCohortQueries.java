@@ -11,6 +11,7 @@ import org.openmrs.module.eptsreports.metadata.HivMetadata;
 import org.openmrs.module.eptsreports.metadata.TbMetadata;
 import org.openmrs.module.eptsreports.reporting.calculation.tpt.CompletedIsoniazidTPTCalculation;
 import org.openmrs.module.eptsreports.reporting.cohort.definition.CalculationCohortDefinition;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.SharedCohortDefinition;
 import org.openmrs.module.eptsreports.reporting.library.queries.TPTCompletionQueries;
 import org.openmrs.module.eptsreports.reporting.library.queries.TPTEligiblePatientsQueries;
 import org.openmrs.module.eptsreports.reporting.utils.EptsQueriesUtil;
@@ -85,22 +86,22 @@ public class TPTEligiblePatientListCohortQueries {
         "A1",
         EptsReportUtils.map(
             getINHStartA1(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getIsoniazidConcept().getConceptId(),
                 tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId(),
-                hivMetadata.getStartDrugs().getConceptId()),
+                hivMetadata.getStartDrugsConceptId()),
             mapping));
 
     compositionCohortDefinition.addSearch(
         "A2",
         EptsReportUtils.map(
             getINHStartA2(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getStartDrugs().getConceptId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+                hivMetadata.getStartDrugsConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.getIsoniazidConcept().getConceptId(),
                 tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId()),
             mapping));
@@ -109,15 +110,15 @@ public class TPTEligiblePatientListCohortQueries {
         "A4",
         EptsReportUtils.map(
             getINHStartA4(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.getIsoniazidConcept().getConceptId(),
                 hivMetadata.getContinueRegimenConcept().getConceptId(),
                 tbMetadata.getTreatmentFollowUpTPTConcept().getConceptId(),
                 hivMetadata.getDataInicioProfilaxiaIsoniazidaConcept().getConceptId(),
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 hivMetadata.getStartDrugsConcept().getConceptId(),
                 tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId()),
             mapping));
@@ -127,7 +128,7 @@ public class TPTEligiblePatientListCohortQueries {
         EptsReportUtils.map(
             getINHStartA5(
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.getIsoniazidConcept().getConceptId(),
                 tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId(),
                 tbMetadata.getTreatmentFollowUpTPTConcept().getConceptId(),
@@ -139,10 +140,10 @@ public class TPTEligiblePatientListCohortQueries {
         "threeHPA1",
         EptsReportUtils.map(
             get3HPStartA1(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 tbMetadata.getTreatmentPrescribedConcept().getConceptId(),
                 tbMetadata.get3HPConcept().getConceptId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
                 tbMetadata.get3HPPiridoxinaConcept().getConceptId()),
             mapping));
@@ -152,10 +153,10 @@ public class TPTEligiblePatientListCohortQueries {
         EptsReportUtils.map(
             get3HPStartA2(
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.get3HPPiridoxinaConcept().getConceptId(),
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 tbMetadata.getTreatmentPrescribedConcept().getConceptId()),
             mapping));
 
@@ -164,7 +165,7 @@ public class TPTEligiblePatientListCohortQueries {
         EptsReportUtils.map(
             get3HPStartA3(
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.get3HPPiridoxinaConcept().getConceptId(),
                 hivMetadata.getStartDrugsConcept().getConceptId(),
@@ -198,13 +199,13 @@ public class TPTEligiblePatientListCohortQueries {
         "IPTB2",
         EptsReportUtils.map(
             getIPTB2(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getStartDrugs().getConceptId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getStartDrugsConceptId(),
                 hivMetadata.getCompletedConcept().getConceptId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.getIsoniazidConcept().getConceptId(),
                 tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId(),
                 false),
@@ -214,11 +215,11 @@ public class TPTEligiblePatientListCohortQueries {
         "IPTB5Part1",
         EptsReportUtils.map(
             getIPTB5Part1(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getStartDrugs().getConceptId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getStartDrugsConceptId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
                 hivMetadata.getContinueRegimenConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId(),
+                hivMetadata.getYesConceptId(),
                 false),
             "endDate=${endDate},location=${location}"));
 
@@ -226,9 +227,9 @@ public class TPTEligiblePatientListCohortQueries {
         "IPTB5Part2",
         EptsReportUtils.map(
             getIPTB5Part2(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getStartDrugs().getConceptId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getStartDrugsConceptId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
                 hivMetadata.getContinueRegimenConcept().getConceptId(),
                 tbMetadata.getTreatmentPrescribedConcept().getConceptId(),
                 tbMetadata.getDtINHConcept().getConceptId(),
@@ -239,9 +240,9 @@ public class TPTEligiblePatientListCohortQueries {
         "IPTBPart3",
         EptsReportUtils.map(
             getIPTB5Part3(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getStartDrugs().getConceptId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getStartDrugsConceptId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
                 hivMetadata.getContinueRegimenConcept().getConceptId(),
                 tbMetadata.getTreatmentPrescribedConcept().getConceptId(),
                 tbMetadata.getDtINHConcept().getConceptId(),
@@ -253,7 +254,7 @@ public class TPTEligiblePatientListCohortQueries {
         EptsReportUtils.map(
             getIPTB6Part1(
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.getIsoniazidConcept().getConceptId(),
                 tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId(),
                 hivMetadata.getMonthlyConcept().getConceptId(),
@@ -266,7 +267,7 @@ public class TPTEligiblePatientListCohortQueries {
         EptsReportUtils.map(
             getIPTB6Part2(
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.getIsoniazidConcept().getConceptId(),
                 tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId(),
                 tbMetadata.getTypeDispensationTPTConceptUuid().getConceptId(),
@@ -278,7 +279,7 @@ public class TPTEligiblePatientListCohortQueries {
         EptsReportUtils.map(
             getIPTB6Part3(
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.getIsoniazidConcept().getConceptId(),
                 tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId(),
                 hivMetadata.getMonthlyConcept().getConceptId(),
@@ -291,7 +292,7 @@ public class TPTEligiblePatientListCohortQueries {
         "threeHPC1",
         EptsReportUtils.map(
             get3HPC1(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getTreatmentPrescribedConcept().getConceptId(),
                 false),
@@ -301,7 +302,7 @@ public class TPTEligiblePatientListCohortQueries {
         "threeHPC1part2",
         EptsReportUtils.map(
             get3HPC1part2(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getTreatmentPrescribedConcept().getConceptId(),
                 false),
@@ -313,7 +314,7 @@ public class TPTEligiblePatientListCohortQueries {
             get3HPC2(
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.get3HPPiridoxinaConcept().getConceptId(),
                 tbMetadata.getTypeDispensationTPTConceptUuid().getConceptId(),
                 hivMetadata.getQuarterlyConcept().getConceptId(),
@@ -326,7 +327,7 @@ public class TPTEligiblePatientListCohortQueries {
             get3HPC3(
                 tbMetadata.get3HPConcept().getConceptId(),
                 tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-                tbMetadata.getRegimeTPTConcept().getConceptId(),
+                tbMetadata.getRegimeTPTConceptId(),
                 tbMetadata.get3HPPiridoxinaConcept().getConceptId(),
                 tbMetadata.getTypeDispensationTPTConceptUuid().getConceptId(),
                 hivMetadata.getMonthlyConcept().getConceptId(),
@@ -341,9 +342,9 @@ public class TPTEligiblePatientListCohortQueries {
         "TBTreatmentPart1",
         EptsReportUtils.map(
             getTBTreatmentPart1(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getStartDrugs().getConceptId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+                hivMetadata.getStartDrugsConceptId(),
                 tbMetadata.getTBTreatmentPlanConcept().getConceptId(),
                 tbMetadata.getTBDrugTreatmentStartDate().getConceptId()),
             mapping));
@@ -352,8 +353,8 @@ public class TPTEligiblePatientListCohortQueries {
         "TBTreatmentPart2",
         EptsReportUtils.map(
             getTBTreatmentPart2(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
                 tbMetadata.getPulmonaryTB().getConceptId()),
             mapping));
 
@@ -369,8 +370,8 @@ public class TPTEligiblePatientListCohortQueries {
         "TBTreatmentPart4",
         EptsReportUtils.map(
             getTBTreatmentPart4(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                hivMetadata.getStartDrugs().getConceptId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                hivMetadata.getStartDrugsConceptId(),
                 tbMetadata.getTBTreatmentPlanConcept().getConceptId()),
             mapping));
 
@@ -378,15 +379,15 @@ public class TPTEligiblePatientListCohortQueries {
         "E1",
         EptsReportUtils.map(
             getE1(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 hivMetadata.getActiveTBConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId()),
+                hivMetadata.getYesConceptId()),
             mapping));
     compositionCohortDefinition.addSearch(
         "F",
         EptsReportUtils.map(
             getPositiveSymtomScreening(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 hivMetadata.getTBSymptomsConcept().getConceptId(),
                 tbMetadata.getObservationTB().getConceptId(),
                 tbMetadata.getFeverLastingMoraThan3Weeks().getConceptId(),
@@ -405,10 +406,10 @@ public class TPTEligiblePatientListCohortQueries {
                 tbMetadata.getPositiveConcept().getConceptId(),
                 commonMetadata.getSugestive().getConceptId(),
                 commonMetadata.getIndeterminate().getConceptId(),
-                hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId(),
-                hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getMisauLaboratorioEncounterTypeId(),
+                hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
                 tbMetadata.getTbScreeningConcept().getConceptId(),
-                hivMetadata.getYesConcept().getConceptId(),
+                hivMetadata.getYesConceptId(),
                 tbMetadata.getResearchResultConcept().getConceptId(),
                 tbMetadata.getNoConcept().getConceptId(),
                 hivMetadata.getApplicationForLaboratoryResearch().getConceptId()),
@@ -423,7 +424,7 @@ public class TPTEligiblePatientListCohortQueries {
             + "OR IPTB6Part2 OR IPTB6Part3 OR threeHPC1 OR threeHPC2 OR threeHPC3 OR threeHPC4 OR threeHPC1part2 OR "
             + "TBTreatmentPart1 OR TBTreatmentPart2 OR TBTreatmentPart3 OR TBTreatmentPart4 OR E1 OR F)");
 
-    return compositionCohortDefinition;
+    return new SharedCohortDefinition("tptEligiblePatientList", compositionCohortDefinition);
   }
 
   /**
@@ -1037,14 +1038,14 @@ public class TPTEligiblePatientListCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
     map.put("23982", tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId());
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
@@ -1205,8 +1206,8 @@ public class TPTEligiblePatientListCohortQueries {
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     map.put("23982", tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
 
@@ -1292,9 +1293,9 @@ public class TPTEligiblePatientListCohortQueries {
     map.put("1719", treatmentPrescribedConcept);
     map.put("23955", dtINHConcept);
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
 
     String query =
@@ -1381,9 +1382,9 @@ public class TPTEligiblePatientListCohortQueries {
     map.put("1719", treatmentPrescribedConcept);
     map.put("23955", dtINHConcept);
     map.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
 
     String query =
@@ -1575,11 +1576,11 @@ public class TPTEligiblePatientListCohortQueries {
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
 
@@ -1678,11 +1679,11 @@ public class TPTEligiblePatientListCohortQueries {
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
 
@@ -1785,11 +1786,11 @@ public class TPTEligiblePatientListCohortQueries {
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
 
@@ -1904,13 +1905,13 @@ public class TPTEligiblePatientListCohortQueries {
     map.put("6", adultoSeguimentoEncounterType);
     map.put("23954", threeHPConcept);
     map.put("1719", treatmentPrescribedConcept);
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23982", tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId());
     map.put("23984", tbMetadata.get3HPPiridoxinaConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
@@ -1995,13 +1996,13 @@ public class TPTEligiblePatientListCohortQueries {
     map.put("6", adultoSeguimentoEncounterType);
     map.put("23954", threeHPConcept);
     map.put("1719", treatmentPrescribedConcept);
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("23982", tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId());
     map.put("23984", tbMetadata.get3HPPiridoxinaConcept().getConceptId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
@@ -2080,15 +2081,15 @@ public class TPTEligiblePatientListCohortQueries {
     map.put("23984", hPPiridoxinaConcept);
     map.put("23986", typeDispensationTPTConceptUuid);
     map.put("23720", quarterlyConcept);
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
 
     EptsQueriesUtil unionBuilder = new EptsQueriesUtil();
@@ -2184,15 +2185,15 @@ public class TPTEligiblePatientListCohortQueries {
     map.put("23984", hPPiridoxinaConcept);
     map.put("23986", typeDispensationTPTConceptUuid);
     map.put("1098", monthlyConcept);
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
 
     EptsQueriesUtil unionBuilder = new EptsQueriesUtil();
@@ -2274,16 +2275,16 @@ public class TPTEligiblePatientListCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
     map.put("23982", tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId());
     map.put("23984", tbMetadata.get3HPPiridoxinaConcept().getConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
@@ -2349,16 +2350,16 @@ public class TPTEligiblePatientListCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("23985", tbMetadata.getRegimeTPTConceptId());
     map.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
     map.put("23982", tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId());
     map.put("23984", tbMetadata.get3HPPiridoxinaConcept().getConceptId());
     map.put("23954", tbMetadata.get3HPConcept().getConceptId());
     map.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
     map.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
     map.put("1705", hivMetadata.getRestartConcept().getConceptId());
@@ -7,6 +7,7 @@ import org.apache.commons.text.StringSubstitutor;
 import org.openmrs.Location;
 import org.openmrs.module.eptsreports.metadata.HivMetadata;
 import org.openmrs.module.eptsreports.metadata.TbMetadata;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.SharedCohortDefinition;
 import org.openmrs.module.eptsreports.reporting.utils.EptsReportUtils;
 import org.openmrs.module.eptsreports.reporting.utils.queries.PatientIdBuilder;
 import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
@@ -56,7 +57,7 @@ public class TPTInitiationCohortQueries {
 
     cd.setCompositionString("basecohort AND (A OR B)");
 
-    return cd;
+    return new SharedCohortDefinition("tptInitiation", cd);
   }
 
   public CohortDefinition get3HPStartCohort() {
@@ -169,11 +170,11 @@ public class TPTInitiationCohortQueries {
 
     Map<String, Integer> valuesMap = new HashMap<>();
     valuesMap.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    valuesMap.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    valuesMap.put("23985", tbMetadata.getRegimeTPTConceptId());
     valuesMap.put("23954", tbMetadata.get3HPConcept().getConceptId());
     valuesMap.put("23984", tbMetadata.get3HPPiridoxinaConcept().getConceptId());
     valuesMap.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
     valuesMap.put("1705", hivMetadata.getRestartConcept().getConceptId());
 
     String query =
@@ -237,11 +238,11 @@ public class TPTInitiationCohortQueries {
   public String getPatientsWithUltimaProfilaxia3hpDate() {
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    valuesMap.put("23985", tbMetadata.getRegimeTPTConceptId());
     valuesMap.put("23954", tbMetadata.get3HPConcept().getConceptId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
     valuesMap.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
 
     String query =
         "SELECT p.patient_id, o2.obs_datetime AS tpt_date "
@@ -305,11 +306,11 @@ public class TPTInitiationCohortQueries {
   public String getPatientWithProfilaxiaTpt3hpDate() {
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    valuesMap.put("23985", tbMetadata.getRegimeTPTConceptId());
     valuesMap.put("23954", tbMetadata.get3HPConcept().getConceptId());
     valuesMap.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
 
     String query =
         "SELECT p.patient_id, o2.obs_datetime AS tpt_date "
@@ -373,7 +374,7 @@ public class TPTInitiationCohortQueries {
     Map<String, Integer> valuesMap = new HashMap<>();
     valuesMap.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
     valuesMap.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
 
     String query =
         "SELECT p.patient_id, e.encounter_datetime AS tpt_date "
@@ -458,17 +459,17 @@ public class TPTInitiationCohortQueries {
   public String getPatientsWithRegimeDeTPT3HPDate() {
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    valuesMap.put("23985", tbMetadata.getRegimeTPTConceptId());
     valuesMap.put("23954", tbMetadata.get3HPConcept().getConceptId());
     valuesMap.put("23984", tbMetadata.get3HPPiridoxinaConcept().getConceptId());
     valuesMap.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
     valuesMap.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
     valuesMap.put("1719", tbMetadata.getTreatmentPrescribedConcept().getConceptId());
     valuesMap.put("165307", tbMetadata.getDT3HPConcept().getConceptId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
     valuesMap.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
     valuesMap.put("1267", hivMetadata.getCompletedConcept().getConceptId());
     valuesMap.put("1705", hivMetadata.getRestartConcept().getConceptId());
@@ -601,11 +602,11 @@ public class TPTInitiationCohortQueries {
   public String getPatientsWithFichaResumoUltimaProfilaxiaDate() {
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("23985", tbMetadata.getRegimeTPTConceptId());
     valuesMap.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     valuesMap.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
 
     String query =
         "SELECT p.patient_id, o2.obs_datetime AS tpt_date "
@@ -676,12 +677,12 @@ public class TPTInitiationCohortQueries {
   public String getPatientsWithFichaClinicaProfilaxiaINHDate() {
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("23985", tbMetadata.getRegimeTPTConceptId());
     valuesMap.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     valuesMap.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
 
     String query =
         "SELECT     p.patient_id, o2.obs_datetime AS tpt_date "
@@ -787,16 +788,16 @@ public class TPTInitiationCohortQueries {
 
     Map<String, Integer> valuesMap = new HashMap<>();
     valuesMap.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
-    valuesMap.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    valuesMap.put("23985", tbMetadata.getRegimeTPTConceptId());
     valuesMap.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     valuesMap.put("23982", tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId());
     valuesMap.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
     valuesMap.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
     valuesMap.put("165308", tbMetadata.getDataEstadoDaProfilaxiaConcept().getConceptId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
 
     String query =
         "SELECT p.patient_id, filt.start_date AS tpt_date "
@@ -917,11 +918,11 @@ public class TPTInitiationCohortQueries {
   public String getpatientswithRegimeTPTIsoniazidDate() {
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("23985", tbMetadata.getRegimeTPTConcept().getConceptId());
+    valuesMap.put("23985", tbMetadata.getRegimeTPTConceptId());
     valuesMap.put("656", tbMetadata.getIsoniazidConcept().getConceptId());
     valuesMap.put("23982", tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId());
     valuesMap.put("23987", hivMetadata.getPatientTreatmentFollowUp().getConceptId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
     valuesMap.put("1705", hivMetadata.getRestartConcept().getConceptId());
     valuesMap.put("60", tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId());
 
@@ -104,7 +104,7 @@ public class TXTBCohortQueries {
                 hivMetadata.getAdultoSeguimentoEncounterType().getId(),
                 hivMetadata.getPediatriaSeguimentoEncounterType().getId(),
                 tbMetadata.getTBTreatmentPlanConcept().getConceptId(),
-                hivMetadata.getStartDrugs().getConceptId()));
+                hivMetadata.getStartDrugsConceptId()));
     addGeneralParameters(definition);
     return definition;
   }
@@ -148,7 +148,7 @@ public class TXTBCohortQueries {
         genericCohortQueries.generalSql(
             "PULMONARYTB",
             TXTBQueries.pulmonaryTB(
-                hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+                hivMetadata.getMasterCardEncounterTypeId(),
                 hivMetadata.getOtherDiagnosis().getConceptId(),
                 tbMetadata.getPulmonaryTB().getConceptId()));
     addGeneralParameters(cd);
@@ -166,9 +166,9 @@ public class TXTBCohortQueries {
         genericCohortQueries.generalSql(
             "TBTREATMENTSTART",
             TXTBQueries.tbTreatmentStart(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 tbMetadata.getTBTreatmentPlanConcept().getConceptId(),
-                hivMetadata.getStartDrugs().getConceptId()));
+                hivMetadata.getStartDrugsConceptId()));
     addGeneralParameters(cd);
     return cd;
   }
@@ -197,9 +197,9 @@ public class TXTBCohortQueries {
         genericCohortQueries.generalSql(
             "tuberculosisSymptoms",
             TXTBQueries.tuberculosisSymptoms(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 tbMetadata.getHasTbSymptomsConcept().getConceptId(),
-                commonMetadata.getYesConcept().getConceptId(),
+                commonMetadata.getYesConceptId(),
                 commonMetadata.getNoConcept().getConceptId()));
     addGeneralParameters(cd);
     return cd;
@@ -224,9 +224,9 @@ public class TXTBCohortQueries {
         genericCohortQueries.generalSql(
             "tuberculosisSymptoms",
             TXTBQueries.tuberculosisSymptoms(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 tbMetadata.getHasTbSymptomsConcept().getConceptId(),
-                commonMetadata.getYesConcept().getConceptId(),
+                commonMetadata.getYesConceptId(),
                 null));
     addGeneralParameters(cd);
     return cd;
@@ -251,9 +251,9 @@ public class TXTBCohortQueries {
         genericCohortQueries.generalSql(
             "activeTuberculosis",
             TXTBQueries.activeTuberculosis(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 hivMetadata.getActiveTBConcept().getConceptId(),
-                commonMetadata.getYesConcept().getConceptId()));
+                commonMetadata.getYesConceptId()));
     addGeneralParameters(cd);
     return cd;
   }
@@ -284,7 +284,7 @@ public class TXTBCohortQueries {
         genericCohortQueries.generalSql(
             "tbObservation",
             TXTBQueries.tbObservation(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 tbMetadata.getObservationTB().getConceptId(),
                 tbMetadata.getFeverLastingMoraThan3Weeks().getConceptId(),
                 tbMetadata.getWeightLossOfMoreThan3KgInLastMonth().getConceptId(),
@@ -321,7 +321,7 @@ public class TXTBCohortQueries {
         genericCohortQueries.generalSql(
             "applicationForLaboratoryResearch",
             TXTBQueries.applicationForLaboratoryResearch(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+                hivMetadata.getAdultoSeguimentoEncounterTypeId(),
                 hivMetadata.getApplicationForLaboratoryResearch().getConceptId(),
                 tbMetadata.getTBGenexpertTestConcept().getConceptId(),
                 tbMetadata.getCultureTest().getConceptId(),
@@ -350,10 +350,10 @@ public class TXTBCohortQueries {
    */
   public CohortDefinition getTBGenexpertTestCohort(Integer encounterType) {
     if (encounterType == 6) {
-      encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+      encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     }
     if (encounterType == 13) {
-      encounterType = hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId();
+      encounterType = hivMetadata.getMisauLaboratorioEncounterTypeId();
     }
 
     CohortDefinition cd =
@@ -386,10 +386,10 @@ public class TXTBCohortQueries {
    */
   public CohortDefinition getCultureTest(Integer encounterType) {
     if (encounterType == 6) {
-      encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+      encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     }
     if (encounterType == 13) {
-      encounterType = hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId();
+      encounterType = hivMetadata.getMisauLaboratorioEncounterTypeId();
     }
 
     CohortDefinition cd =
@@ -410,10 +410,10 @@ public class TXTBCohortQueries {
    */
   public CohortDefinition getBkTest(Integer encounterType) {
     if (encounterType == 6) {
-      encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+      encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     }
     if (encounterType == 13) {
-      encounterType = hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId();
+      encounterType = hivMetadata.getMisauLaboratorioEncounterTypeId();
     }
 
     CohortDefinition cd =
@@ -434,10 +434,10 @@ public class TXTBCohortQueries {
    */
   public CohortDefinition rxTest(Integer encounterType) {
     if (encounterType == 6) {
-      encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+      encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     }
     if (encounterType == 13) {
-      encounterType = hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId();
+      encounterType = hivMetadata.getMisauLaboratorioEncounterTypeId();
     }
 
     CohortDefinition cd =
@@ -471,10 +471,10 @@ public class TXTBCohortQueries {
    */
   public CohortDefinition getTestTBLAM(Integer encounterType) {
     if (encounterType == 6) {
-      encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+      encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     }
     if (encounterType == 13) {
-      encounterType = hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId();
+      encounterType = hivMetadata.getMisauLaboratorioEncounterTypeId();
     }
     CohortDefinition cd =
         genericCohortQueries.generalSql(
@@ -502,10 +502,10 @@ public class TXTBCohortQueries {
    */
   public CohortDefinition getTestXRayChest(Integer encounterType) {
     if (encounterType == 6) {
-      encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+      encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     }
     if (encounterType == 13) {
-      encounterType = hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId();
+      encounterType = hivMetadata.getMisauLaboratorioEncounterTypeId();
     }
 
     CohortDefinition cd =
@@ -535,10 +535,10 @@ public class TXTBCohortQueries {
    */
   public CohortDefinition getTestBK(Integer encounterType) {
     if (encounterType == 6) {
-      encounterType = hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId();
+      encounterType = hivMetadata.getAdultoSeguimentoEncounterTypeId();
     }
     if (encounterType == 13) {
-      encounterType = hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId();
+      encounterType = hivMetadata.getMisauLaboratorioEncounterTypeId();
     }
 
     CohortDefinition cd =
@@ -574,7 +574,7 @@ public class TXTBCohortQueries {
         genericCohortQueries.generalSql(
             "ResultForBasiloscopia",
             TXTBQueries.resultForBasiloscopia(
-                hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId(),
+                hivMetadata.getMisauLaboratorioEncounterTypeId(),
                 hivMetadata.getResultForBasiloscopia().getConceptId()));
     addGeneralParameters(cd);
     return cd;
@@ -804,10 +804,10 @@ public class TXTBCohortQueries {
             "patientsWhoInitiatedTbTreatment",
             TXTBQueries.getPatientsWithObsBetweenDates(
                 hivMetadata.getTBTreatmentPlanConcept().getConceptId(),
-                hivMetadata.getStartDrugs().getConceptId(),
+                hivMetadata.getStartDrugsConceptId(),
                 Arrays.asList(
-                    hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                    hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId())));
+                    hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                    hivMetadata.getPediatriaSeguimentoEncounterTypeId())));
     addGeneralParameters(patientsWhoInitiatedTbTreatment);
 
     cd.addSearch(
@@ -903,12 +903,9 @@ public class TXTBCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<String, Integer>();
+    map.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "pediatriaSeguimentoEncounterType",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+        "pediatriaSeguimentoEncounterType", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("researchResultConcept", tbMetadata.getResearchResultConcept().getConceptId());
     map.put("positiveConcept", tbMetadata.getPositiveConcept().getConceptId());
     map.put("negativeConcept", tbMetadata.getNegativeConcept().getConceptId());
@@ -957,12 +954,9 @@ public class TXTBCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<String, Integer>();
+    map.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "pediatriaSeguimentoEncounterType",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+        "pediatriaSeguimentoEncounterType", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("researchResultConcept", tbMetadata.getResearchResultConcept().getConceptId());
     map.put("tbScreening", tbMetadata.getTbScreeningConcept().getConceptId());
     map.put("negativeConcept", tbMetadata.getNegativeConcept().getConceptId());
@@ -1032,14 +1026,11 @@ public class TXTBCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
+    map.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "pediatriaSeguimentoEncounterType",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+        "pediatriaSeguimentoEncounterType", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("tbScreeningConcept", tbMetadata.getTbScreeningConcept().getConceptId());
-    map.put("getYesConcept", commonMetadata.getYesConcept().getConceptId());
+    map.put("getYesConcept", commonMetadata.getYesConceptId());
 
     String query =
         "SELECT p.patient_id "
@@ -1398,20 +1389,14 @@ public class TXTBCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
+    map.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "pediatriaSeguimentoEncounterType",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "pharmaciaEncounterType", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+        "pediatriaSeguimentoEncounterType", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("pharmaciaEncounterType", hivMetadata.getARVPharmaciaEncounterTypeId());
     map.put(
-        "masterCardDrugPickupEncounterType",
-        hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("artDatePickup", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put(
-        "masterCardEncounterType", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+        "masterCardDrugPickupEncounterType", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("artDatePickup", hivMetadata.getArtDatePickupMasterCardConceptId());
+    map.put("masterCardEncounterType", hivMetadata.getMasterCardEncounterTypeId());
     map.put(
         "stateOfStayOfPreArtPatient", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("transferredOutConcept", hivMetadata.getTransferredOutConcept().getConceptId());
@@ -1609,18 +1594,13 @@ public class TXTBCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
+    map.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "pediatriaSeguimentoEncounterType",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+        "pediatriaSeguimentoEncounterType", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("pharmaciaEncounterType", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("artDatePickup", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put(
-        "pharmaciaEncounterType", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("artDatePickup", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put(
-        "masterCardDrugPickupEncounterType",
-        hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+        "masterCardDrugPickupEncounterType", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put(
         "returnVisitDateForArvDrugConcept",
         hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
@@ -1726,12 +1706,9 @@ public class TXTBCohortQueries {
     cd.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<String, Integer>();
+    map.put("adultoSeguimentoEncounterType", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put(
-        "adultoSeguimentoEncounterType",
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put(
-        "pediatriaSeguimentoEncounterType",
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+        "pediatriaSeguimentoEncounterType", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("tbStartTreatment", tbMetadata.getTBDrugTreatmentStartDate().getConceptId());
 
     String query =
@@ -2579,9 +2556,9 @@ public class TXTBCohortQueries {
         genericCohortQueries.generalSql(
             "xpertMtbTest",
             TXTBQueries.tbGenexpertTest(
-                hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId(),
+                hivMetadata.getMisauLaboratorioEncounterTypeId(),
                 tbMetadata.getTestXpertMtbUuidConcept().getConceptId(),
-                commonMetadata.getYesConcept().getConceptId(),
+                commonMetadata.getYesConceptId(),
                 commonMetadata.getNoConcept().getConceptId()));
     addGeneralParameters(cd);
     return cd;
@@ -2667,7 +2644,7 @@ public class TXTBCohortQueries {
     addGeneralParameters(cd);
 
     Map<String, Integer> map = new HashMap<String, Integer>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("12", tbMetadata.getXRayChest().getConceptId());
 
     String query =
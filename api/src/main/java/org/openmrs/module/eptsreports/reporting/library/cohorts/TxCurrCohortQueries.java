@@ -18,10 +18,10 @@ import org.openmrs.Location;
 import org.openmrs.api.context.Context;
 import org.openmrs.module.eptsreports.metadata.CommonMetadata;
 import org.openmrs.module.eptsreports.metadata.HivMetadata;
-import org.openmrs.module.eptsreports.reporting.calculation.txcurr.LessThan3MonthsOfArvDispensationCalculation;
-import org.openmrs.module.eptsreports.reporting.calculation.txcurr.SixMonthsAndAboveOnArvDispensationCalculation;
-import org.openmrs.module.eptsreports.reporting.calculation.txcurr.ThreeToFiveMonthsOnArtDispensationCalculation;
-import org.openmrs.module.eptsreports.reporting.cohort.definition.CalculationCohortDefinition;
+import org.openmrs.module.eptsreports.reporting.calculation.txcurr.ArvDispensationIntervalCalculation;
+import org.openmrs.module.eptsreports.reporting.calculation.txcurr.ArvDispensationIntervalCalculation.Interval;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.ClassifierCohortDefinition;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.MaterializedCohortDefinition;
 import org.openmrs.module.eptsreports.reporting.library.queries.CommonQueries;
 import org.openmrs.module.eptsreports.reporting.library.queries.TXCurrQueries;
 import org.openmrs.module.eptsreports.reporting.utils.EptsQueriesUtil;
@@ -318,9 +318,9 @@ public class TxCurrCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Facility", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         new EptsQueriesUtil()
@@ -411,9 +411,9 @@ public class TxCurrCohortQueries {
 
     patientWithSTARTDRUGSObs.setQuery(
         TXCurrQueries.getPatientWithSTARTDRUGSObsBeforeOrOnEndDate(
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
             hivMetadata.getARVPlanConcept().getConceptId(),
             hivMetadata.getStartDrugsConcept().getConceptId()));
     patientWithSTARTDRUGSObs.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
@@ -469,7 +469,7 @@ public class TxCurrCohortQueries {
 
     patientWithFirstDrugPickupEncounter.setQuery(
         TXCurrQueries.getPatientWithFirstDrugPickupEncounterBeforeOrOnEndDate(
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId()));
+            hivMetadata.getARVPharmaciaEncounterTypeId()));
     patientWithFirstDrugPickupEncounter.addParameter(
         new Parameter("onOrBefore", "onOrBefore", Date.class));
     patientWithFirstDrugPickupEncounter.addParameter(
@@ -509,8 +509,8 @@ public class TxCurrCohortQueries {
     definition.setQuery(
         String.format(
             query,
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId()));
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+            hivMetadata.getArtDatePickupMasterCardConceptId()));
 
     definition.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     definition.addParameter(new Parameter("location", "location", Location.class));
@@ -639,8 +639,8 @@ public class TxCurrCohortQueries {
 
     definition.setQuery(
         TXCurrQueries.getDeadPatientsInFichaResumeAndClinicaOfMasterCardByReportEndDate(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayPriorArtPatientConcept().getConceptId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
             hivMetadata.getPatientHasDiedConcept().getConceptId()));
@@ -675,9 +675,9 @@ public class TxCurrCohortQueries {
 
     definition.setQuery(
         TXCurrQueries.getTransferredOutPatientsInFichaResumeAndClinicaOfMasterCardByReportEndDate(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayPriorArtPatientConcept().getConceptId(),
             hivMetadata.getTransferredOutConcept().getConceptId()));
 
@@ -710,9 +710,9 @@ public class TxCurrCohortQueries {
 
     definition.setQuery(
         TXCurrQueries.getPatientSuspendedInFichaResumeAndClinicaOfMasterCardByReportEndDate(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             hivMetadata.getStateOfStayOfArtPatient().getConceptId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getStateOfStayPriorArtPatientConcept().getConceptId(),
             hivMetadata.getSuspendedTreatmentConcept().getConceptId()));
 
@@ -748,10 +748,10 @@ public class TxCurrCohortQueries {
     definition.setQuery(
         TXCurrQueries.getPatientHavingLastScheduledDrugPickupDate(
             hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             commonMetadata.getReturnVisitDateConcept().getConceptId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId(),
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
+            hivMetadata.getArtDatePickupMasterCardConceptId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
             numDays));
 
     definition.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
@@ -783,10 +783,10 @@ public class TxCurrCohortQueries {
 
     definition.setQuery(
         TXCurrQueries.getPatientWithoutScheduledDrugPickupDateMasterCardAmdArtPickup(
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
             hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId()));
+            hivMetadata.getArtDatePickupMasterCardConceptId()));
 
     definition.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     definition.addParameter(new Parameter("location", "location", Location.class));
@@ -866,7 +866,7 @@ public class TxCurrCohortQueries {
     definition.setQuery(
         String.format(
             query,
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId()));
     definition.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     definition.addParameter(new Parameter("location", "location", Location.class));
@@ -902,8 +902,8 @@ public class TxCurrCohortQueries {
     definition.setQuery(
         String.format(
             query,
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
             hivMetadata.getReturnVisitDateConcept().getConceptId()));
     definition.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     definition.addParameter(new Parameter("location", "location", Location.class));
@@ -939,7 +939,7 @@ public class TxCurrCohortQueries {
             query,
             hivMetadata.getARTProgram().getProgramId(),
             hivMetadata.getAbandonedWorkflowState().getProgramWorkflowStateId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId()));
     definition.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     definition.addParameter(new Parameter("location", "location", Location.class));
@@ -971,11 +971,11 @@ public class TxCurrCohortQueries {
 
     definition.setQuery(
         TXCurrQueries.getPatientWhoAfterMostRecentDateHaveDrusPickupOrConsultation(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId()));
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+            hivMetadata.getArtDatePickupMasterCardConceptId()));
 
     definition.addParameter(new Parameter("location", "location", Location.class));
 
@@ -1038,7 +1038,8 @@ public class TxCurrCohortQueries {
    * @return {@link CohortDefinition}
    */
   public CohortDefinition getPatientsWhoAreDead() {
-    SqlCohortDefinition defintion = new SqlCohortDefinition();
+    MaterializedCohortDefinition defintion = new MaterializedCohortDefinition();
+    defintion.setTableName("tx_curr_dead");
 
     defintion.setName("Patients who are dead");
     defintion.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
@@ -1084,7 +1085,8 @@ public class TxCurrCohortQueries {
    * @return {@link CohortDefinition}
    */
   public CohortDefinition getPatientsWhoAreTransferredOutToAnotherHf() {
-    SqlCohortDefinition defintion = new SqlCohortDefinition();
+    MaterializedCohortDefinition defintion = new MaterializedCohortDefinition();
+    defintion.setTableName("tx_curr_transferred_out");
 
     defintion.setName("Patients who are Transferred Out to another HF");
     defintion.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
@@ -1158,10 +1160,10 @@ public class TxCurrCohortQueries {
 
     defintion.setQuery(
         TXCurrQueries.getPatientWhoAfterMostRecentDateHaveDrusPickupOrConsultationComposition(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata
                 .getTransferredOutToAnotherHealthFacilityWorkflowState()
                 .getProgramWorkflowStateId(),
@@ -1190,43 +1192,23 @@ public class TxCurrCohortQueries {
 
   @DocumentedDefinition("<3, 3-5, >6 months of ARVs Dispensed")
   public CohortDefinition getPatientsWithMonthsRangeOfArvDispensationQuantity(String range) {
-    CompositionCohortDefinition cd = new CompositionCohortDefinition();
-    cd.setName("<3, 3-5, >6 months of ARVs Dispensed");
-    cd.addParameter(new Parameter("onOrBefore", "On or before Date", Date.class));
-    cd.addParameter(new Parameter("location", "Location", Location.class));
-
-    CalculationCohortDefinition cd1 =
-        new CalculationCohortDefinition(
-            "<3 months on ART",
-            Context.getRegisteredComponents(LessThan3MonthsOfArvDispensationCalculation.class)
-                .get(0));
-    cd1.addParameter(new Parameter("onOrBefore", "On or before Date", Date.class));
-    cd1.addParameter(new Parameter("location", "Location", Location.class));
-    CalculationCohortDefinition cd2 =
-        new CalculationCohortDefinition(
-            "3-5 months of ARVs dispensed",
-            Context.getRegisteredComponents(ThreeToFiveMonthsOnArtDispensationCalculation.class)
-                .get(0));
-    cd2.addParameter(new Parameter("onOrBefore", "On or before Date", Date.class));
-    cd2.addParameter(new Parameter("location", "Location", Location.class));
-    CalculationCohortDefinition cd3 =
-        new CalculationCohortDefinition(
-            "6 or more months of ARV dispensed",
-            Context.getRegisteredComponents(SixMonthsAndAboveOnArvDispensationCalculation.class)
-                .get(0));
-    cd3.addParameter(new Parameter("onOrBefore", "On or before Date", Date.class));
-    cd3.addParameter(new Parameter("location", "Location", Location.class));
-
-    cd.addSearch("1", EptsReportUtils.map(cd1, "onOrBefore=${onOrBefore},location=${location}"));
-    cd.addSearch("2", EptsReportUtils.map(cd2, "onOrBefore=${onOrBefore},location=${location}"));
-    cd.addSearch("3", EptsReportUtils.map(cd3, "onOrBefore=${onOrBefore},location=${location}"));
+    Interval interval;
     if (range.equals("<3")) {
-      cd.setCompositionString("1 AND NOT (2 OR 3)");
+      interval = Interval.LESS_THAN_3_MONTHS;
     } else if (range.equals("3-5")) {
-      cd.setCompositionString("2 AND NOT 3");
+      interval = Interval.THREE_TO_FIVE_MONTHS;
     } else if (range.equals(">6")) {
-      cd.setCompositionString("3");
+      interval = Interval.SIX_MONTHS_OR_MORE;
+    } else {
+      throw new IllegalArgumentException("Unknown ARV dispensation range " + range);
     }
+    ClassifierCohortDefinition cd =
+        new ClassifierCohortDefinition(
+            "<3, 3-5, >6 months of ARVs Dispensed",
+            Context.getRegisteredComponents(ArvDispensationIntervalCalculation.class).get(0),
+            interval);
+    cd.addParameter(new Parameter("onOrBefore", "On or before Date", Date.class));
+    cd.addParameter(new Parameter("location", "Location", Location.class));
     return cd;
   }
 
@@ -1328,8 +1310,8 @@ public class TxCurrCohortQueries {
             + " GROUP BY p.patient_id";
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
     valuesMap.put("23739", hivMetadata.getTypeOfDispensationConcept().getConceptId());
     valuesMap.put("23730", hivMetadata.getQuarterlyDispensation().getConceptId());
@@ -1466,8 +1448,8 @@ public class TxCurrCohortQueries {
             + "GROUP BY p.patient_id";
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
     valuesMap.put("23739", hivMetadata.getTypeOfDispensationConcept().getConceptId());
     valuesMap.put("23730", hivMetadata.getQuarterlyDispensation().getConceptId());
@@ -1502,9 +1484,9 @@ public class TxCurrCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
 
     String sql =
         "SELECT p.patient_id "
@@ -1673,8 +1655,8 @@ public class TxCurrCohortQueries {
             + "GROUP BY p.patient_id";
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     valuesMap.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
     valuesMap.put("23739", hivMetadata.getTypeOfDispensationConcept().getConceptId());
     valuesMap.put("23730", hivMetadata.getQuarterlyDispensation().getConceptId());
@@ -1826,9 +1808,9 @@ public class TxCurrCohortQueries {
     cd.setQuery(
         String.format(
             sb.toString(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId()));
+            hivMetadata.getARVPharmaciaEncounterTypeId()));
 
     return cd;
   }
@@ -1883,10 +1865,10 @@ public class TxCurrCohortQueries {
     definition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     valuesMap.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
 
     String query =
         "SELECT final.patient_id FROM  ( "
@@ -119,7 +119,7 @@ public class TxNewCohortQueries {
             hivMetadata.getNumberOfWeeksPregnant().getConceptId(),
             hivMetadata.getPregnancyDueDate().getConceptId(),
             hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             hivMetadata.getPregnantConcept().getConceptId(),
             hivMetadata.getFsrEncounterType().getEncounterTypeId(),
             hivMetadata.getSampleCollectionDateAndTime().getConceptId(),
@@ -128,7 +128,7 @@ public class TxNewCohortQueries {
             hivMetadata.getBPlusConcept().getConceptId(),
             hivMetadata.getARVStartDateConcept().getConceptId(),
             commonMetadata.getPriorDeliveryDateConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getBreastfeeding().getConceptId(),
             hivMetadata.getPatientGaveBirthWorkflowState().getProgramWorkflowStateId(),
             dsd));
@@ -197,13 +197,13 @@ public class TxNewCohortQueries {
     cd.setQuery(
         PregnantQueries.getBreastfeedingWhileOnArt(
             commonMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getPriorDeliveryDateConcept().getConceptId(),
             hivMetadata.getPregnancyDueDate().getConceptId(),
             hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             hivMetadata.getCriteriaForArtStart().getConceptId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getPtvEtvProgram().getProgramId(),
             hivMetadata.getPatientGaveBirthWorkflowState().getProgramWorkflowStateId(),
             hivMetadata.getHistoricalDrugStartDateConcept().getConceptId(),
@@ -444,15 +444,15 @@ public class TxNewCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("1065", hivMetadata.getYesConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
     map.put("23896", hivMetadata.getArtInitiationCd4Concept().getConceptId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
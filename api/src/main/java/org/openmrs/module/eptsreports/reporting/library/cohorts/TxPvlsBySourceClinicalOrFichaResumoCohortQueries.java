@@ -46,10 +46,10 @@ public class TxPvlsBySourceClinicalOrFichaResumoCohortQueries {
     sql.addParameter(new Parameter("location", "Location", Location.class));
     sql.setQuery(
         TxPvlsBySourceQueries.getPatientsWithViralLoadSuppressionPvlsFichaMastreNumerator(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
             hivMetadata.getHivViralLoadQualitative().getConceptId()));
     return sql;
   }
@@ -70,10 +70,10 @@ public class TxPvlsBySourceClinicalOrFichaResumoCohortQueries {
     sql.addParameter(new Parameter("location", "Location", Location.class));
     sql.setQuery(
         TxPvlsBySourceQueries.getPatientsHavingViralLoadInLast12MonthsPvlsFichaMastreDenominator(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
             hivMetadata.getHivViralLoadQualitative().getConceptId()));
     return sql;
   }
@@ -302,10 +302,10 @@ public class TxPvlsBySourceClinicalOrFichaResumoCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
     cd.setQuery(
         TxPvlsBySourceQueries.getPatientsHavingRoutineViralLoadTestsUsingClinicalForms(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
             hivMetadata.getHivViralLoadQualitative().getConceptId()));
     return cd;
   }
@@ -385,21 +385,21 @@ public class TxPvlsBySourceClinicalOrFichaResumoCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
     Map<String, Integer> map = new HashMap<>();
 
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
     map.put("1600", hivMetadata.getPregnancyDueDate().getConceptId());
     map.put("23821", hivMetadata.getSampleCollectionDateAndTime().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6334", hivMetadata.getCriteriaForArtStart().getConceptId());
     map.put("8", hivMetadata.getPtvEtvProgram().getProgramId());
     map.put("1279", hivMetadata.getNumberOfWeeksPregnant().getConceptId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("6331", hivMetadata.getBPlusConcept().getConceptId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("5599", hivMetadata.getPriorDeliveryDateConcept().getConceptId());
@@ -761,20 +761,20 @@ public class TxPvlsBySourceClinicalOrFichaResumoCohortQueries {
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
     map.put("6331", hivMetadata.getBpostiveConcept().getConceptId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
     map.put("5599", hivMetadata.getPriorDeliveryDateConcept().getConceptId());
     map.put("23821", hivMetadata.getSampleCollectionDateAndTime().getConceptId());
     map.put("6332", hivMetadata.getBreastfeeding().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6334", hivMetadata.getCriteriaForArtStart().getConceptId());
     map.put("8", hivMetadata.getPtvEtvProgram().getProgramId());
     map.put("27", hivMetadata.getPatientGaveBirthWorkflowState().getProgramWorkflowStateId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
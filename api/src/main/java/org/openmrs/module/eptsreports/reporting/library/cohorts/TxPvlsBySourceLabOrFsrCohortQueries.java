@@ -46,9 +46,9 @@ public class TxPvlsBySourceLabOrFsrCohortQueries {
     sql.addParameter(new Parameter("location", "Location", Location.class));
     sql.setQuery(
         TxPvlsBySourceQueries.getPatientsWithViralLoadSuppressionForLabAndFsrNumerator(
-            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId(),
+            hivMetadata.getMisauLaboratorioEncounterTypeId(),
             hivMetadata.getFsrEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
+            hivMetadata.getHivViralLoadConceptId(),
             hivMetadata.getHivViralLoadQualitative().getConceptId()));
     return sql;
   }
@@ -69,9 +69,9 @@ public class TxPvlsBySourceLabOrFsrCohortQueries {
     sql.addParameter(new Parameter("location", "Location", Location.class));
     sql.setQuery(
         TxPvlsBySourceQueries.getPatientsHavingViralLoadInLast12MonthsForLabAndFsrDenominator(
-            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId(),
+            hivMetadata.getMisauLaboratorioEncounterTypeId(),
             hivMetadata.getFsrEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
+            hivMetadata.getHivViralLoadConceptId(),
             hivMetadata.getHivViralLoadQualitative().getConceptId()));
     return sql;
   }
@@ -300,8 +300,8 @@ public class TxPvlsBySourceLabOrFsrCohortQueries {
             hivMetadata.getReasonForRequestingViralLoadConcept().getConceptId(),
             hivMetadata.getRoutineForRequestingViralLoadConcept().getConceptId(),
             hivMetadata.getUnkownConcept().getConceptId(),
-            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
+            hivMetadata.getMisauLaboratorioEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
             hivMetadata.getHivViralLoadQualitative().getConceptId()));
     return cd;
   }
@@ -313,8 +313,8 @@ public class TxPvlsBySourceLabOrFsrCohortQueries {
     cd.addParameter(new Parameter("location", "Location", Location.class));
     cd.setQuery(
         TxPvlsBySourceQueries.getPatientsHavingRoutineViralLoadTestsUsinglab(
-            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
+            hivMetadata.getMisauLaboratorioEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
             hivMetadata.getHivViralLoadQualitative().getConceptId(),
             hivMetadata.getFsrEncounterType().getEncounterTypeId()));
     return cd;
@@ -332,8 +332,8 @@ public class TxPvlsBySourceLabOrFsrCohortQueries {
             hivMetadata.getReasonForRequestingViralLoadConcept().getConceptId(),
             hivMetadata.getRoutineForRequestingViralLoadConcept().getConceptId(),
             hivMetadata.getUnkownConcept().getConceptId(),
-            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId(),
-            hivMetadata.getHivViralLoadConcept().getConceptId(),
+            hivMetadata.getMisauLaboratorioEncounterTypeId(),
+            hivMetadata.getHivViralLoadConceptId(),
             hivMetadata.getHivViralLoadQualitative().getConceptId()));
     return cd;
   }
@@ -500,21 +500,21 @@ public class TxPvlsBySourceLabOrFsrCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
     Map<String, Integer> map = new HashMap<>();
 
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
     map.put("1600", hivMetadata.getPregnancyDueDate().getConceptId());
     map.put("23821", hivMetadata.getSampleCollectionDateAndTime().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6334", hivMetadata.getCriteriaForArtStart().getConceptId());
     map.put("8", hivMetadata.getPtvEtvProgram().getProgramId());
     map.put("1279", hivMetadata.getNumberOfWeeksPregnant().getConceptId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("6331", hivMetadata.getBPlusConcept().getConceptId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("5599", hivMetadata.getPriorDeliveryDateConcept().getConceptId());
@@ -866,20 +866,20 @@ public class TxPvlsBySourceLabOrFsrCohortQueries {
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
     map.put("6331", hivMetadata.getBpostiveConcept().getConceptId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
     map.put("5599", hivMetadata.getPriorDeliveryDateConcept().getConceptId());
     map.put("23821", hivMetadata.getSampleCollectionDateAndTime().getConceptId());
     map.put("6332", hivMetadata.getBreastfeeding().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6334", hivMetadata.getCriteriaForArtStart().getConceptId());
     map.put("8", hivMetadata.getPtvEtvProgram().getProgramId());
     map.put("27", hivMetadata.getPatientGaveBirthWorkflowState().getProgramWorkflowStateId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
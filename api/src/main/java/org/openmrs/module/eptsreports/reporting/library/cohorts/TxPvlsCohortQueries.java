@@ -22,9 +22,10 @@ import org.openmrs.Location;
 import org.openmrs.api.context.Context;
 import org.openmrs.module.eptsreports.metadata.CommonMetadata;
 import org.openmrs.module.eptsreports.metadata.HivMetadata;
+import org.openmrs.module.eptsreports.reporting.calculation.generic.PregnancyStatusCalculation;
 import org.openmrs.module.eptsreports.reporting.calculation.mq.BreastfeedingPregnantCalculation4MQ;
 import org.openmrs.module.eptsreports.reporting.calculation.pvls.BreastfeedingPregnantCalculation;
-import org.openmrs.module.eptsreports.reporting.cohort.definition.CalculationCohortDefinition;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.ClassifierCohortDefinition;
 import org.openmrs.module.eptsreports.reporting.library.queries.CommonQueries;
 import org.openmrs.module.eptsreports.reporting.library.queries.ViralLoadQueries;
 import org.openmrs.module.eptsreports.reporting.utils.EptsReportConstants.PregnantOrBreastfeedingWomen;
@@ -310,11 +311,11 @@ public class TxPvlsCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
     map.put("23818", hivMetadata.getReasonForRequestingViralLoadConcept().getConceptId());
     map.put("23817", hivMetadata.getRoutineForRequestingViralLoadConcept().getConceptId());
@@ -337,10 +338,10 @@ public class TxPvlsCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
 
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     StringSubstitutor sb = new StringSubstitutor(map);
@@ -561,15 +562,15 @@ public class TxPvlsCohortQueries {
    */
   public CohortDefinition getPatientsWhoArePregnantOrBreastfeedingBasedOnParameter(
       PregnantOrBreastfeedingWomen state, List<EncounterType> encounterTypeList) {
-    CalculationCohortDefinition cd =
-        new CalculationCohortDefinition(
+    ClassifierCohortDefinition cd =
+        new ClassifierCohortDefinition(
             "pregnantBreastfeeding",
-            Context.getRegisteredComponents(BreastfeedingPregnantCalculation.class).get(0));
+            Context.getRegisteredComponents(BreastfeedingPregnantCalculation.class).get(0),
+            state);
     cd.addParameter(new Parameter("onOrBefore", "On or before Date", Date.class));
     cd.addParameter(new Parameter("onOrAfter", "On or before Date", Date.class));
     cd.addParameter(new Parameter("location", "Location", Location.class));
-    cd.addCalculationParameter("state", state);
-    cd.addCalculationParameter("encounterTypeList", encounterTypeList);
+    cd.addCalculationParameter(PregnancyStatusCalculation.ENCOUNTER_TYPE_LIST, encounterTypeList);
     return cd;
   }
   /**
@@ -581,15 +582,15 @@ public class TxPvlsCohortQueries {
    */
   public CohortDefinition getPatientsWhoArePregnantOrBreastfeedingBasedOnParameter4MQ(
       PregnantOrBreastfeedingWomen state, List<EncounterType> encounterTypeList) {
-    CalculationCohortDefinition cd =
-        new CalculationCohortDefinition(
+    ClassifierCohortDefinition cd =
+        new ClassifierCohortDefinition(
             "pregnantBreastfeeding",
-            Context.getRegisteredComponents(BreastfeedingPregnantCalculation4MQ.class).get(0));
+            Context.getRegisteredComponents(BreastfeedingPregnantCalculation4MQ.class).get(0),
+            state);
     cd.addParameter(new Parameter("onOrBefore", "On or before Date", Date.class));
     cd.addParameter(new Parameter("onOrAfter", "On or before Date", Date.class));
     cd.addParameter(new Parameter("location", "Location", Location.class));
-    cd.addCalculationParameter("state", state);
-    cd.addCalculationParameter("encounterTypeList", encounterTypeList);
+    cd.addCalculationParameter(PregnancyStatusCalculation.ENCOUNTER_TYPE_LIST, encounterTypeList);
     return cd;
   }
 
@@ -640,20 +641,20 @@ public class TxPvlsCohortQueries {
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
     map.put("6331", hivMetadata.getBpostiveConcept().getConceptId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
     map.put("5599", hivMetadata.getPriorDeliveryDateConcept().getConceptId());
     map.put("23821", hivMetadata.getSampleCollectionDateAndTime().getConceptId());
     map.put("6332", hivMetadata.getBreastfeeding().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6334", hivMetadata.getCriteriaForArtStart().getConceptId());
     map.put("8", hivMetadata.getPtvEtvProgram().getProgramId());
     map.put("27", hivMetadata.getPatientGaveBirthWorkflowState().getProgramWorkflowStateId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
 
     String query =
@@ -982,21 +983,21 @@ public class TxPvlsCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
     Map<String, Integer> map = new HashMap<>();
 
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
     map.put("1600", hivMetadata.getPregnancyDueDate().getConceptId());
     map.put("23821", hivMetadata.getSampleCollectionDateAndTime().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6334", hivMetadata.getCriteriaForArtStart().getConceptId());
     map.put("8", hivMetadata.getPtvEtvProgram().getProgramId());
     map.put("1279", hivMetadata.getNumberOfWeeksPregnant().getConceptId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("1982", hivMetadata.getPregnantConcept().getConceptId());
-    map.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    map.put("856", hivMetadata.getHivViralLoadConceptId());
     map.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("6331", hivMetadata.getBPlusConcept().getConceptId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     map.put("5599", hivMetadata.getPriorDeliveryDateConcept().getConceptId());
@@ -535,7 +535,7 @@ public class TxTbMonthlyCascadeCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
 
     String query =
         "SELECT p.patient_id "
@@ -741,12 +741,12 @@ public class TxTbMonthlyCascadeCohortQueries {
     sqlCohortDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1369", hivMetadata.getTransferredFromOtherFacilityConcept().getConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
     map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         "SELECT p.patient_id "
@@ -817,12 +817,12 @@ public class TxTbMonthlyCascadeCohortQueries {
     Map<String, Integer> map = new HashMap<>();
     map.put("23723", tbMetadata.getTBGenexpertTestConcept().getConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("703", tbMetadata.getPositiveConcept().getConceptId());
     map.put("664", tbMetadata.getNegativeConcept().getConceptId());
     map.put("165189", tbMetadata.getTestXpertMtbUuidConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     map.put("positiveOrNegativeResult", positiveOrNegativeResult.getConceptId());
 
@@ -912,8 +912,8 @@ public class TxTbMonthlyCascadeCohortQueries {
     Map<String, Integer> map = new HashMap<>();
     map.put("23723", tbMetadata.getTBGenexpertTestConcept().getConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("703", tbMetadata.getPositiveConcept().getConceptId());
     map.put("664", tbMetadata.getNegativeConcept().getConceptId());
     map.put("23951", tbMetadata.getTestTBLAM().getConceptId());
@@ -1040,10 +1040,8 @@ public class TxTbMonthlyCascadeCohortQueries {
     Map<String, String> map = new HashMap<>();
     map.put(
         "23722", String.valueOf(hivMetadata.getApplicationForLaboratoryResearch().getConceptId()));
-    map.put(
-        "6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()));
-    map.put(
-        "13", String.valueOf(hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId()));
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
+    map.put("13", String.valueOf(hivMetadata.getMisauLaboratorioEncounterTypeId()));
     map.put("51", String.valueOf(hivMetadata.getFsrEncounterType().getEncounterTypeId()));
     map.put("23951", String.valueOf(tbMetadata.getTestTBLAM().getConceptId()));
     map.put("results", StringUtils.join(answerIds, ','));
@@ -1073,23 +1071,23 @@ public class TxTbMonthlyCascadeCohortQueries {
    */
   private String getPatientsOnArt(boolean selectArtDate) {
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     valuesMap.put("51", hivMetadata.getFsrEncounterType().getEncounterTypeId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("856", hivMetadata.getHivViralLoadConcept().getConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("856", hivMetadata.getHivViralLoadConceptId());
     valuesMap.put("1305", hivMetadata.getHivViralLoadQualitative().getConceptId());
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     valuesMap.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    valuesMap.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    valuesMap.put("1065", hivMetadata.getPatientFoundYesConceptId());
     valuesMap.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     valuesMap.put("1255", hivMetadata.getARVPlanConcept().getConceptId());
     valuesMap.put("1410", hivMetadata.getReturnVisitDateConcept().getConceptId());
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
     valuesMap.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
     valuesMap.put("2", hivMetadata.getARTProgram().getProgramId());
 
     String fromSql =
@@ -1183,8 +1181,8 @@ public class TxTbMonthlyCascadeCohortQueries {
     sqlCohortDefinition.addParameters(getParameters());
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("23774", tbMetadata.getCultureTest().getConceptId());
     map.put("positiveOrNegative", positiveOrNegative.getConceptId());
 
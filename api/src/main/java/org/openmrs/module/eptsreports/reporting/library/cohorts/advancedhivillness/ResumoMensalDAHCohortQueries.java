@@ -871,7 +871,7 @@ public class ResumoMensalDAHCohortQueries {
     sqlCohortDefinition.addParameters(getCohortParameters());
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
     String query =
@@ -913,7 +913,7 @@ public class ResumoMensalDAHCohortQueries {
     sqlCohortDefinition.addParameters(getCohortParameters());
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("90", hivMetadata.getAdvancedHivIllnessEncounterType().getEncounterTypeId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
     map.put("165515", hivMetadata.getCD4SemiQuantitativeConcept().getConceptId());
@@ -1055,8 +1055,7 @@ public class ResumoMensalDAHCohortQueries {
         resultConceptList.stream().map(Concept::getConceptId).collect(Collectors.toList());
 
     Map<String, String> map = new HashMap<>();
-    map.put(
-        "6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()));
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
     map.put(
         "90",
         String.valueOf(hivMetadata.getAdvancedHivIllnessEncounterType().getEncounterTypeId()));
@@ -1291,7 +1290,7 @@ public class ResumoMensalDAHCohortQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("90", hivMetadata.getAdvancedHivIllnessEncounterType().getEncounterTypeId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("1413", hivMetadata.getDateOfDiagnosisOfKaposiSarcomaConcept().getConceptId());
     map.put("20294", hivMetadata.getOutraQuimioterapiaConcept().getConceptId());
 
@@ -1664,7 +1663,7 @@ public class ResumoMensalDAHCohortQueries {
     sqlCohortDefinition.addParameters(getCohortParameters());
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("90", hivMetadata.getAdvancedHivIllnessEncounterType().getEncounterTypeId());
     map.put("1695", hivMetadata.getCD4AbsoluteOBSConcept().getConceptId());
 
@@ -1706,7 +1705,7 @@ public class ResumoMensalDAHCohortQueries {
     sqlCohortDefinition.addParameters(getCohortParameters());
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("90", hivMetadata.getAdvancedHivIllnessEncounterType().getEncounterTypeId());
     map.put("165515", hivMetadata.getCD4SemiQuantitativeConcept().getConceptId());
     map.put("165513", hivMetadata.getCD4CountLessThanOrEqualTo200Concept().getConceptId());
@@ -371,7 +371,7 @@ public class ListOfChildrenEnrolledInCCRDataDefinitionQueries {
     Map<String, Integer> map = new HashMap<>();
     map.put("92", hivMetadata.getCCRResumoEncounterType().getEncounterTypeId());
     map.put("2071", commonMetadata.getAcceptsHomeVisitConcept().getConceptId());
-    map.put("1065", commonMetadata.getYesConcept().getConceptId());
+    map.put("1065", commonMetadata.getYesConceptId());
     map.put("1066", commonMetadata.getNoConcept().getConceptId());
 
     String query =
@@ -523,7 +523,7 @@ public class ListOfChildrenEnrolledInCCRDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("93", hivMetadata.getCCRSeguimentoEncounterType().getEncounterTypeId());
     map.put("1030", hivMetadata.getHivPCRQualitativeConceptUuid().getConceptId());
     String query = getPatientPCRResultDateQuery();
@@ -547,7 +547,7 @@ public class ListOfChildrenEnrolledInCCRDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("93", hivMetadata.getCCRSeguimentoEncounterType().getEncounterTypeId());
     map.put("1030", hivMetadata.getHivPCRQualitativeConceptUuid().getConceptId());
     map.put("23832", hivMetadata.getSampleTypeConcept().getConceptId());
@@ -595,7 +595,7 @@ public class ListOfChildrenEnrolledInCCRDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("93", hivMetadata.getCCRSeguimentoEncounterType().getEncounterTypeId());
     map.put("1030", hivMetadata.getHivPCRQualitativeConceptUuid().getConceptId());
 
@@ -660,7 +660,7 @@ public class ListOfChildrenEnrolledInCCRDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("93", hivMetadata.getCCRSeguimentoEncounterType().getEncounterTypeId());
     map.put("1030", hivMetadata.getHivPCRQualitativeConceptUuid().getConceptId());
     String query = getPenultimatePCRResultDateQuery();
@@ -684,7 +684,7 @@ public class ListOfChildrenEnrolledInCCRDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("93", hivMetadata.getCCRSeguimentoEncounterType().getEncounterTypeId());
     map.put("1030", hivMetadata.getHivPCRQualitativeConceptUuid().getConceptId());
     map.put("23832", hivMetadata.getSampleTypeConcept().getConceptId());
@@ -732,7 +732,7 @@ public class ListOfChildrenEnrolledInCCRDataDefinitionQueries {
     sqlPatientDataDefinition.addParameter(new Parameter("location", "Location", Location.class));
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("93", hivMetadata.getCCRSeguimentoEncounterType().getEncounterTypeId());
     map.put("1030", hivMetadata.getHivPCRQualitativeConceptUuid().getConceptId());
 
@@ -37,11 +37,11 @@ public class SummaryDataQualityCohorts {
     pCd.setQuery(
         SummaryQueries.getPregnantPatients(
             hivMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getNumberOfWeeksPregnant().getConceptId(),
             hivMetadata.getPregnancyDueDate().getConceptId(),
             hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             hivMetadata.getPtvEtvProgram().getProgramId()));
     return pCd;
   }
@@ -61,11 +61,11 @@ public class SummaryDataQualityCohorts {
             hivMetadata.getCriteriaForArtStart().getConceptId(),
             hivMetadata.getBreastfeeding().getConceptId(),
             hivMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getPtvEtvProgram().getProgramId(),
             hivMetadata.getPatientGaveBirthWorkflowState().getProgramWorkflowStateId(),
             hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()));
+            hivMetadata.getAdultoSeguimentoEncounterTypeId()));
 
     return cd;
   }
@@ -37,9 +37,9 @@ public class SummaryEc20DataQualityCohorts {
         new Parameter("location", "Facilities", Location.class, List.class, null));
     sqlCohortDefinition.setQuery(
         BaseQueries.getBaseQueryForEc20DataQuality(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             hivMetadata.getARVPediatriaInitialEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId()));
+            hivMetadata.getARVPharmaciaEncounterTypeId()));
     return sqlCohortDefinition;
   }
 
@@ -46,8 +46,7 @@ public class DQRForDuplicateFichaResumoDataSet extends BaseDataSet {
     pdd.addParameter(new Parameter("location", "Location", Location.class));
     pdd.addParameter(new Parameter("endDate", "End Date", Date.class));
     pdd.addRowFilter(
-        duplicateFichaResumoCohorts.getEncounterQuery(
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId()),
+        duplicateFichaResumoCohorts.getEncounterQuery(hivMetadata.getMasterCardEncounterTypeId()),
         "endDate=${endDate},location=${location}");
 
     PatientIdentifierType identifierType =
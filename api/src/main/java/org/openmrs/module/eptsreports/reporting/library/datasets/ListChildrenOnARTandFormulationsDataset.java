@@ -249,8 +249,8 @@ public class ListChildrenOnARTandFormulationsDataset extends BaseDataSet {
     spdd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("1268", hivMetadata.getTBTreatmentPlanConcept().getConceptId());
     valuesMap.put("1113", hivMetadata.getTBDrugStartDateConcept().getConceptId());
     valuesMap.put("1406", hivMetadata.getOtherDiagnosis().getConceptId());
@@ -258,9 +258,9 @@ public class ListChildrenOnARTandFormulationsDataset extends BaseDataSet {
     valuesMap.put("6269", hivMetadata.getActiveOnProgramConcept().getConceptId());
     valuesMap.put("5", hivMetadata.getTBProgram().getProgramId());
     valuesMap.put("23761", hivMetadata.getActiveTBConcept().getConceptId());
-    valuesMap.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("1065", hivMetadata.getPatientFoundYesConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
 
     String sql =
         " SELECT final_query.patient_id, CASE WHEN final_query.result_Value IS NOT NULL THEN 'S' WHEN final_query.result_Value IS NULL THEN 'INACTIVE' ELSE '' END"
@@ -356,7 +356,7 @@ public class ListChildrenOnARTandFormulationsDataset extends BaseDataSet {
     spdd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
     valuesMap.put("1088", hivMetadata.getRegimeConcept().getConceptId());
 
     String sql =
@@ -406,7 +406,7 @@ public class ListChildrenOnARTandFormulationsDataset extends BaseDataSet {
     spdd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
 
     String sql =
         " SELECT p.patient_id, MAX(e.encounter_datetime) "
@@ -438,7 +438,7 @@ public class ListChildrenOnARTandFormulationsDataset extends BaseDataSet {
     spdd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
     valuesMap.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
 
     String sql =
@@ -490,8 +490,8 @@ public class ListChildrenOnARTandFormulationsDataset extends BaseDataSet {
     spdd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
 
     String sql =
         "  SELECT p.patient_id, e.encounter_datetime "
@@ -542,8 +542,8 @@ public class ListChildrenOnARTandFormulationsDataset extends BaseDataSet {
     spdd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("1087", hivMetadata.getPreviousARVUsedForTreatmentConcept().getConceptId());
     String sql =
         "  SELECT p.patient_id, o.value_coded "
@@ -597,8 +597,8 @@ public class ListChildrenOnARTandFormulationsDataset extends BaseDataSet {
     spdd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("5089", hivMetadata.getWeightConcept().getConceptId());
 
     String sql =
@@ -650,8 +650,8 @@ public class ListChildrenOnARTandFormulationsDataset extends BaseDataSet {
     spdd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("23725", hivMetadata.getFamilyApproach().getConceptId());
 
     String sql =
@@ -706,8 +706,8 @@ public class ListChildrenOnARTandFormulationsDataset extends BaseDataSet {
     spdd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("23739", hivMetadata.getTypeOfDispensationConcept().getConceptId());
     valuesMap.put("23720", hivMetadata.getQuarterlyConcept().getConceptId());
 
@@ -761,8 +761,8 @@ public class ListChildrenOnARTandFormulationsDataset extends BaseDataSet {
     spdd.addParameter(new Parameter("endDate", "endDate", Date.class));
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     valuesMap.put("1410", hivMetadata.getReturnVisitDateConcept().getConceptId());
 
     String sql =
@@ -191,8 +191,7 @@ public class ListOfPatientsDefaultersOrIITTemplateDataSet extends BaseDataSet {
     pdd.addColumn(
         "menthor_mother_ficha_clinica",
         listOfPatientsDefaultersOrIITCohortQueries.getSupportGroupsOnFichaClinicaOrSeguimento(
-            Collections.singletonList(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()),
+            Collections.singletonList(hivMetadata.getAdultoSeguimentoEncounterTypeId()),
             Collections.singletonList(hivMetadata.getMentoringMotherConcept().getConceptId()),
             false),
         "endDate=${endDate},location=${location}",
@@ -202,8 +201,7 @@ public class ListOfPatientsDefaultersOrIITTemplateDataSet extends BaseDataSet {
     pdd.addColumn(
         "youth_teenage_ficha_clinica",
         listOfPatientsDefaultersOrIITCohortQueries.getSupportGroupsOnFichaClinicaOrSeguimento(
-            Collections.singletonList(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()),
+            Collections.singletonList(hivMetadata.getAdultoSeguimentoEncounterTypeId()),
             Collections.singletonList(
                 hivMetadata.getYouthAndTeenageMenthorConcept().getConceptId()),
             false),
@@ -214,8 +212,7 @@ public class ListOfPatientsDefaultersOrIITTemplateDataSet extends BaseDataSet {
     pdd.addColumn(
         "champion_man_ficha_clinica",
         listOfPatientsDefaultersOrIITCohortQueries.getSupportGroupsOnFichaClinicaOrSeguimento(
-            Collections.singletonList(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()),
+            Collections.singletonList(hivMetadata.getAdultoSeguimentoEncounterTypeId()),
             Collections.singletonList(hivMetadata.getChampioManConcept().getConceptId()),
             false),
         "endDate=${endDate},location=${location}",
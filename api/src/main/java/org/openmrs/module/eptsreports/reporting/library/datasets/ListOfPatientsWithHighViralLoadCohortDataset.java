@@ -12,6 +12,7 @@ import org.openmrs.module.eptsreports.reporting.library.cohorts.ListOfPatientsAr
 import org.openmrs.module.eptsreports.reporting.library.cohorts.ListOfPatientsDefaultersOrIITCohortQueries;
 import org.openmrs.module.eptsreports.reporting.library.cohorts.ListOfPatientsWithHighViralLoadCohortQueries;
 import org.openmrs.module.eptsreports.reporting.library.cohorts.TPTInitiationDataDefinitionQueries;
+import org.openmrs.module.eptsreports.reporting.utils.EptsReportUtils;
 import org.openmrs.module.reporting.data.DataDefinition;
 import org.openmrs.module.reporting.data.converter.DataConverter;
 import org.openmrs.module.reporting.data.converter.ObjectFormatter;
@@ -508,6 +509,47 @@ public class ListOfPatientsWithHighViralLoadCohortDataset extends BaseDataSet {
         "startDate=${startDate},endDate=${endDate},location=${location}",
         new NotApplicableIfNullConverter());
 
+    // the columns whose query selects one row of patient id and value per patient
+    EptsReportUtils.fuseSqlColumns(
+        pdd,
+        "location",
+        "neighborhood",
+        "cell",
+        "sample_collection_date",
+        "result_reception_date",
+        "vl_result",
+        "first_consultation",
+        "expected_clinical_apss_consultation_date",
+        "first_apss_consultation",
+        "apss_session_one",
+        "apss_expected_date_session_one",
+        "apss_session_two",
+        "apss_expected_date_session_two",
+        "apss_session_three",
+        "apss_expected_date_session_three",
+        "adherence_evaluation",
+        "lab_investigation_request",
+        "clinical_expected_date",
+        "sample_collection_after_session_two",
+        "expected_date_sample_collection",
+        "expected_result_date_after_session_three",
+        "vl_result_after_session_three",
+        "vl_result_classification",
+        "first_consultation_date_after_high_vl",
+        "expected_consultation_date_after_second_high_vl",
+        "expected_apss_consultation_date_after_second_high_vl",
+        "expected_apss_consultation_date_after_apss_session_zero",
+        "expected_apss_consultation_date_after_apss_session_one",
+        "expected_apss_consultation_date_after_apss_session_two",
+        "lab_investigation_request_after_apss_session_two",
+        "vl_request_date_after_apss_session_two",
+        "sample_collection_date_after_apss_session_two",
+        "expected_collection_date_after_apss_session_two",
+        "predicted_third_vl_result_date",
+        "third_vl_result_after_apss_session_three",
+        "first_clinical_consultation_third_vl_result",
+        "expected_clinical_consultation_third_vl_result");
+
     return pdd;
   }
 
@@ -5,6 +5,7 @@ import java.util.List;
 import org.openmrs.Location;
 import org.openmrs.module.eptsreports.reporting.data.converter.*;
 import org.openmrs.module.eptsreports.reporting.library.cohorts.*;
+import org.openmrs.module.eptsreports.reporting.utils.EptsReportUtils;
 import org.openmrs.module.reporting.data.person.definition.*;
 import org.openmrs.module.reporting.dataset.definition.DataSetDefinition;
 import org.openmrs.module.reporting.dataset.definition.PatientDataSetDefinition;
@@ -827,6 +828,30 @@ public class ListOfPatientsWithMdsEvaluationCohortDataset extends BaseDataSet {
         listOfPatientsWithMdsEvaluationCohortQueries.getLastStateOfStayOnTarv(36, 0, 1),
         d20Mappings);
 
+    // the columns whose query selects one row of patient id and value per patient
+    EptsReportUtils.fuseSqlColumns(
+        pdd,
+        "tpt_start_date",
+        "initial_cd4_result",
+        "first_cv_date",
+        "first_cv_result",
+        "second_cd4_result",
+        "mds_date",
+        "clinical_consultations_b",
+        "apss_pp_consultations_b",
+        "cv_date_c",
+        "cv_result_c",
+        "cd4_result_c",
+        "mds_tarv_c",
+        "clinical_consultations_c",
+        "apss_pp_consultations_c",
+        "cv_date_d",
+        "cv_result_d",
+        "cd4_result_d",
+        "mds_tarv_d",
+        "clinical_consultations_d",
+        "apss_pp_consultations_d");
+
     return pdd;
   }
 
@@ -179,8 +179,7 @@ public class ListOfPatientsWithPositiveTbScreeningDataset extends BaseDataSet {
     pdd.addColumn(
         "genxpert_result_ficha_clinica",
         listOfPatientsWithPositiveTbScreeningDataDefinitionQueries.getTbLaboratoryResearchResults(
-            Collections.singletonList(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()),
+            Collections.singletonList(hivMetadata.getAdultoSeguimentoEncounterTypeId()),
             Collections.singletonList(tbMetadata.getTBGenexpertTestConcept().getConceptId()),
             Arrays.asList(
                 commonMetadata.getPositive().getConceptId(),
@@ -192,8 +191,7 @@ public class ListOfPatientsWithPositiveTbScreeningDataset extends BaseDataSet {
     pdd.addColumn(
         "genxpert_result_laboratorio",
         listOfPatientsWithPositiveTbScreeningDataDefinitionQueries.getTbLaboratoryResearchResults(
-            Collections.singletonList(
-                hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId()),
+            Collections.singletonList(hivMetadata.getMisauLaboratorioEncounterTypeId()),
             Collections.singletonList(tbMetadata.getTBGenexpertTestConcept().getConceptId()),
             Arrays.asList(
                 commonMetadata.getPositive().getConceptId(),
@@ -205,24 +203,20 @@ public class ListOfPatientsWithPositiveTbScreeningDataset extends BaseDataSet {
     pdd.addColumn(
         "xpertmtb_result_laboratorio",
         listOfPatientsWithPositiveTbScreeningDataDefinitionQueries.getTbLaboratoryResearchResults(
-            Collections.singletonList(
-                hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId()),
+            Collections.singletonList(hivMetadata.getMisauLaboratorioEncounterTypeId()),
             Collections.singletonList(tbMetadata.getTestXpertMtbUuidConcept().getConceptId()),
             Arrays.asList(
-                commonMetadata.getYesConcept().getConceptId(),
-                commonMetadata.getNoConcept().getConceptId())),
+                commonMetadata.getYesConceptId(), commonMetadata.getNoConcept().getConceptId())),
         mappings,
         new TestResultConverter());
     // 13 - Rifampin Resistance Lab Form - Sheet 1: Column M
     pdd.addColumn(
         "rifampin_resistance_laboratorio",
         listOfPatientsWithPositiveTbScreeningDataDefinitionQueries.getRifampinResistanceResults(
-            Collections.singletonList(
-                hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId()),
+            Collections.singletonList(hivMetadata.getMisauLaboratorioEncounterTypeId()),
             Collections.singletonList(tbMetadata.getTestXpertMtbUuidConcept().getConceptId()),
             Arrays.asList(
-                commonMetadata.getYesConcept().getConceptId(),
-                commonMetadata.getNoConcept().getConceptId()),
+                commonMetadata.getYesConceptId(), commonMetadata.getNoConcept().getConceptId()),
             tbMetadata.getRifampinResistanceConcept().getConceptId(),
             commonMetadata.getIndeterminate().getConceptId()),
         mappings,
@@ -241,8 +235,7 @@ public class ListOfPatientsWithPositiveTbScreeningDataset extends BaseDataSet {
     pdd.addColumn(
         "bk_result_ficha_clinica",
         listOfPatientsWithPositiveTbScreeningDataDefinitionQueries.getTbLaboratoryResearchResults(
-            Collections.singletonList(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()),
+            Collections.singletonList(hivMetadata.getAdultoSeguimentoEncounterTypeId()),
             Collections.singletonList(hivMetadata.getResultForBasiloscopia().getConceptId()),
             Arrays.asList(
                 commonMetadata.getPositive().getConceptId(),
@@ -254,8 +247,7 @@ public class ListOfPatientsWithPositiveTbScreeningDataset extends BaseDataSet {
     pdd.addColumn(
         "bk_result_laboratorio",
         listOfPatientsWithPositiveTbScreeningDataDefinitionQueries.getTbLaboratoryResearchResults(
-            Collections.singletonList(
-                hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId()),
+            Collections.singletonList(hivMetadata.getMisauLaboratorioEncounterTypeId()),
             Collections.singletonList(hivMetadata.getResultForBasiloscopia().getConceptId()),
             Arrays.asList(
                 commonMetadata.getPositive().getConceptId(),
@@ -276,8 +268,7 @@ public class ListOfPatientsWithPositiveTbScreeningDataset extends BaseDataSet {
     pdd.addColumn(
         "tblam_result_ficha_clinica",
         listOfPatientsWithPositiveTbScreeningDataDefinitionQueries.getTbLaboratoryResearchResults(
-            Collections.singletonList(
-                hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()),
+            Collections.singletonList(hivMetadata.getAdultoSeguimentoEncounterTypeId()),
             Collections.singletonList(tbMetadata.getTestTBLAM().getConceptId()),
             Arrays.asList(
                 commonMetadata.getPositive().getConceptId(),
@@ -289,8 +280,7 @@ public class ListOfPatientsWithPositiveTbScreeningDataset extends BaseDataSet {
     pdd.addColumn(
         "tblam_result_laboratorio",
         listOfPatientsWithPositiveTbScreeningDataDefinitionQueries.getTbLaboratoryResearchResults(
-            Collections.singletonList(
-                hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId()),
+            Collections.singletonList(hivMetadata.getMisauLaboratorioEncounterTypeId()),
             Collections.singletonList(tbMetadata.getTestTBLAM().getConceptId()),
             Arrays.asList(
                 commonMetadata.getPositive().getConceptId(),
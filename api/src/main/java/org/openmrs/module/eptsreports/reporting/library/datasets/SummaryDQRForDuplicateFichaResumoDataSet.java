@@ -40,7 +40,7 @@ public class SummaryDQRForDuplicateFichaResumoDataSet extends BaseDataSet {
                 "EC1T",
                 EptsReportUtils.map(
                     duplicateFichaResumoCohorts.getDuplicatePatientsForFichaResumo(
-                        hivMetadata.getMasterCardEncounterType().getEncounterTypeId()),
+                        hivMetadata.getMasterCardEncounterTypeId()),
                     mappings)),
             mappings),
         "");
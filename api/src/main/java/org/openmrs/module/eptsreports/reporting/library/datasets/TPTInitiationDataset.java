@@ -47,27 +47,27 @@ public class TPTInitiationDataset extends BaseDataSet {
     sdd.addParameters(parameterList);
     sdd.setSqlQuery(
         TPT_InitiationQueries.getTPTInitiationPatients(
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             tbMetadata.getTreatmentPrescribedConcept().getConceptId(),
             tbMetadata.get3HPConcept().getConceptId(),
             tbMetadata.getRegimeTPTEncounterType().getEncounterTypeId(),
-            tbMetadata.getRegimeTPTConcept().getConceptId(),
+            tbMetadata.getRegimeTPTConceptId(),
             tbMetadata.get3HPPiridoxinaConcept().getConceptId(),
-            hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+            hivMetadata.getMasterCardEncounterTypeId(),
             hivMetadata.getDataInicioProfilaxiaIsoniazidaConcept().getConceptId(),
             hivMetadata.getIsoniazidUsageConcept().getConceptId(),
-            hivMetadata.getStartDrugs().getConceptId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getStartDrugsConceptId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
             tbMetadata.getIsoniazidConcept().getConceptId(),
             tbMetadata.getIsoniazidePiridoxinaConcept().getConceptId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             hivMetadata.getARVPlanConcept().getConceptId(),
             hivMetadata.getARVStartDateConcept().getConceptId(),
             hivMetadata.getARTProgram().getProgramId(),
-            hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-            hivMetadata.getArtDatePickupMasterCard().getConceptId(),
+            hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+            hivMetadata.getArtDatePickupMasterCardConceptId(),
             hivMetadata.getArtPickupConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getPregnantConcept().getConceptId(),
             hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
             commonMetadata.getNumberOfWeeksPregnant().getConceptId(),
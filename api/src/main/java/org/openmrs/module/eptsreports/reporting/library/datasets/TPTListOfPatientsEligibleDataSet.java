@@ -169,11 +169,11 @@ public class TPTListOfPatientsEligibleDataSet extends BaseDataSet {
     spdd.setName("Nome da definition");
     spdd.addParameter(new Parameter("location", "location", Location.class));
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
     valuesMap.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
     valuesMap.put("2", hivMetadata.getARTProgram().getProgramId());
-    valuesMap.put("1065", hivMetadata.getYesConcept().getConceptId());
+    valuesMap.put("1065", hivMetadata.getYesConceptId());
     valuesMap.put("1982", hivMetadata.getPregnantConcept().getConceptId());
     valuesMap.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
     valuesMap.put("1279", hivMetadata.getNumberOfWeeksPregnant().getConceptId());
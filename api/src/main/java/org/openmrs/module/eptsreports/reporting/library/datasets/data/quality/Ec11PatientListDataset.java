@@ -42,7 +42,7 @@ public class Ec11PatientListDataset extends BaseDataSet {
         Ec11Queries.getEc11CombinedQuery(
             hivMetadata.getARTProgram().getProgramId(),
             hivMetadata.getAbandonedWorkflowState().getProgramWorkflowStateId(),
-            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId()));
+            hivMetadata.getMisauLaboratorioEncounterTypeId()));
 
     return dsd;
   }
@@ -45,7 +45,7 @@ public class Ec15PatientListDataset extends BaseDataSet {
     dsd.setSqlQuery(
         Ec15Queries.getEc15CombinedQuery(
             hivMetadata.getARTProgram().getProgramId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             EptsReportConstants.getProgramWorkflowStateIds(hivMetadata.getARTProgram())));
 
     return dsd;
@@ -32,8 +32,8 @@ public class Ec16PatientListDataset extends BaseDataSet {
     sqlDataSetDefinition.setSqlQuery(
         Ec16Queries.getEc16CombinedQuery(
             hivMetadata.getARTProgram().getProgramId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()));
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId()));
     return sqlDataSetDefinition;
   }
 }
@@ -26,7 +26,7 @@ public class Ec17PatientListDataset extends BaseDataSet {
     sqlDataSetDefinition.setSqlQuery(
         Ec17Queries.getEc17CombinedQuery(
             hivMetadata.getARTProgram().getProgramId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             1985));
     return sqlDataSetDefinition;
   }
@@ -26,8 +26,8 @@ public class Ec18PatientListDataset extends BaseDataSet {
     sqlDataSetDefinition.setSqlQuery(
         Ec18Queries.getEc18CombinedQuery(
             hivMetadata.getARTProgram().getProgramId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             1985));
     return sqlDataSetDefinition;
   }
@@ -26,7 +26,7 @@ public class Ec19PatientListDataset extends BaseDataSet {
     sqlDataSetDefinition.setSqlQuery(
         Ec19Queries.getEc19CombinedQuery(
             hivMetadata.getARTProgram().getProgramId(),
-            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId(),
+            hivMetadata.getMisauLaboratorioEncounterTypeId(),
             1985));
     return sqlDataSetDefinition;
   }
@@ -41,11 +41,11 @@ public class Ec1PatientListDataset extends BaseDataSet {
     dsd.setSqlQuery(
         Ec1Queries.getEc1CombinedQuery(
             hivMetadata.getPregnantConcept().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getNumberOfWeeksPregnant().getConceptId(),
             hivMetadata.getPregnancyDueDate().getConceptId(),
             hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
             hivMetadata.getPtvEtvProgram().getProgramId()));
     return dsd;
   }
@@ -26,9 +26,9 @@ public class Ec20PatientListDataset extends BaseDataSet {
     sqlDataSetDefinition.setSqlQuery(
         Ec20Queries.getEc20CombinedQuery(
             hivMetadata.getARTProgram().getProgramId(),
-            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId()));
+            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId()));
 
     return sqlDataSetDefinition;
   }
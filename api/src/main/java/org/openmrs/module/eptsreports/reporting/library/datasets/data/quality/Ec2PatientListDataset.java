@@ -43,11 +43,11 @@ public class Ec2PatientListDataset extends BaseDataSet {
             hivMetadata.getPriorDeliveryDateConcept().getConceptId(),
             hivMetadata.getCriteriaForArtStart().getConceptId(),
             hivMetadata.getBreastfeeding().getConceptId(),
-            hivMetadata.getYesConcept().getConceptId(),
+            hivMetadata.getYesConceptId(),
             hivMetadata.getPtvEtvProgram().getProgramId(),
             hivMetadata.getPatientGaveBirthWorkflowState().getProgramWorkflowStateId(),
             hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
-            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()));
+            hivMetadata.getAdultoSeguimentoEncounterTypeId()));
     return dsd;
   }
 }
@@ -42,7 +42,7 @@ public class Ec3PatientListDataset extends BaseDataSet {
         Ec3Queries.getEc3CombinedQuery(
             hivMetadata.getARTProgram().getProgramId(),
             hivMetadata.getArtDeadWorkflowState().getProgramWorkflowStateId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
+            hivMetadata.getARVPharmaciaEncounterTypeId(),
             EptsReportConstants.getProgramWorkflowStateIds(hivMetadata.getARTProgram())));
     return dsd;
   }
@@ -41,7 +41,7 @@ public class Ec5PatientListDataset extends BaseDataSet {
         Ec5Queries.getEc5CombinedQuery(
             hivMetadata.getARTProgram().getProgramId(),
             hivMetadata.getArtDeadWorkflowState().getProgramWorkflowStateId(),
-            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId()));
+            hivMetadata.getMisauLaboratorioEncounterTypeId()));
     return dsd;
   }
 }
@@ -43,7 +43,7 @@ public class Ec6PatientListDataset extends BaseDataSet {
             hivMetadata
                 .getTransferredOutToAnotherHealthFacilityWorkflowState()
                 .getProgramWorkflowStateId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId()));
+            hivMetadata.getARVPharmaciaEncounterTypeId()));
     return dsd;
   }
 }
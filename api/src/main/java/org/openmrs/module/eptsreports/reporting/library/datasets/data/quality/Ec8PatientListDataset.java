@@ -43,7 +43,7 @@ public class Ec8PatientListDataset extends BaseDataSet {
             hivMetadata
                 .getTransferredOutToAnotherHealthFacilityWorkflowState()
                 .getProgramWorkflowStateId(),
-            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId()));
+            hivMetadata.getMisauLaboratorioEncounterTypeId()));
     return dsd;
   }
 }
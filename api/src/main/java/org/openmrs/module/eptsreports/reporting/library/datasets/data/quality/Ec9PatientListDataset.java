@@ -42,7 +42,7 @@ public class Ec9PatientListDataset extends BaseDataSet {
         Ec9Queries.getEc9CombinedQuery(
             hivMetadata.getARTProgram().getProgramId(),
             hivMetadata.getAbandonedWorkflowState().getProgramWorkflowStateId(),
-            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId()));
+            hivMetadata.getARVPharmaciaEncounterTypeId()));
     return dsd;
   }
 }
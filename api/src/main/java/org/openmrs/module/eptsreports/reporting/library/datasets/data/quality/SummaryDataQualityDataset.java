@@ -74,8 +74,7 @@ public class SummaryDataQualityDataset extends BaseDataSet {
                     summaryDataQualityCohorts.getDeadOrDeceasedPatientsHavingEncountersAfter(
                         hivMetadata.getARTProgram().getProgramId(),
                         hivMetadata.getArtDeadWorkflowState().getProgramWorkflowStateId(),
-                        Arrays.asList(
-                            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId())),
+                        Arrays.asList(hivMetadata.getARVPharmaciaEncounterTypeId())),
                     "location=${location}"),
                 Arrays.asList(
                     EptsReportUtils.getProgramConfigurableParameter(hivMetadata.getARTProgram()))),
@@ -93,10 +92,8 @@ public class SummaryDataQualityDataset extends BaseDataSet {
                         hivMetadata.getARTProgram().getProgramId(),
                         hivMetadata.getArtDeadWorkflowState().getProgramWorkflowStateId(),
                         Arrays.asList(
-                            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                            hivMetadata
-                                .getPediatriaSeguimentoEncounterType()
-                                .getEncounterTypeId())),
+                            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                            hivMetadata.getPediatriaSeguimentoEncounterTypeId())),
                     "location=${location}"),
                 Arrays.asList(
                     EptsReportUtils.getProgramConfigurableParameter(hivMetadata.getARTProgram()))),
@@ -113,8 +110,7 @@ public class SummaryDataQualityDataset extends BaseDataSet {
                     summaryDataQualityCohorts.getDeadOrDeceasedPatientsHavingEncountersAfter(
                         hivMetadata.getARTProgram().getProgramId(),
                         hivMetadata.getArtDeadWorkflowState().getProgramWorkflowStateId(),
-                        Arrays.asList(
-                            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId())),
+                        Arrays.asList(hivMetadata.getMisauLaboratorioEncounterTypeId())),
                     "location=${location}"),
                 Arrays.asList(
                     EptsReportUtils.getProgramConfigurableParameter(hivMetadata.getARTProgram()))),
@@ -133,8 +129,7 @@ public class SummaryDataQualityDataset extends BaseDataSet {
                         hivMetadata
                             .getTransferredOutToAnotherHealthFacilityWorkflowState()
                             .getProgramWorkflowStateId(),
-                        Arrays.asList(
-                            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId())),
+                        Arrays.asList(hivMetadata.getARVPharmaciaEncounterTypeId())),
                     "location=${location}"),
                 Arrays.asList(
                     EptsReportUtils.getProgramConfigurableParameter(hivMetadata.getARTProgram()))),
@@ -154,8 +149,8 @@ public class SummaryDataQualityDataset extends BaseDataSet {
                             .getTransferredOutToAnotherHealthFacilityWorkflowState()
                             .getProgramWorkflowStateId(),
                         Arrays.asList(
-                            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-                            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId())),
+                            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+                            hivMetadata.getAdultoSeguimentoEncounterTypeId())),
                     "location=${location}"),
                 Arrays.asList(
                     EptsReportUtils.getProgramConfigurableParameter(hivMetadata.getARTProgram()))),
@@ -174,8 +169,7 @@ public class SummaryDataQualityDataset extends BaseDataSet {
                         hivMetadata
                             .getTransferredOutToAnotherHealthFacilityWorkflowState()
                             .getProgramWorkflowStateId(),
-                        Arrays.asList(
-                            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId())),
+                        Arrays.asList(hivMetadata.getMisauLaboratorioEncounterTypeId())),
                     "location=${location}"),
                 Arrays.asList(
                     EptsReportUtils.getProgramConfigurableParameter(hivMetadata.getARTProgram()))),
@@ -192,8 +186,7 @@ public class SummaryDataQualityDataset extends BaseDataSet {
                     summaryDataQualityCohorts.getPatientsWithStatesAndEncounters(
                         hivMetadata.getARTProgram().getProgramId(),
                         hivMetadata.getAbandonedWorkflowState().getProgramWorkflowStateId(),
-                        Arrays.asList(
-                            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId())),
+                        Arrays.asList(hivMetadata.getARVPharmaciaEncounterTypeId())),
                     "location=${location}"),
                 Arrays.asList(
                     EptsReportUtils.getProgramConfigurableParameter(hivMetadata.getARTProgram()))),
@@ -211,10 +204,8 @@ public class SummaryDataQualityDataset extends BaseDataSet {
                         hivMetadata.getARTProgram().getProgramId(),
                         hivMetadata.getAbandonedWorkflowState().getProgramWorkflowStateId(),
                         Arrays.asList(
-                            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                            hivMetadata
-                                .getPediatriaSeguimentoEncounterType()
-                                .getEncounterTypeId())),
+                            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                            hivMetadata.getPediatriaSeguimentoEncounterTypeId())),
                     "location=${location}"),
                 Arrays.asList(
                     EptsReportUtils.getProgramConfigurableParameter(hivMetadata.getARTProgram()))),
@@ -231,8 +222,7 @@ public class SummaryDataQualityDataset extends BaseDataSet {
                     summaryDataQualityCohorts.getPatientsWithStatesAndEncounters(
                         hivMetadata.getARTProgram().getProgramId(),
                         hivMetadata.getAbandonedWorkflowState().getProgramWorkflowStateId(),
-                        Arrays.asList(
-                            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId())),
+                        Arrays.asList(hivMetadata.getMisauLaboratorioEncounterTypeId())),
                     "location=${location}"),
                 Arrays.asList(
                     EptsReportUtils.getProgramConfigurableParameter(hivMetadata.getARTProgram()))),
@@ -286,8 +276,7 @@ public class SummaryDataQualityDataset extends BaseDataSet {
                 "The patient’s date of birth is after any drug pick up date",
                 EptsReportUtils.map(
                     summaryDataQualityCohorts.getPatientsWhoseBirthDatesAreAfterEncounterDate(
-                        Arrays.asList(
-                            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId())),
+                        Arrays.asList(hivMetadata.getARVPharmaciaEncounterTypeId())),
                     "location=${location},endDate=${endDate}"),
                 Arrays.asList(
                     EptsReportUtils.getProgramConfigurableParameter(hivMetadata.getARTProgram()))),
@@ -303,10 +292,8 @@ public class SummaryDataQualityDataset extends BaseDataSet {
                 EptsReportUtils.map(
                     summaryDataQualityCohorts.getPatientsWhoseBirthDatesAreAfterEncounterDate(
                         Arrays.asList(
-                            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-                            hivMetadata
-                                .getPediatriaSeguimentoEncounterType()
-                                .getEncounterTypeId())),
+                            hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+                            hivMetadata.getPediatriaSeguimentoEncounterTypeId())),
                     "location=${location},endDate=${endDate}"),
                 Arrays.asList(
                     EptsReportUtils.getProgramConfigurableParameter(hivMetadata.getARTProgram()))),
@@ -321,8 +308,7 @@ public class SummaryDataQualityDataset extends BaseDataSet {
                 "The patients whose date of drug pick up is before 1985",
                 EptsReportUtils.map(
                     summaryDataQualityCohorts.getPatientsWhoseEncounterIsBefore1985(
-                        Arrays.asList(
-                            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId())),
+                        Arrays.asList(hivMetadata.getARVPharmaciaEncounterTypeId())),
                     "location=${location},endDate=${endDate}"),
                 Arrays.asList(
                     EptsReportUtils.getProgramConfigurableParameter(hivMetadata.getARTProgram()))),
@@ -338,8 +324,8 @@ public class SummaryDataQualityDataset extends BaseDataSet {
                 EptsReportUtils.map(
                     summaryDataQualityCohorts.getPatientsWhoseEncounterIsBefore1985(
                         Arrays.asList(
-                            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-                            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId())),
+                            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+                            hivMetadata.getAdultoSeguimentoEncounterTypeId())),
                     "location=${location},endDate=${endDate}"),
                 Arrays.asList(
                     EptsReportUtils.getProgramConfigurableParameter(hivMetadata.getARTProgram()))),
@@ -354,8 +340,7 @@ public class SummaryDataQualityDataset extends BaseDataSet {
                 "The patients' whose date of laboratory test specimen collection date or results report date is before 1985",
                 EptsReportUtils.map(
                     summaryDataQualityCohorts.getPatientsWhoseEncounterIsBefore1985(
-                        Arrays.asList(
-                            hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId())),
+                        Arrays.asList(hivMetadata.getMisauLaboratorioEncounterTypeId())),
                     "location=${location},endDate=${endDate}"),
                 Arrays.asList(
                     EptsReportUtils.getProgramConfigurableParameter(hivMetadata.getARTProgram()))),
@@ -43,9 +43,9 @@ public class SummaryEc20DataQualityDataset extends BaseDataSet {
                 EptsReportUtils.map(
                     summaryEc20DataQualityCohorts.getPatientsNotEnrolledOnTARV(
                         Arrays.asList(
-                            hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
-                            hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-                            hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId()),
+                            hivMetadata.getARVPharmaciaEncounterTypeId(),
+                            hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+                            hivMetadata.getAdultoSeguimentoEncounterTypeId()),
                         hivMetadata.getARTProgram().getProgramId()),
                     "location=${location},endDate=${endDate}")),
             "location=${location},endDate=${endDate}"),
@@ -19,13 +19,13 @@ public class CommonAgeDimensionCohort implements AgeDimensionCohortInterface {
 
   @Override
   public Mapped<CohortDefinition> createXtoYAgeCohort(String name, Integer minAge, Integer maxAge) {
-    CohortDefinition ageCohort = ageCohortQueries.createXtoYAgeCohort(name, minAge, maxAge);
+    CohortDefinition ageCohort = ageCohortQueries.createXtoYAgeBandCohort(name, minAge, maxAge);
     return EptsReportUtils.map(ageCohort, "effectiveDate=${effectiveDate}");
   }
 
   @Override
   public Mapped<CohortDefinition> createUnknownAgeCohort() {
-    CohortDefinition ageCohort = ageCohortQueries.createUnknownAgeCohort();
+    CohortDefinition ageCohort = ageCohortQueries.createUnknownAgeBandCohort();
     return EptsReportUtils.map(ageCohort, "");
   }
 
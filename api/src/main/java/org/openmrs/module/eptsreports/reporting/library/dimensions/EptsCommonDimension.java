@@ -16,9 +16,11 @@ import static org.openmrs.module.reporting.evaluation.parameter.Mapped.mapStraig
 
 import java.util.Arrays;
 import java.util.Date;
+import java.util.Map;
 import org.openmrs.Location;
 import org.openmrs.module.eptsreports.metadata.CommonMetadata;
 import org.openmrs.module.eptsreports.metadata.HivMetadata;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.DimensionOptionCohortDefinition;
 import org.openmrs.module.eptsreports.reporting.library.cohorts.*;
 import org.openmrs.module.eptsreports.reporting.library.cohorts.advancedhivillness.ResumoMensalDAHCohortQueries;
 import org.openmrs.module.eptsreports.reporting.library.queries.TbPrevQueries;
@@ -26,6 +28,7 @@ import org.openmrs.module.eptsreports.reporting.utils.EptsReportUtils;
 import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
 import org.openmrs.module.reporting.cohort.definition.CompositionCohortDefinition;
 import org.openmrs.module.reporting.cohort.definition.InverseCohortDefinition;
+import org.openmrs.module.reporting.evaluation.parameter.Mapped;
 import org.openmrs.module.reporting.evaluation.parameter.Parameter;
 import org.openmrs.module.reporting.indicator.dimension.CohortDefinitionDimension;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -138,9 +141,11 @@ public class EptsCommonDimension {
   public CohortDefinitionDimension gender() {
     CohortDefinitionDimension dim = new CohortDefinitionDimension();
     dim.setName("gender");
-    dim.addCohortDefinition("M", EptsReportUtils.map(genderCohortQueries.maleCohort(), ""));
-    dim.addCohortDefinition("F", EptsReportUtils.map(genderCohortQueries.femaleCohort(), ""));
-    return dim;
+    dim.addCohortDefinition(
+        "M", EptsReportUtils.map(genderCohortQueries.genderBandCohort("M"), ""));
+    dim.addCohortDefinition(
+        "F", EptsReportUtils.map(genderCohortQueries.genderBandCohort("F"), ""));
+    return cacheOptions("gender", dim);
   }
 
   /**
@@ -268,7 +273,7 @@ public class EptsCommonDimension {
         DimensionKeyForAge.overOrEqualTo65Years.getKey(),
         ageDimensionCohort.createXtoYAgeCohort("patients with age over 65 years", 65, null));
 
-    return dim;
+    return cacheOptions("age|" + ageDimensionCohort.getClass().getName(), dim);
   }
 
   /** @return CohortDefinitionDimension */
@@ -519,7 +524,7 @@ public class EptsCommonDimension {
     dim.addCohortDefinition("MSW", map(maleSexWorkerKeyPopCohort, mappings));
     dim.addCohortDefinition("TG", map(transgenderKeyPopCohort, mappings));
     dim.addCohortDefinition("SW", map(sexWorkersKeyPopCohort, mappings));
-    return dim;
+    return cacheOptions("keypop", dim);
   }
 
   public CohortDefinitionDimension getViralLoadRoutineTargetReasonsDimension() {
@@ -568,7 +573,7 @@ public class EptsCommonDimension {
         ">6m",
         EptsReportUtils.map(
             more6m, "onOrAfter=${onOrAfter},onOrBefore=${onOrBefore},location=${locationList}"));
-    return dim;
+    return cacheOptions("disp", dim);
   }
 
   /** Dimension for DSD eligible and not eligible patients */
@@ -1231,4 +1236,24 @@ public class EptsCommonDimension {
 
     return dim;
   }
+
+  /**
+   * Wraps the options of the dimension in {@link DimensionOptionCohortDefinition}s so that each
+   * option cohort is evaluated once per report run for the same parameter values
+   *
+   * @param key identifies the dimension across the data sets of a report
+   * @param dim the dimension
+   * @return the same dimension
+   */
+  private CohortDefinitionDimension cacheOptions(String key, CohortDefinitionDimension dim) {
+    for (Map.Entry<String, Mapped<CohortDefinition>> option :
+        dim.getCohortDefinitions().entrySet()) {
+      Mapped<CohortDefinition> mapped = option.getValue();
+      CohortDefinition cached =
+          new DimensionOptionCohortDefinition(
+              key + "|" + option.getKey(), mapped.getParameterizable());
+      option.setValue(new Mapped<>(cached, mapped.getParameterMappings()));
+    }
+    return dim;
+  }
 }
@@ -4,7 +4,7 @@ import java.util.Date;
 import org.openmrs.Location;
 import org.openmrs.api.context.Context;
 import org.openmrs.module.eptsreports.reporting.calculation.rtt.ReturnedDateIITDateDaysCalculation;
-import org.openmrs.module.eptsreports.reporting.cohort.definition.CalculationCohortDefinition;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.ClassifierCohortDefinition;
 import org.openmrs.module.eptsreports.reporting.library.cohorts.TxRttCohortQueries;
 import org.openmrs.module.eptsreports.reporting.utils.EptsReportUtils;
 import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
@@ -61,9 +61,11 @@ public class TxRTTDimenstion {
   }
 
   public CohortDefinition getPatientsReturnedAndIITDays(PLHIVDays period) {
-    CalculationCohortDefinition calculationCohortDefinition =
-        new CalculationCohortDefinition(
-            Context.getRegisteredComponents(ReturnedDateIITDateDaysCalculation.class).get(0));
+    ClassifierCohortDefinition calculationCohortDefinition =
+        new ClassifierCohortDefinition(
+            null,
+            Context.getRegisteredComponents(ReturnedDateIITDateDaysCalculation.class).get(0),
+            period);
     if (period == PLHIVDays.UNKNOWN) {
       calculationCohortDefinition.setName("unknown");
     } else if (period == PLHIVDays.LESS_THAN_365) {
@@ -76,8 +78,6 @@ public class TxRTTDimenstion {
     calculationCohortDefinition.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
     calculationCohortDefinition.addParameter(new Parameter("location", "location", Location.class));
 
-    calculationCohortDefinition.addCalculationParameter("period", period);
-
     return calculationCohortDefinition;
   }
 }
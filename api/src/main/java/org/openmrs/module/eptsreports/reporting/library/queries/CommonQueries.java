@@ -5,6 +5,7 @@ import java.util.Map;
 import org.apache.commons.text.StringSubstitutor;
 import org.openmrs.module.eptsreports.metadata.CommonMetadata;
 import org.openmrs.module.eptsreports.metadata.HivMetadata;
+import org.openmrs.module.eptsreports.reporting.utils.queries.QueryTemplates;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -158,11 +159,11 @@ public class CommonQueries {
 
     return getPregnantWomenAndMostEarliestPregnancyDateQuery(
         hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+        hivMetadata.getAdultoSeguimentoEncounterTypeId(),
         commonMetadata.getPregnantConcept().getConceptId(),
-        hivMetadata.getPatientFoundYesConcept().getConceptId(),
+        hivMetadata.getPatientFoundYesConceptId(),
         hivMetadata.getARVStartDateConcept().getConceptId(),
-        hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+        hivMetadata.getMasterCardEncounterTypeId(),
         hivMetadata.getCriteriaForArtStart().getConceptId(),
         hivMetadata.getBpostiveConcept().getConceptId(),
         commonMetadata.getNumberOfWeeksPregnant().getConceptId(),
@@ -186,11 +187,11 @@ public class CommonQueries {
 
     return getBreastFeedingWomenAndMostRecentBreastfeedingDateQuery(
         hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId(),
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
+        hivMetadata.getAdultoSeguimentoEncounterTypeId(),
         commonMetadata.getPregnantConcept().getConceptId(),
-        hivMetadata.getPatientFoundYesConcept().getConceptId(),
+        hivMetadata.getPatientFoundYesConceptId(),
         hivMetadata.getARVStartDateConcept().getConceptId(),
-        hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+        hivMetadata.getMasterCardEncounterTypeId(),
         hivMetadata.getCriteriaForArtStart().getConceptId(),
         hivMetadata.getBpostiveConcept().getConceptId(),
         commonMetadata.getNumberOfWeeksPregnant().getConceptId(),
@@ -629,18 +630,18 @@ public class CommonQueries {
    */
   public String getARTStartDate(boolean startDate) {
     return getARTStartDate(
-        hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId(),
-        hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId(),
-        hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
-        hivMetadata.getStartDrugs().getConceptId(),
+        hivMetadata.getAdultoSeguimentoEncounterTypeId(),
+        hivMetadata.getPediatriaSeguimentoEncounterTypeId(),
+        hivMetadata.getARVPharmaciaEncounterTypeId(),
+        hivMetadata.getStartDrugsConceptId(),
         hivMetadata.getARVPlanConcept().getConceptId(),
-        hivMetadata.getMasterCardEncounterType().getEncounterTypeId(),
+        hivMetadata.getMasterCardEncounterTypeId(),
         hivMetadata.getARVStartDateConcept().getConceptId(),
-        hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-        hivMetadata.getArtDatePickupMasterCard().getConceptId(),
+        hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+        hivMetadata.getArtDatePickupMasterCardConceptId(),
         hivMetadata.getARTProgram().getProgramId(),
         hivMetadata.getArtPickupConcept().getConceptId(),
-        hivMetadata.getPatientFoundYesConcept().getConceptId(),
+        hivMetadata.getPatientFoundYesConceptId(),
         startDate);
   }
 
@@ -764,36 +765,37 @@ public class CommonQueries {
     return stringSubstitutor.replace(sql);
   }
 
-  public String InitialArtStartDateOverallQuery(String endDate, Integer location) {
+  /**
+   * The ART start date of every patient at the location, over all the sources, up to the end date
+   *
+   * @return query with the :endDate and :location parameters
+   */
+  public String InitialArtStartDateOverallQuery() {
 
     Map<String, Integer> valuesMap = new HashMap<>();
-    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    valuesMap.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    valuesMap.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    valuesMap.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    valuesMap.put("1256", hivMetadata.getStartDrugsConceptId());
     valuesMap.put("1255", hivMetadata.getARVPlanConcept().getConceptId());
     valuesMap.put("2", hivMetadata.getARTProgram().getProgramId());
     valuesMap.put("1190", hivMetadata.getHistoricalDrugStartDateConcept().getConceptId());
     valuesMap.put("1369", hivMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     valuesMap.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    valuesMap.put("1065", hivMetadata.getYesConcept().getConceptId());
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("1065", hivMetadata.getYesConceptId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
 
     String sql =
         "SELECT art.patient_id AS patient_id, MIN(art.first_pickup) AS first_pickup FROM("
             + " SELECT p.patient_id, MIN(e.encounter_datetime) first_pickup FROM patient p "
             + " INNER JOIN encounter e ON e.patient_id = p.patient_id "
             + " WHERE e.encounter_type = ${18} "
-            + " AND e.encounter_datetime <='"
-            + endDate
-            + "'"
+            + " AND e.encounter_datetime <=:endDate"
             + " AND e.voided = 0 "
             + " AND p.voided = 0 "
-            + " AND e.location_id = "
-            + location
-            + " GROUP BY p.patient_id "
+            + " AND e.location_id = :location GROUP BY p.patient_id "
             + " UNION "
             + " SELECT p.patient_id, Min(e.encounter_datetime) first_pickup  "
             + "                                 FROM patient p  "
@@ -807,12 +809,8 @@ public class CommonQueries {
             + "                           AND e.encounter_type IN (${6}, ${9}, ${18})  "
             + "                           AND o.concept_id = ${1255}  "
             + "                           AND o.value_coded= ${1256}  "
-            + "                           AND e.encounter_datetime <= '"
-            + endDate
-            + "'"
-            + "                           AND e.location_id =  "
-            + location
-            + "                       GROUP  BY p.patient_id  "
+            + "                           AND e.encounter_datetime <= :endDate"
+            + "                           AND e.location_id =  :location                       GROUP  BY p.patient_id  "
             + " UNION "
             + " SELECT p.patient_id, pg.date_enrolled AS first_pickup "
             + "     FROM   patient p   "
@@ -820,12 +818,8 @@ public class CommonQueries {
             + "                ON p.patient_id = pg.patient_id  "
             + "        INNER JOIN patient_state ps  "
             + "                   ON pg.patient_program_id = ps.patient_program_id  "
-            + "     WHERE  pg.location_id = "
-            + location
-            + " AND pg.voided = 0"
-            + "    AND pg.program_id = ${2} and pg.date_enrolled <='"
-            + endDate
-            + "'"
+            + "     WHERE  pg.location_id = :location AND pg.voided = 0"
+            + "    AND pg.program_id = ${2} and pg.date_enrolled <=:endDate"
             + " UNION "
             + " SELECT p.patient_id, MIN(ob.value_datetime) first_pickup  "
             + "                                 FROM patient p  "
@@ -837,12 +831,8 @@ public class CommonQueries {
             + "                           AND ob.voided = 0  "
             + "                           AND  e.encounter_type IN(${6},${9},${18},${53}) "
             + "                           AND ob.concept_id = ${1190}  "
-            + "                           AND ob.value_datetime <= '"
-            + endDate
-            + "'"
-            + "                           AND ob.location_id =  "
-            + location
-            + "                       GROUP  BY p.patient_id  "
+            + "                           AND ob.value_datetime <= :endDate"
+            + "                           AND ob.location_id =  :location                       GROUP  BY p.patient_id  "
             + " UNION "
             + " SELECT p.patient_id, Min(e.encounter_datetime) first_pickup  "
             + "                                 FROM patient p  "
@@ -855,12 +845,8 @@ public class CommonQueries {
             + "                           AND o.voided = 0  "
             + "                           AND o.concept_id = ${1255}  "
             + "                           AND o.value_coded= ${1369}  "
-            + "                           AND e.encounter_datetime <= '"
-            + endDate
-            + "'"
-            + "                           AND e.location_id =  "
-            + location
-            + "                       GROUP  BY p.patient_id  "
+            + "                           AND e.encounter_datetime <= :endDate"
+            + "                           AND e.location_id =  :location                       GROUP  BY p.patient_id  "
             + "    UNION "
             + " SELECT p.patient_id,  MIN(o.value_datetime) AS first_pickup FROM patient p "
             + " INNER JOIN encounter e ON e.patient_id = p.patient_id "
@@ -869,23 +855,17 @@ public class CommonQueries {
             + "   AND o.person_id = oyes.person_id "
             + "   WHERE e.encounter_type = ${52} "
             + "   AND o.concept_id = ${23866} "
-            + "   AND o.value_datetime <= '"
-            + endDate
-            + "'"
+            + "   AND o.value_datetime <= :endDate"
             + "   AND o.voided = 0 "
             + "                 AND oyes.concept_id = ${23865} "
             + "                 AND oyes.value_coded = ${1065} "
             + "                 AND oyes.voided = 0 "
-            + "   AND e.location_id = "
-            + location
-            + "   AND e.voided = 0 "
+            + "   AND e.location_id = :location   AND e.voided = 0 "
             + "   AND p.voided = 0 "
             + " GROUP BY p.patient_id "
             + ") art GROUP BY patient_id";
 
-    StringSubstitutor stringSubstitutor = new StringSubstitutor(valuesMap);
-
-    return stringSubstitutor.replace(sql);
+    return QueryTemplates.render("InitialArtStartDateOverallQuery", valuesMap, sql);
   }
 
   /**
@@ -955,9 +935,9 @@ public class CommonQueries {
 
   public String getFirstDrugPickup() {
     return getFirstDrugPickupEver(
-        hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId(),
-        hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId(),
-        hivMetadata.getArtDatePickupMasterCard().getConceptId());
+        hivMetadata.getARVPharmaciaEncounterTypeId(),
+        hivMetadata.getMasterCardDrugPickupEncounterTypeId(),
+        hivMetadata.getArtDatePickupMasterCardConceptId());
   }
 
   public static String getArtInitiationDay() {
@@ -69,7 +69,7 @@ public class DsdQueries {
 
     Map<String, String> map = new HashMap<>();
     HivMetadata hivMetadata = new HivMetadata();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId().toString());
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId().toString());
     map.put("165322", hivMetadata.getMdcState().getConceptId().toString());
     map.put("dispensationTypes", StringUtils.join(dispensationTypes, ","));
@@ -217,9 +217,9 @@ public class DsdQueries {
     Map<String, Integer> valuesMap = new HashMap<>();
     HivMetadata hivMetadata = new HivMetadata();
 
-    valuesMap.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    valuesMap.put("53", hivMetadata.getMasterCardEncounterTypeId());
     valuesMap.put("1369", hivMetadata.getTransferredFromOtherFacilityConcept().getConceptId());
-    valuesMap.put("1065", hivMetadata.getYesConcept().getConceptId());
+    valuesMap.put("1065", hivMetadata.getYesConceptId());
     valuesMap.put("6276", hivMetadata.getArtStatus().getConceptId());
     valuesMap.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     valuesMap.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
@@ -284,7 +284,7 @@ public class DsdQueries {
     Map<String, Integer> valuesMap = new HashMap<>();
     HivMetadata hivMetadata = new HivMetadata();
 
-    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    valuesMap.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
     valuesMap.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
     String query =
         "SELECT p.patient_id "
@@ -329,8 +329,8 @@ public class DsdQueries {
 
     Map<String, Integer> valuesMap = new HashMap<>();
     HivMetadata hivMetadata = new HivMetadata();
-    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    valuesMap.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
+    valuesMap.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
 
     String query =
         "SELECT p.patient_id "
@@ -387,9 +387,9 @@ public class DsdQueries {
 
     Map<String, String> map = new HashMap<>();
     HivMetadata hivMetadata = new HivMetadata();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId().toString());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId().toString());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId().toString());
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
+    map.put("18", String.valueOf(hivMetadata.getARVPharmaciaEncounterTypeId()));
+    map.put("1256", String.valueOf(hivMetadata.getStartDrugsConceptId()));
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId().toString());
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId().toString());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId().toString());
@@ -579,9 +579,9 @@ public class DsdQueries {
 
     Map<String, String> map = new HashMap<>();
     HivMetadata hivMetadata = new HivMetadata();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId().toString());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId().toString());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId().toString());
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
+    map.put("18", String.valueOf(hivMetadata.getARVPharmaciaEncounterTypeId()));
+    map.put("1256", String.valueOf(hivMetadata.getStartDrugsConceptId()));
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId().toString());
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId().toString());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId().toString());
@@ -749,8 +749,8 @@ public class DsdQueries {
 
     Map<String, String> map = new HashMap<>();
     HivMetadata hivMetadata = new HivMetadata();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId().toString());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId().toString());
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
+    map.put("1256", String.valueOf(hivMetadata.getStartDrugsConceptId()));
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId().toString());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId().toString());
     map.put("165322", hivMetadata.getMdcState().getConceptId().toString());
@@ -831,8 +831,8 @@ public class DsdQueries {
 
     Map<String, String> map = new HashMap<>();
     HivMetadata hivMetadata = new HivMetadata();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId().toString());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId().toString());
+    map.put("6", String.valueOf(hivMetadata.getAdultoSeguimentoEncounterTypeId()));
+    map.put("1256", String.valueOf(hivMetadata.getStartDrugsConceptId()));
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId().toString());
     map.put("165174", hivMetadata.getLastRecordOfDispensingModeConcept().getConceptId().toString());
     map.put("165322", hivMetadata.getMdcState().getConceptId().toString());
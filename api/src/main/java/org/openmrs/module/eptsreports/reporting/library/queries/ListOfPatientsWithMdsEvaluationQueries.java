@@ -83,11 +83,11 @@ public class ListOfPatientsWithMdsEvaluationQueries {
             + "     GROUP BY first.patient_id ";
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
+    map.put("1065", hivMetadata.getYesConceptId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
 
     StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
     return stringSubstitutor.replace(query);
@@ -397,18 +397,18 @@ public class ListOfPatientsWithMdsEvaluationQueries {
         hivMetadata
             .getTransferredOutToAnotherHealthFacilityWorkflowState()
             .getProgramWorkflowStateId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
 
@@ -484,9 +484,9 @@ public class ListOfPatientsWithMdsEvaluationQueries {
     Map<String, Integer> map = new HashMap<>();
     map.put("2", hivMetadata.getARTProgram().getProgramId());
     map.put("29", hivMetadata.getHepatitisConcept().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("23891", hivMetadata.getDateOfMasterCardFileOpeningConcept().getConceptId());
 
     StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
@@ -561,18 +561,18 @@ public class ListOfPatientsWithMdsEvaluationQueries {
         hivMetadata
             .getTransferredOutToAnotherHealthFacilityWorkflowState()
             .getProgramWorkflowStateId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
 
@@ -1295,18 +1295,18 @@ public class ListOfPatientsWithMdsEvaluationQueries {
         hivMetadata
             .getTransferredOutToAnotherHealthFacilityWorkflowState()
             .getProgramWorkflowStateId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1369", commonMetadata.getTransferFromOtherFacilityConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("6300", hivMetadata.getTypeOfPatientTransferredFrom().getConceptId());
     map.put("6276", hivMetadata.getArtStatus().getConceptId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
     map.put("5096", hivMetadata.getReturnVisitDateForArvDrugConcept().getConceptId());
 
@@ -1550,12 +1550,12 @@ public class ListOfPatientsWithMdsEvaluationQueries {
             + " GROUP  BY p.patient_id ";
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23761", hivMetadata.getActiveTBConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
 
     StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
@@ -1598,12 +1598,12 @@ public class ListOfPatientsWithMdsEvaluationQueries {
             + " GROUP  BY p.patient_id ";
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23758", hivMetadata.getTBSymptomsConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
 
     StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
@@ -1647,7 +1647,7 @@ public class ListOfPatientsWithMdsEvaluationQueries {
             + " GROUP  BY p.patient_id ";
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1766", tbMetadata.getObservationTB().getConceptId());
     map.put("1763", tbMetadata.getFeverLastingMoraThan3Weeks().getConceptId());
     map.put("1764", tbMetadata.getWeightLossOfMoreThan3KgInLastMonth().getConceptId());
@@ -1656,11 +1656,11 @@ public class ListOfPatientsWithMdsEvaluationQueries {
     map.put("23760", tbMetadata.getAsthenia().getConceptId());
     map.put("1765", tbMetadata.getCohabitantBeingTreatedForTB().getConceptId());
     map.put("161", tbMetadata.getLymphadenopathy().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
     return stringSubstitutor.replace(query);
@@ -1701,16 +1701,16 @@ public class ListOfPatientsWithMdsEvaluationQueries {
             + " GROUP  BY p.patient_id ";
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1268", hivMetadata.getTBTreatmentPlanConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1257", hivMetadata.getContinueRegimenConcept().getConceptId());
     map.put("1267", hivMetadata.getCompletedConcept().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
     return stringSubstitutor.replace(query);
@@ -1750,80 +1750,19 @@ public class ListOfPatientsWithMdsEvaluationQueries {
             + " GROUP  BY p.patient_id ";
 
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1406", hivMetadata.getOtherDiagnosis().getConceptId());
     map.put("42", tbMetadata.getPulmonaryTB().getConceptId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
 
     StringSubstitutor stringSubstitutor = new StringSubstitutor(map);
     return stringSubstitutor.replace(query);
   }
 
-  public static String getFirstMdsAndDateQuery(int numberOfMonths) {
-    return "   SELECT     mds1.patient_id, "
-        + "                             otype1.value_coded AS mds_one,"
-        + "                                      enc.encounter_datetime AS first_mds "
-        + "                  FROM       patient mds1 "
-        + "                  INNER JOIN encounter enc "
-        + "                  ON         enc.patient_id = mds1.patient_id "
-        + "                  INNER JOIN obs otype1 "
-        + "                  ON         otype1.encounter_id = enc.encounter_id "
-        + "                  INNER JOIN obs ostate1 "
-        + "                  ON         ostate1.encounter_id = enc.encounter_id "
-        + "                  INNER JOIN ( "
-        + "                  SELECT     p.patient_id, "
-        + "                             MIN(e.encounter_datetime) AS encounter_date "
-        + "                  FROM       patient p "
-        + "                  INNER JOIN encounter e "
-        + "                  ON         e.patient_id = p.patient_id "
-        + "                  INNER JOIN obs otype "
-        + "                  ON         otype.encounter_id = e.encounter_id "
-        + "                  INNER JOIN obs ostate "
-        + "                  ON         ostate.encounter_id = e.encounter_id "
-        + "                  INNER JOIN ( "
-        + "                           SELECT art_patient.patient_id, "
-        + "                                  art_patient.first_pickup AS art_encounter "
-        + "                           FROM   ( "
-        + resumoMensalCohortQueries.getPatientStartedTarvBeforeQuery()
-        + "                           ) art_patient "
-        + "                             ) art "
-        + "                  ON         art.patient_id = p.patient_id "
-        + "                  WHERE      p.voided = 0 "
-        + "                  AND        e.voided = 0 "
-        + "                  AND        otype.voided = 0 "
-        + "                  AND        ostate.voided = 0 "
-        + "                  AND        e.encounter_type = ${6} "
-        + "                  AND        e.location_id = :location "
-        + "                  AND        e.encounter_datetime >= date_add( art.art_encounter, INTERVAL 33 DAY ) "
-        + "                  AND        e.encounter_datetime <= date_add( art.art_encounter, INTERVAL "
-        + numberOfMonths
-        + " MONTH ) "
-        + "                  AND    (   ( otype.concept_id = ${165174} "
-        + "                               AND otype.value_coded IS NOT NULL ) "
-        + "                  AND         ( ostate.concept_id = ${165322} "
-        + "                                 AND  ostate.value_coded IN (${1256}) ) ) "
-        + "                  AND  otype.obs_group_id = ostate.obs_group_id "
-        + "                  GROUP BY   p.patient_id ) mds_one "
-        + "                  ON mds_one.patient_id = mds1.patient_id "
-        + "                  WHERE mds1.voided = 0 "
-        + "                  AND enc.voided = 0 "
-        + "                  AND otype1.voided = 0 "
-        + "                  AND ostate1.voided = 0 "
-        + "                  AND        enc.encounter_type = ${6} "
-        + "                  AND        enc.location_id = :location "
-        + "                  AND        enc.encounter_datetime = mds_one.encounter_date "
-        + "                  AND    (   ( otype1.concept_id = ${165174} "
-        + "                               AND otype1.value_coded IS NOT NULL ) "
-        + "                  AND         ( ostate1.concept_id = ${165322} "
-        + "                                 AND  ostate1.value_coded IN (${1256}) ) ) "
-        + "                  AND  otype1.obs_group_id = ostate1.obs_group_id "
-        + "       GROUP BY mds1.patient_id ";
-  }
-
   public static String getCohortPatientsByYear(
       int minCohortNumberOfYears, int maxCohortNumberOfYears) {
     return "SELECT "
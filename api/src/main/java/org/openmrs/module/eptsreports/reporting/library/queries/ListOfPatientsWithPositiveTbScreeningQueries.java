@@ -29,7 +29,7 @@ public class ListOfPatientsWithPositiveTbScreeningQueries {
    */
   public String getPatientWithPulmonaryTbdDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1406", hivMetadata.getOtherDiagnosis().getConceptId());
     map.put("42", tbMetadata.getPulmonaryTB().getConceptId());
     String query =
@@ -64,9 +64,9 @@ public class ListOfPatientsWithPositiveTbScreeningQueries {
    */
   public String getPatientMarkedAsTbTreatmentStartAndDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1268", hivMetadata.getTBTreatmentPlanConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     String query =
         "SELECT p.patient_id,o.obs_datetime AS earliest_date "
             + "FROM   patient p "
@@ -122,9 +122,9 @@ public class ListOfPatientsWithPositiveTbScreeningQueries {
    */
   public String getPatientWithTuberculosisSymptomsAndDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23758", hivMetadata.getTBSymptomsConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         "SELECT p.patient_id,e.encounter_datetime AS earliest_date "
@@ -157,9 +157,9 @@ public class ListOfPatientsWithPositiveTbScreeningQueries {
    */
   public String getPatientsActiveTuberculosisDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23761", hivMetadata.getActiveTBConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         "SELECT p.patient_id,e.encounter_datetime AS earliest_date "
@@ -198,7 +198,7 @@ public class ListOfPatientsWithPositiveTbScreeningQueries {
    */
   public String getPatientsWithTbObservationsAndDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1766", tbMetadata.getObservationTB().getConceptId());
     map.put("1763", tbMetadata.getFeverLastingMoraThan3Weeks().getConceptId());
     map.put("1764", tbMetadata.getWeightLossOfMoreThan3KgInLastMonth().getConceptId());
@@ -239,7 +239,7 @@ public class ListOfPatientsWithPositiveTbScreeningQueries {
    */
   public String getPatientsWithApplicationsForLabResearch() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
     map.put("23723", tbMetadata.getTBGenexpertTestConcept().getConceptId());
     map.put("23774", tbMetadata.getCultureTest().getConceptId());
@@ -282,7 +282,7 @@ public class ListOfPatientsWithPositiveTbScreeningQueries {
    */
   public String getPatientsWithTbGenexpertAndDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23723", tbMetadata.getTBGenexpertTestConcept().getConceptId());
     map.put("23774", tbMetadata.getCultureTest().getConceptId());
     map.put("23951", tbMetadata.getTestTBLAM().getConceptId());
@@ -324,7 +324,7 @@ public class ListOfPatientsWithPositiveTbScreeningQueries {
    */
   public String getPatientsWithBaciloscopiaOrGenexpertOrCultureTestOrTestTbLamDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("23723", tbMetadata.getTBGenexpertTestConcept().getConceptId());
     map.put("23774", tbMetadata.getCultureTest().getConceptId());
     map.put("23951", tbMetadata.getTestTBLAM().getConceptId());
@@ -365,9 +365,9 @@ public class ListOfPatientsWithPositiveTbScreeningQueries {
    */
   public String getTbTreatmentStartDateFichaClinica() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1268", hivMetadata.getTBTreatmentPlanConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     String query =
         " SELECT p.patient_id, o.obs_datetime AS start_date "
             + "FROM   patient p "
@@ -406,7 +406,7 @@ public class ListOfPatientsWithPositiveTbScreeningQueries {
    */
   public String getPulmonaryTbDateFichaResumo() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1406", hivMetadata.getOtherDiagnosis().getConceptId());
     map.put("42", tbMetadata.getPulmonaryTB().getConceptId());
     String query =
@@ -472,9 +472,9 @@ public class ListOfPatientsWithPositiveTbScreeningQueries {
    */
   public String getActiveTuberculosisDateFichaClinica() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23761", hivMetadata.getActiveTBConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         " SELECT p.patient_id,e.encounter_datetime AS start_date "
@@ -564,8 +564,8 @@ public class ListOfPatientsWithPositiveTbScreeningQueries {
    */
   public String getPatientsClinicalRecordArtWithTbTratment() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("1113", hivMetadata.getTBDrugStartDateConcept().getConceptId());
 
     String query =
@@ -0,0 +1,90 @@
+package org.openmrs.module.eptsreports.reporting.library.queries;
+
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Queries writing and reading the epts_patient_summary table, which holds one row per patient and
+ * location with the ART start date of the patient at the location.
+ */
+@Component
+public class PatientSummaryQueries {
+
+  /** The location filter of each source of the ART start date, where the patient is {@code p} */
+  private static final Pattern LOCATION_FILTER =
+      Pattern.compile("\\b\\w+\\.location_id\\s*=\\s*:location\\b");
+
+  private final CommonQueries commonQueries;
+
+  @Autowired
+  public PatientSummaryQueries(CommonQueries commonQueries) {
+    this.commonQueries = commonQueries;
+  }
+
+  /** @return the patient id of every patient */
+  public String getAllPatientsQuery() {
+    return "SELECT p.patient_id FROM patient p";
+  }
+
+  /**
+   * Patients whose encounters, observations, programs or demographics were created, changed or
+   * voided on or after the {@code since} parameter
+   *
+   * @return {@link String}
+   */
+  public String getChangedPatientsQuery() {
+    return "SELECT e.patient_id FROM encounter e "
+        + " WHERE e.date_created >= :since OR e.date_changed >= :since OR e.date_voided >= :since "
+        + " UNION "
+        + " SELECT o.person_id AS patient_id FROM obs o "
+        + " WHERE o.date_created >= :since OR o.date_voided >= :since "
+        + " UNION "
+        + " SELECT pp.patient_id FROM patient_program pp "
+        + " WHERE pp.date_created >= :since OR pp.date_changed >= :since "
+        + "     OR pp.date_voided >= :since "
+        + " UNION "
+        + " SELECT pp.patient_id FROM patient_program pp "
+        + "     INNER JOIN patient_state ps ON ps.patient_program_id = pp.patient_program_id "
+        + " WHERE ps.date_created >= :since OR ps.date_changed >= :since "
+        + "     OR ps.date_voided >= :since "
+        + " UNION "
+        + " SELECT p.patient_id FROM patient p "
+        + " WHERE p.date_changed >= :since OR p.date_voided >= :since "
+        + " UNION "
+        + " SELECT pe.person_id AS patient_id FROM person pe "
+        + " WHERE pe.date_changed >= :since OR pe.date_voided >= :since ";
+  }
+
+  /**
+   * The ART start date, {@link CommonQueries#InitialArtStartDateOverallQuery()}, of the patients in
+   * the {@code patientIds} parameter who started ART on or before the end date at the location.
+   * Every source of the ART start date is filtered by the patient ids next to its location, so only
+   * the records of those patients are read.
+   *
+   * @return {@link String}
+   */
+  public String getSummaryQuery() {
+    String artStartDates =
+        LOCATION_FILTER
+            .matcher(commonQueries.InitialArtStartDateOverallQuery())
+            .replaceAll("$0 AND p.patient_id IN (:patientIds)");
+    return "SELECT art.patient_id, art.first_pickup FROM ( "
+        + artStartDates
+        + " ) art WHERE art.first_pickup IS NOT NULL";
+  }
+
+  /**
+   * The ART start date of the patients who started ART on or before the end date at the location,
+   * read from epts_patient_summary. As the ART start date is the earliest of its records, it is the
+   * same for any end date on or after it and the result matches {@link
+   * CommonQueries#InitialArtStartDateOverallQuery()} as long as the table is up to date.
+   *
+   * @return {@link String}
+   */
+  public String getArtStartDateQuery() {
+    return "SELECT s.patient_id, s.art_start_date AS first_pickup "
+        + " FROM epts_patient_summary s "
+        + " WHERE s.location_id = :location AND s.art_start_date <= :endDate";
+  }
+}
@@ -383,8 +383,8 @@ public class ResumoMensalQueries {
 
     HivMetadata metadata = new HivMetadata();
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", metadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("856", metadata.getHivViralLoadConcept().getConceptId());
+    map.put("53", metadata.getMasterCardEncounterTypeId());
+    map.put("856", metadata.getHivViralLoadConceptId());
     String query =
         "SELECT p.patient_id FROM patient p JOIN encounter e ON p.patient_id=e.patient_id JOIN obs o ON e.encounter_id=o.encounter_id "
             + " WHERE p.voided=0 AND e.voided=0 AND o.voided=0 AND e.location_id=:location "
@@ -422,7 +422,7 @@ public class ResumoMensalQueries {
 
     HivMetadata metadata = new HivMetadata();
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", metadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", metadata.getMasterCardEncounterTypeId());
     map.put("1305", metadata.getHivViralLoadQualitative().getConceptId());
     String query =
         "SELECT p.patient_id FROM patient p JOIN encounter e ON p.patient_id=e.patient_id JOIN obs o ON e.encounter_id=o.encounter_id "
@@ -504,8 +504,8 @@ public class ResumoMensalQueries {
 
     HivMetadata metadata = new HivMetadata();
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", metadata.getMasterCardEncounterType().getEncounterTypeId());
-    map.put("856", metadata.getHivViralLoadConcept().getConceptId());
+    map.put("53", metadata.getMasterCardEncounterTypeId());
+    map.put("856", metadata.getHivViralLoadConceptId());
     map.put("1305", metadata.getHivViralLoadQualitative().getConceptId());
     String query =
         "SELECT p.patient_id FROM patient p JOIN encounter e ON p.patient_id=e.patient_id JOIN obs o ON e.encounter_id=o.encounter_id "
@@ -1172,17 +1172,17 @@ public class ResumoMensalQueries {
 
     HivMetadata hivMetadata = new HivMetadata();
 
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("23808", hivMetadata.getPreArtStartDate().getConceptId());
     map.put("5", hivMetadata.getARVAdultInitialEncounterType().getEncounterTypeId());
     map.put("7", hivMetadata.getARVPediatriaInitialEncounterType().getEncounterTypeId());
     map.put("1", hivMetadata.getHIVCareProgram().getProgramId());
-    map.put("18", hivMetadata.getARVPharmaciaEncounterType().getEncounterTypeId());
-    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterType().getEncounterTypeId());
-    map.put("23866", hivMetadata.getArtDatePickupMasterCard().getConceptId());
+    map.put("18", hivMetadata.getARVPharmaciaEncounterTypeId());
+    map.put("52", hivMetadata.getMasterCardDrugPickupEncounterTypeId());
+    map.put("23866", hivMetadata.getArtDatePickupMasterCardConceptId());
     map.put("23865", hivMetadata.getArtPickupConcept().getConceptId());
     map.put("1190", hivMetadata.getARVStartDateConcept().getConceptId());
-    map.put("1065", hivMetadata.getYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getYesConceptId());
     map.put("2", hivMetadata.getARTProgram().getProgramId());
 
     return map;
@@ -1217,8 +1217,8 @@ public class ResumoMensalQueries {
         hivMetadata
             .getTransferredOutToAnotherHealthFacilityWorkflowState()
             .getProgramWorkflowStateId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("6273", hivMetadata.getStateOfStayOfArtPatient().getConceptId());
     map.put("6272", hivMetadata.getStateOfStayOfPreArtPatient().getConceptId());
     map.put("1706", hivMetadata.getTransferredOutConcept().getConceptId());
@@ -34,10 +34,10 @@ public class TxtbDenominatorQueries {
    */
   public String getPatientAndScreeningDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("6257", tbMetadata.getTbScreeningConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     String query =
         "SELECT p.patient_id, "
@@ -71,8 +71,8 @@ public class TxtbDenominatorQueries {
    */
   public String getPatientWithAtLeastOnePosDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("6277", tbMetadata.getResearchResultConcept().getConceptId());
     map.put("703", tbMetadata.getPositiveConcept().getConceptId());
 
@@ -106,8 +106,8 @@ public class TxtbDenominatorQueries {
    */
   public String getPatientWithAtLeastTbTreatmentDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("1113", tbMetadata.getTBDrugTreatmentStartDate().getConceptId());
 
     String query =
@@ -167,7 +167,7 @@ public class TxtbDenominatorQueries {
    */
   public String getPatientWithPulmonaryTbdDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1406", hivMetadata.getOtherDiagnosis().getConceptId());
     map.put("42", tbMetadata.getPulmonaryTB().getConceptId());
     String query =
@@ -202,9 +202,9 @@ public class TxtbDenominatorQueries {
    */
   public String getPatientMarkedAsTbTreatmentStartAndDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1268", hivMetadata.getTBTreatmentPlanConcept().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     String query =
         "SELECT p.patient_id,o.value_datetime "
             + "FROM   patient p "
@@ -236,9 +236,9 @@ public class TxtbDenominatorQueries {
    */
   public String getPatientWithTuberculosisSymptomsAndDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23758", hivMetadata.getTBSymptomsConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
     map.put("1066", hivMetadata.getNoConcept().getConceptId());
     String query =
         "SELECT p.patient_id,e.encounter_datetime "
@@ -271,9 +271,9 @@ public class TxtbDenominatorQueries {
    */
   public String getPatientsActiveTuberculosisDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23761", hivMetadata.getActiveTBConcept().getConceptId());
-    map.put("1065", hivMetadata.getPatientFoundYesConcept().getConceptId());
+    map.put("1065", hivMetadata.getPatientFoundYesConceptId());
 
     String query =
         "SELECT p.patient_id,e.encounter_datetime "
@@ -312,7 +312,7 @@ public class TxtbDenominatorQueries {
    */
   public String getPatientsWithTbObservationsAndDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("1766", tbMetadata.getObservationTB().getConceptId());
     map.put("1763", tbMetadata.getFeverLastingMoraThan3Weeks().getConceptId());
     map.put("1764", tbMetadata.getWeightLossOfMoreThan3KgInLastMonth().getConceptId());
@@ -358,7 +358,7 @@ public class TxtbDenominatorQueries {
    */
   public String getPatientsWithApplicationsForLabResearch() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23722", hivMetadata.getApplicationForLaboratoryResearch().getConceptId());
     map.put("23723", tbMetadata.getTBGenexpertTestConcept().getConceptId());
     map.put("23774", tbMetadata.getCultureTest().getConceptId());
@@ -401,7 +401,7 @@ public class TxtbDenominatorQueries {
    */
   public String getPatientsWithTbGenexpertAndDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
     map.put("23723", tbMetadata.getTBGenexpertTestConcept().getConceptId());
     map.put("23774", tbMetadata.getCultureTest().getConceptId());
     map.put("23951", tbMetadata.getTestTBLAM().getConceptId());
@@ -439,7 +439,7 @@ public class TxtbDenominatorQueries {
    */
   public String getPatientsWithBaciloscopiaOrGenexpertOrCultureTestOrTestTbLamDate() {
     Map<String, Integer> map = new HashMap<>();
-    map.put("13", hivMetadata.getMisauLaboratorioEncounterType().getEncounterTypeId());
+    map.put("13", hivMetadata.getMisauLaboratorioEncounterTypeId());
     map.put("23723", tbMetadata.getTBGenexpertTestConcept().getConceptId());
     map.put("23774", tbMetadata.getCultureTest().getConceptId());
     map.put("23951", tbMetadata.getTestTBLAM().getConceptId());
@@ -548,12 +548,12 @@ public class TxtbDenominatorQueries {
 
     Map<String, Integer> map = new HashMap<>();
     map.put("5", tbMetadata.getTBProgram().getProgramId());
-    map.put("6", hivMetadata.getAdultoSeguimentoEncounterType().getEncounterTypeId());
-    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterType().getEncounterTypeId());
+    map.put("6", hivMetadata.getAdultoSeguimentoEncounterTypeId());
+    map.put("9", hivMetadata.getPediatriaSeguimentoEncounterTypeId());
     map.put("42", tbMetadata.getPulmonaryTB().getConceptId());
-    map.put("53", hivMetadata.getMasterCardEncounterType().getEncounterTypeId());
+    map.put("53", hivMetadata.getMasterCardEncounterTypeId());
     map.put("1113", tbMetadata.getTBDrugTreatmentStartDate().getConceptId());
-    map.put("1256", hivMetadata.getStartDrugs().getConceptId());
+    map.put("1256", hivMetadata.getStartDrugsConceptId());
     map.put("1268", hivMetadata.getTBTreatmentPlanConcept().getConceptId());
     map.put("1406", hivMetadata.getOtherDiagnosis().getConceptId());
 
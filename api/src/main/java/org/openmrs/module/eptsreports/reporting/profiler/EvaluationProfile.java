@@ -0,0 +1,285 @@
+package org.openmrs.module.eptsreports.reporting.profiler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+/**
+ * The evaluations of one report run, as a tree: each node is a definition evaluated through the
+ * reporting services, its children are the definitions evaluated while evaluating it.
+ */
+public class EvaluationProfile {
+
+  private final int id;
+
+  private final String name;
+
+  private final Date startDate;
+
+  private final Node root;
+
+  public EvaluationProfile(int id, String type, String name, String uuid) {
+    this.id = id;
+    this.name = name;
+    this.startDate = new Date();
+    this.root = new Node(type, name, uuid);
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Date getStartDate() {
+    return startDate;
+  }
+
+  public Node getRoot() {
+    return root;
+  }
+
+  /** @return the profile as a JSON tree, in the format of flame graph tools */
+  @SuppressWarnings("unchecked")
+  public String toJson() {
+    JSONObject json = root.toJson();
+    json.put("id", id);
+    json.put("startDate", startDate.getTime());
+    return json.toJSONString();
+  }
+
+  /**
+   * Sums the time spent in each definition, excluding the time spent in the definitions evaluated
+   * by it, over all the evaluations of the definition in the run
+   *
+   * @param limit the maximum number of definitions
+   * @return the definitions which took the longest, slowest first
+   */
+  public List<Timing> getSlowest(int limit) {
+    Map<String, Timing> timings = new LinkedHashMap<>();
+    addTimings(root, timings);
+    List<Timing> slowest = new ArrayList<>(timings.values());
+    Collections.sort(
+        slowest,
+        new Comparator<Timing>() {
+          @Override
+          public int compare(Timing a, Timing b) {
+            return Long.compare(b.selfMillis, a.selfMillis);
+          }
+        });
+    return slowest.subList(0, Math.min(limit, slowest.size()));
+  }
+
+  private static void addTimings(Node node, Map<String, Timing> timings) {
+    String key = node.type + "|" + node.name + "|" + node.uuid;
+    Timing timing = timings.get(key);
+    if (timing == null) {
+      timing = new Timing(node);
+      timings.put(key, timing);
+    }
+    timing.add(node);
+    for (Node child : node.getChildren()) {
+      addTimings(child, timings);
+    }
+  }
+
+  /** One evaluation of a definition */
+  public static class Node {
+
+    private final String type;
+
+    private final String name;
+
+    private final String uuid;
+
+    private final long start = System.nanoTime();
+
+    private final List<Node> children = Collections.synchronizedList(new ArrayList<Node>());
+
+    private volatile long millis = -1;
+
+    private volatile int rows = -1;
+
+    private final AtomicInteger cacheHits = new AtomicInteger();
+
+    private volatile String sql;
+
+    public Node(String type, String name, String uuid) {
+      this.type = type;
+      this.name = name;
+      this.uuid = uuid;
+    }
+
+    public Node addChild(String type, String name, String uuid) {
+      Node child = new Node(type, name, uuid);
+      children.add(child);
+      return child;
+    }
+
+    /**
+     * Ends the evaluation
+     *
+     * @param rows the number of patients or rows of the result, -1 if unknown
+     */
+    public void end(int rows) {
+      this.rows = rows;
+      this.millis = (System.nanoTime() - start) / 1000000;
+    }
+
+    public void recordCacheHit() {
+      cacheHits.incrementAndGet();
+    }
+
+    public void recordStatement(String sql) {
+      if (this.sql == null) {
+        this.sql = sql;
+      }
+    }
+
+    public String getType() {
+      return type;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public String getUuid() {
+      return uuid;
+    }
+
+    /** @return the wall time of the evaluation, the time so far if it is not over */
+    public long getMillis() {
+      return millis >= 0 ? millis : (System.nanoTime() - start) / 1000000;
+    }
+
+    public int getRows() {
+      return rows;
+    }
+
+    public int getCacheHits() {
+      return cacheHits.get();
+    }
+
+    public String getSql() {
+      return sql;
+    }
+
+    public List<Node> getChildren() {
+      synchronized (children) {
+        return new ArrayList<>(children);
+      }
+    }
+
+    /** @return the wall time minus the wall time of the children, at least 0 */
+    public long getSelfMillis() {
+      long self = getMillis();
+      for (Node child : getChildren()) {
+        self -= child.getMillis();
+      }
+      return Math.max(self, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    JSONObject toJson() {
+      JSONObject json = new JSONObject();
+      json.put("name", name);
+      json.put("type", type);
+      json.put("uuid", uuid);
+      json.put("value", getMillis());
+      json.put("rows", rows);
+      json.put("cacheHits", cacheHits.get());
+      json.put("sql", sql);
+      JSONArray array = new JSONArray();
+      for (Node child : getChildren()) {
+        array.add(child.toJson());
+      }
+      json.put("children", array);
+      return json;
+    }
+  }
+
+  /** The evaluations of one definition in a run */
+  public static class Timing {
+
+    private final String type;
+
+    private final String name;
+
+    private final String uuid;
+
+    private String sql;
+
+    private int evaluations;
+
+    private long millis;
+
+    private long selfMillis;
+
+    private int maxRows = -1;
+
+    private int cacheHits;
+
+    Timing(Node node) {
+      this.type = node.type;
+      this.name = node.name;
+      this.uuid = node.uuid;
+    }
+
+    void add(Node node) {
+      evaluations++;
+      millis += node.getMillis();
+      selfMillis += node.getSelfMillis();
+      maxRows = Math.max(maxRows, node.rows);
+      cacheHits += node.getCacheHits();
+      if (sql == null) {
+        sql = node.sql;
+      }
+    }
+
+    public String getType() {
+      return type;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public String getUuid() {
+      return uuid;
+    }
+
+    public String getSql() {
+      return sql;
+    }
+
+    public int getEvaluations() {
+      return evaluations;
+    }
+
+    public long getMillis() {
+      return millis;
+    }
+
+    public long getSelfMillis() {
+      return selfMillis;
+    }
+
+    public int getMaxRows() {
+      return maxRows;
+    }
+
+    public int getCacheHits() {
+      return cacheHits;
+    }
+  }
+}
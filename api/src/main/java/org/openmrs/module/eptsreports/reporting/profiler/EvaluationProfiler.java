@@ -0,0 +1,129 @@
+package org.openmrs.module.eptsreports.reporting.profiler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+
+/**
+ * Records the {@link EvaluationProfile} of the report runs. The profile of a run is kept in the
+ * cache of its evaluation context, shared by the child contexts of the run, and each thread keeps
+ * the stack of the definitions it is evaluating, so evaluations started from another thread of the
+ * run are attached to the root of the profile.
+ *
+ * <p>The profiles of the last {@link #KEPT_PROFILES} runs are kept in memory.
+ */
+public class EvaluationProfiler {
+
+  public static final String CACHE_KEY = "eptsreports.evaluationProfile";
+
+  public static final int KEPT_PROFILES = 10;
+
+  private static final AtomicInteger ids = new AtomicInteger();
+
+  private static final LinkedList<EvaluationProfile> profiles = new LinkedList<>();
+
+  private static final ThreadLocal<Deque<EvaluationProfile.Node>> stack =
+      new ThreadLocal<Deque<EvaluationProfile.Node>>() {
+        @Override
+        protected Deque<EvaluationProfile.Node> initialValue() {
+          return new ArrayDeque<>();
+        }
+      };
+
+  private EvaluationProfiler() {}
+
+  /**
+   * Starts the profile of a report run
+   *
+   * @return the root of the profile, null if the context already belongs to a profiled run
+   */
+  public static EvaluationProfile.Node startRun(
+      EvaluationContext context, String type, String name, String uuid) {
+    if (context.getFromCache(CACHE_KEY) != null) {
+      return null;
+    }
+    EvaluationProfile profile = new EvaluationProfile(ids.incrementAndGet(), type, name, uuid);
+    context.addToCache(CACHE_KEY, profile);
+    synchronized (profiles) {
+      profiles.addFirst(profile);
+      while (profiles.size() > KEPT_PROFILES) {
+        profiles.removeLast();
+      }
+    }
+    stack.get().push(profile.getRoot());
+    return profile.getRoot();
+  }
+
+  /**
+   * Starts the evaluation of a definition in a profiled run
+   *
+   * @return the node of the evaluation, null if the run is not profiled
+   */
+  public static EvaluationProfile.Node start(
+      EvaluationContext context, String type, String name, String uuid) {
+    Deque<EvaluationProfile.Node> nodes = stack.get();
+    EvaluationProfile.Node parent = nodes.peek();
+    if (parent == null) {
+      Object profile = context.getFromCache(CACHE_KEY);
+      if (!(profile instanceof EvaluationProfile)) {
+        return null;
+      }
+      parent = ((EvaluationProfile) profile).getRoot();
+    }
+    EvaluationProfile.Node node = parent.addChild(type, name, uuid);
+    nodes.push(node);
+    return node;
+  }
+
+  /**
+   * Ends an evaluation started by {@link #start} or {@link #startRun}
+   *
+   * @param node the node of the evaluation
+   * @param rows the number of patients or rows of the result, -1 if unknown
+   */
+  public static void end(EvaluationProfile.Node node, int rows) {
+    node.end(rows);
+    Deque<EvaluationProfile.Node> nodes = stack.get();
+    nodes.remove(node);
+    if (nodes.isEmpty()) {
+      stack.remove();
+    }
+  }
+
+  /** Counts a run cache hit in the evaluation in progress on the current thread, if any */
+  public static void recordCacheHit() {
+    EvaluationProfile.Node node = stack.get().peek();
+    if (node != null) {
+      node.recordCacheHit();
+    }
+  }
+
+  /** Keeps the SQL run by the evaluation in progress on the current thread, if any */
+  public static void recordStatement(String sql) {
+    EvaluationProfile.Node node = stack.get().peek();
+    if (node != null) {
+      node.recordStatement(sql);
+    }
+  }
+
+  /** @return the kept profiles, latest first */
+  public static List<EvaluationProfile> getProfiles() {
+    synchronized (profiles) {
+      return new ArrayList<>(profiles);
+    }
+  }
+
+  /** @return the kept profile with the given id, null if there is none */
+  public static EvaluationProfile getProfile(int id) {
+    for (EvaluationProfile profile : getProfiles()) {
+      if (profile.getId() == id) {
+        return profile;
+      }
+    }
+    return null;
+  }
+}
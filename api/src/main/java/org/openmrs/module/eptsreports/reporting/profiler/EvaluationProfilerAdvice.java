@@ -0,0 +1,124 @@
+package org.openmrs.module.eptsreports.reporting.profiler;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.Cohort;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.EptsReportsConfig;
+import org.openmrs.module.reporting.cohort.definition.SqlCohortDefinition;
+import org.openmrs.module.reporting.data.patient.EvaluatedPatientData;
+import org.openmrs.module.reporting.data.person.EvaluatedPersonData;
+import org.openmrs.module.reporting.dataset.DataSet;
+import org.openmrs.module.reporting.dataset.DataSetRow;
+import org.openmrs.module.reporting.dataset.SimpleDataSet;
+import org.openmrs.module.reporting.dataset.definition.SqlDataSetDefinition;
+import org.openmrs.module.reporting.evaluation.Definition;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.parameter.Mapped;
+import org.openmrs.module.reporting.report.definition.ReportDefinition;
+
+/**
+ * Around advice of the evaluate methods of the reporting definition services (see config.xml),
+ * recording each evaluation in the {@link EvaluationProfile} of its report run. Evaluating a report
+ * definition starts the profile of the run. Runs are profiled only when {@link
+ * EptsReportsConfig#GP_PROFILER_ENABLED} is true.
+ */
+public class EvaluationProfilerAdvice implements MethodInterceptor {
+
+  private static final Log log = LogFactory.getLog(EvaluationProfilerAdvice.class);
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Object[] arguments = invocation.getArguments();
+    if (!"evaluate".equals(invocation.getMethod().getName())
+        || arguments.length != 2
+        || !(arguments[1] instanceof EvaluationContext)) {
+      return invocation.proceed();
+    }
+    Object definition = arguments[0];
+    if (definition instanceof Mapped) {
+      definition = ((Mapped<?>) definition).getParameterizable();
+    }
+    if (!(definition instanceof Definition)) {
+      return invocation.proceed();
+    }
+    Definition d = (Definition) definition;
+    EvaluationContext context = (EvaluationContext) arguments[1];
+    String type = d.getClass().getSimpleName();
+
+    // the global property is read once per run, the evaluations of a profiled run are profiled
+    boolean run = definition instanceof ReportDefinition;
+    EvaluationProfile.Node node = null;
+    EvaluationProfile profile = null;
+    if (!run) {
+      node = EvaluationProfiler.start(context, type, d.getName(), d.getUuid());
+    } else if (isEnabled()) {
+      node = EvaluationProfiler.startRun(context, type, d.getName(), d.getUuid());
+      profile = (EvaluationProfile) context.getFromCache(EvaluationProfiler.CACHE_KEY);
+    }
+    if (node == null) {
+      return invocation.proceed();
+    }
+    if (d instanceof SqlCohortDefinition) {
+      node.recordStatement(((SqlCohortDefinition) d).getQuery());
+    } else if (d instanceof SqlDataSetDefinition) {
+      node.recordStatement(((SqlDataSetDefinition) d).getSqlQuery());
+    }
+    Object result = null;
+    try {
+      result = invocation.proceed();
+      return result;
+    } finally {
+      EvaluationProfiler.end(node, getRows(result));
+      if (profile != null) {
+        log.info(
+            d.getName()
+                + " evaluated in "
+                + node.getMillis()
+                + "ms, slowest definitions "
+                + toString(profile));
+      }
+    }
+  }
+
+  private static String toString(EvaluationProfile profile) {
+    StringBuilder slowest = new StringBuilder();
+    for (EvaluationProfile.Timing timing : profile.getSlowest(5)) {
+      slowest.append(slowest.length() == 0 ? "" : ", ");
+      slowest.append(timing.getName()).append('=').append(timing.getSelfMillis()).append("ms");
+    }
+    return slowest.toString();
+  }
+
+  private static boolean isEnabled() {
+    return Boolean.parseBoolean(
+        Context.getAdministrationService()
+            .getGlobalProperty(EptsReportsConfig.GP_PROFILER_ENABLED, "false")
+            .trim());
+  }
+
+  private static int getRows(Object result) {
+    if (result instanceof Cohort) {
+      return ((Cohort) result).size();
+    }
+    if (result instanceof SimpleDataSet) {
+      return ((SimpleDataSet) result).getRows().size();
+    }
+    if (result instanceof DataSet) {
+      int rows = 0;
+      for (DataSetRow ignored : (DataSet) result) {
+        rows++;
+      }
+      return rows;
+    }
+    if (result instanceof EvaluatedPatientData) {
+      return ((EvaluatedPatientData) result).getData().size();
+    }
+    if (result instanceof EvaluatedPersonData) {
+      return ((EvaluatedPersonData) result).getData().size();
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,301 @@
+package org.openmrs.module.eptsreports.reporting.queue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.api.EptsReportsService;
+
+/**
+ * Limits the number of runs of the EPTS reports in progress, and among them the number of runs of
+ * heavy reports. Further runs wait in the queue and are admitted in arrival order. A run only
+ * passes the runs before it which wait for a heavy run to end, so the heavy runs are never passed
+ * for more than the time of the heavy runs in progress.
+ *
+ * <p>The time of the last {@link #LAST_RUNS} successful runs of each report is kept in the
+ * epts_report_run table, to estimate how long the waiting runs will wait.
+ */
+public class EptsReportQueue {
+
+  public static final int LAST_RUNS = 5;
+
+  private static final Log log = LogFactory.getLog(EptsReportQueue.class);
+
+  /** Arrival order */
+  public static final Comparator<QueuedReportRun> ARRIVAL_ORDER =
+      new Comparator<QueuedReportRun>() {
+        @Override
+        public int compare(QueuedReportRun a, QueuedReportRun b) {
+          return Integer.compare(a.getId(), b.getId());
+        }
+      };
+
+  private static final AtomicInteger ids = new AtomicInteger();
+
+  private static final Set<String> reports = ConcurrentHashMap.newKeySet();
+
+  private static final Map<String, Deque<Long>> durations = new HashMap<>();
+
+  private static final List<QueuedReportRun> running = new ArrayList<>();
+
+  private static final List<QueuedReportRun> waiting = new ArrayList<>();
+
+  private static final ThreadLocal<QueuedReportRun> current = new ThreadLocal<>();
+
+  private static volatile boolean durationsLoaded;
+
+  private static int maxRuns;
+
+  private static int maxHeavyRuns;
+
+  private EptsReportQueue() {}
+
+  /**
+   * Adds a report to the reports whose runs are queued, the runs of the other reports are not
+   *
+   * @param uuid the uuid of the report definition
+   */
+  public static void addReport(String uuid) {
+    reports.add(uuid);
+  }
+
+  /** @return whether the runs of the report are queued */
+  public static boolean isQueued(String uuid) {
+    return reports.contains(uuid);
+  }
+
+  /** @return the run admitted on the current thread, null if there is none */
+  public static QueuedReportRun getCurrent() {
+    return current.get();
+  }
+
+  /**
+   * Queues a run of a report and waits until it is admitted
+   *
+   * @param uuid the uuid of the report definition
+   * @param name the name of the report definition
+   * @param heavy whether the report is heavy
+   * @param maxRuns the maximum number of runs in progress, 0 for no limit
+   * @param maxHeavyRuns the maximum number of runs of heavy reports in progress, 0 for no limit
+   * @return the admitted run, to pass to {@link #exit}
+   */
+  public static QueuedReportRun enter(
+      String uuid, String name, boolean heavy, int maxRuns, int maxHeavyRuns)
+      throws InterruptedException {
+    Map<String, List<Long>> saved = durationsLoaded ? null : loadDurations();
+    QueuedReportRun run;
+    synchronized (running) {
+      if (saved != null && !durationsLoaded) {
+        durationsLoaded = true;
+        for (Map.Entry<String, List<Long>> e : saved.entrySet()) {
+          if (!durations.containsKey(e.getKey())) {
+            durations.put(e.getKey(), new ArrayDeque<>(e.getValue()));
+          }
+        }
+      }
+      run = new QueuedReportRun(ids.incrementAndGet(), uuid, name, heavy, getExpected(uuid));
+      EptsReportQueue.maxRuns = maxRuns;
+      EptsReportQueue.maxHeavyRuns = maxHeavyRuns;
+      waiting.add(run);
+      try {
+        if (!isAdmitted(run, running, waiting, maxRuns, maxHeavyRuns)) {
+          log.info(name + " queued behind " + running.size() + " report runs in progress");
+        }
+        while (!isAdmitted(run, running, waiting, maxRuns, maxHeavyRuns)) {
+          running.wait();
+        }
+      } finally {
+        waiting.remove(run);
+        running.notifyAll();
+      }
+      run.start();
+      running.add(run);
+    }
+    current.set(run);
+    return run;
+  }
+
+  /**
+   * Ends a run admitted by {@link #enter}, admitting the next waiting runs
+   *
+   * @param run the run
+   * @param completed whether the run completed, only the time of the completed runs is kept
+   */
+  public static void exit(QueuedReportRun run, boolean completed) {
+    current.remove();
+    long millis = System.currentTimeMillis() - run.getStartDate().getTime();
+    synchronized (running) {
+      running.remove(run);
+      if (completed) {
+        addDuration(run.getUuid(), millis);
+      }
+      running.notifyAll();
+    }
+    if (completed) {
+      try {
+        Context.getService(EptsReportsService.class)
+            .saveReportRun(run.getUuid(), run.getStartDate(), millis, LAST_RUNS);
+      } catch (RuntimeException e) {
+        log.warn("Unable to save the time of " + run.getName(), e);
+      }
+    }
+  }
+
+  /** @return the runs in progress, oldest first */
+  public static List<QueuedReportRun> getRunning() {
+    synchronized (running) {
+      return new ArrayList<>(running);
+    }
+  }
+
+  /** @return the waiting runs, in arrival order, with their estimated wait */
+  public static List<QueuedReportRun> getWaiting() {
+    synchronized (running) {
+      List<QueuedReportRun> queue = new ArrayList<>(waiting);
+      Collections.sort(queue, ARRIVAL_ORDER);
+      estimate(running, queue, maxRuns, maxHeavyRuns, System.currentTimeMillis());
+      return queue;
+    }
+  }
+
+  /**
+   * Whether a waiting run can be admitted: the limits allow it and no run which arrived before it
+   * can be admitted. As the limit on all runs applies to all waiting runs alike, a run only passes
+   * the heavy runs waiting for a heavy run to end.
+   */
+  public static boolean isAdmitted(
+      QueuedReportRun run,
+      List<QueuedReportRun> running,
+      List<QueuedReportRun> waiting,
+      int maxRuns,
+      int maxHeavyRuns) {
+    int heavy = 0;
+    for (QueuedReportRun r : running) {
+      heavy += r.isHeavy() ? 1 : 0;
+    }
+    if (!fits(run.isHeavy(), running.size(), heavy, maxRuns, maxHeavyRuns)) {
+      return false;
+    }
+    for (QueuedReportRun w : waiting) {
+      if (ARRIVAL_ORDER.compare(w, run) < 0
+          && fits(w.isHeavy(), running.size(), heavy, maxRuns, maxHeavyRuns)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Estimates when the waiting runs will be admitted, assuming each run takes the average time of
+   * the last runs of its report, or of all reports for the reports which never ran
+   *
+   * @param running the runs in progress
+   * @param waiting the waiting runs, in arrival order
+   * @param maxRuns the maximum number of runs in progress, 0 for no limit
+   * @param maxHeavyRuns the maximum number of runs of heavy reports in progress, 0 for no limit
+   * @param now the current time
+   */
+  public static void estimate(
+      List<QueuedReportRun> running,
+      List<QueuedReportRun> waiting,
+      int maxRuns,
+      int maxHeavyRuns,
+      long now) {
+    long fallback = getFallback(running, waiting);
+    // start, end and heavy (1) or light (0) of the runs in progress and the admitted waiting runs
+    List<long[]> runs = new ArrayList<>();
+    for (QueuedReportRun r : running) {
+      long start = r.getStartDate() == null ? now : r.getStartDate().getTime();
+      long expected = r.getExpectedMillis() < 0 ? fallback : r.getExpectedMillis();
+      runs.add(new long[] {start, Math.max(start + expected, now), r.isHeavy() ? 1 : 0});
+      r.setEstimatedWaitMillis(0);
+    }
+    for (QueuedReportRun w : waiting) {
+      long time = now;
+      while (true) {
+        int count = 0;
+        int heavy = 0;
+        long next = Long.MAX_VALUE;
+        for (long[] r : runs) {
+          if (r[0] <= time && r[1] > time) {
+            count++;
+            heavy += r[2];
+            next = Math.min(next, r[1]);
+          }
+        }
+        if (next == Long.MAX_VALUE || fits(w.isHeavy(), count, heavy, maxRuns, maxHeavyRuns)) {
+          break;
+        }
+        time = next;
+      }
+      long expected = w.getExpectedMillis() < 0 ? fallback : w.getExpectedMillis();
+      runs.add(new long[] {time, time + expected, w.isHeavy() ? 1 : 0});
+      w.setEstimatedWaitMillis(time - now);
+    }
+  }
+
+  private static boolean fits(
+      boolean heavy, int runs, int heavyRuns, int maxRuns, int maxHeavyRuns) {
+    return (maxRuns <= 0 || runs < maxRuns)
+        && (!heavy || maxHeavyRuns <= 0 || heavyRuns < maxHeavyRuns);
+  }
+
+  private static long getFallback(List<QueuedReportRun> running, List<QueuedReportRun> waiting) {
+    long total = 0;
+    int count = 0;
+    for (List<QueuedReportRun> runs : Arrays.asList(running, waiting)) {
+      for (QueuedReportRun r : runs) {
+        if (r.getExpectedMillis() >= 0) {
+          total += r.getExpectedMillis();
+          count++;
+        }
+      }
+    }
+    return count == 0 ? 0 : total / count;
+  }
+
+  private static long getExpected(String uuid) {
+    Deque<Long> last = durations.get(uuid);
+    if (last == null || last.isEmpty()) {
+      return -1;
+    }
+    long total = 0;
+    for (Long millis : last) {
+      total += millis;
+    }
+    return total / last.size();
+  }
+
+  private static void addDuration(String uuid, long millis) {
+    Deque<Long> last = durations.get(uuid);
+    if (last == null) {
+      last = new ArrayDeque<>();
+      durations.put(uuid, last);
+    }
+    last.addFirst(millis);
+    while (last.size() > LAST_RUNS) {
+      last.removeLast();
+    }
+  }
+
+  /** Reads the saved times outside of the queue lock, so a slow database blocks no other run */
+  private static Map<String, List<Long>> loadDurations() {
+    try {
+      return Context.getService(EptsReportsService.class).getReportRunDurations(LAST_RUNS);
+    } catch (RuntimeException e) {
+      log.warn("Unable to load the time of the last report runs", e);
+      return Collections.emptyMap();
+    }
+  }
+}
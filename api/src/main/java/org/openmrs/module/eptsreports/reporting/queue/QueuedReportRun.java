@@ -0,0 +1,94 @@
+package org.openmrs.module.eptsreports.reporting.queue;
+
+import java.util.Date;
+
+/** A report run waiting in or admitted by the {@link EptsReportQueue} */
+public class QueuedReportRun {
+
+  private final int id;
+
+  private final String uuid;
+
+  private final String name;
+
+  private final boolean heavy;
+
+  private final long expectedMillis;
+
+  private final Date queuedDate = new Date();
+
+  private volatile Date startDate;
+
+  private volatile long estimatedWaitMillis;
+
+  /**
+   * @param id the id of the run
+   * @param uuid the uuid of the report definition
+   * @param name the name of the report definition
+   * @param heavy whether the report is in the heavy class
+   * @param expectedMillis the average time of the last runs of the report, -1 if it never ran
+   */
+  public QueuedReportRun(int id, String uuid, String name, boolean heavy, long expectedMillis) {
+    this.id = id;
+    this.uuid = uuid;
+    this.name = name;
+    this.heavy = heavy;
+    this.expectedMillis = expectedMillis;
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public String getUuid() {
+    return uuid;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public boolean isHeavy() {
+    return heavy;
+  }
+
+  public long getExpectedMillis() {
+    return expectedMillis;
+  }
+
+  /** @return the expected time of the run rounded up to minutes, -1 if the report never ran */
+  public long getExpectedMinutes() {
+    return expectedMillis < 0 ? -1 : toMinutes(expectedMillis);
+  }
+
+  public Date getQueuedDate() {
+    return queuedDate;
+  }
+
+  /** @return when the run was admitted, null while it is waiting */
+  public Date getStartDate() {
+    return startDate;
+  }
+
+  void start() {
+    startDate = new Date();
+  }
+
+  /** @return the estimated time until a waiting run is admitted, 0 for the runs in progress */
+  public long getEstimatedWaitMillis() {
+    return estimatedWaitMillis;
+  }
+
+  /** @return the estimated wait rounded up to minutes */
+  public long getEstimatedWaitMinutes() {
+    return toMinutes(estimatedWaitMillis);
+  }
+
+  void setEstimatedWaitMillis(long estimatedWaitMillis) {
+    this.estimatedWaitMillis = estimatedWaitMillis;
+  }
+
+  private static long toMinutes(long millis) {
+    return (millis + 59999) / 60000;
+  }
+}
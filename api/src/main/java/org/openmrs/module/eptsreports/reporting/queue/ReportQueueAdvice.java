@@ -0,0 +1,98 @@
+package org.openmrs.module.eptsreports.reporting.queue;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.EptsReportsConfig;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.parameter.Mapped;
+import org.openmrs.module.reporting.report.definition.ReportDefinition;
+
+/**
+ * Around advice of the evaluate methods of the ReportDefinitionService (see config.xml), making
+ * each run of an EPTS report wait for its turn in the {@link EptsReportQueue}. The runs of the
+ * reports of the other modules are left alone. The limits and the heavy reports are read from the
+ * global properties when the run is queued.
+ */
+public class ReportQueueAdvice implements MethodInterceptor {
+
+  private static final Log log = LogFactory.getLog(ReportQueueAdvice.class);
+
+  private static final int DEFAULT_MAX_RUNS = 3;
+
+  private static final int DEFAULT_MAX_HEAVY_RUNS = 1;
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Object[] arguments = invocation.getArguments();
+    if (!"evaluate".equals(invocation.getMethod().getName())
+        || arguments.length != 2
+        || !(arguments[1] instanceof EvaluationContext)
+        || EptsReportQueue.getCurrent() != null) {
+      return invocation.proceed();
+    }
+    Object definition = arguments[0];
+    if (definition instanceof Mapped) {
+      definition = ((Mapped<?>) definition).getParameterizable();
+    }
+    if (!(definition instanceof ReportDefinition)) {
+      return invocation.proceed();
+    }
+    ReportDefinition rd = (ReportDefinition) definition;
+    if (!EptsReportQueue.isQueued(rd.getUuid())) {
+      return invocation.proceed();
+    }
+    QueuedReportRun run;
+    try {
+      run =
+          EptsReportQueue.enter(
+              rd.getUuid(),
+              rd.getName(),
+              isHeavy(rd.getUuid()),
+              getLimit(EptsReportsConfig.GP_REPORT_QUEUE_MAX_RUNS, DEFAULT_MAX_RUNS),
+              getLimit(EptsReportsConfig.GP_REPORT_QUEUE_MAX_HEAVY_RUNS, DEFAULT_MAX_HEAVY_RUNS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new EvaluationException("Interrupted while waiting to run " + rd.getName(), e);
+    }
+    boolean completed = false;
+    try {
+      Object result = invocation.proceed();
+      completed = true;
+      return result;
+    } finally {
+      EptsReportQueue.exit(run, completed);
+    }
+  }
+
+  private static boolean isHeavy(String uuid) {
+    String value =
+        Context.getAdministrationService()
+            .getGlobalProperty(EptsReportsConfig.GP_REPORT_QUEUE_HEAVY_REPORTS);
+    if (StringUtils.isBlank(value)) {
+      return false;
+    }
+    for (String heavy : value.split(",")) {
+      if (uuid.equals(heavy.trim())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int getLimit(String property, int defaultValue) {
+    String value = Context.getAdministrationService().getGlobalProperty(property);
+    if (StringUtils.isNotBlank(value)) {
+      try {
+        return Integer.parseInt(value.trim());
+      } catch (NumberFormatException e) {
+        log.warn("Invalid value " + value + " for " + property + ", using " + defaultValue);
+      }
+    }
+    return defaultValue;
+  }
+}
@@ -11,6 +11,7 @@ import org.openmrs.module.eptsreports.reporting.library.datasets.DatimCodeDatase
 import org.openmrs.module.eptsreports.reporting.library.datasets.ListOfPatientsDefaultersOrIITTemplateDataSet;
 import org.openmrs.module.eptsreports.reporting.library.datasets.SismaCodeDatasetDefinition;
 import org.openmrs.module.eptsreports.reporting.reports.manager.EptsDataExportManager;
+import org.openmrs.module.eptsreports.reporting.reports.renderer.StreamingListRenderer;
 import org.openmrs.module.reporting.ReportingException;
 import org.openmrs.module.reporting.evaluation.parameter.Mapped;
 import org.openmrs.module.reporting.evaluation.parameter.Parameter;
@@ -93,7 +94,22 @@ public class SetupListOfPatientsDefaultersOrIITReport extends EptsDataExportMana
       throw new ReportingException(e.toString());
     }
 
-    return Arrays.asList(reportDesign);
+    ReportDesign xlsxDesign =
+        createStreamingReportDesign(
+            reportDefinition,
+            "List Patients Defaulters IIT TARV Report (XLSX)",
+            "100fe958-c3da-460b-b6a0-9e7b052f7d3a",
+            StreamingListRenderer.XLSX,
+            "FATL");
+    ReportDesign csvDesign =
+        createStreamingReportDesign(
+            reportDefinition,
+            "List Patients Defaulters IIT TARV Report (CSV)",
+            "67ae2bf5-a169-4cc6-99a4-8283181da4fc",
+            StreamingListRenderer.CSV,
+            "FATL");
+
+    return Arrays.asList(reportDesign, xlsxDesign, csvDesign);
   }
 
   @Override
@@ -10,6 +10,7 @@ import org.openmrs.module.eptsreports.reporting.library.datasets.DatimCodeDatase
 import org.openmrs.module.eptsreports.reporting.library.datasets.ListOfPatientsInAdvancedHivIllnessDataset;
 import org.openmrs.module.eptsreports.reporting.library.datasets.SismaCodeDatasetDefinition;
 import org.openmrs.module.eptsreports.reporting.reports.manager.EptsDataExportManager;
+import org.openmrs.module.eptsreports.reporting.reports.renderer.StreamingListRenderer;
 import org.openmrs.module.reporting.ReportingException;
 import org.openmrs.module.reporting.evaluation.parameter.Mapped;
 import org.openmrs.module.reporting.evaluation.parameter.Parameter;
@@ -105,7 +106,22 @@ public class SetupListOfPatientsInAdvancedHivIllness extends EptsDataExportManag
       throw new ReportingException(e.toString());
     }
 
-    return Arrays.asList(reportDesign);
+    ReportDesign xlsxDesign =
+        createStreamingReportDesign(
+            reportDefinition,
+            "Lista de Utentes em Doença Avançada por HIV (DAH) (XLSX)",
+            "33e9750f-17ae-421b-90ea-99fe701ca981",
+            StreamingListRenderer.XLSX,
+            "DAH");
+    ReportDesign csvDesign =
+        createStreamingReportDesign(
+            reportDefinition,
+            "Lista de Utentes em Doença Avançada por HIV (DAH) (CSV)",
+            "4903c19b-fd70-4d5d-87c2-61b9730f834d",
+            StreamingListRenderer.CSV,
+            "DAH");
+
+    return Arrays.asList(reportDesign, xlsxDesign, csvDesign);
   }
 
   @Override
@@ -0,0 +1,29 @@
+package org.openmrs.module.eptsreports.reporting.reports.definition;
+
+import org.openmrs.module.reporting.report.definition.ReportDefinition;
+
+/**
+ * A {@link ReportDefinition} with a list of locations parameter whose base cohort and data sets can
+ * be evaluated for each location on its own, the results of the locations being merged
+ *
+ * @see
+ *     org.openmrs.module.eptsreports.reporting.reports.evaluator.EptsLocationFanOutReportDefinitionEvaluator
+ */
+public class EptsLocationFanOutReportDefinition extends ReportDefinition {
+
+  public static final long serialVersionUID = 1L;
+
+  private String locationParameterName = "location";
+
+  public EptsLocationFanOutReportDefinition() {
+    super();
+  }
+
+  public String getLocationParameterName() {
+    return locationParameterName;
+  }
+
+  public void setLocationParameterName(String locationParameterName) {
+    this.locationParameterName = locationParameterName;
+  }
+}
@@ -0,0 +1,19 @@
+package org.openmrs.module.eptsreports.reporting.reports.definition;
+
+import org.openmrs.module.reporting.report.definition.ReportDefinition;
+
+/**
+ * A {@link ReportDefinition} whose data set definitions do not depend on each other and can be
+ * evaluated concurrently
+ *
+ * @see
+ *     org.openmrs.module.eptsreports.reporting.reports.evaluator.EptsParallelReportDefinitionEvaluator
+ */
+public class EptsParallelReportDefinition extends ReportDefinition {
+
+  public static final long serialVersionUID = 1L;
+
+  public EptsParallelReportDefinition() {
+    super();
+  }
+}
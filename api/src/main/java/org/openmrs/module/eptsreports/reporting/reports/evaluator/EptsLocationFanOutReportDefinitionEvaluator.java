@@ -0,0 +1,321 @@
+package org.openmrs.module.eptsreports.reporting.reports.evaluator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.Cohort;
+import org.openmrs.Location;
+import org.openmrs.annotation.Handler;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.EptsReportsConfig;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.eptsreports.reporting.reports.definition.EptsLocationFanOutReportDefinition;
+import org.openmrs.module.reporting.dataset.DataSet;
+import org.openmrs.module.reporting.dataset.DataSetColumn;
+import org.openmrs.module.reporting.dataset.DataSetRow;
+import org.openmrs.module.reporting.dataset.MapDataSet;
+import org.openmrs.module.reporting.dataset.SimpleDataSet;
+import org.openmrs.module.reporting.dataset.definition.DataSetDefinition;
+import org.openmrs.module.reporting.dataset.definition.service.DataSetDefinitionService;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.parameter.Mapped;
+import org.openmrs.module.reporting.indicator.CohortIndicator;
+import org.openmrs.module.reporting.indicator.CohortIndicatorResult;
+import org.openmrs.module.reporting.indicator.IndicatorResult;
+import org.openmrs.module.reporting.indicator.dimension.CohortIndicatorAndDimensionResult;
+import org.openmrs.module.reporting.report.ReportData;
+import org.openmrs.module.reporting.report.definition.ReportDefinition;
+import org.openmrs.module.reporting.report.definition.evaluator.ReportDefinitionEvaluator;
+
+/**
+ * Evaluates an {@link EptsLocationFanOutReportDefinition} once per location of its list of
+ * locations parameter, on a bounded pool of {@link EvaluationWorkers}, instead of once for all the
+ * locations with {@code location_id IN (...)} queries. Each location gets the base cohort and the
+ * data sets evaluated for that location only.
+ *
+ * <p>The data sets of the locations are merged in the order of the locations: the rows of row per
+ * patient data sets are appended, a patient listed at several locations keeping the row of the last
+ * of them only, and the cohorts of the count indicators of single row (indicator) data sets are
+ * united, so a patient found at two locations is counted once. A single row data set with values
+ * that can't be united, such as different plain numbers or texts, is evaluated again once for all
+ * the locations.
+ */
+@Handler(supports = EptsLocationFanOutReportDefinition.class, order = 50)
+public class EptsLocationFanOutReportDefinitionEvaluator implements ReportDefinitionEvaluator {
+
+  private static final Log log =
+      LogFactory.getLog(EptsLocationFanOutReportDefinitionEvaluator.class);
+
+  /** The merged value of values that can't be merged */
+  private static final Object UNMERGEABLE = new Object();
+
+  @Override
+  public ReportData evaluate(ReportDefinition reportDefinition, EvaluationContext evalContext)
+      throws EvaluationException {
+    EptsLocationFanOutReportDefinition rd = (EptsLocationFanOutReportDefinition) reportDefinition;
+
+    ReportData ret = new ReportData();
+    ret.setDefinition(rd);
+    ret.setContext(evalContext);
+
+    // the child contexts share this map with the parent
+    evalContext.setCache(Collections.synchronizedMap(new HashMap<>(evalContext.getCache())));
+    EptsReportRunCache previous = EptsReportRunCache.bind(evalContext);
+    try {
+      ret.setDataSets(evaluateLocations(rd, evalContext));
+    } finally {
+      EptsReportRunCache.restore(previous);
+      // the run ends here unless this report is evaluated within another run of the thread
+      if (previous == null) {
+        EptsReportRunCache.getInstance(evalContext).close();
+      }
+    }
+    return ret;
+  }
+
+  private Map<String, DataSet> evaluateLocations(
+      EptsLocationFanOutReportDefinition rd, EvaluationContext evalContext)
+      throws EvaluationException {
+    List<Object> locations = getLocations(rd, evalContext);
+    List<LocationEvaluation> evaluations = new ArrayList<>();
+    for (int i = 0; i < locations.size(); i++) {
+      EvaluationContext ec = evalContext.shallowCopy();
+      if (locations.get(i) != null) {
+        Map<String, Object> values = new HashMap<>(ec.getParameterValues());
+        values.put(rd.getLocationParameterName(), Collections.singletonList(locations.get(i)));
+        ec.setParameterValues(values);
+      }
+      evaluations.add(new LocationEvaluation(rd, ec, locations, i));
+    }
+    long start = System.currentTimeMillis();
+    List<Map<String, DataSet>> results =
+        EvaluationWorkers.evaluate(
+            "eptsreports-" + rd.getName() + "-location-",
+            EvaluationWorkers.getThreads(EptsReportsConfig.GP_LOCATION_EVALUATION_THREADS),
+            evaluations);
+
+    Map<String, DataSet> data = new LinkedHashMap<>();
+    EvaluationContext allLocations = null;
+    for (Map.Entry<String, Mapped<? extends DataSetDefinition>> e :
+        rd.getDataSetDefinitions().entrySet()) {
+      List<DataSet> dataSets = new ArrayList<>();
+      for (Map<String, DataSet> result : results) {
+        dataSets.add(result.get(e.getKey()));
+      }
+      DataSet merged = merge(e.getValue().getParameterizable(), evalContext, dataSets);
+      if (merged == null) {
+        log.info(
+            rd.getName()
+                + ": "
+                + e.getKey()
+                + " can't be merged across locations, evaluating it for all of them");
+        if (allLocations == null) {
+          allLocations = evalContext.shallowCopy();
+          EvaluationWorkers.setBaseCohort(rd, allLocations);
+        }
+        merged =
+            Context.getService(DataSetDefinitionService.class).evaluate(e.getValue(), allLocations);
+      }
+      data.put(e.getKey(), merged);
+    }
+    log.info(
+        rd.getName()
+            + " evaluated for "
+            + locations.size()
+            + " locations in "
+            + (System.currentTimeMillis() - start)
+            + "ms, run cache "
+            + EptsReportRunCache.getInstance(evalContext).getStatistics());
+    return data;
+  }
+
+  /**
+   * Merges the data sets of the locations, in the order of the locations
+   *
+   * @param definition the definition of the merged data set
+   * @param context the evaluation context of the merged data set
+   * @param dataSets the data sets of the locations
+   * @return a {@link MapDataSet} with the merged values if all the data sets are map data sets,
+   *     null if some of their values can't be merged, otherwise a {@link SimpleDataSet} with the
+   *     rows of all the data sets, one per patient_id
+   */
+  public static DataSet merge(
+      DataSetDefinition definition, EvaluationContext context, List<DataSet> dataSets) {
+    if (dataSets.size() == 1) {
+      return dataSets.get(0);
+    }
+    boolean maps = !dataSets.isEmpty();
+    for (DataSet dataSet : dataSets) {
+      maps &= dataSet instanceof MapDataSet;
+    }
+    if (maps) {
+      MapDataSet merged = new MapDataSet(definition, context);
+      for (DataSetColumn column : dataSets.get(0).getMetaData().getColumns()) {
+        List<Object> values = new ArrayList<>();
+        for (DataSet dataSet : dataSets) {
+          values.add(((MapDataSet) dataSet).getData(column));
+        }
+        Object value = merge(values, context);
+        if (value == UNMERGEABLE) {
+          return null;
+        }
+        merged.addData(column, value);
+      }
+      return merged;
+    }
+    SimpleDataSet merged = new SimpleDataSet(definition, context);
+    // a patient listed at two locations is listed once, with the row of the later location
+    Map<Object, DataSetRow> rows = new LinkedHashMap<>();
+    for (DataSet dataSet : dataSets) {
+      for (DataSetColumn column : dataSet.getMetaData().getColumns()) {
+        if (merged.getMetaData().getColumn(column.getName()) == null) {
+          merged.getMetaData().addColumn(column);
+        }
+      }
+      DataSetColumn patientId = getPatientIdColumn(dataSet);
+      for (DataSetRow row : dataSet) {
+        Object key = patientId == null ? null : row.getColumnValue(patientId);
+        if (key instanceof Number) {
+          key = ((Number) key).longValue();
+        }
+        rows.put(key == null ? new Object() : key, row);
+      }
+    }
+    for (DataSetRow row : rows.values()) {
+      merged.addRow(row);
+    }
+    return merged;
+  }
+
+  /** @return the patient_id (or patientId) column of the row per patient data set, if any */
+  private static DataSetColumn getPatientIdColumn(DataSet dataSet) {
+    for (DataSetColumn column : dataSet.getMetaData().getColumns()) {
+      if ("patient_id".equalsIgnoreCase(column.getName())
+          || "patientId".equalsIgnoreCase(column.getName())) {
+        return column;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the count indicator result of the union of the cohorts if the values are all count
+   *     indicator results, the value if they are all the same, otherwise {@link #UNMERGEABLE}
+   */
+  private static Object merge(List<Object> values, EvaluationContext context) {
+    List<Object> present = new ArrayList<>();
+    boolean counts = true;
+    for (Object value : values) {
+      if (value != null) {
+        present.add(value);
+        counts &=
+            value instanceof CohortIndicatorAndDimensionResult
+                && ((CohortIndicatorAndDimensionResult) value).getIndicator().getType()
+                    == CohortIndicator.IndicatorType.COUNT;
+      }
+    }
+    if (present.isEmpty()) {
+      return null;
+    }
+    if (counts) {
+      Set<Integer> ids = new HashSet<>();
+      for (Object value : present) {
+        ids.addAll(
+            ((CohortIndicatorAndDimensionResult) value)
+                .getCohortIndicatorAndDimensionCohort()
+                .getMemberIds());
+      }
+      CohortIndicatorResult result = new CohortIndicatorResult();
+      result.setIndicator(((CohortIndicatorAndDimensionResult) present.get(0)).getIndicator());
+      result.setContext(context);
+      result.setCohort(new Cohort(ids));
+      return new CohortIndicatorAndDimensionResult(result, context);
+    }
+    for (Object value : present) {
+      if (!value.equals(present.get(0)) || value instanceof IndicatorResult) {
+        return UNMERGEABLE;
+      }
+    }
+    return present.get(0);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Object> getLocations(
+      EptsLocationFanOutReportDefinition rd, EvaluationContext context) {
+    Object value = context.getParameterValue(rd.getLocationParameterName());
+    List<Object> locations = new ArrayList<>();
+    if (value instanceof Collection) {
+      locations.addAll((Collection<Object>) value);
+    } else if (value != null) {
+      locations.add(value);
+    }
+    if (locations.isEmpty()) {
+      // evaluated once as it is
+      locations.add(null);
+    }
+    return locations;
+  }
+
+  /** Evaluates the base cohort and the data sets of the report for one location */
+  private static class LocationEvaluation
+      extends EvaluationWorkers.Evaluation<Map<String, DataSet>> {
+
+    private final EptsLocationFanOutReportDefinition rd;
+
+    private final List<Object> locations;
+
+    private final int index;
+
+    LocationEvaluation(
+        EptsLocationFanOutReportDefinition rd,
+        EvaluationContext ec,
+        List<Object> locations,
+        int index) {
+      super("location " + getName(locations.get(index)), ec);
+      this.rd = rd;
+      this.locations = locations;
+      this.index = index;
+    }
+
+    @Override
+    Map<String, DataSet> evaluate(EvaluationContext ec) throws EvaluationException {
+      long start = System.currentTimeMillis();
+      EvaluationWorkers.setBaseCohort(rd, ec);
+      Map<String, DataSet> data = new LinkedHashMap<>();
+      for (Map.Entry<String, Mapped<? extends DataSetDefinition>> e :
+          rd.getDataSetDefinitions().entrySet()) {
+        data.put(
+            e.getKey(),
+            Context.getService(DataSetDefinitionService.class).evaluate(e.getValue(), ec));
+      }
+      log.info(
+          rd.getName()
+              + ": evaluated location "
+              + getName(locations.get(index))
+              + " ("
+              + (index + 1)
+              + "/"
+              + locations.size()
+              + ") in "
+              + (System.currentTimeMillis() - start)
+              + "ms");
+      return data;
+    }
+
+    private static String getName(Object location) {
+      if (location instanceof Location) {
+        return ((Location) location).getName();
+      }
+      return String.valueOf(location);
+    }
+  }
+}
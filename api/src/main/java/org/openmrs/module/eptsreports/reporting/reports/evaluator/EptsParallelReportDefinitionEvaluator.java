@@ -0,0 +1,140 @@
+package org.openmrs.module.eptsreports.reporting.reports.evaluator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.annotation.Handler;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.EptsReportsConfig;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.eptsreports.reporting.cache.ReportResultCache;
+import org.openmrs.module.eptsreports.reporting.reports.definition.EptsParallelReportDefinition;
+import org.openmrs.module.reporting.dataset.DataSet;
+import org.openmrs.module.reporting.dataset.definition.DataSetDefinition;
+import org.openmrs.module.reporting.dataset.definition.service.DataSetDefinitionService;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.parameter.Mapped;
+import org.openmrs.module.reporting.report.ReportData;
+import org.openmrs.module.reporting.report.definition.ReportDefinition;
+import org.openmrs.module.reporting.report.definition.evaluator.ReportDefinitionEvaluator;
+
+/**
+ * Evaluates the data set definitions of an {@link EptsParallelReportDefinition} on a bounded pool
+ * of {@link EvaluationWorkers}, each data set in its own copy of the evaluation context.
+ *
+ * <p>The copies share the (synchronized) evaluation context cache, so cohorts evaluated by one data
+ * set are reused by the others. The values put in it are the evaluated cohorts, which are only read
+ * once cached, and the thread-safe {@link EptsReportRunCache}.
+ *
+ * <p>The data sets of a report already evaluated with the same parameter values are taken from the
+ * {@link ReportResultCache} while the data did not change.
+ */
+@Handler(supports = EptsParallelReportDefinition.class, order = 50)
+public class EptsParallelReportDefinitionEvaluator implements ReportDefinitionEvaluator {
+
+  private static final Log log = LogFactory.getLog(EptsParallelReportDefinitionEvaluator.class);
+
+  @Override
+  public ReportData evaluate(ReportDefinition reportDefinition, EvaluationContext evalContext)
+      throws EvaluationException {
+    EptsParallelReportDefinition rd = (EptsParallelReportDefinition) reportDefinition;
+
+    ReportData ret = new ReportData();
+    ret.setDefinition(rd);
+    ret.setContext(evalContext);
+
+    ReportResultCache resultCache = getResultCache();
+    if (resultCache != null) {
+      Map<String, DataSet> cached = resultCache.get(rd, evalContext);
+      if (cached != null) {
+        ret.setDataSets(cached);
+        return ret;
+      }
+    }
+    // taken before the evaluation, so data saved meanwhile invalidates the cached results
+    String watermark = resultCache == null ? null : resultCache.getDataWatermark();
+
+    // the child contexts share this map with the parent
+    evalContext.setCache(Collections.synchronizedMap(new HashMap<>(evalContext.getCache())));
+    EptsReportRunCache previous = EptsReportRunCache.bind(evalContext);
+    try {
+      ret.setDataSets(evaluateDataSets(rd, evalContext));
+    } finally {
+      EptsReportRunCache.restore(previous);
+      // the run ends here unless this report is evaluated within another run of the thread
+      if (previous == null) {
+        EptsReportRunCache.getInstance(evalContext).close();
+      }
+    }
+    if (resultCache != null) {
+      resultCache.put(rd, evalContext, watermark, ret.getDataSets());
+    }
+    log.info(
+        rd.getName() + " run cache " + EptsReportRunCache.getInstance(evalContext).getStatistics());
+    return ret;
+  }
+
+  private Map<String, DataSet> evaluateDataSets(
+      EptsParallelReportDefinition rd, EvaluationContext evalContext) throws EvaluationException {
+    EvaluationContext ec = evalContext.shallowCopy();
+    EvaluationWorkers.setBaseCohort(rd, ec);
+
+    Map<String, Mapped<? extends DataSetDefinition>> definitions = rd.getDataSetDefinitions();
+    Map<String, DataSet> data = new LinkedHashMap<>();
+    if (definitions != null && !definitions.isEmpty()) {
+      List<DataSetEvaluation> evaluations = new ArrayList<>();
+      for (Map.Entry<String, Mapped<? extends DataSetDefinition>> e : definitions.entrySet()) {
+        evaluations.add(new DataSetEvaluation(e.getKey(), e.getValue(), ec.shallowCopy()));
+      }
+      List<DataSet> dataSets =
+          EvaluationWorkers.evaluate(
+              "eptsreports-" + rd.getName() + "-",
+              EvaluationWorkers.getThreads(EptsReportsConfig.GP_DATASET_EVALUATION_THREADS),
+              evaluations);
+      for (int i = 0; i < evaluations.size(); i++) {
+        data.put(evaluations.get(i).key, dataSets.get(i));
+      }
+    }
+    return data;
+  }
+
+  private ReportResultCache getResultCache() {
+    ReportResultCache resultCache = Context.getRegisteredComponents(ReportResultCache.class).get(0);
+    return resultCache.isEnabled() ? resultCache : null;
+  }
+
+  /** Evaluates one data set */
+  private static class DataSetEvaluation extends EvaluationWorkers.Evaluation<DataSet> {
+
+    private final String key;
+
+    private final Mapped<? extends DataSetDefinition> mapped;
+
+    DataSetEvaluation(
+        String key, Mapped<? extends DataSetDefinition> mapped, EvaluationContext ec) {
+      super("data set " + key, ec);
+      this.key = key;
+      this.mapped = mapped;
+    }
+
+    @Override
+    DataSet evaluate(EvaluationContext context) throws EvaluationException {
+      long start = System.currentTimeMillis();
+      DataSet dataSet =
+          Context.getService(DataSetDefinitionService.class).evaluate(mapped, context);
+      log.debug(
+          "Evaluated "
+              + mapped.getParameterizable().getName()
+              + " in "
+              + (System.currentTimeMillis() - start)
+              + "ms");
+      return dataSet;
+    }
+  }
+}
@@ -0,0 +1,263 @@
+package org.openmrs.module.eptsreports.reporting.reports.evaluator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openmrs.Cohort;
+import org.openmrs.OpenmrsObject;
+import org.openmrs.Privilege;
+import org.openmrs.User;
+import org.openmrs.api.context.Context;
+import org.openmrs.api.context.UserContext;
+import org.openmrs.module.eptsreports.api.EptsReportsService;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.reporting.cohort.definition.service.CohortDefinitionService;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.report.definition.ReportDefinition;
+
+/**
+ * Runs the evaluations of a report run on a bounded pool of worker threads. Every worker opens its
+ * own OpenMRS session with its own user context, holding the privileges, locale and location of the
+ * user that requested the report. It evaluates in its own evaluation context, where the OpenMRS
+ * objects of the parameter values are loaded again in the session of the worker, so no Hibernate
+ * entity is shared between the sessions.
+ */
+class EvaluationWorkers {
+
+  private static final Log log = LogFactory.getLog(EvaluationWorkers.class);
+
+  private static final int DEFAULT_THREADS = 4;
+
+  private EvaluationWorkers() {}
+
+  /** An evaluation run by a worker, in the context it was created with */
+  abstract static class Evaluation<T> {
+
+    private final String description;
+
+    private final EvaluationContext context;
+
+    /**
+     * @param description what is evaluated, used in the error messages
+     * @param context the context of the evaluation, not shared with the other evaluations
+     */
+    Evaluation(String description, EvaluationContext context) {
+      this.description = description;
+      this.context = context;
+    }
+
+    abstract T evaluate(EvaluationContext context) throws EvaluationException;
+  }
+
+  /**
+   * Runs evaluations on a pool of worker threads, or one after another in the current thread when
+   * there is one thread
+   *
+   * @param threadName the prefix of the names of the worker threads
+   * @param threads the size of the pool
+   * @param evaluations the evaluations
+   * @return the results, in the order of the evaluations
+   * @throws EvaluationException the exception of the first failed evaluation, in their order
+   */
+  static <T> List<T> evaluate(
+      String threadName, int threads, List<? extends Evaluation<T>> evaluations)
+      throws EvaluationException {
+    List<T> results = new ArrayList<>();
+    if (Math.min(threads, evaluations.size()) <= 1) {
+      for (Evaluation<T> evaluation : evaluations) {
+        results.add(evaluation.evaluate(evaluation.context));
+      }
+      return results;
+    }
+
+    UserContext userContext = Context.getUserContext();
+    Set<String> privileges = getPrivileges(Context.getAuthenticatedUser());
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(threads, evaluations.size()), newThreadFactory(threadName));
+    try {
+      List<Future<T>> futures = new ArrayList<>();
+      for (Evaluation<T> evaluation : evaluations) {
+        futures.add(
+            executor.submit(
+                new Worker<>(
+                    privileges, userContext.getLocale(), userContext.getLocationId(), evaluation)));
+      }
+      for (int i = 0; i < evaluations.size(); i++) {
+        results.add(getResult(evaluations.get(i).description, futures.get(i)));
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Reads a number of threads from a global property
+   *
+   * @param globalProperty the name of the global property
+   * @return its value, 4 if it is not set or not a number
+   */
+  static int getThreads(String globalProperty) {
+    String value = Context.getAdministrationService().getGlobalProperty(globalProperty);
+    if (StringUtils.isNotBlank(value)) {
+      try {
+        return Integer.parseInt(value.trim());
+      } catch (NumberFormatException e) {
+        log.warn(
+            "Invalid value " + value + " for " + globalProperty + ", using " + DEFAULT_THREADS);
+      }
+    }
+    return DEFAULT_THREADS;
+  }
+
+  /**
+   * Evaluates the base cohort definition of a report and sets it as base cohort of a context,
+   * intersected with the base cohort the context already has
+   *
+   * @param rd the report definition
+   * @param ec the context
+   */
+  static void setBaseCohort(ReportDefinition rd, EvaluationContext ec) throws EvaluationException {
+    if (rd.getBaseCohortDefinition() == null) {
+      return;
+    }
+    Cohort baseCohort =
+        Context.getService(CohortDefinitionService.class)
+            .evaluate(rd.getBaseCohortDefinition(), ec.shallowCopy());
+    if (ec.getBaseCohort() != null) {
+      Set<Integer> ids = new HashSet<>(baseCohort.getMemberIds());
+      ids.retainAll(ec.getBaseCohort().getMemberIds());
+      baseCohort = new Cohort(ids);
+    }
+    ec.setBaseCohort(baseCohort);
+  }
+
+  /** @return the names of the privileges of the user, all privileges for a super user */
+  private static Set<String> getPrivileges(User user) {
+    Set<String> privileges = new HashSet<>();
+    if (user != null) {
+      Collection<Privilege> granted =
+          user.isSuperUser() ? Context.getUserService().getAllPrivileges() : user.getPrivileges();
+      for (Privilege privilege : granted) {
+        privileges.add(privilege.getPrivilege());
+      }
+    }
+    return privileges;
+  }
+
+  private static <T> T getResult(String description, Future<T> future) throws EvaluationException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new EvaluationException("Interrupted while evaluating " + description, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof EvaluationException) {
+        throw (EvaluationException) e.getCause();
+      }
+      throw new EvaluationException(description, e.getCause());
+    }
+  }
+
+  private static ThreadFactory newThreadFactory(final String threadName) {
+    final AtomicInteger count = new AtomicInteger();
+    return new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread t = new Thread(r, threadName + count.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+      }
+    };
+  }
+
+  /** Runs one evaluation in its own OpenMRS session */
+  private static class Worker<T> implements Callable<T> {
+
+    private final Set<String> privileges;
+
+    private final Locale locale;
+
+    private final Integer locationId;
+
+    private final Evaluation<T> evaluation;
+
+    Worker(Set<String> privileges, Locale locale, Integer locationId, Evaluation<T> evaluation) {
+      this.privileges = privileges;
+      this.locale = locale;
+      this.locationId = locationId;
+      this.evaluation = evaluation;
+    }
+
+    @Override
+    public T call() throws Exception {
+      // opening a session gives the thread a new user context
+      Context.openSession();
+      try {
+        UserContext userContext = Context.getUserContext();
+        userContext.setLocale(locale);
+        userContext.setLocationId(locationId);
+        for (String privilege : privileges) {
+          userContext.addProxyPrivilege(privilege);
+        }
+        reloadParameterValues(evaluation.context);
+        EptsReportRunCache previous = EptsReportRunCache.bind(evaluation.context);
+        try {
+          return evaluation.evaluate(evaluation.context);
+        } finally {
+          EptsReportRunCache.restore(previous);
+        }
+      } finally {
+        Context.closeSession();
+      }
+    }
+  }
+
+  /**
+   * Gives a context new parameter values, where the OpenMRS objects, alone or in collections, are
+   * loaded again in the session of the current thread. The map of the given values is left as it
+   * is, as the copies of a context may share it.
+   *
+   * @param context the context
+   */
+  private static void reloadParameterValues(EvaluationContext context) {
+    EptsReportsService service = Context.getService(EptsReportsService.class);
+    Map<String, Object> values = new HashMap<>();
+    for (Map.Entry<String, Object> e : context.getParameterValues().entrySet()) {
+      values.put(e.getKey(), reload(service, e.getValue()));
+    }
+    context.setParameterValues(values);
+  }
+
+  private static Object reload(EptsReportsService service, Object value) {
+    if (value instanceof OpenmrsObject && ((OpenmrsObject) value).getId() != null) {
+      return service.reload((OpenmrsObject) value);
+    }
+    if (value instanceof Collection) {
+      Collection<Object> values = value instanceof Set ? new LinkedHashSet<>() : new ArrayList<>();
+      for (Object o : (Collection<?>) value) {
+        values.add(reload(service, o));
+      }
+      return values;
+    }
+    return value;
+  }
+}
@@ -22,6 +22,7 @@ import java.util.Map;
 import org.apache.poi.util.IOUtils;
 import org.openmrs.api.context.Context;
 import org.openmrs.module.eptsreports.api.EptsReportsService;
+import org.openmrs.module.eptsreports.reporting.reports.renderer.StreamingListRenderer;
 import org.openmrs.module.reporting.report.ReportDesign;
 import org.openmrs.module.reporting.report.ReportDesignResource;
 import org.openmrs.module.reporting.report.definition.ReportDefinition;
@@ -85,4 +86,35 @@ public abstract class EptsDataExportManager extends EptsReportManager {
 
     return design;
   }
+
+  /**
+   * Creates a design rendered by {@link StreamingListRenderer}, for lists too large for the Excel
+   * templates
+   *
+   * @param reportDefinition the report definition
+   * @param reportDesignName the design name
+   * @param designUuid the design uuid
+   * @param format {@link StreamingListRenderer#XLSX} or {@link StreamingListRenderer#CSV}
+   * @param dataSets the comma separated keys of the data sets to render
+   * @return the design
+   */
+  public ReportDesign createStreamingReportDesign(
+      ReportDefinition reportDefinition,
+      String reportDesignName,
+      String designUuid,
+      String format,
+      String dataSets) {
+
+    EptsReportsService eptsReportsService = Context.getService(EptsReportsService.class);
+    eptsReportsService.purgeReportDesignIfExists(designUuid);
+
+    ReportDesign design = new ReportDesign();
+    design.setName(reportDesignName);
+    design.setUuid(designUuid);
+    design.setReportDefinition(reportDefinition);
+    design.setRendererType(StreamingListRenderer.class);
+    design.getProperties().put(StreamingListRenderer.FORMAT_PROPERTY, format);
+    design.getProperties().put(StreamingListRenderer.DATA_SETS_PROPERTY, dataSets);
+    return design;
+  }
 }
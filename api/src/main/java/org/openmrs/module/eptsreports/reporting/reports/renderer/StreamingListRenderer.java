@@ -0,0 +1,206 @@
+package org.openmrs.module.eptsreports.reporting.reports.renderer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openmrs.Cohort;
+import org.openmrs.annotation.Handler;
+import org.openmrs.module.reporting.common.Localized;
+import org.openmrs.module.reporting.dataset.DataSet;
+import org.openmrs.module.reporting.dataset.DataSetColumn;
+import org.openmrs.module.reporting.dataset.DataSetRow;
+import org.openmrs.module.reporting.report.ReportData;
+import org.openmrs.module.reporting.report.ReportDesign;
+import org.openmrs.module.reporting.report.ReportRequest;
+import org.openmrs.module.reporting.report.renderer.RenderingException;
+import org.openmrs.module.reporting.report.renderer.ReportDesignRenderer;
+
+/**
+ * Renders the data sets of EPTS patient lists row by row, without a template, so that the memory
+ * used does not grow with the number of rows. In {@link #XLSX} format each data set is a sheet of a
+ * streaming workbook that keeps only {@link #ROW_ACCESS_WINDOW} rows in memory, in {@link #CSV}
+ * format the first data set is written as comma separated values.
+ *
+ * <p>The design properties are {@code format}, {@link #XLSX} (default) or {@link #CSV}, and {@code
+ * dataSets}, the comma separated keys of the data sets to render (all of them by default).
+ */
+@Handler
+@Localized("eptsreports.StreamingListRenderer")
+public class StreamingListRenderer extends ReportDesignRenderer {
+
+  public static final String FORMAT_PROPERTY = "format";
+
+  public static final String DATA_SETS_PROPERTY = "dataSets";
+
+  public static final String XLSX = "xlsx";
+
+  public static final String CSV = "csv";
+
+  static final int ROW_ACCESS_WINDOW = 100;
+
+  private static final String DATE_FORMAT = "dd/MM/yyyy";
+
+  @Override
+  public String getRenderedContentType(ReportRequest request) {
+    return CSV.equals(getFormat(getDesign(request.getRenderingMode().getArgument())))
+        ? "text/csv"
+        : "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+  }
+
+  @Override
+  public String getFilename(ReportRequest request) {
+    ReportDesign design = getDesign(request.getRenderingMode().getArgument());
+    String name = request.getReportDefinition().getParameterizable().getName();
+    return name + "." + getFormat(design);
+  }
+
+  @Override
+  public void render(ReportData reportData, String argument, OutputStream out)
+      throws IOException, RenderingException {
+    ReportDesign design = getDesign(argument);
+    List<Map.Entry<String, DataSet>> dataSets = getDataSets(reportData, design);
+    if (CSV.equals(getFormat(design))) {
+      if (dataSets.isEmpty()) {
+        throw new RenderingException("No data set to render in " + design.getName());
+      }
+      writeCsv(dataSets.get(0).getValue(), out);
+    } else {
+      writeXlsx(dataSets, out);
+    }
+  }
+
+  /**
+   * Writes the data set as comma separated values, with the column labels in the first line
+   *
+   * @param dataSet the data set
+   * @param out the stream, left open
+   */
+  public static void writeCsv(DataSet dataSet, OutputStream out) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    // lets spreadsheet applications detect the encoding of the accented labels and values
+    writer.write('\uFEFF');
+    List<DataSetColumn> columns = dataSet.getMetaData().getColumns();
+    List<String> values = new ArrayList<>(columns.size());
+    for (DataSetColumn column : columns) {
+      values.add(escapeCsv(column.getLabel()));
+    }
+    writer.write(StringUtils.join(values, ','));
+    writer.write("\r\n");
+
+    SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
+    for (DataSetRow row : dataSet) {
+      values.clear();
+      for (DataSetColumn column : columns) {
+        Object value = row.getColumnValue(column);
+        values.add(
+            value instanceof Date ? dateFormat.format((Date) value) : escapeCsv(format(value)));
+      }
+      writer.write(StringUtils.join(values, ','));
+      writer.write("\r\n");
+    }
+    writer.flush();
+  }
+
+  /**
+   * Writes the data sets as the sheets of a workbook, with the column labels in the first row
+   *
+   * @param dataSets the data sets by sheet name
+   * @param out the stream, left open
+   */
+  public static void writeXlsx(List<Map.Entry<String, DataSet>> dataSets, OutputStream out)
+      throws IOException {
+    SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+    workbook.setCompressTempFiles(true);
+    try {
+      CellStyle dateStyle = workbook.createCellStyle();
+      dateStyle.setDataFormat(workbook.createDataFormat().getFormat(DATE_FORMAT));
+      for (Map.Entry<String, DataSet> entry : dataSets) {
+        Sheet sheet = workbook.createSheet(entry.getKey());
+        List<DataSetColumn> columns = entry.getValue().getMetaData().getColumns();
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < columns.size(); i++) {
+          header.createCell(i).setCellValue(columns.get(i).getLabel());
+        }
+        int rowNumber = 1;
+        for (DataSetRow dataSetRow : entry.getValue()) {
+          Row row = sheet.createRow(rowNumber++);
+          for (int i = 0; i < columns.size(); i++) {
+            Object value = dataSetRow.getColumnValue(columns.get(i));
+            if (value == null) {
+              continue;
+            }
+            Cell cell = row.createCell(i);
+            if (value instanceof Date) {
+              cell.setCellValue((Date) value);
+              cell.setCellStyle(dateStyle);
+            } else if (value instanceof Number) {
+              cell.setCellValue(((Number) value).doubleValue());
+            } else {
+              cell.setCellValue(format(value));
+            }
+          }
+        }
+      }
+      workbook.write(out);
+      out.flush();
+    } finally {
+      // removes the temporary files holding the flushed rows
+      workbook.dispose();
+    }
+  }
+
+  static String escapeCsv(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (StringUtils.containsAny(value, ',', '"', '\r', '\n')) {
+      return '"' + value.replace("\"", "\"\"") + '"';
+    }
+    return value;
+  }
+
+  private static String format(Object value) {
+    if (value == null) {
+      return "";
+    }
+    if (value instanceof Cohort) {
+      return String.valueOf(((Cohort) value).size());
+    }
+    return value.toString();
+  }
+
+  private static String getFormat(ReportDesign design) {
+    return design.getPropertyValue(FORMAT_PROPERTY, XLSX);
+  }
+
+  private static List<Map.Entry<String, DataSet>> getDataSets(
+      ReportData reportData, ReportDesign design) {
+    String keys = design.getPropertyValue(DATA_SETS_PROPERTY, null);
+    if (StringUtils.isBlank(keys)) {
+      return new ArrayList<>(reportData.getDataSets().entrySet());
+    }
+    List<Map.Entry<String, DataSet>> dataSets = new ArrayList<>();
+    for (String key : keys.split(",")) {
+      DataSet dataSet = reportData.getDataSets().get(key.trim());
+      if (dataSet != null) {
+        dataSets.add(new AbstractMap.SimpleEntry<>(key.trim(), dataSet));
+      }
+    }
+    return dataSets;
+  }
+}
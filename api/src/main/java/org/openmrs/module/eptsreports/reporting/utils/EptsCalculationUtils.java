@@ -36,8 +36,10 @@ import org.openmrs.calculation.result.ListResult;
 import org.openmrs.calculation.result.ObsResult;
 import org.openmrs.calculation.result.ResultUtil;
 import org.openmrs.calculation.result.SimpleResult;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
 import org.openmrs.module.eptsreports.reporting.calculation.BooleanResult;
 import org.openmrs.module.eptsreports.reporting.calculation.CalculationWithResultFinder;
+import org.openmrs.module.eptsreports.reporting.calculation.common.CompactCalculationResultMap;
 import org.openmrs.module.reporting.data.DataDefinition;
 import org.openmrs.module.reporting.data.patient.EvaluatedPatientData;
 import org.openmrs.module.reporting.data.patient.definition.PatientDataDefinition;
@@ -70,7 +72,8 @@ public class EptsCalculationUtils {
   }
 
   /**
-   * Evaluates a data definition on each patient using a reporting context
+   * Evaluates a data definition on each patient using a reporting context. The values are wrapped
+   * in their calculation results only when read, see {@link CompactCalculationResultMap}
    *
    * @param dataDefinition the data definition
    * @param cohort the patient ids
@@ -105,10 +108,10 @@ public class EptsCalculationUtils {
             "Unknown DataDefinition type: " + dataDefinition.getClass());
       }
 
-      CalculationResultMap ret = new CalculationResultMap();
+      CompactCalculationResultMap ret =
+          new CompactCalculationResultMap(cohort.size(), calculation, calculationContext);
       for (Integer ptId : cohort) {
-        Object reportingResult = data.get(ptId);
-        ret.put(ptId, toCalculationResult(reportingResult, calculation, calculationContext));
+        ret.putValue(ptId, data.get(ptId));
       }
 
       return ret;
@@ -135,6 +138,7 @@ public class EptsCalculationUtils {
     ret.setEvaluationDate(calculationContext.getNow());
     ret.setBaseCohort(new Cohort(cohort));
     ret.setParameterValues(parameterValues);
+    EptsReportRunCache.propagate(calculationContext, ret);
     calculationContext.addToCache("reportingEvaluationContext", ret);
     return ret;
   }
@@ -148,7 +152,7 @@ public class EptsCalculationUtils {
    * @return the calculation result
    */
   @SuppressWarnings("rawtypes")
-  protected static CalculationResult toCalculationResult(
+  public static CalculationResult toCalculationResult(
       Object obj, PatientCalculation calculation, PatientCalculationContext calculationContext) {
     if (obj == null) {
       return null;
@@ -19,17 +19,29 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
 import org.apache.commons.lang.StringUtils;
 import org.openmrs.GlobalProperty;
 import org.openmrs.Program;
 import org.openmrs.ProgramWorkflowState;
 import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.reporting.data.definition.FusedSqlPatientDataDefinition;
+import org.openmrs.module.eptsreports.reporting.utils.queries.FusedColumnsBuilder;
 import org.openmrs.module.reporting.ReportingException;
 import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
+import org.openmrs.module.reporting.data.MappedData;
+import org.openmrs.module.reporting.data.patient.definition.SqlPatientDataDefinition;
+import org.openmrs.module.reporting.dataset.definition.PatientDataSetDefinition;
+import org.openmrs.module.reporting.dataset.definition.RowPerObjectColumnDefinition;
 import org.openmrs.module.reporting.evaluation.parameter.Mapped;
 import org.openmrs.module.reporting.evaluation.parameter.Parameter;
 import org.openmrs.module.reporting.evaluation.parameter.Parameterizable;
@@ -42,6 +54,9 @@ import org.openmrs.module.reporting.report.manager.ReportManagerUtil;
 /** Epts Reports module utilities */
 public class EptsReportUtils {
 
+  /** Maximum number of columns evaluated by one fused query */
+  private static final int MAX_FUSED_COLUMNS = 16;
+
   /**
    * Purges a Report Definition from the database
    *
@@ -130,6 +145,52 @@ public class EptsReportUtils {
     return StringUtils.join(existingMappingsSet, ",");
   }
 
+  /**
+   * Replaces the given {@link SqlPatientDataDefinition} columns of a patient data set that share
+   * the same parameter mappings by {@link FusedSqlPatientDataDefinition}s, so they are evaluated
+   * with a few wide queries instead of one query per column (see {@link FusedColumnsBuilder}).
+   *
+   * <p>A column may only be fused when its query selects exactly the patient id and the value and
+   * returns at most one row per patient, e.g. it ends with a GROUP BY of the patient id. The other
+   * columns keep their own query, where the last row of a patient wins.
+   *
+   * @param dataSetDefinition the patient data set, with all its columns added
+   * @param columnNames the names of the columns to fuse
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static void fuseSqlColumns(
+      PatientDataSetDefinition dataSetDefinition, String... columnNames) {
+    Set<String> fusedColumnNames = new HashSet<>(Arrays.asList(columnNames));
+    Map<String, List<MappedData>> groups = new LinkedHashMap<>();
+    for (RowPerObjectColumnDefinition column : dataSetDefinition.getColumnDefinitions()) {
+      MappedData mapped = column.getDataDefinition();
+      if (fusedColumnNames.contains(column.getName())
+          && mapped.getParameterizable() instanceof SqlPatientDataDefinition
+          && StringUtils.isNotBlank(
+              ((SqlPatientDataDefinition) mapped.getParameterizable()).getSql())) {
+        String key = new TreeMap<String, Object>(mapped.getParameterMappings()).toString();
+        groups.computeIfAbsent(key, k -> new ArrayList<>()).add(mapped);
+      }
+    }
+    for (List<MappedData> group : groups.values()) {
+      for (int from = 0; from < group.size(); from += MAX_FUSED_COLUMNS) {
+        List<MappedData> fused =
+            group.subList(from, Math.min(group.size(), from + MAX_FUSED_COLUMNS));
+        if (fused.size() < 2) {
+          continue;
+        }
+        String groupId = UUID.randomUUID().toString();
+        List<SqlPatientDataDefinition> columns = new ArrayList<>();
+        for (MappedData mapped : fused) {
+          columns.add((SqlPatientDataDefinition) mapped.getParameterizable());
+        }
+        for (int i = 0; i < fused.size(); i++) {
+          fused.get(i).setParameterizable(new FusedSqlPatientDataDefinition(groupId, columns, i));
+        }
+      }
+    }
+  }
+
   /**
    * Get the configurable widget parameter to be passed on the reporting UI TODO: redesign this to
    * be more configurable
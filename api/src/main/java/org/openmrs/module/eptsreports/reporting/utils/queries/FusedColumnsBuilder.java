@@ -0,0 +1,73 @@
+package org.openmrs.module.eptsreports.reporting.utils.queries;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds one wide query out of several patient data queries, each of them selecting the patient id
+ * in the first column and the value in the second one, as {@link
+ * org.openmrs.module.reporting.data.patient.definition.SqlPatientDataDefinition} queries do. The
+ * result has the patient id in the first column followed by one column per query, in the order they
+ * were added.
+ *
+ * <p>The columns of a query are renamed by an empty header select it is appended to with UNION ALL,
+ * so the query is used as it is and its own column names don't matter. A query must return at most
+ * one row per patient: the rows of a patient are reduced to their greatest value, which is not the
+ * last row a single column query would keep.
+ */
+public class FusedColumnsBuilder {
+
+  private static final String HEADER =
+      "SELECT NULL AS patient_id, NULL AS value FROM DUAL WHERE FALSE UNION ALL (";
+
+  private final List<String> queries = new ArrayList<>();
+
+  private boolean restrictToPatientIds;
+
+  /**
+   * @param query a query selecting the patient id and the value, one row per patient
+   * @return this builder
+   */
+  public FusedColumnsBuilder column(String query) {
+    String trimmed = trim(query);
+    if (trimmed.isEmpty()) {
+      throw new IllegalArgumentException("The query of a fused column can't be empty");
+    }
+    queries.add(trimmed);
+    return this;
+  }
+
+  /** Restricts the result to the patients of the {@code patientIds} parameter */
+  public FusedColumnsBuilder restrictToPatientIds() {
+    restrictToPatientIds = true;
+    return this;
+  }
+
+  public String buildQuery() {
+    StringBuilder stringBuilder = new StringBuilder("SELECT fused.patient_id");
+    for (int i = 0; i < queries.size(); i++) {
+      stringBuilder.append(", c").append(i).append(".value AS value_").append(i);
+    }
+    stringBuilder.append(" FROM patient fused");
+    for (int i = 0; i < queries.size(); i++) {
+      stringBuilder.append(" LEFT JOIN (SELECT c.patient_id, MAX(c.value) AS value FROM (");
+      stringBuilder.append(HEADER).append(queries.get(i));
+      // a trailing line comment of the query must not swallow the closing parentheses
+      stringBuilder.append("\n)) c GROUP BY c.patient_id) c").append(i);
+      stringBuilder.append(" ON c").append(i).append(".patient_id = fused.patient_id");
+    }
+    if (restrictToPatientIds) {
+      stringBuilder.append(" WHERE fused.patient_id IN (:patientIds)");
+    }
+    return stringBuilder.toString();
+  }
+
+  /** @return the query without surrounding blanks and trailing semicolons */
+  private static String trim(String query) {
+    String trimmed = query == null ? "" : query.trim();
+    while (trimmed.endsWith(";")) {
+      trimmed = trimmed.substring(0, trimmed.length() - 1).trim();
+    }
+    return trimmed;
+  }
+}
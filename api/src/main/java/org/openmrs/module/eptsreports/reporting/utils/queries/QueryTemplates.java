@@ -0,0 +1,61 @@
+package org.openmrs.module.eptsreports.reporting.utils.queries;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.commons.text.StringSubstitutor;
+
+/**
+ * Renders the metadata placeholders (${...}) of the library query templates once per metadata
+ * configuration. Report dates and locations are not part of the rendered text, the templates keep
+ * them as bind parameters (:endDate, :location...), so the same statement text is sent to the
+ * database on every run and the server can reuse its prepared statement.
+ *
+ * <p>At most {@link #MAX_SIZE} rendered queries are kept, the least recently used one is dropped
+ * first, so metadata configurations that come and go don't make the map grow without bound.
+ */
+public class QueryTemplates {
+
+  public static final int MAX_SIZE = 256;
+
+  private static final Map<String, String> RENDERED =
+      Collections.synchronizedMap(
+          new LinkedHashMap<String, String>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+              return size() > MAX_SIZE;
+            }
+          });
+
+  private QueryTemplates() {}
+
+  /**
+   * @param name the name of the template, unique among the templates
+   * @param valuesMap the metadata ids to substitute
+   * @param template the query template
+   * @return the rendered query
+   */
+  public static String render(String name, Map<String, ?> valuesMap, String template) {
+    String key = name + new TreeMap<>(valuesMap);
+    String rendered = RENDERED.get(key);
+    if (rendered == null) {
+      rendered = new StringSubstitutor(valuesMap).replace(template);
+      RENDERED.put(key, rendered);
+    }
+    return rendered;
+  }
+
+  /** @return the number of rendered queries kept */
+  public static int size() {
+    return RENDERED.size();
+  }
+
+  /** Drops the rendered queries */
+  public static void clear() {
+    RENDERED.clear();
+  }
+}
@@ -9,11 +9,25 @@
  */
 package org.openmrs.module.eptsreports.api;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -43,4 +57,51 @@ public class EptsReportsServiceTest {
     basicModuleService.purgeReportDesignIfExists(uuid);
     verify(dao).purgeReportDesign(uuid, serializedObjectUuid);
   }
+
+  @Test
+  public void getPatientSummariesShouldEvaluateTheQueryAtEveryLocation() {
+    Date artStart = new Date();
+    when(dao.getEncounterLocationIds()).thenReturn(Arrays.asList(10, 20));
+    when(dao.getPatientSummaries(eq("summary"), anyMap()))
+        .thenAnswer(
+            invocation -> {
+              Map<String, Object> parameters = invocation.getArgument(1);
+              assertEquals(artStart, parameters.get("endDate"));
+              return parameters.get("location").equals(10)
+                  ? Arrays.<Object[]>asList(new Object[] {BigInteger.ONE, artStart})
+                  : Arrays.<Object[]>asList(new Object[] {2, artStart});
+            });
+
+    List<Object[]> rows =
+        basicModuleService.getPatientSummaries(
+            "summary", Collections.<String, Object>singletonMap("endDate", artStart));
+
+    assertEquals(2, rows.size());
+    assertArrayEquals(new Object[] {1, 10, artStart}, rows.get(0));
+    assertArrayEquals(new Object[] {2, 20, artStart}, rows.get(1));
+  }
+
+  @Test
+  public void writePatientSummariesShouldDeleteTheRowsOfThePatientsBeforeInsertingTheNewOnes() {
+    List<Integer> patientIds = Arrays.asList(1, 2);
+    List<Object[]> rows = Arrays.<Object[]>asList(new Object[] {1, 10, new Date()});
+    when(dao.insertPatientSummaries(rows)).thenReturn(1);
+
+    assertEquals(1, basicModuleService.writePatientSummaries(patientIds, rows));
+
+    InOrder inOrder = inOrder(dao);
+    inOrder.verify(dao).deletePatientSummaries(patientIds);
+    inOrder.verify(dao).insertPatientSummaries(rows);
+  }
+
+  @Test
+  public void writePatientSummariesShouldOnlyDeleteWhenThePatientsHaveNoRows() {
+    List<Integer> patientIds = Arrays.asList(1, 2);
+
+    assertEquals(
+        0, basicModuleService.writePatientSummaries(patientIds, Collections.<Object[]>emptyList()));
+
+    verify(dao).deletePatientSummaries(patientIds);
+    verify(dao, never()).insertPatientSummaries(anyList());
+  }
 }
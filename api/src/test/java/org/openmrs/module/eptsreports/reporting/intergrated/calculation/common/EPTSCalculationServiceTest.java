@@ -7,6 +7,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.beans.HasPropertyWithValue.hasProperty;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
@@ -28,11 +29,15 @@ import org.openmrs.ProgramWorkflowState;
 import org.openmrs.api.context.Context;
 import org.openmrs.calculation.patient.PatientCalculationContext;
 import org.openmrs.calculation.patient.PatientCalculationService;
+import org.openmrs.calculation.result.CalculationResult;
 import org.openmrs.calculation.result.CalculationResultMap;
 import org.openmrs.calculation.result.ListResult;
 import org.openmrs.calculation.result.SimpleResult;
 import org.openmrs.module.eptsreports.reporting.calculation.common.EPTSCalculationService;
+import org.openmrs.module.eptsreports.reporting.calculation.common.ObsBatch;
+import org.openmrs.module.eptsreports.reporting.utils.EPTSMetadataDatetimeQualifier;
 import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
+import org.openmrs.module.reporting.common.DateUtil;
 import org.openmrs.module.reporting.common.TimeQualifier;
 import org.openmrs.test.BaseModuleContextSensitiveTest;
 
@@ -324,4 +329,97 @@ public class EPTSCalculationServiceTest extends BaseModuleContextSensitiveTest {
     Assert.assertEquals(Integer.valueOf(999), lastObs999.getPersonId());
     Assert.assertEquals(location.getId(), lastObs999.getLocation().getId());
   }
+
+  /**
+   * Registers every combination of question, encounter type, answers, time qualifier, window and
+   * datetime qualifier on one batch and checks that each request gets the obs the single request
+   * gets, on obs of the same date, voided obs and windows without start or end
+   *
+   * @see EPTSCalculationService#newObsBatch(Collection, Location, PatientCalculationContext)
+   */
+  @Test
+  public void newObsBatchShouldGetTheObsOfTheSingleRequests() throws Exception {
+    executeDataSet("obsBatchTest.xml");
+    List<Integer> cohort = Arrays.asList(7, 8);
+    Location location = new Location(1);
+    List<Concept> questions = Arrays.asList(new Concept(1268), new Concept(6306));
+    List<EncounterType> encounterTypes =
+        Arrays.asList(new EncounterType(6777002), new EncounterType(6777004));
+    List<List<Concept>> answers = Arrays.asList(null, Arrays.asList(new Concept(1256)));
+    List<Date[]> windows =
+        Arrays.asList(
+            new Date[] {null, null},
+            new Date[] {getDate("2020-01-01"), getDate("2020-02-28")},
+            new Date[] {null, getDate("2020-03-10")},
+            new Date[] {getDate("2020-02-01"), null});
+    List<EPTSMetadataDatetimeQualifier> datetimeQualifiers =
+        Arrays.asList(
+            EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME,
+            EPTSMetadataDatetimeQualifier.OBS_DATETIME);
+
+    ObsBatch batch = eptsCalculationService.newObsBatch(cohort, location, context);
+    List<Object[]> requests = new ArrayList<>();
+    for (Concept question : questions) {
+      for (EncounterType encounterType : encounterTypes) {
+        for (List<Concept> answer : answers) {
+          for (TimeQualifier timeQualifier : TimeQualifier.values()) {
+            for (Date[] window : windows) {
+              for (EPTSMetadataDatetimeQualifier datetimeQualifier : datetimeQualifiers) {
+                CalculationResultMap batched =
+                    batch.getObs(
+                        question,
+                        encounterType,
+                        answer,
+                        timeQualifier,
+                        window[0],
+                        window[1],
+                        datetimeQualifier);
+                CalculationResultMap single =
+                    eptsCalculationService.getObs(
+                        question,
+                        encounterType,
+                        cohort,
+                        location,
+                        answer,
+                        timeQualifier,
+                        window[0],
+                        window[1],
+                        datetimeQualifier,
+                        context);
+                requests.add(new Object[] {batched, single});
+              }
+            }
+          }
+        }
+      }
+    }
+    batch.fetch();
+
+    Assert.assertEquals(questions.size() * 2 * 2 * 3 * 4 * 2, requests.size());
+    for (Object[] request : requests) {
+      for (Integer patientId : cohort) {
+        Assert.assertEquals(
+            getObsIds(((CalculationResultMap) request[1]).get(patientId)),
+            getObsIds(((CalculationResultMap) request[0]).get(patientId)));
+      }
+    }
+  }
+
+  private Date getDate(String date) {
+    return DateUtil.parseYmd(date);
+  }
+
+  /** @return the ids of the obs of a result, in order */
+  @SuppressWarnings("unchecked")
+  private static List<Integer> getObsIds(CalculationResult result) {
+    List<Integer> ids = new ArrayList<>();
+    if (result instanceof ListResult) {
+      for (CalculationResult item : (List<CalculationResult>) result.getValue()) {
+        ids.add(((Obs) item.getValue()).getObsId());
+      }
+    } else if (result != null && result.getValue() != null) {
+      ids.add(((Obs) result.getValue()).getObsId());
+    }
+    return ids;
+  }
 }
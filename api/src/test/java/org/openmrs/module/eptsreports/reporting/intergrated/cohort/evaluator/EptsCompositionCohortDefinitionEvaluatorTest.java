@@ -0,0 +1,115 @@
+package org.openmrs.module.eptsreports.reporting.intergrated.cohort.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Test;
+import org.openmrs.Cohort;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.reporting.cohort.evaluator.CompositionExpression;
+import org.openmrs.module.eptsreports.reporting.cohort.evaluator.EptsCompositionCohortDefinitionEvaluator;
+import org.openmrs.module.reporting.cohort.definition.CompositionCohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.StaticCohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.evaluator.CompositionCohortDefinitionEvaluator;
+import org.openmrs.module.reporting.cohort.definition.service.CohortDefinitionService;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.test.BaseModuleContextSensitiveTest;
+
+/**
+ * Evaluates every composition string of the module with the bitmap evaluator and with the reporting
+ * evaluator, over random searches, and expects the same patients from both.
+ */
+public class EptsCompositionCohortDefinitionEvaluatorTest extends BaseModuleContextSensitiveTest {
+
+  private static final Pattern COMPOSITION_STRING =
+      Pattern.compile("setCompositionString\\(\\s*\"([^\"]*)\"\\s*\\)");
+
+  /** Patients of the standard test dataset and ids that are not patients of it */
+  private static final List<Integer> IDS = Arrays.asList(2, 6, 7, 8, 999, 100000);
+
+  @Test
+  public void evaluateShouldMatchTheReportingEvaluatorForTheCompositionsOfTheModule()
+      throws Exception {
+    Set<String> compositionStrings = getCompositionStrings();
+    assertTrue(compositionStrings.size() > 500);
+
+    EptsCompositionCohortDefinitionEvaluator evaluator =
+        new EptsCompositionCohortDefinitionEvaluator(
+            Context.getService(CohortDefinitionService.class));
+    CompositionCohortDefinitionEvaluator reportingEvaluator =
+        new CompositionCohortDefinitionEvaluator();
+    Random random = new Random(25);
+    List<String> differences = new ArrayList<>();
+    for (String compositionString : compositionStrings) {
+      CompositionExpression expression = CompositionExpression.parse(compositionString);
+      if (expression == null) {
+        continue;
+      }
+      for (int run = 0; run < 4; run++) {
+        CompositionCohortDefinition cd = new CompositionCohortDefinition();
+        cd.setCompositionString(compositionString);
+        for (String key : expression.getKeys()) {
+          cd.addSearch(key, new StaticCohortDefinition(getRandomCohort(random)), null);
+        }
+        Set<Integer> expected =
+            new TreeSet<>(reportingEvaluator.evaluate(cd, getContext(run)).getMemberIds());
+        Set<Integer> actual = new TreeSet<>(evaluator.evaluate(cd, getContext(run)).getMemberIds());
+        if (!expected.equals(actual)) {
+          differences.add(compositionString + ": expected " + expected + " but was " + actual);
+        }
+      }
+    }
+    assertEquals(new ArrayList<String>(), differences);
+  }
+
+  /** @return a context without base cohort for even runs, with one for odd runs */
+  private static EvaluationContext getContext(int run) {
+    EvaluationContext context = new EvaluationContext();
+    if (run % 2 == 1) {
+      context.setBaseCohort(new Cohort(Arrays.asList(2, 7, 999)));
+    }
+    return context;
+  }
+
+  private static Cohort getRandomCohort(Random random) {
+    List<Integer> memberIds = new ArrayList<>();
+    for (Integer id : IDS) {
+      if (random.nextBoolean()) {
+        memberIds.add(id);
+      }
+    }
+    return new Cohort(memberIds);
+  }
+
+  /** @return the composition strings of the sources of the module */
+  private static Set<String> getCompositionStrings() throws IOException {
+    Set<String> compositionStrings = new TreeSet<>();
+    try (Stream<Path> paths = Files.walk(new File("src/main/java").toPath())) {
+      for (Path path :
+          paths.filter(p -> p.toString().endsWith(".java")).collect(Collectors.toList())) {
+        Matcher matcher =
+            COMPOSITION_STRING.matcher(
+                new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+        while (matcher.find()) {
+          compositionStrings.add(matcher.group(1));
+        }
+      }
+    }
+    return compositionStrings;
+  }
+}
@@ -0,0 +1,109 @@
+package org.openmrs.module.eptsreports.reporting.unit.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.joda.time.DateTime;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openmrs.Location;
+import org.openmrs.module.eptsreports.reporting.cache.ArtStartDateIndex;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.eptsreports.reporting.cache.PatientSummaryTable;
+import org.openmrs.module.eptsreports.reporting.library.queries.CommonQueries;
+import org.openmrs.module.eptsreports.reporting.library.queries.PatientSummaryQueries;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.querybuilder.SqlQueryBuilder;
+import org.openmrs.module.reporting.evaluation.service.EvaluationService;
+
+public class ArtStartDateIndexTest {
+
+  private static final Date ART_START = new DateTime(2019, 1, 21, 0, 0).toDate();
+
+  @Mock private EvaluationService evaluationService;
+
+  @Mock private CommonQueries commonQueries;
+
+  @Mock private PatientSummaryQueries patientSummaryQueries;
+
+  @Mock private PatientSummaryTable patientSummaryTable;
+
+  private ArtStartDateIndex index;
+
+  private final Location location = new Location(1);
+
+  @Before
+  public void setUp() throws EvaluationException {
+    MockitoAnnotations.initMocks(this);
+    when(commonQueries.InitialArtStartDateOverallQuery()).thenReturn("art start");
+    when(patientSummaryQueries.getArtStartDateQuery()).thenReturn("summary art start");
+    when(evaluationService.evaluateToList(any(SqlQueryBuilder.class), any(EvaluationContext.class)))
+        .thenAnswer(
+            invocation -> {
+              List<Object[]> rows = new ArrayList<>();
+              rows.add(new Object[] {BigInteger.valueOf(8), ART_START});
+              rows.add(new Object[] {9, ART_START});
+              return rows;
+            });
+    index =
+        new ArtStartDateIndex(
+            evaluationService, commonQueries, patientSummaryQueries, patientSummaryTable);
+  }
+
+  @Test
+  public void getArtStartDatesShouldReturnTheStartDateOfEveryPatientOfTheQuery()
+      throws EvaluationException {
+    Map<Integer, Date> artStartDates =
+        index.getArtStartDates(new Date(), location, new EvaluationContext());
+
+    assertEquals(2, artStartDates.size());
+    assertEquals(ART_START, artStartDates.get(8));
+    assertEquals(ART_START, artStartDates.get(9));
+    assertNull(artStartDates.get(10));
+  }
+
+  @Test
+  public void getArtStartDatesShouldLoadTheIndexOncePerRunEndDayAndLocation()
+      throws EvaluationException {
+    EvaluationContext run = new EvaluationContext();
+    Date endDate = new DateTime(2020, 6, 30, 0, 0).toDate();
+
+    // the time of the end date is not part of the key
+    index.getArtStartDates(endDate, location, run);
+    index.getArtStartDates(new DateTime(2020, 6, 30, 23, 59).toDate(), location, run);
+    index.getArtStartDates(new DateTime(2020, 7, 1, 0, 0).toDate(), location, run);
+    index.getArtStartDates(endDate, new Location(2), run);
+    // another report run loads its own index
+    index.getArtStartDates(endDate, location, new EvaluationContext());
+
+    verify(evaluationService, times(4))
+        .evaluateToList(any(SqlQueryBuilder.class), any(EvaluationContext.class));
+    EptsReportRunCache cache = EptsReportRunCache.getInstance(run);
+    assertEquals(1, cache.getHits(ArtStartDateIndex.REGION));
+    assertEquals(3, cache.getMisses(ArtStartDateIndex.REGION));
+  }
+
+  @Test
+  public void getArtStartDatesShouldReadThePatientSummaryTableWhenItIsEnabled()
+      throws EvaluationException {
+    when(patientSummaryTable.isEnabled()).thenReturn(true);
+
+    index.getArtStartDates(new Date(), location, new EvaluationContext());
+
+    verify(patientSummaryQueries).getArtStartDateQuery();
+    verify(commonQueries, never()).InitialArtStartDateOverallQuery();
+  }
+}
@@ -0,0 +1,66 @@
+package org.openmrs.module.eptsreports.reporting.unit.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+import org.openmrs.GlobalProperty;
+import org.openmrs.Location;
+import org.openmrs.Obs;
+import org.openmrs.PatientIdentifier;
+import org.openmrs.PersonName;
+import org.openmrs.module.eptsreports.EptsReportsConfig;
+import org.openmrs.module.eptsreports.reporting.cache.DataChangeInterceptor;
+
+public class DataChangeInterceptorTest {
+
+  private final DataChangeInterceptor interceptor = new DataChangeInterceptor();
+
+  @Test
+  public void versionShouldChangeWhenPatientDataChanges() {
+    String version = DataChangeInterceptor.getVersion();
+    interceptor.onSave(new Obs(), 1, null, null, null);
+    assertNotEquals(version, DataChangeInterceptor.getVersion());
+
+    version = DataChangeInterceptor.getVersion();
+    interceptor.onFlushDirty(new PersonName(), 1, null, null, null, null);
+    assertNotEquals(version, DataChangeInterceptor.getVersion());
+
+    version = DataChangeInterceptor.getVersion();
+    interceptor.onDelete(new PatientIdentifier(), 1, null, null, null);
+    assertNotEquals(version, DataChangeInterceptor.getVersion());
+  }
+
+  @Test
+  public void versionShouldChangeWhenAMetadataGlobalPropertyChanges() {
+    String version = DataChangeInterceptor.getVersion();
+    interceptor.onFlushDirty(
+        new GlobalProperty("eptsreports.artProgramUuid", "b"), 1, null, null, null, null);
+    assertNotEquals(version, DataChangeInterceptor.getVersion());
+  }
+
+  @Test
+  public void versionShouldNotChangeWhenOtherGlobalPropertiesChange() {
+    String version = DataChangeInterceptor.getVersion();
+    interceptor.onFlushDirty(
+        new GlobalProperty(EptsReportsConfig.GP_PATIENT_SUMMARY_WATERMARK, "2020-06-30 10:00:00"),
+        1,
+        null,
+        null,
+        null,
+        null);
+    interceptor.onSave(
+        new GlobalProperty(EptsReportsConfig.GP_REPORT_QUEUE_MAX_RUNS, "2"), 1, null, null, null);
+    interceptor.onFlushDirty(
+        new GlobalProperty("reporting.maxCachedReports", "10"), 1, null, null, null, null);
+    assertEquals(version, DataChangeInterceptor.getVersion());
+  }
+
+  @Test
+  public void versionShouldNotChangeWhenMetadataChanges() {
+    String version = DataChangeInterceptor.getVersion();
+    interceptor.onSave(new Location(), 1, null, null, null);
+    interceptor.onFlushDirty(new Location(), 1, null, null, null, null);
+    assertEquals(version, DataChangeInterceptor.getVersion());
+  }
+}
@@ -0,0 +1,84 @@
+package org.openmrs.module.eptsreports.reporting.unit.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.openmrs.Cohort;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.eptsreports.reporting.cache.StatementInterceptor;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+
+public class EptsReportRunCacheTest {
+
+  @Test
+  public void getShouldLoadValueOnlyOncePerKey() throws EvaluationException {
+    EptsReportRunCache cache = new EptsReportRunCache();
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      Integer value = cache.get("region", "key", () -> loads.incrementAndGet());
+      assertEquals(Integer.valueOf(1), value);
+    }
+
+    assertEquals(1, loads.get());
+    assertEquals(1, cache.getMisses("region"));
+    assertEquals(2, cache.getHits("region"));
+  }
+
+  @Test
+  public void getShouldReloadAfterInvalidate() throws EvaluationException {
+    EptsReportRunCache cache = new EptsReportRunCache();
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.get("region", "key", () -> loads.incrementAndGet());
+    cache.invalidate("region");
+    Integer value = cache.get("region", "key", () -> loads.incrementAndGet());
+
+    assertEquals(Integer.valueOf(2), value);
+    assertEquals(2, cache.getMisses("region"));
+    assertEquals(0, cache.getHits("region"));
+  }
+
+  @Test
+  public void getInstanceShouldReturnTheCacheStoredInTheContext() {
+    EvaluationContext context = new EvaluationContext();
+    EptsReportRunCache cache = EptsReportRunCache.getInstance(context);
+
+    assertSame(cache, EptsReportRunCache.getInstance(context));
+  }
+
+  @Test
+  public void statementInterceptorShouldRecordTheStatementsOfTheBoundRun() {
+    EvaluationContext context = new EvaluationContext();
+    StatementInterceptor interceptor = new StatementInterceptor();
+    interceptor.onPrepareStatement("select 1 from patient");
+
+    EptsReportRunCache previous = EptsReportRunCache.bind(context);
+    try {
+      interceptor.onPrepareStatement("select 1 from patient");
+      interceptor.onPrepareStatement("select 1 from patient");
+      interceptor.onPrepareStatement("select 1 from obs");
+    } finally {
+      EptsReportRunCache.restore(previous);
+    }
+    interceptor.onPrepareStatement("select 1 from encounter");
+
+    EptsReportRunCache cache = EptsReportRunCache.getInstance(context);
+    assertEquals(2, cache.getDistinctStatementCount());
+    assertEquals(Long.valueOf(2), cache.getStatistics().get("statements.distinct"));
+  }
+
+  @Test
+  public void getCohortKeyShouldTellCohortsOfTheSameSizeAndIdSumApart() {
+    String key = EptsReportRunCache.getCohortKey(new Cohort(Arrays.asList(1, 4)));
+
+    assertNotEquals(key, EptsReportRunCache.getCohortKey(new Cohort(Arrays.asList(2, 3))));
+    assertEquals(key, EptsReportRunCache.getCohortKey(new Cohort(Arrays.asList(4, 1))));
+    assertEquals("*", EptsReportRunCache.getCohortKey(null));
+  }
+}
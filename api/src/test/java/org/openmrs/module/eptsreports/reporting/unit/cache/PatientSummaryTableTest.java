@@ -0,0 +1,156 @@
+package org.openmrs.module.eptsreports.reporting.unit.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.openmrs.api.AdministrationService;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.EptsReportsConfig;
+import org.openmrs.module.eptsreports.api.EptsReportsService;
+import org.openmrs.module.eptsreports.reporting.cache.PatientSummaryTable;
+import org.openmrs.module.eptsreports.reporting.library.queries.PatientSummaryQueries;
+import org.openmrs.module.eptsreports.reporting.unit.PowerMockBaseContextTest;
+import org.powermock.api.mockito.PowerMockito;
+
+public class PatientSummaryTableTest extends PowerMockBaseContextTest {
+
+  private static final String ALL_PATIENTS = "all patients";
+
+  private static final String CHANGED_PATIENTS = "changed patients";
+
+  private static final String SUMMARY = "summary";
+
+  @Mock private AdministrationService administrationService;
+
+  @Mock private EptsReportsService eptsReportsService;
+
+  private final List<List<Integer>> batches = new ArrayList<>();
+
+  private final List<List<Object[]>> writtenRows = new ArrayList<>();
+
+  private PatientSummaryTable table;
+
+  @Before
+  public void setUp() {
+    PowerMockito.mockStatic(Context.class);
+    when(Context.getAdministrationService()).thenReturn(administrationService);
+    when(Context.getService(EptsReportsService.class)).thenReturn(eptsReportsService);
+    when(eptsReportsService.writePatientSummaries(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              batches.add(new ArrayList<>(invocation.<Collection<Integer>>getArgument(0)));
+              List<Object[]> rows = invocation.getArgument(1);
+              writtenRows.add(rows);
+              return rows.size();
+            });
+
+    PatientSummaryQueries queries = mock(PatientSummaryQueries.class);
+    when(queries.getAllPatientsQuery()).thenReturn(ALL_PATIENTS);
+    when(queries.getChangedPatientsQuery()).thenReturn(CHANGED_PATIENTS);
+    when(queries.getSummaryQuery()).thenReturn(SUMMARY);
+    table = new PatientSummaryTable(queries);
+  }
+
+  @Test
+  public void refreshShouldReplaceTheRowsOfTheChangedPatientsInBatches() {
+    when(administrationService.getGlobalProperty(EptsReportsConfig.GP_PATIENT_SUMMARY_WATERMARK))
+        .thenReturn("2020-01-01 10:00:00");
+    List<Integer> changed = new ArrayList<>();
+    for (int patientId = 1; patientId <= 2500; patientId++) {
+      changed.add(patientId);
+    }
+    when(eptsReportsService.getPatientIds(eq(CHANGED_PATIENTS), anyMap())).thenReturn(changed);
+    Date artStart = new Date();
+    List<Object[]> summaries =
+        Arrays.asList(
+            new Object[] {1, 10, artStart},
+            new Object[] {1, 20, artStart},
+            new Object[] {1500, 10, artStart});
+    List<Collection<Integer>> summaryBatches = new ArrayList<>();
+    when(eptsReportsService.getPatientSummaries(eq(SUMMARY), anyMap()))
+        .thenAnswer(
+            invocation -> {
+              Map<String, Object> parameters = invocation.getArgument(1);
+              Collection<Integer> patientIds = (Collection<Integer>) parameters.get("patientIds");
+              summaryBatches.add(patientIds);
+              List<Object[]> rows = new ArrayList<>();
+              for (Object[] row : summaries) {
+                if (patientIds.contains(row[0])) {
+                  rows.add(row);
+                }
+              }
+              return rows;
+            });
+
+    assertEquals(3, table.refresh());
+
+    assertEquals(3, batches.size());
+    assertEquals(changed.subList(0, 1000), batches.get(0));
+    assertEquals(changed.subList(1000, 2000), batches.get(1));
+    assertEquals(changed.subList(2000, 2500), batches.get(2));
+    // the summaries are evaluated for the patients of each batch only
+    assertEquals(batches, summaryBatches);
+    assertEquals(2, writtenRows.get(0).size());
+    assertEquals(1, writtenRows.get(1).size());
+    assertEquals(1500, writtenRows.get(1).get(0)[0]);
+    // the changed patients without ART start date lose their rows
+    assertTrue(writtenRows.get(2).isEmpty());
+    verify(administrationService)
+        .setGlobalProperty(eq(EptsReportsConfig.GP_PATIENT_SUMMARY_WATERMARK), anyString());
+  }
+
+  @Test
+  public void refreshShouldRebuildTheTableWithoutWatermark() {
+    when(eptsReportsService.getPatientIds(eq(ALL_PATIENTS), anyMap()))
+        .thenReturn(Arrays.asList(1, 2));
+    when(eptsReportsService.getPatientSummaries(eq(SUMMARY), anyMap()))
+        .thenReturn(Arrays.<Object[]>asList(new Object[] {2, 10, new Date()}));
+
+    assertEquals(1, table.refresh());
+
+    assertEquals(Arrays.asList(Arrays.asList(1, 2)), batches);
+    verify(eptsReportsService, never()).getPatientIds(eq(CHANGED_PATIENTS), anyMap());
+  }
+
+  @Test
+  public void refreshShouldKeepTheWatermarkWhenABatchFails() {
+    when(administrationService.getGlobalProperty(EptsReportsConfig.GP_PATIENT_SUMMARY_WATERMARK))
+        .thenReturn("2020-01-01 10:00:00");
+    when(eptsReportsService.getPatientIds(eq(CHANGED_PATIENTS), anyMap()))
+        .thenReturn(Arrays.asList(1, 2));
+    when(eptsReportsService.getPatientSummaries(eq(SUMMARY), anyMap()))
+        .thenReturn(new ArrayList<>());
+    doThrow(new IllegalStateException("Lock wait timeout exceeded"))
+        .when(eptsReportsService)
+        .writePatientSummaries(any(), any());
+
+    try {
+      table.refresh();
+      fail("The refresh should fail");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+
+    verify(administrationService, never())
+        .setGlobalProperty(eq(EptsReportsConfig.GP_PATIENT_SUMMARY_WATERMARK), anyString());
+  }
+}
@@ -0,0 +1,116 @@
+package org.openmrs.module.eptsreports.reporting.unit.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openmrs.Location;
+import org.openmrs.module.eptsreports.reporting.cache.ReportResultCache;
+import org.openmrs.module.reporting.dataset.DataSet;
+import org.openmrs.module.reporting.dataset.DataSetColumn;
+import org.openmrs.module.reporting.dataset.DataSetRow;
+import org.openmrs.module.reporting.dataset.SimpleDataSet;
+import org.openmrs.module.reporting.dataset.definition.DataSetDefinition;
+import org.openmrs.module.reporting.dataset.definition.SqlDataSetDefinition;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.report.definition.ReportDefinition;
+
+public class ReportResultCacheTest {
+
+  private static final DataSetColumn INDICATOR =
+      new DataSetColumn("TX_CURR", "TX_CURR", Integer.class);
+
+  private static final DataSetColumn LOCATION =
+      new DataSetColumn("location", "Location", Object.class);
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void entryShouldKeepTheValuesAndUseTheDefinitionsOfTheReport() throws Exception {
+    DataSetDefinition definition = new SqlDataSetDefinition();
+    ReportDefinition reportDefinition = new ReportDefinition();
+    reportDefinition.addDataSetDefinition("R", definition, Collections.<String, Object>emptyMap());
+
+    SimpleDataSet dataSet = new SimpleDataSet(definition, new EvaluationContext());
+    dataSet.getMetaData().addColumn(INDICATOR);
+    dataSet.getMetaData().addColumn(LOCATION);
+    DataSetRow row = new DataSetRow();
+    row.addColumnValue(INDICATOR, 42);
+    Location location = new Location();
+    location.setName("Ponta Gea");
+    row.addColumnValue(LOCATION, location);
+    dataSet.addRow(row);
+
+    String watermark = "startup:3|120:45:10:12:7:15:4:6";
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ReportResultCache.Entry.of(
+            "uuid|1.0|endDate=1",
+            watermark,
+            Collections.<String, DataSet>singletonMap("R", dataSet))
+        .write(out);
+
+    ReportResultCache.Entry entry =
+        ReportResultCache.Entry.read(new ByteArrayInputStream(out.toByteArray()));
+    assertEquals("uuid|1.0|endDate=1", entry.getKey());
+    assertEquals(watermark, entry.getWatermark());
+
+    EvaluationContext context = new EvaluationContext();
+    Map<String, DataSet> dataSets = entry.toDataSets(reportDefinition, context);
+    DataSet cached = dataSets.get("R");
+    assertSame(definition, cached.getDefinition());
+    assertSame(context, cached.getContext());
+    assertEquals(2, cached.getMetaData().getColumns().size());
+    DataSetRow cachedRow = cached.iterator().next();
+    assertEquals(42, cachedRow.getColumnValue("TX_CURR"));
+    assertEquals("Ponta Gea", cachedRow.getColumnValue("location"));
+  }
+
+  @Test
+  public void evictShouldDeleteTheExpiredEntries() throws Exception {
+    long now = System.currentTimeMillis();
+    File recent = entry("recent", 10, now - TimeUnit.DAYS.toMillis(1));
+    File expired = entry("expired", 10, now - TimeUnit.DAYS.toMillis(8));
+
+    ReportResultCache.evict(folder.getRoot(), now, TimeUnit.DAYS.toMillis(7), 1000);
+
+    assertTrue(recent.exists());
+    assertFalse(expired.exists());
+  }
+
+  @Test
+  public void evictShouldDeleteTheOldestEntriesOverTheMaximumSize() throws Exception {
+    long now = System.currentTimeMillis();
+    File oldest = entry("oldest", 300, now - 4000);
+    File older = entry("older", 300, now - 3000);
+    File newer = entry("newer", 300, now - 2000);
+    File newest = entry("newest", 300, now - 1000);
+
+    ReportResultCache.evict(folder.getRoot(), now, TimeUnit.DAYS.toMillis(7), 1000);
+
+    assertTrue(newest.exists());
+    assertTrue(newer.exists());
+    assertTrue(older.exists());
+    assertFalse(oldest.exists());
+  }
+
+  private File entry(String name, int size, long lastModified) throws IOException {
+    File file = folder.newFile(name + ".ser.gz");
+    try (FileOutputStream out = new FileOutputStream(file)) {
+      out.write(new byte[size]);
+    }
+    assertTrue(file.setLastModified(lastModified));
+    return file;
+  }
+}
@@ -0,0 +1,53 @@
+package org.openmrs.module.eptsreports.reporting.unit.calculation;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.openmrs.calculation.patient.PatientCalculationContext;
+import org.openmrs.calculation.result.CalculationResultMap;
+import org.openmrs.module.eptsreports.reporting.calculation.ClassifierCalculation;
+
+public class ClassifierCalculationTest {
+
+  private final ClassifierCalculation<String> calculation =
+      new ClassifierCalculation<String>() {
+        @Override
+        public Map<Integer, String> classify(
+            Collection<Integer> cohort,
+            Map<String, Object> parameterValues,
+            PatientCalculationContext context) {
+          Map<Integer, String> categories = new HashMap<>();
+          categories.put(1, "A");
+          categories.put(2, "B");
+          return categories;
+        }
+
+        @Override
+        public String getCategoryParameter() {
+          return "category";
+        }
+      };
+
+  @Test
+  public void evaluateShouldSelectThePatientsOfTheCategory() {
+    Map<String, Object> parameters = Collections.<String, Object>singletonMap("category", "A");
+    CalculationResultMap results = calculation.evaluate(Arrays.asList(1, 2, 3), parameters, null);
+    assertEquals(3, results.size());
+    assertEquals(true, results.get(1).getValue());
+    assertEquals(false, results.get(2).getValue());
+    assertEquals(false, results.get(3).getValue());
+  }
+
+  @Test
+  public void evaluateShouldSelectNobodyWithoutACategory() {
+    CalculationResultMap results =
+        calculation.evaluate(Arrays.asList(1, 2), Collections.<String, Object>emptyMap(), null);
+    assertEquals(false, results.get(1).getValue());
+    assertEquals(false, results.get(2).getValue());
+  }
+}
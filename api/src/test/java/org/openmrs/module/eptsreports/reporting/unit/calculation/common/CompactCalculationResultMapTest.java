@@ -0,0 +1,78 @@
+package org.openmrs.module.eptsreports.reporting.unit.calculation.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import org.junit.Test;
+import org.openmrs.calculation.result.CalculationResult;
+import org.openmrs.calculation.result.ListResult;
+import org.openmrs.calculation.result.SimpleResult;
+import org.openmrs.module.eptsreports.reporting.calculation.common.CompactCalculationResultMap;
+import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
+
+public class CompactCalculationResultMapTest {
+
+  @Test
+  public void getShouldWrapTheValueOnceWhenRead() {
+    CompactCalculationResultMap results = new CompactCalculationResultMap(1, null, null);
+    results.putValue(10, "value");
+    results.putValue(20, Arrays.asList(1, 2));
+
+    CalculationResult result = results.get(10);
+    assertTrue(result instanceof SimpleResult);
+    assertEquals("value", result.getValue());
+    assertSame(result, results.get(10));
+    assertTrue(results.get(20) instanceof ListResult);
+    assertEquals(
+        Arrays.asList(1, 2),
+        EptsCalculationUtils.extractResultValues((ListResult) results.get(20)));
+  }
+
+  @Test
+  public void shouldKeepThePatientsWithoutValue() {
+    CompactCalculationResultMap results = new CompactCalculationResultMap(2, null, null);
+    results.putValue(10, null);
+
+    assertEquals(1, results.size());
+    assertTrue(results.containsKey(10));
+    assertNull(results.get(10));
+    assertFalse(results.containsKey(20));
+    assertNull(results.get(20));
+  }
+
+  @Test
+  public void shouldGrowBeyondTheExpectedSize() {
+    CompactCalculationResultMap results = new CompactCalculationResultMap(1, null, null);
+    for (int ptId = 1; ptId <= 1000; ptId++) {
+      results.putValue(ptId * 31, ptId);
+    }
+
+    assertEquals(1000, results.size());
+    for (int ptId = 1; ptId <= 1000; ptId++) {
+      assertEquals(ptId, results.get(ptId * 31).getValue());
+    }
+  }
+
+  @Test
+  public void shouldBehaveLikeAPlainMapOnceModified() {
+    CompactCalculationResultMap results = new CompactCalculationResultMap(2, null, null);
+    results.putValue(10, "a");
+    results.putValue(20, "b");
+    results.put(30, new SimpleResult("c", null));
+
+    assertEquals(3, results.size());
+    assertEquals("a", results.get(10).getValue());
+    assertEquals(new HashMap<>(results).keySet(), results.keySet());
+
+    results.remove(10);
+    results.putValue(40, "d");
+    assertEquals(3, results.size());
+    assertFalse(results.containsKey(10));
+    assertEquals("d", results.get(40).getValue());
+  }
+}
@@ -0,0 +1,202 @@
+package org.openmrs.module.eptsreports.reporting.unit.calculation.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.openmrs.Concept;
+import org.openmrs.Encounter;
+import org.openmrs.EncounterType;
+import org.openmrs.Location;
+import org.openmrs.Obs;
+import org.openmrs.Person;
+import org.openmrs.calculation.patient.PatientCalculationContext;
+import org.openmrs.calculation.result.CalculationResult;
+import org.openmrs.calculation.result.CalculationResultMap;
+import org.openmrs.calculation.result.ListResult;
+import org.openmrs.calculation.result.ObsResult;
+import org.openmrs.module.eptsreports.reporting.calculation.common.EPTSCalculationService;
+import org.openmrs.module.eptsreports.reporting.calculation.common.ObsBatch;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.JembiMultipleEncounterObsDefinition;
+import org.openmrs.module.eptsreports.reporting.helper.TestsHelper;
+import org.openmrs.module.eptsreports.reporting.unit.PowerMockBaseContextTest;
+import org.openmrs.module.eptsreports.reporting.utils.EPTSMetadataDatetimeQualifier;
+import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
+import org.openmrs.module.reporting.common.TimeQualifier;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+
+@PrepareForTest({EptsCalculationUtils.class})
+public class ObsBatchTest extends PowerMockBaseContextTest {
+
+  private static final Integer PATIENT = 1;
+
+  private static final Integer OTHER_PATIENT = 2;
+
+  private final TestsHelper testsHelper = new TestsHelper();
+
+  private final Concept question = new Concept(23985);
+
+  private final Concept otherQuestion = new Concept(6129);
+
+  private final Concept yes = new Concept(1065);
+
+  private final Concept no = new Concept(1066);
+
+  private final EncounterType tpt = new EncounterType(60);
+
+  private final EncounterType consultation = new EncounterType(6);
+
+  private final List<JembiMultipleEncounterObsDefinition> scans = new ArrayList<>();
+
+  private final List<Obs> observations = new ArrayList<>();
+
+  private ObsBatch batch;
+
+  @Before
+  public void setUp() {
+    PowerMockito.mockStatic(EptsCalculationUtils.class);
+    when(EptsCalculationUtils.evaluateWithReporting(
+            any(JembiMultipleEncounterObsDefinition.class),
+            anyCollection(),
+            isNull(),
+            isNull(),
+            any(PatientCalculationContext.class)))
+        .thenAnswer(
+            invocation -> {
+              scans.add(invocation.getArgument(0));
+              CalculationResultMap scan = new CalculationResultMap();
+              for (Obs obs : observations) {
+                ListResult list = (ListResult) scan.get(obs.getPersonId());
+                if (list == null) {
+                  list = new ListResult();
+                  scan.put(obs.getPersonId(), list);
+                }
+                list.add(new ObsResult(obs, null, null));
+              }
+              return scan;
+            });
+    batch =
+        new EPTSCalculationService()
+            .newObsBatch(
+                Arrays.asList(PATIENT, OTHER_PATIENT),
+                new Location(1),
+                PowerMockito.mock(PatientCalculationContext.class));
+  }
+
+  @Test
+  public void fetchShouldBreakTheTiesOfTheFirstObsByLowestIdAndOfTheLastObsByHighestId() {
+    addObs(1, PATIENT, question, tpt, yes, "2020-01-10");
+    addObs(2, PATIENT, question, tpt, yes, "2020-01-10");
+    addObs(3, PATIENT, question, tpt, yes, "2020-03-10");
+    addObs(4, PATIENT, question, tpt, yes, "2020-03-10");
+
+    CalculationResultMap first = getObs(question, tpt, null, TimeQualifier.FIRST, null, null);
+    CalculationResultMap last = getObs(question, tpt, null, TimeQualifier.LAST, null, null);
+    batch.fetch();
+
+    assertEquals(Integer.valueOf(1), getObsId(first, PATIENT));
+    assertEquals(Integer.valueOf(4), getObsId(last, PATIENT));
+    assertNull(first.get(OTHER_PATIENT));
+  }
+
+  @Test
+  public void fetchShouldSelectTheObsOfTheQuestionEncounterTypeAnswersAndWindow() {
+    addObs(1, PATIENT, question, tpt, yes, "2020-01-10");
+    addObs(2, PATIENT, question, tpt, no, "2020-02-10");
+    addObs(3, PATIENT, otherQuestion, tpt, yes, "2020-02-10");
+    addObs(4, PATIENT, question, consultation, yes, "2020-02-10");
+    addObs(5, PATIENT, question, tpt, yes, "2020-02-10");
+    addObs(6, PATIENT, question, tpt, yes, "2020-04-10");
+
+    CalculationResultMap any =
+        getObs(question, tpt, Arrays.asList(yes), TimeQualifier.ANY, "2020-01-10", "2020-03-31");
+    batch.fetch();
+
+    List<Integer> ids = new ArrayList<>();
+    for (CalculationResult result : getResults(any.get(PATIENT))) {
+      ids.add(((Obs) result.getValue()).getObsId());
+    }
+    assertEquals(Arrays.asList(1, 5), ids);
+  }
+
+  @Test
+  public void fetchShouldScanTheRequestsWithoutStartOrEndDateApart() {
+    getObs(question, tpt, null, TimeQualifier.FIRST, "2020-01-01", "2020-03-31");
+    getObs(question, tpt, null, TimeQualifier.ANY, "2019-07-01", "2020-01-31");
+    getObs(otherQuestion, consultation, null, TimeQualifier.LAST, null, "2020-03-31");
+    batch.fetch();
+
+    assertEquals(2, scans.size());
+    assertEquals(2, batch.getScanCount());
+    assertEquals(3, batch.getRequestCount());
+
+    JembiMultipleEncounterObsDefinition bounded = scans.get(0);
+    assertEquals(Arrays.asList(question), bounded.getQuestions());
+    assertEquals(Arrays.asList(tpt), bounded.getEncounterTypes());
+    assertEquals(testsHelper.getDate("2019-07-01 00:00:00.0"), bounded.getOnOrAfter());
+    assertEquals(testsHelper.getDate("2020-03-31 00:00:00.0"), bounded.getOnOrBefore());
+
+    JembiMultipleEncounterObsDefinition open = scans.get(1);
+    assertEquals(Arrays.asList(otherQuestion), open.getQuestions());
+    assertEquals(Arrays.asList(consultation), open.getEncounterTypes());
+    assertNull(open.getOnOrAfter());
+    assertEquals(testsHelper.getDate("2020-03-31 00:00:00.0"), open.getOnOrBefore());
+  }
+
+  private CalculationResultMap getObs(
+      Concept question,
+      EncounterType encounterType,
+      List<Concept> answers,
+      TimeQualifier timeQualifier,
+      String startDate,
+      String endDate) {
+    return batch.getObs(
+        question,
+        encounterType,
+        answers,
+        timeQualifier,
+        getDate(startDate),
+        getDate(endDate),
+        EPTSMetadataDatetimeQualifier.ENCOUNTER_DATETIME);
+  }
+
+  private void addObs(
+      int obsId,
+      Integer patientId,
+      Concept question,
+      EncounterType encounterType,
+      Concept answer,
+      String encounterDate) {
+    Encounter encounter = new Encounter();
+    encounter.setEncounterType(encounterType);
+    encounter.setEncounterDatetime(getDate(encounterDate));
+    Obs obs = new Obs(new Person(patientId), question, getDate(encounterDate), new Location(1));
+    obs.setObsId(obsId);
+    obs.setEncounter(encounter);
+    obs.setValueCoded(answer);
+    observations.add(obs);
+  }
+
+  private Date getDate(String date) {
+    return date == null ? null : testsHelper.getDate(date + " 00:00:00.0");
+  }
+
+  private static Integer getObsId(CalculationResultMap map, Integer patientId) {
+    return ((Obs) map.get(patientId).getValue()).getObsId();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<CalculationResult> getResults(CalculationResult list) {
+    return (List<CalculationResult>) list.getValue();
+  }
+}
@@ -0,0 +1,47 @@
+package org.openmrs.module.eptsreports.reporting.unit.calculation.generic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Date;
+import org.joda.time.DateTime;
+import org.junit.Test;
+import org.openmrs.module.eptsreports.reporting.calculation.generic.PregnancyStatusCalculation.PregnancyStatus;
+import org.openmrs.module.eptsreports.reporting.utils.EptsReportConstants.PregnantOrBreastfeedingWomen;
+
+public class PregnancyStatusCalculationTest {
+
+  private final Date earlier = new DateTime(2020, 1, 10, 0, 0).toDate();
+
+  private final Date later = new DateTime(2020, 3, 10, 0, 0).toDate();
+
+  @Test
+  public void getStateShouldPickTheMostRecentDate() {
+    assertEquals(
+        PregnantOrBreastfeedingWomen.PREGNANTWOMEN, PregnancyStatus.getState(true, later, earlier));
+    assertEquals(
+        PregnantOrBreastfeedingWomen.BREASTFEEDINGWOMEN,
+        PregnancyStatus.getState(true, earlier, later));
+  }
+
+  @Test
+  public void getStateShouldPreferPregnancyOnTheSameDate() {
+    assertEquals(
+        PregnantOrBreastfeedingWomen.PREGNANTWOMEN, PregnancyStatus.getState(true, later, later));
+  }
+
+  @Test
+  public void getStateShouldUseTheOnlyDate() {
+    assertEquals(
+        PregnantOrBreastfeedingWomen.PREGNANTWOMEN, PregnancyStatus.getState(true, earlier, null));
+    assertEquals(
+        PregnantOrBreastfeedingWomen.BREASTFEEDINGWOMEN,
+        PregnancyStatus.getState(true, null, earlier));
+  }
+
+  @Test
+  public void getStateShouldReturnNullForMalesAndPatientsWithoutDates() {
+    assertNull(PregnancyStatus.getState(false, later, earlier));
+    assertNull(PregnancyStatus.getState(true, null, null));
+  }
+}
@@ -0,0 +1,190 @@
+package org.openmrs.module.eptsreports.reporting.unit.calculation.txcurr;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.joda.time.DateTime;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.openmrs.Concept;
+import org.openmrs.Encounter;
+import org.openmrs.EncounterType;
+import org.openmrs.Location;
+import org.openmrs.Obs;
+import org.openmrs.api.context.Context;
+import org.openmrs.calculation.patient.PatientCalculationContext;
+import org.openmrs.calculation.result.CalculationResult;
+import org.openmrs.calculation.result.CalculationResultMap;
+import org.openmrs.calculation.result.ListResult;
+import org.openmrs.calculation.result.ObsResult;
+import org.openmrs.calculation.result.SimpleResult;
+import org.openmrs.module.eptsreports.metadata.HivMetadata;
+import org.openmrs.module.eptsreports.reporting.calculation.common.EPTSCalculationService;
+import org.openmrs.module.eptsreports.reporting.calculation.txcurr.ArvDispensationIntervalCalculation;
+import org.openmrs.module.eptsreports.reporting.calculation.txcurr.ArvDispensationIntervalCalculation.Interval;
+import org.openmrs.module.eptsreports.reporting.unit.PowerMockBaseContextTest;
+import org.openmrs.module.reporting.common.TimeQualifier;
+import org.powermock.api.mockito.PowerMockito;
+
+public class ArvDispensationIntervalCalculationTest extends PowerMockBaseContextTest {
+
+  private static final Integer PATIENT_ID = 1;
+
+  private final EncounterType fila = new EncounterType(18);
+
+  private final EncounterType ficha = new EncounterType(6);
+
+  private final Concept returnVisitDate = new Concept(5096);
+
+  private final Date onOrBefore = new DateTime(2020, 6, 30, 0, 0).toDate();
+
+  @Mock private HivMetadata hivMetadata;
+
+  @Mock private EPTSCalculationService ePTSCalculationService;
+
+  @Mock private PatientCalculationContext context;
+
+  /** The FILA encounters of the patient, one before and one after the end date */
+  private final List<Encounter> encounters = new ArrayList<>();
+
+  /** The next pick-up date obs of the FILA encounters */
+  private final List<Obs> nextPickups = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    PowerMockito.mockStatic(Context.class);
+    when(Context.getRegisteredComponents(HivMetadata.class))
+        .thenReturn(Collections.singletonList(hivMetadata));
+    when(Context.getRegisteredComponents(EPTSCalculationService.class))
+        .thenReturn(Collections.singletonList(ePTSCalculationService));
+    when(hivMetadata.getARVPharmaciaEncounterType()).thenReturn(fila);
+    when(hivMetadata.getAdultoSeguimentoEncounterType()).thenReturn(ficha);
+    when(hivMetadata.getReturnVisitDateForArvDrugConcept()).thenReturn(returnVisitDate);
+    when(hivMetadata.getTypeOfDispensationConcept()).thenReturn(new Concept(23739));
+    when(hivMetadata.getQuarterlyDispensation()).thenReturn(new Concept(23730));
+    when(hivMetadata.getSemiannualDispensation()).thenReturn(new Concept(23888));
+    when(hivMetadata.getMonthlyConcept()).thenReturn(new Concept(1098));
+    when(hivMetadata.getQuarterlyConcept()).thenReturn(new Concept(23720));
+    when(context.getFromCache("location")).thenReturn(new Location(1));
+    when(context.getFromCache("onOrBefore")).thenReturn(onOrBefore);
+
+    // a monthly pick-up before the end date, a semiannual one after it
+    addFila(new DateTime(2020, 6, 1, 0, 0).toDate(), 30);
+    addFila(new DateTime(2020, 7, 15, 0, 0).toDate(), 180);
+
+    when(ePTSCalculationService.getObs(
+            any(Concept.class),
+            anyList(),
+            anyCollection(),
+            anyList(),
+            isNull(),
+            any(TimeQualifier.class),
+            isNull(),
+            any(Date.class),
+            any(PatientCalculationContext.class)))
+        .thenAnswer(
+            invocation -> {
+              ListResult list = new ListResult();
+              for (Obs obs : nextPickups) {
+                if (obs.getConcept().equals(invocation.getArgument(0))
+                    && !obs.getObsDatetime().after(invocation.getArgument(7))) {
+                  list.add(new ObsResult(obs, null));
+                }
+              }
+              return resultMap(list);
+            });
+    when(ePTSCalculationService.getEncounter(
+            anyList(),
+            any(TimeQualifier.class),
+            anyCollection(),
+            any(Location.class),
+            any(Date.class),
+            any(PatientCalculationContext.class)))
+        .thenAnswer(
+            invocation -> {
+              List<Encounter> found = new ArrayList<>();
+              for (Encounter e : encounters) {
+                if (invocation.<List<EncounterType>>getArgument(0).contains(e.getEncounterType())
+                    && !e.getEncounterDatetime().after(invocation.getArgument(4))) {
+                  found.add(e);
+                }
+              }
+              if (found.isEmpty()) {
+                return new CalculationResultMap();
+              }
+              if (invocation.getArgument(1) == TimeQualifier.LAST) {
+                return resultMap(new SimpleResult(found.get(found.size() - 1), null));
+              }
+              ListResult list = new ListResult();
+              for (Encounter e : found) {
+                list.add(new SimpleResult(e, null));
+              }
+              return resultMap(list);
+            });
+  }
+
+  @Test
+  public void classifyShouldIgnoreTheObsAfterTheEndDate() {
+    Map<Integer, Interval> intervals =
+        new ArvDispensationIntervalCalculation()
+            .classify(Arrays.asList(PATIENT_ID), Collections.<String, Object>emptyMap(), context);
+
+    assertEquals(Interval.LESS_THAN_3_MONTHS, intervals.get(PATIENT_ID));
+  }
+
+  @Test
+  public void classifyShouldBoundEveryObsLookupByTheEndDate() {
+    new ArvDispensationIntervalCalculation()
+        .classify(Arrays.asList(PATIENT_ID), Collections.<String, Object>emptyMap(), context);
+
+    // the calculations replaced by this one read the same end date from the context
+    ArgumentCaptor<Date> endDates = ArgumentCaptor.forClass(Date.class);
+    verify(ePTSCalculationService, times(4))
+        .getObs(
+            any(Concept.class),
+            anyList(),
+            anyCollection(),
+            anyList(),
+            isNull(),
+            any(TimeQualifier.class),
+            isNull(),
+            endDates.capture(),
+            any(PatientCalculationContext.class));
+    for (Date endDate : endDates.getAllValues()) {
+      assertEquals(onOrBefore, endDate);
+    }
+  }
+
+  private void addFila(Date date, int days) {
+    Encounter encounter = new Encounter();
+    encounter.setEncounterType(fila);
+    encounter.setEncounterDatetime(date);
+    encounters.add(encounter);
+    Obs obs = new Obs();
+    obs.setConcept(returnVisitDate);
+    obs.setEncounter(encounter);
+    obs.setObsDatetime(date);
+    obs.setValueDatetime(new DateTime(date).plusDays(days).toDate());
+    nextPickups.add(obs);
+  }
+
+  private static CalculationResultMap resultMap(CalculationResult result) {
+    CalculationResultMap map = new CalculationResultMap();
+    map.put(PATIENT_ID, result);
+    return map;
+  }
+}
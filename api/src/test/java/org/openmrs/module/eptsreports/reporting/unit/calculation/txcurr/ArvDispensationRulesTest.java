@@ -0,0 +1,621 @@
+package org.openmrs.module.eptsreports.reporting.unit.calculation.txcurr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import org.joda.time.DateTime;
+import org.junit.Before;
+import org.junit.Test;
+import org.openmrs.Concept;
+import org.openmrs.Encounter;
+import org.openmrs.Obs;
+import org.openmrs.module.eptsreports.metadata.HivMetadata;
+import org.openmrs.module.eptsreports.reporting.calculation.txcurr.ArvDispensationIntervalCalculation.Interval;
+import org.openmrs.module.eptsreports.reporting.calculation.txcurr.ArvDispensationRules;
+import org.openmrs.module.eptsreports.reporting.calculation.txcurr.ArvDispensationRules.DispensationFacts;
+
+public class ArvDispensationRulesTest {
+
+  private final Concept monthly = new Concept(1098);
+
+  private final Concept quarterly = new Concept(23720);
+
+  private final Concept semiannual = new Concept(23888);
+
+  private final Concept completed = new Concept(1267);
+
+  private final Concept startDrugs = new Concept(1256);
+
+  private final Concept continueRegimen = new Concept(1257);
+
+  private final Date pickupDate = new DateTime(2020, 6, 1, 0, 0).toDate();
+
+  private ArvDispensationRules rules;
+
+  @Before
+  public void setUp() {
+    HivMetadata hivMetadata = mock(HivMetadata.class);
+    when(hivMetadata.getMonthlyConcept()).thenReturn(monthly);
+    when(hivMetadata.getQuarterlyConcept()).thenReturn(quarterly);
+    when(hivMetadata.getSemiannualDispensation()).thenReturn(semiannual);
+    when(hivMetadata.getCompletedConcept()).thenReturn(completed);
+    when(hivMetadata.getStartDrugs()).thenReturn(startDrugs);
+    when(hivMetadata.getContinueRegimenConcept()).thenReturn(continueRegimen);
+    rules = new ArvDispensationRules(hivMetadata);
+  }
+
+  @Test
+  public void getIntervalShouldUseTheNextPickupOfTheLastFila() {
+    assertEquals(Interval.LESS_THAN_3_MONTHS, rules.getInterval(filaOnly(30)));
+    assertEquals(Interval.THREE_TO_FIVE_MONTHS, rules.getInterval(filaOnly(90)));
+    assertEquals(Interval.SIX_MONTHS_OR_MORE, rules.getInterval(filaOnly(180)));
+  }
+
+  @Test
+  public void getIntervalShouldUseTheTypeOfDispensationOfTheLastFicha() {
+    Encounter ficha = encounter(pickupDate);
+    DispensationFacts facts =
+        new DispensationFacts(
+            ficha,
+            null,
+            Collections.<Encounter>emptyList(),
+            Collections.<Obs>emptyList(),
+            Arrays.asList(codedObs(ficha, semiannual)),
+            Collections.<Obs>emptyList(),
+            Collections.<Obs>emptyList());
+    assertEquals(Interval.SIX_MONTHS_OR_MORE, rules.getInterval(facts));
+  }
+
+  @Test
+  public void getIntervalShouldReturnNullWithoutDispensation() {
+    List<Obs> none = Collections.emptyList();
+    assertNull(
+        rules.getInterval(
+            new DispensationFacts(
+                null, null, Collections.<Encounter>emptyList(), none, none, none, none)));
+  }
+
+  @Test
+  public void getIntervalShouldPlaceTheNextPickupOfAFilaOnTheBoundaries() {
+    assertEquals(Interval.LESS_THAN_3_MONTHS, rules.getInterval(filaOnly(82)));
+    assertEquals(Interval.THREE_TO_FIVE_MONTHS, rules.getInterval(filaOnly(83)));
+    assertEquals(Interval.THREE_TO_FIVE_MONTHS, rules.getInterval(filaOnly(173)));
+    assertEquals(Interval.SIX_MONTHS_OR_MORE, rules.getInterval(filaOnly(174)));
+
+    assertFalse(rules.isLessThanThreeMonths(filaOnly(83)));
+    assertFalse(rules.isThreeToFiveMonths(filaOnly(82)));
+    assertFalse(rules.isThreeToFiveMonths(filaOnly(174)));
+    assertFalse(rules.isSixMonthsOrMore(filaOnly(173)));
+  }
+
+  // less than 3 months
+
+  @Test
+  public void isLessThanThreeMonthsShouldTakeAFilaAfterTheLastFicha() {
+    Patient patient = new Patient();
+    patient.typeOfDispensation(patient.ficha("2020-01-01"), quarterly);
+    patient.fila("2020-02-01", 30);
+
+    assertTrue(rules.isLessThanThreeMonths(patient.facts()));
+  }
+
+  @Test
+  public void isLessThanThreeMonthsShouldTakeAMonthlyFichaAfterTheLastFila() {
+    Patient patient = new Patient();
+    patient.fila("2020-01-01", 90);
+    patient.typeOfDispensation(patient.ficha("2020-02-01"), monthly);
+
+    assertTrue(rules.isLessThanThreeMonths(patient.facts()));
+  }
+
+  @Test
+  public void isLessThanThreeMonthsShouldTakeTheFilaOfTheSameDayAsTheFicha() {
+    Patient patient = new Patient();
+    patient.fila("2020-06-01", 30);
+    patient.typeOfDispensation(patient.ficha("2020-06-01"), quarterly);
+
+    assertTrue(rules.isLessThanThreeMonths(patient.facts()));
+
+    Patient other = new Patient();
+    other.fila("2020-06-01", 90);
+    other.typeOfDispensation(other.ficha("2020-06-01"), monthly);
+
+    assertFalse(rules.isLessThanThreeMonths(other.facts()));
+  }
+
+  @Test
+  public void isLessThanThreeMonthsShouldTakeAFilaWithoutMonthlyFicha() {
+    // also covers the case of a fila without any type of dispensation, which this one shadows
+    Patient patient = new Patient();
+    patient.fila("2020-06-01", 30);
+
+    assertTrue(rules.isLessThanThreeMonths(patient.facts()));
+  }
+
+  @Test
+  public void isLessThanThreeMonthsShouldTakeAMonthlyFichaWithoutFila() {
+    Patient patient = new Patient();
+    patient.typeOfDispensation(patient.ficha("2020-06-01"), monthly);
+
+    assertTrue(rules.isLessThanThreeMonths(patient.facts()));
+  }
+
+  @Test
+  public void isLessThanThreeMonthsShouldLookForTheLastFilaWhenTheLastNextPickupIsVoided() {
+    Patient patient = new Patient();
+    patient.fila("2020-01-01", 30);
+    patient.voidedFila("2020-02-01", 180);
+
+    assertTrue(rules.isLessThanThreeMonths(patient.facts()));
+    assertFalse(rules.isSixMonthsOrMore(patient.facts()));
+  }
+
+  @Test
+  public void
+      isLessThanThreeMonthsShouldLookForTheLastFichaWhenTheLastTypeOfDispensationIsVoided() {
+    Patient patient = new Patient();
+    patient.typeOfDispensation(patient.ficha("2020-01-01"), monthly);
+    patient.typeOfDispensation(patient.voidedFicha("2020-02-01"), monthly);
+
+    assertTrue(rules.isLessThanThreeMonths(patient.facts()));
+  }
+
+  @Test
+  public void isLessThanThreeMonthsShouldIgnoreTheMonthlyObsOfAVoidedFicha() {
+    Patient patient = new Patient();
+    patient.typeOfDispensation(patient.ficha("2020-01-01"), quarterly);
+    patient.typeOfDispensation(patient.voidedFicha("2020-02-01"), monthly);
+
+    assertFalse(rules.isLessThanThreeMonths(patient.facts()));
+  }
+
+  // 3 to 5 months
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeAFilaAfterTheLastTypeOfDispensation() {
+    Patient patient = new Patient();
+    patient.typeOfDispensation(patient.ficha("2020-01-01"), monthly);
+    patient.fila("2020-02-01", 90);
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeAFilaAfterTheLastQuarterlyDispensation() {
+    Patient patient = new Patient();
+    patient.quarterlyDispensation(patient.ficha("2020-01-01"), startDrugs);
+    patient.fila("2020-02-01", 90);
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeAFilaWithoutFicha() {
+    Patient patient = new Patient();
+    patient.fila("2020-06-01", 90);
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeAQuarterlyFichaAfterTheLastFila() {
+    Patient patient = new Patient();
+    patient.fila("2020-01-01", 30);
+    patient.typeOfDispensation(patient.ficha("2020-02-01"), quarterly);
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeAQuarterlyDispensationAfterTheLastFila() {
+    Patient patient = new Patient();
+    patient.fila("2020-01-01", 30);
+    patient.quarterlyDispensation(patient.ficha("2020-02-01"), continueRegimen);
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeTheFilaOfTheSameDayAsTheTypeOfDispensation() {
+    Patient patient = new Patient();
+    patient.fila("2020-06-01", 90);
+    patient.typeOfDispensation(patient.ficha("2020-06-01"), monthly);
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeTheFilaOfTheSameDayAsTheQuarterlyDispensation() {
+    Patient patient = new Patient();
+    patient.fila("2020-06-01", 90);
+    patient.quarterlyDispensation(patient.ficha("2020-06-01"), startDrugs);
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeAQuarterlyFichaWithoutFila() {
+    Patient patient = new Patient();
+    patient.typeOfDispensation(patient.ficha("2020-06-01"), quarterly);
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeAQuarterlyDispensationWithoutFila() {
+    Patient patient = new Patient();
+    patient.quarterlyDispensation(patient.ficha("2020-06-01"), startDrugs);
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeAQuarterlyObsOfTheSameDateAsTheMonthlyObs() {
+    // on equal obs dates the monthly obs, later in the list, is the last type of dispensation
+    Patient patient = new Patient();
+    Encounter ficha = patient.ficha("2020-06-01");
+    patient.typeOfDispensation(ficha, quarterly);
+    patient.typeOfDispensation(ficha, monthly);
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeAStartedQuarterlyDispensationAfterTheMonthlyObs() {
+    Patient patient = new Patient();
+    patient.typeOfDispensation(patient.ficha("2020-01-01"), monthly);
+    patient.quarterlyDispensation(patient.ficha("2020-02-01"), startDrugs);
+    patient.quarterlyDispensation(patient.ficha("2020-03-01"), completed);
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeAQuarterlyObsAfterTheLastFila() {
+    Patient patient = new Patient();
+    patient.fila("2020-01-01", 30);
+    patient.typeOfDispensation(patient.ficha("2020-02-01"), quarterly);
+    patient.typeOfDispensation(patient.ficha("2020-03-01"), monthly);
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeAStartedQuarterlyDispensationAfterTheLastFila() {
+    Patient patient = new Patient();
+    patient.fila("2020-01-01", 30);
+    patient.quarterlyDispensation(patient.ficha("2020-02-01"), startDrugs);
+    patient.quarterlyDispensation(patient.ficha("2020-03-01"), completed);
+    patient.ficha("2020-04-01");
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldLookForTheLastFilaWhenTheLastNextPickupIsVoided() {
+    Patient patient = new Patient();
+    patient.fila("2020-01-01", 90);
+    patient.voidedFila("2020-02-01", 30);
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+    assertFalse(rules.isLessThanThreeMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldIgnoreTheTypeOfDispensationOfAVoidedFicha() {
+    Patient patient = new Patient();
+    patient.ficha("2019-12-01");
+    patient.fila("2020-01-01", 90);
+    patient.typeOfDispensation(patient.voidedFicha("2020-02-01"), monthly);
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeTheLatestNextPickupOfTwoFilasOfTheSameDay() {
+    Patient patient = new Patient();
+    patient.ficha("2020-01-01");
+    Encounter first = patient.fila("2020-06-01");
+    Encounter second = patient.fila("2020-06-01");
+    // the next pick-up of the first fila, later in the list, is the last one
+    patient.nextPickup(second, 90);
+    patient.nextPickup(first, 30);
+    patient.lastFila = first;
+
+    assertTrue(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldExcludeACompletedQuarterlyDispensationAfterTheLastFila() {
+    Patient patient = new Patient();
+    patient.fila("2020-01-01", 90);
+    Encounter ficha = patient.ficha("2020-02-01");
+    patient.typeOfDispensation(ficha, quarterly);
+    patient.quarterlyDispensation(ficha, completed);
+
+    assertFalse(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldTakeTheLastOfTheQuarterlyDispensationsOfTheSameDate() {
+    Patient patient = new Patient();
+    patient.fila("2020-01-01", 30);
+    Encounter ficha = patient.ficha("2020-02-01");
+    patient.quarterlyDispensation(ficha, startDrugs);
+    patient.quarterlyDispensation(ficha, completed);
+
+    assertFalse(rules.isThreeToFiveMonths(patient.facts()));
+
+    Patient other = new Patient();
+    other.fila("2020-01-01", 30);
+    Encounter otherFicha = other.ficha("2020-02-01");
+    other.quarterlyDispensation(otherFicha, completed);
+    other.quarterlyDispensation(otherFicha, startDrugs);
+
+    assertTrue(rules.isThreeToFiveMonths(other.facts()));
+  }
+
+  @Test
+  public void isThreeToFiveMonthsShouldExcludeAMonthlyFichaAfterTheFilaAndQuarterlyFicha() {
+    Patient patient = new Patient();
+    patient.fila("2020-01-01", 30);
+    Encounter ficha = patient.ficha("2020-02-01");
+    patient.typeOfDispensation(ficha, quarterly);
+    patient.quarterlyDispensation(ficha, startDrugs);
+    patient.typeOfDispensation(patient.ficha("2020-03-01"), monthly);
+
+    assertFalse(rules.isThreeToFiveMonths(patient.facts()));
+  }
+
+  // 6 months or more
+
+  @Test
+  public void isSixMonthsOrMoreShouldTakeAFilaAfterTheLastFicha() {
+    Patient patient = new Patient();
+    patient.typeOfDispensation(patient.ficha("2020-01-01"), monthly);
+    patient.fila("2020-02-01", 180);
+
+    assertTrue(rules.isSixMonthsOrMore(patient.facts()));
+  }
+
+  @Test
+  public void isSixMonthsOrMoreShouldTakeASemiannualFichaAfterTheLastFila() {
+    Patient patient = new Patient();
+    patient.fila("2020-01-01", 30);
+    patient.typeOfDispensation(patient.ficha("2020-02-01"), semiannual);
+
+    assertTrue(rules.isSixMonthsOrMore(patient.facts()));
+  }
+
+  @Test
+  public void isSixMonthsOrMoreShouldTakeASemiannualDispensationAfterTheLastFila() {
+    Patient patient = new Patient();
+    patient.fila("2020-01-01", 30);
+    patient.semiannualDispensation(patient.ficha("2020-02-01"), startDrugs);
+
+    assertTrue(rules.isSixMonthsOrMore(patient.facts()));
+  }
+
+  @Test
+  public void isSixMonthsOrMoreShouldTakeAFilaWithoutFicha() {
+    Patient patient = new Patient();
+    patient.fila("2020-06-01", 180);
+
+    assertTrue(rules.isSixMonthsOrMore(patient.facts()));
+  }
+
+  @Test
+  public void isSixMonthsOrMoreShouldTakeASemiannualFichaWithoutFila() {
+    Patient patient = new Patient();
+    patient.typeOfDispensation(patient.ficha("2020-06-01"), semiannual);
+
+    assertTrue(rules.isSixMonthsOrMore(patient.facts()));
+
+    Patient other = new Patient();
+    other.semiannualDispensation(other.ficha("2020-06-01"), continueRegimen);
+
+    assertTrue(rules.isSixMonthsOrMore(other.facts()));
+  }
+
+  @Test
+  public void isSixMonthsOrMoreShouldTakeTheFilaOfTheSameDayAsTheFicha() {
+    Patient patient = new Patient();
+    patient.fila("2020-06-01", 180);
+    patient.typeOfDispensation(patient.ficha("2020-06-01"), monthly);
+
+    assertTrue(rules.isSixMonthsOrMore(patient.facts()));
+
+    Patient other = new Patient();
+    other.fila("2020-06-01", 30);
+    other.typeOfDispensation(other.ficha("2020-06-01"), semiannual);
+
+    assertFalse(rules.isSixMonthsOrMore(other.facts()));
+  }
+
+  @Test
+  public void isSixMonthsOrMoreShouldLookForTheLastFilaWhenTheLastNextPickupIsVoided() {
+    Patient patient = new Patient();
+    patient.fila("2020-01-01", 180);
+    patient.voidedFila("2020-02-01", 30);
+
+    assertTrue(rules.isSixMonthsOrMore(patient.facts()));
+  }
+
+  @Test
+  public void isSixMonthsOrMoreShouldLookForTheLastFichaWhenTheLastTypeOfDispensationIsVoided() {
+    Patient patient = new Patient();
+    patient.typeOfDispensation(patient.ficha("2020-01-01"), semiannual);
+    patient.typeOfDispensation(patient.voidedFicha("2020-02-01"), monthly);
+
+    assertTrue(rules.isSixMonthsOrMore(patient.facts()));
+  }
+
+  @Test
+  public void
+      isSixMonthsOrMoreShouldLookForTheLastFichaWhenTheLastSemiannualDispensationIsVoided() {
+    Patient patient = new Patient();
+    patient.semiannualDispensation(patient.ficha("2020-01-01"), startDrugs);
+    patient.semiannualDispensation(patient.voidedFicha("2020-02-01"), startDrugs);
+
+    assertTrue(rules.isSixMonthsOrMore(patient.facts()));
+  }
+
+  @Test
+  public void isSixMonthsOrMoreShouldTakeASemiannualObsOfTheSameDateAsTheMonthlyObs() {
+    Patient patient = new Patient();
+    Encounter ficha = patient.ficha("2020-06-01");
+    patient.typeOfDispensation(ficha, semiannual);
+    patient.typeOfDispensation(ficha, monthly);
+    patient.lastFicha = null;
+
+    assertTrue(rules.isSixMonthsOrMore(patient.facts()));
+  }
+
+  @Test
+  public void isSixMonthsOrMoreShouldTakeASemiannualObsOfTheSameDateAsTheQuarterlyObs() {
+    Patient patient = new Patient();
+    Encounter ficha = patient.ficha("2020-06-01");
+    patient.typeOfDispensation(ficha, semiannual);
+    patient.typeOfDispensation(ficha, quarterly);
+    patient.lastFicha = null;
+
+    assertTrue(rules.isSixMonthsOrMore(patient.facts()));
+  }
+
+  @Test
+  public void isSixMonthsOrMoreShouldExcludeACompletedSemiannualDispensation() {
+    Patient patient = new Patient();
+    Encounter ficha = patient.ficha("2020-06-01");
+    patient.typeOfDispensation(ficha, semiannual);
+    patient.semiannualDispensation(ficha, completed);
+
+    assertFalse(rules.isSixMonthsOrMore(patient.facts()));
+  }
+
+  @Test
+  public void isSixMonthsOrMoreShouldIgnoreACompletedSemiannualDispensationOfAVoidedFicha() {
+    Patient patient = new Patient();
+    patient.typeOfDispensation(patient.ficha("2020-01-01"), semiannual);
+    patient.semiannualDispensation(patient.voidedFicha("2020-02-01"), completed);
+
+    assertTrue(rules.isSixMonthsOrMore(patient.facts()));
+  }
+
+  private DispensationFacts filaOnly(int days) {
+    Encounter fila = encounter(pickupDate);
+    Obs nextPickup = new Obs();
+    nextPickup.setEncounter(fila);
+    nextPickup.setObsDatetime(pickupDate);
+    nextPickup.setValueDatetime(new DateTime(pickupDate).plusDays(days).toDate());
+    return new DispensationFacts(
+        null,
+        fila,
+        Arrays.asList(fila),
+        Arrays.asList(nextPickup),
+        Collections.<Obs>emptyList(),
+        Collections.<Obs>emptyList(),
+        Collections.<Obs>emptyList());
+  }
+
+  private static Encounter encounter(Date date) {
+    Encounter encounter = new Encounter();
+    encounter.setEncounterDatetime(date);
+    return encounter;
+  }
+
+  private static Obs codedObs(Encounter encounter, Concept value) {
+    Obs obs = new Obs();
+    obs.setEncounter(encounter);
+    obs.setObsDatetime(encounter.getEncounterDatetime());
+    obs.setValueCoded(value);
+    return obs;
+  }
+
+  /**
+   * The FILA and Ficha Clínica encounters and obs of a patient, added in date order. The last
+   * encounters are the last ones added that are not voided.
+   */
+  private static class Patient {
+
+    private Encounter lastFicha;
+
+    private Encounter lastFila;
+
+    private final List<Encounter> filas = new ArrayList<>();
+
+    private final List<Obs> nextPickups = new ArrayList<>();
+
+    private final List<Obs> typesOfDispensation = new ArrayList<>();
+
+    private final List<Obs> quarterlyDispensations = new ArrayList<>();
+
+    private final List<Obs> semiannualDispensations = new ArrayList<>();
+
+    Encounter ficha(String date) {
+      lastFicha = encounter(DateTime.parse(date).toDate());
+      return lastFicha;
+    }
+
+    Encounter voidedFicha(String date) {
+      Encounter ficha = encounter(DateTime.parse(date).toDate());
+      ficha.setVoided(true);
+      return ficha;
+    }
+
+    Encounter fila(String date) {
+      lastFila = encounter(DateTime.parse(date).toDate());
+      filas.add(lastFila);
+      return lastFila;
+    }
+
+    void fila(String date, int days) {
+      nextPickup(fila(date), days);
+    }
+
+    void voidedFila(String date, int days) {
+      Encounter fila = encounter(DateTime.parse(date).toDate());
+      fila.setVoided(true);
+      nextPickup(fila, days);
+    }
+
+    void nextPickup(Encounter fila, int days) {
+      Obs obs = new Obs();
+      obs.setEncounter(fila);
+      obs.setObsDatetime(fila.getEncounterDatetime());
+      obs.setValueDatetime(new DateTime(fila.getEncounterDatetime()).plusDays(days).toDate());
+      nextPickups.add(obs);
+    }
+
+    void typeOfDispensation(Encounter ficha, Concept value) {
+      typesOfDispensation.add(codedObs(ficha, value));
+    }
+
+    void quarterlyDispensation(Encounter ficha, Concept value) {
+      quarterlyDispensations.add(codedObs(ficha, value));
+    }
+
+    void semiannualDispensation(Encounter ficha, Concept value) {
+      semiannualDispensations.add(codedObs(ficha, value));
+    }
+
+    DispensationFacts facts() {
+      return new DispensationFacts(
+          lastFicha,
+          lastFila,
+          filas,
+          nextPickups,
+          typesOfDispensation,
+          quarterlyDispensations,
+          semiannualDispensations);
+    }
+  }
+}
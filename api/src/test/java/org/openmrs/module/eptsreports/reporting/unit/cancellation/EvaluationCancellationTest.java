@@ -0,0 +1,137 @@
+package org.openmrs.module.eptsreports.reporting.unit.cancellation;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.api.EptsReportsService;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancellation;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancelledException;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationToken;
+import org.openmrs.module.eptsreports.reporting.unit.PowerMockBaseContextTest;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.powermock.api.mockito.PowerMockito;
+
+public class EvaluationCancellationTest extends PowerMockBaseContextTest {
+
+  private static final EvaluationToken.ConnectionIdLoader CONNECTION_ID =
+      new EvaluationToken.ConnectionIdLoader() {
+        @Override
+        public long load() {
+          return 42;
+        }
+      };
+
+  @Mock private EptsReportsService eptsReportsService;
+
+  private EvaluationToken token;
+
+  @Before
+  public void setUp() {
+    PowerMockito.mockStatic(Context.class);
+    when(Context.isSessionOpen()).thenReturn(true);
+    when(Context.getService(EptsReportsService.class)).thenReturn(eptsReportsService);
+  }
+
+  @After
+  public void tearDown() {
+    if (token != null) {
+      EvaluationCancellation.endRun(token);
+    }
+    EvaluationCancellation.shutdown();
+  }
+
+  @Test
+  public void cancelShouldKillTheQueryOfTheEvaluationInProgress() throws Exception {
+    token = EvaluationCancellation.startRun(new EvaluationContext(), "IIT", 0, 60000);
+    token.enter(CONNECTION_ID);
+
+    assertTrue(EvaluationCancellation.cancel(token.getId(), "Cancelled by admin"));
+
+    verify(eptsReportsService).killQuery(42);
+    assertCancelled();
+    token.exit();
+  }
+
+  @Test
+  public void cancelShouldNotKillTheConnectionOfAFinishedEvaluation() throws Exception {
+    token = EvaluationCancellation.startRun(new EvaluationContext(), "IIT", 0, 60000);
+    token.enter(CONNECTION_ID);
+    token.exit();
+
+    assertTrue(EvaluationCancellation.cancel(token.getId(), "Cancelled by admin"));
+
+    verify(eptsReportsService, never()).killQuery(anyLong());
+    assertCancelled();
+  }
+
+  @Test
+  public void cancelShouldOnlyStopAtTheCheckpointsWithoutTimeout() throws Exception {
+    token = EvaluationCancellation.startRun(new EvaluationContext(), "IIT", 0, 0);
+    token.enter(CONNECTION_ID);
+
+    assertTrue(EvaluationCancellation.cancel(token.getId(), "Cancelled by admin"));
+
+    verify(eptsReportsService, never()).getConnectionId();
+    verify(eptsReportsService, never()).killQuery(anyLong());
+    assertCancelled();
+    token.exit();
+  }
+
+  @Test
+  public void exitShouldWaitForTheKillOfItsConnection() throws Exception {
+    token = EvaluationCancellation.startRun(new EvaluationContext(), "IIT", 0, 60000);
+    token.enter(CONNECTION_ID);
+    final CountDownLatch killing = new CountDownLatch(1);
+    final AtomicBoolean killed = new AtomicBoolean();
+    doAnswer(
+            new Answer<Void>() {
+              @Override
+              public Void answer(InvocationOnMock invocation) throws Throwable {
+                killing.countDown();
+                Thread.sleep(200);
+                killed.set(true);
+                return null;
+              }
+            })
+        .when(eptsReportsService)
+        .killQuery(42);
+
+    Thread cancel =
+        new Thread(
+            new Runnable() {
+              @Override
+              public void run() {
+                EvaluationCancellation.cancel(token.getId(), "Cancelled by admin");
+              }
+            });
+    cancel.start();
+    assertTrue(killing.await(5, TimeUnit.SECONDS));
+    token.exit();
+
+    assertTrue(killed.get());
+    cancel.join();
+  }
+
+  private void assertCancelled() {
+    try {
+      token.checkpoint();
+    } catch (EvaluationCancelledException e) {
+      return;
+    }
+    throw new AssertionError("checkpoint should fail once the run is cancelled");
+  }
+}
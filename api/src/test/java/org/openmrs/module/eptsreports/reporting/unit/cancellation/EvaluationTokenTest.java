@@ -0,0 +1,78 @@
+package org.openmrs.module.eptsreports.reporting.unit.cancellation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import org.junit.Test;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancelledException;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationToken;
+
+public class EvaluationTokenTest {
+
+  private static final EvaluationToken.ConnectionIdLoader CONNECTION_ID =
+      new EvaluationToken.ConnectionIdLoader() {
+        @Override
+        public long load() {
+          return 42;
+        }
+      };
+
+  @Test
+  public void checkpointShouldPassUntilTheRunIsCancelled() throws Exception {
+    EvaluationToken token = new EvaluationToken(1, "IIT", 0, 0);
+    token.checkpoint();
+    assertTrue(token.cancel("Cancelled by admin"));
+    assertFalse(token.cancel("Timeout"));
+    try {
+      token.checkpoint();
+    } catch (EvaluationCancelledException e) {
+      assertEquals("Cancelled by admin", token.getCancelReason());
+      return;
+    }
+    throw new AssertionError("checkpoint should fail once the run is cancelled");
+  }
+
+  @Test
+  public void enterShouldRegisterTheConnectionUntilTheLastExit() {
+    EvaluationToken token = new EvaluationToken(1, "IIT", 0, 1000);
+    token.enter(CONNECTION_ID);
+    token.enter(CONNECTION_ID);
+    assertEquals(Collections.singletonList(42L), token.getConnectionIds());
+    token.exit();
+    assertEquals(Collections.singletonList(42L), token.getConnectionIds());
+    token.exit();
+    assertTrue(token.getConnectionIds().isEmpty());
+  }
+
+  @Test
+  public void enterShouldNotLoadTheConnectionWithoutTimeout() {
+    EvaluationToken token = new EvaluationToken(1, "IIT", 0, 0);
+    token.enter(
+        new EvaluationToken.ConnectionIdLoader() {
+          @Override
+          public long load() {
+            throw new AssertionError("the connection id should not be loaded");
+          }
+        });
+    assertEquals(Collections.singletonList(-1L), token.getConnectionIds());
+    token.exit();
+  }
+
+  @Test
+  public void getTimeoutReasonShouldCheckTheReportAndQueryTimeouts() {
+    EvaluationToken token = new EvaluationToken(1, "IIT", 60000, 1000);
+    long now = System.currentTimeMillis();
+    assertNull(token.getTimeoutReason(now));
+    assertNotNull(token.getTimeoutReason(now + 61000));
+
+    token.enter(CONNECTION_ID);
+    assertNull(token.getTimeoutReason(now));
+    assertNotNull(token.getTimeoutReason(now + 2000));
+    token.exit();
+    assertNull(token.getTimeoutReason(now + 2000));
+  }
+}
@@ -0,0 +1,122 @@
+package org.openmrs.module.eptsreports.reporting.unit.cohort.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.joda.time.DateTime;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.AgeGenderBandCohortDefinition;
+import org.openmrs.module.eptsreports.reporting.cohort.evaluator.AgeGenderBandCohortDefinitionEvaluator;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.querybuilder.SqlQueryBuilder;
+import org.openmrs.module.reporting.evaluation.service.EvaluationService;
+
+public class AgeGenderBandCohortDefinitionEvaluatorTest {
+
+  private static final Date EFFECTIVE_DATE = date(2021, 2, 28);
+
+  @Mock private EvaluationService evaluationService;
+
+  private AgeGenderBandCohortDefinitionEvaluator evaluator;
+
+  /** The rows of patient id, birthdate, gender and voided flag of the demographics query */
+  private final List<Object[]> rows = new ArrayList<>();
+
+  @Before
+  public void setUp() throws EvaluationException {
+    MockitoAnnotations.initMocks(this);
+    when(evaluationService.evaluateToList(any(SqlQueryBuilder.class), any(EvaluationContext.class)))
+        .thenReturn(rows);
+    evaluator = new AgeGenderBandCohortDefinitionEvaluator(evaluationService);
+  }
+
+  @Test
+  public void evaluateShouldCountTheYearOfABirthdayOnTheEffectiveDate() throws EvaluationException {
+    addPatient(1, date(2006, 2, 28), "F", false);
+    addPatient(2, date(2006, 3, 1), "F", false);
+
+    assertEquals(ids(1), evaluate(15, 19, null));
+    assertEquals(ids(2), evaluate(10, 14, null));
+  }
+
+  @Test
+  public void evaluateShouldCountTheYearOfA29FebruaryBirthdayOnlyOnTheFirstOfMarch()
+      throws EvaluationException {
+    addPatient(1, date(2000, 2, 29), "M", false);
+
+    assertEquals(ids(1), evaluate(20, 20, null));
+    assertEquals(ids(), evaluate(21, 21, null));
+
+    AgeGenderBandCohortDefinition cd = getBand(21, 21, null);
+    cd.setEffectiveDate(date(2021, 3, 1));
+    assertEquals(ids(1), evaluator.evaluate(cd, new EvaluationContext()).getMemberIds());
+  }
+
+  @Test
+  public void evaluateShouldKeepTheBirthdatesAfterTheEffectiveDateInTheBandsWithoutAMinimumAge()
+      throws EvaluationException {
+    addPatient(1, date(2021, 3, 1), "F", false);
+    addPatient(2, date(2020, 3, 1), "F", false);
+
+    // the patient born after the effective date is -1 year old
+    assertEquals(ids(1, 2), evaluate(null, 0, null));
+    assertEquals(ids(2), evaluate(0, 0, null));
+    assertEquals(ids(1, 2), evaluate(null, null, "F"));
+  }
+
+  @Test
+  public void evaluateShouldLeaveTheVoidedPatientsOutOfAllBandsButTheUnknownAge()
+      throws EvaluationException {
+    addPatient(1, date(1990, 1, 1), "M", false);
+    addPatient(2, date(1990, 1, 1), "M", true);
+    addPatient(3, null, "M", false);
+    addPatient(4, null, "M", true);
+
+    assertEquals(ids(1), evaluate(25, 49, "M"));
+    assertEquals(ids(1, 3), evaluate(null, null, "M"));
+
+    AgeGenderBandCohortDefinition unknownAge = getBand(null, null, "M");
+    unknownAge.setUnknownAge(true);
+    assertEquals(ids(3, 4), evaluator.evaluate(unknownAge, new EvaluationContext()).getMemberIds());
+  }
+
+  private Set<Integer> evaluate(Integer minAge, Integer maxAge, String gender)
+      throws EvaluationException {
+    return evaluator
+        .evaluate(getBand(minAge, maxAge, gender), new EvaluationContext())
+        .getMemberIds();
+  }
+
+  private static AgeGenderBandCohortDefinition getBand(
+      Integer minAge, Integer maxAge, String gender) {
+    AgeGenderBandCohortDefinition cd = new AgeGenderBandCohortDefinition();
+    cd.setMinAge(minAge);
+    cd.setMaxAge(maxAge);
+    cd.setGender(gender);
+    cd.setEffectiveDate(EFFECTIVE_DATE);
+    return cd;
+  }
+
+  private void addPatient(int patientId, Date birthdate, String gender, boolean voided) {
+    rows.add(new Object[] {patientId, birthdate, gender, voided ? 1 : 0});
+  }
+
+  private static Set<Integer> ids(Integer... ids) {
+    return new HashSet<>(Arrays.asList(ids));
+  }
+
+  private static Date date(int year, int month, int day) {
+    return new DateTime(year, month, day, 0, 0).toDate();
+  }
+}
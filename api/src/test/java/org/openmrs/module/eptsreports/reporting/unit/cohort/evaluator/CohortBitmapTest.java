@@ -0,0 +1,56 @@
+package org.openmrs.module.eptsreports.reporting.unit.cohort.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+import org.openmrs.module.eptsreports.reporting.cohort.evaluator.CohortBitmap;
+
+public class CohortBitmapTest {
+
+  private final CohortBitmap a = CohortBitmap.of(Arrays.asList(70000, 1, 5, 64, 200000));
+
+  private final CohortBitmap b = CohortBitmap.of(Arrays.asList(5, 64, 65, 200000, 300000));
+
+  @Test
+  public void ofShouldKeepTheMembersInOrder() {
+    assertEquals(Arrays.asList(1, 5, 64, 70000, 200000), a.toList());
+    assertEquals(5, a.size());
+    assertTrue(a.contains(70000));
+    assertFalse(a.contains(70001));
+    assertFalse(a.contains(-1));
+  }
+
+  @Test
+  public void andShouldKeepTheCommonMembers() {
+    assertEquals(Arrays.asList(5, 64, 200000), a.and(b).toList());
+  }
+
+  @Test
+  public void orShouldKeepTheMembersOfEither() {
+    assertEquals(Arrays.asList(1, 5, 64, 65, 70000, 200000, 300000), a.or(b).toList());
+  }
+
+  @Test
+  public void andNotShouldRemoveTheMembersOfTheOther() {
+    assertEquals(Arrays.asList(1, 70000), a.andNot(b).toList());
+    assertEquals(Collections.emptyList(), a.andNot(a).toList());
+  }
+
+  @Test
+  public void shouldHandleEmptyBitmaps() {
+    CohortBitmap empty = CohortBitmap.of(Collections.<Integer>emptyList());
+    assertEquals(0, empty.size());
+    assertEquals(a.toList(), a.or(empty).toList());
+    assertEquals(0, a.and(empty).size());
+    assertEquals(a.toList(), a.andNot(empty).toList());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ofShouldRejectNegativeIds() {
+    CohortBitmap.of(Arrays.asList(1, -2));
+  }
+}
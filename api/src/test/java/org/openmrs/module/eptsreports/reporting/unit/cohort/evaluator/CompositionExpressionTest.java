@@ -0,0 +1,84 @@
+package org.openmrs.module.eptsreports.reporting.unit.cohort.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.openmrs.module.eptsreports.reporting.cohort.evaluator.CohortBitmap;
+import org.openmrs.module.eptsreports.reporting.cohort.evaluator.CompositionExpression;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+
+public class CompositionExpressionTest {
+
+  private final Map<String, CohortBitmap> searches = new HashMap<>();
+
+  {
+    searches.put("A", CohortBitmap.of(Arrays.asList(1, 2, 3, 4, 5, 6)));
+    searches.put("B", CohortBitmap.of(Arrays.asList(2, 4, 6, 8)));
+    searches.put("C", CohortBitmap.of(Arrays.asList(5, 6, 7)));
+    searches.put("D", CohortBitmap.of(Arrays.asList(1, 9)));
+  }
+
+  /** 9 is not a patient, for instance a voided one */
+  private final CohortBitmap allPatients = CohortBitmap.of(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8));
+
+  @Test
+  public void shouldEvaluateAndOrAndNot() throws EvaluationException {
+    assertEquals(Arrays.asList(2, 4, 6), evaluate("A AND B"));
+    assertEquals(Arrays.asList(1, 2, 4, 6, 8, 9), evaluate("B OR D"));
+    assertEquals(Arrays.asList(2, 3, 4), evaluate("A AND NOT (C OR D)"));
+    assertEquals(Arrays.asList(2, 3, 4), evaluate("A and not C and NOT D"));
+    assertEquals(Arrays.asList(2, 4), evaluate("(A NOT C) AND B NOT D"));
+    assertEquals(Arrays.asList(5, 6, 7), evaluate("((A AND C) OR C) OR (D AND NOT A)"));
+    assertEquals(Arrays.asList(6), evaluate("(((A)) AND (B) AND C)"));
+  }
+
+  @Test
+  public void notShouldOnlyKeepThePatientsAmongAllThePatients() throws EvaluationException {
+    assertEquals(Arrays.asList(1, 6, 9), evaluate("D OR (B AND C)"));
+    assertEquals(Arrays.asList(1), evaluate("D AND NOT C"));
+    assertEquals(Arrays.asList(1), evaluate("D NOT B"));
+  }
+
+  @Test
+  public void shouldCollectTheKeys() {
+    assertEquals(
+        new LinkedHashSet<>(Arrays.asList("A", "C", "D")),
+        CompositionExpression.parse("A AND NOT (C OR D) AND A").getKeys());
+  }
+
+  @Test
+  public void shouldNotParseCompositionsDependingOnPrecedence() {
+    assertNull(CompositionExpression.parse("A AND B OR C"));
+    assertNull(CompositionExpression.parse("A OR B NOT C"));
+  }
+
+  @Test
+  public void shouldNotParseCompositionsNeedingAllPatients() {
+    assertNull(CompositionExpression.parse("NOT A"));
+    assertNull(CompositionExpression.parse("A OR NOT B"));
+    assertNull(CompositionExpression.parse("A AND (NOT B)"));
+  }
+
+  @Test
+  public void shouldNotParseMalformedCompositions() {
+    assertNull(CompositionExpression.parse(null));
+    assertNull(CompositionExpression.parse(""));
+    assertNull(CompositionExpression.parse("A AND"));
+    assertNull(CompositionExpression.parse("A B"));
+    assertNull(CompositionExpression.parse("(A AND B"));
+    assertNull(CompositionExpression.parse("A AND B)"));
+    assertNull(CompositionExpression.parse("A AND NOT NOT B"));
+  }
+
+  private List<Integer> evaluate(String compositionString) throws EvaluationException {
+    return CompositionExpression.parse(compositionString)
+        .evaluate(searches::get, () -> allPatients)
+        .toList();
+  }
+}
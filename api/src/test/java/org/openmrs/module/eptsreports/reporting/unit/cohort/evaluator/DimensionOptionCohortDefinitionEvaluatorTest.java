@@ -0,0 +1,126 @@
+package org.openmrs.module.eptsreports.reporting.unit.cohort.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openmrs.Cohort;
+import org.openmrs.Location;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.DimensionOptionCohortDefinition;
+import org.openmrs.module.eptsreports.reporting.cohort.evaluator.DimensionOptionCohortDefinitionEvaluator;
+import org.openmrs.module.reporting.cohort.EvaluatedCohort;
+import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.SqlCohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.service.CohortDefinitionService;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.parameter.Parameter;
+
+public class DimensionOptionCohortDefinitionEvaluatorTest {
+
+  @Mock private CohortDefinitionService cohortDefinitionService;
+
+  private DimensionOptionCohortDefinitionEvaluator evaluator;
+
+  /** The cache shared by the contexts of the run */
+  private final Map<String, Object> runCache = new HashMap<>();
+
+  @Before
+  public void setUp() throws EvaluationException {
+    MockitoAnnotations.initMocks(this);
+    when(cohortDefinitionService.evaluate(
+            any(CohortDefinition.class), any(EvaluationContext.class)))
+        .thenAnswer(
+            invocation -> new EvaluatedCohort(new Cohort(Arrays.asList(1, 2, 3)), null, null));
+    evaluator = new DimensionOptionCohortDefinitionEvaluator(cohortDefinitionService);
+  }
+
+  @Test
+  public void evaluateShouldEvaluateTheOptionOncePerParameterValuesAndBaseCohort()
+      throws EvaluationException {
+    Date endDate = new Date(0);
+    Cohort baseCohort = new Cohort(Arrays.asList(1, 4));
+
+    // the dimensions are rebuilt for every data set, the option key identifies them
+    evaluator.evaluate(getOption("gender|M"), getContext(endDate, baseCohort));
+    evaluator.evaluate(getOption("gender|M"), getContext(endDate, baseCohort));
+    evaluator.evaluate(
+        getOption("gender|M"),
+        getContext(new Date(endDate.getTime()), new Cohort(Arrays.asList(4, 1))));
+
+    verify(cohortDefinitionService, times(1))
+        .evaluate(any(CohortDefinition.class), any(EvaluationContext.class));
+    EptsReportRunCache cache = EptsReportRunCache.getInstance(getContext(endDate, baseCohort));
+    assertEquals(2, cache.getHits(DimensionOptionCohortDefinitionEvaluator.REGION));
+    assertEquals(1, cache.getMisses(DimensionOptionCohortDefinitionEvaluator.REGION));
+  }
+
+  @Test
+  public void evaluateShouldEvaluateTheOptionAgainForAnotherKeyParameterValueOrBaseCohort()
+      throws EvaluationException {
+    Date endDate = new Date(0);
+    Cohort baseCohort = new Cohort(Arrays.asList(1, 4));
+
+    evaluator.evaluate(getOption("gender|M"), getContext(endDate, baseCohort));
+    evaluator.evaluate(getOption("gender|F"), getContext(endDate, baseCohort));
+    evaluator.evaluate(getOption("gender|M"), getContext(new Date(1000), baseCohort));
+    // the same size and sum of ids, the digest of the ids tells them apart
+    evaluator.evaluate(getOption("gender|M"), getContext(endDate, new Cohort(Arrays.asList(2, 3))));
+    evaluator.evaluate(getOption("gender|M"), getContext(endDate, null));
+
+    verify(cohortDefinitionService, times(5))
+        .evaluate(any(CohortDefinition.class), any(EvaluationContext.class));
+    EptsReportRunCache cache = EptsReportRunCache.getInstance(getContext(endDate, baseCohort));
+    assertEquals(0, cache.getHits(DimensionOptionCohortDefinitionEvaluator.REGION));
+    assertEquals(5, cache.getMisses(DimensionOptionCohortDefinitionEvaluator.REGION));
+  }
+
+  @Test
+  public void evaluateShouldReturnTheMembersOfTheOption() throws EvaluationException {
+    EvaluatedCohort cohort =
+        evaluator.evaluate(getOption("gender|M"), getContext(new Date(0), null));
+
+    assertEquals(3, cohort.getMemberIds().size());
+    assertTrue(cohort.getMemberIds().containsAll(Arrays.asList(1, 2, 3)));
+  }
+
+  @Test
+  public void constructorShouldCopyTheParametersOfTheOption() {
+    SqlCohortDefinition option = new SqlCohortDefinition();
+    option.addParameter(new Parameter("endDate", "End Date", Date.class));
+
+    DimensionOptionCohortDefinition cd = new DimensionOptionCohortDefinition("gender|M", option);
+    option.addParameter(new Parameter("location", "Location", Location.class));
+
+    assertEquals(1, cd.getParameters().size());
+    assertEquals(2, option.getParameters().size());
+  }
+
+  private static DimensionOptionCohortDefinition getOption(String key) {
+    SqlCohortDefinition option = new SqlCohortDefinition();
+    option.addParameter(new Parameter("endDate", "End Date", Date.class));
+    option.addParameter(new Parameter("location", "Location", Location.class));
+    return new DimensionOptionCohortDefinition(key, option);
+  }
+
+  private EvaluationContext getContext(Date endDate, Cohort baseCohort) {
+    EvaluationContext context = new EvaluationContext();
+    context.setCache(runCache);
+    context.addParameterValue("endDate", endDate);
+    context.addParameterValue("location", new Location(1));
+    context.setBaseCohort(baseCohort);
+    return context;
+  }
+}
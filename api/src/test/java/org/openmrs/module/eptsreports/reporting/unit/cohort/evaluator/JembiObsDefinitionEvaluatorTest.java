@@ -0,0 +1,136 @@
+package org.openmrs.module.eptsreports.reporting.unit.cohort.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openmrs.Obs;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.JembiEncounterObsDefinition;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.JembiObsDefinition;
+import org.openmrs.module.eptsreports.reporting.cohort.evaluator.JembiEncounterObsDefinitionEvaluator;
+import org.openmrs.module.eptsreports.reporting.cohort.evaluator.JembiObsDefinitionEvaluator;
+import org.openmrs.module.eptsreports.reporting.utils.EPTSMetadataDatetimeQualifier;
+import org.openmrs.module.reporting.common.ListMap;
+import org.openmrs.module.reporting.common.TimeQualifier;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.querybuilder.HqlQueryBuilder;
+import org.openmrs.module.reporting.evaluation.service.EvaluationService;
+
+/**
+ * The Jembi obs evaluators pick the obs of each patient from the obs ids of the query and load only
+ * the picked obs, the picks must be the ones taken from the fully loaded obs of the same query.
+ */
+public class JembiObsDefinitionEvaluatorTest {
+
+  @Mock private EvaluationService evaluationService;
+
+  @InjectMocks private JembiObsDefinitionEvaluator obsEvaluator;
+
+  @InjectMocks private JembiEncounterObsDefinitionEvaluator encounterObsEvaluator;
+
+  /** The rows of patient id and obs id, in the order of the query */
+  private List<Object[]> rows;
+
+  /** The obs by id */
+  private Map<Integer, Obs> obs;
+
+  @Before
+  public void setUp() throws EvaluationException {
+    MockitoAnnotations.initMocks(this);
+    // patient 3 has two obs of the same date, returned by id
+    setRows(1, 10, 1, 11, 1, 12, 2, 20, 3, 30, 3, 31);
+    when(evaluationService.evaluateToList(any(HqlQueryBuilder.class), any(EvaluationContext.class)))
+        .thenAnswer(invocation -> rows);
+    when(evaluationService.evaluateToList(
+            any(HqlQueryBuilder.class), eq(Obs.class), any(EvaluationContext.class)))
+        .thenAnswer(invocation -> new ArrayList<>(obs.values()));
+  }
+
+  @Test
+  public void evaluateShouldPickTheFirstAndLastObsOfTheHydratedQuery() throws EvaluationException {
+    for (boolean first : Arrays.asList(true, false)) {
+      JembiObsDefinition def = new JembiObsDefinition();
+      def.setFirst(first);
+
+      Map<Integer, Object> data = obsEvaluator.evaluate(def, new EvaluationContext()).getData();
+
+      assertEquals(getHydratedPicks(first), data);
+    }
+  }
+
+  @Test
+  public void evaluateShouldPickTheObsOrderedFirstForEveryQualifier() throws EvaluationException {
+    for (TimeQualifier timeQualifier : Arrays.asList(TimeQualifier.FIRST, TimeQualifier.LAST)) {
+      for (EPTSMetadataDatetimeQualifier qualifier : EPTSMetadataDatetimeQualifier.values()) {
+        JembiEncounterObsDefinition def = new JembiEncounterObsDefinition();
+        def.setTimeQualifier(timeQualifier);
+        def.setEptsMetadataDatetimeQualifier(qualifier);
+
+        Map<Integer, Object> data =
+            encounterObsEvaluator.evaluate(def, new EvaluationContext()).getData();
+
+        // the query orders the obs of a LAST in descending order, so the pick is always the first
+        assertEquals(getHydratedPicks(true), data);
+      }
+    }
+  }
+
+  @Test
+  public void evaluateShouldLoadThePickedObsInBatches() throws EvaluationException {
+    Object[] ids = new Object[2 * 2500];
+    for (int i = 0; i < 2500; i++) {
+      ids[2 * i] = i;
+      ids[2 * i + 1] = 100000 + i;
+    }
+    setRows(ids);
+    JembiObsDefinition def = new JembiObsDefinition();
+    def.setFirst(true);
+
+    Map<Integer, Object> data = obsEvaluator.evaluate(def, new EvaluationContext()).getData();
+
+    assertEquals(2500, data.size());
+    assertEquals(obs.get(100042), data.get(42));
+    verify(evaluationService, times(3))
+        .evaluateToList(any(HqlQueryBuilder.class), eq(Obs.class), any(EvaluationContext.class));
+  }
+
+  /** @param ids pairs of patient id and obs id */
+  private void setRows(Object... ids) {
+    rows = new ArrayList<>();
+    obs = new HashMap<>();
+    for (int i = 0; i < ids.length; i += 2) {
+      rows.add(new Object[] {ids[i], ids[i + 1]});
+      Obs o = new Obs((Integer) ids[i + 1]);
+      obs.put(o.getObsId(), o);
+    }
+  }
+
+  /** The picks of the evaluators when they loaded all the obs of the query */
+  private Map<Integer, Object> getHydratedPicks(boolean first) {
+    ListMap<Integer, Obs> patientToObs = new ListMap<>();
+    for (Object[] row : rows) {
+      patientToObs.putInList((Integer) row[0], obs.get((Integer) row[1]));
+    }
+    Map<Integer, Object> ret = new LinkedHashMap<>();
+    for (Integer pId : patientToObs.keySet()) {
+      List<Obs> observations = patientToObs.get(pId);
+      ret.put(pId, first ? observations.get(0) : observations.get(observations.size() - 1));
+    }
+    return ret;
+  }
+}
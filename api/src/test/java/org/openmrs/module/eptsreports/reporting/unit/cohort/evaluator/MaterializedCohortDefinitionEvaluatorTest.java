@@ -0,0 +1,205 @@
+package org.openmrs.module.eptsreports.reporting.unit.cohort.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.openmrs.Cohort;
+import org.openmrs.Location;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.api.EptsReportsService;
+import org.openmrs.module.eptsreports.reporting.cache.EptsReportRunCache;
+import org.openmrs.module.eptsreports.reporting.cache.MaterializedTables;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.MaterializedCohortDefinition;
+import org.openmrs.module.eptsreports.reporting.cohort.evaluator.MaterializedCohortDefinitionEvaluator;
+import org.openmrs.module.eptsreports.reporting.unit.PowerMockBaseContextTest;
+import org.openmrs.module.reporting.cohort.EvaluatedCohort;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.parameter.Parameter;
+import org.openmrs.module.reporting.evaluation.querybuilder.SqlQueryBuilder;
+import org.openmrs.module.reporting.evaluation.service.EvaluationService;
+import org.powermock.api.mockito.PowerMockito;
+
+public class MaterializedCohortDefinitionEvaluatorTest extends PowerMockBaseContextTest {
+
+  private static final String QUERY = "SELECT patient_id FROM dead";
+
+  /** The rows of the query, with a patient returned twice */
+  private static final List<Integer> ROWS = Arrays.asList(3, 5, 5, 8, 13);
+
+  @Mock private EptsReportsService eptsReportsService;
+
+  @Mock private EvaluationService evaluationService;
+
+  /** The tables written by the service, by name */
+  private final Map<String, Set<Integer>> tables = new HashMap<>();
+
+  private MaterializedCohortDefinitionEvaluator evaluator;
+
+  @Before
+  public void setUp() throws EvaluationException {
+    PowerMockito.mockStatic(Context.class);
+    when(Context.getService(EptsReportsService.class)).thenReturn(eptsReportsService);
+    when(eptsReportsService.materializePatientIds(anyString(), eq(QUERY), anyMap()))
+        .thenAnswer(
+            invocation -> {
+              tables.put(invocation.getArgument(0), new HashSet<>(ROWS));
+              return tables.get(invocation.<String>getArgument(0)).size();
+            });
+    when(eptsReportsService.getPatientIds(anyString(), anyMap()))
+        .thenAnswer(
+            invocation -> {
+              String table =
+                  invocation.<String>getArgument(0).replace("SELECT patient_id FROM ", "");
+              return new ArrayList<>(tables.get(table));
+            });
+    when(evaluationService.evaluateToList(
+            any(SqlQueryBuilder.class), eq(Integer.class), any(EvaluationContext.class)))
+        .thenReturn(ROWS);
+    evaluator =
+        new MaterializedCohortDefinitionEvaluator(new MaterializedTables(), evaluationService);
+  }
+
+  @Test
+  public void evaluateShouldReturnTheMembersOfTheQueryWithinAndOutsideOfAReportRun()
+      throws EvaluationException {
+    List<Cohort> baseCohorts =
+        Arrays.asList(
+            null,
+            new Cohort(Arrays.asList(1, 5, 8)),
+            new Cohort(Arrays.asList(2, 4)),
+            new Cohort(Collections.<Integer>emptyList()));
+    EvaluationContext run = getContext(new Date(0));
+
+    for (Cohort baseCohort : baseCohorts) {
+      EvaluationContext outside = getContext(new Date(0));
+      outside.setBaseCohort(baseCohort);
+      EvaluationContext within = run.shallowCopy();
+      within.setBaseCohort(baseCohort);
+
+      Set<Integer> expected = evaluator.evaluate(getDead(), outside).getMemberIds();
+      EptsReportRunCache previous = EptsReportRunCache.bind(run);
+      EvaluatedCohort materialized;
+      try {
+        materialized = evaluator.evaluate(getDead(), within);
+      } finally {
+        EptsReportRunCache.restore(previous);
+      }
+
+      assertEquals(expected, materialized.getMemberIds());
+    }
+    verify(eptsReportsService, times(1)).materializePatientIds(anyString(), eq(QUERY), anyMap());
+  }
+
+  @Test
+  public void evaluateShouldWriteOneTablePerRunAndParameterValues() throws EvaluationException {
+    EvaluationContext run = getContext(new Date(0));
+    EvaluationContext later = getContext(new Date(1000));
+    later.setCache(run.getCache());
+
+    EptsReportRunCache previous = EptsReportRunCache.bind(run);
+    try {
+      for (Cohort baseCohort :
+          Arrays.asList(new Cohort(Arrays.asList(3, 5)), new Cohort(Arrays.asList(8)))) {
+        EvaluationContext context = run.shallowCopy();
+        context.setBaseCohort(baseCohort);
+        evaluator.evaluate(getDead(), context);
+      }
+      evaluator.evaluate(getDead(), later);
+    } finally {
+      EptsReportRunCache.restore(previous);
+    }
+
+    ArgumentCaptor<String> names = ArgumentCaptor.forClass(String.class);
+    verify(eptsReportsService, times(2))
+        .materializePatientIds(names.capture(), eq(QUERY), anyMap());
+    assertNotEquals(names.getAllValues().get(0), names.getAllValues().get(1));
+    assertTrue(names.getValue().startsWith(MaterializedTables.TABLE_PREFIX + "tx_curr_dead_"));
+    verify(eptsReportsService, times(2)).getPatientIds(anyString(), anyMap());
+    verify(evaluationService, never())
+        .evaluateToList(
+            any(SqlQueryBuilder.class), eq(Integer.class), any(EvaluationContext.class));
+  }
+
+  @Test
+  public void evaluateShouldBindTheIdsOfTheMetadataParameters() throws EvaluationException {
+    EvaluationContext run = getContext(new Date(0));
+
+    EptsReportRunCache previous = EptsReportRunCache.bind(run);
+    try {
+      evaluator.evaluate(getDead(), run);
+    } finally {
+      EptsReportRunCache.restore(previous);
+    }
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<String, Object>> parameters = ArgumentCaptor.forClass(Map.class);
+    verify(eptsReportsService).materializePatientIds(anyString(), eq(QUERY), parameters.capture());
+    assertEquals(7, parameters.getValue().get("location"));
+    assertEquals(new Date(0), parameters.getValue().get("onOrBefore"));
+  }
+
+  @Test
+  public void closeShouldDropTheTablesOfTheRunOnce() throws EvaluationException {
+    EvaluationContext run = getContext(new Date(0));
+
+    EptsReportRunCache previous = EptsReportRunCache.bind(run);
+    try {
+      evaluator.evaluate(getDead(), run);
+    } finally {
+      EptsReportRunCache.restore(previous);
+    }
+    EptsReportRunCache.getInstance(run).close();
+    EptsReportRunCache.getInstance(run).close();
+
+    String table = tables.keySet().iterator().next();
+    verify(eptsReportsService, times(1)).dropMaterializedTable(table);
+  }
+
+  @Test
+  public void evaluateShouldNotWriteTablesOutsideOfAReportRun() throws EvaluationException {
+    EvaluationContext context = getContext(new Date(0));
+
+    EvaluatedCohort cohort = evaluator.evaluate(getDead(), context);
+
+    assertEquals(new HashSet<>(ROWS), cohort.getMemberIds());
+    verify(eptsReportsService, never()).materializePatientIds(anyString(), anyString(), anyMap());
+  }
+
+  private static EvaluationContext getContext(Date onOrBefore) {
+    Location location = new Location(7);
+    EvaluationContext context = new EvaluationContext();
+    context.addParameterValue("onOrBefore", onOrBefore);
+    context.addParameterValue("location", location);
+    return context;
+  }
+
+  private static MaterializedCohortDefinition getDead() {
+    MaterializedCohortDefinition cd = new MaterializedCohortDefinition("tx_curr_dead", QUERY);
+    cd.addParameter(new Parameter("onOrBefore", "onOrBefore", Date.class));
+    cd.addParameter(new Parameter("location", "location", Location.class));
+    return cd;
+  }
+}
@@ -0,0 +1,107 @@
+package org.openmrs.module.eptsreports.reporting.unit.cohort.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.openmrs.Cohort;
+import org.openmrs.Location;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.SharedCohortDefinition;
+import org.openmrs.module.eptsreports.reporting.cohort.evaluator.SharedCohortDefinitionEvaluator;
+import org.openmrs.module.reporting.cohort.EvaluatedCohort;
+import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.SqlCohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.service.CohortDefinitionService;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.parameter.Parameter;
+
+public class SharedCohortDefinitionEvaluatorTest {
+
+  private static final Set<Integer> MEMBERS = new HashSet<>(Arrays.asList(2, 6, 7));
+
+  private CohortDefinitionService cohortDefinitionService;
+
+  private SharedCohortDefinitionEvaluator evaluator;
+
+  @Before
+  public void setUp() throws EvaluationException {
+    cohortDefinitionService = mock(CohortDefinitionService.class);
+    when(cohortDefinitionService.evaluate(
+            any(CohortDefinition.class), any(EvaluationContext.class)))
+        .thenAnswer(
+            invocation ->
+                new EvaluatedCohort(
+                    new Cohort(MEMBERS), invocation.getArgument(0), invocation.getArgument(1)));
+    evaluator = new SharedCohortDefinitionEvaluator(cohortDefinitionService);
+  }
+
+  @Test
+  public void evaluateShouldShareOneEvaluationAcrossTheCallersOfTheKey()
+      throws EvaluationException {
+    EvaluationContext context = new EvaluationContext();
+    context.addParameterValue("endDate", new Date(0));
+    // like two data sets of a report, each with its own copy of the report context
+    EvaluationContext list = context.shallowCopy();
+    EvaluationContext total = context.shallowCopy();
+
+    // the cohort queries build a new definition on every call
+    EvaluatedCohort listCohort = evaluator.evaluate(getShared("eligible"), list);
+    EvaluatedCohort totalCohort = evaluator.evaluate(getShared("eligible"), total);
+
+    assertEquals(MEMBERS, listCohort.getMemberIds());
+    assertEquals(MEMBERS, totalCohort.getMemberIds());
+    verify(cohortDefinitionService, times(1))
+        .evaluate(any(CohortDefinition.class), any(EvaluationContext.class));
+  }
+
+  @Test
+  public void evaluateShouldEvaluateAgainForOtherParameterValues() throws EvaluationException {
+    EvaluationContext context = new EvaluationContext();
+    context.addParameterValue("endDate", new Date(0));
+    EvaluationContext later = context.shallowCopy();
+    later.setParameterValues(new HashMap<>(context.getParameterValues()));
+    later.addParameterValue("endDate", new Date(1000));
+
+    evaluator.evaluate(getShared("eligible"), context);
+    evaluator.evaluate(getShared("eligible"), later);
+    evaluator.evaluate(getShared("other"), context);
+
+    verify(cohortDefinitionService, times(3))
+        .evaluate(any(CohortDefinition.class), any(EvaluationContext.class));
+  }
+
+  @Test
+  public void sharedCohortDefinitionShouldCopyTheParametersOfTheWrappedDefinition() {
+    SqlCohortDefinition wrapped = getWrapped();
+    SharedCohortDefinition shared = new SharedCohortDefinition("eligible", wrapped);
+
+    shared.addParameter(new Parameter("location", "Location", Location.class));
+
+    assertEquals(2, shared.getParameters().size());
+    assertEquals(1, wrapped.getParameters().size());
+    assertNotSame(wrapped.getParameters(), shared.getParameters());
+  }
+
+  private static SharedCohortDefinition getShared(String key) {
+    return new SharedCohortDefinition(key, getWrapped());
+  }
+
+  private static SqlCohortDefinition getWrapped() {
+    SqlCohortDefinition cd = new SqlCohortDefinition();
+    cd.setQuery("SELECT patient_id FROM patient");
+    cd.addParameter(new Parameter("endDate", "End Date", Date.class));
+    return cd;
+  }
+}
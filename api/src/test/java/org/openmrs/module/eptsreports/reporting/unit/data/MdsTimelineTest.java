@@ -0,0 +1,152 @@
+package org.openmrs.module.eptsreports.reporting.unit.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Calendar;
+import java.util.Date;
+import org.junit.Test;
+import org.openmrs.module.eptsreports.reporting.data.MdsTimeline;
+
+/**
+ * The expected values are the ones the original getMdsN, getMdsNStartDate and getMdsNEndDate
+ * queries return for the same records.
+ */
+public class MdsTimelineTest {
+
+  private static final Integer DS = 23888;
+
+  private static final Integer DT = 23730;
+
+  private static final Integer GAAC = 23724;
+
+  @Test
+  public void buildShouldOrderTheModelsByStartDate() {
+    MdsTimeline timeline =
+        new MdsTimeline.Builder()
+            .addStart(date(2020, 6, 1), GAAC, false, true)
+            .addStart(date(2020, 1, 10), DS, false, false)
+            .addStart(date(2020, 3, 5), DT, false, true)
+            .build();
+
+    assertEquals(DS, timeline.getMds(1).getModel());
+    assertEquals(date(2020, 1, 10), timeline.getMds(1).getStartDate());
+    assertEquals(GAAC, timeline.getMds(2).getModel());
+    assertEquals(date(2020, 3, 5), timeline.getMds(2).getStartDate());
+    assertEquals(GAAC, timeline.getMds(3).getModel());
+    assertEquals(date(2020, 6, 1), timeline.getMds(3).getStartDate());
+    assertNull(timeline.getMds(4));
+    assertNull(timeline.getMds(0));
+    assertNull(timeline.getMds(6));
+  }
+
+  @Test
+  public void buildShouldTakeTheLowestModelStartedAfterThePreviousMds() {
+    MdsTimeline timeline =
+        new MdsTimeline.Builder()
+            .addStart(date(2020, 1, 10), DT, false, false)
+            .addStart(date(2020, 3, 5), DS, false, true)
+            .addStart(date(2020, 6, 1), DT, false, true)
+            .build();
+
+    assertEquals(DT, timeline.getMds(2).getModel());
+    assertEquals(date(2020, 3, 5), timeline.getMds(2).getStartDate());
+    assertEquals(DT, timeline.getMds(3).getModel());
+  }
+
+  @Test
+  public void buildShouldKeepTheLowestModelStartedOnTheSameDate() {
+    MdsTimeline timeline =
+        new MdsTimeline.Builder()
+            .addStart(date(2020, 1, 10), DS, false, false)
+            .addStart(date(2020, 1, 10), DT, false, false)
+            .build();
+
+    assertEquals(DT, timeline.getMds(1).getModel());
+    assertNull(timeline.getMds(2));
+  }
+
+  @Test
+  public void buildShouldEndEachModelOnItsFirstLaterEnd() {
+    MdsTimeline timeline =
+        new MdsTimeline.Builder()
+            .addStart(date(2020, 1, 10), GAAC, false, false)
+            .addStart(date(2020, 3, 5), DT, false, true)
+            .addEnd(date(2020, 9, 1), DT, false, false)
+            .addEnd(date(2020, 3, 5), DT, false, false)
+            .addEnd(date(2020, 4, 1), DT, false, false)
+            .addEnd(date(2020, 5, 1), DS, false, false)
+            .build();
+
+    assertEquals(date(2020, 4, 1), timeline.getMds(2).getEndDate());
+  }
+
+  @Test
+  public void buildShouldEndTheFirstMdsAfterTheFirstStartOf33DaysAfterTheArtStart() {
+    MdsTimeline timeline =
+        new MdsTimeline.Builder()
+            .addStart(date(2020, 1, 10), DS, false, false)
+            .addStart(date(2020, 3, 5), DT, false, true)
+            .addEnd(date(2020, 2, 1), DS, false, false)
+            .addEnd(date(2020, 4, 1), DT, false, false)
+            .build();
+
+    assertEquals(DS, timeline.getMds(1).getModel());
+    assertEquals(date(2020, 4, 1), timeline.getMds(1).getEndDate());
+  }
+
+  @Test
+  public void buildShouldCountTheEndsOfVoidedConsultationsForTheFirstMdsOnly() {
+    MdsTimeline timeline =
+        new MdsTimeline.Builder()
+            .addStart(date(2020, 2, 20), DS, false, true)
+            .addStart(date(2020, 3, 5), DT, false, true)
+            .addEnd(date(2020, 4, 1), DS, true, false)
+            .addEnd(date(2020, 4, 1), DT, true, false)
+            .build();
+
+    assertEquals(date(2020, 4, 1), timeline.getMds(1).getEndDate());
+    assertNull(timeline.getMds(2).getEndDate());
+  }
+
+  @Test
+  public void buildShouldCountTheStartsOfVoidedConsultationsForTheThirdMdsEndOnly() {
+    MdsTimeline timeline =
+        new MdsTimeline.Builder()
+            .addStart(date(2020, 1, 1), GAAC, true, false)
+            .addStart(date(2020, 1, 10), DS, false, false)
+            .addStart(date(2020, 3, 5), DT, false, true)
+            .addEnd(date(2020, 5, 1), DT, false, false)
+            .build();
+
+    assertEquals(DS, timeline.getMds(1).getModel());
+    assertEquals(date(2020, 5, 1), timeline.getMds(2).getEndDate());
+    assertNull(timeline.getMds(3).getModel());
+    assertNull(timeline.getMds(3).getStartDate());
+    assertEquals(date(2020, 5, 1), timeline.getMds(3).getEndDate());
+  }
+
+  @Test
+  public void buildShouldCountTheEndsOfOtherLocationsForTheFourthMdsOnly() {
+    MdsTimeline timeline =
+        new MdsTimeline.Builder()
+            .addStart(date(2020, 1, 10), DS, false, false)
+            .addStart(date(2020, 3, 5), DT, false, true)
+            .addStart(date(2020, 5, 5), GAAC, false, true)
+            .addStart(date(2020, 7, 5), GAAC, false, true)
+            .addStart(date(2020, 9, 5), GAAC, false, true)
+            .addEnd(date(2020, 10, 1), GAAC, false, true)
+            .build();
+
+    assertEquals(date(2020, 10, 1), timeline.getMds(4).getEndDate());
+    assertNull(timeline.getMds(3).getEndDate());
+    assertNull(timeline.getMds(5).getEndDate());
+  }
+
+  private static Date date(int year, int month, int day) {
+    Calendar calendar = Calendar.getInstance();
+    calendar.clear();
+    calendar.set(year, month - 1, day);
+    return calendar.getTime();
+  }
+}
@@ -0,0 +1,46 @@
+package org.openmrs.module.eptsreports.reporting.unit.library.queries;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.openmrs.module.eptsreports.metadata.CommonMetadata;
+import org.openmrs.module.eptsreports.metadata.HivMetadata;
+import org.openmrs.module.eptsreports.reporting.library.queries.CommonQueries;
+import org.openmrs.module.eptsreports.reporting.library.queries.PatientSummaryQueries;
+
+public class PatientSummaryQueriesTest {
+
+  private PatientSummaryQueries patientSummaryQueries;
+
+  @Before
+  public void setUp() {
+    patientSummaryQueries =
+        new PatientSummaryQueries(
+            new CommonQueries(
+                mock(CommonMetadata.class, RETURNS_DEEP_STUBS),
+                mock(HivMetadata.class, RETURNS_DEEP_STUBS)));
+  }
+
+  @Test
+  public void getSummaryQueryShouldFilterEverySourceOfTheArtStartDateByThePatientIds() {
+    String query = patientSummaryQueries.getSummaryQuery();
+
+    int sources = StringUtils.countMatches(query, ":location");
+    assertEquals(6, sources);
+    assertEquals(sources, StringUtils.countMatches(query, "p.patient_id IN (:patientIds)"));
+  }
+
+  @Test
+  public void getChangedPatientsQueryShouldIncludeTheSecondOfTheWatermark() {
+    String query = patientSummaryQueries.getChangedPatientsQuery();
+
+    assertTrue(query.contains(">= :since"));
+    assertFalse(query.contains("> :since"));
+  }
+}
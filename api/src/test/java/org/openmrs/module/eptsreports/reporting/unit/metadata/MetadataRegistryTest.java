@@ -0,0 +1,129 @@
+package org.openmrs.module.eptsreports.reporting.unit.metadata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openmrs.Concept;
+import org.openmrs.GlobalProperty;
+import org.openmrs.api.AdministrationService;
+import org.openmrs.api.ConceptService;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.metadata.Metadata;
+import org.openmrs.module.eptsreports.metadata.MetadataRegistry;
+import org.openmrs.module.eptsreports.reporting.unit.PowerMockBaseContextTest;
+import org.powermock.api.mockito.PowerMockito;
+
+public class MetadataRegistryTest extends PowerMockBaseContextTest {
+
+  private static final String YES_UUID = "1065AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA";
+
+  private AdministrationService administrationService;
+
+  private ConceptService conceptService;
+
+  private MetadataRegistry registry = MetadataRegistry.getInstance();
+
+  @Before
+  public void init() {
+    administrationService = mock(AdministrationService.class);
+    conceptService = mock(ConceptService.class);
+    PowerMockito.mockStatic(Context.class);
+    when(Context.getAdministrationService()).thenReturn(administrationService);
+    when(Context.getConceptService()).thenReturn(conceptService);
+    when(administrationService.getGlobalPropertiesByPrefix(MetadataRegistry.GLOBAL_PROPERTY_PREFIX))
+        .thenReturn(Arrays.asList(new GlobalProperty("eptsreports.yesConceptUuid", YES_UUID)));
+    registry.start();
+  }
+
+  @After
+  public void tearDown() {
+    registry.stop();
+  }
+
+  @Test
+  public void getGlobalPropertyShouldReadTheSnapshotOnce() {
+    assertEquals(YES_UUID, registry.getGlobalProperty("eptsreports.yesConceptUuid"));
+    assertEquals(YES_UUID, registry.getGlobalProperty("eptsreports.yesConceptUuid"));
+    verify(administrationService, times(1))
+        .getGlobalPropertiesByPrefix(MetadataRegistry.GLOBAL_PROPERTY_PREFIX);
+  }
+
+  @Test
+  public void globalPropertyChangedShouldInvalidateTheSnapshot() {
+    registry.getGlobalProperty("eptsreports.yesConceptUuid");
+    registry.globalPropertyChanged(new GlobalProperty("eptsreports.yesConceptUuid", "other"));
+    registry.getGlobalProperty("eptsreports.yesConceptUuid");
+    verify(administrationService, times(2))
+        .getGlobalPropertiesByPrefix(MetadataRegistry.GLOBAL_PROPERTY_PREFIX);
+  }
+
+  @Test
+  public void getConceptShouldRememberTheResolvedId() {
+    Concept yes = new Concept(1065);
+    when(conceptService.getConceptByUuid(YES_UUID)).thenReturn(yes);
+    when(conceptService.getConcept(1065)).thenReturn(yes);
+
+    assertNull(registry.getConceptId(YES_UUID));
+    assertEquals(yes, Metadata.getConcept(YES_UUID));
+    assertEquals(Integer.valueOf(1065), registry.getConceptId(YES_UUID));
+    assertEquals(yes, Metadata.getConcept(YES_UUID));
+    verify(conceptService, times(1)).getConceptByUuid(YES_UUID);
+  }
+
+  @Test
+  public void getConceptShouldNotRememberAnIdResolvedBeforeAnInvalidation() {
+    Concept yes = new Concept(1065);
+    when(conceptService.getConceptByUuid(YES_UUID))
+        .thenAnswer(
+            invocation -> {
+              // a global property changes while the concept is resolved
+              registry.invalidate();
+              return yes;
+            });
+
+    assertEquals(yes, Metadata.getConcept(YES_UUID));
+    assertNull(registry.getConceptId(YES_UUID));
+  }
+
+  @Test
+  public void getGlobalPropertyShouldNotKeepASnapshotReadBeforeAnInvalidation() {
+    when(administrationService.getGlobalPropertiesByPrefix(MetadataRegistry.GLOBAL_PROPERTY_PREFIX))
+        .thenAnswer(
+            invocation -> {
+              registry.invalidate();
+              return Arrays.asList(new GlobalProperty("eptsreports.yesConceptUuid", YES_UUID));
+            });
+
+    registry.getGlobalProperty("eptsreports.yesConceptUuid");
+    registry.getGlobalProperty("eptsreports.yesConceptUuid");
+    verify(administrationService, times(2))
+        .getGlobalPropertiesByPrefix(MetadataRegistry.GLOBAL_PROPERTY_PREFIX);
+  }
+
+  @Test
+  public void getConceptIdShouldNotLoadAResolvedConcept() {
+    Concept yes = new Concept(1065);
+    when(conceptService.getConceptByUuid(YES_UUID)).thenReturn(yes);
+
+    assertEquals(1065, Metadata.getConceptId(YES_UUID));
+    assertEquals(1065, Metadata.getConceptId(YES_UUID));
+    verify(conceptService, times(1)).getConceptByUuid(YES_UUID);
+    verify(conceptService, never()).getConcept(1065);
+  }
+
+  @Test
+  public void stopShouldBypassTheRegistry() {
+    registry.stop();
+    when(administrationService.getGlobalProperty("eptsreports.yesConceptUuid")).thenReturn("x");
+    assertEquals("x", registry.getGlobalProperty("eptsreports.yesConceptUuid"));
+  }
+}
@@ -0,0 +1,76 @@
+package org.openmrs.module.eptsreports.reporting.unit.profiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.Test;
+import org.openmrs.module.eptsreports.reporting.profiler.EvaluationProfile;
+import org.openmrs.module.eptsreports.reporting.profiler.EvaluationProfiler;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+
+public class EvaluationProfilerTest {
+
+  @Test
+  public void startShouldNestTheEvaluationsOfARun() {
+    EvaluationContext context = new EvaluationContext();
+    EvaluationProfile.Node run =
+        EvaluationProfiler.startRun(context, "ReportDefinition", "QI 2020", "qi");
+    EvaluationProfile.Node indicator =
+        EvaluationProfiler.start(context.shallowCopy(), "CohortIndicator", "MQ_NUM1", "mq1");
+    EvaluationProfile.Node cohort =
+        EvaluationProfiler.start(context, "SqlCohortDefinition", "B1", "b1");
+    EvaluationProfiler.recordStatement("SELECT patient_id FROM patient");
+    EvaluationProfiler.recordCacheHit();
+    EvaluationProfiler.end(cohort, 12);
+    EvaluationProfiler.end(indicator, 12);
+    EvaluationProfiler.end(run, -1);
+
+    assertEquals(1, run.getChildren().size());
+    assertSame(cohort, indicator.getChildren().get(0));
+    assertEquals("SELECT patient_id FROM patient", cohort.getSql());
+    assertEquals(1, cohort.getCacheHits());
+    assertEquals(12, cohort.getRows());
+
+    EvaluationProfile profile = EvaluationProfiler.getProfiles().get(0);
+    assertSame(run, profile.getRoot());
+    assertTrue(profile.toJson().contains("\"name\":\"B1\""));
+    List<EvaluationProfile.Timing> slowest = profile.getSlowest(20);
+    assertEquals(3, slowest.size());
+  }
+
+  @Test
+  public void startShouldIgnoreEvaluationsOutsideOfARun() {
+    assertNull(EvaluationProfiler.start(new EvaluationContext(), "SqlCohortDefinition", "B1", ""));
+  }
+
+  @Test
+  public void startRunShouldNotRestartAProfiledRun() {
+    EvaluationContext context = new EvaluationContext();
+    EvaluationProfile.Node run = EvaluationProfiler.startRun(context, "ReportDefinition", "A", "a");
+    assertNull(EvaluationProfiler.startRun(context, "ReportDefinition", "A", "a"));
+    EvaluationProfiler.end(run, -1);
+  }
+
+  @Test
+  public void recordCacheHitShouldCountTheHitsOfEveryThread() throws InterruptedException {
+    EvaluationProfile.Node node = new EvaluationProfile.Node("SqlCohortDefinition", "B1", "b1");
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] =
+          new Thread(
+              () -> {
+                for (int hit = 0; hit < 10000; hit++) {
+                  node.recordCacheHit();
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(40000, node.getCacheHits());
+  }
+}
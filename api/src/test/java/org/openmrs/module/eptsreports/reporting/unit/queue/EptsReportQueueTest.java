@@ -0,0 +1,94 @@
+package org.openmrs.module.eptsreports.reporting.unit.queue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import org.openmrs.module.eptsreports.reporting.queue.EptsReportQueue;
+import org.openmrs.module.eptsreports.reporting.queue.QueuedReportRun;
+
+public class EptsReportQueueTest {
+
+  private static final long MINUTE = 60000;
+
+  @Test
+  public void isAdmittedShouldLimitTheHeavyRuns() {
+    List<QueuedReportRun> running = Arrays.asList(heavy(1, 10));
+    QueuedReportRun heavy = heavy(2, 10);
+    QueuedReportRun light = light(3, 1);
+    List<QueuedReportRun> waiting = Arrays.asList(heavy, light);
+
+    assertFalse(EptsReportQueue.isAdmitted(heavy, running, waiting, 3, 1));
+    assertTrue(EptsReportQueue.isAdmitted(light, running, waiting, 3, 1));
+    assertTrue(EptsReportQueue.isAdmitted(heavy, running, waiting, 3, 0));
+  }
+
+  @Test
+  public void isAdmittedShouldAdmitTheRunsInArrivalOrder() {
+    QueuedReportRun heavy = heavy(1, 10);
+    QueuedReportRun light = light(2, 1);
+    QueuedReportRun nextLight = light(3, 1);
+    List<QueuedReportRun> running = Collections.emptyList();
+    List<QueuedReportRun> waiting = Arrays.asList(heavy, light, nextLight);
+
+    assertTrue(EptsReportQueue.isAdmitted(heavy, running, waiting, 1, 1));
+    assertFalse(EptsReportQueue.isAdmitted(light, running, waiting, 1, 1));
+    assertFalse(EptsReportQueue.isAdmitted(nextLight, running, waiting, 1, 1));
+  }
+
+  @Test
+  public void isAdmittedShouldNotLetTheLightRunsPassAHeavyRunWaitingForAnyRun() {
+    QueuedReportRun heavy = heavy(2, 10);
+    QueuedReportRun light = light(3, 1);
+    List<QueuedReportRun> waiting = Arrays.asList(heavy, light);
+
+    // the heavy run waits for the heavy run in progress, the light run may pass it
+    List<QueuedReportRun> running = Arrays.asList(heavy(1, 10), light(4, 1));
+    assertTrue(EptsReportQueue.isAdmitted(light, running, waiting, 3, 1));
+
+    // when the heavy run in progress ends, the heavy run is admitted first
+    running = Arrays.asList(light(4, 1), light(5, 1));
+    assertTrue(EptsReportQueue.isAdmitted(heavy, running, waiting, 3, 1));
+    assertFalse(EptsReportQueue.isAdmitted(light, running, waiting, 3, 1));
+  }
+
+  @Test
+  public void estimateShouldWaitForTheRunsBeforeInTheQueue() {
+    List<QueuedReportRun> running = Arrays.asList(heavy(1, 10));
+    List<QueuedReportRun> waiting = Arrays.asList(heavy(2, 20), light(3, 5), light(4, 5));
+
+    EptsReportQueue.estimate(running, waiting, 2, 1, 0);
+
+    // the heavy run waits for the heavy run in progress, the light runs take the free slot
+    assertEquals(10 * MINUTE, waiting.get(0).getEstimatedWaitMillis());
+    assertEquals(0, waiting.get(1).getEstimatedWaitMillis());
+    assertEquals(5 * MINUTE, waiting.get(2).getEstimatedWaitMillis());
+  }
+
+  @Test
+  public void estimateShouldUseTheAverageTimeForReportsWhichNeverRan() {
+    List<QueuedReportRun> running = Arrays.asList(heavy(1, 10), light(2, -1));
+    List<QueuedReportRun> waiting = Arrays.asList(light(3, 1));
+
+    EptsReportQueue.estimate(running, waiting, 2, 1, 0);
+
+    // the light run in progress is expected to take (10 + 1) / 2 minutes
+    assertEquals(11 * MINUTE / 2, waiting.get(0).getEstimatedWaitMillis());
+  }
+
+  private static QueuedReportRun heavy(int id, long minutes) {
+    return new QueuedReportRun(id, "heavy-" + id, "Heavy " + id, true, toMillis(minutes));
+  }
+
+  private static QueuedReportRun light(int id, long minutes) {
+    return new QueuedReportRun(id, "light-" + id, "Light " + id, false, toMillis(minutes));
+  }
+
+  private static long toMillis(long minutes) {
+    return minutes < 0 ? -1 : minutes * MINUTE;
+  }
+}
@@ -0,0 +1,147 @@
+package org.openmrs.module.eptsreports.reporting.unit.reports.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.Test;
+import org.openmrs.Cohort;
+import org.openmrs.module.eptsreports.reporting.reports.evaluator.EptsLocationFanOutReportDefinitionEvaluator;
+import org.openmrs.module.reporting.dataset.DataSet;
+import org.openmrs.module.reporting.dataset.DataSetColumn;
+import org.openmrs.module.reporting.dataset.DataSetRow;
+import org.openmrs.module.reporting.dataset.MapDataSet;
+import org.openmrs.module.reporting.dataset.SimpleDataSet;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.indicator.CohortIndicator;
+import org.openmrs.module.reporting.indicator.CohortIndicatorResult;
+import org.openmrs.module.reporting.indicator.dimension.CohortIndicatorAndDimensionResult;
+
+public class EptsLocationFanOutReportDefinitionEvaluatorTest {
+
+  private static final DataSetColumn NID = new DataSetColumn("NID", "NID", String.class);
+
+  private static final DataSetColumn EC1 = new DataSetColumn("EC1", "EC1", Integer.class);
+
+  private static final DataSetColumn NAME = new DataSetColumn("NAME", "Name", String.class);
+
+  private static final DataSetColumn PATIENT_ID =
+      new DataSetColumn("patient_id", "patient_id", Integer.class);
+
+  private static final DataSetColumn LOCATION =
+      new DataSetColumn("location_name", "location_name", String.class);
+
+  @Test
+  public void mergeShouldAppendTheRowsInTheOrderOfTheLocations() {
+    DataSet merged =
+        EptsLocationFanOutReportDefinitionEvaluator.merge(
+            null,
+            new EvaluationContext(),
+            Arrays.asList(getPatients("A/1", "A/2"), getPatients(), getPatients("B/1")));
+
+    List<Object> nids = new ArrayList<>();
+    for (DataSetRow row : merged) {
+      nids.add(row.getColumnValue("NID"));
+    }
+    assertEquals(Arrays.<Object>asList("A/1", "A/2", "B/1"), nids);
+    assertEquals(1, merged.getMetaData().getColumns().size());
+  }
+
+  @Test
+  public void mergeShouldListAPatientOfSeveralLocationsOnceWithTheRowOfTheLastLocation() {
+    DataSet merged =
+        EptsLocationFanOutReportDefinitionEvaluator.merge(
+            null,
+            new EvaluationContext(),
+            Arrays.asList(
+                getPatients("Beira", 1, 2),
+                getPatients("Dondo", 2, 3),
+                getPatients("Nhamatanda", 2)));
+
+    List<Object> rows = new ArrayList<>();
+    for (DataSetRow row : merged) {
+      rows.add(row.getColumnValue("patient_id") + "@" + row.getColumnValue("location_name"));
+    }
+    assertEquals(Arrays.<Object>asList("1@Beira", "2@Nhamatanda", "3@Dondo"), rows);
+  }
+
+  @Test
+  public void mergeShouldUniteTheCohortsOfCountIndicators() {
+    DataSet merged =
+        EptsLocationFanOutReportDefinitionEvaluator.merge(
+            null,
+            new EvaluationContext(),
+            Arrays.asList(getSummary("Beira", 1, 2), getSummary("Beira", 2, 3)));
+
+    assertTrue(merged instanceof MapDataSet);
+    CohortIndicatorAndDimensionResult ec1 =
+        (CohortIndicatorAndDimensionResult) ((MapDataSet) merged).getData(EC1);
+    // the patient found at both locations is counted once
+    assertEquals(3, ec1.getValue().intValue());
+    assertEquals(
+        new HashSet<>(Arrays.asList(1, 2, 3)),
+        ec1.getCohortIndicatorAndDimensionCohort().getMemberIds());
+    assertEquals("Beira", ((MapDataSet) merged).getData(NAME));
+  }
+
+  @Test
+  public void mergeShouldNotMergeDifferentValues() {
+    assertNull(
+        EptsLocationFanOutReportDefinitionEvaluator.merge(
+            null,
+            new EvaluationContext(),
+            Arrays.asList(getSummary("Ponta Gea", 1), getSummary("Munhava", 2))));
+  }
+
+  @Test
+  public void mergeShouldNotMergeDifferentNumbers() {
+    MapDataSet first = new MapDataSet(null, new EvaluationContext());
+    first.addData(EC1, 3);
+    MapDataSet second = new MapDataSet(null, new EvaluationContext());
+    second.addData(EC1, 4);
+
+    assertNull(
+        EptsLocationFanOutReportDefinitionEvaluator.merge(
+            null, new EvaluationContext(), Arrays.<DataSet>asList(first, second)));
+  }
+
+  private static DataSet getPatients(String... nids) {
+    SimpleDataSet dataSet = new SimpleDataSet(null, new EvaluationContext());
+    dataSet.getMetaData().addColumn(NID);
+    for (String nid : nids) {
+      DataSetRow row = new DataSetRow();
+      row.addColumnValue(NID, nid);
+      dataSet.addRow(row);
+    }
+    return dataSet;
+  }
+
+  private static DataSet getPatients(String location, Integer... patientIds) {
+    SimpleDataSet dataSet = new SimpleDataSet(null, new EvaluationContext());
+    dataSet.getMetaData().addColumn(PATIENT_ID);
+    dataSet.getMetaData().addColumn(LOCATION);
+    for (Integer patientId : patientIds) {
+      DataSetRow row = new DataSetRow();
+      row.addColumnValue(PATIENT_ID, patientId);
+      row.addColumnValue(LOCATION, location);
+      dataSet.addRow(row);
+    }
+    return dataSet;
+  }
+
+  private static DataSet getSummary(String name, Integer... patientIds) {
+    EvaluationContext context = new EvaluationContext();
+    CohortIndicatorResult result = new CohortIndicatorResult();
+    result.setIndicator(new CohortIndicator("EC1"));
+    result.setContext(context);
+    result.setCohort(new Cohort(Arrays.asList(patientIds)));
+    MapDataSet dataSet = new MapDataSet(null, context);
+    dataSet.addData(EC1, new CohortIndicatorAndDimensionResult(result, context));
+    dataSet.addData(NAME, name);
+    return dataSet;
+  }
+}
@@ -0,0 +1,173 @@
+package org.openmrs.module.eptsreports.reporting.unit.reports.evaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.openmrs.Location;
+import org.openmrs.OpenmrsObject;
+import org.openmrs.Privilege;
+import org.openmrs.User;
+import org.openmrs.api.AdministrationService;
+import org.openmrs.api.context.Context;
+import org.openmrs.api.context.UserContext;
+import org.openmrs.module.eptsreports.EptsReportsConfig;
+import org.openmrs.module.eptsreports.api.EptsReportsService;
+import org.openmrs.module.eptsreports.reporting.cache.ReportResultCache;
+import org.openmrs.module.eptsreports.reporting.reports.definition.EptsParallelReportDefinition;
+import org.openmrs.module.eptsreports.reporting.reports.evaluator.EptsParallelReportDefinitionEvaluator;
+import org.openmrs.module.eptsreports.reporting.unit.PowerMockBaseContextTest;
+import org.openmrs.module.reporting.dataset.MapDataSet;
+import org.openmrs.module.reporting.dataset.definition.DataSetDefinition;
+import org.openmrs.module.reporting.dataset.definition.SqlDataSetDefinition;
+import org.openmrs.module.reporting.dataset.definition.service.DataSetDefinitionService;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+import org.openmrs.module.reporting.evaluation.parameter.Mapped;
+import org.openmrs.module.reporting.report.ReportData;
+import org.powermock.api.mockito.PowerMockito;
+
+public class EptsParallelReportDefinitionEvaluatorTest extends PowerMockBaseContextTest {
+
+  private static final int DATA_SETS = 3;
+
+  @Mock private AdministrationService administrationService;
+
+  @Mock private DataSetDefinitionService dataSetDefinitionService;
+
+  @Mock private EptsReportsService eptsReportsService;
+
+  @Mock private ReportResultCache reportResultCache;
+
+  @Mock private UserContext userContext;
+
+  @Mock private User user;
+
+  private final Map<Thread, UserContext> workerUserContexts = new ConcurrentHashMap<>();
+
+  private final List<EvaluationContext> workerContexts =
+      Collections.synchronizedList(new ArrayList<>());
+
+  private final Set<String> workerThreads = ConcurrentHashMap.newKeySet();
+
+  private final CountDownLatch evaluating = new CountDownLatch(DATA_SETS);
+
+  @Before
+  public void setUp() throws EvaluationException {
+    PowerMockito.mockStatic(Context.class);
+    when(Context.getAdministrationService()).thenReturn(administrationService);
+    when(administrationService.getGlobalProperty(EptsReportsConfig.GP_DATASET_EVALUATION_THREADS))
+        .thenReturn(String.valueOf(DATA_SETS));
+    when(Context.getRegisteredComponents(ReportResultCache.class))
+        .thenReturn(Arrays.asList(reportResultCache));
+    when(Context.getService(DataSetDefinitionService.class)).thenReturn(dataSetDefinitionService);
+    when(Context.getService(EptsReportsService.class)).thenReturn(eptsReportsService);
+    when(Context.getAuthenticatedUser()).thenReturn(user);
+    when(user.getPrivileges())
+        .thenReturn(new HashSet<>(Arrays.asList(new Privilege("View Patients"))));
+    when(userContext.getLocale()).thenReturn(new Locale("pt"));
+    when(userContext.getLocationId()).thenReturn(7);
+
+    // like Context.openSession(), every worker thread gets its own user context
+    when(Context.getUserContext())
+        .thenAnswer(
+            invocation -> {
+              if (!Thread.currentThread().getName().startsWith("eptsreports-")) {
+                return userContext;
+              }
+              return workerUserContexts.computeIfAbsent(
+                  Thread.currentThread(), t -> mock(UserContext.class));
+            });
+    when(eptsReportsService.reload(any(OpenmrsObject.class)))
+        .thenAnswer(invocation -> new Location(((Location) invocation.getArgument(0)).getId()));
+    when(dataSetDefinitionService.evaluate(any(Mapped.class), any(EvaluationContext.class)))
+        .thenAnswer(
+            invocation -> {
+              EvaluationContext context = invocation.getArgument(1);
+              workerThreads.add(Thread.currentThread().getName());
+              workerContexts.add(context);
+              evaluating.countDown();
+              // every data set waits for the others, so they must be evaluated at the same time
+              assertTrue(evaluating.await(10, TimeUnit.SECONDS));
+              return new MapDataSet(null, context);
+            });
+  }
+
+  @Test
+  public void evaluateShouldEvaluateTheDataSetsConcurrentlyInSeparateContexts()
+      throws EvaluationException {
+    Location location = new Location(1);
+    List<Location> locations = Arrays.asList(new Location(2), new Location(3));
+    EvaluationContext context = new EvaluationContext();
+    context.addParameterValue("location", location);
+    context.addParameterValue("locations", locations);
+
+    ReportData data = new EptsParallelReportDefinitionEvaluator().evaluate(getReport(), context);
+
+    assertEquals(Arrays.asList("DS0", "DS1", "DS2"), new ArrayList<>(data.getDataSets().keySet()));
+    assertEquals(DATA_SETS, workerThreads.size());
+    assertEquals(DATA_SETS, new HashSet<>(workerContexts).size());
+    for (EvaluationContext workerContext : workerContexts) {
+      assertNotSame(context, workerContext);
+      assertSame(context.getCache(), workerContext.getCache());
+      Location reloaded = (Location) workerContext.getParameterValue("location");
+      assertEquals(location.getId(), reloaded.getId());
+      assertNotSame(location, reloaded);
+      List<?> reloadedLocations = (List<?>) workerContext.getParameterValue("locations");
+      for (int i = 0; i < locations.size(); i++) {
+        assertEquals(locations.get(i).getId(), ((Location) reloadedLocations.get(i)).getId());
+        assertNotSame(locations.get(i), reloadedLocations.get(i));
+      }
+    }
+    // the parameter values of the report context are left as they are
+    assertSame(location, context.getParameterValue("location"));
+    assertSame(locations, context.getParameterValue("locations"));
+  }
+
+  @Test
+  public void evaluateShouldGiveEachWorkerItsOwnUserContext() throws EvaluationException {
+    new EptsParallelReportDefinitionEvaluator().evaluate(getReport(), new EvaluationContext());
+
+    assertEquals(DATA_SETS, workerUserContexts.size());
+    for (UserContext workerUserContext : workerUserContexts.values()) {
+      assertNotSame(userContext, workerUserContext);
+      verify(workerUserContext).addProxyPrivilege("View Patients");
+      verify(workerUserContext).setLocale(new Locale("pt"));
+      verify(workerUserContext).setLocationId(7);
+    }
+    verify(userContext, never()).addProxyPrivilege(anyString());
+    PowerMockito.verifyStatic(Context.class, never());
+    Context.setUserContext(any(UserContext.class));
+  }
+
+  private static EptsParallelReportDefinition getReport() {
+    EptsParallelReportDefinition rd = new EptsParallelReportDefinition();
+    rd.setName("Parallel");
+    for (int i = 0; i < DATA_SETS; i++) {
+      rd.addDataSetDefinition(
+          "DS" + i, new Mapped<DataSetDefinition>(new SqlDataSetDefinition(), null));
+    }
+    return rd;
+  }
+}
@@ -0,0 +1,72 @@
+package org.openmrs.module.eptsreports.reporting.unit.reports.renderer;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+import org.openmrs.module.eptsreports.reporting.reports.renderer.StreamingListRenderer;
+import org.openmrs.module.reporting.common.DateUtil;
+import org.openmrs.module.reporting.dataset.DataSet;
+import org.openmrs.module.reporting.dataset.DataSetColumn;
+import org.openmrs.module.reporting.dataset.DataSetRow;
+import org.openmrs.module.reporting.dataset.SimpleDataSet;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+
+public class StreamingListRendererTest {
+
+  private static final DataSetColumn NID = new DataSetColumn("nid", "NID", String.class);
+
+  private static final DataSetColumn NAME = new DataSetColumn("name", "Nome", String.class);
+
+  private static final DataSetColumn ART_START =
+      new DataSetColumn("art_start", "Data Início TARV", Object.class);
+
+  @Test
+  public void writeCsvShouldWriteTheLabelsAndEscapeTheValues() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    StreamingListRenderer.writeCsv(getDataSet(2), out);
+
+    String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\r\n");
+    assertEquals(3, lines.length);
+    assertEquals("\uFEFFNID,Nome,Data Início TARV", lines[0]);
+    assertEquals("0001/20,\"Silva, \"\"Ana\"\"\",05/01/2020", lines[1]);
+  }
+
+  @Test
+  public void writeXlsxShouldWriteOneRowPerDataSetRowAfterTheHeader() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Map.Entry<String, DataSet> entry =
+        new AbstractMap.SimpleEntry<String, DataSet>("FATL", getDataSet(250));
+    StreamingListRenderer.writeXlsx(Collections.singletonList(entry), out);
+
+    XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+    Sheet sheet = workbook.getSheet("FATL");
+    assertEquals(250, sheet.getLastRowNum());
+    assertEquals("Nome", sheet.getRow(0).getCell(1).getStringCellValue());
+    assertEquals("Silva, \"Ana\"", sheet.getRow(250).getCell(1).getStringCellValue());
+    assertEquals(DateUtil.getDateTime(2020, 1, 5), sheet.getRow(1).getCell(2).getDateCellValue());
+  }
+
+  private static DataSet getDataSet(int rows) {
+    SimpleDataSet dataSet = new SimpleDataSet(null, new EvaluationContext());
+    dataSet.getMetaData().addColumn(NID);
+    dataSet.getMetaData().addColumn(NAME);
+    dataSet.getMetaData().addColumn(ART_START);
+    for (int i = 0; i < rows; i++) {
+      DataSetRow row = new DataSetRow();
+      row.addColumnValue(NID, "0001/20");
+      row.addColumnValue(NAME, "Silva, \"Ana\"");
+      row.addColumnValue(ART_START, DateUtil.getDateTime(2020, 1, 5));
+      dataSet.addRow(row);
+    }
+    return dataSet;
+  }
+}
@@ -3,10 +3,14 @@ package org.openmrs.module.eptsreports.reporting.unit.utils;
 import java.sql.Date;
 import org.junit.Assert;
 import org.junit.Test;
+import org.openmrs.module.eptsreports.reporting.data.definition.FusedSqlPatientDataDefinition;
 import org.openmrs.module.eptsreports.reporting.utils.EptsReportUtils;
 import org.openmrs.module.reporting.ReportingException;
 import org.openmrs.module.reporting.cohort.definition.CodedObsCohortDefinition;
 import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
+import org.openmrs.module.reporting.data.patient.definition.SqlPatientDataDefinition;
+import org.openmrs.module.reporting.dataset.definition.PatientDataSetDefinition;
+import org.openmrs.module.reporting.dataset.definition.RowPerObjectColumnDefinition;
 import org.openmrs.module.reporting.evaluation.parameter.Parameter;
 
 public class EptsReportUtilsTest {
@@ -64,4 +68,30 @@ public class EptsReportUtilsTest {
             cd,
             "onOrAfter=${onOrAfter},onOrBefore=${onOrBefore},locations=${location},endDate=${onOrBefore}"));
   }
+
+  @Test
+  public void fuseSqlColumnsShouldFuseOnlyTheGivenColumns() {
+    PatientDataSetDefinition dsd = new PatientDataSetDefinition();
+    for (String name : new String[] {"nid", "vl_result", "art_line", "vl_date"}) {
+      SqlPatientDataDefinition column = new SqlPatientDataDefinition();
+      column.setSql("SELECT patient_id, value FROM " + name + " GROUP BY patient_id");
+      dsd.addColumn(name, column, "location=${location}");
+    }
+
+    EptsReportUtils.fuseSqlColumns(dsd, "vl_result", "vl_date");
+
+    Assert.assertTrue(getDefinition(dsd, "nid") instanceof SqlPatientDataDefinition);
+    Assert.assertTrue(getDefinition(dsd, "vl_result") instanceof FusedSqlPatientDataDefinition);
+    Assert.assertTrue(getDefinition(dsd, "art_line") instanceof SqlPatientDataDefinition);
+    Assert.assertTrue(getDefinition(dsd, "vl_date") instanceof FusedSqlPatientDataDefinition);
+  }
+
+  private static Object getDefinition(PatientDataSetDefinition dsd, String columnName) {
+    for (RowPerObjectColumnDefinition column : dsd.getColumnDefinitions()) {
+      if (column.getName().equals(columnName)) {
+        return column.getDataDefinition().getParameterizable();
+      }
+    }
+    return null;
+  }
 }
@@ -0,0 +1,62 @@
+package org.openmrs.module.eptsreports.reporting.unit.utils.queries;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.openmrs.module.eptsreports.reporting.utils.queries.FusedColumnsBuilder;
+
+public class FusedColumnsBuilderTest {
+
+  private static final String ART_START =
+      "SELECT start.patient_id, start.first_pickup AS first_pickup "
+          + "FROM (SELECT p.patient_id, MIN(e.encounter_datetime) first_pickup "
+          + "FROM patient p JOIN encounter e ON e.patient_id = p.patient_id "
+          + "GROUP BY p.patient_id) start";
+
+  private static final String LAST_VL =
+      "SELECT p.patient_id, DATE_FORMAT(MAX(o.obs_datetime), '%d, %m') last_vl "
+          + "FROM patient p JOIN obs o ON o.person_id = p.patient_id "
+          + "WHERE o.concept_id = 856 AND o.location_id = :location GROUP BY p.patient_id";
+
+  private static final String HEADER =
+      "SELECT NULL AS patient_id, NULL AS value FROM DUAL WHERE FALSE UNION ALL (";
+
+  @Test
+  public void buildQueryShouldJoinTheGreatestValueOfEachQuery() {
+    String query =
+        new FusedColumnsBuilder()
+            .column(ART_START)
+            .column(LAST_VL)
+            .restrictToPatientIds()
+            .buildQuery();
+
+    assertEquals(
+        "SELECT fused.patient_id, c0.value AS value_0, c1.value AS value_1 FROM patient fused"
+            + " LEFT JOIN (SELECT c.patient_id, MAX(c.value) AS value FROM ("
+            + HEADER
+            + ART_START
+            + "\n)) c GROUP BY c.patient_id) c0 ON c0.patient_id = fused.patient_id"
+            + " LEFT JOIN (SELECT c.patient_id, MAX(c.value) AS value FROM ("
+            + HEADER
+            + LAST_VL
+            + "\n)) c GROUP BY c.patient_id) c1 ON c1.patient_id = fused.patient_id"
+            + " WHERE fused.patient_id IN (:patientIds)",
+        query);
+  }
+
+  @Test
+  public void columnShouldDropTrailingSemicolons() {
+    String query = new FusedColumnsBuilder().column(" " + ART_START + " ; ;\n").buildQuery();
+
+    assertTrue(query.contains(HEADER + ART_START + "\n))"));
+    assertFalse(query.contains(";"));
+    assertFalse(query.contains("WHERE fused.patient_id"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void columnShouldRejectAnEmptyQuery() {
+    new FusedColumnsBuilder().column(" ; ");
+  }
+}
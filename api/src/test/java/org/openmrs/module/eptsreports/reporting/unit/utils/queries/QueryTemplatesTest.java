@@ -0,0 +1,62 @@
+package org.openmrs.module.eptsreports.reporting.unit.utils.queries;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.openmrs.module.eptsreports.reporting.utils.queries.QueryTemplates;
+
+public class QueryTemplatesTest {
+
+  private static final String TEMPLATE =
+      "SELECT e.patient_id FROM encounter e WHERE e.encounter_type = ${6} "
+          + "AND e.encounter_datetime <= :endDate AND e.location_id = :location";
+
+  @Before
+  public void setUp() {
+    QueryTemplates.clear();
+  }
+
+  @Test
+  public void renderShouldSubstituteMetadataAndKeepBindParameters() {
+    Map<String, Integer> valuesMap = new HashMap<>();
+    valuesMap.put("6", 6);
+    assertEquals(
+        "SELECT e.patient_id FROM encounter e WHERE e.encounter_type = 6 "
+            + "AND e.encounter_datetime <= :endDate AND e.location_id = :location",
+        QueryTemplates.render("test", valuesMap, TEMPLATE));
+  }
+
+  @Test
+  public void renderShouldRenderOncePerMetadataConfiguration() {
+    Map<String, Integer> valuesMap = new HashMap<>();
+    valuesMap.put("6", 6);
+    String first = QueryTemplates.render("test", valuesMap, TEMPLATE);
+    assertSame(first, QueryTemplates.render("test", valuesMap, TEMPLATE));
+    assertEquals(1, QueryTemplates.size());
+
+    valuesMap.put("6", 60);
+    QueryTemplates.render("test", valuesMap, TEMPLATE);
+    assertEquals(2, QueryTemplates.size());
+  }
+
+  @Test
+  public void renderShouldKeepTheMostRecentlyUsedQueriesOnly() {
+    Map<String, Integer> valuesMap = new HashMap<>();
+    valuesMap.put("6", 6);
+    String first = QueryTemplates.render("test", valuesMap, TEMPLATE);
+    for (int i = 0; i < QueryTemplates.MAX_SIZE * 2; i++) {
+      // the first query stays the most recently used one
+      assertSame(first, QueryTemplates.render("test", valuesMap, TEMPLATE));
+      valuesMap.put("6", 1000 + i);
+      QueryTemplates.render("test", valuesMap, TEMPLATE);
+      valuesMap.put("6", 6);
+    }
+
+    assertEquals(QueryTemplates.MAX_SIZE, QueryTemplates.size());
+    assertSame(first, QueryTemplates.render("test", valuesMap, TEMPLATE));
+  }
+}
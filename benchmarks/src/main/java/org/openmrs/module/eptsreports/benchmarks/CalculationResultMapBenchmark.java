@@ -0,0 +1,120 @@
+/*
+ * The contents of this file are subject to the OpenMRS Public License
+ * Version 1.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ * http://license.openmrs.org
+ *
+ * Software distributed under the License is distributed on an "AS IS"
+ * basis, WITHOUT WARRANTY OF ANY KIND, either express or implied. See the
+ * License for the specific language governing rights and limitations
+ * under the License.
+ *
+ * Copyright (C) OpenMRS, LLC.  All Rights Reserved.
+ */
+package org.openmrs.module.eptsreports.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openmrs.Obs;
+import org.openmrs.calculation.result.CalculationResultMap;
+import org.openmrs.module.eptsreports.reporting.calculation.common.CompactCalculationResultMap;
+import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
+
+/**
+ * Builds the result map of a data definition evaluation, as {@link
+ * EptsCalculationUtils#evaluateWithReporting} does, with every value wrapped up front in a plain
+ * {@link CalculationResultMap} or with a {@link CompactCalculationResultMap}, and reads one patient
+ * out of {@link #readEvery}. No database is needed, run it with {@code -prof gc} to compare the
+ * allocations:
+ *
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar CalculationResultMapBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CalculationResultMapBenchmark {
+
+  /** Number of patients of the evaluated cohort */
+  @Param({"1000", "10000", "100000"})
+  public int patients;
+
+  /** Reads one patient out of this many, 1 reads the whole cohort */
+  @Param({"1", "10"})
+  public int readEvery;
+
+  private List<Integer> cohort;
+
+  private Map<Integer, Object> data;
+
+  @Setup(Level.Trial)
+  public void setUpData() {
+    cohort = new ArrayList<>(patients);
+    data = new HashMap<>();
+    Date date = new Date();
+    for (int i = 0; i < patients; i++) {
+      int ptId = 1000 + i * 3;
+      cohort.add(ptId);
+      switch (i % 4) {
+        case 0:
+          data.put(ptId, new Obs(ptId));
+          break;
+        case 1:
+          data.put(ptId, Arrays.asList(new Obs(ptId), new Obs(ptId + 1)));
+          break;
+        case 2:
+          data.put(ptId, date);
+          break;
+        default:
+          // patients without data
+      }
+    }
+  }
+
+  @Benchmark
+  public void eager(Blackhole blackhole) {
+    CalculationResultMap results = new CalculationResultMap();
+    for (Integer ptId : cohort) {
+      results.put(ptId, EptsCalculationUtils.toCalculationResult(data.get(ptId), null, null));
+    }
+    read(results, blackhole);
+  }
+
+  @Benchmark
+  public void compact(Blackhole blackhole) {
+    CompactCalculationResultMap results =
+        new CompactCalculationResultMap(cohort.size(), null, null);
+    for (Integer ptId : cohort) {
+      results.putValue(ptId, data.get(ptId));
+    }
+    read(results, blackhole);
+  }
+
+  private void read(CalculationResultMap results, Blackhole blackhole) {
+    for (int i = 0; i < cohort.size(); i += readEvery) {
+      blackhole.consume(results.get(cohort.get(i)));
+    }
+  }
+}
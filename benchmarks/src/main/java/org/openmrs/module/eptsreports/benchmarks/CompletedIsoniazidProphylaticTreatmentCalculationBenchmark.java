@@ -0,0 +1,59 @@
+/*
+ * The contents of this file are subject to the OpenMRS Public License
+ * Version 1.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ * http://license.openmrs.org
+ *
+ * Software distributed under the License is distributed on an "AS IS"
+ * basis, WITHOUT WARRANTY OF ANY KIND, either express or implied. See the
+ * License for the specific language governing rights and limitations
+ * under the License.
+ *
+ * Copyright (C) OpenMRS, LLC.  All Rights Reserved.
+ */
+package org.openmrs.module.eptsreports.benchmarks;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmrs.api.context.Context;
+import org.openmrs.calculation.patient.PatientCalculationContext;
+import org.openmrs.calculation.patient.PatientCalculationService;
+import org.openmrs.calculation.result.CalculationResultMap;
+import org.openmrs.module.eptsreports.reporting.calculation.prev.CompletedIsoniazidProphylaticTreatmentCalculation;
+
+/**
+ * Evaluates {@link CompletedIsoniazidProphylaticTreatmentCalculation} for the whole synthetic
+ * cohort
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CompletedIsoniazidProphylaticTreatmentCalculationBenchmark extends EptsBenchmarkState {
+
+  @Benchmark
+  public CalculationResultMap evaluate() {
+    PatientCalculationService service = Context.getService(PatientCalculationService.class);
+    PatientCalculationContext context = service.createCalculationContext();
+    context.addToCache("location", location);
+    context.addToCache("onOrAfter", startDate);
+    context.addToCache("onOrBefore", endDate);
+    return service.evaluate(
+        cohort,
+        Context.getRegisteredComponents(CompletedIsoniazidProphylaticTreatmentCalculation.class)
+            .get(0),
+        new HashMap<>(),
+        context);
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * The contents of this file are subject to the OpenMRS Public License
+ * Version 1.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ * http://license.openmrs.org
+ *
+ * Software distributed under the License is distributed on an "AS IS"
+ * basis, WITHOUT WARRANTY OF ANY KIND, either express or implied. See the
+ * License for the specific language governing rights and limitations
+ * under the License.
+ *
+ * Copyright (C) OpenMRS, LLC.  All Rights Reserved.
+ */
+
+package org.openmrs.module.eptsreports.benchmarks;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openmrs.Location;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.reporting.common.DateUtil;
+import org.openmrs.test.BaseModuleContextSensitiveTest;
+import org.springframework.test.context.TestContextManager;
+
+/**
+ * Base state of the EPTS benchmarks. It bootstraps OpenMRS and the module the same way {@link
+ * BaseModuleContextSensitiveTest} does for the integration tests, loads {@code metadata.xml} and
+ * generates a {@link SyntheticEptsDataset} of {@link #patients} patients once per trial.
+ *
+ * <p>The library queries use MySQL only syntax that the in-memory H2 database of the tests does not
+ * run. Without system properties the benchmarks start an embedded MariaDB, let Hibernate create the
+ * OpenMRS tables and load the standard test data set of the core, so no MySQL server is needed. An
+ * existing OpenMRS MySQL schema is used instead when it is given by the {@code
+ * eptsreports.benchmark.url}, {@code eptsreports.benchmark.username} and {@code
+ * eptsreports.benchmark.password} system properties (the OpenMRS user is given by {@code
+ * eptsreports.benchmark.openmrsUsername} and {@code eptsreports.benchmark.openmrsPassword}). The
+ * generated rows are rolled back at the end of the trial.
+ */
+public abstract class EptsBenchmarkState extends BaseModuleContextSensitiveTest {
+
+  private static final Log LOG = LogFactory.getLog(EptsBenchmarkState.class);
+
+  private static final String URL_PROPERTY = "eptsreports.benchmark.url";
+
+  private static final String USERNAME_PROPERTY = "eptsreports.benchmark.username";
+
+  private static final String PASSWORD_PROPERTY = "eptsreports.benchmark.password";
+
+  private static final String OPENMRS_USERNAME_PROPERTY = "eptsreports.benchmark.openmrsUsername";
+
+  private static final String OPENMRS_PASSWORD_PROPERTY = "eptsreports.benchmark.openmrsPassword";
+
+  /** The embedded database of the fork, started when no schema is given */
+  private static DB embeddedDatabase;
+
+  private static String embeddedDatabaseUrl;
+
+  /** Number of synthetic patients generated for the trial */
+  @Param({"1000", "10000", "100000"})
+  public int patients;
+
+  protected Date endDate = DateUtil.getDateTime(2021, 6, 20);
+
+  protected Date startDate = DateUtil.getDateTime(2021, 3, 21);
+
+  protected Location location;
+
+  protected List<Integer> cohort;
+
+  @Setup(Level.Trial)
+  public void setUpDatabase() throws Exception {
+    new TestContextManager(getClass()).prepareTestInstance(this);
+    if (!Context.isSessionOpen()) {
+      Context.openSession();
+    }
+    getConnection().setAutoCommit(false);
+    // the data sets are not ordered by foreign keys, H2 is relaxed the same way in the tests
+    setForeignKeyChecks(false);
+    if (isEmbeddedDatabase()) {
+      executeDataSet(INITIAL_XML_DATASET_PACKAGE_PATH);
+      executeDataSet(EXAMPLE_XML_DATASET_PACKAGE_PATH);
+      authenticate();
+    } else {
+      Context.authenticate(
+          System.getProperty(OPENMRS_USERNAME_PROPERTY, "admin"),
+          System.getProperty(OPENMRS_PASSWORD_PROPERTY));
+    }
+    executeDataSet("metadata.xml");
+    setForeignKeyChecks(true);
+
+    long start = System.currentTimeMillis();
+    location = Context.getLocationService().getLocation(1);
+    cohort = new SyntheticEptsDataset(getConnection(), location, endDate).generate(patients);
+    Context.flushSession();
+    Context.clearSession();
+    LOG.info(
+        "Generated "
+            + cohort.size()
+            + " synthetic patients in "
+            + (System.currentTimeMillis() - start)
+            + " ms");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDownDatabase() throws Exception {
+    Connection connection = getConnection();
+    connection.rollback();
+    Context.closeSession();
+    stopEmbeddedDatabase();
+  }
+
+  @Override
+  public Boolean useInMemoryDatabase() {
+    return false;
+  }
+
+  @Override
+  public Properties getRuntimeProperties() {
+    Properties properties = super.getRuntimeProperties();
+    String url = System.getProperty(URL_PROPERTY);
+    String username = System.getProperty(USERNAME_PROPERTY);
+    String password = System.getProperty(PASSWORD_PROPERTY);
+    if (url == null) {
+      url = startEmbeddedDatabase();
+      username = "root";
+      password = "";
+      properties.setProperty("hibernate.hbm2ddl.auto", "update");
+    }
+    properties.setProperty("connection.url", url);
+    properties.setProperty("hibernate.connection.url", url);
+    properties.setProperty("connection.username", username);
+    properties.setProperty("hibernate.connection.username", username);
+    properties.setProperty("connection.password", password);
+    properties.setProperty("hibernate.connection.password", password);
+    return properties;
+  }
+
+  private boolean isEmbeddedDatabase() {
+    return System.getProperty(URL_PROPERTY) == null;
+  }
+
+  private void setForeignKeyChecks(boolean enabled) throws SQLException {
+    getConnection().createStatement().execute("SET FOREIGN_KEY_CHECKS=" + (enabled ? 1 : 0));
+  }
+
+  /**
+   * Starts the embedded MariaDB on a free port the first time it is needed. The runtime properties
+   * are read while the state is constructed, so it can not wait for the trial setup.
+   *
+   * @return the JDBC URL of the empty {@code openmrs} schema
+   */
+  private static synchronized String startEmbeddedDatabase() {
+    if (embeddedDatabase == null) {
+      DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+      config.setPort(0);
+      // mysqld refuses to run as root unless it is asked to
+      config.addArg("--user=" + System.getProperty("user.name"));
+      try {
+        DB database = DB.newEmbeddedDB(config.build());
+        database.start();
+        embeddedDatabase = database;
+      } catch (ManagedProcessException e) {
+        throw new IllegalStateException("Could not start the embedded MariaDB", e);
+      }
+      // the schema is created through the driver, the bundled mysql client needs libncurses5
+      embeddedDatabaseUrl =
+          config.getURL("openmrs") + "?createDatabaseIfNotExist=true&useSSL=false";
+      LOG.info("Started an embedded MariaDB at " + embeddedDatabaseUrl);
+    }
+    return embeddedDatabaseUrl;
+  }
+
+  private static synchronized void stopEmbeddedDatabase() throws ManagedProcessException {
+    if (embeddedDatabase != null) {
+      embeddedDatabase.stop();
+      embeddedDatabase = null;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * The contents of this file are subject to the OpenMRS Public License
+ * Version 1.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ * http://license.openmrs.org
+ *
+ * Software distributed under the License is distributed on an "AS IS"
+ * basis, WITHOUT WARRANTY OF ANY KIND, either express or implied. See the
+ * License for the specific language governing rights and limitations
+ * under the License.
+ *
+ * Copyright (C) OpenMRS, LLC.  All Rights Reserved.
+ */
+package org.openmrs.module.eptsreports.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmrs.Cohort;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.metadata.HivMetadata;
+import org.openmrs.module.eptsreports.reporting.cohort.definition.JembiObsDefinition;
+import org.openmrs.module.reporting.data.patient.EvaluatedPatientData;
+import org.openmrs.module.reporting.data.patient.service.PatientDataService;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+
+/**
+ * Evaluates a {@link JembiObsDefinition} of the first ARV plan start drugs obs at the pharmacy for
+ * the whole synthetic cohort
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class JembiObsDefinitionEvaluatorBenchmark extends EptsBenchmarkState {
+
+  @Benchmark
+  public EvaluatedPatientData evaluate() throws EvaluationException {
+    HivMetadata hivMetadata = Context.getRegisteredComponents(HivMetadata.class).get(0);
+    JembiObsDefinition definition = new JembiObsDefinition("firstArvPlanStartDrugs");
+    definition.setQuestion(hivMetadata.getARVPlanConcept());
+    definition.setAnswer(hivMetadata.getStartDrugs());
+    definition.setEncounterTypeList(Arrays.asList(hivMetadata.getARVPharmaciaEncounterType()));
+    definition.setLocation(location);
+    definition.setFirst(true);
+    definition.setSortByDatetime(true);
+
+    EvaluationContext context = new EvaluationContext();
+    context.setBaseCohort(new Cohort(cohort));
+    return Context.getService(PatientDataService.class).evaluate(definition, context);
+  }
+}
@@ -0,0 +1,349 @@
+/*
+ * The contents of this file are subject to the OpenMRS Public License
+ * Version 1.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ * http://license.openmrs.org
+ *
+ * Software distributed under the License is distributed on an "AS IS"
+ * basis, WITHOUT WARRANTY OF ANY KIND, either express or implied. See the
+ * License for the specific language governing rights and limitations
+ * under the License.
+ *
+ * Copyright (C) OpenMRS, LLC.  All Rights Reserved.
+ */
+
+package org.openmrs.module.eptsreports.benchmarks;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.openmrs.Location;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.reporting.utils.EptsCalculationUtils;
+import org.openmrs.module.reporting.common.DateUtil;
+
+/**
+ * Generates a synthetic EPTS patient population with plain JDBC batches. Every patient starts ART
+ * with a FILA pickup and gets a random number of follow up pickups, part of them start and complete
+ * isoniazid prophylaxis, have a Mastercard drug pickup and are enrolled in the ART program.
+ *
+ * <p>The ids of the metadata are resolved through the {@code eptsreports.*} global properties like
+ * the module does, concepts and encounter types missing from {@code metadata.xml} are created. The
+ * generation is seeded with the number of patients so every run of a scale gets the same data.
+ */
+public class SyntheticEptsDataset {
+
+  private static final int BATCH_SIZE = 1000;
+
+  private static final Timestamp DATE_CREATED =
+      new Timestamp(DateUtil.getDateTime(2010, 1, 1).getTime());
+
+  private final Connection connection;
+
+  private final Location location;
+
+  private final Date endDate;
+
+  private PreparedStatement persons;
+
+  private PreparedStatement patients;
+
+  private PreparedStatement encounters;
+
+  private PreparedStatement obs;
+
+  private PreparedStatement patientPrograms;
+
+  private int pending;
+
+  private int nextEncounterId;
+
+  private int nextObsId;
+
+  public SyntheticEptsDataset(Connection connection, Location location, Date endDate) {
+    this.connection = connection;
+    this.location = location;
+    this.endDate = endDate;
+  }
+
+  /**
+   * Generates the patients
+   *
+   * @param size the number of patients to generate
+   * @return the ids of the generated patients
+   */
+  public List<Integer> generate(int size) throws SQLException {
+    int pharmacy = encounterTypeId("eptsreports.sTarvFarmaciaEncounterTypeUuid");
+    int adultFollowUp = encounterTypeId("eptsreports.sTarvAdultoSeguimentoEncounterTypeUuid");
+    int masterCardPickup = encounterTypeId("eptsreports.masterCardDrugPickupEncounterTypeUuid");
+    int arvPlan = conceptId("eptsreports.arvPlanConceptUuid");
+    int startDrugs = conceptId("eptsreports.startDrugsConceptUuid");
+    int returnVisitDate = conceptId("eptsreports.returnVisitDateForArvDrugConceptUuid");
+    int isoniazidUse = conceptId("eptsreports.isoniazidUseConceptUuid");
+    int isoniazidStartDate = conceptId("eptsreports.DataInicioProfilaxiaIsoniazidaConceptUuid");
+    int isoniazidEndDate = conceptId("eptsreports.DataFimProfilaxiaIsoniazidaConceptUuid");
+    int artPickup = conceptId("eptsreports.artPickupConceptUuid");
+    int artPickupDate = conceptId("eptsreports.preArtPickupDate");
+    int yes = conceptId("eptsreports.yesConceptUuid");
+    Integer artProgram = programId("eptsreports.artProgramUuid");
+
+    int nextPersonId = nextId("person", "person_id");
+    int nextPatientProgramId = nextId("patient_program", "patient_program_id");
+    nextEncounterId = nextId("encounter", "encounter_id");
+    nextObsId = nextId("obs", "obs_id");
+
+    persons =
+        connection.prepareStatement(
+            "INSERT INTO person (person_id, gender, birthdate, birthdate_estimated, dead,"
+                + " deathdate_estimated, creator, date_created, voided, uuid)"
+                + " VALUES (?, ?, ?, 0, 0, 0, 1, ?, 0, ?)");
+    patients =
+        connection.prepareStatement(
+            "INSERT INTO patient (patient_id, creator, date_created, voided)"
+                + " VALUES (?, 1, ?, 0)");
+    encounters =
+        connection.prepareStatement(
+            "INSERT INTO encounter (encounter_id, encounter_type, patient_id, location_id,"
+                + " encounter_datetime, creator, date_created, voided, uuid)"
+                + " VALUES (?, ?, ?, ?, ?, 1, ?, 0, ?)");
+    obs =
+        connection.prepareStatement(
+            "INSERT INTO obs (obs_id, person_id, concept_id, encounter_id, obs_datetime,"
+                + " location_id, value_coded, value_datetime, status, creator, date_created,"
+                + " voided, uuid) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'FINAL', 1, ?, 0, ?)");
+    patientPrograms =
+        connection.prepareStatement(
+            "INSERT INTO patient_program (patient_program_id, patient_id, program_id,"
+                + " date_enrolled, location_id, creator, date_created, voided, uuid)"
+                + " VALUES (?, ?, ?, ?, ?, 1, ?, 0, ?)");
+
+    Random random = new Random(size);
+    List<Integer> ids = new ArrayList<>(size);
+    try {
+      for (int i = 0; i < size; i++) {
+        int patientId = nextPersonId++;
+        ids.add(patientId);
+
+        persons.setInt(1, patientId);
+        persons.setString(2, random.nextBoolean() ? "M" : "F");
+        persons.setTimestamp(
+            3, timestamp(EptsCalculationUtils.addDays(endDate, -random.nextInt(70 * 365))));
+        persons.setTimestamp(4, DATE_CREATED);
+        persons.setString(5, UUID.randomUUID().toString());
+        persons.addBatch();
+        patients.setInt(1, patientId);
+        patients.setTimestamp(2, DATE_CREATED);
+        patients.addBatch();
+
+        // ART start and the follow up pickups
+        Date artStartDate = EptsCalculationUtils.addDays(endDate, -(30 + random.nextInt(3650)));
+        int encounterId = encounter(pharmacy, patientId, artStartDate);
+        codedObs(patientId, arvPlan, encounterId, artStartDate, startDrugs);
+        datetimeObs(
+            patientId,
+            returnVisitDate,
+            encounterId,
+            artStartDate,
+            EptsCalculationUtils.addDays(artStartDate, 30));
+        int pickups = random.nextInt(7);
+        for (int p = 1; p <= pickups; p++) {
+          Date pickupDate = EptsCalculationUtils.addDays(artStartDate, 30 * p);
+          if (pickupDate.after(endDate)) {
+            break;
+          }
+          int nextPickupDays = random.nextInt(5) == 0 ? 90 : 30;
+          encounterId = encounter(pharmacy, patientId, pickupDate);
+          datetimeObs(
+              patientId,
+              returnVisitDate,
+              encounterId,
+              pickupDate,
+              EptsCalculationUtils.addDays(pickupDate, nextPickupDays));
+        }
+
+        // isoniazid prophylaxis
+        if (random.nextInt(10) < 4) {
+          Date iptStartDate = EptsCalculationUtils.addDays(artStartDate, random.nextInt(180));
+          if (!iptStartDate.after(endDate)) {
+            encounterId = encounter(adultFollowUp, patientId, iptStartDate);
+            codedObs(patientId, isoniazidUse, encounterId, iptStartDate, startDrugs);
+            datetimeObs(patientId, isoniazidStartDate, encounterId, iptStartDate, iptStartDate);
+            Date iptEndDate = EptsCalculationUtils.addDays(iptStartDate, 180);
+            if (random.nextInt(10) < 6 && !iptEndDate.after(endDate)) {
+              encounterId = encounter(adultFollowUp, patientId, iptEndDate);
+              datetimeObs(patientId, isoniazidEndDate, encounterId, iptEndDate, iptEndDate);
+            }
+          }
+        }
+
+        // Mastercard drug pickup
+        if (random.nextInt(10) < 3) {
+          encounterId = encounter(masterCardPickup, patientId, artStartDate);
+          codedObs(patientId, artPickup, encounterId, artStartDate, yes);
+          datetimeObs(patientId, artPickupDate, encounterId, artStartDate, artStartDate);
+        }
+
+        if (artProgram != null && random.nextInt(10) < 7) {
+          patientPrograms.setInt(1, nextPatientProgramId++);
+          patientPrograms.setInt(2, patientId);
+          patientPrograms.setInt(3, artProgram);
+          patientPrograms.setTimestamp(4, timestamp(artStartDate));
+          patientPrograms.setInt(5, location.getLocationId());
+          patientPrograms.setTimestamp(6, DATE_CREATED);
+          patientPrograms.setString(7, UUID.randomUUID().toString());
+          patientPrograms.addBatch();
+        }
+
+        if (++pending >= BATCH_SIZE) {
+          flush();
+        }
+      }
+      flush();
+    } finally {
+      close(persons, patients, encounters, obs, patientPrograms);
+    }
+    return ids;
+  }
+
+  private int encounter(int encounterTypeId, int patientId, Date encounterDatetime)
+      throws SQLException {
+    int encounterId = nextEncounterId++;
+    encounters.setInt(1, encounterId);
+    encounters.setInt(2, encounterTypeId);
+    encounters.setInt(3, patientId);
+    encounters.setInt(4, location.getLocationId());
+    encounters.setTimestamp(5, timestamp(encounterDatetime));
+    encounters.setTimestamp(6, DATE_CREATED);
+    encounters.setString(7, UUID.randomUUID().toString());
+    encounters.addBatch();
+    return encounterId;
+  }
+
+  private void codedObs(
+      int patientId, int conceptId, int encounterId, Date obsDatetime, int valueCoded)
+      throws SQLException {
+    obs(patientId, conceptId, encounterId, obsDatetime, valueCoded, null);
+  }
+
+  private void datetimeObs(
+      int patientId, int conceptId, int encounterId, Date obsDatetime, Date valueDatetime)
+      throws SQLException {
+    obs(patientId, conceptId, encounterId, obsDatetime, null, valueDatetime);
+  }
+
+  private void obs(
+      int patientId,
+      int conceptId,
+      int encounterId,
+      Date obsDatetime,
+      Integer valueCoded,
+      Date valueDatetime)
+      throws SQLException {
+    obs.setInt(1, nextObsId++);
+    obs.setInt(2, patientId);
+    obs.setInt(3, conceptId);
+    obs.setInt(4, encounterId);
+    obs.setTimestamp(5, timestamp(obsDatetime));
+    obs.setInt(6, location.getLocationId());
+    obs.setObject(7, valueCoded, Types.INTEGER);
+    obs.setTimestamp(8, valueDatetime == null ? null : timestamp(valueDatetime));
+    obs.setTimestamp(9, DATE_CREATED);
+    obs.setString(10, UUID.randomUUID().toString());
+    obs.addBatch();
+  }
+
+  private void flush() throws SQLException {
+    // parents first, the batches are executed in foreign key order
+    persons.executeBatch();
+    patients.executeBatch();
+    encounters.executeBatch();
+    obs.executeBatch();
+    patientPrograms.executeBatch();
+    pending = 0;
+  }
+
+  /** @return the id of the concept configured in the global property, created when missing */
+  private int conceptId(String globalProperty) throws SQLException {
+    String uuid = Context.getAdministrationService().getGlobalProperty(globalProperty);
+    Integer id = findId("SELECT concept_id FROM concept WHERE uuid = ?", uuid);
+    if (id == null) {
+      id = nextId("concept", "concept_id");
+      try (PreparedStatement ps =
+          connection.prepareStatement(
+              "INSERT INTO concept (concept_id, retired, datatype_id, class_id, is_set, creator,"
+                  + " date_created, uuid) VALUES (?, 0, 4, 11, 0, 1, ?, ?)")) {
+        ps.setInt(1, id);
+        ps.setTimestamp(2, DATE_CREATED);
+        ps.setString(3, uuid);
+        ps.executeUpdate();
+      }
+    }
+    return id;
+  }
+
+  /**
+   * @return the id of the encounter type configured in the global property, created when missing
+   */
+  private int encounterTypeId(String globalProperty) throws SQLException {
+    String uuid = Context.getAdministrationService().getGlobalProperty(globalProperty);
+    Integer id = findId("SELECT encounter_type_id FROM encounter_type WHERE uuid = ?", uuid);
+    if (id == null) {
+      id = nextId("encounter_type", "encounter_type_id");
+      try (PreparedStatement ps =
+          connection.prepareStatement(
+              "INSERT INTO encounter_type (encounter_type_id, name, description, creator,"
+                  + " date_created, retired, uuid) VALUES (?, ?, ?, 1, ?, 0, ?)")) {
+        ps.setInt(1, id);
+        ps.setString(2, globalProperty);
+        ps.setString(3, globalProperty);
+        ps.setTimestamp(4, DATE_CREATED);
+        ps.setString(5, uuid);
+        ps.executeUpdate();
+      }
+    }
+    return id;
+  }
+
+  /** @return the id of the program configured in the global property, null when missing */
+  private Integer programId(String globalProperty) throws SQLException {
+    String uuid = Context.getAdministrationService().getGlobalProperty(globalProperty);
+    return findId("SELECT program_id FROM program WHERE uuid = ?", uuid);
+  }
+
+  private Integer findId(String sql, String uuid) throws SQLException {
+    try (PreparedStatement ps = connection.prepareStatement(sql)) {
+      ps.setString(1, uuid);
+      try (ResultSet rs = ps.executeQuery()) {
+        return rs.next() ? rs.getInt(1) : null;
+      }
+    }
+  }
+
+  private int nextId(String table, String column) throws SQLException {
+    try (PreparedStatement ps =
+            connection.prepareStatement("SELECT MAX(" + column + ") FROM " + table);
+        ResultSet rs = ps.executeQuery()) {
+      return rs.next() ? rs.getInt(1) + 1 : 1;
+    }
+  }
+
+  private static void close(PreparedStatement... statements) throws SQLException {
+    for (PreparedStatement statement : statements) {
+      if (statement != null) {
+        statement.close();
+      }
+    }
+  }
+
+  private static Timestamp timestamp(Date date) {
+    return new Timestamp(date.getTime());
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * The contents of this file are subject to the OpenMRS Public License
+ * Version 1.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ * http://license.openmrs.org
+ *
+ * Software distributed under the License is distributed on an "AS IS"
+ * basis, WITHOUT WARRANTY OF ANY KIND, either express or implied. See the
+ * License for the specific language governing rights and limitations
+ * under the License.
+ *
+ * Copyright (C) OpenMRS, LLC.  All Rights Reserved.
+ */
+package org.openmrs.module.eptsreports.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.reporting.library.cohorts.TxCurrCohortQueries;
+import org.openmrs.module.reporting.cohort.EvaluatedCohort;
+import org.openmrs.module.reporting.cohort.definition.CohortDefinition;
+import org.openmrs.module.reporting.cohort.definition.service.CohortDefinitionService;
+import org.openmrs.module.reporting.evaluation.EvaluationContext;
+import org.openmrs.module.reporting.evaluation.EvaluationException;
+
+/**
+ * Evaluates the TX_CURR composition cohort of {@link
+ * TxCurrCohortQueries#getTxCurrCompositionCohort(String, boolean)} for the synthetic location
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class TxCurrCompositionCohortBenchmark extends EptsBenchmarkState {
+
+  /** Whether the current (30 days) or the old (60 days) abandonment spec is used */
+  @Param({"true", "false"})
+  public boolean currentSpec;
+
+  @Benchmark
+  public EvaluatedCohort evaluate() throws EvaluationException {
+    CohortDefinition txCurr =
+        Context.getRegisteredComponents(TxCurrCohortQueries.class)
+            .get(0)
+            .getTxCurrCompositionCohort("txCurr", currentSpec);
+
+    EvaluationContext context = new EvaluationContext();
+    context.addParameterValue("onOrBefore", endDate);
+    context.addParameterValue("location", location);
+    context.addParameterValue("locations", location);
+    return Context.getService(CohortDefinitionService.class).evaluate(txCurr, context);
+  }
+}
@@ -37,6 +37,8 @@ public class AdminList extends AdministrationSectionExt {
     Map<String, String> map = new HashMap<String, String>();
 
     map.put("module/eptsreports/eptsreports.form", "eptsreports.manage");
+    map.put("module/eptsreports/evaluationProfiler.form", "eptsreports.evaluationProfiler");
+    map.put("module/eptsreports/reportQueue.form", "eptsreports.reportQueue");
 
     return map;
   }
@@ -0,0 +1,77 @@
+/**
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. If a copy of
+ * the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * OpenMRS is also distributed under the terms of the Healthcare Disclaimer located at
+ * http://openmrs.org/license.
+ *
+ * <p>Copyright (C) OpenMRS Inc. OpenMRS is a registered trademark and the OpenMRS graphic logo is a
+ * trademark of OpenMRS Inc.
+ */
+package org.openmrs.module.eptsreports.web.controller;
+
+import java.io.IOException;
+import java.util.List;
+import javax.servlet.http.HttpServletResponse;
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.reporting.cancellation.EvaluationCancellation;
+import org.openmrs.module.eptsreports.reporting.profiler.EvaluationProfile;
+import org.openmrs.module.eptsreports.reporting.profiler.EvaluationProfiler;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.ModelMap;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * Shows the slowest definitions of the last profiled report runs and exports their profiles, and
+ * cancels the report runs in progress
+ */
+@Controller
+public class EvaluationProfilerController {
+
+  public static final int SLOWEST = 20;
+
+  private static final String PRIVILEGE = "View Administration Functions";
+
+  @RequestMapping(value = "/module/eptsreports/evaluationProfiler.form", method = RequestMethod.GET)
+  public String showProfiles(
+      @RequestParam(value = "id", required = false) Integer id, ModelMap model) {
+    Context.requirePrivilege(PRIVILEGE);
+    List<EvaluationProfile> profiles = EvaluationProfiler.getProfiles();
+    EvaluationProfile profile = id == null ? null : EvaluationProfiler.getProfile(id);
+    if (profile == null && !profiles.isEmpty()) {
+      profile = profiles.get(0);
+    }
+    model.addAttribute("running", EvaluationCancellation.getRunning());
+    model.addAttribute("profiles", profiles);
+    model.addAttribute("profile", profile);
+    if (profile != null) {
+      model.addAttribute("slowest", profile.getSlowest(SLOWEST));
+    }
+    return "/module/eptsreports/evaluationProfiler";
+  }
+
+  @RequestMapping(value = "/module/eptsreports/cancelEvaluation.form", method = RequestMethod.POST)
+  public String cancelEvaluation(@RequestParam("id") Integer id) {
+    Context.requirePrivilege(PRIVILEGE);
+    EvaluationCancellation.cancel(
+        id, "Cancelled by " + Context.getAuthenticatedUser().getUsername());
+    return "redirect:/module/eptsreports/evaluationProfiler.form";
+  }
+
+  @RequestMapping(value = "/module/eptsreports/evaluationProfiler.json", method = RequestMethod.GET)
+  public void exportProfile(@RequestParam("id") Integer id, HttpServletResponse response)
+      throws IOException {
+    Context.requirePrivilege(PRIVILEGE);
+    EvaluationProfile profile = EvaluationProfiler.getProfile(id);
+    if (profile == null) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+    response.setContentType("application/json");
+    response.setCharacterEncoding("UTF-8");
+    response.setHeader(
+        "Content-Disposition", "attachment; filename=\"evaluation-profile-" + id + ".json\"");
+    response.getWriter().write(profile.toJson());
+  }
+}
@@ -0,0 +1,30 @@
+/**
+ * This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. If a copy of
+ * the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * OpenMRS is also distributed under the terms of the Healthcare Disclaimer located at
+ * http://openmrs.org/license.
+ *
+ * <p>Copyright (C) OpenMRS Inc. OpenMRS is a registered trademark and the OpenMRS graphic logo is a
+ * trademark of OpenMRS Inc.
+ */
+package org.openmrs.module.eptsreports.web.controller;
+
+import org.openmrs.api.context.Context;
+import org.openmrs.module.eptsreports.reporting.queue.EptsReportQueue;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.ModelMap;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+/** Shows the report runs in progress and the waiting runs with their estimated wait */
+@Controller
+public class ReportQueueController {
+
+  @RequestMapping(value = "/module/eptsreports/reportQueue.form", method = RequestMethod.GET)
+  public String showQueue(ModelMap model) {
+    Context.requirePrivilege("View Administration Functions");
+    model.addAttribute("running", EptsReportQueue.getRunning());
+    model.addAttribute("waiting", EptsReportQueue.getWaiting());
+    return "/module/eptsreports/reportQueue";
+  }
+}
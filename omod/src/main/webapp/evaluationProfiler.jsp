@@ -0,0 +1,86 @@
+<%@ page contentType="text/html; charset=UTF-8" pageEncoding="UTF-8" %>
+
+<%@ include file="/WEB-INF/template/include.jsp"%>
+
+<openmrs:require privilege="View Administration Functions" otherwise="/login.htm" redirect="/module/eptsreports/evaluationProfiler.form" />
+
+<%@ include file="/WEB-INF/template/header.jsp"%>
+
+<h2><spring:message code="eptsreports.evaluationProfiler" /></h2>
+
+<c:if test="${not empty running}">
+	<b class="boxHeader"><spring:message code="eptsreports.evaluationProfiler.running" /></b>
+	<div class="box">
+		<table cellpadding="3" cellspacing="0" width="100%">
+			<c:forEach var="run" items="${running}" varStatus="status">
+				<tr class="${status.index % 2 == 0 ? 'evenRow' : 'oddRow'}">
+					<td><c:out value="${run.name}" /></td>
+					<td><openmrs:formatDate date="${run.startDate}" type="long" /></td>
+					<td>
+						<c:choose>
+							<c:when test="${run.cancelled}"><c:out value="${run.cancelReason}" /></c:when>
+							<c:otherwise>
+								<form method="post" action="cancelEvaluation.form">
+									<input type="hidden" name="id" value="${run.id}" />
+									<input type="submit" value="<spring:message code="eptsreports.evaluationProfiler.cancel" />" />
+								</form>
+							</c:otherwise>
+						</c:choose>
+					</td>
+				</tr>
+			</c:forEach>
+		</table>
+	</div>
+	<br/>
+</c:if>
+
+<c:choose>
+	<c:when test="${empty profiles}">
+		<p><spring:message code="eptsreports.evaluationProfiler.none" /></p>
+	</c:when>
+	<c:otherwise>
+		<form method="get">
+			<select name="id" onchange="this.form.submit()">
+				<c:forEach var="p" items="${profiles}">
+					<option value="${p.id}" <c:if test="${p.id == profile.id}">selected</c:if>>
+						<openmrs:formatDate date="${p.startDate}" type="long" /> - <c:out value="${p.name}" />
+						(${p.root.millis} ms)
+					</option>
+				</c:forEach>
+			</select>
+			<a href="evaluationProfiler.json?id=${profile.id}"><spring:message code="eptsreports.evaluationProfiler.export" /></a>
+		</form>
+
+		<br/>
+
+		<b class="boxHeader"><spring:message code="eptsreports.evaluationProfiler.slowest" /></b>
+		<div class="box">
+			<table cellpadding="3" cellspacing="0" width="100%">
+				<tr>
+					<th><spring:message code="general.name" /></th>
+					<th><spring:message code="eptsreports.evaluationProfiler.type" /></th>
+					<th><spring:message code="eptsreports.evaluationProfiler.evaluations" /></th>
+					<th><spring:message code="eptsreports.evaluationProfiler.selfTime" /></th>
+					<th><spring:message code="eptsreports.evaluationProfiler.totalTime" /></th>
+					<th><spring:message code="eptsreports.evaluationProfiler.rows" /></th>
+					<th><spring:message code="eptsreports.evaluationProfiler.cacheHits" /></th>
+					<th>SQL</th>
+				</tr>
+				<c:forEach var="timing" items="${slowest}" varStatus="status">
+					<tr class="${status.index % 2 == 0 ? 'evenRow' : 'oddRow'}">
+						<td><c:out value="${timing.name}" /></td>
+						<td>${timing.type}</td>
+						<td>${timing.evaluations}</td>
+						<td>${timing.selfMillis} ms</td>
+						<td>${timing.millis} ms</td>
+						<td>${timing.maxRows}</td>
+						<td>${timing.cacheHits}</td>
+						<td><c:if test="${not empty timing.sql}"><details><summary>SQL</summary><pre><c:out value="${timing.sql}" /></pre></details></c:if></td>
+					</tr>
+				</c:forEach>
+			</table>
+		</div>
+	</c:otherwise>
+</c:choose>
+
+<%@ include file="/WEB-INF/template/footer.jsp"%>
@@ -0,0 +1,62 @@
+<%@ page contentType="text/html; charset=UTF-8" pageEncoding="UTF-8" %>
+
+<%@ include file="/WEB-INF/template/include.jsp"%>
+
+<openmrs:require privilege="View Administration Functions" otherwise="/login.htm" redirect="/module/eptsreports/reportQueue.form" />
+
+<%@ include file="/WEB-INF/template/header.jsp"%>
+
+<h2><spring:message code="eptsreports.reportQueue" /></h2>
+
+<b class="boxHeader"><spring:message code="eptsreports.reportQueue.running" /></b>
+<div class="box">
+	<table cellpadding="3" cellspacing="0" width="100%">
+		<tr>
+			<th><spring:message code="general.name" /></th>
+			<th><spring:message code="eptsreports.reportQueue.class" /></th>
+			<th><spring:message code="eptsreports.reportQueue.started" /></th>
+			<th><spring:message code="eptsreports.reportQueue.expected" /></th>
+		</tr>
+		<c:forEach var="run" items="${running}" varStatus="status">
+			<tr class="${status.index % 2 == 0 ? 'evenRow' : 'oddRow'}">
+				<td><c:out value="${run.name}" /></td>
+				<td><spring:message code="eptsreports.reportQueue.${run.heavy ? 'heavy' : 'light'}" /></td>
+				<td><openmrs:formatDate date="${run.startDate}" type="long" /></td>
+				<td><c:if test="${run.expectedMinutes >= 0}">${run.expectedMinutes} min</c:if></td>
+			</tr>
+		</c:forEach>
+	</table>
+</div>
+
+<br/>
+
+<b class="boxHeader"><spring:message code="eptsreports.reportQueue.waiting" /></b>
+<div class="box">
+	<c:choose>
+		<c:when test="${empty waiting}">
+			<p><spring:message code="eptsreports.reportQueue.empty" /></p>
+		</c:when>
+		<c:otherwise>
+			<table cellpadding="3" cellspacing="0" width="100%">
+				<tr>
+					<th>#</th>
+					<th><spring:message code="general.name" /></th>
+					<th><spring:message code="eptsreports.reportQueue.class" /></th>
+					<th><spring:message code="eptsreports.reportQueue.queued" /></th>
+					<th><spring:message code="eptsreports.reportQueue.estimatedWait" /></th>
+				</tr>
+				<c:forEach var="run" items="${waiting}" varStatus="status">
+					<tr class="${status.index % 2 == 0 ? 'evenRow' : 'oddRow'}">
+						<td>${status.index + 1}</td>
+						<td><c:out value="${run.name}" /></td>
+						<td><spring:message code="eptsreports.reportQueue.${run.heavy ? 'heavy' : 'light'}" /></td>
+						<td><openmrs:formatDate date="${run.queuedDate}" type="long" /></td>
+						<td>${run.estimatedWaitMinutes} min</td>
+					</tr>
+				</c:forEach>
+			</table>
+		</c:otherwise>
+	</c:choose>
+</div>
+
+<%@ include file="/WEB-INF/template/footer.jsp"%>